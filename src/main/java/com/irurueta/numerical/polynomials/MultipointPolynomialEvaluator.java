@@ -0,0 +1,799 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.polynomials;
+
+import java.util.Arrays;
+
+/**
+ * Evaluates polynomials at many points and interpolates polynomials from
+ * their values at many points by means of a subproduct tree.
+ * A subproduct tree contains on each node the polynomial M(x) = prod(x - x_i)
+ * for the points x_i below that node. Evaluating a polynomial of degree n at n
+ * points is done by successively computing remainders of the polynomial
+ * divided by the polynomials of the tree from the root to the leaves, and
+ * interpolation combines weighted Lagrange basis polynomials from the leaves
+ * to the root. Using fast multiplication and division (see
+ * {@link PolynomialMultiplier}), both operations require O(n*log^2(n))
+ * operations instead of the O(n^2) operations required to evaluate each point
+ * separately or the O(n^3) operations required to solve a dense linear
+ * system.
+ * Nodes having few points are not further split, and polynomials are directly
+ * evaluated at their points by Horner's method, since this is faster for small
+ * sizes.
+ * Notice that parameters of subproduct polynomials grow quickly with the number
+ * of points (i.e. for points within [-1, 1] they might grow up to 2^n).
+ * Consequently, evaluation through a subproduct tree is less accurate than
+ * Horner's method and might lose all accuracy for large number of points
+ * spread along a wide interval. To prevent this, polynomials are evaluated by
+ * Horner's method at all points whenever the parameters of the root of the
+ * tree exceed the inverse of the machine epsilon, or the parameters of any
+ * remainder grow so much with respect to those of the evaluated polynomial
+ * that less than half of the significant digits would be kept. Points should
+ * be centered and scaled to lie within a small interval whenever possible so
+ * that the subproduct tree can be used.
+ * Combining Lagrange basis polynomials through a subproduct tree is much less
+ * accurate than direct methods, and the obtained polynomial might not pass
+ * through its points for a few tens of points. Hence, interpolation through
+ * the tree is only attempted above the crossover size, and its result is
+ * rejected if its residuals at the provided points are too large. Otherwise,
+ * polynomials are directly interpolated by Newton's divided differences on
+ * Leja ordered points converted to monomial form (i.e. Bjorck-Pereyra
+ * algorithm), which requires O(n^2) operations. If the residuals of this
+ * method are still too large, the Vandermonde system is solved by Gaussian
+ * elimination with partial pivoting, which is backward stable but requires
+ * O(n^3) operations.
+ * Notice that interpolation in the monomial basis is inherently
+ * ill-conditioned, and parameters of the interpolating polynomial might grow
+ * so much for large number of points that no method can evaluate it
+ * accurately at its points.
+ */
+public class MultipointPolynomialEvaluator {
+
+    /**
+     * Default maximum number of points of tree nodes that are directly
+     * evaluated or interpolated.
+     */
+    public static final int DEFAULT_CROSSOVER_SIZE = 256;
+
+    /**
+     * Minimum allowed crossover size.
+     */
+    public static final int MIN_CROSSOVER_SIZE = 1;
+
+    /**
+     * Maximum magnitude of parameters of the polynomial at the root of the
+     * subproduct tree for evaluations through the tree to be accurate.
+     * Beyond this value, the spacing between consecutive doubles exceeds 1,
+     * and remainders lose all accuracy.
+     */
+    private static final double MAX_SUBPRODUCT_MAGNITUDE = 1.0 / Math.ulp(1.0);
+
+    /**
+     * Maximum ratio between magnitudes of parameters of remainders and
+     * parameters of the evaluated polynomial. Beyond this value, evaluating
+     * remainders by Horner's method cancels more than half of the significant
+     * digits.
+     */
+    private static final double MAX_REMAINDER_GROWTH = 1.0 / Math.sqrt(Math.ulp(1.0));
+
+    /**
+     * Maximum ratio between residuals of an interpolating polynomial at its
+     * points and the magnitude of the interpolated values for the polynomial
+     * to be accepted. Beyond this value, less than half of the significant
+     * digits of the values are kept.
+     */
+    private static final double MAX_RELATIVE_RESIDUAL = Math.sqrt(Math.ulp(1.0));
+
+    /**
+     * Maximum number of points of tree nodes that are directly evaluated or
+     * interpolated.
+     */
+    private int crossoverSize = DEFAULT_CROSSOVER_SIZE;
+
+    /**
+     * Multiplies polynomials of subproduct tree.
+     */
+    private final PolynomialMultiplier multiplier = new PolynomialMultiplier();
+
+    /**
+     * Gets maximum number of points of tree nodes that are directly evaluated
+     * by Horner's method or interpolated without further splitting.
+     *
+     * @return crossover size.
+     */
+    public int getCrossoverSize() {
+        return crossoverSize;
+    }
+
+    /**
+     * Sets maximum number of points of tree nodes that are directly evaluated
+     * by Horner's method or interpolated without further splitting.
+     *
+     * @param crossoverSize crossover size.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     */
+    public void setCrossoverSize(final int crossoverSize) {
+        if (crossoverSize < MIN_CROSSOVER_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        this.crossoverSize = crossoverSize;
+    }
+
+    /**
+     * Evaluates provided polynomial at provided points.
+     *
+     * @param polynomial polynomial to be evaluated.
+     * @param xs         points where polynomial will be evaluated.
+     * @return a new array containing evaluations of polynomial.
+     * @throws IllegalArgumentException if any argument is null.
+     */
+    public double[] evaluate(final Polynomial polynomial, final double[] xs) {
+        if (xs == null) {
+            throw new IllegalArgumentException();
+        }
+        final var out = new double[xs.length];
+        evaluate(polynomial, xs, out);
+        return out;
+    }
+
+    /**
+     * Evaluates provided polynomial at provided points.
+     * If the number of points or the number of parameters of the polynomial do
+     * not exceed the crossover size, the polynomial is directly evaluated at
+     * each point. The polynomial is also directly evaluated if parameters of
+     * the subproduct tree are too large to be accurately represented, or any
+     * remainder grows too much to be accurately evaluated.
+     *
+     * @param polynomial polynomial to be evaluated.
+     * @param xs         points where polynomial will be evaluated.
+     * @param out        array where evaluations will be stored. Must have the
+     *                   same length as provided points.
+     * @throws IllegalArgumentException if any argument is null or arrays do
+     *                                  not have the same length.
+     */
+    public void evaluate(final Polynomial polynomial, final double[] xs, final double[] out) {
+        if (polynomial == null || xs == null || out == null || xs.length != out.length) {
+            throw new IllegalArgumentException();
+        }
+
+        final var params = polynomial.getPolyParams();
+        if (xs.length <= crossoverSize || params.length <= crossoverSize) {
+            polynomial.evaluateBatch(xs, out);
+            return;
+        }
+
+        final var tree = new SubproductTree(xs);
+        final var root = tree.polys[0];
+        final var maxRemainder = maxAbs(params) * MAX_REMAINDER_GROWTH;
+        if (!isAccurate(root) || !evaluateNode(tree, 0, remainder(params, params.length, root), maxRemainder,
+                xs, out)) {
+            // evaluations through the subproduct tree would be inaccurate
+            polynomial.evaluateBatch(xs, out);
+        }
+    }
+
+    /**
+     * Obtains the polynomial of minimum degree passing through provided points.
+     * If the number of points does not exceed the crossover size, or the
+     * polynomial obtained through the subproduct tree does not accurately pass
+     * through provided points, the polynomial is directly interpolated.
+     *
+     * @param xs points where polynomial has been evaluated. Must be distinct.
+     * @param ys values of polynomial at each point.
+     * @return polynomial of degree xs.length - 1 (or less) passing through
+     * provided points.
+     * @throws IllegalArgumentException if arrays are null, empty, do not have
+     *                                  the same length or points are not
+     *                                  distinct.
+     */
+    public Polynomial interpolate(final double[] xs, final double[] ys) {
+        if (xs == null || ys == null || xs.length == 0 || xs.length != ys.length) {
+            throw new IllegalArgumentException();
+        }
+        final var sorted = xs.clone();
+        Arrays.sort(sorted);
+        for (var i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                throw new IllegalArgumentException("points must be distinct");
+            }
+        }
+
+        final var n = xs.length;
+        if (n <= crossoverSize) {
+            return interpolateDirectly(xs, ys);
+        }
+
+        final var tree = new SubproductTree(xs);
+
+        // evaluate derivative of M(x) = prod(x - x_i) at all points to obtain
+        // the denominators of Lagrange basis polynomials
+        final var root = tree.polys[0];
+        final var derivative = new double[n];
+        for (var j = 1; j <= n; j++) {
+            derivative[j - 1] = j * root[j];
+        }
+        final var weights = new double[n];
+        if (!isAccurate(root) || !evaluateNode(tree, 0, derivative, maxAbs(derivative) * MAX_REMAINDER_GROWTH,
+                xs, weights)) {
+            new Polynomial(derivative).evaluateBatch(xs, weights);
+        }
+        for (var i = 0; i < n; i++) {
+            weights[i] = ys[i] / weights[i];
+        }
+
+        final var result = new Polynomial(combineNode(tree, 0, weights, xs));
+        if (isInterpolationAccurate(tree, result, xs, ys)) {
+            return result;
+        }
+        // combination of Lagrange basis polynomials lost accuracy
+        return interpolateDirectly(xs, ys);
+    }
+
+    /**
+     * Indicates whether provided polynomial accurately passes through provided
+     * points, which are evaluated through provided subproduct tree.
+     *
+     * @param tree       subproduct tree of points.
+     * @param polynomial interpolating polynomial.
+     * @param xs         points.
+     * @param ys         values at each point.
+     * @return true if residuals at all points are small enough, false
+     * otherwise.
+     */
+    private boolean isInterpolationAccurate(final SubproductTree tree, final Polynomial polynomial,
+                                            final double[] xs, final double[] ys) {
+        final var params = polynomial.getPolyParams();
+        final var values = new double[xs.length];
+        final var root = tree.polys[0];
+        if (!isAccurate(root) || !evaluateNode(tree, 0, remainder(params, params.length, root),
+                maxAbs(params) * MAX_REMAINDER_GROWTH, xs, values)) {
+            polynomial.evaluateBatch(xs, values);
+        }
+        return maxResidual(values, ys) <= MAX_RELATIVE_RESIDUAL * maxAbs(ys);
+    }
+
+    /**
+     * Directly interpolates a polynomial passing through provided points.
+     * Bjorck-Pereyra algorithm is used first, and if the obtained polynomial
+     * does not accurately pass through provided points, the Vandermonde
+     * system is solved by Gaussian elimination with partial pivoting.
+     *
+     * @param xs points. Must be distinct.
+     * @param ys values at each point.
+     * @return interpolating polynomial.
+     */
+    private static Polynomial interpolateDirectly(final double[] xs, final double[] ys) {
+        final var n = xs.length;
+        final var values = new double[n];
+        final var maxResidual = MAX_RELATIVE_RESIDUAL * maxAbs(ys);
+
+        final var result = new Polynomial(bjorckPereyra(xs, ys));
+        result.evaluateBatch(xs, values);
+        final var residual = maxResidual(values, ys);
+        if (residual <= maxResidual) {
+            return result;
+        }
+
+        final var solved = new Polynomial(solveVandermonde(xs, ys));
+        solved.evaluateBatch(xs, values);
+        final var solvedResidual = maxResidual(values, ys);
+        return solvedResidual < residual || Double.isNaN(residual) ? solved : result;
+    }
+
+    /**
+     * Computes parameters of interpolating polynomial using Bjorck-Pereyra
+     * algorithm. Newton's divided differences are computed on Leja ordered
+     * points, which keeps them bounded, and are then converted to monomial
+     * form.
+     *
+     * @param xs points. Must be distinct.
+     * @param ys values at each point.
+     * @return parameters of interpolating polynomial.
+     */
+    private static double[] bjorckPereyra(final double[] xs, final double[] ys) {
+        final var n = xs.length;
+
+        // Leja ordering: start at the point having the largest magnitude and
+        // successively pick the point maximizing the product of distances to
+        // previously picked ones
+        final var x = new double[n];
+        final var c = new double[n];
+        final var picked = new boolean[n];
+        final var products = new double[n];
+        var next = 0;
+        for (var i = 1; i < n; i++) {
+            if (Math.abs(xs[i]) > Math.abs(xs[next])) {
+                next = i;
+            }
+        }
+        Arrays.fill(products, 1.0);
+        for (var k = 0; k < n; k++) {
+            picked[next] = true;
+            x[k] = xs[next];
+            c[k] = ys[next];
+
+            final var last = next;
+            next = -1;
+            for (var i = 0; i < n; i++) {
+                if (!picked[i]) {
+                    products[i] *= Math.abs(xs[i] - xs[last]);
+                    if (next < 0 || products[i] > products[next]) {
+                        next = i;
+                    }
+                }
+            }
+        }
+
+        // Newton's divided differences
+        for (var j = 1; j < n; j++) {
+            for (var i = n - 1; i >= j; i--) {
+                c[i] = (c[i] - c[i - 1]) / (x[i] - x[i - j]);
+            }
+        }
+
+        // conversion from Newton to monomial form
+        for (var k = n - 2; k >= 0; k--) {
+            final var xk = x[k];
+            for (var i = k; i < n - 1; i++) {
+                c[i] -= xk * c[i + 1];
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Computes parameters of interpolating polynomial by solving the
+     * Vandermonde system using Gaussian elimination with partial pivoting.
+     *
+     * @param xs points. Must be distinct.
+     * @param ys values at each point.
+     * @return parameters of interpolating polynomial.
+     */
+    private static double[] solveVandermonde(final double[] xs, final double[] ys) {
+        final var n = xs.length;
+        final var a = new double[n][n];
+        final var b = ys.clone();
+        for (var i = 0; i < n; i++) {
+            final var row = a[i];
+            var power = 1.0;
+            for (var j = 0; j < n; j++) {
+                row[j] = power;
+                power *= xs[i];
+            }
+        }
+
+        for (var k = 0; k < n; k++) {
+            var pivot = k;
+            for (var i = k + 1; i < n; i++) {
+                if (Math.abs(a[i][k]) > Math.abs(a[pivot][k])) {
+                    pivot = i;
+                }
+            }
+            final var tmpRow = a[k];
+            a[k] = a[pivot];
+            a[pivot] = tmpRow;
+            final var tmp = b[k];
+            b[k] = b[pivot];
+            b[pivot] = tmp;
+
+            final var pivotRow = a[k];
+            for (var i = k + 1; i < n; i++) {
+                final var row = a[i];
+                final var factor = row[k] / pivotRow[k];
+                if (factor != 0.0) {
+                    for (var j = k; j < n; j++) {
+                        row[j] -= factor * pivotRow[j];
+                    }
+                    b[i] -= factor * b[k];
+                }
+            }
+        }
+
+        final var result = new double[n];
+        for (var i = n - 1; i >= 0; i--) {
+            final var row = a[i];
+            var sum = b[i];
+            for (var j = i + 1; j < n; j++) {
+                sum -= row[j] * result[j];
+            }
+            result[i] = sum / row[i];
+        }
+        return result;
+    }
+
+    /**
+     * Computes maximum absolute difference between provided values.
+     *
+     * @param values   obtained values.
+     * @param expected expected values.
+     * @return maximum absolute difference or NaN if any value is NaN.
+     */
+    private static double maxResidual(final double[] values, final double[] expected) {
+        var result = 0.0;
+        for (var i = 0; i < values.length; i++) {
+            final var residual = Math.abs(values[i] - expected[i]);
+            if (!(residual <= result)) {
+                // also propagates NaN values
+                result = residual;
+                if (Double.isNaN(residual)) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates a polynomial at points below a node of the subproduct tree.
+     *
+     * @param tree      subproduct tree.
+     * @param node      node where evaluation is made.
+     * @param remainder    remainder of polynomial divided by polynomial of node.
+     * @param maxRemainder maximum allowed magnitude of parameters of
+     *                     remainders.
+     * @param xs           points where polynomial is evaluated.
+     * @param out          array where evaluations are stored.
+     * @return true if evaluation succeeded, false if any remainder was not
+     * finite or exceeded maximum allowed magnitude.
+     */
+    private boolean evaluateNode(final SubproductTree tree, final int node, final double[] remainder,
+                                 final double maxRemainder, final double[] xs, final double[] out) {
+        // also rejects NaN values
+        if (!(maxAbs(remainder) <= maxRemainder)) {
+            return false;
+        }
+
+        final var left = tree.left[node];
+        if (left < 0) {
+            // leaf
+            final var last = remainder.length - 1;
+            for (var i = tree.start[node]; i < tree.end[node]; i++) {
+                final var x = xs[i];
+                var result = remainder[last];
+                for (var j = last - 1; j >= 0; j--) {
+                    result = result * x + remainder[j];
+                }
+                out[i] = result;
+            }
+            return true;
+        }
+
+        final var right = tree.right[node];
+        return evaluateNode(tree, left, remainder(remainder, remainder.length, tree.polys[left]), maxRemainder,
+                xs, out) && evaluateNode(tree, right, remainder(remainder, remainder.length, tree.polys[right]),
+                maxRemainder, xs, out);
+    }
+
+    /**
+     * Indicates whether evaluations through a subproduct tree having provided
+     * polynomial at its root can be accurately computed.
+     *
+     * @param root parameters of polynomial at the root of subproduct tree.
+     * @return true if all parameters are finite and do not exceed the maximum
+     * allowed magnitude, false otherwise.
+     */
+    private static boolean isAccurate(final double[] root) {
+        // also rejects NaN values
+        return maxAbs(root) <= MAX_SUBPRODUCT_MAGNITUDE;
+    }
+
+    /**
+     * Computes maximum magnitude of provided parameters.
+     *
+     * @param params parameters to be checked.
+     * @return maximum magnitude or NaN if any parameter is NaN.
+     */
+    private static double maxAbs(final double[] params) {
+        var result = 0.0;
+        for (final var value : params) {
+            final var abs = Math.abs(value);
+            if (!(abs <= result)) {
+                // also propagates NaN values
+                result = abs;
+                if (Double.isNaN(abs)) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether all provided parameters are finite.
+     *
+     * @param params parameters to be checked.
+     * @return true if all parameters are finite, false otherwise.
+     */
+    private static boolean isFinite(final double[] params) {
+        for (final var value : params) {
+            if (!Double.isFinite(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Combines weighted Lagrange basis polynomials of points below a node of
+     * the subproduct tree.
+     * For a node containing points x_i, this method computes
+     * sum_i(w_i * M(x) / (x - x_i)), where M is the polynomial of the node.
+     *
+     * @param tree    subproduct tree.
+     * @param node    node to be combined.
+     * @param weights weights of Lagrange basis polynomials.
+     * @param xs      points.
+     * @return parameters of combined polynomial.
+     */
+    private double[] combineNode(final SubproductTree tree, final int node, final double[] weights,
+                                 final double[] xs) {
+        final var poly = tree.polys[node];
+        final var size = poly.length - 1;
+        final var result = new double[size];
+        final var left = tree.left[node];
+        if (left < 0) {
+            // leaf: divide M(x) by each (x - x_i) using synthetic division
+            for (var i = tree.start[node]; i < tree.end[node]; i++) {
+                final var x = xs[i];
+                final var w = weights[i];
+                var q = poly[size];
+                result[size - 1] += w * q;
+                for (var j = size - 1; j > 0; j--) {
+                    q = poly[j] + x * q;
+                    result[j - 1] += w * q;
+                }
+            }
+            return result;
+        }
+
+        // result = combined(left) * M(right) + combined(right) * M(left)
+        final var right = tree.right[node];
+        final var leftPoly = tree.polys[left];
+        final var rightPoly = tree.polys[right];
+        final var leftCombined = combineNode(tree, left, weights, xs);
+        final var rightCombined = combineNode(tree, right, weights, xs);
+
+        final var product = new double[size];
+        multiplier.multiply(leftCombined, 0, leftCombined.length, rightPoly, 0, rightPoly.length, result, 0);
+        multiplier.multiply(rightCombined, 0, rightCombined.length, leftPoly, 0, leftPoly.length, product, 0);
+        for (var i = 0; i < size; i++) {
+            result[i] += product[i];
+        }
+        return result;
+    }
+
+    /**
+     * Computes remainder of the division of a polynomial by a monic
+     * polynomial.
+     * Classical long division is used for small sizes. Otherwise, the quotient
+     * is obtained by multiplying the reversed dividend by the power series
+     * inverse of the reversed divisor, which is computed by Newton iteration.
+     *
+     * @param a       parameters of dividend.
+     * @param aLength number of parameters of dividend.
+     * @param b       parameters of monic divisor.
+     * @return parameters of remainder, having at most as many parameters as
+     * the degree of divisor.
+     */
+    private double[] remainder(final double[] a, final int aLength, final double[] b) {
+        final var k = b.length - 1;
+        if (aLength <= k) {
+            return Arrays.copyOf(a, aLength);
+        }
+
+        final var quotientLength = aLength - k;
+        final var threshold = multiplier.getKaratsubaThreshold();
+        if (quotientLength < threshold || k < threshold) {
+            return classicalRemainder(a, aLength, b);
+        }
+
+        // reversed dividend and divisor
+        final var reversedA = new double[quotientLength];
+        for (var i = 0; i < quotientLength; i++) {
+            reversedA[i] = a[aLength - 1 - i];
+        }
+        final var reversedB = new double[b.length];
+        for (var i = 0; i <= k; i++) {
+            reversedB[i] = b[k - i];
+        }
+
+        final var inverse = inverse(reversedB, quotientLength);
+        if (inverse == null) {
+            return classicalRemainder(a, aLength, b);
+        }
+        final var reversedQ = multiplyTruncated(reversedA, quotientLength, inverse, quotientLength,
+                quotientLength);
+        final var q = new double[quotientLength];
+        for (var i = 0; i < quotientLength; i++) {
+            q[i] = reversedQ[quotientLength - 1 - i];
+        }
+
+        // r = a - q * b (only lower k parameters are needed)
+        final var qb = multiplyTruncated(q, quotientLength, b, b.length, k);
+        final var r = new double[k];
+        for (var i = 0; i < k; i++) {
+            r[i] = a[i] - qb[i];
+        }
+        return r;
+    }
+
+    /**
+     * Computes remainder of the division of a polynomial by a monic
+     * polynomial using long division.
+     *
+     * @param a       parameters of dividend.
+     * @param aLength number of parameters of dividend.
+     * @param b       parameters of monic divisor.
+     * @return parameters of remainder.
+     */
+    private static double[] classicalRemainder(final double[] a, final int aLength, final double[] b) {
+        final var k = b.length - 1;
+        final var r = Arrays.copyOf(a, aLength);
+        for (var i = aLength - 1; i >= k; i--) {
+            final var q = r[i];
+            if (q != 0.0) {
+                final var offset = i - k;
+                for (var j = 0; j < k; j++) {
+                    r[offset + j] -= q * b[j];
+                }
+            }
+        }
+        return Arrays.copyOf(r, k);
+    }
+
+    /**
+     * Computes power series inverse of provided polynomial by Newton
+     * iteration.
+     *
+     * @param f      polynomial to be inverted. Its constant term must be 1.
+     * @param length number of terms of power series to be computed.
+     * @return first terms of power series inverse or null if they overflow.
+     */
+    private double[] inverse(final double[] f, final int length) {
+        var g = new double[]{1.0 / f[0]};
+        var l = 1;
+        while (l < length) {
+            final var l2 = Math.min(2 * l, length);
+
+            // g = g * (2 - f * g) mod x^l2
+            final var e = multiplyTruncated(f, Math.min(f.length, l2), g, l, l2);
+            for (var i = 0; i < l2; i++) {
+                e[i] = -e[i];
+            }
+            e[0] += 2.0;
+            g = multiplyTruncated(g, l, e, l2, l2);
+            l = l2;
+        }
+
+        return isFinite(g) ? g : null;
+    }
+
+    /**
+     * Multiplies two polynomials and keeps only the lower parameters of the
+     * product.
+     *
+     * @param a       parameters of first polynomial.
+     * @param aLength number of parameters of first polynomial.
+     * @param b       parameters of second polynomial.
+     * @param bLength number of parameters of second polynomial.
+     * @param length  number of parameters to keep.
+     * @return lower parameters of product, padded with zeros if needed.
+     */
+    private double[] multiplyTruncated(final double[] a, final int aLength, final double[] b, final int bLength,
+                                       final int length) {
+        final var product = new double[aLength + bLength - 1];
+        multiplier.multiply(a, 0, aLength, b, 0, bLength, product, 0);
+        return Arrays.copyOf(product, length);
+    }
+
+    /**
+     * Subproduct tree of a set of points.
+     * Nodes are stored in arrays indexed by node position, being 0 the root.
+     */
+    private class SubproductTree {
+
+        /**
+         * Parameters of polynomial of each node.
+         */
+        private final double[][] polys;
+
+        /**
+         * Position of first point of each node.
+         */
+        private final int[] start;
+
+        /**
+         * Position after last point of each node.
+         */
+        private final int[] end;
+
+        /**
+         * Position of left child of each node or -1 for leaves.
+         */
+        private final int[] left;
+
+        /**
+         * Position of right child of each node or -1 for leaves.
+         */
+        private final int[] right;
+
+        /**
+         * Number of nodes created so far.
+         */
+        private int count;
+
+        /**
+         * Constructor.
+         *
+         * @param xs points.
+         */
+        private SubproductTree(final double[] xs) {
+            final var maxNodes = 2 * xs.length;
+            polys = new double[maxNodes][];
+            start = new int[maxNodes];
+            end = new int[maxNodes];
+            left = new int[maxNodes];
+            right = new int[maxNodes];
+            build(xs, 0, xs.length);
+        }
+
+        /**
+         * Builds node containing provided range of points.
+         *
+         * @param xs   points.
+         * @param from position of first point.
+         * @param to   position after last point.
+         * @return position of created node.
+         */
+        private int build(final double[] xs, final int from, final int to) {
+            final var node = count++;
+            start[node] = from;
+            end[node] = to;
+
+            final var size = to - from;
+            if (size <= crossoverSize) {
+                left[node] = -1;
+                right[node] = -1;
+
+                // multiply (x - x_i) factors
+                final var poly = new double[size + 1];
+                poly[0] = 1.0;
+                for (var i = 0; i < size; i++) {
+                    final var x = xs[from + i];
+                    for (var j = i + 1; j > 0; j--) {
+                        poly[j] = poly[j - 1] - x * poly[j];
+                    }
+                    poly[0] = -x * poly[0];
+                }
+                polys[node] = poly;
+                return node;
+            }
+
+            final var middle = from + size / 2;
+            final var l = build(xs, from, middle);
+            final var r = build(xs, middle, to);
+            left[node] = l;
+            right[node] = r;
+
+            final var leftPoly = polys[l];
+            final var rightPoly = polys[r];
+            final var poly = new double[size + 1];
+            multiplier.multiply(leftPoly, 0, leftPoly.length, rightPoly, 0, rightPoly.length, poly, 0);
+            polys[node] = poly;
+            return node;
+        }
+    }
+}
@@ -18,15 +18,15 @@ package com.irurueta.numerical.polynomials;
 import com.irurueta.algebra.ArrayUtils;
 import com.irurueta.algebra.Complex;
 import com.irurueta.numerical.NumericalException;
+import com.irurueta.numerical.roots.AberthEhrlichPolynomialRootsEstimator;
 import com.irurueta.numerical.roots.FirstDegreePolynomialRootsEstimator;
-import com.irurueta.numerical.roots.LaguerrePolynomialRootsEstimator;
 import com.irurueta.numerical.roots.PolynomialRootsEstimator;
 import com.irurueta.numerical.roots.SecondDegreePolynomialRootsEstimator;
 import com.irurueta.numerical.roots.ThirdDegreePolynomialRootsEstimator;
-import com.irurueta.numerical.signal.processing.Convolver1D;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Contains a polynomial and common operations done with polynomials.
@@ -49,6 +49,18 @@ public class Polynomial implements Serializable {
      */
     public static final double EPS = 1e-10;
 
+    /**
+     * Number of points evaluated at once by batch evaluation methods.
+     */
+    private static final int BATCH_UNROLL = 4;
+
+    /**
+     * Buffer containing coefficients of derivatives evaluated in batch for
+     * each thread, which grows as needed and is reused among evaluations.
+     */
+    private static final ThreadLocal<double[]> DERIVATIVE_COEFFICIENTS =
+            ThreadLocal.withInitial(() -> new double[0]);
+
     /**
      * Array containing parameters defining a polynomial.
      * For a polynomial having the expression p(x) = a + b*x + c*x^2 + ...
@@ -250,6 +262,8 @@ public class Polynomial implements Serializable {
 
     /**
      * Multiplies two polynomials.
+     * Large polynomials are multiplied by means of Karatsuba's algorithm or
+     * FFT (see {@link PolynomialMultiplier}).
      *
      * @param other  other polynomial to multiply with.
      * @param result instance where resulting polynomial will be stored.
@@ -258,13 +272,15 @@ public class Polynomial implements Serializable {
         final var thisLength = polyParams.length;
         final var otherLength = other.polyParams.length;
         final var resultLength = thisLength + otherLength - 1;
-        if (result.polyParams.length != resultLength || result == this) {
-            // if length does not match or result is stored in this polynomial,
-            // create new polynomial array of parameters
-            result.polyParams = Convolver1D.convolve(polyParams, other.polyParams);
+        if (result.polyParams.length != resultLength || result == this || result == other) {
+            // if length does not match or result is stored in a multiplied
+            // polynomial, create new polynomial array of parameters
+            final var resultPolyParams = new double[resultLength];
+            internalMultiply(other, resultPolyParams);
+            result.polyParams = resultPolyParams;
         } else {
             // if length is the same, overwrite values
-            Convolver1D.convolve(polyParams, other.polyParams, result.polyParams);
+            internalMultiply(other, result.polyParams);
         }
     }
 
@@ -288,7 +304,7 @@ public class Polynomial implements Serializable {
         final var otherLength = other.polyParams.length;
         final var resultLength = thisLength + otherLength - 1;
         final var result = new Polynomial(resultLength);
-        Convolver1D.convolve(polyParams, other.polyParams, result.polyParams);
+        internalMultiply(other, result.polyParams);
 
         return result;
     }
@@ -360,12 +376,13 @@ public class Polynomial implements Serializable {
             default:
                 // greater degree
 
-                // copy real parameters into complex values
-                final var params = new Complex[this.polyParams.length];
-                for (int i = 0; i < this.polyParams.length; i++) {
+                // copy real parameters up to degree into complex values, so
+                // that leading parameter is not zero
+                final var params = new Complex[degree + 1];
+                for (int i = 0; i <= degree; i++) {
                     params[i] = new Complex(this.polyParams[i]);
                 }
-                estimator = new LaguerrePolynomialRootsEstimator(params);
+                estimator = new AberthEhrlichPolynomialRootsEstimator(params);
                 break;
         }
 
@@ -390,6 +407,40 @@ public class Polynomial implements Serializable {
         return result;
     }
 
+    /**
+     * Evaluates polynomial at provided values.
+     * This method is faster than evaluating each value separately, since
+     * several values are evaluated at once using Horner's scheme with
+     * independent accumulators.
+     * Provided output array can be the same instance as the input one.
+     *
+     * @param xs  values to evaluate polynomial at.
+     * @param out array where results of polynomial evaluation will be stored.
+     *            Must have the same length as provided values.
+     * @throws IllegalArgumentException if arrays are null or do not have the
+     *                                  same length.
+     */
+    public void evaluateBatch(final double[] xs, final double[] out) {
+        checkBatchArrays(xs, out);
+        hornerBatch(xs, out, 0);
+    }
+
+    /**
+     * Evaluates polynomial at provided values.
+     *
+     * @param xs values to evaluate polynomial at.
+     * @return a new array containing results of polynomial evaluation.
+     * @throws IllegalArgumentException if provided array is null.
+     */
+    public double[] evaluateBatchAndReturnNew(final double[] xs) {
+        if (xs == null) {
+            throw new IllegalArgumentException();
+        }
+        final var out = new double[xs.length];
+        hornerBatch(xs, out, 0);
+        return out;
+    }
+
     /**
      * Computes derivative of polynomial.
      *
@@ -451,6 +502,21 @@ public class Polynomial implements Serializable {
         return result;
     }
 
+    /**
+     * Evaluates derivative of polynomial at provided values.
+     * Provided output array can be the same instance as the input one.
+     *
+     * @param xs  values to evaluate derivative of polynomial at.
+     * @param out array where results of evaluation of derivative will be
+     *            stored. Must have the same length as provided values.
+     * @throws IllegalArgumentException if arrays are null or do not have the
+     *                                  same length.
+     */
+    public void evaluateDerivativeBatch(final double[] xs, final double[] out) {
+        checkBatchArrays(xs, out);
+        hornerBatch(xs, out, 1);
+    }
+
     /**
      * Computes second derivative of polynomial.
      *
@@ -598,6 +664,88 @@ public class Polynomial implements Serializable {
         return result;
     }
 
+    /**
+     * Evaluates nth-derivative of polynomial at provided values.
+     * Unlike computing the nth-derivative polynomial and evaluating it, this
+     * method reuses a buffer of current thread for coefficients of the
+     * derivative, hence memory is only allocated the first time that a
+     * derivative of a larger polynomial is evaluated on each thread.
+     * Provided output array can be the same instance as the input one.
+     *
+     * @param xs    values to evaluate nth-derivative of polynomial at.
+     * @param order order of derivative to evaluate. Must be at least 1.
+     * @param out   array where results of evaluation of nth-derivative will be
+     *              stored. Must have the same length as provided values.
+     * @throws IllegalArgumentException if provided order is less than 1, or if
+     *                                  arrays are null or do not have the same
+     *                                  length.
+     */
+    public void evaluateNthDerivativeBatch(final double[] xs, final int order, final double[] out) {
+        if (order < MIN_ORDER) {
+            throw new IllegalArgumentException("order must be at least 1");
+        }
+        checkBatchArrays(xs, out);
+        hornerBatch(xs, out, order);
+    }
+
+    /**
+     * Evaluates polynomial and all its derivatives up to provided order at
+     * provided values.
+     * Evaluation and derivatives are obtained at once for each value, which is
+     * faster than evaluating each derivative separately.
+     * Row 0 of provided output array contains the evaluation of the polynomial
+     * and row i-th contains the evaluation of its i-th derivative. Rows must be
+     * different instances, although row 0 can be the same instance as provided
+     * values.
+     *
+     * @param xs    values to evaluate polynomial and its derivatives at.
+     * @param order maximum order of derivatives to evaluate. Must be at least 1.
+     * @param out   array where results will be stored. Must have order + 1
+     *              rows, each one having the same length as provided values.
+     * @throws IllegalArgumentException if provided order is less than 1, or if
+     *                                  arrays are null or do not have valid
+     *                                  sizes.
+     */
+    public void evaluateWithDerivatives(final double[] xs, final int order, final double[][] out) {
+        if (order < MIN_ORDER) {
+            throw new IllegalArgumentException("order must be at least 1");
+        }
+        if (out == null || out.length != order + 1) {
+            throw new IllegalArgumentException();
+        }
+        for (final var row : out) {
+            checkBatchArrays(xs, row);
+        }
+
+        final var last = polyParams.length - 1;
+        final var length = xs.length;
+        for (var i = 0; i < length; i++) {
+            final var x = xs[i];
+            out[0][i] = polyParams[last];
+            for (var d = 1; d <= order; d++) {
+                out[d][i] = 0.0;
+            }
+
+            // Horner's scheme propagating derivatives
+            for (var j = last - 1; j >= 0; j--) {
+                for (var d = Math.min(order, last - j); d > 0; d--) {
+                    out[d][i] = out[d][i] * x + out[d - 1][i];
+                }
+                out[0][i] = out[0][i] * x + polyParams[j];
+            }
+        }
+
+        // i-th derivatives are scaled by i!
+        var factorial = 1.0;
+        for (var d = 2; d <= order; d++) {
+            factorial *= d;
+            final var row = out[d];
+            for (var i = 0; i < length; i++) {
+                row[i] *= factorial;
+            }
+        }
+    }
+
     /**
      * Computes polynomial containing the integration of current one.
      * Because infinite polynomials exist with different constant values,
@@ -1188,4 +1336,134 @@ public class Polynomial implements Serializable {
 
         return result;
     }
+
+    /**
+     * Multiplies this polynomial with another one, choosing the fastest
+     * algorithm depending on their size.
+     * Large polynomials are multiplied using a short-lived multiplier, so
+     * that its working buffers are released once the product is computed.
+     *
+     * @param other  other polynomial to multiply with.
+     * @param result array where parameters of product will be stored.
+     */
+    private void internalMultiply(final Polynomial other, final double[] result) {
+        final var thisLength = polyParams.length;
+        final var otherLength = other.polyParams.length;
+        if (Math.min(thisLength, otherLength) < PolynomialMultiplier.DEFAULT_KARATSUBA_THRESHOLD) {
+            PolynomialMultiplier.multiplySchoolbook(polyParams, 0, thisLength, other.polyParams, 0, otherLength,
+                    result, 0);
+        } else {
+            new PolynomialMultiplier().multiply(polyParams, 0, thisLength, other.polyParams, 0, otherLength, result, 0);
+        }
+    }
+
+    /**
+     * Checks that arrays used for batch evaluation are valid.
+     *
+     * @param xs  values to evaluate at.
+     * @param out array where results will be stored.
+     * @throws IllegalArgumentException if arrays are null or do not have the
+     *                                  same length.
+     */
+    private static void checkBatchArrays(final double[] xs, final double[] out) {
+        if (xs == null || out == null || xs.length != out.length) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Evaluates polynomial or its derivative of provided order at provided
+     * values.
+     * Coefficients of the derivative are computed once into a reusable buffer,
+     * and then evaluated at all values using Horner's scheme.
+     *
+     * @param xs    values to evaluate at.
+     * @param out   array where results will be stored.
+     * @param order order of derivative to evaluate or 0 to evaluate polynomial.
+     */
+    private void hornerBatch(final double[] xs, final double[] out, final int order) {
+        final var last = polyParams.length - 1;
+        if (order > last) {
+            Arrays.fill(out, 0.0);
+            return;
+        }
+
+        if (order == 0) {
+            hornerBatch(polyParams, last, xs, out);
+        } else {
+            hornerBatch(getDerivativeCoefficients(order), last - order, xs, out);
+        }
+    }
+
+    /**
+     * Evaluates polynomial having provided coefficients at provided values.
+     * Several values are evaluated at once using Horner's scheme, so that
+     * independent accumulators hide the latency of each multiply-add.
+     *
+     * @param coefficients coefficients of polynomial to evaluate.
+     * @param last         position of the last coefficient to take into account.
+     * @param xs           values to evaluate at.
+     * @param out          array where results will be stored.
+     */
+    private static void hornerBatch(final double[] coefficients, final int last, final double[] xs,
+                                    final double[] out) {
+        final var length = xs.length;
+        final var lead = coefficients[last];
+        var i = 0;
+        for (; i <= length - BATCH_UNROLL; i += BATCH_UNROLL) {
+            final var x0 = xs[i];
+            final var x1 = xs[i + 1];
+            final var x2 = xs[i + 2];
+            final var x3 = xs[i + 3];
+            var r0 = lead;
+            var r1 = lead;
+            var r2 = lead;
+            var r3 = lead;
+            for (var j = last - 1; j >= 0; j--) {
+                final var c = coefficients[j];
+                r0 = r0 * x0 + c;
+                r1 = r1 * x1 + c;
+                r2 = r2 * x2 + c;
+                r3 = r3 * x3 + c;
+            }
+            out[i] = r0;
+            out[i + 1] = r1;
+            out[i + 2] = r2;
+            out[i + 3] = r3;
+        }
+
+        // remaining values
+        for (; i < length; i++) {
+            final var x = xs[i];
+            var r = lead;
+            for (var j = last - 1; j >= 0; j--) {
+                r = r * x + coefficients[j];
+            }
+            out[i] = r;
+        }
+    }
+
+    /**
+     * Gets coefficients of derivative of provided order of this polynomial.
+     * Provided order must not exceed the degree of this polynomial.
+     *
+     * @param order order of derivative.
+     * @return buffer of current thread containing derivative coefficients at
+     * its first positions.
+     */
+    private double[] getDerivativeCoefficients(final int order) {
+        var result = DERIVATIVE_COEFFICIENTS.get();
+        if (result.length < polyParams.length - order) {
+            result = new double[polyParams.length - order];
+            DERIVATIVE_COEFFICIENTS.set(result);
+        }
+        for (var j = order; j < polyParams.length; j++) {
+            var coefficient = polyParams[j];
+            for (var k = 0; k < order; k++) {
+                coefficient *= j - k;
+            }
+            result[j - order] = coefficient;
+        }
+        return result;
+    }
 }
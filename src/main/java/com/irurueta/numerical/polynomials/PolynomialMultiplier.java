@@ -0,0 +1,528 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.polynomials;
+
+import com.irurueta.numerical.signal.processing.FastFourierTransformer;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Multiplies polynomials choosing the fastest algorithm depending on their
+ * size.
+ * Small polynomials are multiplied by direct (schoolbook) convolution of their
+ * parameters, medium-sized ones by Karatsuba's algorithm and large ones by
+ * means of Fast Fourier Transforms.
+ * Default crossover sizes are approximate values obtained by running the JMH
+ * benchmark PolynomialMultiplierBenchmark in test sources, and can be adjusted
+ * for a given platform.
+ * This class also allows multiplying many polynomials at once by means of a
+ * balanced product tree, so that large products are always computed between
+ * polynomials of similar size.
+ * Working buffers are kept between calls to avoid allocating memory on
+ * repeated multiplications. Instances of this class are not thread-safe.
+ * Notice that FFT multiplication introduces rounding errors proportional to the
+ * magnitude of the largest parameters of the polynomials being multiplied,
+ * which might be significant for parameters much smaller than the largest
+ * ones.
+ */
+public class PolynomialMultiplier {
+
+    /**
+     * Default minimum number of parameters that both polynomials must have to
+     * use Karatsuba's algorithm.
+     */
+    public static final int DEFAULT_KARATSUBA_THRESHOLD = 96;
+
+    /**
+     * Default minimum number of parameters that both polynomials must have to
+     * use FFT multiplication. This value is slightly larger than the size where
+     * FFT multiplication becomes faster than Karatsuba's algorithm, so that
+     * rounding errors introduced by FFT are avoided for sizes where both
+     * algorithms perform similarly.
+     */
+    public static final int DEFAULT_FFT_THRESHOLD = 256;
+
+    /**
+     * Minimum allowed value for Karatsuba threshold. Karatsuba's algorithm
+     * requires splitting polynomials in two halves.
+     */
+    public static final int MIN_KARATSUBA_THRESHOLD = 2;
+
+    /**
+     * Minimum allowed value for FFT threshold.
+     */
+    public static final int MIN_FFT_THRESHOLD = 1;
+
+    /**
+     * Minimum number of parameters that both polynomials must have to use
+     * Karatsuba's algorithm.
+     */
+    private int karatsubaThreshold = DEFAULT_KARATSUBA_THRESHOLD;
+
+    /**
+     * Minimum number of parameters that both polynomials must have to use FFT
+     * multiplication.
+     */
+    private int fftThreshold = DEFAULT_FFT_THRESHOLD;
+
+    /**
+     * Computes FFT convolutions.
+     */
+    private final FastFourierTransformer transformer = new FastFourierTransformer();
+
+    /**
+     * Working buffer used by Karatsuba's algorithm.
+     */
+    private double[] scratch = new double[0];
+
+    /**
+     * Working buffer containing parameters of polynomials on a level of
+     * product tree.
+     */
+    private double[] treeBuffer = new double[0];
+
+    /**
+     * Working buffer containing parameters of polynomials on next level of
+     * product tree.
+     */
+    private double[] treeBuffer2 = new double[0];
+
+    /**
+     * Start positions of polynomials within working buffers of product tree.
+     */
+    private int[] treeOffsets = new int[0];
+
+    /**
+     * Number of parameters of polynomials within working buffers of product
+     * tree.
+     */
+    private int[] treeLengths = new int[0];
+
+    /**
+     * Gets minimum number of parameters that both polynomials must have to use
+     * Karatsuba's algorithm.
+     *
+     * @return minimum number of parameters to use Karatsuba's algorithm.
+     */
+    public int getKaratsubaThreshold() {
+        return karatsubaThreshold;
+    }
+
+    /**
+     * Sets minimum number of parameters that both polynomials must have to use
+     * Karatsuba's algorithm.
+     *
+     * @param karatsubaThreshold minimum number of parameters to use Karatsuba's
+     *                           algorithm.
+     * @throws IllegalArgumentException if provided value is less than 2.
+     */
+    public void setKaratsubaThreshold(final int karatsubaThreshold) {
+        if (karatsubaThreshold < MIN_KARATSUBA_THRESHOLD) {
+            throw new IllegalArgumentException();
+        }
+        this.karatsubaThreshold = karatsubaThreshold;
+    }
+
+    /**
+     * Gets minimum number of parameters that both polynomials must have to use
+     * FFT multiplication.
+     *
+     * @return minimum number of parameters to use FFT multiplication.
+     */
+    public int getFFTThreshold() {
+        return fftThreshold;
+    }
+
+    /**
+     * Sets minimum number of parameters that both polynomials must have to use
+     * FFT multiplication.
+     *
+     * @param fftThreshold minimum number of parameters to use FFT
+     *                     multiplication.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     */
+    public void setFFTThreshold(final int fftThreshold) {
+        if (fftThreshold < MIN_FFT_THRESHOLD) {
+            throw new IllegalArgumentException();
+        }
+        this.fftThreshold = fftThreshold;
+    }
+
+    /**
+     * Multiplies two polynomials.
+     *
+     * @param p1 first polynomial.
+     * @param p2 second polynomial.
+     * @return a new polynomial containing the product.
+     */
+    public Polynomial multiply(final Polynomial p1, final Polynomial p2) {
+        final var a = p1.getPolyParams();
+        final var b = p2.getPolyParams();
+        final var result = new Polynomial(a.length + b.length - 1);
+        multiply(a, 0, a.length, b, 0, b.length, result.getPolyParams(), 0);
+        return result;
+    }
+
+    /**
+     * Multiplies two polynomials defined by their parameters.
+     * For a polynomial having the expression p(x) = a + b*x + c*x^2 + ...
+     * parameters must be [a, b, c, ...].
+     *
+     * @param a            array containing parameters of first polynomial.
+     * @param aOffset      position where parameters of first polynomial start.
+     * @param aLength      number of parameters of first polynomial.
+     * @param b            array containing parameters of second polynomial.
+     * @param bOffset      position where parameters of second polynomial
+     *                     start.
+     * @param bLength      number of parameters of second polynomial.
+     * @param result       array where parameters of product will be stored.
+     *                     Must not overlap with parameters of multiplied
+     *                     polynomials.
+     * @param resultOffset position where parameters of product will be stored.
+     *                     Product has aLength + bLength - 1 parameters.
+     * @throws IllegalArgumentException if any array is null, any length is
+     *                                  less than 1 or any range lies outside
+     *                                  its array.
+     */
+    public void multiply(final double[] a, final int aOffset, final int aLength,
+                         final double[] b, final int bOffset, final int bLength,
+                         final double[] result, final int resultOffset) {
+        checkRange(a, aOffset, aLength);
+        checkRange(b, bOffset, bLength);
+        final var resultLength = aLength + bLength - 1;
+        checkRange(result, resultOffset, resultLength);
+
+        final var minLength = Math.min(aLength, bLength);
+        if (minLength >= fftThreshold) {
+            transformer.convolve(a, aOffset, aLength, b, bOffset, bLength, result, resultOffset);
+        } else if (minLength >= karatsubaThreshold) {
+            multiplyKaratsuba(a, aOffset, aLength, b, bOffset, bLength, result, resultOffset);
+        } else {
+            multiplySchoolbook(a, aOffset, aLength, b, bOffset, bLength, result, resultOffset);
+        }
+    }
+
+    /**
+     * Multiplies many polynomials by means of a balanced product tree.
+     * On each level of the tree, consecutive pairs of polynomials are
+     * multiplied, so that the number of polynomials halves on each level.
+     *
+     * @param polynomials polynomials to be multiplied.
+     * @return a new polynomial containing the product.
+     * @throws IllegalArgumentException if provided list is null or empty.
+     */
+    public Polynomial multiply(final List<Polynomial> polynomials) {
+        if (polynomials == null || polynomials.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+
+        var count = polynomials.size();
+        var totalLength = 0;
+        for (final var polynomial : polynomials) {
+            totalLength += polynomial.getPolyParams().length;
+        }
+
+        // product of polynomials never has more parameters than the sum of
+        // parameters of all polynomials
+        ensureTreeCapacity(count, totalLength);
+        var offset = 0;
+        for (var i = 0; i < count; i++) {
+            final var params = polynomials.get(i).getPolyParams();
+            System.arraycopy(params, 0, treeBuffer, offset, params.length);
+            treeOffsets[i] = offset;
+            treeLengths[i] = params.length;
+            offset += params.length;
+        }
+
+        var current = treeBuffer;
+        var next = treeBuffer2;
+        while (count > 1) {
+            var nextCount = 0;
+            offset = 0;
+            for (var i = 0; i < count; i += 2) {
+                final var length1 = treeLengths[i];
+                final var offset1 = treeOffsets[i];
+                int length;
+                if (i + 1 < count) {
+                    final var length2 = treeLengths[i + 1];
+                    length = length1 + length2 - 1;
+                    multiply(current, offset1, length1, current, treeOffsets[i + 1], length2, next, offset);
+                } else {
+                    length = length1;
+                    System.arraycopy(current, offset1, next, offset, length);
+                }
+
+                treeOffsets[nextCount] = offset;
+                treeLengths[nextCount] = length;
+                nextCount++;
+                offset += length;
+            }
+
+            count = nextCount;
+            final var tmp = current;
+            current = next;
+            next = tmp;
+        }
+
+        return new Polynomial(Arrays.copyOfRange(current, treeOffsets[0], treeOffsets[0] + treeLengths[0]));
+    }
+
+    /**
+     * Multiplies many polynomials by means of a balanced product tree.
+     *
+     * @param polynomials polynomials to be multiplied.
+     * @return a new polynomial containing the product.
+     * @throws IllegalArgumentException if no polynomial is provided.
+     */
+    public Polynomial multiply(final Polynomial... polynomials) {
+        if (polynomials == null) {
+            throw new IllegalArgumentException();
+        }
+        return multiply(Arrays.asList(polynomials));
+    }
+
+    /**
+     * Releases working buffers kept between calls.
+     */
+    public void releaseWorkspace() {
+        transformer.releaseWorkspace();
+        scratch = new double[0];
+        treeBuffer = new double[0];
+        treeBuffer2 = new double[0];
+        treeOffsets = new int[0];
+        treeLengths = new int[0];
+    }
+
+    /**
+     * Multiplies two polynomials by direct convolution of their parameters.
+     *
+     * @param a            array containing parameters of first polynomial.
+     * @param aOffset      position where parameters of first polynomial start.
+     * @param aLength      number of parameters of first polynomial.
+     * @param b            array containing parameters of second polynomial.
+     * @param bOffset      position where parameters of second polynomial
+     *                     start.
+     * @param bLength      number of parameters of second polynomial.
+     * @param result       array where parameters of product will be stored.
+     * @param resultOffset position where parameters of product will be stored.
+     */
+    static void multiplySchoolbook(final double[] a, final int aOffset, final int aLength,
+                                   final double[] b, final int bOffset, final int bLength,
+                                   final double[] result, final int resultOffset) {
+        Arrays.fill(result, resultOffset, resultOffset + aLength + bLength - 1, 0.0);
+        addSchoolbookProduct(a, aOffset, aLength, b, bOffset, bLength, result, resultOffset);
+    }
+
+    /**
+     * Multiplies two polynomials by means of Karatsuba's algorithm.
+     *
+     * @param a            array containing parameters of first polynomial.
+     * @param aOffset      position where parameters of first polynomial start.
+     * @param aLength      number of parameters of first polynomial.
+     * @param b            array containing parameters of second polynomial.
+     * @param bOffset      position where parameters of second polynomial
+     *                     start.
+     * @param bLength      number of parameters of second polynomial.
+     * @param result       array where parameters of product will be stored.
+     * @param resultOffset position where parameters of product will be stored.
+     */
+    void multiplyKaratsuba(final double[] a, final int aOffset, final int aLength,
+                           final double[] b, final int bOffset, final int bLength,
+                           final double[] result, final int resultOffset) {
+        final var scratchLength = getKaratsubaScratchLength(Math.min(aLength, bLength));
+        if (scratch.length < scratchLength) {
+            scratch = new double[scratchLength];
+        }
+
+        Arrays.fill(result, resultOffset, resultOffset + aLength + bLength - 1, 0.0);
+        addProduct(a, aOffset, aLength, b, bOffset, bLength, result, resultOffset, 0);
+    }
+
+    /**
+     * Multiplies two polynomials by means of FFT convolution.
+     *
+     * @param a            array containing parameters of first polynomial.
+     * @param aOffset      position where parameters of first polynomial start.
+     * @param aLength      number of parameters of first polynomial.
+     * @param b            array containing parameters of second polynomial.
+     * @param bOffset      position where parameters of second polynomial
+     *                     start.
+     * @param bLength      number of parameters of second polynomial.
+     * @param result       array where parameters of product will be stored.
+     * @param resultOffset position where parameters of product will be stored.
+     */
+    void multiplyFFT(final double[] a, final int aOffset, final int aLength,
+                     final double[] b, final int bOffset, final int bLength,
+                     final double[] result, final int resultOffset) {
+        transformer.convolve(a, aOffset, aLength, b, bOffset, bLength, result, resultOffset);
+    }
+
+    /**
+     * Adds the product of two polynomials into provided result by means of
+     * Karatsuba's algorithm, falling back to direct convolution for small
+     * polynomials.
+     * Polynomials having different sizes are split into chunks having the
+     * size of the smallest one.
+     *
+     * @param a             array containing parameters of first polynomial.
+     * @param aOffset       position where parameters of first polynomial
+     *                      start.
+     * @param aLength       number of parameters of first polynomial.
+     * @param b             array containing parameters of second polynomial.
+     * @param bOffset       position where parameters of second polynomial
+     *                      start.
+     * @param bLength       number of parameters of second polynomial.
+     * @param result        array where product will be added to.
+     * @param resultOffset  position where product will be added to.
+     * @param scratchOffset position of working buffer that can be used.
+     */
+    private void addProduct(final double[] a, final int aOffset, final int aLength,
+                            final double[] b, final int bOffset, final int bLength,
+                            final double[] result, final int resultOffset, final int scratchOffset) {
+        if (aLength < bLength) {
+            addProduct(b, bOffset, bLength, a, aOffset, aLength, result, resultOffset, scratchOffset);
+            return;
+        }
+
+        final var n = bLength;
+        if (n < karatsubaThreshold) {
+            addSchoolbookProduct(a, aOffset, aLength, b, bOffset, bLength, result, resultOffset);
+            return;
+        }
+
+        if (aLength > n) {
+            for (var i = 0; i < aLength; i += n) {
+                final var chunkLength = Math.min(n, aLength - i);
+                addProduct(a, aOffset + i, chunkLength, b, bOffset, n, result, resultOffset + i, scratchOffset);
+            }
+            return;
+        }
+
+        // a = a0 + x^h * a1, b = b0 + x^h * b1
+        final var h = n / 2;
+        final var m = n - h;
+        final var z0Length = 2 * h - 1;
+        final var z1Length = 2 * m - 1;
+
+        // layout of working buffer: sums of halves, z0, z1 and z2 followed by
+        // the working buffer of the next level
+        final var sumA = scratchOffset;
+        final var sumB = sumA + m;
+        final var z0 = sumB + m;
+        final var z1 = z0 + z0Length;
+        final var z2 = z1 + z1Length;
+        final var nextScratch = z2 + z1Length;
+        Arrays.fill(scratch, z0, nextScratch, 0.0);
+
+        for (var i = 0; i < m; i++) {
+            final var a0 = i < h ? a[aOffset + i] : 0.0;
+            final var b0 = i < h ? b[bOffset + i] : 0.0;
+            scratch[sumA + i] = a0 + a[aOffset + h + i];
+            scratch[sumB + i] = b0 + b[bOffset + h + i];
+        }
+
+        addProduct(a, aOffset, h, b, bOffset, h, scratch, z0, nextScratch);
+        addProduct(a, aOffset + h, m, b, bOffset + h, m, scratch, z2, nextScratch);
+        addProduct(scratch, sumA, m, scratch, sumB, m, scratch, z1, nextScratch);
+
+        // result += z0 + x^h * (z1 - z0 - z2) + x^(2h) * z2
+        for (var i = 0; i < z0Length; i++) {
+            final var value = scratch[z0 + i];
+            result[resultOffset + i] += value;
+            scratch[z1 + i] -= value;
+        }
+        for (var i = 0; i < z1Length; i++) {
+            final var value = scratch[z2 + i];
+            result[resultOffset + 2 * h + i] += value;
+            result[resultOffset + h + i] += scratch[z1 + i] - value;
+        }
+    }
+
+    /**
+     * Adds the product of two polynomials into provided result by direct
+     * convolution of their parameters.
+     *
+     * @param a            array containing parameters of first polynomial.
+     * @param aOffset      position where parameters of first polynomial start.
+     * @param aLength      number of parameters of first polynomial.
+     * @param b            array containing parameters of second polynomial.
+     * @param bOffset      position where parameters of second polynomial
+     *                     start.
+     * @param bLength      number of parameters of second polynomial.
+     * @param result       array where product will be added to.
+     * @param resultOffset position where product will be added to.
+     */
+    private static void addSchoolbookProduct(final double[] a, final int aOffset, final int aLength,
+                                             final double[] b, final int bOffset, final int bLength,
+                                             final double[] result, final int resultOffset) {
+        for (var i = 0; i < aLength; i++) {
+            final var ai = a[aOffset + i];
+            final var start = resultOffset + i;
+            for (var j = 0; j < bLength; j++) {
+                result[start + j] += ai * b[bOffset + j];
+            }
+        }
+    }
+
+    /**
+     * Gets length of working buffer required by Karatsuba's algorithm to
+     * multiply polynomials whose smallest one has provided number of
+     * parameters.
+     *
+     * @param n number of parameters of smallest polynomial.
+     * @return required length of working buffer.
+     */
+    private int getKaratsubaScratchLength(final int n) {
+        if (n < karatsubaThreshold) {
+            return 0;
+        }
+        final var m = n - n / 2;
+        return 2 * m + (2 * (n / 2) - 1) + 2 * (2 * m - 1) + getKaratsubaScratchLength(m);
+    }
+
+    /**
+     * Ensures that working buffers of product tree have enough capacity.
+     *
+     * @param count       number of polynomials to be multiplied.
+     * @param totalLength total number of parameters of all polynomials.
+     */
+    private void ensureTreeCapacity(final int count, final int totalLength) {
+        if (treeBuffer.length < totalLength) {
+            treeBuffer = new double[totalLength];
+            treeBuffer2 = new double[totalLength];
+        }
+        if (treeOffsets.length < count) {
+            treeOffsets = new int[count];
+            treeLengths = new int[count];
+        }
+    }
+
+    /**
+     * Checks that provided range lies within provided array.
+     *
+     * @param array  array to be checked.
+     * @param offset start position of range.
+     * @param length length of range.
+     * @throws IllegalArgumentException if array is null, length is less than 1
+     *                                  or range lies outside array.
+     */
+    private static void checkRange(final double[] array, final int offset, final int length) {
+        if (array == null || offset < 0 || length < 1 || offset > array.length - length) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
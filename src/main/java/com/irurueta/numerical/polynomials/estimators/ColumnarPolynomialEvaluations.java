@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.polynomials.estimators;
+
+/**
+ * Contains a collection of direct or derivative polynomial evaluations stored
+ * in parallel arrays.
+ * Position i-th of each array contains the point where the i-th evaluation was
+ * made, the obtained value and the order of the derivative that was evaluated
+ * (0 for direct evaluations).
+ * This is an alternative to a list of {@link DirectPolynomialEvaluation} and
+ * {@link DerivativePolynomialEvaluation} instances that avoids creating one
+ * object per evaluation, which is more efficient in terms of memory and speed
+ * when a large number of evaluations is available.
+ * Provided arrays are not copied, hence they must not be modified while an
+ * estimator is using them.
+ */
+public class ColumnarPolynomialEvaluations {
+
+    /**
+     * Derivative order indicating a direct evaluation of a polynomial.
+     */
+    public static final int DIRECT_EVALUATION_ORDER = 0;
+
+    /**
+     * Points where polynomial (or its derivatives) has been evaluated.
+     */
+    private final double[] x;
+
+    /**
+     * Evaluations of polynomial (or its derivatives) at each point.
+     */
+    private final double[] evaluations;
+
+    /**
+     * Order of derivative of each evaluation, or null if all evaluations are
+     * direct.
+     */
+    private final int[] derivativeOrders;
+
+    /**
+     * Constructor for direct evaluations only.
+     *
+     * @param x           points where polynomial has been evaluated.
+     * @param evaluations evaluations of polynomial at each point.
+     * @throws IllegalArgumentException if any array is null or if arrays do
+     *                                  not have the same length.
+     */
+    public ColumnarPolynomialEvaluations(final double[] x, final double[] evaluations) {
+        this(x, evaluations, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param x                points where polynomial (or its derivatives) has
+     *                         been evaluated.
+     * @param evaluations      evaluations of polynomial (or its derivatives) at
+     *                         each point.
+     * @param derivativeOrders order of derivative of each evaluation (0 for
+     *                         direct evaluations). If null, all evaluations are
+     *                         assumed to be direct.
+     * @throws IllegalArgumentException if x or evaluations are null, if arrays
+     *                                  do not have the same length or if any
+     *                                  derivative order is negative.
+     */
+    public ColumnarPolynomialEvaluations(final double[] x, final double[] evaluations, final int[] derivativeOrders) {
+        if (x == null || evaluations == null || x.length != evaluations.length) {
+            throw new IllegalArgumentException();
+        }
+        if (derivativeOrders != null) {
+            if (derivativeOrders.length != x.length) {
+                throw new IllegalArgumentException();
+            }
+            for (final var order : derivativeOrders) {
+                if (order < DIRECT_EVALUATION_ORDER) {
+                    throw new IllegalArgumentException("derivative order must be at least 0");
+                }
+            }
+        }
+
+        this.x = x;
+        this.evaluations = evaluations;
+        this.derivativeOrders = derivativeOrders;
+    }
+
+    /**
+     * Gets number of evaluations.
+     *
+     * @return number of evaluations.
+     */
+    public int size() {
+        return x.length;
+    }
+
+    /**
+     * Gets points where polynomial (or its derivatives) has been evaluated.
+     *
+     * @return points where polynomial has been evaluated.
+     */
+    public double[] getX() {
+        return x;
+    }
+
+    /**
+     * Gets evaluations of polynomial (or its derivatives) at each point.
+     *
+     * @return evaluations of polynomial.
+     */
+    public double[] getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Gets order of derivative of each evaluation (0 for direct evaluations).
+     *
+     * @return order of derivative of each evaluation or null if all
+     * evaluations are direct.
+     */
+    public int[] getDerivativeOrders() {
+        return derivativeOrders;
+    }
+
+    /**
+     * Gets order of derivative of evaluation at provided position.
+     *
+     * @param index position of evaluation.
+     * @return order of derivative (0 for direct evaluations).
+     */
+    public int getDerivativeOrder(final int index) {
+        return derivativeOrders != null ? derivativeOrders[index] : DIRECT_EVALUATION_ORDER;
+    }
+
+    /**
+     * Gets number of direct evaluations contained in this instance.
+     *
+     * @return number of direct evaluations.
+     */
+    public int getNumberOfDirectEvaluations() {
+        if (derivativeOrders == null) {
+            return x.length;
+        }
+
+        var count = 0;
+        for (final var order : derivativeOrders) {
+            if (order == DIRECT_EVALUATION_ORDER) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Creates a polynomial evaluation instance containing the evaluation at
+     * provided position.
+     *
+     * @param index position of evaluation.
+     * @return a direct or derivative polynomial evaluation.
+     */
+    public PolynomialEvaluation getEvaluation(final int index) {
+        final var order = getDerivativeOrder(index);
+        if (order == DIRECT_EVALUATION_ORDER) {
+            return new DirectPolynomialEvaluation(x[index], evaluations[index]);
+        } else {
+            return new DerivativePolynomialEvaluation(x[index], evaluations[index], order);
+        }
+    }
+}
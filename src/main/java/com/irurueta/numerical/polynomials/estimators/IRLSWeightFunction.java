@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.polynomials.estimators;
+
+/**
+ * Weight functions used by IRLS (Iteratively Reweighted Least Squares)
+ * refinement of robustly estimated polynomials.
+ * Each function determines the weight of an evaluation from its residual
+ * scaled by a tuning constant and a robust estimation of the scale of
+ * residuals.
+ */
+public enum IRLSWeightFunction {
+    /**
+     * Huber weights. Evaluations having small residuals get unit weight while
+     * weights of evaluations having large residuals decay inversely
+     * proportional to their residual.
+     */
+    HUBER,
+
+    /**
+     * Tukey's biweight. Weights smoothly decay to zero, so that evaluations
+     * having large residuals are completely discarded.
+     */
+    TUKEY,
+
+    /**
+     * Cauchy weights. Weights decay inversely proportional to the squared
+     * residual without ever reaching zero.
+     */
+    CAUCHY
+}
@@ -45,6 +45,13 @@ public class LMSEPolynomialEstimator extends PolynomialEstimator {
      */
     private boolean allowLMSESolution;
 
+    /**
+     * Collection of direct or derivative polynomial evaluations stored in
+     * parallel arrays. When provided, these are used instead of the collection
+     * of polynomial evaluations.
+     */
+    private ColumnarPolynomialEvaluations columnarEvaluations;
+
     /**
      * Constructor.
      */
@@ -135,6 +142,91 @@ public class LMSEPolynomialEstimator extends PolynomialEstimator {
         allowLMSESolution = DEFAULT_ALLOW_LMSE_SOLUTION;
     }
 
+    /**
+     * Constructor.
+     *
+     * @param columnarEvaluations collection of direct or derivative polynomial
+     *                            evaluations stored in parallel arrays.
+     */
+    public LMSEPolynomialEstimator(final ColumnarPolynomialEvaluations columnarEvaluations) {
+        super();
+        allowLMSESolution = DEFAULT_ALLOW_LMSE_SOLUTION;
+        this.columnarEvaluations = columnarEvaluations;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param degree              degree of polynomial to be estimated.
+     * @param columnarEvaluations collection of direct or derivative polynomial
+     *                            evaluations stored in parallel arrays.
+     * @throws IllegalArgumentException if provided degree is less than 1.
+     */
+    public LMSEPolynomialEstimator(final int degree, final ColumnarPolynomialEvaluations columnarEvaluations) {
+        super(degree);
+        allowLMSESolution = DEFAULT_ALLOW_LMSE_SOLUTION;
+        this.columnarEvaluations = columnarEvaluations;
+    }
+
+    /**
+     * Sets collection of polynomial evaluations and their corresponding point
+     * of evaluation used to determine a polynomial of required degree.
+     * Any previously provided columnar evaluations are discarded.
+     *
+     * @param evaluations collection of polynomial evaluations.
+     * @throws LockedException if this instance is locked.
+     */
+    @Override
+    public void setEvaluations(final List<PolynomialEvaluation> evaluations) throws LockedException {
+        super.setEvaluations(evaluations);
+        columnarEvaluations = null;
+    }
+
+    /**
+     * Gets collection of direct or derivative polynomial evaluations stored in
+     * parallel arrays.
+     *
+     * @return columnar polynomial evaluations or null if a collection of
+     * polynomial evaluations is used instead.
+     */
+    public ColumnarPolynomialEvaluations getColumnarEvaluations() {
+        return columnarEvaluations;
+    }
+
+    /**
+     * Sets collection of direct or derivative polynomial evaluations stored in
+     * parallel arrays. Any previously provided collection of polynomial
+     * evaluations is discarded.
+     *
+     * @param columnarEvaluations columnar polynomial evaluations.
+     * @throws LockedException if this instance is locked.
+     */
+    public void setColumnarEvaluations(final ColumnarPolynomialEvaluations columnarEvaluations)
+            throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+
+        this.columnarEvaluations = columnarEvaluations;
+        evaluations = null;
+    }
+
+    /**
+     * Determines whether estimation is ready to start with the given data
+     * and required degree of polynomial to be estimated
+     *
+     * @return true if estimator is ready, false otherwise.
+     */
+    @Override
+    public boolean isReady() {
+        if (columnarEvaluations == null) {
+            return super.isReady();
+        }
+
+        // at least a direct evaluation must exist
+        return columnarEvaluations.size() >= degree + 1 && columnarEvaluations.getNumberOfDirectEvaluations() >= 1;
+    }
+
     /**
      * Indicates if an LMSE (Least Mean Square Error) solution is allowed if
      * more evaluations than the required minimum are provided. If false, the
@@ -189,8 +281,15 @@ public class LMSEPolynomialEstimator extends PolynomialEstimator {
 
             final var minNumberOfEvaluations = getMinNumberOfEvaluations();
 
-            final var a = new Matrix(evaluations.size(), degree + 1);
-            final var b = new Matrix(evaluations.size(), 1);
+            final var numberOfEvaluations = columnarEvaluations != null
+                    ? columnarEvaluations.size() : evaluations.size();
+            final var a = new Matrix(numberOfEvaluations, degree + 1);
+            final var b = new Matrix(numberOfEvaluations, 1);
+
+            if (columnarEvaluations != null) {
+                fillColumnarEvaluations(a, b, minNumberOfEvaluations);
+                return solve(a, b);
+            }
 
             var counter = 0;
             for (var evaluation : evaluations) {
@@ -220,15 +319,7 @@ public class LMSEPolynomialEstimator extends PolynomialEstimator {
                 }
             }
 
-            final var params = Utils.solve(a, b);
-
-            final var result = new Polynomial(params.toArray());
-
-            if (listener != null) {
-                listener.onEstimateEnd(this);
-            }
-
-            return result;
+            return solve(a, b);
         } catch (final AlgebraException e) {
             throw new PolynomialEstimationException(e);
         } finally {
@@ -245,4 +336,68 @@ public class LMSEPolynomialEstimator extends PolynomialEstimator {
     public PolynomialEstimatorType getType() {
         return PolynomialEstimatorType.LMSE_POLYNOMIAL_ESTIMATOR;
     }
+
+    /**
+     * Fills rows of system of equations using columnar evaluations.
+     * Rows are filled directly from the arrays of columnar evaluations without
+     * creating an intermediate object for each evaluation.
+     * If LMSE solution is not allowed, only the first minimum required number
+     * of evaluations are used and remaining rows are left as zero, which does
+     * not modify the solution of the system.
+     *
+     * @param a                      system matrix.
+     * @param b                      values matrix.
+     * @param minNumberOfEvaluations minimum required number of evaluations.
+     */
+    private void fillColumnarEvaluations(final Matrix a, final Matrix b, final int minNumberOfEvaluations) {
+        final var x = columnarEvaluations.getX();
+        final var values = columnarEvaluations.getEvaluations();
+        final var orders = columnarEvaluations.getDerivativeOrders();
+        final var total = isLMSESolutionAllowed() ? x.length : Math.min(x.length, minNumberOfEvaluations);
+        final var columns = a.getColumns();
+
+        for (var row = 0; row < total; row++) {
+            final var order = orders != null ? orders[row] : ColumnarPolynomialEvaluations.DIRECT_EVALUATION_ORDER;
+            final var xi = x[row];
+
+            for (var i = 0; i < order && i < columns; i++) {
+                a.setElementAt(row, i, 0.0);
+            }
+
+            var powX = 1.0;
+            for (var i = order; i < columns; i++) {
+                // coefficient of i-th parameter for derivative of given order
+                var param = 1;
+                for (var j = 0; j < order; j++) {
+                    param *= i - j;
+                }
+                a.setElementAt(row, i, param * powX);
+                powX *= xi;
+            }
+
+            b.setElementAtIndex(row, values[row]);
+
+            normalize(a, b, row);
+        }
+    }
+
+    /**
+     * Solves system of equations and notifies the end of estimation.
+     *
+     * @param a system matrix.
+     * @param b values matrix.
+     * @return estimated polynomial.
+     * @throws AlgebraException if system of equations cannot be solved.
+     */
+    private Polynomial solve(final Matrix a, final Matrix b) throws AlgebraException {
+        final var params = Utils.solve(a, b);
+
+        final var result = new Polynomial(params.toArray());
+
+        if (listener != null) {
+            listener.onEstimateEnd(this);
+        }
+
+        return result;
+    }
 }
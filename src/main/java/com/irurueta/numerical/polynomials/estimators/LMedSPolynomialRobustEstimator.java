@@ -251,7 +251,7 @@ public class LMedSPolynomialRobustEstimator extends PolynomialRobustEstimator {
 
                     @Override
                     public int getTotalSamples() {
-                        return evaluations.size();
+                        return getNumberOfEvaluations();
                     }
 
                     @Override
@@ -262,14 +262,9 @@ public class LMedSPolynomialRobustEstimator extends PolynomialRobustEstimator {
                     @Override
                     public void estimatePreliminarSolutions(
                             final int[] samplesIndices, final List<Polynomial> solutions) {
-                        subsetEvaluations.clear();
-                        for (final var samplesIndex : samplesIndices) {
-                            subsetEvaluations.add(evaluations.get(samplesIndex));
-                        }
-
                         try {
                             polynomialEstimator.setLMSESolutionAllowed(false);
-                            polynomialEstimator.setEvaluations(subsetEvaluations);
+                            setSubsetEvaluations(samplesIndices, subsetEvaluations);
 
                             final var polynomial = polynomialEstimator.estimate();
                             solutions.add(polynomial);
@@ -280,8 +275,13 @@ public class LMedSPolynomialRobustEstimator extends PolynomialRobustEstimator {
 
                     @Override
                     public double computeResidual(final Polynomial currentEstimation, final int i) {
-                        final var eval = evaluations.get(i);
-                        return getDistance(eval, currentEstimation);
+                        return getDistance(i, currentEstimation);
+                    }
+
+                    @Override
+                    public void computeResiduals(final Polynomial currentEstimation, final int from,
+                                                 final int to, final double[] residuals) {
+                        computeDistances(currentEstimation, from, to, residuals);
                     }
 
                     @Override
@@ -326,7 +326,7 @@ public class LMedSPolynomialRobustEstimator extends PolynomialRobustEstimator {
             innerEstimator.setMaxIterations(maxIterations);
             innerEstimator.setProgressDelta(progressDelta);
             innerEstimator.setStopThreshold(stopThreshold);
-            return innerEstimator.estimate();
+            return refineIRLS(innerEstimator.estimate(), innerEstimator.getInliersData());
         } finally {
             locked = false;
         }
@@ -0,0 +1,396 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.polynomials.estimators;
+
+import com.irurueta.numerical.LockedException;
+import com.irurueta.numerical.NotReadyException;
+import com.irurueta.numerical.polynomials.Polynomial;
+import com.irurueta.numerical.robust.MAGSACRobustEstimator;
+import com.irurueta.numerical.robust.MAGSACRobustEstimatorListener;
+import com.irurueta.numerical.robust.RobustEstimator;
+import com.irurueta.numerical.robust.RobustEstimatorException;
+import com.irurueta.numerical.robust.RobustEstimatorMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the best polynomial using MAGSAC++ algorithm, so that no inlier
+ * threshold needs to be tuned and only an upper bound of the noise scale of
+ * evaluations must be provided.
+ */
+public class MAGSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
+
+    /**
+     * Constant defining default maximum noise scale of polynomial evaluations.
+     * Maximum noise scale will be used to marginalize either algebraic or
+     * geometric distance of estimated polynomial respect each provided
+     * evaluation.
+     */
+    public static final double DEFAULT_MAX_SIGMA = 1e-6;
+
+    /**
+     * Minimum value that can be set as maximum noise scale.
+     * Maximum noise scale must be strictly greater than 0.0.
+     */
+    public static final double MIN_MAX_SIGMA = 0.0;
+
+    /**
+     * Maximum noise scale of polynomial evaluations.
+     */
+    private double maxSigma;
+
+    /**
+     * Indicates whether σ-consensus refinement is enabled.
+     */
+    private boolean refinementEnabled;
+
+    /**
+     * Constructor.
+     */
+    public MAGSACPolynomialRobustEstimator() {
+        super();
+        maxSigma = DEFAULT_MAX_SIGMA;
+        refinementEnabled = MAGSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param degree degree of polynomial to be estimated.
+     * @throws IllegalArgumentException if provided degree is less than 1.
+     */
+    public MAGSACPolynomialRobustEstimator(final int degree) {
+        super(degree);
+        maxSigma = DEFAULT_MAX_SIGMA;
+        refinementEnabled = MAGSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param evaluations collection of polynomial evaluations.
+     * @throws IllegalArgumentException if provided number of evaluations is
+     *                                  less than the required minimum.
+     */
+    public MAGSACPolynomialRobustEstimator(final List<PolynomialEvaluation> evaluations) {
+        super(evaluations);
+        maxSigma = DEFAULT_MAX_SIGMA;
+        refinementEnabled = MAGSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param listener listener to be notified of events such as when estimation
+     *                 starts, ends or its progress significantly changes.
+     */
+    public MAGSACPolynomialRobustEstimator(final PolynomialRobustEstimatorListener listener) {
+        super(listener);
+        maxSigma = DEFAULT_MAX_SIGMA;
+        refinementEnabled = MAGSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param degree      degree of polynomial to be estimated.
+     * @param evaluations collection of polynomial evaluations.
+     * @throws IllegalArgumentException if provided degree is less than 1 or if
+     *                                  provided number of evaluations is less than the required minimum for
+     *                                  provided degree.
+     */
+    public MAGSACPolynomialRobustEstimator(final int degree, final List<PolynomialEvaluation> evaluations) {
+        super(degree, evaluations);
+        maxSigma = DEFAULT_MAX_SIGMA;
+        refinementEnabled = MAGSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param degree   degree of polynomial to be estimated.
+     * @param listener listener to be notified of events such as when estimation
+     *                 starts, ends or its progress significantly changes.
+     * @throws IllegalArgumentException if provided degree is less than 1.
+     */
+    public MAGSACPolynomialRobustEstimator(
+            final int degree, final PolynomialRobustEstimatorListener listener) {
+        super(degree, listener);
+        maxSigma = DEFAULT_MAX_SIGMA;
+        refinementEnabled = MAGSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param evaluations collection of polynomial evaluations.
+     * @param listener    listener to be notified of events such as when estimation
+     *                    starts, ends or its progress significantly changes.
+     * @throws IllegalArgumentException if provided number of evaluations is
+     *                                  less than the required minimum.
+     */
+    public MAGSACPolynomialRobustEstimator(
+            final List<PolynomialEvaluation> evaluations, final PolynomialRobustEstimatorListener listener) {
+        super(evaluations, listener);
+        maxSigma = DEFAULT_MAX_SIGMA;
+        refinementEnabled = MAGSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param degree      degree of polynomial to be estimated.
+     * @param evaluations collection of polynomial evaluations.
+     * @param listener    listener to be notified of events such as when estimation
+     *                    starts, ends or its progress significantly changes.
+     * @throws IllegalArgumentException if provided degree is less than 1 or if
+     *                                  provided number of evaluations is less than the required minimum for
+     *                                  provided degree.
+     */
+    public MAGSACPolynomialRobustEstimator(
+            final int degree, final List<PolynomialEvaluation> evaluations,
+            final PolynomialRobustEstimatorListener listener) {
+        super(degree, evaluations, listener);
+        maxSigma = DEFAULT_MAX_SIGMA;
+        refinementEnabled = MAGSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED;
+    }
+
+    /**
+     * Returns maximum noise scale of polynomial evaluations. Obtained
+     * solutions are scored by marginalizing over all noise scales between
+     * zero and this value, hence it only needs to be a loose upper bound.
+     *
+     * @return maximum noise scale of polynomial evaluations.
+     */
+    public double getMaxSigma() {
+        return maxSigma;
+    }
+
+    /**
+     * Sets maximum noise scale of polynomial evaluations. Obtained solutions
+     * are scored by marginalizing over all noise scales between zero and this
+     * value, hence it only needs to be a loose upper bound.
+     *
+     * @param maxSigma maximum noise scale of polynomial evaluations.
+     * @throws IllegalArgumentException if provided value is equal or less than
+     *                                  zero.
+     * @throws LockedException          if robust estimator is locked.
+     */
+    public void setMaxSigma(final double maxSigma) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (maxSigma <= MIN_MAX_SIGMA) {
+            throw new IllegalArgumentException();
+        }
+        this.maxSigma = maxSigma;
+    }
+
+    /**
+     * Indicates whether σ-consensus refinement is enabled. When enabled, every
+     * time a new best polynomial is found, it is refined by means of weighted
+     * least squares.
+     *
+     * @return true if σ-consensus refinement is enabled, false otherwise.
+     */
+    public boolean isRefinementEnabled() {
+        return refinementEnabled;
+    }
+
+    /**
+     * Specifies whether σ-consensus refinement is enabled. When enabled, every
+     * time a new best polynomial is found, it is refined by means of weighted
+     * least squares.
+     *
+     * @param refinementEnabled true to enable σ-consensus refinement, false
+     *                          otherwise.
+     * @throws LockedException if robust estimator is locked.
+     */
+    public void setRefinementEnabled(final boolean refinementEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.refinementEnabled = refinementEnabled;
+    }
+
+    /**
+     * Estimates polynomial.
+     *
+     * @return estimated polynomial.
+     * @throws LockedException          if robust estimator is locked because an
+     *                                  estimation is already in progress.
+     * @throws NotReadyException        if provided input data is not enough to start
+     *                                  the estimation.
+     * @throws RobustEstimatorException if estimation fails for any other reason
+     *                                  (i.e. numerical instability, no solution available, etc).
+     */
+    @Override
+    public Polynomial estimate() throws LockedException, NotReadyException, RobustEstimatorException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+
+        final MAGSACRobustEstimator<Polynomial> innerEstimator = new MAGSACRobustEstimator<>(
+                new MAGSACRobustEstimatorListener<>() {
+
+                    // subset of evaluations picked on each iteration
+                    private final List<PolynomialEvaluation> subsetEvaluations = new ArrayList<>();
+
+                    // evaluations having non-zero weight during refinement
+                    private final List<PolynomialEvaluation> weightedEvaluations = new ArrayList<>();
+
+                    // estimator used for σ-consensus refinement
+                    private final WeightedPolynomialEstimator weightedEstimator = new WeightedPolynomialEstimator();
+
+                    @Override
+                    public double getMaxSigma() {
+                        return maxSigma;
+                    }
+
+                    @Override
+                    public int getTotalSamples() {
+                        return getNumberOfEvaluations();
+                    }
+
+                    @Override
+                    public int getSubsetSize() {
+                        return polynomialEstimator.getMinNumberOfEvaluations();
+                    }
+
+                    @Override
+                    public void estimatePreliminarSolutions(
+                            final int[] samplesIndices, final List<Polynomial> solutions) {
+                        try {
+                            polynomialEstimator.setLMSESolutionAllowed(false);
+                            setSubsetEvaluations(samplesIndices, subsetEvaluations);
+
+                            final var polynomial = polynomialEstimator.estimate();
+                            solutions.add(polynomial);
+                        } catch (Exception e) {
+                            // if anything fails, no solution is added
+                        }
+                    }
+
+                    @Override
+                    public double computeResidual(final Polynomial currentEstimation, final int i) {
+                        return getDistance(i, currentEstimation);
+                    }
+
+                    @Override
+                    public void computeResiduals(final Polynomial currentEstimation, final int from,
+                                                 final int to, final double[] residuals) {
+                        computeDistances(currentEstimation, from, to, residuals);
+                    }
+
+                    @Override
+                    public Polynomial refine(final Polynomial currentEstimation, final double[] weights) {
+                        weightedEvaluations.clear();
+                        final var total = getNumberOfEvaluations();
+                        var count = 0;
+                        for (var i = 0; i < total; i++) {
+                            if (weights[i] > 0.0) {
+                                count++;
+                            }
+                        }
+                        if (count < polynomialEstimator.getMinNumberOfEvaluations()) {
+                            return null;
+                        }
+
+                        final var selectedWeights = new double[count];
+                        var pos = 0;
+                        for (var i = 0; i < total; i++) {
+                            if (weights[i] > 0.0) {
+                                weightedEvaluations.add(getEvaluation(i));
+                                selectedWeights[pos] = weights[i];
+                                pos++;
+                            }
+                        }
+
+                        try {
+                            weightedEstimator.setDegree(polynomialEstimator.getDegree());
+                            weightedEstimator.setEvaluationsAndWeights(weightedEvaluations, selectedWeights);
+                            weightedEstimator.setMaxEvaluations(count);
+                            weightedEstimator.setSortWeightsEnabled(false);
+                            return weightedEstimator.estimate();
+                        } catch (final Exception e) {
+                            // if anything fails, no refinement is done
+                            return null;
+                        }
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return MAGSACPolynomialRobustEstimator.this.isReady();
+                    }
+
+                    @Override
+                    public void onEstimateStart(final RobustEstimator<Polynomial> estimator) {
+                        if (listener != null) {
+                            listener.onEstimateStart(MAGSACPolynomialRobustEstimator.this);
+                        }
+                    }
+
+                    @Override
+                    public void onEstimateEnd(final RobustEstimator<Polynomial> estimator) {
+                        if (listener != null) {
+                            listener.onEstimateEnd(MAGSACPolynomialRobustEstimator.this);
+                        }
+                    }
+
+                    @Override
+                    public void onEstimateNextIteration(
+                            final RobustEstimator<Polynomial> estimator, final int iteration) {
+                        if (listener != null) {
+                            listener.onEstimateNextIteration(MAGSACPolynomialRobustEstimator.this, iteration);
+                        }
+                    }
+
+                    @Override
+                    public void onEstimateProgressChange(
+                            final RobustEstimator<Polynomial> estimator, final float progress) {
+                        if (listener != null) {
+                            listener.onEstimateProgressChange(MAGSACPolynomialRobustEstimator.this, progress);
+                        }
+                    }
+                });
+
+        try {
+            locked = true;
+            innerEstimator.setConfidence(confidence);
+            innerEstimator.setMaxIterations(maxIterations);
+            innerEstimator.setRefinementEnabled(refinementEnabled);
+            innerEstimator.setProgressDelta(progressDelta);
+            innerEstimator.setComputeAndKeepInliersEnabled(irlsRefinementEnabled);
+            return refineIRLS(innerEstimator.estimate(), innerEstimator.getInliersData());
+        } finally {
+            locked = false;
+        }
+    }
+
+    /**
+     * Returns method being used for robust estimation.
+     *
+     * @return method being used for robust estimation.
+     */
+    @Override
+    public RobustEstimatorMethod getMethod() {
+        return RobustEstimatorMethod.MAGSAC;
+    }
+}
@@ -219,7 +219,7 @@ public class MSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
 
                     @Override
                     public int getTotalSamples() {
-                        return evaluations.size();
+                        return getNumberOfEvaluations();
                     }
 
                     @Override
@@ -230,14 +230,9 @@ public class MSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
                     @Override
                     public void estimatePreliminarSolutions(
                             final int[] samplesIndices, final List<Polynomial> solutions) {
-                        subsetEvaluations.clear();
-                        for (final var samplesIndex : samplesIndices) {
-                            subsetEvaluations.add(evaluations.get(samplesIndex));
-                        }
-
                         try {
                             polynomialEstimator.setLMSESolutionAllowed(false);
-                            polynomialEstimator.setEvaluations(subsetEvaluations);
+                            setSubsetEvaluations(samplesIndices, subsetEvaluations);
 
                             final var polynomial = polynomialEstimator.estimate();
                             solutions.add(polynomial);
@@ -248,8 +243,13 @@ public class MSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
 
                     @Override
                     public double computeResidual(final Polynomial currentEstimation, final int i) {
-                        final var eval = evaluations.get(i);
-                        return getDistance(eval, currentEstimation);
+                        return getDistance(i, currentEstimation);
+                    }
+
+                    @Override
+                    public void computeResiduals(final Polynomial currentEstimation, final int from,
+                                                 final int to, final double[] residuals) {
+                        computeDistances(currentEstimation, from, to, residuals);
                     }
 
                     @Override
@@ -293,7 +293,7 @@ public class MSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
             innerEstimator.setConfidence(confidence);
             innerEstimator.setMaxIterations(maxIterations);
             innerEstimator.setProgressDelta(progressDelta);
-            return innerEstimator.estimate();
+            return refineIRLS(innerEstimator.estimate(), innerEstimator.getInliersData());
         } finally {
             locked = false;
         }
@@ -275,7 +275,7 @@ public class PROMedSPolynomialRobustEstimator extends PolynomialRobustEstimator
      */
     @Override
     public boolean isReady() {
-        return super.isReady() && qualityScores != null && qualityScores.length == evaluations.size();
+        return super.isReady() && qualityScores != null && qualityScores.length == getNumberOfEvaluations();
     }
 
     /**
@@ -311,7 +311,7 @@ public class PROMedSPolynomialRobustEstimator extends PolynomialRobustEstimator
 
                     @Override
                     public int getTotalSamples() {
-                        return evaluations.size();
+                        return getNumberOfEvaluations();
                     }
 
                     @Override
@@ -323,14 +323,9 @@ public class PROMedSPolynomialRobustEstimator extends PolynomialRobustEstimator
                     @Override
                     public void estimatePreliminarSolutions(
                             final int[] samplesIndices, final List<Polynomial> solutions) {
-                        subsetEvaluations.clear();
-                        for (var samplesIndex : samplesIndices) {
-                            subsetEvaluations.add(evaluations.get(samplesIndex));
-                        }
-
                         try {
                             polynomialEstimator.setLMSESolutionAllowed(false);
-                            polynomialEstimator.setEvaluations(subsetEvaluations);
+                            setSubsetEvaluations(samplesIndices, subsetEvaluations);
 
                             final var polynomial = polynomialEstimator.estimate();
                             solutions.add(polynomial);
@@ -341,8 +336,13 @@ public class PROMedSPolynomialRobustEstimator extends PolynomialRobustEstimator
 
                     @Override
                     public double computeResidual(final Polynomial currentEstimation, int i) {
-                        final var eval = evaluations.get(i);
-                        return getDistance(eval, currentEstimation);
+                        return getDistance(i, currentEstimation);
+                    }
+
+                    @Override
+                    public void computeResiduals(final Polynomial currentEstimation, final int from,
+                                                 final int to, final double[] residuals) {
+                        computeDistances(currentEstimation, from, to, residuals);
                     }
 
                     @Override
@@ -391,7 +391,7 @@ public class PROMedSPolynomialRobustEstimator extends PolynomialRobustEstimator
             innerEstimator.setConfidence(confidence);
             innerEstimator.setMaxIterations(maxIterations);
             innerEstimator.setProgressDelta(progressDelta);
-            return innerEstimator.estimate();
+            return refineIRLS(innerEstimator.estimate(), innerEstimator.getInliersData());
         } finally {
             locked = false;
         }
@@ -229,7 +229,7 @@ public class PROSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
      */
     @Override
     public boolean isReady() {
-        return super.isReady() && qualityScores != null && qualityScores.length == evaluations.size();
+        return super.isReady() && qualityScores != null && qualityScores.length == getNumberOfEvaluations();
     }
 
 
@@ -266,7 +266,7 @@ public class PROSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
 
                     @Override
                     public int getTotalSamples() {
-                        return evaluations.size();
+                        return getNumberOfEvaluations();
                     }
 
                     @Override
@@ -278,14 +278,9 @@ public class PROSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
                     @Override
                     public void estimatePreliminarSolutions(
                             final int[] samplesIndices, final List<Polynomial> solutions) {
-                        subsetEvaluations.clear();
-                        for (var samplesIndex : samplesIndices) {
-                            subsetEvaluations.add(evaluations.get(samplesIndex));
-                        }
-
                         try {
                             polynomialEstimator.setLMSESolutionAllowed(false);
-                            polynomialEstimator.setEvaluations(subsetEvaluations);
+                            setSubsetEvaluations(samplesIndices, subsetEvaluations);
 
                             final var polynomial = polynomialEstimator.estimate();
                             solutions.add(polynomial);
@@ -296,8 +291,13 @@ public class PROSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
 
                     @Override
                     public double computeResidual(final Polynomial currentEstimation, final int i) {
-                        final var eval = evaluations.get(i);
-                        return getDistance(eval, currentEstimation);
+                        return getDistance(i, currentEstimation);
+                    }
+
+                    @Override
+                    public void computeResiduals(final Polynomial currentEstimation, final int from,
+                                                 final int to, final double[] residuals) {
+                        computeDistances(currentEstimation, from, to, residuals);
                     }
 
                     @Override
@@ -346,7 +346,8 @@ public class PROSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
             innerEstimator.setConfidence(confidence);
             innerEstimator.setMaxIterations(maxIterations);
             innerEstimator.setProgressDelta(progressDelta);
-            return innerEstimator.estimate();
+            innerEstimator.setComputeAndKeepInliersEnabled(irlsRefinementEnabled);
+            return refineIRLS(innerEstimator.estimate(), innerEstimator.getInliersData());
         } finally {
             locked = false;
         }
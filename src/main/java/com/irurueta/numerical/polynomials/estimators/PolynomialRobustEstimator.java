@@ -18,9 +18,12 @@ package com.irurueta.numerical.polynomials.estimators;
 import com.irurueta.numerical.LockedException;
 import com.irurueta.numerical.NotReadyException;
 import com.irurueta.numerical.polynomials.Polynomial;
+import com.irurueta.numerical.robust.InliersData;
 import com.irurueta.numerical.robust.RobustEstimatorException;
 import com.irurueta.numerical.robust.RobustEstimatorMethod;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -88,12 +91,83 @@ public abstract class PolynomialRobustEstimator {
      */
     public static final boolean DEFAULT_USE_GEOMETRIC_DISTANCE = false;
 
+    /**
+     * Indicates whether IRLS (Iteratively Reweighted Least Squares) refinement
+     * of robustly estimated polynomials is enabled by default.
+     */
+    public static final boolean DEFAULT_IRLS_REFINEMENT_ENABLED = false;
+
+    /**
+     * Default weight function used by IRLS refinement.
+     */
+    public static final IRLSWeightFunction DEFAULT_IRLS_WEIGHT_FUNCTION = IRLSWeightFunction.HUBER;
+
+    /**
+     * Default maximum number of IRLS refinement iterations.
+     */
+    public static final int DEFAULT_IRLS_MAX_ITERATIONS = 10;
+
+    /**
+     * Minimum allowed number of IRLS refinement iterations.
+     */
+    public static final int MIN_IRLS_ITERATIONS = 1;
+
+    /**
+     * Default threshold to determine convergence of IRLS refinement. IRLS
+     * iterations stop when the largest change of polynomial parameters
+     * relative to their magnitude is below this threshold.
+     */
+    public static final double DEFAULT_IRLS_CONVERGENCE_THRESHOLD = 1e-9;
+
+    /**
+     * Minimum allowed threshold to determine convergence of IRLS refinement.
+     */
+    public static final double MIN_IRLS_CONVERGENCE_THRESHOLD = 0.0;
+
+    /**
+     * Tuning constant of Huber weights, which provides 95% efficiency for
+     * normally distributed residuals.
+     */
+    public static final double HUBER_TUNING_CONSTANT = 1.345;
+
+    /**
+     * Tuning constant of Tukey weights, which provides 95% efficiency for
+     * normally distributed residuals.
+     */
+    public static final double TUKEY_TUNING_CONSTANT = 4.685;
+
+    /**
+     * Tuning constant of Cauchy weights, which provides 95% efficiency for
+     * normally distributed residuals.
+     */
+    public static final double CAUCHY_TUNING_CONSTANT = 2.385;
+
+    /**
+     * Factor to convert the median absolute deviation of normally distributed
+     * residuals into their standard deviation.
+     */
+    private static final double MAD_TO_STANDARD_DEVIATION = 1.4826;
+
     /**
      * Collection of polynomial evaluations and their corresponding point of
      * evaluation used to determine a polynomial of required degree.
      */
     protected List<PolynomialEvaluation> evaluations;
 
+    /**
+     * Collection of direct or derivative polynomial evaluations stored in
+     * parallel arrays. When provided, these are used instead of the collection
+     * of polynomial evaluations.
+     */
+    protected ColumnarPolynomialEvaluations columnarEvaluations;
+
+    /**
+     * Columnar evaluations containing the subset of evaluations used for each
+     * estimation of the internal non-robust estimator. This is reused as
+     * long as subsets have the same size.
+     */
+    private ColumnarPolynomialEvaluations subsetColumnarEvaluations;
+
     /**
      * Internal non robust estimator of polynomial estimator.
      */
@@ -138,6 +212,43 @@ public abstract class PolynomialRobustEstimator {
      */
     protected boolean useGeometricDistance;
 
+    /**
+     * Indicates whether robustly estimated polynomial is refined by means of
+     * IRLS (Iteratively Reweighted Least Squares) using inliers found during
+     * robust estimation.
+     */
+    protected boolean irlsRefinementEnabled;
+
+    /**
+     * Weight function used by IRLS refinement.
+     */
+    protected IRLSWeightFunction irlsWeightFunction;
+
+    /**
+     * Maximum number of IRLS refinement iterations.
+     */
+    protected int irlsMaxIterations;
+
+    /**
+     * Threshold to determine convergence of IRLS refinement.
+     */
+    protected double irlsConvergenceThreshold;
+
+    /**
+     * Accumulator of weighted normal equations reused on each IRLS iteration.
+     */
+    private StreamingPolynomialEstimator irlsEstimator;
+
+    /**
+     * Residuals of inliers used to estimate their scale during IRLS refinement.
+     */
+    private double[] irlsResiduals;
+
+    /**
+     * Parameters of polynomial obtained on previous IRLS iteration.
+     */
+    private double[] irlsPreviousParams;
+
     /**
      * Constructor.
      */
@@ -146,6 +257,10 @@ public abstract class PolynomialRobustEstimator {
         confidence = DEFAULT_CONFIDENCE;
         maxIterations = DEFAULT_MAX_ITERATIONS;
         useGeometricDistance = DEFAULT_USE_GEOMETRIC_DISTANCE;
+        irlsRefinementEnabled = DEFAULT_IRLS_REFINEMENT_ENABLED;
+        irlsWeightFunction = DEFAULT_IRLS_WEIGHT_FUNCTION;
+        irlsMaxIterations = DEFAULT_IRLS_MAX_ITERATIONS;
+        irlsConvergenceThreshold = DEFAULT_IRLS_CONVERGENCE_THRESHOLD;
         polynomialEstimator = new LMSEPolynomialEstimator();
     }
 
@@ -160,6 +275,10 @@ public abstract class PolynomialRobustEstimator {
         confidence = DEFAULT_CONFIDENCE;
         maxIterations = DEFAULT_MAX_ITERATIONS;
         useGeometricDistance = DEFAULT_USE_GEOMETRIC_DISTANCE;
+        irlsRefinementEnabled = DEFAULT_IRLS_REFINEMENT_ENABLED;
+        irlsWeightFunction = DEFAULT_IRLS_WEIGHT_FUNCTION;
+        irlsMaxIterations = DEFAULT_IRLS_MAX_ITERATIONS;
+        irlsConvergenceThreshold = DEFAULT_IRLS_CONVERGENCE_THRESHOLD;
         polynomialEstimator = new LMSEPolynomialEstimator(degree);
     }
 
@@ -274,6 +393,39 @@ public abstract class PolynomialRobustEstimator {
         internalSetEvaluations(evaluations);
     }
 
+    /**
+     * Gets collection of direct or derivative polynomial evaluations stored in
+     * parallel arrays.
+     *
+     * @return columnar polynomial evaluations or null if a collection of
+     * polynomial evaluations is used instead.
+     */
+    public ColumnarPolynomialEvaluations getColumnarEvaluations() {
+        return columnarEvaluations;
+    }
+
+    /**
+     * Sets collection of direct or derivative polynomial evaluations stored in
+     * parallel arrays. Any previously provided collection of polynomial
+     * evaluations is discarded.
+     * Residuals and systems of equations are computed directly from the arrays
+     * of provided evaluations, which is more efficient than using a collection
+     * of polynomial evaluations when the number of evaluations is large.
+     *
+     * @param columnarEvaluations columnar polynomial evaluations.
+     * @throws LockedException          if estimator is locked.
+     * @throws IllegalArgumentException if provided evaluations are null or
+     *                                  do not contain enough evaluations to estimate the polynomial using current
+     *                                  settings.
+     */
+    public void setColumnarEvaluations(final ColumnarPolynomialEvaluations columnarEvaluations)
+            throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        internalSetColumnarEvaluations(columnarEvaluations);
+    }
+
     /**
      * Gets minimum number of evaluations required to estimate a polynomial of
      * the specified degree.
@@ -436,6 +588,119 @@ public abstract class PolynomialRobustEstimator {
         useGeometricDistance = geometricDistanceUsed;
     }
 
+    /**
+     * Indicates whether robustly estimated polynomial is refined by means of
+     * IRLS (Iteratively Reweighted Least Squares) using inliers found during
+     * robust estimation.
+     *
+     * @return true if IRLS refinement is enabled, false otherwise.
+     */
+    public boolean isIRLSRefinementEnabled() {
+        return irlsRefinementEnabled;
+    }
+
+    /**
+     * Specifies whether robustly estimated polynomial is refined by means of
+     * IRLS (Iteratively Reweighted Least Squares) using inliers found during
+     * robust estimation.
+     * When enabled, inliers are weighted according to their residuals respect
+     * the polynomial obtained on each iteration, so that a separate weighted
+     * estimation of inliers is no longer needed after robust estimation.
+     *
+     * @param irlsRefinementEnabled true to enable IRLS refinement, false
+     *                              otherwise.
+     * @throws LockedException if this estimator is locked.
+     */
+    public void setIRLSRefinementEnabled(final boolean irlsRefinementEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.irlsRefinementEnabled = irlsRefinementEnabled;
+    }
+
+    /**
+     * Gets weight function used by IRLS refinement.
+     *
+     * @return weight function used by IRLS refinement.
+     */
+    public IRLSWeightFunction getIRLSWeightFunction() {
+        return irlsWeightFunction;
+    }
+
+    /**
+     * Sets weight function used by IRLS refinement.
+     *
+     * @param irlsWeightFunction weight function used by IRLS refinement.
+     * @throws IllegalArgumentException if provided value is null.
+     * @throws LockedException          if this estimator is locked.
+     */
+    public void setIRLSWeightFunction(final IRLSWeightFunction irlsWeightFunction) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (irlsWeightFunction == null) {
+            throw new IllegalArgumentException();
+        }
+        this.irlsWeightFunction = irlsWeightFunction;
+    }
+
+    /**
+     * Gets maximum number of IRLS refinement iterations.
+     *
+     * @return maximum number of IRLS refinement iterations.
+     */
+    public int getIRLSMaxIterations() {
+        return irlsMaxIterations;
+    }
+
+    /**
+     * Sets maximum number of IRLS refinement iterations.
+     *
+     * @param irlsMaxIterations maximum number of IRLS refinement iterations.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if this estimator is locked.
+     */
+    public void setIRLSMaxIterations(final int irlsMaxIterations) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (irlsMaxIterations < MIN_IRLS_ITERATIONS) {
+            throw new IllegalArgumentException();
+        }
+        this.irlsMaxIterations = irlsMaxIterations;
+    }
+
+    /**
+     * Gets threshold to determine convergence of IRLS refinement. IRLS
+     * iterations stop when the largest change of polynomial parameters
+     * relative to their magnitude is below this threshold.
+     *
+     * @return threshold to determine convergence of IRLS refinement.
+     */
+    public double getIRLSConvergenceThreshold() {
+        return irlsConvergenceThreshold;
+    }
+
+    /**
+     * Sets threshold to determine convergence of IRLS refinement. IRLS
+     * iterations stop when the largest change of polynomial parameters
+     * relative to their magnitude is below this threshold.
+     *
+     * @param irlsConvergenceThreshold threshold to determine convergence of
+     *                                 IRLS refinement.
+     * @throws IllegalArgumentException if provided value is negative.
+     * @throws LockedException          if this estimator is locked.
+     */
+    public void setIRLSConvergenceThreshold(final double irlsConvergenceThreshold) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (irlsConvergenceThreshold < MIN_IRLS_CONVERGENCE_THRESHOLD) {
+            throw new IllegalArgumentException();
+        }
+        this.irlsConvergenceThreshold = irlsConvergenceThreshold;
+    }
+
     /**
      * Gets degree of polynomial to be estimated.
      *
@@ -467,6 +732,10 @@ public abstract class PolynomialRobustEstimator {
      */
     public boolean isReady() {
         final var nParams = polynomialEstimator.getDegree() + 1;
+        if (columnarEvaluations != null) {
+            // at least a direct evaluation must exist
+            return columnarEvaluations.size() >= nParams && columnarEvaluations.getNumberOfDirectEvaluations() >= 1;
+        }
         if (evaluations == null || evaluations.size() < nParams) {
             return false;
         }
@@ -644,9 +913,11 @@ public abstract class PolynomialRobustEstimator {
     public static PolynomialRobustEstimator create(final RobustEstimatorMethod method) {
         return switch (method) {
             case RANSAC -> new RANSACPolynomialRobustEstimator();
+            case PREEMPTIVE_RANSAC -> new PreemptiveRANSACPolynomialRobustEstimator();
             case LMEDS -> new LMedSPolynomialRobustEstimator();
             case MSAC -> new MSACPolynomialRobustEstimator();
             case PROMEDS -> new PROMedSPolynomialRobustEstimator();
+            case MAGSAC -> new MAGSACPolynomialRobustEstimator();
             default -> new PROSACPolynomialRobustEstimator();
         };
     }
@@ -662,9 +933,11 @@ public abstract class PolynomialRobustEstimator {
     public static PolynomialRobustEstimator create(final int degree, final RobustEstimatorMethod method) {
         return switch (method) {
             case RANSAC -> new RANSACPolynomialRobustEstimator(degree);
+            case PREEMPTIVE_RANSAC -> new PreemptiveRANSACPolynomialRobustEstimator(degree);
             case LMEDS -> new LMedSPolynomialRobustEstimator(degree);
             case MSAC -> new MSACPolynomialRobustEstimator(degree);
             case PROMEDS -> new PROMedSPolynomialRobustEstimator(degree);
+            case MAGSAC -> new MAGSACPolynomialRobustEstimator(degree);
             default -> new PROSACPolynomialRobustEstimator(degree);
         };
     }
@@ -681,9 +954,11 @@ public abstract class PolynomialRobustEstimator {
             final List<PolynomialEvaluation> evaluations, final RobustEstimatorMethod method) {
         return switch (method) {
             case RANSAC -> new RANSACPolynomialRobustEstimator(evaluations);
+            case PREEMPTIVE_RANSAC -> new PreemptiveRANSACPolynomialRobustEstimator(evaluations);
             case LMEDS -> new LMedSPolynomialRobustEstimator(evaluations);
             case MSAC -> new MSACPolynomialRobustEstimator(evaluations);
             case PROMEDS -> new PROMedSPolynomialRobustEstimator(evaluations);
+            case MAGSAC -> new MAGSACPolynomialRobustEstimator(evaluations);
             default -> new PROSACPolynomialRobustEstimator(evaluations);
         };
     }
@@ -700,9 +975,11 @@ public abstract class PolynomialRobustEstimator {
             final PolynomialRobustEstimatorListener listener, final RobustEstimatorMethod method) {
         return switch (method) {
             case RANSAC -> new RANSACPolynomialRobustEstimator(listener);
+            case PREEMPTIVE_RANSAC -> new PreemptiveRANSACPolynomialRobustEstimator(listener);
             case LMEDS -> new LMedSPolynomialRobustEstimator(listener);
             case MSAC -> new MSACPolynomialRobustEstimator(listener);
             case PROMEDS -> new PROMedSPolynomialRobustEstimator(listener);
+            case MAGSAC -> new MAGSACPolynomialRobustEstimator(listener);
             default -> new PROSACPolynomialRobustEstimator(listener);
         };
     }
@@ -721,9 +998,11 @@ public abstract class PolynomialRobustEstimator {
             final int degree, final List<PolynomialEvaluation> evaluations, final RobustEstimatorMethod method) {
         return switch (method) {
             case RANSAC -> new RANSACPolynomialRobustEstimator(degree, evaluations);
+            case PREEMPTIVE_RANSAC -> new PreemptiveRANSACPolynomialRobustEstimator(degree, evaluations);
             case LMEDS -> new LMedSPolynomialRobustEstimator(degree, evaluations);
             case MSAC -> new MSACPolynomialRobustEstimator(degree, evaluations);
             case PROMEDS -> new PROMedSPolynomialRobustEstimator(degree, evaluations);
+            case MAGSAC -> new MAGSACPolynomialRobustEstimator(degree, evaluations);
             default -> new PROSACPolynomialRobustEstimator(degree, evaluations);
         };
     }
@@ -743,9 +1022,11 @@ public abstract class PolynomialRobustEstimator {
             final int degree, final PolynomialRobustEstimatorListener listener, final RobustEstimatorMethod method) {
         return switch (method) {
             case RANSAC -> new RANSACPolynomialRobustEstimator(degree, listener);
+            case PREEMPTIVE_RANSAC -> new PreemptiveRANSACPolynomialRobustEstimator(degree, listener);
             case LMEDS -> new LMedSPolynomialRobustEstimator(degree, listener);
             case MSAC -> new MSACPolynomialRobustEstimator(degree, listener);
             case PROMEDS -> new PROMedSPolynomialRobustEstimator(degree, listener);
+            case MAGSAC -> new MAGSACPolynomialRobustEstimator(degree, listener);
             default -> new PROSACPolynomialRobustEstimator(degree, listener);
         };
     }
@@ -765,9 +1046,11 @@ public abstract class PolynomialRobustEstimator {
             final RobustEstimatorMethod method) {
         return switch (method) {
             case RANSAC -> new RANSACPolynomialRobustEstimator(evaluations, listener);
+            case PREEMPTIVE_RANSAC -> new PreemptiveRANSACPolynomialRobustEstimator(evaluations, listener);
             case LMEDS -> new LMedSPolynomialRobustEstimator(evaluations, listener);
             case MSAC -> new MSACPolynomialRobustEstimator(evaluations, listener);
             case PROMEDS -> new PROMedSPolynomialRobustEstimator(evaluations, listener);
+            case MAGSAC -> new MAGSACPolynomialRobustEstimator(evaluations, listener);
             default -> new PROSACPolynomialRobustEstimator(evaluations, listener);
         };
     }
@@ -789,13 +1072,290 @@ public abstract class PolynomialRobustEstimator {
             final PolynomialRobustEstimatorListener listener, final RobustEstimatorMethod method) {
         return switch (method) {
             case RANSAC -> new RANSACPolynomialRobustEstimator(degree, evaluations, listener);
+            case PREEMPTIVE_RANSAC -> new PreemptiveRANSACPolynomialRobustEstimator(degree, evaluations, listener);
             case LMEDS -> new LMedSPolynomialRobustEstimator(degree, evaluations, listener);
             case MSAC -> new MSACPolynomialRobustEstimator(degree, evaluations, listener);
             case PROMEDS -> new PROMedSPolynomialRobustEstimator(degree, evaluations, listener);
+            case MAGSAC -> new MAGSACPolynomialRobustEstimator(degree, evaluations, listener);
             default -> new PROSACPolynomialRobustEstimator(degree, evaluations, listener);
         };
     }
 
+    /**
+     * Creates a robust polynomial estimator using provided columnar evaluations
+     * and default method.
+     *
+     * @param degree              degree of polynomial to be estimated.
+     * @param columnarEvaluations collection of direct or derivative polynomial
+     *                            evaluations stored in parallel arrays.
+     * @return an instance of a robust polynomial estimator.
+     * @throws IllegalArgumentException if provided degree is less than 1 or
+     *                                  if provided evaluations are null or not enough to estimate the polynomial.
+     */
+    public static PolynomialRobustEstimator create(
+            final int degree, final ColumnarPolynomialEvaluations columnarEvaluations) {
+        return create(degree, columnarEvaluations, DEFAULT_ROBUST_METHOD);
+    }
+
+    /**
+     * Creates a robust polynomial estimator using provided degree, columnar
+     * evaluations and method.
+     *
+     * @param degree              degree of polynomial to be estimated.
+     * @param columnarEvaluations collection of direct or derivative polynomial
+     *                            evaluations stored in parallel arrays.
+     * @param method              method of a robust polynomial estimator.
+     * @return an instance of a robust polynomial estimator.
+     * @throws IllegalArgumentException if provided degree is less than 1 or
+     *                                  if provided evaluations are null or not enough to estimate the polynomial.
+     */
+    public static PolynomialRobustEstimator create(
+            final int degree, final ColumnarPolynomialEvaluations columnarEvaluations,
+            final RobustEstimatorMethod method) {
+        final var estimator = create(degree, method);
+        estimator.internalSetColumnarEvaluations(columnarEvaluations);
+        return estimator;
+    }
+
+    /**
+     * Gets number of available evaluations, either provided as a collection of
+     * polynomial evaluations or as columnar evaluations.
+     *
+     * @return number of available evaluations.
+     */
+    protected int getNumberOfEvaluations() {
+        if (columnarEvaluations != null) {
+            return columnarEvaluations.size();
+        }
+        return evaluations != null ? evaluations.size() : 0;
+    }
+
+    /**
+     * Computes geometric or algebraic distance between provided polynomial
+     * and evaluation at provided position.
+     * When columnar evaluations are available, distance is computed directly
+     * from their arrays.
+     *
+     * @param index      position of evaluation.
+     * @param polynomial polynomial.
+     * @return distance.
+     */
+    protected double getDistance(final int index, final Polynomial polynomial) {
+        if (columnarEvaluations == null) {
+            return getDistance(evaluations.get(index), polynomial);
+        }
+
+        final var x = columnarEvaluations.getX()[index];
+        final var y = columnarEvaluations.getEvaluations()[index];
+        final var order = columnarEvaluations.getDerivativeOrder(index);
+        if (order == ColumnarPolynomialEvaluations.DIRECT_EVALUATION_ORDER) {
+            return useGeometricDistance ? getGeometricDistance(x, y, polynomial)
+                    : Math.abs(polynomial.evaluate(x) - y);
+        } else {
+            return Math.abs(polynomial.evaluateNthDerivative(x, order) - y);
+        }
+    }
+
+    /**
+     * Computes distances between provided polynomial and evaluations within
+     * provided range of positions.
+     * When columnar evaluations are available and algebraic distance is used,
+     * distances of direct evaluations are computed within a tight loop over
+     * the columnar arrays. Otherwise, this method is equivalent to calling
+     * {@link #getDistance(int, Polynomial)} for each position.
+     *
+     * @param polynomial polynomial.
+     * @param from       position of first evaluation (inclusive).
+     * @param to         position of last evaluation (exclusive).
+     * @param distances  array where distances are stored. Must have at least
+     *                   length equal to {@code to}.
+     */
+    protected void computeDistances(final Polynomial polynomial, final int from, final int to,
+                                    final double[] distances) {
+        if (columnarEvaluations == null || useGeometricDistance) {
+            for (var i = from; i < to; i++) {
+                distances[i] = getDistance(i, polynomial);
+            }
+            return;
+        }
+
+        final var xs = columnarEvaluations.getX();
+        final var ys = columnarEvaluations.getEvaluations();
+        final var orders = columnarEvaluations.getDerivativeOrders();
+        final var params = polynomial.getPolyParams();
+        for (var i = from; i < to; i++) {
+            final var x = xs[i];
+            if (orders != null && orders[i] != ColumnarPolynomialEvaluations.DIRECT_EVALUATION_ORDER) {
+                distances[i] = Math.abs(polynomial.evaluateNthDerivative(x, orders[i]) - ys[i]);
+                continue;
+            }
+
+            // same evaluation as Polynomial#evaluate(double), so that distances
+            // match the ones obtained for each position
+            var result = 0.0;
+            var powX = 1.0;
+            for (final var param : params) {
+                result += param * powX;
+                powX *= x;
+            }
+            distances[i] = Math.abs(result - ys[i]);
+        }
+    }
+
+    /**
+     * Sets the subset of evaluations at provided positions into the internal
+     * non-robust polynomial estimator.
+     *
+     * @param samplesIndices    positions of evaluations to be used.
+     * @param subsetEvaluations list to be reused to contain the subset when a
+     *                          collection of polynomial evaluations is used.
+     * @throws LockedException if internal estimator is locked.
+     */
+    protected void setSubsetEvaluations(
+            final int[] samplesIndices, final List<PolynomialEvaluation> subsetEvaluations) throws LockedException {
+        if (columnarEvaluations == null) {
+            subsetEvaluations.clear();
+            for (final var samplesIndex : samplesIndices) {
+                subsetEvaluations.add(evaluations.get(samplesIndex));
+            }
+            polynomialEstimator.setEvaluations(subsetEvaluations);
+            return;
+        }
+
+        final var subset = obtainSubsetColumnarEvaluations(samplesIndices.length);
+        for (var i = 0; i < samplesIndices.length; i++) {
+            copyColumnarEvaluation(samplesIndices[i], subset, i);
+        }
+        polynomialEstimator.setColumnarEvaluations(subset);
+    }
+
+    /**
+     * Sets the subset of evaluations indicated by provided inliers into the
+     * internal non-robust polynomial estimator.
+     *
+     * @param inliers           inliers indicating evaluations to be used.
+     * @param subsetEvaluations list to be reused to contain the subset when a
+     *                          collection of polynomial evaluations is used.
+     * @throws LockedException if internal estimator is locked.
+     */
+    protected void setSubsetEvaluations(
+            final BitSet inliers, final List<PolynomialEvaluation> subsetEvaluations) throws LockedException {
+        if (columnarEvaluations == null) {
+            subsetEvaluations.clear();
+            for (var i = inliers.nextSetBit(0); i >= 0; i = inliers.nextSetBit(i + 1)) {
+                subsetEvaluations.add(evaluations.get(i));
+            }
+            polynomialEstimator.setEvaluations(subsetEvaluations);
+            return;
+        }
+
+        final var subset = obtainSubsetColumnarEvaluations(inliers.cardinality());
+        var pos = 0;
+        for (var i = inliers.nextSetBit(0); i >= 0; i = inliers.nextSetBit(i + 1)) {
+            copyColumnarEvaluation(i, subset, pos++);
+        }
+        polynomialEstimator.setColumnarEvaluations(subset);
+    }
+
+    /**
+     * Gets evaluation at provided position as a polynomial evaluation instance.
+     * When columnar evaluations are available, a new instance is created.
+     *
+     * @param index position of evaluation.
+     * @return polynomial evaluation.
+     */
+    protected PolynomialEvaluation getEvaluation(final int index) {
+        if (columnarEvaluations != null) {
+            return columnarEvaluations.getEvaluation(index);
+        }
+        return evaluations.get(index);
+    }
+
+    /**
+     * Refines provided robustly estimated polynomial by means of IRLS
+     * (Iteratively Reweighted Least Squares) if IRLS refinement is enabled.
+     * Inliers found during robust estimation are weighted on each iteration
+     * according to their residuals respect to the current polynomial and the
+     * robust scale of the residuals of the initial polynomial (obtained from
+     * their median absolute deviation). Weighted normal equations are
+     * accumulated into a buffer that is reused between iterations and
+     * estimations, and provided polynomial is refined in place, so that no
+     * memory is allocated once buffers have been created.
+     * If inliers are not available, all evaluations are used.
+     * If refinement cannot be done (i.e. residuals are zero or weighted
+     * equations become degenerate), the last valid polynomial is kept.
+     *
+     * @param polynomial  robustly estimated polynomial. Will be refined in
+     *                    place.
+     * @param inliersData inliers data found during robust estimation or null
+     *                    if not available.
+     * @return provided polynomial, which will have been refined if IRLS
+     * refinement is enabled and possible.
+     */
+    protected Polynomial refineIRLS(final Polynomial polynomial, final InliersData inliersData) {
+        if (!irlsRefinementEnabled || polynomial == null) {
+            return polynomial;
+        }
+
+        final var inliers = inliersData != null ? inliersData.getInliers() : null;
+        final var total = getNumberOfEvaluations();
+        final var degree = getDegree();
+        final var numParams = degree + 1;
+        if (polynomial.getPolyParams().length != numParams) {
+            return polynomial;
+        }
+
+        if (irlsEstimator == null || irlsEstimator.getDegree() != degree) {
+            irlsEstimator = new StreamingPolynomialEstimator(degree);
+            irlsPreviousParams = new double[numParams];
+        }
+        if (irlsResiduals == null || irlsResiduals.length < total) {
+            irlsResiduals = new double[total];
+        }
+
+        // robust scale of residuals of initial polynomial
+        var n = 0;
+        for (var i = nextIRLSSample(inliers, 0, total); i >= 0; i = nextIRLSSample(inliers, i + 1, total)) {
+            irlsResiduals[n++] = getDistance(i, polynomial);
+        }
+        if (n < numParams) {
+            return polynomial;
+        }
+        final var scale = MAD_TO_STANDARD_DEVIATION * median(irlsResiduals, n);
+        if (!(scale > 0.0)) {
+            return polynomial;
+        }
+        final var threshold = getIRLSTuningConstant() * scale;
+
+        final var params = polynomial.getPolyParams();
+        for (var iter = 0; iter < irlsMaxIterations; iter++) {
+            System.arraycopy(params, 0, irlsPreviousParams, 0, numParams);
+
+            try {
+                irlsEstimator.reset();
+                for (var i = nextIRLSSample(inliers, 0, total); i >= 0;
+                     i = nextIRLSSample(inliers, i + 1, total)) {
+                    final var weight = getIRLSWeight(getDistance(i, polynomial) / threshold);
+                    if (weight > 0.0) {
+                        addIRLSEvaluation(i, weight);
+                    }
+                }
+
+                irlsEstimator.estimate(params);
+            } catch (final PolynomialEstimationException | NotReadyException e) {
+                // keep polynomial of last iteration
+                System.arraycopy(irlsPreviousParams, 0, params, 0, numParams);
+                break;
+            }
+
+            if (hasIRLSConverged(params)) {
+                break;
+            }
+        }
+
+        return polynomial;
+    }
+
     /**
      * Computes geometric or algebraic distance between provided polynomial
      * and evaluation.
@@ -923,8 +1483,19 @@ public abstract class PolynomialRobustEstimator {
      * @return geometric distance.
      */
     protected double getGeometricDistance(final DirectPolynomialEvaluation eval, final Polynomial polynomial) {
-        final var x = eval.getX();
-        final var y1 = eval.getEvaluation();
+        return getGeometricDistance(eval.getX(), eval.getEvaluation(), polynomial);
+    }
+
+    /**
+     * Computes distance of a direct evaluation respect to provided polynomial
+     * in a geometric sense.
+     *
+     * @param x          point where polynomial has been evaluated.
+     * @param y1         evaluation of polynomial at point x.
+     * @param polynomial polynomial.
+     * @return geometric distance.
+     */
+    private static double getGeometricDistance(final double x, final double y1, final Polynomial polynomial) {
         final var y2 = polynomial.evaluate(x);
 
         final var slope = polynomial.evaluateDerivative(x);
@@ -960,5 +1531,166 @@ public abstract class PolynomialRobustEstimator {
             throw new IllegalArgumentException();
         }
         this.evaluations = evaluations;
+        columnarEvaluations = null;
+    }
+
+    /**
+     * Computes median of the first values of provided array.
+     * Provided values are reordered.
+     *
+     * @param values values to compute median for.
+     * @param length number of values to take into account, starting at
+     *               position 0.
+     * @return median value.
+     */
+    private static double median(final double[] values, final int length) {
+        Arrays.sort(values, 0, length);
+        final var k = length / 2;
+        if (length % 2 == 1) {
+            return values[k];
+        }
+        return 0.5 * (values[k - 1] + values[k]);
+    }
+
+    /**
+     * Gets position of next sample used by IRLS refinement.
+     *
+     * @param inliers inliers found during robust estimation or null if all
+     *                samples are used.
+     * @param from    position where search starts.
+     * @param total   total number of samples.
+     * @return position of next sample or -1 if there are no more samples.
+     */
+    private static int nextIRLSSample(final BitSet inliers, final int from, final int total) {
+        if (inliers != null) {
+            return inliers.nextSetBit(from);
+        }
+        return from < total ? from : -1;
+    }
+
+    /**
+     * Gets tuning constant of current IRLS weight function.
+     *
+     * @return tuning constant.
+     */
+    private double getIRLSTuningConstant() {
+        return switch (irlsWeightFunction) {
+            case TUKEY -> TUKEY_TUNING_CONSTANT;
+            case CAUCHY -> CAUCHY_TUNING_CONSTANT;
+            default -> HUBER_TUNING_CONSTANT;
+        };
+    }
+
+    /**
+     * Computes IRLS weight of a residual.
+     *
+     * @param u residual divided by tuning constant and scale of residuals.
+     * @return weight.
+     */
+    private double getIRLSWeight(final double u) {
+        final var absU = Math.abs(u);
+        return switch (irlsWeightFunction) {
+            case TUKEY -> {
+                if (absU >= 1.0) {
+                    yield 0.0;
+                }
+                final var v = 1.0 - absU * absU;
+                yield v * v;
+            }
+            case CAUCHY -> 1.0 / (1.0 + absU * absU);
+            default -> absU <= 1.0 ? 1.0 : 1.0 / absU;
+        };
+    }
+
+    /**
+     * Adds evaluation at provided position to weighted normal equations used by
+     * IRLS refinement.
+     *
+     * @param index  position of evaluation.
+     * @param weight weight of evaluation.
+     * @throws PolynomialEstimationException if evaluation is not valid.
+     */
+    private void addIRLSEvaluation(final int index, final double weight) throws PolynomialEstimationException {
+        if (columnarEvaluations == null) {
+            irlsEstimator.addEvaluation(evaluations.get(index), weight);
+            return;
+        }
+
+        final var x = columnarEvaluations.getX()[index];
+        final var value = columnarEvaluations.getEvaluations()[index];
+        final var order = columnarEvaluations.getDerivativeOrder(index);
+        if (order == ColumnarPolynomialEvaluations.DIRECT_EVALUATION_ORDER) {
+            irlsEstimator.addDirectEvaluation(x, value, weight);
+        } else {
+            irlsEstimator.addDerivativeEvaluation(x, value, order, weight);
+        }
+    }
+
+    /**
+     * Indicates whether IRLS refinement has converged by comparing provided
+     * parameters with the ones obtained on previous iteration.
+     *
+     * @param params parameters obtained on current iteration.
+     * @return true if IRLS refinement has converged, false otherwise.
+     */
+    private boolean hasIRLSConverged(final double[] params) {
+        var maxChange = 0.0;
+        var maxParam = 0.0;
+        for (var i = 0; i < params.length; i++) {
+            maxChange = Math.max(maxChange, Math.abs(params[i] - irlsPreviousParams[i]));
+            maxParam = Math.max(maxParam, Math.abs(params[i]));
+        }
+        return maxChange <= irlsConvergenceThreshold * Math.max(maxParam, 1.0);
+    }
+
+    /**
+     * Sets columnar polynomial evaluations.
+     * This method does not check whether estimator is locked.
+     *
+     * @param columnarEvaluations columnar polynomial evaluations to estimate
+     *                            polynomial.
+     * @throws IllegalArgumentException if provided evaluations are null or
+     *                                  too small.
+     */
+    private void internalSetColumnarEvaluations(final ColumnarPolynomialEvaluations columnarEvaluations) {
+        if (columnarEvaluations == null || columnarEvaluations.size() < getMinNumberOfEvaluations()) {
+            throw new IllegalArgumentException();
+        }
+        this.columnarEvaluations = columnarEvaluations;
+        evaluations = null;
+    }
+
+    /**
+     * Obtains columnar evaluations to contain a subset of provided size,
+     * reusing previous instance when possible.
+     *
+     * @param size size of subset.
+     * @return columnar evaluations to be filled.
+     */
+    private ColumnarPolynomialEvaluations obtainSubsetColumnarEvaluations(final int size) {
+        final var hasOrders = columnarEvaluations.getDerivativeOrders() != null;
+        if (subsetColumnarEvaluations == null || subsetColumnarEvaluations.size() != size
+                || (subsetColumnarEvaluations.getDerivativeOrders() != null) != hasOrders) {
+            subsetColumnarEvaluations = new ColumnarPolynomialEvaluations(new double[size], new double[size],
+                    hasOrders ? new int[size] : null);
+        }
+        return subsetColumnarEvaluations;
+    }
+
+    /**
+     * Copies columnar evaluation at provided position into provided subset.
+     *
+     * @param index     position of evaluation to be copied.
+     * @param subset    subset where evaluation will be copied.
+     * @param subsetPos position within subset.
+     */
+    private void copyColumnarEvaluation(
+            final int index, final ColumnarPolynomialEvaluations subset, final int subsetPos) {
+        subset.getX()[subsetPos] = columnarEvaluations.getX()[index];
+        subset.getEvaluations()[subsetPos] = columnarEvaluations.getEvaluations()[index];
+        final var orders = columnarEvaluations.getDerivativeOrders();
+        if (orders != null) {
+            subset.getDerivativeOrders()[subsetPos] = orders[index];
+        }
     }
 }
@@ -0,0 +1,482 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.polynomials.estimators;
+
+import com.irurueta.numerical.LockedException;
+import com.irurueta.numerical.NotReadyException;
+import com.irurueta.numerical.polynomials.Polynomial;
+import com.irurueta.numerical.robust.PreemptiveRANSACRobustEstimator;
+import com.irurueta.numerical.robust.RANSACRobustEstimatorListener;
+import com.irurueta.numerical.robust.RobustEstimator;
+import com.irurueta.numerical.robust.RobustEstimatorException;
+import com.irurueta.numerical.robust.RobustEstimatorMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the best polynomial using preemptive RANSAC algorithm, so that
+ * estimation can be bounded by a time or evaluation budget.
+ */
+public class PreemptiveRANSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
+
+    /**
+     * Constant defining default threshold to determine whether polynomials are
+     * inliers or not.
+     * Threshold will be used to compare either algebraic or geometric distance
+     * of estimated polynomial respect each provided evaluation.
+     */
+    public static final double DEFAULT_THRESHOLD = 1e-6;
+
+    /**
+     * Minimum value that can be set as threshold.
+     * Threshold must be strictly greater than 0.0.
+     */
+    public static final double MIN_THRESHOLD = 0.0;
+
+    /**
+     * Threshold to determine whether polynomial evaluations are inliers or not
+     * when testing possible estimation solutions
+     */
+    private double threshold;
+
+    /**
+     * Number of preliminary solutions to be generated upfront.
+     */
+    private int numHypotheses;
+
+    /**
+     * Number of evaluations to be scored for each remaining preliminary
+     * solution before discarding the worst half of them.
+     */
+    private int blockSize;
+
+    /**
+     * Maximum amount of time to be spent on estimation, expressed in
+     * nanoseconds. Zero indicates that no time budget is used.
+     */
+    private long timeBudgetNanos;
+
+    /**
+     * Maximum number of residual evaluations to be done while scoring
+     * preliminary solutions. Zero indicates that no evaluation budget is used.
+     */
+    private long evaluationBudget;
+
+    /**
+     * Constructor.
+     */
+    public PreemptiveRANSACPolynomialRobustEstimator() {
+        super();
+        threshold = DEFAULT_THRESHOLD;
+        numHypotheses = PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES;
+        blockSize = PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE;
+        timeBudgetNanos = PreemptiveRANSACRobustEstimator.DEFAULT_TIME_BUDGET_NANOS;
+        evaluationBudget = PreemptiveRANSACRobustEstimator.DEFAULT_EVALUATION_BUDGET;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param degree degree of polynomial to be estimated.
+     * @throws IllegalArgumentException if provided degree is less than 1.
+     */
+    public PreemptiveRANSACPolynomialRobustEstimator(final int degree) {
+        super(degree);
+        threshold = DEFAULT_THRESHOLD;
+        numHypotheses = PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES;
+        blockSize = PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE;
+        timeBudgetNanos = PreemptiveRANSACRobustEstimator.DEFAULT_TIME_BUDGET_NANOS;
+        evaluationBudget = PreemptiveRANSACRobustEstimator.DEFAULT_EVALUATION_BUDGET;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param evaluations collection of polynomial evaluations.
+     * @throws IllegalArgumentException if provided number of evaluations is
+     *                                  less than the required minimum.
+     */
+    public PreemptiveRANSACPolynomialRobustEstimator(final List<PolynomialEvaluation> evaluations) {
+        super(evaluations);
+        threshold = DEFAULT_THRESHOLD;
+        numHypotheses = PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES;
+        blockSize = PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE;
+        timeBudgetNanos = PreemptiveRANSACRobustEstimator.DEFAULT_TIME_BUDGET_NANOS;
+        evaluationBudget = PreemptiveRANSACRobustEstimator.DEFAULT_EVALUATION_BUDGET;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param listener listener to be notified of events such as when estimation
+     *                 starts, ends or its progress significantly changes.
+     */
+    public PreemptiveRANSACPolynomialRobustEstimator(final PolynomialRobustEstimatorListener listener) {
+        super(listener);
+        threshold = DEFAULT_THRESHOLD;
+        numHypotheses = PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES;
+        blockSize = PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE;
+        timeBudgetNanos = PreemptiveRANSACRobustEstimator.DEFAULT_TIME_BUDGET_NANOS;
+        evaluationBudget = PreemptiveRANSACRobustEstimator.DEFAULT_EVALUATION_BUDGET;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param degree      degree of polynomial to be estimated.
+     * @param evaluations collection of polynomial evaluations.
+     * @throws IllegalArgumentException if provided degree is less than 1 or if
+     *                                  provided number of evaluations is less than the required minimum for
+     *                                  provided degree.
+     */
+    public PreemptiveRANSACPolynomialRobustEstimator(final int degree, final List<PolynomialEvaluation> evaluations) {
+        super(degree, evaluations);
+        threshold = DEFAULT_THRESHOLD;
+        numHypotheses = PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES;
+        blockSize = PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE;
+        timeBudgetNanos = PreemptiveRANSACRobustEstimator.DEFAULT_TIME_BUDGET_NANOS;
+        evaluationBudget = PreemptiveRANSACRobustEstimator.DEFAULT_EVALUATION_BUDGET;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param degree   degree of polynomial to be estimated.
+     * @param listener listener to be notified of events such as when estimation
+     *                 starts, ends or its progress significantly changes.
+     * @throws IllegalArgumentException if provided degree is less than 1.
+     */
+    public PreemptiveRANSACPolynomialRobustEstimator(
+            final int degree, final PolynomialRobustEstimatorListener listener) {
+        super(degree, listener);
+        threshold = DEFAULT_THRESHOLD;
+        numHypotheses = PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES;
+        blockSize = PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE;
+        timeBudgetNanos = PreemptiveRANSACRobustEstimator.DEFAULT_TIME_BUDGET_NANOS;
+        evaluationBudget = PreemptiveRANSACRobustEstimator.DEFAULT_EVALUATION_BUDGET;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param evaluations collection of polynomial evaluations.
+     * @param listener    listener to be notified of events such as when estimation
+     *                    starts, ends or its progress significantly changes.
+     * @throws IllegalArgumentException if provided number of evaluations is
+     *                                  less than the required minimum.
+     */
+    public PreemptiveRANSACPolynomialRobustEstimator(
+            final List<PolynomialEvaluation> evaluations, final PolynomialRobustEstimatorListener listener) {
+        super(evaluations, listener);
+        threshold = DEFAULT_THRESHOLD;
+        numHypotheses = PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES;
+        blockSize = PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE;
+        timeBudgetNanos = PreemptiveRANSACRobustEstimator.DEFAULT_TIME_BUDGET_NANOS;
+        evaluationBudget = PreemptiveRANSACRobustEstimator.DEFAULT_EVALUATION_BUDGET;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param degree      degree of polynomial to be estimated.
+     * @param evaluations collection of polynomial evaluations.
+     * @param listener    listener to be notified of events such as when estimation
+     *                    starts, ends or its progress significantly changes.
+     * @throws IllegalArgumentException if provided degree is less than 1 or if
+     *                                  provided number of evaluations is less than the required minimum for
+     *                                  provided degree.
+     */
+    public PreemptiveRANSACPolynomialRobustEstimator(
+            final int degree, final List<PolynomialEvaluation> evaluations,
+            final PolynomialRobustEstimatorListener listener) {
+        super(degree, evaluations, listener);
+        threshold = DEFAULT_THRESHOLD;
+        numHypotheses = PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES;
+        blockSize = PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE;
+        timeBudgetNanos = PreemptiveRANSACRobustEstimator.DEFAULT_TIME_BUDGET_NANOS;
+        evaluationBudget = PreemptiveRANSACRobustEstimator.DEFAULT_EVALUATION_BUDGET;
+    }
+
+    /**
+     * Returns threshold to determine whether polynomials are inliers or not
+     * when testing possible estimation solutions.
+     *
+     * @return threshold to determine whether polynomials are inliers or not
+     * when testing possible estimation solutions.
+     */
+    public double getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Sets threshold to determine whether polynomials are inliers or not when
+     * testing possible estimation solutions.
+     *
+     * @param threshold threshold to determine whether polynomials are inliers
+     *                  or not when testing possible estimation solutions.
+     * @throws IllegalArgumentException if provided value is equal or less than
+     *                                  zero.
+     * @throws LockedException          if robust estimator is locked.
+     */
+    public void setThreshold(final double threshold) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (threshold <= MIN_THRESHOLD) {
+            throw new IllegalArgumentException();
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns number of subsets of evaluations to be picked upfront to
+     * generate preliminary solutions.
+     *
+     * @return number of subsets to be picked.
+     */
+    public int getNumHypotheses() {
+        return numHypotheses;
+    }
+
+    /**
+     * Sets number of subsets of evaluations to be picked upfront to generate
+     * preliminary solutions.
+     *
+     * @param numHypotheses number of subsets to be picked.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if robust estimator is locked.
+     */
+    public void setNumHypotheses(final int numHypotheses) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (numHypotheses < PreemptiveRANSACRobustEstimator.MIN_NUM_HYPOTHESES) {
+            throw new IllegalArgumentException();
+        }
+        this.numHypotheses = numHypotheses;
+    }
+
+    /**
+     * Returns number of evaluations to be scored for each remaining
+     * preliminary solution before discarding the worst half of them.
+     *
+     * @return block size.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Sets number of evaluations to be scored for each remaining preliminary
+     * solution before discarding the worst half of them.
+     *
+     * @param blockSize block size.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if robust estimator is locked.
+     */
+    public void setBlockSize(final int blockSize) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (blockSize < PreemptiveRANSACRobustEstimator.MIN_BLOCK_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Returns maximum amount of time to be spent on estimation, expressed in
+     * nanoseconds. Zero indicates that no time budget is used.
+     *
+     * @return time budget expressed in nanoseconds.
+     */
+    public long getTimeBudgetNanos() {
+        return timeBudgetNanos;
+    }
+
+    /**
+     * Sets maximum amount of time to be spent on estimation, expressed in
+     * nanoseconds. Zero indicates that no time budget is used.
+     *
+     * @param timeBudgetNanos time budget expressed in nanoseconds.
+     * @throws IllegalArgumentException if provided value is negative.
+     * @throws LockedException          if robust estimator is locked.
+     */
+    public void setTimeBudgetNanos(final long timeBudgetNanos) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (timeBudgetNanos < PreemptiveRANSACRobustEstimator.NO_BUDGET) {
+            throw new IllegalArgumentException();
+        }
+        this.timeBudgetNanos = timeBudgetNanos;
+    }
+
+    /**
+     * Returns maximum number of residual evaluations to be done while scoring
+     * preliminary solutions. Zero indicates that no evaluation budget is used.
+     *
+     * @return evaluation budget.
+     */
+    public long getEvaluationBudget() {
+        return evaluationBudget;
+    }
+
+    /**
+     * Sets maximum number of residual evaluations to be done while scoring
+     * preliminary solutions. Zero indicates that no evaluation budget is used.
+     *
+     * @param evaluationBudget evaluation budget.
+     * @throws IllegalArgumentException if provided value is negative.
+     * @throws LockedException          if robust estimator is locked.
+     */
+    public void setEvaluationBudget(final long evaluationBudget) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (evaluationBudget < PreemptiveRANSACRobustEstimator.NO_BUDGET) {
+            throw new IllegalArgumentException();
+        }
+        this.evaluationBudget = evaluationBudget;
+    }
+
+    /**
+     * Estimates polynomial.
+     *
+     * @return estimated polynomial.
+     * @throws LockedException          if robust estimator is locked because an
+     *                                  estimation is already in progress.
+     * @throws NotReadyException        if provided input data is not enough to start
+     *                                  the estimation.
+     * @throws RobustEstimatorException if estimation fails for any other reason
+     *                                  (i.e. numerical instability, no solution available, etc).
+     */
+    @Override
+    public Polynomial estimate() throws LockedException, NotReadyException, RobustEstimatorException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+
+        final PreemptiveRANSACRobustEstimator<Polynomial> innerEstimator = new PreemptiveRANSACRobustEstimator<>(
+                new RANSACRobustEstimatorListener<>() {
+
+                    // subset of evaluations picked on each iteration
+                    private final List<PolynomialEvaluation> subsetEvaluations = new ArrayList<>();
+
+                    @Override
+                    public double getThreshold() {
+                        return threshold;
+                    }
+
+                    @Override
+                    public int getTotalSamples() {
+                        return getNumberOfEvaluations();
+                    }
+
+                    @Override
+                    public int getSubsetSize() {
+                        return polynomialEstimator.getMinNumberOfEvaluations();
+                    }
+
+                    @Override
+                    public void estimatePreliminarSolutions(
+                            final int[] samplesIndices, final List<Polynomial> solutions) {
+                        try {
+                            polynomialEstimator.setLMSESolutionAllowed(false);
+                            setSubsetEvaluations(samplesIndices, subsetEvaluations);
+
+                            final var polynomial = polynomialEstimator.estimate();
+                            solutions.add(polynomial);
+                        } catch (Exception e) {
+                            // if anything fails, no solution is added
+                        }
+                    }
+
+                    @Override
+                    public double computeResidual(final Polynomial currentEstimation, final int i) {
+                        return getDistance(i, currentEstimation);
+                    }
+
+                    @Override
+                    public void computeResiduals(final Polynomial currentEstimation, final int from,
+                                                 final int to, final double[] residuals) {
+                        computeDistances(currentEstimation, from, to, residuals);
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return PreemptiveRANSACPolynomialRobustEstimator.this.isReady();
+                    }
+
+                    @Override
+                    public void onEstimateStart(final RobustEstimator<Polynomial> estimator) {
+                        if (listener != null) {
+                            listener.onEstimateStart(PreemptiveRANSACPolynomialRobustEstimator.this);
+                        }
+                    }
+
+                    @Override
+                    public void onEstimateEnd(final RobustEstimator<Polynomial> estimator) {
+                        if (listener != null) {
+                            listener.onEstimateEnd(PreemptiveRANSACPolynomialRobustEstimator.this);
+                        }
+                    }
+
+                    @Override
+                    public void onEstimateNextIteration(
+                            final RobustEstimator<Polynomial> estimator, final int iteration) {
+                        if (listener != null) {
+                            listener.onEstimateNextIteration(PreemptiveRANSACPolynomialRobustEstimator.this, iteration);
+                        }
+                    }
+
+                    @Override
+                    public void onEstimateProgressChange(
+                            final RobustEstimator<Polynomial> estimator, final float progress) {
+                        if (listener != null) {
+                            listener.onEstimateProgressChange(PreemptiveRANSACPolynomialRobustEstimator.this, progress);
+                        }
+                    }
+                });
+
+        try {
+            locked = true;
+            innerEstimator.setNumHypotheses(numHypotheses);
+            innerEstimator.setBlockSize(blockSize);
+            innerEstimator.setTimeBudgetNanos(timeBudgetNanos);
+            innerEstimator.setEvaluationBudget(evaluationBudget);
+            innerEstimator.setProgressDelta(progressDelta);
+            innerEstimator.setComputeAndKeepInliersEnabled(irlsRefinementEnabled);
+            return refineIRLS(innerEstimator.estimate(), innerEstimator.getInliersData());
+        } finally {
+            locked = false;
+        }
+    }
+
+    /**
+     * Returns method being used for robust estimation.
+     *
+     * @return method being used for robust estimation.
+     */
+    @Override
+    public RobustEstimatorMethod getMethod() {
+        return RobustEstimatorMethod.PREEMPTIVE_RANSAC;
+    }
+}
@@ -25,6 +25,7 @@ import com.irurueta.numerical.robust.RobustEstimatorException;
 import com.irurueta.numerical.robust.RobustEstimatorMethod;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -46,12 +47,26 @@ public class RANSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
      */
     public static final double MIN_THRESHOLD = 0.0;
 
+    /**
+     * Indicates that by default best polynomials are not refined using their
+     * inliers.
+     */
+    public static final boolean DEFAULT_LOCAL_OPTIMIZATION_ENABLED =
+            RANSACRobustEstimator.DEFAULT_LOCAL_OPTIMIZATION_ENABLED;
+
     /**
      * Threshold to determine whether polynomial evaluations are inliers or not
      * when testing possible estimation solutions
      */
     private double threshold;
 
+    /**
+     * Indicates whether best polynomials are refined by means of a least mean
+     * squared error fit on their inliers every time a new best polynomial is
+     * found.
+     */
+    private boolean localOptimizationEnabled = DEFAULT_LOCAL_OPTIMIZATION_ENABLED;
+
     /**
      * Constructor.
      */
@@ -185,6 +200,37 @@ public class RANSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
         this.threshold = threshold;
     }
 
+    /**
+     * Indicates whether best polynomials are refined by means of a least mean
+     * squared error fit on their inliers every time a new best polynomial is
+     * found (LO-RANSAC).
+     * Refined polynomials typically have more inliers, which reduces the number
+     * of required iterations.
+     *
+     * @return true if local optimization is enabled, false otherwise.
+     */
+    public boolean isLocalOptimizationEnabled() {
+        return localOptimizationEnabled;
+    }
+
+    /**
+     * Specifies whether best polynomials are refined by means of a least mean
+     * squared error fit on their inliers every time a new best polynomial is
+     * found (LO-RANSAC).
+     * Refined polynomials typically have more inliers, which reduces the number
+     * of required iterations.
+     *
+     * @param localOptimizationEnabled true to enable local optimization, false
+     *                                 otherwise.
+     * @throws LockedException if robust estimator is locked.
+     */
+    public void setLocalOptimizationEnabled(final boolean localOptimizationEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.localOptimizationEnabled = localOptimizationEnabled;
+    }
+
 
     /**
      * Estimates polynomial.
@@ -219,7 +265,7 @@ public class RANSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
 
                     @Override
                     public int getTotalSamples() {
-                        return evaluations.size();
+                        return getNumberOfEvaluations();
                     }
 
                     @Override
@@ -230,14 +276,9 @@ public class RANSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
                     @Override
                     public void estimatePreliminarSolutions(
                             final int[] samplesIndices, final List<Polynomial> solutions) {
-                        subsetEvaluations.clear();
-                        for (var samplesIndex : samplesIndices) {
-                            subsetEvaluations.add(evaluations.get(samplesIndex));
-                        }
-
                         try {
                             polynomialEstimator.setLMSESolutionAllowed(false);
-                            polynomialEstimator.setEvaluations(subsetEvaluations);
+                            setSubsetEvaluations(samplesIndices, subsetEvaluations);
 
                             final var polynomial = polynomialEstimator.estimate();
                             solutions.add(polynomial);
@@ -248,8 +289,30 @@ public class RANSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
 
                     @Override
                     public double computeResidual(final Polynomial currentEstimation, final int i) {
-                        final var eval = evaluations.get(i);
-                        return getDistance(eval, currentEstimation);
+                        return getDistance(i, currentEstimation);
+                    }
+
+                    @Override
+                    public void computeResiduals(final Polynomial currentEstimation, final int from,
+                                                 final int to, final double[] residuals) {
+                        computeDistances(currentEstimation, from, to, residuals);
+                    }
+
+                    @Override
+                    public Polynomial refine(final Polynomial currentEstimation, final BitSet inliers) {
+                        if (inliers.cardinality() < polynomialEstimator.getMinNumberOfEvaluations()) {
+                            return null;
+                        }
+
+                        try {
+                            polynomialEstimator.setLMSESolutionAllowed(true);
+                            setSubsetEvaluations(inliers, subsetEvaluations);
+
+                            return polynomialEstimator.estimate();
+                        } catch (Exception e) {
+                            // if anything fails, no refined solution is provided
+                            return null;
+                        }
                     }
 
                     @Override
@@ -293,7 +356,9 @@ public class RANSACPolynomialRobustEstimator extends PolynomialRobustEstimator {
             innerEstimator.setConfidence(confidence);
             innerEstimator.setMaxIterations(maxIterations);
             innerEstimator.setProgressDelta(progressDelta);
-            return innerEstimator.estimate();
+            innerEstimator.setLocalOptimizationEnabled(localOptimizationEnabled);
+            innerEstimator.setComputeAndKeepInliersEnabled(irlsRefinementEnabled);
+            return refineIRLS(innerEstimator.estimate(), innerEstimator.getInliersData());
         } finally {
             locked = false;
         }
@@ -0,0 +1,664 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.polynomials.estimators;
+
+import com.irurueta.numerical.NotReadyException;
+import com.irurueta.numerical.polynomials.Polynomial;
+
+import java.util.Arrays;
+
+/**
+ * Estimates a polynomial of a given degree from a stream of evaluations by
+ * accumulating its normal equations.
+ * Instead of keeping all evaluations, this estimator only keeps the
+ * (degree + 1)x(degree + 1) Gram matrix and the right-hand side of the system
+ * of equations that {@link LMSEPolynomialEstimator} solves when an LMSE
+ * solution is allowed. Each evaluation can be added or removed in
+ * O(degree^2), and current estimation can be obtained at any time in
+ * O(degree^3), regardless of the number of accumulated evaluations.
+ * This makes it suitable to fit polynomial trends on sliding windows of
+ * unbounded streams, where the oldest evaluation is removed each time a new
+ * one is added.
+ * Each equation is normalized in the same way as
+ * {@link LMSEPolynomialEstimator} does, so that both estimators provide the
+ * same solution for the same evaluations. Additionally, evaluations can be
+ * given a weight, so that the squared error of their equation is multiplied
+ * by such weight.
+ * Notice that solving normal equations squares the condition number of the
+ * system, and that removing evaluations subtracts their contribution, which
+ * may slowly accumulate rounding errors. If required, {@link #reset()} can be
+ * used to discard accumulated data so that evaluations of current window are
+ * accumulated again.
+ */
+@SuppressWarnings("Duplicates")
+public class StreamingPolynomialEstimator {
+
+    /**
+     * Degree of polynomial to be estimated.
+     */
+    private final int degree;
+
+    /**
+     * Number of parameters of polynomial to be estimated.
+     */
+    private final int numParams;
+
+    /**
+     * Gram matrix (A^T*A) stored in row-major order.
+     */
+    private final double[] gram;
+
+    /**
+     * Right-hand side of normal equations (A^T*b).
+     */
+    private final double[] rhs;
+
+    /**
+     * Row of system of equations being added or removed.
+     */
+    private final double[] row;
+
+    /**
+     * Cholesky factor of Gram matrix computed when solving normal equations.
+     */
+    private final double[] factor;
+
+    /**
+     * Number of accumulated evaluations.
+     */
+    private int numEvaluations;
+
+    /**
+     * Number of accumulated direct or integral evaluations. At least one of
+     * these is required to determine the constant terms of the polynomial.
+     */
+    private int numNonDerivativeEvaluations;
+
+    /**
+     * Constructor for polynomials of minimum degree.
+     */
+    public StreamingPolynomialEstimator() {
+        this(PolynomialEstimator.MIN_DEGREE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param degree degree of polynomial to be estimated.
+     * @throws IllegalArgumentException if provided degree is less than 1.
+     */
+    public StreamingPolynomialEstimator(final int degree) {
+        if (degree < PolynomialEstimator.MIN_DEGREE) {
+            throw new IllegalArgumentException("degree must be at least 1");
+        }
+        this.degree = degree;
+        numParams = degree + 1;
+        gram = new double[numParams * numParams];
+        rhs = new double[numParams];
+        row = new double[numParams];
+        factor = new double[numParams * numParams];
+    }
+
+    /**
+     * Gets degree of polynomial to be estimated.
+     *
+     * @return degree of polynomial to be estimated.
+     */
+    public int getDegree() {
+        return degree;
+    }
+
+    /**
+     * Gets number of currently accumulated evaluations.
+     *
+     * @return number of accumulated evaluations.
+     */
+    public int getNumberOfEvaluations() {
+        return numEvaluations;
+    }
+
+    /**
+     * Gets minimum number of evaluations required to estimate a polynomial.
+     *
+     * @return number of required evaluations.
+     */
+    public int getMinNumberOfEvaluations() {
+        return numParams;
+    }
+
+    /**
+     * Indicates whether enough evaluations have been accumulated to estimate
+     * a polynomial.
+     * At least degree + 1 evaluations are required, and at least one of them
+     * must be a direct or integral evaluation.
+     *
+     * @return true if estimator is ready, false otherwise.
+     */
+    public boolean isReady() {
+        return numEvaluations >= numParams && numNonDerivativeEvaluations >= 1;
+    }
+
+    /**
+     * Discards all accumulated evaluations.
+     */
+    public void reset() {
+        Arrays.fill(gram, 0.0);
+        Arrays.fill(rhs, 0.0);
+        numEvaluations = 0;
+        numNonDerivativeEvaluations = 0;
+    }
+
+    /**
+     * Adds a direct evaluation of the polynomial.
+     *
+     * @param x          point where polynomial has been evaluated.
+     * @param evaluation evaluation of polynomial at point x.
+     */
+    public void addDirectEvaluation(final double x, final double evaluation) {
+        addDirectEvaluation(x, evaluation, 1.0);
+    }
+
+    /**
+     * Adds a direct evaluation of the polynomial having provided weight.
+     *
+     * @param x          point where polynomial has been evaluated.
+     * @param evaluation evaluation of polynomial at point x.
+     * @param weight     weight of evaluation. Must be positive.
+     * @throws IllegalArgumentException if weight is not positive.
+     */
+    public void addDirectEvaluation(final double x, final double evaluation, final double weight) {
+        checkWeight(weight);
+        accumulate(fillDirectRow(x), evaluation, weight);
+        numNonDerivativeEvaluations++;
+    }
+
+    /**
+     * Removes a previously added direct evaluation of the polynomial.
+     *
+     * @param x          point where polynomial has been evaluated.
+     * @param evaluation evaluation of polynomial at point x.
+     * @throws IllegalStateException if no evaluations have been accumulated.
+     */
+    public void removeDirectEvaluation(final double x, final double evaluation) {
+        removeDirectEvaluation(x, evaluation, 1.0);
+    }
+
+    /**
+     * Removes a previously added direct evaluation of the polynomial having
+     * provided weight.
+     *
+     * @param x          point where polynomial has been evaluated.
+     * @param evaluation evaluation of polynomial at point x.
+     * @param weight     weight that evaluation had when it was added.
+     * @throws IllegalArgumentException if weight is not positive.
+     * @throws IllegalStateException    if no evaluations have been accumulated.
+     */
+    public void removeDirectEvaluation(final double x, final double evaluation, final double weight) {
+        checkWeight(weight);
+        checkRemovable(true);
+        accumulate(fillDirectRow(x), evaluation, -weight);
+        numNonDerivativeEvaluations--;
+    }
+
+    /**
+     * Adds an evaluation of a derivative of the polynomial.
+     *
+     * @param x               point where derivative has been evaluated.
+     * @param evaluation      evaluation of derivative at point x.
+     * @param derivativeOrder order of derivative.
+     * @throws IllegalArgumentException if order of derivative is less than 1.
+     */
+    public void addDerivativeEvaluation(final double x, final double evaluation, final int derivativeOrder) {
+        addDerivativeEvaluation(x, evaluation, derivativeOrder, 1.0);
+    }
+
+    /**
+     * Adds an evaluation of a derivative of the polynomial having provided
+     * weight.
+     *
+     * @param x               point where derivative has been evaluated.
+     * @param evaluation      evaluation of derivative at point x.
+     * @param derivativeOrder order of derivative.
+     * @param weight          weight of evaluation. Must be positive.
+     * @throws IllegalArgumentException if order of derivative is less than 1
+     *                                  or if weight is not positive.
+     */
+    public void addDerivativeEvaluation(
+            final double x, final double evaluation, final int derivativeOrder, final double weight) {
+        checkWeight(weight);
+        accumulate(fillDerivativeRow(x, derivativeOrder), evaluation, weight);
+    }
+
+    /**
+     * Removes a previously added evaluation of a derivative of the polynomial.
+     *
+     * @param x               point where derivative has been evaluated.
+     * @param evaluation      evaluation of derivative at point x.
+     * @param derivativeOrder order of derivative.
+     * @throws IllegalArgumentException if order of derivative is less than 1.
+     * @throws IllegalStateException    if no evaluations have been accumulated.
+     */
+    public void removeDerivativeEvaluation(final double x, final double evaluation, final int derivativeOrder) {
+        removeDerivativeEvaluation(x, evaluation, derivativeOrder, 1.0);
+    }
+
+    /**
+     * Removes a previously added evaluation of a derivative of the polynomial
+     * having provided weight.
+     *
+     * @param x               point where derivative has been evaluated.
+     * @param evaluation      evaluation of derivative at point x.
+     * @param derivativeOrder order of derivative.
+     * @param weight          weight that evaluation had when it was added.
+     * @throws IllegalArgumentException if order of derivative is less than 1
+     *                                  or if weight is not positive.
+     * @throws IllegalStateException    if no evaluations have been accumulated.
+     */
+    public void removeDerivativeEvaluation(
+            final double x, final double evaluation, final int derivativeOrder, final double weight) {
+        checkWeight(weight);
+        checkRemovable(false);
+        accumulate(fillDerivativeRow(x, derivativeOrder), evaluation, -weight);
+    }
+
+    /**
+     * Adds a polynomial evaluation of any type.
+     *
+     * @param evaluation polynomial evaluation to be added.
+     * @throws PolynomialEstimationException if constant terms of an integral
+     *                                       evaluation do not have proper size (it must be null or have
+     *                                       integral order length).
+     */
+    public void addEvaluation(final PolynomialEvaluation evaluation) throws PolynomialEstimationException {
+        addEvaluation(evaluation, 1.0);
+    }
+
+    /**
+     * Adds a polynomial evaluation of any type having provided weight.
+     *
+     * @param evaluation polynomial evaluation to be added.
+     * @param weight     weight of evaluation. Must be positive.
+     * @throws IllegalArgumentException      if weight is not positive.
+     * @throws PolynomialEstimationException if constant terms of an integral
+     *                                       evaluation do not have proper size (it must be null or have
+     *                                       integral order length).
+     */
+    public void addEvaluation(final PolynomialEvaluation evaluation, final double weight)
+            throws PolynomialEstimationException {
+        checkWeight(weight);
+        final var value = fillRow(evaluation);
+        accumulate(row, value, weight);
+        if (evaluation.getType() != PolynomialEvaluationType.DERIVATIVE_EVALUATION) {
+            numNonDerivativeEvaluations++;
+        }
+    }
+
+    /**
+     * Removes a previously added polynomial evaluation of any type.
+     * Provided evaluation must contain the same values it had when it was
+     * added.
+     *
+     * @param evaluation polynomial evaluation to be removed.
+     * @throws PolynomialEstimationException if constant terms of an integral
+     *                                       evaluation do not have proper size (it must be null or have
+     *                                       integral order length).
+     * @throws IllegalStateException         if no evaluations of provided type
+     *                                       have been accumulated.
+     */
+    public void removeEvaluation(final PolynomialEvaluation evaluation) throws PolynomialEstimationException {
+        removeEvaluation(evaluation, 1.0);
+    }
+
+    /**
+     * Removes a previously added polynomial evaluation of any type having
+     * provided weight.
+     * Provided evaluation must contain the same values it had when it was
+     * added.
+     *
+     * @param evaluation polynomial evaluation to be removed.
+     * @param weight     weight that evaluation had when it was added.
+     * @throws IllegalArgumentException      if weight is not positive.
+     * @throws PolynomialEstimationException if constant terms of an integral
+     *                                       evaluation do not have proper size (it must be null or have
+     *                                       integral order length).
+     * @throws IllegalStateException         if no evaluations of provided type
+     *                                       have been accumulated.
+     */
+    public void removeEvaluation(final PolynomialEvaluation evaluation, final double weight)
+            throws PolynomialEstimationException {
+        checkWeight(weight);
+        final var nonDerivative = evaluation.getType() != PolynomialEvaluationType.DERIVATIVE_EVALUATION;
+        checkRemovable(nonDerivative);
+        final var value = fillRow(evaluation);
+        accumulate(row, value, -weight);
+        if (nonDerivative) {
+            numNonDerivativeEvaluations--;
+        }
+    }
+
+    /**
+     * Estimates polynomial parameters using currently accumulated evaluations
+     * and stores them into provided array.
+     * This method does not allocate memory.
+     *
+     * @param result array where parameters of estimated polynomial will be
+     *               stored. Must have degree + 1 length.
+     * @throws IllegalArgumentException      if provided array does not have
+     *                                       degree + 1 length.
+     * @throws NotReadyException             if not enough evaluations have been
+     *                                       accumulated.
+     * @throws PolynomialEstimationException if accumulated evaluations do not
+     *                                       determine a unique polynomial (i.e.
+     *                                       evaluations are repeated).
+     */
+    public void estimate(final double[] result) throws NotReadyException, PolynomialEstimationException {
+        if (result.length != numParams) {
+            throw new IllegalArgumentException();
+        }
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+
+        choleskyDecompose();
+
+        // forward substitution L*y = A^T*b
+        for (var i = 0; i < numParams; i++) {
+            var sum = rhs[i];
+            for (var k = 0; k < i; k++) {
+                sum -= factor[i * numParams + k] * result[k];
+            }
+            result[i] = sum / factor[i * numParams + i];
+        }
+
+        // backward substitution L^T*x = y
+        for (var i = numParams - 1; i >= 0; i--) {
+            var sum = result[i];
+            for (var k = i + 1; k < numParams; k++) {
+                sum -= factor[k * numParams + i] * result[k];
+            }
+            result[i] = sum / factor[i * numParams + i];
+        }
+    }
+
+    /**
+     * Estimates a polynomial using currently accumulated evaluations.
+     *
+     * @return estimated polynomial.
+     * @throws NotReadyException             if not enough evaluations have been
+     *                                       accumulated.
+     * @throws PolynomialEstimationException if accumulated evaluations do not
+     *                                       determine a unique polynomial (i.e.
+     *                                       evaluations are repeated).
+     */
+    public Polynomial estimate() throws NotReadyException, PolynomialEstimationException {
+        final var params = new double[numParams];
+        estimate(params);
+        return new Polynomial(params);
+    }
+
+    /**
+     * Computes Cholesky factor of Gram matrix.
+     *
+     * @throws PolynomialEstimationException if Gram matrix is not positive
+     *                                       definite.
+     */
+    private void choleskyDecompose() throws PolynomialEstimationException {
+        // tolerance relative to largest diagonal element of Gram matrix
+        var maxDiagonal = 0.0;
+        for (var i = 0; i < numParams; i++) {
+            maxDiagonal = Math.max(maxDiagonal, gram[i * numParams + i]);
+        }
+        final var tolerance = maxDiagonal * numParams * Math.ulp(1.0);
+
+        for (var j = 0; j < numParams; j++) {
+            var sum = gram[j * numParams + j];
+            for (var k = 0; k < j; k++) {
+                final var value = factor[j * numParams + k];
+                sum -= value * value;
+            }
+            if (sum <= tolerance) {
+                throw new PolynomialEstimationException();
+            }
+            final var diagonal = Math.sqrt(sum);
+            factor[j * numParams + j] = diagonal;
+
+            for (var i = j + 1; i < numParams; i++) {
+                var s = gram[i * numParams + j];
+                for (var k = 0; k < j; k++) {
+                    s -= factor[i * numParams + k] * factor[j * numParams + k];
+                }
+                factor[i * numParams + j] = s / diagonal;
+            }
+        }
+    }
+
+    /**
+     * Adds or subtracts the contribution of current row to normal equations.
+     *
+     * @param a      row of system of equations.
+     * @param b      value of equation.
+     * @param weight weight of equation. Positive to add the equation, negative
+     *               to remove it.
+     */
+    private void accumulate(final double[] a, final double b, final double weight) {
+        // normalize equation in the same way as LMSE estimator does
+        var sqrNorm = b * b;
+        for (var i = 0; i < numParams; i++) {
+            sqrNorm += a[i] * a[i];
+        }
+        // empty equations do not contribute to the solution
+        final var scale = sqrNorm > 0.0 ? weight / sqrNorm : 0.0;
+
+        // only lower triangle is required by Cholesky decomposition
+        for (var i = 0; i < numParams; i++) {
+            final var ai = a[i] * scale;
+            for (var j = 0; j <= i; j++) {
+                gram[i * numParams + j] += ai * a[j];
+            }
+            rhs[i] += ai * b;
+        }
+
+        if (weight > 0.0) {
+            numEvaluations++;
+        } else {
+            numEvaluations--;
+        }
+    }
+
+    /**
+     * Ensures that provided weight is valid.
+     *
+     * @param weight weight to be checked.
+     * @throws IllegalArgumentException if weight is not positive.
+     */
+    private static void checkWeight(final double weight) {
+        if (!(weight > 0.0)) {
+            throw new IllegalArgumentException("weight must be positive");
+        }
+    }
+
+    /**
+     * Ensures that an evaluation can be removed.
+     *
+     * @param nonDerivative true if evaluation to be removed is a direct or
+     *                      integral evaluation.
+     * @throws IllegalStateException if no evaluations of required type have
+     *                               been accumulated.
+     */
+    private void checkRemovable(final boolean nonDerivative) {
+        if (numEvaluations == 0 || (nonDerivative && numNonDerivativeEvaluations == 0)) {
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Fills row of system of equations for provided evaluation.
+     *
+     * @param evaluation a polynomial evaluation.
+     * @return value of equation.
+     * @throws PolynomialEstimationException if constant terms of an integral
+     *                                       evaluation do not have proper size.
+     */
+    private double fillRow(final PolynomialEvaluation evaluation) throws PolynomialEstimationException {
+        switch (evaluation.getType()) {
+            case DERIVATIVE_EVALUATION:
+                final var derivative = (DerivativePolynomialEvaluation) evaluation;
+                fillDerivativeRow(derivative.getX(), derivative.getDerivativeOrder());
+                return derivative.getEvaluation();
+            case INTEGRAL_EVALUATION:
+                return fillIntegralRow((IntegralPolynomialEvaluation) evaluation);
+            case INTEGRAL_INTERVAL:
+                return fillIntegralIntervalRow((IntegralIntervalPolynomialEvaluation) evaluation);
+            case DIRECT_EVALUATION:
+            default:
+                final var direct = (DirectPolynomialEvaluation) evaluation;
+                fillDirectRow(direct.getX());
+                return direct.getEvaluation();
+        }
+    }
+
+    /**
+     * Fills row of system of equations for a direct evaluation.
+     *
+     * @param x point where polynomial has been evaluated.
+     * @return filled row.
+     */
+    private double[] fillDirectRow(final double x) {
+        var powX = 1.0;
+        for (var i = 0; i < numParams; i++) {
+            row[i] = powX;
+            powX *= x;
+        }
+        return row;
+    }
+
+    /**
+     * Fills row of system of equations for a derivative evaluation.
+     *
+     * @param x     point where derivative has been evaluated.
+     * @param order order of derivative.
+     * @return filled row.
+     * @throws IllegalArgumentException if order of derivative is less than 1.
+     */
+    private double[] fillDerivativeRow(final double x, final int order) {
+        if (order < DerivativePolynomialEvaluation.MIN_DERIVATIVE_ORDER) {
+            throw new IllegalArgumentException("derivative order must be at least 1");
+        }
+
+        for (var i = 0; i < order && i < numParams; i++) {
+            row[i] = 0.0;
+        }
+
+        var powX = 1.0;
+        for (var i = order; i < numParams; i++) {
+            var param = i;
+            for (var j = 1; j < order; j++) {
+                param *= i - j;
+            }
+            row[i] = param * powX;
+            powX *= x;
+        }
+        return row;
+    }
+
+    /**
+     * Fills row of system of equations for an integral evaluation.
+     *
+     * @param evaluation an integral polynomial evaluation.
+     * @return value of equation once integration constants are removed.
+     * @throws PolynomialEstimationException if constant terms do not have
+     *                                       proper size.
+     */
+    private double fillIntegralRow(final IntegralPolynomialEvaluation evaluation)
+            throws PolynomialEstimationException {
+        final var order = evaluation.getIntegralOrder();
+        final var constants = evaluation.getConstants();
+        if (constants != null && constants.length != order) {
+            throw new PolynomialEstimationException();
+        }
+
+        var accum = 0.0;
+        var powX = 1.0;
+        final var x = evaluation.getX();
+        for (var i = 0; i < order; i++) {
+            if (constants != null) {
+                var param = 1;
+                for (var k = 1; k <= i; k++) {
+                    param *= k;
+                }
+                accum += constants[i] / param * powX;
+            }
+            powX *= x;
+        }
+
+        for (int i = 0, j = order; i < numParams; i++, j++) {
+            var param = j;
+            for (var k = 1; k < order; k++) {
+                param *= j - k;
+            }
+            row[i] = powX / param;
+            powX *= x;
+        }
+
+        return evaluation.getEvaluation() - accum;
+    }
+
+    /**
+     * Fills row of system of equations for an interval integral evaluation.
+     *
+     * @param evaluation an interval integral polynomial evaluation.
+     * @return value of equation once integration constants are removed.
+     * @throws PolynomialEstimationException if constant terms do not have
+     *                                       proper size.
+     */
+    private double fillIntegralIntervalRow(final IntegralIntervalPolynomialEvaluation evaluation)
+            throws PolynomialEstimationException {
+        final var order = evaluation.getIntegralOrder();
+        final var constants = evaluation.getConstants();
+        if (constants != null && constants.length != order) {
+            throw new PolynomialEstimationException();
+        }
+
+        var accum = 0.0;
+        var powStartX = 1.0;
+        var powEndX = 1.0;
+        final var startX = evaluation.getStartX();
+        final var endX = evaluation.getEndX();
+        for (var i = 0; i < order; i++) {
+            if (constants != null) {
+                var param = 1;
+                for (var k = 1; k <= i; k++) {
+                    param *= k;
+                }
+                accum += constants[i] / param * (powEndX - powStartX);
+            }
+            powStartX *= startX;
+            powEndX *= endX;
+        }
+
+        for (int i = 0, j = order; i < numParams; i++, j++) {
+            var param = j;
+            for (var k = 1; k < order; k++) {
+                param *= j - k;
+            }
+            row[i] = (powEndX - powStartX) / param;
+            powStartX *= startX;
+            powEndX *= endX;
+        }
+
+        return evaluation.getEvaluation() - accum;
+    }
+}
@@ -19,6 +19,9 @@ import java.util.BitSet;
 
 /**
  * Base class defining inlier data for a robust estimator.
+ * Residuals can be kept either with double precision or with float precision
+ * to halve memory usage on large sets of samples. Additionally, inliers and
+ * residuals can be computed lazily, the first time they are requested.
  */
 public abstract class InliersData {
 
@@ -27,11 +30,23 @@ public abstract class InliersData {
      */
     protected double[] residuals;
 
+    /**
+     * Residuals obtained for each sample of data stored with float precision,
+     * or null if residuals are not kept with float precision.
+     */
+    protected float[] floatResiduals;
+
     /**
      * Number of inliers found on current iteration.
      */
     protected int numInliers;
 
+    /**
+     * Computes inliers and residuals the first time they are requested, or
+     * null if they are already available.
+     */
+    protected Runnable lazyInitializer;
+
     /**
      * Returns efficient array indicating which samples are considered inliers
      * and which ones aren't or null if inliers are not kept.
@@ -44,13 +59,33 @@ public abstract class InliersData {
     /**
      * Returns residuals obtained for each sample of data or null if residuals
      * are not kept.
+     * If residuals are kept with float precision, they are converted to
+     * double precision the first time this method is called.
      *
      * @return residuals obtained for each sample of data.
      */
     public double[] getResiduals() {
+        initializeIfNeeded();
+        if (residuals == null && floatResiduals != null) {
+            residuals = new double[floatResiduals.length];
+            for (var i = 0; i < floatResiduals.length; i++) {
+                residuals[i] = floatResiduals[i];
+            }
+        }
         return residuals;
     }
 
+    /**
+     * Returns residuals obtained for each sample of data stored with float
+     * precision, or null if residuals are not kept with float precision.
+     *
+     * @return residuals obtained for each sample of data with float precision.
+     */
+    public float[] getFloatResiduals() {
+        initializeIfNeeded();
+        return floatResiduals;
+    }
+
     /**
      * Returns number of inliers found.
      *
@@ -59,4 +94,29 @@ public abstract class InliersData {
     public int getNumInliers() {
         return numInliers;
     }
+
+    /**
+     * Computes inliers and residuals if they have not been computed yet.
+     */
+    protected void initializeIfNeeded() {
+        if (lazyInitializer != null) {
+            final var initializer = lazyInitializer;
+            lazyInitializer = null;
+            initializer.run();
+        }
+    }
+
+    /**
+     * Stores provided residuals with float precision.
+     *
+     * @param residuals residuals to be stored.
+     */
+    protected void updateFloatResiduals(final double[] residuals) {
+        final var length = Math.min(residuals.length, floatResiduals.length);
+        for (var i = 0; i < length; i++) {
+            floatResiduals[i] = (float) residuals[i];
+        }
+        // discard residuals converted to double precision, if any
+        this.residuals = null;
+    }
 }
@@ -0,0 +1,380 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+/**
+ * Neighbourhood of samples containing the k nearest samples (using euclidean
+ * distance) of each sample.
+ * Neighbours are computed once on construction by means of a k-d tree built on
+ * provided sample coordinates, so that all neighbourhoods are found in
+ * O(n log n) expected time instead of the O(n^2) time required by exhaustive
+ * search.
+ */
+public class KNearestSampleNeighbourhood implements SampleNeighbourhood {
+
+    /**
+     * Default number of neighbours of each sample.
+     */
+    public static final int DEFAULT_NUM_NEIGHBOURS = 20;
+
+    /**
+     * Minimum allowed number of neighbours of each sample.
+     */
+    public static final int MIN_NUM_NEIGHBOURS = 1;
+
+    /**
+     * Coordinates of samples.
+     */
+    private final double[][] points;
+
+    /**
+     * Number of neighbours of each sample.
+     */
+    private final int numNeighbours;
+
+    /**
+     * Indices of neighbours of each sample sorted by increasing distance.
+     */
+    private final int[][] neighbours;
+
+    /**
+     * Indices of samples ordered as nodes of the k-d tree. Node of a range of
+     * positions is located at the middle position of such range.
+     */
+    private final int[] order;
+
+    /**
+     * Dimension used to split each node of the k-d tree, stored at the position
+     * of each node.
+     */
+    private final int[] splitDims;
+
+    /**
+     * Squared distances of neighbours being searched, arranged as a max heap.
+     */
+    private final double[] heapDistances;
+
+    /**
+     * Indices of neighbours being searched, arranged as a max heap.
+     */
+    private final int[] heapIndices;
+
+    /**
+     * Number of neighbours found so far during a search.
+     */
+    private int heapSize;
+
+    /**
+     * Constructor using default number of neighbours.
+     *
+     * @param points coordinates of samples. All samples must have the same
+     *               number of coordinates.
+     * @throws IllegalArgumentException if no samples are provided or if
+     *                                  samples have different dimensions.
+     */
+    public KNearestSampleNeighbourhood(final double[][] points) {
+        this(points, DEFAULT_NUM_NEIGHBOURS);
+    }
+
+    /**
+     * Constructor.
+     * If provided number of neighbours is larger than the number of remaining
+     * samples, then all remaining samples are considered neighbours.
+     *
+     * @param points        coordinates of samples. All samples must have the
+     *                      same number of coordinates.
+     * @param numNeighbours number of neighbours of each sample.
+     * @throws IllegalArgumentException if no samples are provided, if samples
+     *                                  have different dimensions, or if number of neighbours is less than 1.
+     */
+    public KNearestSampleNeighbourhood(final double[][] points, final int numNeighbours) {
+        if (points.length < SubsetSelector.MIN_NUM_SAMPLES || numNeighbours < MIN_NUM_NEIGHBOURS) {
+            throw new IllegalArgumentException();
+        }
+        final var dims = points[0].length;
+        for (final var point : points) {
+            if (point.length != dims || dims == 0) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        final var numSamples = points.length;
+        this.points = points;
+        this.numNeighbours = Math.min(numNeighbours, numSamples - 1);
+
+        order = new int[numSamples];
+        for (var i = 0; i < numSamples; i++) {
+            order[i] = i;
+        }
+        splitDims = new int[numSamples];
+        build(0, numSamples);
+
+        heapDistances = new double[this.numNeighbours];
+        heapIndices = new int[this.numNeighbours];
+        neighbours = new int[numSamples][];
+        for (var i = 0; i < numSamples; i++) {
+            neighbours[i] = findNeighbours(i);
+        }
+    }
+
+    /**
+     * Returns number of neighbours of each sample.
+     *
+     * @return number of neighbours of each sample.
+     */
+    public int getNumNeighbours() {
+        return numNeighbours;
+    }
+
+    /**
+     * Returns total number of samples.
+     *
+     * @return total number of samples.
+     */
+    @Override
+    public int getNumSamples() {
+        return points.length;
+    }
+
+    /**
+     * Returns indices of the k nearest neighbours of sample at provided index
+     * sorted by increasing distance.
+     * Returned array must not be modified.
+     *
+     * @param index index of sample to obtain neighbours for.
+     * @return indices of neighbours of provided sample.
+     */
+    @Override
+    public int[] getNeighbours(final int index) {
+        return neighbours[index];
+    }
+
+    /**
+     * Builds k-d tree node for provided range of positions by splitting it at
+     * its middle position along the dimension having the largest spread.
+     *
+     * @param lo first position of range (inclusive).
+     * @param hi last position of range (exclusive).
+     */
+    private void build(final int lo, final int hi) {
+        if (hi - lo <= 1) {
+            return;
+        }
+
+        // find dimension having the largest spread
+        final var dims = points[0].length;
+        var dim = 0;
+        var maxSpread = -1.0;
+        for (var d = 0; d < dims; d++) {
+            var min = Double.MAX_VALUE;
+            var max = -Double.MAX_VALUE;
+            for (var i = lo; i < hi; i++) {
+                final var value = points[order[i]][d];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if (max - min > maxSpread) {
+                maxSpread = max - min;
+                dim = d;
+            }
+        }
+
+        final var mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, dim);
+        splitDims[mid] = dim;
+
+        build(lo, mid);
+        build(mid + 1, hi);
+    }
+
+    /**
+     * Reorders positions within provided range so that sample at position k
+     * has the k-th smallest coordinate along provided dimension, samples before
+     * it have smaller or equal coordinates and samples after it have greater or
+     * equal coordinates.
+     *
+     * @param lo  first position of range (inclusive).
+     * @param hi  last position of range (inclusive).
+     * @param k   position to be selected.
+     * @param dim dimension to compare coordinates.
+     */
+    private void select(final int lo, final int hi, final int k, final int dim) {
+        var left = lo;
+        var right = hi;
+        while (right > left) {
+            final var pivot = points[order[(left + right) >>> 1]][dim];
+            var i = left;
+            var j = right;
+            while (i <= j) {
+                while (points[order[i]][dim] < pivot) {
+                    i++;
+                }
+                while (points[order[j]][dim] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    final var tmp = order[i];
+                    order[i] = order[j];
+                    order[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Finds nearest neighbours of sample at provided index.
+     *
+     * @param index index of sample to find neighbours for.
+     * @return indices of nearest neighbours sorted by increasing distance.
+     */
+    private int[] findNeighbours(final int index) {
+        heapSize = 0;
+        if (numNeighbours > 0) {
+            search(0, points.length, points[index], index);
+        }
+
+        // extract neighbours from heap from farthest to nearest
+        final var result = new int[heapSize];
+        for (var i = heapSize - 1; i >= 0; i--) {
+            result[i] = heapIndices[0];
+            heapSize--;
+            heapDistances[0] = heapDistances[heapSize];
+            heapIndices[0] = heapIndices[heapSize];
+            siftDown();
+        }
+        return result;
+    }
+
+    /**
+     * Searches nearest neighbours of provided point within k-d tree node of
+     * provided range of positions.
+     *
+     * @param lo    first position of range (inclusive).
+     * @param hi    last position of range (exclusive).
+     * @param query coordinates of point to find neighbours for.
+     * @param self  index of sample to find neighbours for, which is excluded.
+     */
+    private void search(final int lo, final int hi, final double[] query, final int self) {
+        if (lo >= hi) {
+            return;
+        }
+
+        final var mid = (lo + hi) >>> 1;
+        final var index = order[mid];
+        if (index != self) {
+            offer(squaredDistance(query, points[index]), index);
+        }
+        if (hi - lo == 1) {
+            return;
+        }
+
+        final var dim = splitDims[mid];
+        final var diff = query[dim] - points[index][dim];
+        if (diff < 0.0) {
+            search(lo, mid, query, self);
+            if (heapSize < numNeighbours || diff * diff < heapDistances[0]) {
+                search(mid + 1, hi, query, self);
+            }
+        } else {
+            search(mid + 1, hi, query, self);
+            if (heapSize < numNeighbours || diff * diff < heapDistances[0]) {
+                search(lo, mid, query, self);
+            }
+        }
+    }
+
+    /**
+     * Adds provided candidate to the heap of nearest neighbours if the heap is
+     * not full yet or if the candidate is closer than the farthest neighbour.
+     *
+     * @param distance squared distance of candidate.
+     * @param index    index of candidate.
+     */
+    private void offer(final double distance, final int index) {
+        if (heapSize < numNeighbours) {
+            // sift up
+            var i = heapSize++;
+            while (i > 0) {
+                final var parent = (i - 1) >>> 1;
+                if (heapDistances[parent] >= distance) {
+                    break;
+                }
+                heapDistances[i] = heapDistances[parent];
+                heapIndices[i] = heapIndices[parent];
+                i = parent;
+            }
+            heapDistances[i] = distance;
+            heapIndices[i] = index;
+        } else if (distance < heapDistances[0]) {
+            // replace farthest neighbour
+            heapDistances[0] = distance;
+            heapIndices[0] = index;
+            siftDown();
+        }
+    }
+
+    /**
+     * Restores max heap property from the root of the heap.
+     */
+    private void siftDown() {
+        final var distance = heapDistances[0];
+        final var index = heapIndices[0];
+        var i = 0;
+        while (true) {
+            var child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heapDistances[child + 1] > heapDistances[child]) {
+                child++;
+            }
+            if (heapDistances[child] <= distance) {
+                break;
+            }
+            heapDistances[i] = heapDistances[child];
+            heapIndices[i] = heapIndices[child];
+            i = child;
+        }
+        heapDistances[i] = distance;
+        heapIndices[i] = index;
+    }
+
+    /**
+     * Computes squared euclidean distance between provided points.
+     *
+     * @param a first point.
+     * @param b second point.
+     * @return squared distance.
+     */
+    private static double squaredDistance(final double[] a, final double[] b) {
+        var result = 0.0;
+        for (var i = 0; i < a.length; i++) {
+            final var diff = a[i] - b[i];
+            result += diff * diff;
+        }
+        return result;
+    }
+}
@@ -17,7 +17,6 @@ package com.irurueta.numerical.robust;
 
 import com.irurueta.numerical.LockedException;
 import com.irurueta.numerical.NotReadyException;
-import com.irurueta.sorting.Sorter;
 
 import java.util.ArrayList;
 import java.util.BitSet;
@@ -108,6 +107,19 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
      */
     public static final double STD_CONSTANT = 1.4826;
 
+    /**
+     * Indicates that by default median computation is skipped when it can be
+     * proven that median of residuals of a preliminary solution cannot improve
+     * best median found so far.
+     */
+    public static final boolean DEFAULT_MEDIAN_EARLY_STOP_ENABLED = true;
+
+    /**
+     * Indicates that by default inliers data found on an estimation is not
+     * reused by later estimations.
+     */
+    public static final boolean DEFAULT_INLIERS_DATA_REUSE_ENABLED = false;
+
     /**
      * Amount of confidence expressed as a value between 0 and 1.0 (which is
      * equivalent to 100%). The amount of confidence indicates the probability
@@ -160,6 +172,45 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
      */
     private double inlierFactor;
 
+    /**
+     * Indicates whether median computation is skipped when residuals of a
+     * preliminary solution prove that its median cannot be smaller than best
+     * median found so far.
+     */
+    private boolean medianEarlyStopEnabled;
+
+    /**
+     * Indicates whether inliers data found on an estimation can be reused by
+     * later estimations.
+     */
+    private boolean inliersDataReuseEnabled;
+
+    /**
+     * Reusable list that will contain preliminary solutions on each iteration.
+     */
+    private ArrayList<T> iterResults;
+
+    /**
+     * Reusable array containing indices of subset picked in one iteration.
+     */
+    private int[] subsetIndices;
+
+    /**
+     * Reusable array where residuals are copied to compute their median.
+     */
+    private double[] residualsTemp;
+
+    /**
+     * Inliers data that was used as working instance on last estimation and
+     * can be reused on next one.
+     */
+    private LMedSInliersData spareInliersData;
+
+    /**
+     * Best inliers data of last estimation, which is reused on next one when
+     * inliers data reuse is enabled.
+     */
+    private LMedSInliersData recycledInliersData;
 
     /**
      * Constructor.
@@ -173,6 +224,8 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
         bestInliersData = null;
         stopThreshold = DEFAULT_STOP_THRESHOLD;
         inlierFactor = DEFAULT_INLIER_FACTOR;
+        medianEarlyStopEnabled = DEFAULT_MEDIAN_EARLY_STOP_ENABLED;
+        inliersDataReuseEnabled = DEFAULT_INLIERS_DATA_REUSE_ENABLED;
     }
 
     /**
@@ -191,6 +244,8 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
         bestInliersData = null;
         stopThreshold = DEFAULT_STOP_THRESHOLD;
         inlierFactor = DEFAULT_INLIER_FACTOR;
+        medianEarlyStopEnabled = DEFAULT_MEDIAN_EARLY_STOP_ENABLED;
+        inliersDataReuseEnabled = DEFAULT_INLIERS_DATA_REUSE_ENABLED;
     }
 
     /**
@@ -332,6 +387,73 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
         this.inlierFactor = inlierFactor;
     }
 
+    /**
+     * Indicates whether median computation is skipped when residuals of a
+     * preliminary solution prove that its median cannot be smaller than best
+     * median found so far.
+     * Such preliminary solutions can never become the best solution, hence
+     * enabling this option does not change the estimated result, but saves
+     * the cost of computing their median.
+     *
+     * @return true if median computation is skipped when it cannot improve
+     * best median, false otherwise.
+     */
+    public boolean isMedianEarlyStopEnabled() {
+        return medianEarlyStopEnabled;
+    }
+
+    /**
+     * Specifies whether median computation is skipped when residuals of a
+     * preliminary solution prove that its median cannot be smaller than best
+     * median found so far.
+     * Such preliminary solutions can never become the best solution, hence
+     * enabling this option does not change the estimated result, but saves
+     * the cost of computing their median.
+     *
+     * @param medianEarlyStopEnabled true if median computation is skipped when
+     *                               it cannot improve best median, false otherwise.
+     * @throws LockedException if this estimator is locked because an estimation
+     *                         is being computed.
+     */
+    public void setMedianEarlyStopEnabled(final boolean medianEarlyStopEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+
+        this.medianEarlyStopEnabled = medianEarlyStopEnabled;
+    }
+
+    /**
+     * Indicates whether inliers data found on an estimation can be reused by
+     * later estimations.
+     * When enabled, repeated estimations on data having the same number of
+     * samples do not allocate memory, however inliers data returned by an
+     * estimation gets overwritten by next estimation.
+     *
+     * @return true if inliers data is reused, false otherwise.
+     */
+    public boolean isInliersDataReuseEnabled() {
+        return inliersDataReuseEnabled;
+    }
+
+    /**
+     * Specifies whether inliers data found on an estimation can be reused by
+     * later estimations.
+     * When enabled, repeated estimations on data having the same number of
+     * samples do not allocate memory, however inliers data returned by an
+     * estimation gets overwritten by next estimation.
+     *
+     * @param inliersDataReuseEnabled true if inliers data is reused, false
+     *                                otherwise.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setInliersDataReuseEnabled(final boolean inliersDataReuseEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.inliersDataReuseEnabled = inliersDataReuseEnabled;
+    }
+
     /**
      * Returns number of iterations to be done to obtain required confidence.
      *
@@ -359,6 +481,35 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
         return bestInliersData;
     }
 
+    /**
+     * Returns instance in charge of picking random subsets of samples.
+     * If no subset selector has been provided, a uniform random subset selector
+     * is created on first estimation.
+     *
+     * @return instance in charge of picking random subsets of samples.
+     */
+    public SubsetSelector getSubsetSelector() {
+        return subsetSelector;
+    }
+
+    /**
+     * Sets instance in charge of picking random subsets of samples.
+     * Guided subset selectors (i.e. {@link NAPSACSubsetSelector}) can be
+     * provided to reduce the number of required iterations when inliers are
+     * spatially close to each other. If null is provided, a uniform random
+     * subset selector is created on next estimation.
+     *
+     * @param subsetSelector instance in charge of picking random subsets of
+     *                       samples.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setSubsetSelector(final SubsetSelector subsetSelector) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.subsetSelector = subsetSelector;
+    }
+
     /**
      * Indicates if estimator is ready to start the estimation process.
      *
@@ -405,17 +556,15 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
             iters = Integer.MAX_VALUE;
             int newNIters;
             var currentIter = 0;
-            // reusable list that will contain preliminary solutions on each
-            // iteration
-            final var iterResults = new ArrayList<T>();
+            // reuse list that will contain preliminary solutions on each
+            // iteration, as well as indices of subset picked in one iteration
+            // and temporal residuals
+            prepareWorkspace(totalSamples, subsetSize);
             bestResult = null; // best result found so far
             // progress and previous progress to determine when progress
             // notification must occur
             var previousProgress = 0.0f;
             float progress;
-            // indices of subset picked in one iteration
-            final var subsetIndices = new int[subsetSize];
-            final var residualsTemp = new double[totalSamples];
             // indicates if result improved
             boolean improved;
             // indicates whether algorithm must continue iterating
@@ -430,9 +579,10 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
             }
 
             // data related to inliers
-            var inliersData = new LMedSInliersData(totalSamples);
-            // sorter to compute medians
-            final var sorter = Sorter.<Double>create();
+            var inliersData = obtainInliersData(totalSamples);
+            // data of best solution found on this estimation, which is reused
+            // once a better solution is found instead of allocating new data
+            LMedSInliersData currentBestInliersData = null;
 
             while (continueIteration) {
                 // generate a random subset of samples
@@ -443,11 +593,14 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
                 // compute solution for current iteration
                 listener.estimatePreliminarSolutions(subsetIndices, iterResults);
 
-                // iterate over all solutions that have been found
+                // iterate over all solutions that have been found, using an
+                // index to avoid creating an iterator on each iteration
                 improved = false;
-                for (final var iterResult : iterResults) {
+                for (var k = 0; k < iterResults.size(); k++) {
+                    final var iterResult = iterResults.get(k);
                     // compute inliers
-                    computeInliers(iterResult, subsetSize, inlierFactor, residualsTemp, listener, sorter, inliersData);
+                    computeInliers(iterResult, subsetSize, inlierFactor, residualsTemp, listener,
+                            medianEarlyStopEnabled, inliersData);
 
                     // save solution that produces the best residual
                     if (inliersData.isMedianResidualImproved()) {
@@ -487,16 +640,19 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
 
                         threshold = inliersData.getEstimatedThreshold();
 
-                        // create new inliers data instance until a new best
+                        // reuse inliers data of previous best solution (double
+                        // buffering) or create a new instance until a new best
                         // solution is found
                         final var bestMedianResidual = inliersData.getBestMedianResidual();
-                        inliersData = new LMedSInliersData(totalSamples);
+                        final var previousBestInliersData = currentBestInliersData;
+                        currentBestInliersData = inliersData;
+                        inliersData = previousBestInliersData != null ? previousBestInliersData
+                                : obtainInliersData(totalSamples);
                         // update the best median residual on new instance so
                         // that only better solutions that are found later
                         // can update inliers data
-                        inliersData.update(bestMedianResidual, inliersData.getStandardDeviation(),
-                                inliersData.getInliers(), inliersData.getResiduals(), inliersData.getNumInliers(),
-                                inliersData.getEstimatedThreshold(), false);
+                        inliersData.update(bestMedianResidual, Double.MAX_VALUE, inliersData.getInliers(),
+                                inliersData.getResiduals(), 0, Double.MAX_VALUE, false);
                     }
                 }
 
@@ -518,6 +674,10 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
                 listener.onEstimateNextIteration(this, currentIter);
             }
 
+            // working inliers data is not referenced by best result, hence it
+            // can be reused on next estimation
+            spareInliersData = inliersData;
+
             // no solution could be found after completing all iterations
             if (bestResult == null) {
                 throw new RobustEstimatorException();
@@ -533,6 +693,21 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
         }
     }
 
+    /**
+     * Releases working buffers that are kept between estimations.
+     *
+     * @throws LockedException if robust estimator is locked.
+     */
+    @Override
+    public void releaseWorkspace() throws LockedException {
+        super.releaseWorkspace();
+        iterResults = null;
+        subsetIndices = null;
+        residualsTemp = null;
+        spareInliersData = null;
+        recycledInliersData = null;
+    }
+
     /**
      * Returns data about inliers once estimation has been done.
      *
@@ -553,23 +728,77 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
         return RobustEstimatorMethod.LMEDS;
     }
 
+    /**
+     * Initializes working buffers to be used on an estimation, reusing the ones
+     * of previous estimations when their size matches.
+     *
+     * @param totalSamples total number of samples.
+     * @param subsetSize   subset sample size to be picked on each iteration.
+     */
+    private void prepareWorkspace(final int totalSamples, final int subsetSize) {
+        if (iterResults == null) {
+            iterResults = new ArrayList<>();
+        }
+        if (subsetIndices == null || subsetIndices.length != subsetSize) {
+            subsetIndices = new int[subsetSize];
+        }
+        if (residualsTemp == null || residualsTemp.length != totalSamples) {
+            residualsTemp = new double[totalSamples];
+        }
+        if (inliersDataReuseEnabled && bestInliersData != null) {
+            // inliers data of previous estimation will be overwritten
+            recycledInliersData = bestInliersData;
+            bestInliersData = null;
+        }
+    }
+
+    /**
+     * Obtains an instance of inliers data to be used on current estimation.
+     * The spare instance of previous estimation, or the best inliers data of
+     * previous estimation if reuse is enabled, is reset and returned when its
+     * size matches. Otherwise, a new instance is created.
+     *
+     * @param totalSamples total number of samples.
+     * @return inliers data to be used on current estimation.
+     */
+    private LMedSInliersData obtainInliersData(final int totalSamples) {
+        LMedSInliersData result = null;
+        if (spareInliersData != null) {
+            result = spareInliersData;
+            spareInliersData = null;
+        } else if (recycledInliersData != null) {
+            result = recycledInliersData;
+            recycledInliersData = null;
+        }
+
+        if (result == null || result.getResiduals().length != totalSamples) {
+            return new LMedSInliersData(totalSamples);
+        }
+
+        result.update(Double.MAX_VALUE, Double.MAX_VALUE, result.getInliers(), result.getResiduals(), 0,
+                Double.MAX_VALUE, false);
+        return result;
+    }
+
     /**
      * Computes inliers data for current iteration.
      *
-     * @param <T>           type of result to be estimated.
-     * @param iterResult    result to be tested on current iteration.
-     * @param subsetSize    subset sample size to be picked on each iteration.
-     * @param inlierFactor  factor to adjust threshold to determine whether
-     *                      samples are inliers or not.
-     * @param residualsTemp temporal array to store residuals, since median
-     *                      computation requires modifying the original array.
-     * @param listener      listener to obtain residuals for samples.
-     * @param sorter        sorter instance to compute median of residuals.
-     * @param inliersData   inliers data to be reused on each iteration.
+     * @param <T>                    type of result to be estimated.
+     * @param iterResult             result to be tested on current iteration.
+     * @param subsetSize             subset sample size to be picked on each iteration.
+     * @param inlierFactor           factor to adjust threshold to determine whether
+     *                               samples are inliers or not.
+     * @param residualsTemp          temporal array to store residuals, since median
+     *                               computation requires modifying the original array.
+     * @param listener               listener to obtain residuals for samples.
+     * @param medianEarlyStopEnabled true to skip median computation when median
+     *                               cannot improve best median found so far.
+     * @param inliersData            inliers data to be reused on each iteration.
      */
     private static <T> void computeInliers(
             final T iterResult, final int subsetSize, final double inlierFactor, final double[] residualsTemp,
-            final LMedSRobustEstimatorListener<T> listener, final Sorter<Double> sorter, LMedSInliersData inliersData) {
+            final LMedSRobustEstimatorListener<T> listener, final boolean medianEarlyStopEnabled,
+            final LMedSInliersData inliersData) {
 
         final var residuals = inliersData.getResiduals();
         final var inliers = inliersData.getInliers();
@@ -578,11 +807,18 @@ public class LMedSRobustEstimator<T> extends RobustEstimator<T> {
 
         final var totalSamples = residuals.length;
 
+        listener.computeResiduals(iterResult, 0, totalSamples, residuals);
         for (var i = 0; i < totalSamples; i++) {
-            residuals[i] = Math.abs(listener.computeResidual(iterResult, i));
+            residuals[i] = Math.abs(residuals[i]);
         }
-        System.arraycopy(residuals, 0, residualsTemp, 0, residuals.length);
-        final var medianResidual = sorter.median(residualsTemp);
+
+        if (medianEarlyStopEnabled && !MedianSelector.canBeBelow(residuals, totalSamples, bestMedianResidual)) {
+            // median cannot improve, hence current solution is discarded
+            return;
+        }
+
+        System.arraycopy(residuals, 0, residualsTemp, 0, totalSamples);
+        final var medianResidual = MedianSelector.median(residualsTemp, totalSamples);
         if (medianResidual < bestMedianResidual) {
             bestMedianResidual = medianResidual;
             medianResidualImproved = true;
@@ -62,4 +62,26 @@ public interface LMedSRobustEstimatorListener<T>
      * @return residual for i-th sample.
      */
     double computeResidual(final T currentEstimation, final int i);
+
+    /**
+     * Computes residuals for samples located between provided positions using
+     * estimation on current iteration.
+     * Residual of i-th sample is stored at i-th position of provided array.
+     * By default, this method calls {@link #computeResidual(Object, int)} for
+     * each sample. Implementations can override this method to amortize
+     * per-estimation setup and compute all residuals within a tight loop.
+     *
+     * @param currentEstimation a preliminar estimation that has been found for
+     *                          current iteration.
+     * @param from              position of first sample to be checked (inclusive).
+     * @param to                position of last sample to be checked (exclusive).
+     * @param residuals         array where residuals will be stored. Must have at
+     *                          least length equal to {@code to}.
+     */
+    default void computeResiduals(final T currentEstimation, final int from, final int to,
+                                  final double[] residuals) {
+        for (var i = from; i < to; i++) {
+            residuals[i] = computeResidual(currentEstimation, i);
+        }
+    }
 }
@@ -0,0 +1,848 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.numerical.LockedException;
+import com.irurueta.numerical.NotReadyException;
+import com.irurueta.statistics.MaxIterationsExceededException;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+
+/**
+ * This class implements MAGSAC++ algorithm to robustly estimate a data model.
+ * Contrary to RANSAC, where samples are classified as inliers or outliers using
+ * a fixed threshold that must be tuned for each dataset, MAGSAC++ scores each
+ * preliminary solution using σ-consensus, which marginalizes the quality of
+ * the solution over all noise scales between zero and a maximum noise scale.
+ * Consequently, only a loose upper bound of the noise scale needs to be
+ * provided, and obtained results are much less sensitive to its value.
+ * The loss of each residual is obtained from a precomputed lookup table of the
+ * incomplete gamma functions involved in σ-consensus, so that scoring does not
+ * require any allocation and is nearly as fast as RANSAC scoring.
+ * Additionally, every time a new best solution is found, it can be refined
+ * (σ-consensus++) by means of iteratively re-weighted least squares, where
+ * weights of samples are also obtained by marginalizing over noise scales, if
+ * the listener implements weighted refinement.
+ * The number of iterations is adapted using the number of samples whose
+ * residual is below the largest residual that can be considered an inlier
+ * for the maximum noise scale.
+ * <p>
+ * This implementation is based on:
+ * Barath, D., Noskova, J., Ivashechkin, M., Matas, J. "MAGSAC++, a fast,
+ * reliable and accurate robust estimator". CVPR 2020.
+ *
+ * @param <T> type of object to be estimated.
+ */
+@SuppressWarnings("DuplicatedCode")
+public class MAGSACRobustEstimator<T> extends RobustEstimator<T> {
+
+    /**
+     * Constant defining default confidence of the estimated result, which is
+     * 99%. This means that with a probability of 99% estimation will be
+     * accurate because chosen sub-samples will be inliers.
+     */
+    public static final double DEFAULT_CONFIDENCE = 0.99;
+
+    /**
+     * Default maximum allowed number of iterations.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 5000;
+
+    /**
+     * Minimum allowed confidence value.
+     */
+    public static final double MIN_CONFIDENCE = 0.0;
+
+    /**
+     * Maximum allowed confidence value.
+     */
+    public static final double MAX_CONFIDENCE = 1.0;
+
+    /**
+     * Minimum allowed number of iterations.
+     */
+    public static final int MIN_ITERATIONS = 1;
+
+    /**
+     * Minimum allowed maximum noise scale.
+     */
+    public static final double MIN_MAX_SIGMA = 0.0;
+
+    /**
+     * Default degrees of freedom of residuals. By default, residuals are
+     * assumed to be scalar distances.
+     */
+    public static final int DEFAULT_DEGREES_OF_FREEDOM = 1;
+
+    /**
+     * Minimum allowed degrees of freedom of residuals.
+     */
+    public static final int MIN_DEGREES_OF_FREEDOM = 1;
+
+    /**
+     * Indicates that by default σ-consensus refinement is enabled. Refinement
+     * only takes place if listener implements weighted refinement.
+     */
+    public static final boolean DEFAULT_REFINEMENT_ENABLED = true;
+
+    /**
+     * Default maximum number of iterations of σ-consensus refinement done
+     * every time a new best solution is found.
+     */
+    public static final int DEFAULT_REFINEMENT_ITERATIONS = 5;
+
+    /**
+     * Minimum allowed number of iterations of σ-consensus refinement.
+     */
+    public static final int MIN_REFINEMENT_ITERATIONS = 1;
+
+    /**
+     * Indicates that by default inliers will only be computed but not kept.
+     */
+    public static final boolean DEFAULT_COMPUTE_AND_KEEP_INLIERS = false;
+
+    /**
+     * Indicates that by default residuals will only be computed but not kept.
+     */
+    public static final boolean DEFAULT_COMPUTE_AND_KEEP_RESIDUALS = false;
+
+    /**
+     * Number of samples whose residuals are computed at once while scoring a
+     * solution. Score is checked against the best one after each chunk, so
+     * that residuals of remaining samples are not computed once a solution
+     * cannot improve the best one.
+     */
+    private static final int SCORING_CHUNK_SIZE = 256;
+
+    /**
+     * Amount of confidence expressed as a value between 0 and 1.0 (which is
+     * equivalent to 100%). The amount of confidence indicates the probability
+     * that the estimated result is correct. Usually this value will be close
+     * to 1.0, but not exactly 1.0.
+     */
+    private double confidence;
+
+    /**
+     * Maximum allowed number of iterations.
+     */
+    private int maxIterations;
+
+    /**
+     * Degrees of freedom of residuals.
+     */
+    private int degreesOfFreedom;
+
+    /**
+     * Indicates whether σ-consensus refinement is enabled.
+     */
+    private boolean refinementEnabled;
+
+    /**
+     * Maximum number of iterations of σ-consensus refinement.
+     */
+    private int refinementIterations;
+
+    /**
+     * Instance in charge of picking random subsets of samples.
+     */
+    private SubsetSelector subsetSelector;
+
+    /**
+     * Lookup table of losses and weights. It is reused among estimations as
+     * long as degrees of freedom do not change.
+     */
+    private SigmaConsensusTable table;
+
+    /**
+     * Number of iterations to be done to obtain required confidence.
+     */
+    private int nIters;
+
+    /**
+     * Best solution that has been found so far during an estimation.
+     */
+    private T bestResult;
+
+    /**
+     * Score of best solution, which is the sum of normalized losses of all
+     * samples. The smaller the score, the better the solution.
+     */
+    private double bestScore;
+
+    /**
+     * Data related to inliers found for best result.
+     */
+    private MAGSACInliersData bestInliersData;
+
+    /**
+     * Indicates whether inliers must be computed and kept.
+     */
+    private boolean computeAndKeepInliers;
+
+    /**
+     * Indicates whether residuals must be computed and kept.
+     */
+    private boolean computeAndKeepResiduals;
+
+    /**
+     * Constructor.
+     */
+    public MAGSACRobustEstimator() {
+        super();
+        confidence = DEFAULT_CONFIDENCE;
+        maxIterations = DEFAULT_MAX_ITERATIONS;
+        degreesOfFreedom = DEFAULT_DEGREES_OF_FREEDOM;
+        refinementEnabled = DEFAULT_REFINEMENT_ENABLED;
+        refinementIterations = DEFAULT_REFINEMENT_ITERATIONS;
+        nIters = maxIterations;
+        bestResult = null;
+        bestScore = Double.MAX_VALUE;
+        bestInliersData = null;
+        computeAndKeepInliers = DEFAULT_COMPUTE_AND_KEEP_INLIERS;
+        computeAndKeepResiduals = DEFAULT_COMPUTE_AND_KEEP_RESIDUALS;
+    }
+
+    /**
+     * Constructor with listener.
+     *
+     * @param listener listener to be notified of events such as when estimation
+     *                 starts, ends or its progress significantly changes, as well as in charge
+     *                 of picking samples and doing per-iteration estimations.
+     */
+    public MAGSACRobustEstimator(final MAGSACRobustEstimatorListener<T> listener) {
+        super(listener);
+        confidence = DEFAULT_CONFIDENCE;
+        maxIterations = DEFAULT_MAX_ITERATIONS;
+        degreesOfFreedom = DEFAULT_DEGREES_OF_FREEDOM;
+        refinementEnabled = DEFAULT_REFINEMENT_ENABLED;
+        refinementIterations = DEFAULT_REFINEMENT_ITERATIONS;
+        nIters = maxIterations;
+        bestResult = null;
+        bestScore = Double.MAX_VALUE;
+        bestInliersData = null;
+        computeAndKeepInliers = DEFAULT_COMPUTE_AND_KEEP_INLIERS;
+        computeAndKeepResiduals = DEFAULT_COMPUTE_AND_KEEP_RESIDUALS;
+    }
+
+    /**
+     * Returns amount of confidence expressed as a value between 0 and 1.0
+     * (which is equivalent to 100%). The amount of confidence indicates the
+     * probability that the estimated result is correct. Usually this value will
+     * be close to 1.0, but not exactly 1.0.
+     *
+     * @return amount of confidence as a value between 0.0 and 1.0.
+     */
+    public double getConfidence() {
+        return confidence;
+    }
+
+    /**
+     * Sets amount of confidence expressed as a value between 0 and 1.0 (which
+     * is equivalent to 100%). The amount of confidence indicates the
+     * probability that the estimated result is correct. Usually this value will
+     * be close to 1.0, but not exactly 1.0.
+     *
+     * @param confidence confidence to be set as a value between 0.0 and 1.0.
+     * @throws IllegalArgumentException if provided value is not between 0.0 and
+     *                                  1.0.
+     * @throws LockedException          if this estimator is locked because an estimation
+     *                                  is being computed.
+     */
+    public void setConfidence(final double confidence) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (confidence < MIN_CONFIDENCE || confidence > MAX_CONFIDENCE) {
+            throw new IllegalArgumentException();
+        }
+        this.confidence = confidence;
+    }
+
+    /**
+     * Maximum allowed number of iterations. When the maximum number of
+     * iterations is exceeded, result will not be available, however an
+     * approximate result will be available for retrieval.
+     *
+     * @return maximum allowed number of iterations.
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Sets maximum allowed number of iterations. When the maximum number of
+     * iterations is exceeded, result will not be available, however an
+     * approximate result will be available for retrieval.
+     *
+     * @param maxIterations maximum allowed number of iterations to be set.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if this estimator is locked because an estimation
+     *                                  is being computed.
+     */
+    public void setMaxIterations(final int maxIterations) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (maxIterations < MIN_ITERATIONS) {
+            throw new IllegalArgumentException();
+        }
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Returns degrees of freedom of residuals. Residuals are assumed to follow
+     * a chi distribution with this number of degrees of freedom (i.e. 1 for
+     * scalar distances, 2 for distances between 2D points, etc.).
+     *
+     * @return degrees of freedom of residuals.
+     */
+    public int getDegreesOfFreedom() {
+        return degreesOfFreedom;
+    }
+
+    /**
+     * Sets degrees of freedom of residuals. Residuals are assumed to follow
+     * a chi distribution with this number of degrees of freedom (i.e. 1 for
+     * scalar distances, 2 for distances between 2D points, etc.).
+     *
+     * @param degreesOfFreedom degrees of freedom of residuals.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if this estimator is locked because an estimation
+     *                                  is being computed.
+     */
+    public void setDegreesOfFreedom(final int degreesOfFreedom) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (degreesOfFreedom < MIN_DEGREES_OF_FREEDOM) {
+            throw new IllegalArgumentException();
+        }
+        this.degreesOfFreedom = degreesOfFreedom;
+    }
+
+    /**
+     * Indicates whether σ-consensus refinement is enabled. When enabled, every
+     * time a new best solution is found, it is refined using weighted samples
+     * by means of {@link MAGSACRobustEstimatorListener#refine(Object, double[])}.
+     *
+     * @return true if σ-consensus refinement is enabled, false otherwise.
+     */
+    public boolean isRefinementEnabled() {
+        return refinementEnabled;
+    }
+
+    /**
+     * Specifies whether σ-consensus refinement is enabled. When enabled, every
+     * time a new best solution is found, it is refined using weighted samples
+     * by means of {@link MAGSACRobustEstimatorListener#refine(Object, double[])}.
+     *
+     * @param refinementEnabled true to enable σ-consensus refinement, false
+     *                          otherwise.
+     * @throws LockedException if this estimator is locked because an estimation
+     *                         is being computed.
+     */
+    public void setRefinementEnabled(final boolean refinementEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.refinementEnabled = refinementEnabled;
+    }
+
+    /**
+     * Returns maximum number of iterations of σ-consensus refinement done
+     * every time a new best solution is found. Refinement stops earlier if a
+     * refined solution does not improve the score.
+     *
+     * @return maximum number of iterations of σ-consensus refinement.
+     */
+    public int getRefinementIterations() {
+        return refinementIterations;
+    }
+
+    /**
+     * Sets maximum number of iterations of σ-consensus refinement done every
+     * time a new best solution is found. Refinement stops earlier if a refined
+     * solution does not improve the score.
+     *
+     * @param refinementIterations maximum number of iterations of σ-consensus
+     *                             refinement.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if this estimator is locked because an estimation
+     *                                  is being computed.
+     */
+    public void setRefinementIterations(final int refinementIterations) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (refinementIterations < MIN_REFINEMENT_ITERATIONS) {
+            throw new IllegalArgumentException();
+        }
+        this.refinementIterations = refinementIterations;
+    }
+
+    /**
+     * Returns number of iterations to be done to obtain required confidence.
+     *
+     * @return number of iterations to be done to obtain required confidence.
+     */
+    public int getNIters() {
+        return nIters;
+    }
+
+    /**
+     * Returns best solution that has been found so far during an estimation.
+     *
+     * @return best solution that has been found so far during an estimation.
+     */
+    public T getBestResult() {
+        return bestResult;
+    }
+
+    /**
+     * Returns score of best solution, which is the sum of normalized losses of
+     * all samples, where each loss is between 0.0 for a zero residual and 1.0
+     * for outliers. The smaller the score, the better the solution.
+     *
+     * @return score of best solution.
+     */
+    public double getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * Gets data related to inliers found for best result.
+     *
+     * @return data related to inliers found for best result.
+     */
+    public MAGSACInliersData getBestInliersData() {
+        return bestInliersData;
+    }
+
+    /**
+     * Indicates whether inliers must be computed and kept.
+     *
+     * @return true if inliers must be computed and kept, false if inliers
+     * only need to be computed but not kept.
+     */
+    public boolean isComputeAndKeepInliersEnabled() {
+        return computeAndKeepInliers;
+    }
+
+    /**
+     * Specifies whether inliers must be computed and kept.
+     *
+     * @param computeAndKeepInliers true if inliers must be computed and kept,
+     *                              false if inliers only need to be computed but not kept.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setComputeAndKeepInliersEnabled(final boolean computeAndKeepInliers) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.computeAndKeepInliers = computeAndKeepInliers;
+    }
+
+    /**
+     * Indicates whether residuals must be computed and kept.
+     *
+     * @return true if residuals must be computed and kept, false if residuals
+     * only need to be computed but not kept.
+     */
+    public boolean isComputeAndKeepResidualsEnabled() {
+        return computeAndKeepResiduals;
+    }
+
+    /**
+     * Specifies whether residuals must be computed and kept.
+     *
+     * @param computeAndKeepResiduals true if residuals must be computed and
+     *                                kept, false if residuals only need to be computed but not kept.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setComputeAndKeepResidualsEnabled(final boolean computeAndKeepResiduals) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.computeAndKeepResiduals = computeAndKeepResiduals;
+    }
+
+    /**
+     * Returns instance in charge of picking random subsets of samples.
+     * If no subset selector has been provided, a uniform random subset selector
+     * is created on first estimation.
+     *
+     * @return instance in charge of picking random subsets of samples.
+     */
+    public SubsetSelector getSubsetSelector() {
+        return subsetSelector;
+    }
+
+    /**
+     * Sets instance in charge of picking random subsets of samples.
+     * Guided subset selectors (i.e. {@link NAPSACSubsetSelector}) can be
+     * provided to reduce the number of required iterations when inliers are
+     * spatially close to each other. If null is provided, a uniform random
+     * subset selector is created on next estimation.
+     *
+     * @param subsetSelector instance in charge of picking random subsets of
+     *                       samples.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setSubsetSelector(final SubsetSelector subsetSelector) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.subsetSelector = subsetSelector;
+    }
+
+    /**
+     * Indicates if estimator is ready to start the estimation process.
+     *
+     * @return true if ready, false otherwise.
+     */
+    @Override
+    public boolean isReady() {
+        if (!super.isReady()) {
+            return false;
+        }
+        return (listener instanceof MAGSACRobustEstimatorListener);
+    }
+
+    /**
+     * Robustly estimates an instance of T.
+     *
+     * @return estimated object.
+     * @throws LockedException          if robust estimator is locked.
+     * @throws NotReadyException        if provided input data is not enough to start
+     *                                  the estimation.
+     * @throws RobustEstimatorException if estimation fails for any reason
+     *                                  (i.e. numerical instability, no solution available, etc).
+     */
+    @Override
+    public T estimate() throws LockedException, NotReadyException, RobustEstimatorException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+
+        try {
+            final var listener = (MAGSACRobustEstimatorListener<T>) this.listener;
+
+            locked = true;
+
+            listener.onEstimateStart(this);
+
+            final var totalSamples = listener.getTotalSamples();
+            final var subsetSize = listener.getSubsetSize();
+            final var maxSigma = listener.getMaxSigma();
+            // only positive maximum noise scales are allowed
+            if (maxSigma <= MIN_MAX_SIGMA) {
+                throw new RobustEstimatorException();
+            }
+
+            if (table == null || table.getDegreesOfFreedom() != degreesOfFreedom) {
+                table = new SigmaConsensusTable(degreesOfFreedom);
+            }
+            final var scale = table.getScale(maxSigma);
+
+            var bestNumInliers = 0;
+            nIters = Integer.MAX_VALUE;
+            int newNIters;
+            var currentIter = 0;
+            // reusable list that will contain preliminary solutions on each
+            // iteration
+            final var iterResults = new ArrayList<T>();
+            bestResult = null;
+            bestScore = Double.MAX_VALUE;
+            bestInliersData = null;
+            var previousProgress = 0.0f;
+            float progress;
+            final var subsetIndices = new int[subsetSize];
+            final var residuals = new double[totalSamples];
+            final var weights = refinementEnabled ? new double[totalSamples] : null;
+            final var counter = new int[1];
+
+            if (subsetSelector == null) {
+                // create new subset selector
+                subsetSelector = SubsetSelector.create(totalSamples);
+            } else {
+                // set number of samples to current subset selector
+                subsetSelector.setNumSamples(totalSamples);
+            }
+
+            while ((nIters > currentIter) && (currentIter < maxIterations)) {
+                // generate a random subset of samples
+                subsetSelector.computeRandomSubsets(subsetSize, subsetIndices);
+
+                // clear list of preliminary solutions before calling listener
+                iterResults.clear();
+                // compute solution for current iteration
+                listener.estimatePreliminarSolutions(subsetIndices, iterResults);
+
+                for (final var iterResult : iterResults) {
+                    // score solution, stopping as soon as it cannot improve
+                    // best one
+                    final var score = computeScore(iterResult, listener, totalSamples, scale, bestScore, residuals,
+                            counter);
+                    if (score >= bestScore) {
+                        continue;
+                    }
+
+                    bestScore = score;
+                    bestResult = iterResult;
+                    bestNumInliers = counter[0];
+
+                    if (refinementEnabled) {
+                        // σ-consensus refinement using iteratively re-weighted
+                        // least squares. Residuals of best solution are kept
+                        // in residuals array at this point
+                        for (var i = 0; i < refinementIterations; i++) {
+                            computeWeights(residuals, totalSamples, scale, weights);
+                            final var refined = listener.refine(bestResult, weights);
+                            if (refined == null) {
+                                break;
+                            }
+
+                            final var refinedScore = computeScore(refined, listener, totalSamples, scale,
+                                    bestScore, residuals, counter);
+                            if (refinedScore >= bestScore) {
+                                break;
+                            }
+                            bestScore = refinedScore;
+                            bestResult = refined;
+                            bestNumInliers = counter[0];
+                        }
+                    }
+
+                    // recompute number of times the algorithm needs to be
+                    // executed depending on current number of inliers to
+                    // achieve with probability mConfidence that we have
+                    // inliers and probability 1 - mConfidence that we have
+                    // outliers
+                    newNIters = computeIterations(bestNumInliers, totalSamples, subsetSize);
+                    if (newNIters < nIters) {
+                        nIters = newNIters;
+                    }
+                }
+
+                if (nIters > 0) {
+                    progress = Math.min((float) currentIter / (float) nIters, 1.0f);
+                } else {
+                    progress = 1.0f;
+                }
+                if (progress - previousProgress > progressDelta) {
+                    previousProgress = progress;
+                    listener.onEstimateProgressChange(this, progress);
+                }
+                currentIter++;
+
+                listener.onEstimateNextIteration(this, currentIter);
+            }
+
+            // no solution could be found after completing all iterations
+            if (bestResult == null) {
+                throw new RobustEstimatorException();
+            }
+
+            if (computeAndKeepInliers || computeAndKeepResiduals) {
+                bestInliersData = computeInliersData(bestResult, listener, totalSamples, scale);
+            }
+
+            listener.onEstimateEnd(this);
+
+            return bestResult;
+        } catch (final SubsetSelectorException | MaxIterationsExceededException e) {
+            throw new RobustEstimatorException(e);
+        } finally {
+            locked = false;
+        }
+    }
+
+    /**
+     * Returns data about inliers once estimation has been done.
+     *
+     * @return data about inliers or null if estimation has not been done.
+     */
+    @Override
+    public InliersData getInliersData() {
+        return getBestInliersData();
+    }
+
+    /**
+     * Returns method being used for robust estimation.
+     *
+     * @return method being used for robust estimation.
+     */
+    @Override
+    public RobustEstimatorMethod getMethod() {
+        return RobustEstimatorMethod.MAGSAC;
+    }
+
+    /**
+     * Computes score of provided solution as the sum of normalized losses of
+     * all samples. Residuals are computed in chunks of samples, and scoring
+     * stops as soon as the score reaches provided bound, since the solution
+     * cannot improve the best one anymore. Consequently, residuals of all
+     * samples are only available once this method returns a score below
+     * provided bound.
+     *
+     * @param result       solution to be scored.
+     * @param listener     listener to obtain residuals for samples.
+     * @param totalSamples total number of samples.
+     * @param scale        factor to convert squared residuals into positions of
+     *                     lookup table.
+     * @param bound        score of best solution found so far.
+     * @param residuals    array where residuals are stored.
+     * @param numInliers   array of length 1 where number of samples considered
+     *                     inliers is stored.
+     * @return score of solution or a value greater or equal than provided bound
+     * if solution cannot improve the best one.
+     */
+    private double computeScore(final T result, final MAGSACRobustEstimatorListener<T> listener,
+                                final int totalSamples, final double scale, final double bound,
+                                final double[] residuals, final int[] numInliers) {
+        var score = 0.0;
+        var inliers = 0;
+        for (var from = 0; from < totalSamples; from += SCORING_CHUNK_SIZE) {
+            final var to = Math.min(from + SCORING_CHUNK_SIZE, totalSamples);
+            listener.computeResiduals(result, from, to, residuals);
+
+            for (var i = from; i < to; i++) {
+                final var residual = residuals[i];
+                final var position = residual * residual * scale;
+                if (table.isInlier(position)) {
+                    inliers++;
+                }
+                score += table.loss(position);
+            }
+            if (score >= bound) {
+                return score;
+            }
+        }
+        numInliers[0] = inliers;
+        return score;
+    }
+
+    /**
+     * Computes σ-consensus weights of samples from their residuals.
+     *
+     * @param residuals    residuals of samples.
+     * @param totalSamples total number of samples.
+     * @param scale        factor to convert squared residuals into positions of
+     *                     lookup table.
+     * @param weights      array where weights are stored.
+     */
+    private void computeWeights(final double[] residuals, final int totalSamples, final double scale,
+                                final double[] weights) {
+        for (var i = 0; i < totalSamples; i++) {
+            final var residual = residuals[i];
+            weights[i] = table.weight(residual * residual * scale);
+        }
+    }
+
+    /**
+     * Computes number of iterations required to achieve provided confidence
+     * for provided number of inliers.
+     *
+     * @param numInliers   number of inliers.
+     * @param totalSamples total number of samples.
+     * @param subsetSize   size of subsets of samples.
+     * @return number of iterations.
+     */
+    private int computeIterations(final int numInliers, final int totalSamples, final int subsetSize) {
+        final var probSubsetAllInliers = Math.pow((double) numInliers / (double) totalSamples, subsetSize);
+
+        if (Math.abs(probSubsetAllInliers) < Double.MIN_VALUE || Double.isNaN(probSubsetAllInliers)) {
+            return Integer.MAX_VALUE;
+        }
+
+        final var logProbSomeOutliers = Math.log(1.0 - probSubsetAllInliers);
+        if (Math.abs(logProbSomeOutliers) < Double.MIN_VALUE || Double.isNaN(logProbSomeOutliers)) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) Math.ceil(Math.abs(Math.log(1.0 - confidence) / logProbSomeOutliers));
+    }
+
+    /**
+     * Computes inliers data for provided solution using all samples.
+     * Samples are considered inliers when their residual is below the largest
+     * residual that can be considered an inlier for the maximum noise scale.
+     *
+     * @param result       solution to compute inliers data for.
+     * @param listener     listener to obtain residuals for samples.
+     * @param totalSamples total number of samples.
+     * @param scale        factor to convert squared residuals into positions of
+     *                     lookup table.
+     * @return inliers data.
+     */
+    private MAGSACInliersData computeInliersData(final T result, final MAGSACRobustEstimatorListener<T> listener,
+                                                 final int totalSamples, final double scale) {
+        final var residuals = new double[totalSamples];
+        listener.computeResiduals(result, 0, totalSamples, residuals);
+
+        final var inliers = new BitSet(totalSamples);
+        for (var i = 0; i < totalSamples; i++) {
+            final var residual = residuals[i];
+            if (table.isInlier(residual * residual * scale)) {
+                inliers.set(i);
+            }
+        }
+
+        return new MAGSACInliersData(computeAndKeepInliers ? inliers : null,
+                computeAndKeepResiduals ? residuals : null, inliers.cardinality());
+    }
+
+    /**
+     * Contains data related to estimated inliers.
+     */
+    public static class MAGSACInliersData extends InliersData {
+
+        /**
+         * Efficiently stores which samples are considered inliers and which
+         * ones aren't.
+         */
+        private final BitSet inliers;
+
+        /**
+         * Constructor.
+         *
+         * @param inliers    efficiently stores which samples are considered
+         *                   inliers and which ones aren't.
+         * @param residuals  residuals obtained for each sample of data.
+         * @param numInliers number of inliers.
+         */
+        protected MAGSACInliersData(final BitSet inliers, final double[] residuals, final int numInliers) {
+            this.inliers = inliers;
+            this.residuals = residuals;
+            this.numInliers = numInliers;
+        }
+
+        /**
+         * Returns efficient array indicating which samples are considered
+         * inliers and which ones aren't.
+         *
+         * @return array indicating which samples are considered inliers and
+         * which ones aren't.
+         */
+        @Override
+        public BitSet getInliers() {
+            return inliers;
+        }
+    }
+}
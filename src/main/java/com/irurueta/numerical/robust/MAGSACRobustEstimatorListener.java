@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+/**
+ * Listener to get data samples and residuals for MAGSAC method.
+ *
+ * @param <T> type of object to be estimated.
+ */
+public interface MAGSACRobustEstimatorListener<T> extends LMedSRobustEstimatorListener<T> {
+
+    /**
+     * Returns maximum noise scale (standard deviation) of residuals of inliers.
+     * Contrary to the threshold used by RANSAC, this value does not need to be
+     * accurately tuned, since residuals are scored by marginalizing over all
+     * noise scales up to this value. Hence, a loose upper bound of the actual
+     * noise scale can be provided.
+     * Maximum noise scale must be a positive value, otherwise MAGSAC algorithm
+     * will fail.
+     *
+     * @return maximum noise scale of residuals of inliers.
+     */
+    double getMaxSigma();
+
+    /**
+     * Refines provided estimation using weighted samples (i.e. by means of a
+     * weighted least squares fit).
+     * This method is used for σ-consensus refinement every time a new best
+     * solution is found, when enabled. Weights are obtained by marginalizing
+     * over noise scales, hence samples considered outliers have zero weight.
+     * By default, no refinement is done and null is returned.
+     *
+     * @param currentEstimation estimation to be refined.
+     * @param weights           weight of each sample, between 0.0 and 1.0.
+     * @return refined estimation or null if estimation cannot be refined.
+     */
+    default T refine(final T currentEstimation, final double[] weights) {
+        return null;
+    }
+}
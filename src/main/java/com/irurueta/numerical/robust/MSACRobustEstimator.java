@@ -17,7 +17,6 @@ package com.irurueta.numerical.robust;
 
 import com.irurueta.numerical.LockedException;
 import com.irurueta.numerical.NotReadyException;
-import com.irurueta.sorting.Sorter;
 
 import java.util.ArrayList;
 import java.util.BitSet;
@@ -36,6 +35,10 @@ import java.util.BitSet;
  * situations however, this algorithm will produce similar results to RANSAC in
  * both terms of accuracy and computational cost, since typically inlier samples
  * tend to have certain error.
+ * Preliminary solutions can also be verified using Wald's Sequential
+ * Probability Ratio Test (SPRT), so that bad solutions are rejected after
+ * evaluating only a few samples, instead of computing residuals for all of
+ * them.
  *
  * @param <T> type of object to be estimated.
  */
@@ -73,6 +76,58 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
      */
     public static final double MIN_THRESHOLD = 0.0;
 
+    /**
+     * Indicates that by default preliminary solutions are fully evaluated
+     * without using Sequential Probability Ratio Test.
+     */
+    public static final boolean DEFAULT_SPRT_ENABLED = false;
+
+    /**
+     * Default initial probability that a sample is consistent with a good
+     * solution when SPRT is enabled.
+     */
+    public static final double DEFAULT_SPRT_EPSILON = 0.1;
+
+    /**
+     * Default initial probability that a sample is consistent with a bad
+     * solution when SPRT is enabled.
+     */
+    public static final double DEFAULT_SPRT_DELTA = 0.01;
+
+    /**
+     * Default ratio between time to estimate preliminary solutions for one
+     * subset and time to compute residual of one sample.
+     */
+    public static final double DEFAULT_SPRT_TIME_RATIO = 200.0;
+
+    /**
+     * Minimum allowed value for SPRT probabilities (exclusive).
+     */
+    public static final double MIN_SPRT_PROBABILITY = 0.0;
+
+    /**
+     * Maximum allowed value for SPRT probabilities (exclusive).
+     */
+    public static final double MAX_SPRT_PROBABILITY = 1.0;
+
+    /**
+     * Minimum allowed value for SPRT time ratio (exclusive).
+     */
+    public static final double MIN_SPRT_TIME_RATIO = 0.0;
+
+    /**
+     * Indicates that by default inliers data found on an estimation is not
+     * reused by later estimations.
+     */
+    public static final boolean DEFAULT_INLIERS_DATA_REUSE_ENABLED = false;
+
+    /**
+     * Number of inliers data instances kept to be reused. At most, inliers data
+     * of best result, inliers data of best number of inliers and working
+     * inliers data are referenced at the same time.
+     */
+    private static final int INLIERS_DATA_POOL_SIZE = 3;
+
     /**
      * Amount of confidence expressed as a value between 0 and 1.0 (which is
      * equivalent to 100%). The amount of confidence indicates the probability
@@ -113,6 +168,57 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
      */
     private MSACInliersData bestNumberInliersData;
 
+    /**
+     * Indicates whether preliminary solutions are verified using Sequential
+     * Probability Ratio Test.
+     */
+    private boolean sprtEnabled;
+
+    /**
+     * Initial probability that a sample is consistent with a good solution
+     * when SPRT is enabled.
+     */
+    private double sprtEpsilon;
+
+    /**
+     * Initial probability that a sample is consistent with a bad solution when
+     * SPRT is enabled.
+     */
+    private double sprtDelta;
+
+    /**
+     * Ratio between time to estimate preliminary solutions for one subset and
+     * time to compute residual of one sample.
+     */
+    private double sprtTimeRatio;
+
+    /**
+     * Indicates whether inliers data found on an estimation can be reused by
+     * later estimations.
+     */
+    private boolean inliersDataReuseEnabled;
+
+    /**
+     * Reusable list that will contain preliminary solutions on each iteration.
+     */
+    private ArrayList<T> iterResults;
+
+    /**
+     * Reusable array containing indices of subset picked in one iteration.
+     */
+    private int[] subsetIndices;
+
+    /**
+     * Reusable array where residuals are copied to compute their median.
+     */
+    private double[] residualsTemp;
+
+    /**
+     * Inliers data instances that are reused during an estimation and among
+     * estimations once they are no longer referenced.
+     */
+    private MSACInliersData[] inliersDataPool;
+
     /**
      * Constructor.
      */
@@ -123,6 +229,11 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
         iters = maxIterations;
         bestResult = null;
         bestResultInliersData = bestNumberInliersData = null;
+        sprtEnabled = DEFAULT_SPRT_ENABLED;
+        sprtEpsilon = DEFAULT_SPRT_EPSILON;
+        sprtDelta = DEFAULT_SPRT_DELTA;
+        sprtTimeRatio = DEFAULT_SPRT_TIME_RATIO;
+        inliersDataReuseEnabled = DEFAULT_INLIERS_DATA_REUSE_ENABLED;
     }
 
     /**
@@ -137,6 +248,11 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
         iters = maxIterations;
         bestResult = null;
         bestResultInliersData = bestNumberInliersData = null;
+        sprtEnabled = DEFAULT_SPRT_ENABLED;
+        sprtEpsilon = DEFAULT_SPRT_EPSILON;
+        sprtDelta = DEFAULT_SPRT_DELTA;
+        sprtTimeRatio = DEFAULT_SPRT_TIME_RATIO;
+        inliersDataReuseEnabled = DEFAULT_INLIERS_DATA_REUSE_ENABLED;
     }
 
     /**
@@ -240,6 +356,192 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
         return bestNumberInliersData;
     }
 
+    /**
+     * Indicates whether preliminary solutions are verified using Sequential
+     * Probability Ratio Test, so that bad solutions are rejected without
+     * computing residuals of all samples.
+     *
+     * @return true if SPRT is enabled, false otherwise.
+     */
+    public boolean isSprtEnabled() {
+        return sprtEnabled;
+    }
+
+    /**
+     * Specifies whether preliminary solutions are verified using Sequential
+     * Probability Ratio Test, so that bad solutions are rejected without
+     * computing residuals of all samples.
+     *
+     * @param sprtEnabled true to enable SPRT, false otherwise.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setSprtEnabled(final boolean sprtEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.sprtEnabled = sprtEnabled;
+    }
+
+    /**
+     * Returns initial probability that a sample is consistent with a good
+     * solution when SPRT is enabled. This value is updated during estimation
+     * using the best solution found so far.
+     *
+     * @return initial probability that a sample is consistent with a good
+     * solution.
+     */
+    public double getSprtEpsilon() {
+        return sprtEpsilon;
+    }
+
+    /**
+     * Sets initial probability that a sample is consistent with a good
+     * solution when SPRT is enabled. This value is updated during estimation
+     * using the best solution found so far.
+     *
+     * @param sprtEpsilon initial probability that a sample is consistent with
+     *                    a good solution.
+     * @throws IllegalArgumentException if provided value is not between 0.0
+     *                                  and 1.0 (exclusive).
+     * @throws LockedException          if estimator is locked.
+     */
+    public void setSprtEpsilon(final double sprtEpsilon) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (sprtEpsilon <= MIN_SPRT_PROBABILITY || sprtEpsilon >= MAX_SPRT_PROBABILITY) {
+            throw new IllegalArgumentException();
+        }
+        this.sprtEpsilon = sprtEpsilon;
+    }
+
+    /**
+     * Returns initial probability that a sample is consistent with a bad
+     * solution when SPRT is enabled. This value is updated during estimation
+     * using rejected solutions.
+     *
+     * @return initial probability that a sample is consistent with a bad
+     * solution.
+     */
+    public double getSprtDelta() {
+        return sprtDelta;
+    }
+
+    /**
+     * Sets initial probability that a sample is consistent with a bad
+     * solution when SPRT is enabled. This value is updated during estimation
+     * using rejected solutions.
+     *
+     * @param sprtDelta initial probability that a sample is consistent with a
+     *                  bad solution.
+     * @throws IllegalArgumentException if provided value is not between 0.0
+     *                                  and 1.0 (exclusive).
+     * @throws LockedException          if estimator is locked.
+     */
+    public void setSprtDelta(final double sprtDelta) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (sprtDelta <= MIN_SPRT_PROBABILITY || sprtDelta >= MAX_SPRT_PROBABILITY) {
+            throw new IllegalArgumentException();
+        }
+        this.sprtDelta = sprtDelta;
+    }
+
+    /**
+     * Returns ratio between time to estimate preliminary solutions for one
+     * subset and time to compute residual of one sample. This is used by SPRT
+     * to balance the cost of rejecting good solutions against the cost of
+     * evaluating bad ones.
+     *
+     * @return ratio between time to estimate solutions and time to compute
+     * one residual.
+     */
+    public double getSprtTimeRatio() {
+        return sprtTimeRatio;
+    }
+
+    /**
+     * Sets ratio between time to estimate preliminary solutions for one
+     * subset and time to compute residual of one sample. This is used by SPRT
+     * to balance the cost of rejecting good solutions against the cost of
+     * evaluating bad ones.
+     *
+     * @param sprtTimeRatio ratio between time to estimate solutions and time to
+     *                      compute one residual.
+     * @throws IllegalArgumentException if provided value is zero or negative.
+     * @throws LockedException          if estimator is locked.
+     */
+    public void setSprtTimeRatio(final double sprtTimeRatio) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (sprtTimeRatio <= MIN_SPRT_TIME_RATIO) {
+            throw new IllegalArgumentException();
+        }
+        this.sprtTimeRatio = sprtTimeRatio;
+    }
+
+    /**
+     * Indicates whether inliers data found on an estimation can be reused by
+     * later estimations.
+     * When enabled, repeated estimations on data having the same number of
+     * samples do not allocate memory, however inliers data returned by an
+     * estimation gets overwritten by next estimation.
+     *
+     * @return true if inliers data is reused, false otherwise.
+     */
+    public boolean isInliersDataReuseEnabled() {
+        return inliersDataReuseEnabled;
+    }
+
+    /**
+     * Specifies whether inliers data found on an estimation can be reused by
+     * later estimations.
+     * When enabled, repeated estimations on data having the same number of
+     * samples do not allocate memory, however inliers data returned by an
+     * estimation gets overwritten by next estimation.
+     *
+     * @param inliersDataReuseEnabled true if inliers data is reused, false
+     *                                otherwise.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setInliersDataReuseEnabled(final boolean inliersDataReuseEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.inliersDataReuseEnabled = inliersDataReuseEnabled;
+    }
+
+    /**
+     * Returns instance in charge of picking random subsets of samples.
+     * If no subset selector has been provided, a uniform random subset selector
+     * is created on first estimation.
+     *
+     * @return instance in charge of picking random subsets of samples.
+     */
+    public SubsetSelector getSubsetSelector() {
+        return subsetSelector;
+    }
+
+    /**
+     * Sets instance in charge of picking random subsets of samples.
+     * Guided subset selectors (i.e. {@link NAPSACSubsetSelector}) can be
+     * provided to reduce the number of required iterations when inliers are
+     * spatially close to each other. If null is provided, a uniform random
+     * subset selector is created on next estimation.
+     *
+     * @param subsetSelector instance in charge of picking random subsets of
+     *                       samples.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setSubsetSelector(final SubsetSelector subsetSelector) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.subsetSelector = subsetSelector;
+    }
+
     /**
      * Indicates if estimator is ready to start the estimation process.
      *
@@ -293,18 +595,16 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
             iters = Integer.MAX_VALUE;
             int newNIters;
             var currentIter = 0;
-            // reusable list that will contain preliminary solutions on each
-            // iteration
-            final var iterResults = new ArrayList<T>();
+            // reuse list that will contain preliminary solutions on each
+            // iteration, as well as indices of subset picked in one iteration
+            // and temporal residuals
+            prepareWorkspace(totalSamples, subsetSize);
             bestResult = null; // best result found so far
             int currentInliers;
             // progress and previous progress to determine when progress
             // notification must occur
             var previousProgress = 0.0f;
             float progress;
-            // indices of subset picked in one iteration
-            final var subsetIndices = new int[subsetSize];
-            final var residualsTemp = new double[totalSamples];
 
             if (subsetSelector == null) {
                 // create new subset selector
@@ -315,9 +615,10 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
             }
 
             // data related to inliers
-            var inliersData = new MSACInliersData(totalSamples);
-            // sorter to compute medians
-            final var sorter = Sorter.<Double>create();
+            var inliersData = obtainInliersData(totalSamples);
+            // sequential probability ratio test (if needed)
+            final var sprt = sprtEnabled
+                    ? new SPRTVerifier(totalSamples, sprtEpsilon, sprtDelta, sprtTimeRatio) : null;
 
             while ((iters > currentIter) && (currentIter < maxIterations)) {
                 // generate a random subset of samples
@@ -327,11 +628,19 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
                 iterResults.clear();
                 // compute solution for current iteration
                 listener.estimatePreliminarSolutions(subsetIndices, iterResults);
+                if (sprt != null) {
+                    sprt.onModelsEstimated(iterResults.size());
+                }
 
-                // iterate over all solutions that have been found
-                for (final var iterResult : iterResults) {
+                // iterate over all solutions that have been found, using an
+                // index to avoid creating an iterator on each iteration
+                for (var k = 0; k < iterResults.size(); k++) {
+                    final var iterResult = iterResults.get(k);
                     // compute inliers
-                    computeInliers(iterResult, threshold, residualsTemp, listener, sorter, inliersData);
+                    if (!computeInliers(iterResult, threshold, residualsTemp, listener, inliersData, sprt)) {
+                        // solution has been rejected
+                        continue;
+                    }
 
                     // save solution that  minimizes the median residual
                     if (inliersData.isMedianResidualImproved()) {
@@ -360,17 +669,28 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
                         // achieve with probability mConfidence that we have
                         // inliers and probability 1 - mConfidence that we have
                         // outliers
-                        final var probSubsetAllInliers = Math.pow((double) bestNumInliers / (double) totalSamples,
-                                subsetSize);
-
-                        if (Math.abs(probSubsetAllInliers) < Double.MIN_VALUE || Double.isNaN(probSubsetAllInliers)) {
-                            newNIters = Integer.MAX_VALUE;
+                        if (sprt != null) {
+                            // update test parameters and take into account
+                            // probability of rejecting good solutions
+                            sprt.onBestModel(bestNumInliers);
+                            newNIters = sprt.computeIterations((double) bestNumInliers / (double) totalSamples,
+                                    subsetSize, confidence);
                         } else {
-                            final var logProbSomeOutliers = Math.log(1.0 - probSubsetAllInliers);
-                            if (Math.abs(logProbSomeOutliers) < Double.MIN_VALUE || Double.isNaN(logProbSomeOutliers)) {
+                            final var probSubsetAllInliers = Math.pow(
+                                    (double) bestNumInliers / (double) totalSamples, subsetSize);
+
+                            if (Math.abs(probSubsetAllInliers) < Double.MIN_VALUE
+                                    || Double.isNaN(probSubsetAllInliers)) {
                                 newNIters = Integer.MAX_VALUE;
                             } else {
-                                newNIters = (int) Math.ceil(Math.abs(Math.log(1.0 - confidence) / logProbSomeOutliers));
+                                final var logProbSomeOutliers = Math.log(1.0 - probSubsetAllInliers);
+                                if (Math.abs(logProbSomeOutliers) < Double.MIN_VALUE
+                                        || Double.isNaN(logProbSomeOutliers)) {
+                                    newNIters = Integer.MAX_VALUE;
+                                } else {
+                                    newNIters = (int) Math.ceil(Math.abs(Math.log(1.0 - confidence)
+                                            / logProbSomeOutliers));
+                                }
                             }
                         }
                         if (newNIters < iters) {
@@ -381,14 +701,14 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
                     // reset inliers data if either residual or number of inliers
                     // improved
                     if (inliersData.isMedianResidualImproved()) {
-                        // create new inliers data instance until a new best solution
-                        // is found
-                        inliersData = new MSACInliersData(totalSamples);
+                        // reuse inliers data that is no longer referenced by
+                        // best solutions until a new best solution is found
+                        inliersData = obtainInliersData(totalSamples);
                         // update the best median residual on new instance so that
                         // only better solutions that are found later can update
                         // inliers data
                         inliersData.update(bestMedianResidual, inliersData.getInliers(), inliersData.getResiduals(),
-                                inliersData.getNumInliers(), false);
+                                0, false);
                     }
                 }
 
@@ -421,6 +741,20 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
         }
     }
 
+    /**
+     * Releases working buffers that are kept between estimations.
+     *
+     * @throws LockedException if robust estimator is locked.
+     */
+    @Override
+    public void releaseWorkspace() throws LockedException {
+        super.releaseWorkspace();
+        iterResults = null;
+        subsetIndices = null;
+        residualsTemp = null;
+        inliersDataPool = null;
+    }
+
     /**
      * Returns data about inliers once estimation has been done.
      *
@@ -441,6 +775,74 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
         return RobustEstimatorMethod.MSAC;
     }
 
+    /**
+     * Initializes working buffers to be used on an estimation, reusing the ones
+     * of previous estimations when their size matches.
+     *
+     * @param totalSamples total number of samples.
+     * @param subsetSize   subset sample size to be picked on each iteration.
+     */
+    private void prepareWorkspace(final int totalSamples, final int subsetSize) {
+        if (iterResults == null) {
+            iterResults = new ArrayList<>();
+        }
+        if (subsetIndices == null || subsetIndices.length != subsetSize) {
+            subsetIndices = new int[subsetSize];
+        }
+        if (residualsTemp == null || residualsTemp.length != totalSamples) {
+            residualsTemp = new double[totalSamples];
+        }
+        if (inliersDataPool == null) {
+            inliersDataPool = new MSACInliersData[INLIERS_DATA_POOL_SIZE];
+        }
+        if (inliersDataReuseEnabled) {
+            // inliers data of previous estimation will be overwritten
+            bestResultInliersData = bestNumberInliersData = null;
+        } else {
+            // inliers data of previous estimation is kept unmodified
+            for (var i = 0; i < inliersDataPool.length; i++) {
+                if (inliersDataPool[i] == bestResultInliersData || inliersDataPool[i] == bestNumberInliersData) {
+                    inliersDataPool[i] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtains an instance of inliers data to be used as working instance.
+     * An instance of the pool that is not referenced by best solutions is
+     * reset and returned when its size matches. Otherwise, a new instance is
+     * created and kept in the pool.
+     * When this method is called, previous working instance is either
+     * referenced by best solutions or not needed anymore.
+     *
+     * @param totalSamples total number of samples.
+     * @return inliers data to be used as working instance.
+     */
+    private MSACInliersData obtainInliersData(final int totalSamples) {
+        var pos = -1;
+        for (var i = 0; i < inliersDataPool.length; i++) {
+            final var data = inliersDataPool[i];
+            if (data == null) {
+                if (pos < 0) {
+                    pos = i;
+                }
+            } else if (data != bestResultInliersData && data != bestNumberInliersData) {
+                if (data.getResiduals().length == totalSamples) {
+                    data.update(Double.MAX_VALUE, data.getInliers(), data.getResiduals(), 0, false);
+                    return data;
+                }
+                pos = i;
+            }
+        }
+
+        final var result = new MSACInliersData(totalSamples);
+        if (pos >= 0) {
+            inliersDataPool[pos] = result;
+        }
+        return result;
+    }
+
     /**
      * Computes inliers data for current iteration.
      *
@@ -451,13 +853,17 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
      * @param residualsTemp temporal array to store residuals, since median
      *                      computation requires modifying the original array.
      * @param listener      listener to obtain residuals for samples.
-     * @param sorter        sorter instance to compute median of residuals.
      * @param inliersData   inliers data to be reused on each iteration
+     * @param sprt          sequential probability ratio test to reject bad
+     *                      solutions early, or null if all samples must be
+     *                      evaluated.
+     * @return true if solution has been fully evaluated, false if it has been
+     * rejected by sequential probability ratio test.
      */
-    private static <T> void computeInliers(
+    private static <T> boolean computeInliers(
             final T iterResult, final double threshold, final double[] residualsTemp,
-            final LMedSRobustEstimatorListener<T> listener, final Sorter<Double> sorter,
-            final MSACInliersData inliersData) {
+            final LMedSRobustEstimatorListener<T> listener, final MSACInliersData inliersData,
+            final SPRTVerifier sprt) {
 
         final var residuals = inliersData.getResiduals();
         final var inliers = inliersData.getInliers();
@@ -468,21 +874,45 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
         double residual;
         var numInliers = 0;
         // find residuals and inliers
-        for (var i = 0; i < totalSamples; i++) {
-            residual = Math.abs(listener.computeResidual(iterResult, i));
-            if (residual < threshold) {
-                residuals[i] = residual;
-                numInliers++;
-                inliers.set(i);
-            } else {
-                residuals[i] = threshold;
-                inliers.clear(i);
+        if (sprt != null) {
+            sprt.reset();
+            var i = 0;
+            for (var j = 0; j < totalSamples; j++) {
+                residual = Math.abs(listener.computeResidual(iterResult, i));
+                final var consistent = residual < threshold;
+                if (consistent) {
+                    residuals[i] = residual;
+                    numInliers++;
+                    inliers.set(i);
+                } else {
+                    residuals[i] = threshold;
+                    inliers.clear(i);
+                }
+
+                if (sprt.isRejected(consistent)) {
+                    sprt.onRejected(j + 1, numInliers);
+                    return false;
+                }
+                i = sprt.nextSample(i);
+            }
+        } else {
+            listener.computeResiduals(iterResult, 0, totalSamples, residuals);
+            for (var i = 0; i < totalSamples; i++) {
+                residual = Math.abs(residuals[i]);
+                if (residual < threshold) {
+                    residuals[i] = residual;
+                    numInliers++;
+                    inliers.set(i);
+                } else {
+                    residuals[i] = threshold;
+                    inliers.clear(i);
+                }
             }
         }
 
-        // compute median of residuals
+        // compute median of residuals in linear time without allocating memory
         System.arraycopy(residuals, 0, residualsTemp, 0, residuals.length);
-        final var medianResidual = sorter.median(residualsTemp);
+        final var medianResidual = MedianSelector.median(residualsTemp, totalSamples);
         if (medianResidual < bestMedianResidual) {
             bestMedianResidual = medianResidual;
             medianResidualImproved = true;
@@ -493,6 +923,7 @@ public class MSACRobustEstimator<T> extends RobustEstimator<T> {
         if (medianResidualImproved) {
             inliersData.update(bestMedianResidual, inliers, residuals, numInliers, true);
         }
+        return true;
     }
 
     /**
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import java.util.Arrays;
+
+/**
+ * Computes medians of arrays of residuals in linear time using introselect.
+ * Selection is done in place using a quickselect with median of three pivots,
+ * which falls back to sorting the remaining range when too many unbalanced
+ * partitions occur, so that worst case complexity is O(n log n) while expected
+ * complexity is O(n).
+ * Provided arrays are reordered, hence a copy of residuals must be provided
+ * when their original order must be preserved.
+ */
+final class MedianSelector {
+
+    /**
+     * Size of ranges below which insertion sort is used instead of further
+     * partitioning.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Constructor.
+     * Prevents instantiation of utility class.
+     */
+    private MedianSelector() {
+    }
+
+    /**
+     * Computes median of the first provided number of values.
+     * When the number of values is even, the average of both central values is
+     * returned.
+     * Provided array is reordered.
+     *
+     * @param values array containing values. Will be reordered.
+     * @param length number of values to take into account, starting at
+     *               position 0.
+     * @return median value.
+     */
+    static double median(final double[] values, final int length) {
+        final var k = length / 2;
+        final var upper = select(values, length, k);
+        if (length % 2 == 1) {
+            return upper;
+        }
+
+        // after selection, all values before position k are smaller or equal
+        // than upper one, hence lower central value is the maximum of them
+        var lower = values[0];
+        for (var i = 1; i < k; i++) {
+            if (values[i] > lower) {
+                lower = values[i];
+            }
+        }
+        return 0.5 * (lower + upper);
+    }
+
+    /**
+     * Indicates whether the median of the first provided number of values can
+     * be smaller than provided bound.
+     * Values are counted until it is proven that enough of them are smaller (or
+     * not smaller) than provided bound, so that the median can (or cannot) be
+     * smaller than such bound. Provided array is not modified.
+     *
+     * @param values array containing values.
+     * @param length number of values to take into account, starting at
+     *               position 0.
+     * @param bound  bound to compare median against.
+     * @return true if median might be smaller than provided bound, false if
+     * median is guaranteed to be greater or equal than provided bound.
+     */
+    static boolean canBeBelow(final double[] values, final int length, final double bound) {
+        // at least half of the values (rounded up) must be below bound
+        final var required = (length + 1) / 2;
+        final var maxNotBelow = length - required;
+
+        var below = 0;
+        var notBelow = 0;
+        for (var i = 0; i < length; i++) {
+            if (values[i] < bound) {
+                if (++below >= required) {
+                    return true;
+                }
+            } else if (++notBelow > maxNotBelow) {
+                return false;
+            }
+        }
+        return below >= required;
+    }
+
+    /**
+     * Finds the k-th smallest value among the first provided number of values.
+     * After execution, value at position k is the k-th smallest value, values
+     * before it are smaller or equal and values after it are greater or equal.
+     *
+     * @param values array containing values. Will be reordered.
+     * @param length number of values to take into account, starting at
+     *               position 0.
+     * @param k      position of value to be selected, starting at 0.
+     * @return k-th smallest value.
+     */
+    static double select(final double[] values, final int length, final int k) {
+        var left = 0;
+        var right = length - 1;
+        var depthLimit = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(length));
+
+        while (right > left) {
+            if (right - left < INSERTION_SORT_THRESHOLD) {
+                insertionSort(values, left, right);
+                return values[k];
+            }
+            if (depthLimit-- == 0) {
+                // too many unbalanced partitions
+                Arrays.sort(values, left, right + 1);
+                return values[k];
+            }
+
+            // median of three pivot, which also acts as sentinel for scans
+            final var mid = (left + right) >>> 1;
+            sort3(values, left, mid, right);
+            final var pivot = values[mid];
+
+            var i = left;
+            var j = right;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, i, j);
+                    i++;
+                    j--;
+                }
+            }
+
+            // values in range [left, j] are smaller or equal than pivot, values
+            // in range [i, right] are greater or equal and any value in between
+            // is equal to pivot
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return values[k];
+            }
+        }
+        return values[k];
+    }
+
+    /**
+     * Sorts values within provided range using insertion sort.
+     *
+     * @param values array containing values.
+     * @param left   first position of range (inclusive).
+     * @param right  last position of range (inclusive).
+     */
+    private static void insertionSort(final double[] values, final int left, final int right) {
+        for (var i = left + 1; i <= right; i++) {
+            final var value = values[i];
+            var j = i - 1;
+            while (j >= left && values[j] > value) {
+                values[j + 1] = values[j];
+                j--;
+            }
+            values[j + 1] = value;
+        }
+    }
+
+    /**
+     * Sorts values at three provided positions.
+     *
+     * @param values array containing values.
+     * @param a      first position.
+     * @param b      second position.
+     * @param c      third position.
+     */
+    private static void sort3(final double[] values, final int a, final int b, final int c) {
+        if (values[b] < values[a]) {
+            swap(values, a, b);
+        }
+        if (values[c] < values[b]) {
+            swap(values, b, c);
+            if (values[b] < values[a]) {
+                swap(values, a, b);
+            }
+        }
+    }
+
+    /**
+     * Swaps values at provided positions.
+     *
+     * @param values array containing values.
+     * @param i      first position.
+     * @param j      second position.
+     */
+    private static void swap(final double[] values, final int i, final int j) {
+        final var tmp = values[i];
+        values[i] = values[j];
+        values[j] = tmp;
+    }
+}
@@ -0,0 +1,615 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.numerical.LockedException;
+import com.irurueta.numerical.NotReadyException;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class implements a multi-model robust estimator to find several
+ * structures (i.e. several lines or polynomials) contained in the same set of
+ * samples, where samples that belong to one structure are considered outliers
+ * by the others.
+ * Instead of repeatedly running RANSAC after removing inliers of each model
+ * found so far (which requires scanning all samples for every hypothesis on
+ * every pass), preliminary solutions are generated once from random subsets of
+ * samples and their consensus sets are computed once by evaluating residuals of
+ * all samples. Afterwards, models are extracted sequentially in a greedy
+ * manner: the solution having the largest consensus among samples that have not
+ * yet been assigned to any model is kept, its inliers are assigned to it, and
+ * consensus sets of remaining solutions are updated by removing such inliers,
+ * which only requires bitwise operations.
+ * This is similar to sequential RANSAC and J-linkage, in the sense that
+ * hypotheses and residual evaluations are shared among all found models, and
+ * returned models have disjoint sets of inliers.
+ * Samples are considered inliers using the threshold provided by the same
+ * listener used for RANSAC, and the refinement method of such listener (if
+ * implemented) is used to refine each found model using its inliers.
+ * <p>
+ * This implementation is based on:
+ * Toldo, R., Fusiello, A. "Robust Multiple Structures Estimation with
+ * J-linkage". ECCV 2008.
+ *
+ * @param <T> type of object to be estimated.
+ */
+public class MultiModelRANSACRobustEstimator<T> extends RobustEstimator<T> {
+
+    /**
+     * Default number of preliminary solutions to be generated upfront.
+     */
+    public static final int DEFAULT_NUM_HYPOTHESES = 500;
+
+    /**
+     * Minimum allowed number of preliminary solutions to be generated.
+     */
+    public static final int MIN_NUM_HYPOTHESES = 1;
+
+    /**
+     * Default maximum number of models to be estimated.
+     */
+    public static final int DEFAULT_MAX_MODELS = 10;
+
+    /**
+     * Minimum allowed value for maximum number of models to be estimated.
+     */
+    public static final int MIN_MAX_MODELS = 1;
+
+    /**
+     * Default minimum number of inliers that a model must have to be kept.
+     */
+    public static final int DEFAULT_MIN_INLIERS = 10;
+
+    /**
+     * Minimum allowed value for minimum number of inliers of a model.
+     */
+    public static final int MIN_MIN_INLIERS = 1;
+
+    /**
+     * Indicates that by default found models are refined using their inliers.
+     */
+    public static final boolean DEFAULT_REFINEMENT_ENABLED = true;
+
+    /**
+     * Minimum allowed threshold to determine inliers.
+     */
+    public static final double MIN_THRESHOLD = 0.0;
+
+    /**
+     * Number of preliminary solutions to be generated upfront.
+     */
+    private int numHypotheses;
+
+    /**
+     * Maximum number of models to be estimated.
+     */
+    private int maxModels;
+
+    /**
+     * Minimum number of inliers that a model must have to be kept.
+     */
+    private int minInliers;
+
+    /**
+     * Indicates whether found models are refined using their inliers.
+     */
+    private boolean refinementEnabled;
+
+    /**
+     * Instance in charge of picking random subsets of samples.
+     */
+    private SubsetSelector subsetSelector;
+
+    /**
+     * Models that have been found during an estimation, sorted in the same
+     * order as they were found.
+     */
+    private List<T> models;
+
+    /**
+     * Data related to inliers of each found model.
+     */
+    private List<MultiModelInliersData> modelsInliersData;
+
+    /**
+     * Constructor.
+     */
+    public MultiModelRANSACRobustEstimator() {
+        super();
+        numHypotheses = DEFAULT_NUM_HYPOTHESES;
+        maxModels = DEFAULT_MAX_MODELS;
+        minInliers = DEFAULT_MIN_INLIERS;
+        refinementEnabled = DEFAULT_REFINEMENT_ENABLED;
+        models = null;
+        modelsInliersData = null;
+    }
+
+    /**
+     * Constructor with listener.
+     *
+     * @param listener listener to be notified of events such as when estimation
+     *                 starts, ends or its progress significantly changes, as well as in charge
+     *                 of picking samples and doing per-iteration estimations.
+     */
+    public MultiModelRANSACRobustEstimator(final RANSACRobustEstimatorListener<T> listener) {
+        super(listener);
+        numHypotheses = DEFAULT_NUM_HYPOTHESES;
+        maxModels = DEFAULT_MAX_MODELS;
+        minInliers = DEFAULT_MIN_INLIERS;
+        refinementEnabled = DEFAULT_REFINEMENT_ENABLED;
+        models = null;
+        modelsInliersData = null;
+    }
+
+    /**
+     * Returns number of subsets of samples to be picked upfront to generate
+     * preliminary solutions shared among all models.
+     *
+     * @return number of subsets to be picked.
+     */
+    public int getNumHypotheses() {
+        return numHypotheses;
+    }
+
+    /**
+     * Sets number of subsets of samples to be picked upfront to generate
+     * preliminary solutions shared among all models.
+     * The smaller the proportion of samples belonging to each structure, the
+     * larger this value must be so that at least one subset containing only
+     * samples of each structure is picked.
+     *
+     * @param numHypotheses number of subsets to be picked.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if this estimator is locked because an estimation
+     *                                  is being computed.
+     */
+    public void setNumHypotheses(final int numHypotheses) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (numHypotheses < MIN_NUM_HYPOTHESES) {
+            throw new IllegalArgumentException();
+        }
+        this.numHypotheses = numHypotheses;
+    }
+
+    /**
+     * Returns maximum number of models to be estimated.
+     *
+     * @return maximum number of models to be estimated.
+     */
+    public int getMaxModels() {
+        return maxModels;
+    }
+
+    /**
+     * Sets maximum number of models to be estimated.
+     *
+     * @param maxModels maximum number of models to be estimated.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if this estimator is locked because an estimation
+     *                                  is being computed.
+     */
+    public void setMaxModels(final int maxModels) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (maxModels < MIN_MAX_MODELS) {
+            throw new IllegalArgumentException();
+        }
+        this.maxModels = maxModels;
+    }
+
+    /**
+     * Returns minimum number of inliers that a model must have to be kept.
+     * Estimation stops when no remaining solution has at least this number of
+     * inliers among samples not assigned to any model.
+     *
+     * @return minimum number of inliers of a model.
+     */
+    public int getMinInliers() {
+        return minInliers;
+    }
+
+    /**
+     * Sets minimum number of inliers that a model must have to be kept.
+     * Estimation stops when no remaining solution has at least this number of
+     * inliers among samples not assigned to any model.
+     * This value should be larger than the subset size, otherwise spurious
+     * models supported only by the samples used to generate them might be
+     * found.
+     *
+     * @param minInliers minimum number of inliers of a model.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if this estimator is locked because an estimation
+     *                                  is being computed.
+     */
+    public void setMinInliers(final int minInliers) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (minInliers < MIN_MIN_INLIERS) {
+            throw new IllegalArgumentException();
+        }
+        this.minInliers = minInliers;
+    }
+
+    /**
+     * Indicates whether found models are refined using their inliers by means
+     * of {@link RANSACRobustEstimatorListener#refine(Object, BitSet)}.
+     *
+     * @return true if found models are refined, false otherwise.
+     */
+    public boolean isRefinementEnabled() {
+        return refinementEnabled;
+    }
+
+    /**
+     * Specifies whether found models are refined using their inliers by means
+     * of {@link RANSACRobustEstimatorListener#refine(Object, BitSet)}.
+     * A refined model is only kept when it has at least as many inliers among
+     * non-assigned samples as the model it was obtained from.
+     *
+     * @param refinementEnabled true if found models are refined, false
+     *                          otherwise.
+     * @throws LockedException if this estimator is locked because an estimation
+     *                         is being computed.
+     */
+    public void setRefinementEnabled(final boolean refinementEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.refinementEnabled = refinementEnabled;
+    }
+
+    /**
+     * Returns instance in charge of picking random subsets of samples.
+     * If no subset selector has been provided, a uniform random subset selector
+     * is created on first estimation.
+     *
+     * @return instance in charge of picking random subsets of samples.
+     */
+    public SubsetSelector getSubsetSelector() {
+        return subsetSelector;
+    }
+
+    /**
+     * Sets instance in charge of picking random subsets of samples.
+     * Guided subset selectors (i.e. {@link NAPSACSubsetSelector}) are
+     * particularly useful to find several structures, since subsets of
+     * spatially close samples are more likely to belong to the same structure.
+     * If null is provided, a uniform random subset selector is created on next
+     * estimation.
+     *
+     * @param subsetSelector instance in charge of picking random subsets of
+     *                       samples.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setSubsetSelector(final SubsetSelector subsetSelector) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.subsetSelector = subsetSelector;
+    }
+
+    /**
+     * Returns models that have been found during last estimation, sorted in
+     * the same order as they were found (which typically is the descending
+     * order of their number of inliers).
+     *
+     * @return models found during last estimation or null if estimation has
+     * not been done.
+     */
+    public List<T> getModels() {
+        return models;
+    }
+
+    /**
+     * Returns data related to inliers of each model found during last
+     * estimation. Inliers of different models are disjoint.
+     *
+     * @return data related to inliers of each found model or null if
+     * estimation has not been done.
+     */
+    public List<MultiModelInliersData> getModelsInliersData() {
+        return modelsInliersData;
+    }
+
+    /**
+     * Indicates if estimator is ready to start the estimation process.
+     *
+     * @return true if ready, false otherwise.
+     */
+    @Override
+    public boolean isReady() {
+        if (!super.isReady()) {
+            return false;
+        }
+        return (listener instanceof RANSACRobustEstimatorListener);
+    }
+
+    /**
+     * Robustly estimates an instance of T, which corresponds to the first
+     * model found (the one having the largest number of inliers).
+     * Remaining models can be obtained afterwards by means of
+     * {@link #getModels()}.
+     *
+     * @return estimated object.
+     * @throws LockedException          if robust estimator is locked.
+     * @throws NotReadyException        if provided input data is not enough to start
+     *                                  the estimation.
+     * @throws RobustEstimatorException if estimation fails for any reason
+     *                                  (i.e. numerical instability, no solution available, etc).
+     */
+    @Override
+    public T estimate() throws LockedException, NotReadyException, RobustEstimatorException {
+        return estimateModels().get(0);
+    }
+
+    /**
+     * Robustly estimates all models contained in provided samples.
+     *
+     * @return list of estimated models, sorted in the same order as they were
+     * found. Contains at least one model.
+     * @throws LockedException          if robust estimator is locked.
+     * @throws NotReadyException        if provided input data is not enough to start
+     *                                  the estimation.
+     * @throws RobustEstimatorException if estimation fails for any reason
+     *                                  (i.e. numerical instability, no model having enough inliers
+     *                                  is found, etc).
+     */
+    public List<T> estimateModels() throws LockedException, NotReadyException, RobustEstimatorException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+
+        try {
+            final var listener = (RANSACRobustEstimatorListener<T>) this.listener;
+
+            locked = true;
+
+            listener.onEstimateStart(this);
+
+            final var totalSamples = listener.getTotalSamples();
+            final var subsetSize = listener.getSubsetSize();
+            final var threshold = listener.getThreshold();
+            // only positive thresholds are allowed
+            if (threshold < MIN_THRESHOLD) {
+                throw new RobustEstimatorException();
+            }
+
+            models = null;
+            modelsInliersData = null;
+
+            if (subsetSelector == null) {
+                // create new subset selector
+                subsetSelector = SubsetSelector.create(totalSamples);
+            } else {
+                // set number of samples to current subset selector
+                subsetSelector.setNumSamples(totalSamples);
+            }
+
+            // generate all preliminary solutions upfront and compute their
+            // consensus sets, which are shared among all models
+            final var hypotheses = new ArrayList<T>(numHypotheses);
+            final var consensusSets = new ArrayList<BitSet>(numHypotheses);
+            final var iterResults = new ArrayList<T>();
+            final var subsetIndices = new int[subsetSize];
+            final var residuals = new double[totalSamples];
+
+            var previousProgress = 0.0f;
+            float progress;
+            for (var i = 0; i < numHypotheses; i++) {
+                // generate a random subset of samples
+                subsetSelector.computeRandomSubsets(subsetSize, subsetIndices);
+
+                // clear list of preliminary solutions before calling listener
+                iterResults.clear();
+                // compute solutions for current subset
+                listener.estimatePreliminarSolutions(subsetIndices, iterResults);
+
+                for (final var iterResult : iterResults) {
+                    final var consensusSet = computeConsensusSet(iterResult, threshold, totalSamples, listener,
+                            residuals, null);
+                    // solutions that cannot be kept are discarded early
+                    if (consensusSet.cardinality() >= minInliers) {
+                        hypotheses.add(iterResult);
+                        consensusSets.add(consensusSet);
+                    }
+                }
+
+                progress = (float) (i + 1) / (float) numHypotheses;
+                if (progress - previousProgress > progressDelta) {
+                    previousProgress = progress;
+                    listener.onEstimateProgressChange(this, progress);
+                }
+
+                listener.onEstimateNextIteration(this, i + 1);
+            }
+
+            final var numGenerated = hypotheses.size();
+            final var counts = new int[numGenerated];
+            for (var i = 0; i < numGenerated; i++) {
+                counts[i] = consensusSets.get(i).cardinality();
+            }
+
+            // samples already assigned to a model
+            final var assigned = new BitSet(totalSamples);
+
+            final var foundModels = new ArrayList<T>();
+            final var foundInliersData = new ArrayList<MultiModelInliersData>();
+            while (foundModels.size() < maxModels) {
+                // pick solution having the largest consensus among non-assigned
+                // samples
+                var bestPos = -1;
+                var bestCount = minInliers - 1;
+                for (var i = 0; i < numGenerated; i++) {
+                    if (counts[i] > bestCount) {
+                        bestCount = counts[i];
+                        bestPos = i;
+                    }
+                }
+                if (bestPos < 0) {
+                    // no remaining solution has enough inliers
+                    break;
+                }
+
+                var model = hypotheses.get(bestPos);
+                var inliers = consensusSets.get(bestPos);
+
+                if (refinementEnabled) {
+                    final var refined = listener.refine(model, inliers);
+                    if (refined != null) {
+                        final var refinedInliers = computeConsensusSet(refined, threshold, totalSamples, listener,
+                                residuals, assigned);
+                        if (refinedInliers.cardinality() >= bestCount) {
+                            model = refined;
+                            inliers = refinedInliers;
+                        }
+                    }
+                }
+
+                final var numInliers = inliers.cardinality();
+                foundModels.add(model);
+                foundInliersData.add(new MultiModelInliersData(inliers, numInliers));
+                assigned.or(inliers);
+
+                // remove assigned samples from remaining consensus sets
+                counts[bestPos] = 0;
+                for (var i = 0; i < numGenerated; i++) {
+                    if (counts[i] > 0) {
+                        final var consensusSet = consensusSets.get(i);
+                        consensusSet.andNot(inliers);
+                        counts[i] = consensusSet.cardinality();
+                    }
+                }
+            }
+
+            if (foundModels.isEmpty()) {
+                // no model with enough inliers could be found
+                throw new RobustEstimatorException();
+            }
+
+            models = Collections.unmodifiableList(foundModels);
+            modelsInliersData = Collections.unmodifiableList(foundInliersData);
+
+            listener.onEstimateEnd(this);
+
+            return models;
+        } catch (final SubsetSelectorException e) {
+            throw new RobustEstimatorException(e);
+        } finally {
+            locked = false;
+        }
+    }
+
+    /**
+     * Returns data about inliers of the first found model once estimation has
+     * been done.
+     *
+     * @return data about inliers or null if estimation has not been done.
+     */
+    @Override
+    public InliersData getInliersData() {
+        return modelsInliersData != null ? modelsInliersData.get(0) : null;
+    }
+
+    /**
+     * Returns method being used for robust estimation.
+     * Solutions are scored using the consensus of RANSAC.
+     *
+     * @return method being used for robust estimation.
+     */
+    @Override
+    public RobustEstimatorMethod getMethod() {
+        return RobustEstimatorMethod.RANSAC;
+    }
+
+    /**
+     * Computes consensus set of provided solution, containing samples whose
+     * residual is below threshold.
+     *
+     * @param result       solution to compute consensus set for.
+     * @param threshold    threshold to determine whether samples are inliers or
+     *                     not.
+     * @param totalSamples total number of samples.
+     * @param listener     listener to obtain residuals for samples.
+     * @param residuals    array to be reused to store residuals.
+     * @param excluded     samples to be excluded from consensus set or null if
+     *                     no sample is excluded.
+     * @param <T>          type of solution.
+     * @return consensus set.
+     */
+    private static <T> BitSet computeConsensusSet(
+            final T result, final double threshold, final int totalSamples,
+            final RANSACRobustEstimatorListener<T> listener, final double[] residuals, final BitSet excluded) {
+        listener.computeResiduals(result, 0, totalSamples, residuals);
+
+        final var consensusSet = new BitSet(totalSamples);
+        for (var i = 0; i < totalSamples; i++) {
+            if (residuals[i] <= threshold) {
+                consensusSet.set(i);
+            }
+        }
+        if (excluded != null) {
+            consensusSet.andNot(excluded);
+        }
+        return consensusSet;
+    }
+
+    /**
+     * Contains data related to inliers of each found model.
+     */
+    public static class MultiModelInliersData extends InliersData {
+
+        /**
+         * Efficiently stores which samples are considered inliers of a model
+         * and which ones aren't.
+         */
+        private final BitSet inliers;
+
+        /**
+         * Constructor.
+         *
+         * @param inliers    efficiently stores which samples are considered
+         *                   inliers and which ones aren't.
+         * @param numInliers number of inliers.
+         */
+        protected MultiModelInliersData(final BitSet inliers, final int numInliers) {
+            this.inliers = inliers;
+            this.numInliers = numInliers;
+        }
+
+        /**
+         * Returns efficient array indicating which samples are considered
+         * inliers of a model and which ones aren't.
+         *
+         * @return array indicating which samples are considered inliers and
+         * which ones aren't.
+         */
+        @Override
+        public BitSet getInliers() {
+            return inliers;
+        }
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.statistics.UniformRandomizer;
+
+/**
+ * This class computes indices of subsets of samples using NAPSAC (N Adjacent
+ * Points SAmple Consensus) guided sampling.
+ * A first sample is picked uniformly at random, and the remaining samples of
+ * the subset are picked at random among its neighbours.
+ * Because inliers tend to be spatially close to other inliers while outliers
+ * are usually spread, subsets drawn from local neighbourhoods are much more
+ * likely to contain only inliers than subsets drawn uniformly, which greatly
+ * reduces the number of iterations required by robust estimators when the
+ * ratio of outliers is high.
+ * When a sample does not have enough neighbours, remaining samples are picked
+ * uniformly at random.
+ * This class ensures that samples are not repeated within a single subset.
+ * When an order of samples is provided (i.e. by PROSAC or PROMedS robust
+ * estimators), picked indices are positions within that order, and
+ * neighbourhoods of samples are mapped into their positions.
+ */
+public class NAPSACSubsetSelector extends SubsetSelector {
+
+    /**
+     * Constant defining whether randomizer needs to be initialized with system
+     * timer. By disabling this option it is ensured that the same result is
+     * obtained on each execution.
+     */
+    public static final boolean DEFAULT_SEED_RANDOMIZER_WITH_TIME = false;
+
+    /**
+     * Neighbourhood of samples.
+     */
+    private final SampleNeighbourhood neighbourhood;
+
+    /**
+     * Randomizer to pick random indices.
+     */
+    private final UniformRandomizer randomizer;
+
+    /**
+     * Buffer containing candidate neighbours to be picked.
+     * This is kept around between executions to avoid excessive calls to
+     * garbage collector, hence each thread needs to have a different subset
+     * selector instance.
+     */
+    private int[] candidates = new int[0];
+
+    /**
+     * Indices of samples located at each position, or null if picked positions
+     * are sample indices.
+     */
+    private int[] sampleOrder;
+
+    /**
+     * Positions of each sample within provided order of samples.
+     * This is kept around between executions to avoid excessive calls to
+     * garbage collector.
+     */
+    private int[] samplePositions = new int[0];
+
+    /**
+     * Constructor.
+     *
+     * @param neighbourhood neighbourhood of samples.
+     * @throws NullPointerException     if provided neighbourhood is null.
+     * @throws IllegalArgumentException if provided neighbourhood has no
+     *                                  samples.
+     */
+    public NAPSACSubsetSelector(final SampleNeighbourhood neighbourhood) {
+        this(neighbourhood, DEFAULT_SEED_RANDOMIZER_WITH_TIME);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param neighbourhood          neighbourhood of samples.
+     * @param seedRandomizerWithTime true if randomizer seed must be initialized
+     *                               to system timer to obtain more random results.
+     * @throws NullPointerException     if provided neighbourhood is null.
+     * @throws IllegalArgumentException if provided neighbourhood has no
+     *                                  samples.
+     */
+    public NAPSACSubsetSelector(final SampleNeighbourhood neighbourhood, final boolean seedRandomizerWithTime) {
+        super(neighbourhood.getNumSamples());
+        this.neighbourhood = neighbourhood;
+        randomizer = new UniformRandomizer();
+        if (seedRandomizerWithTime) {
+            randomizer.setSeed(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Returns neighbourhood of samples.
+     *
+     * @return neighbourhood of samples.
+     */
+    public SampleNeighbourhood getNeighbourhood() {
+        return neighbourhood;
+    }
+
+    /**
+     * Sets order of samples, so that picked indices are positions within
+     * provided order, and neighbours of the sample located at a given position
+     * are picked by means of their positions.
+     *
+     * @param sortedIndices indices of samples located at each position, or null
+     *                      if picked positions are sample indices.
+     * @throws IllegalArgumentException if provided array does not have a length
+     *                                  equal to the number of samples.
+     */
+    @Override
+    public void setSampleOrder(final int[] sortedIndices) {
+        if (sortedIndices != null) {
+            if (sortedIndices.length != numSamples) {
+                throw new IllegalArgumentException();
+            }
+            if (samplePositions.length != numSamples) {
+                samplePositions = new int[numSamples];
+            }
+            for (var i = 0; i < numSamples; i++) {
+                samplePositions[sortedIndices[i]] = i;
+            }
+        }
+        sampleOrder = sortedIndices;
+    }
+
+    /**
+     * Returns type of this subset selector.
+     *
+     * @return type of this subset selector.
+     */
+    @Override
+    public SubsetSelectorType getType() {
+        return SubsetSelectorType.NAPSAC_SUBSET_SELECTOR;
+    }
+
+    /**
+     * Computes a random subset of indices within range of number of samples to
+     * be used on robust estimators, where all samples except the first one
+     * belong to the neighbourhood of the first one.
+     *
+     * @param subsetSize subset size to be computed. This value must be smaller
+     *                   than total number of samples.
+     * @param result     array containing indices to be picked. Provided array must
+     *                   be at least of length subsetSize. The former subsetSize entries of the
+     *                   array will be modified by this method.
+     * @throws NotEnoughSamplesException  if subset size is greater than the
+     *                                    total number of samples, or if number of samples does not match the
+     *                                    number of samples of the neighbourhood.
+     * @throws InvalidSubsetSizeException if subset size is zero or if result
+     *                                    array does not have at least a length of subsetSize.
+     */
+    @Override
+    public void computeRandomSubsets(final int subsetSize, final int[] result) throws NotEnoughSamplesException,
+            InvalidSubsetSizeException {
+        checkSubsetSize(subsetSize, result);
+
+        final var center = randomizer.nextInt(0, numSamples);
+        result[0] = center;
+
+        final var neighbours = neighbourhood.getNeighbours(toSample(center));
+        final var count = copyCandidates(neighbours, neighbours.length, 0, numSamples);
+        pickCandidates(count, subsetSize, 1, 0, numSamples, result);
+    }
+
+    /**
+     * Computes a random subset of indices within provided range of positions to
+     * be used on robust estimators, where all samples except the first one
+     * are picked among the neighbours of the first one that lie within
+     * provided range.
+     *
+     * @param minPos     minimum position to be picked. This value must be greater
+     *                   or equal than zero and smaller than the total number of samples and less
+     *                   than maxPos.
+     * @param maxPos     maximum position to be picked. This value must be greater
+     *                   or equal than zero and smaller than the total number of samples and
+     *                   greater than minPos.
+     * @param subsetSize subset size to be computed. This value must be smaller
+     *                   than total number of samples.
+     * @param pickLast   true indicates that last sample in range must always be
+     *                   picked within subset, and hence used as the first sample whose
+     *                   neighbourhood is sampled.
+     * @param result     array containing indices to be picked. Provided array must
+     *                   be at least of length subsetSize. The former subsetSize entries of the
+     *                   array will be modified by this method.
+     * @throws NotEnoughSamplesException   if subset size is greater than the
+     *                                     total number of samples, if maxPos is greater than the total number of
+     *                                     samples, or if number of samples does not match the number of samples of
+     *                                     the neighbourhood.
+     * @throws InvalidSubsetSizeException  if subset size is zero or if result
+     *                                     array does not have at least a length of subsetSize, or if subset size
+     *                                     is greater than the allowed range of positions to be picked.
+     * @throws InvalidSubsetRangeException if maximum position is smaller than
+     *                                     minimum position or maximum or minimum position are negative.
+     */
+    @Override
+    public void computeRandomSubsetsInRange(
+            final int minPos, final int maxPos, final int subsetSize, final boolean pickLast, final int[] result)
+            throws NotEnoughSamplesException, InvalidSubsetSizeException, InvalidSubsetRangeException {
+        if (subsetSize == 0 || result.length < subsetSize) {
+            throw new InvalidSubsetSizeException();
+        }
+        if (minPos >= maxPos || maxPos < 0 || minPos < 0) {
+            throw new InvalidSubsetRangeException();
+        }
+        if ((maxPos - minPos) < subsetSize) {
+            throw new InvalidSubsetSizeException();
+        }
+        if (numSamples < subsetSize || maxPos > numSamples || numSamples != neighbourhood.getNumSamples()) {
+            throw new NotEnoughSamplesException();
+        }
+
+        final var center = pickLast ? maxPos - 1 : randomizer.nextInt(minPos, maxPos);
+        result[0] = center;
+
+        final var neighbours = neighbourhood.getNeighbours(toSample(center));
+        final var count = copyCandidates(neighbours, neighbours.length, minPos, maxPos);
+        pickCandidates(count, subsetSize, 1, minPos, maxPos, result);
+    }
+
+    /**
+     * Returns internal randomizer to generate uniformly distributed random
+     * values.
+     *
+     * @return internal randomizer.
+     */
+    protected UniformRandomizer getRandomizer() {
+        return randomizer;
+    }
+
+    /**
+     * Checks that provided subset size is valid for current number of samples
+     * and neighbourhood.
+     *
+     * @param subsetSize subset size to be computed.
+     * @param result     array where indices will be stored.
+     * @throws NotEnoughSamplesException  if subset size is greater than the
+     *                                    total number of samples, or if number of samples does not match the
+     *                                    number of samples of the neighbourhood.
+     * @throws InvalidSubsetSizeException if subset size is zero or if result
+     *                                    array does not have at least a length of subsetSize.
+     */
+    protected void checkSubsetSize(final int subsetSize, final int[] result) throws NotEnoughSamplesException,
+            InvalidSubsetSizeException {
+        if (subsetSize == 0 || result.length < subsetSize) {
+            throw new InvalidSubsetSizeException();
+        }
+        if (numSamples < subsetSize || numSamples != neighbourhood.getNumSamples()) {
+            throw new NotEnoughSamplesException();
+        }
+    }
+
+    /**
+     * Returns index of sample located at provided position.
+     *
+     * @param position position of a sample.
+     * @return index of sample.
+     */
+    protected int toSample(final int position) {
+        return sampleOrder != null ? sampleOrder[position] : position;
+    }
+
+    /**
+     * Returns position of provided sample.
+     *
+     * @param sample index of a sample.
+     * @return position of sample.
+     */
+    protected int toPosition(final int sample) {
+        return sampleOrder != null ? samplePositions[sample] : sample;
+    }
+
+    /**
+     * Copies the positions of the first provided number of neighbours lying
+     * within provided range into the internal buffer of candidates.
+     *
+     * @param neighbours neighbours of a sample.
+     * @param length     number of neighbours to take into account.
+     * @param minPos     minimum position of candidates (inclusive).
+     * @param maxPos     maximum position of candidates (exclusive).
+     * @return number of copied candidates.
+     */
+    protected int copyCandidates(final int[] neighbours, final int length, final int minPos, final int maxPos) {
+        if (candidates.length < length) {
+            candidates = new int[length];
+        }
+
+        var count = 0;
+        for (var i = 0; i < length; i++) {
+            final var neighbour = toPosition(neighbours[i]);
+            if (neighbour >= minPos && neighbour < maxPos) {
+                candidates[count++] = neighbour;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Picks distinct random candidates from the internal buffer of candidates
+     * to fill provided result starting at provided position, using a partial
+     * Fisher-Yates shuffle.
+     * If there are not enough candidates, remaining samples are picked
+     * uniformly within provided range.
+     *
+     * @param count      number of available candidates.
+     * @param subsetSize subset size to be computed.
+     * @param start      first position of result to be filled.
+     * @param minPos     minimum position to be picked uniformly (inclusive).
+     * @param maxPos     maximum position to be picked uniformly (exclusive).
+     * @param result     array containing indices to be picked.
+     */
+    protected void pickCandidates(final int count, final int subsetSize, final int start, final int minPos,
+                                  final int maxPos, final int[] result) {
+        var available = count;
+        var counter = start;
+        while (counter < subsetSize && available > 0) {
+            final var pos = randomizer.nextInt(0, available);
+            final var candidate = candidates[pos];
+            candidates[pos] = candidates[--available];
+
+            if (!contains(result, counter, candidate)) {
+                result[counter++] = candidate;
+            }
+        }
+
+        fillUniformly(minPos, maxPos, subsetSize, result, counter);
+    }
+
+    /**
+     * Fills positions of provided result starting at provided position with
+     * distinct samples picked uniformly within provided range.
+     *
+     * @param minPos     minimum position to be picked (inclusive).
+     * @param maxPos     maximum position to be picked (exclusive).
+     * @param subsetSize subset size to be computed.
+     * @param result     array containing indices to be picked.
+     * @param start      first position of result to be filled.
+     */
+    private void fillUniformly(final int minPos, final int maxPos, final int subsetSize, final int[] result,
+                               final int start) {
+        var counter = start;
+        while (counter < subsetSize) {
+            final var index = randomizer.nextInt(minPos, maxPos);
+            if (!contains(result, counter, index)) {
+                result[counter++] = index;
+            }
+        }
+    }
+
+    /**
+     * Indicates whether provided index is contained among the first provided
+     * number of entries of provided array.
+     *
+     * @param values array of indices.
+     * @param length number of entries to be checked.
+     * @param index  index to be found.
+     * @return true if index is found, false otherwise.
+     */
+    private static boolean contains(final int[] values, final int length, final int index) {
+        for (var i = 0; i < length; i++) {
+            if (values[i] == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
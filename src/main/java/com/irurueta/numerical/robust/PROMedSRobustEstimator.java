@@ -17,11 +17,9 @@ package com.irurueta.numerical.robust;
 
 import com.irurueta.numerical.LockedException;
 import com.irurueta.numerical.NotReadyException;
-import com.irurueta.sorting.Sorter;
 import com.irurueta.sorting.SortingException;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.BitSet;
 
 /**
@@ -174,11 +172,24 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
      */
     public static final double STD_CONSTANT = 1.4826;
 
+    /**
+     * Indicates that by default median computation is skipped when it can be
+     * proven that median of residuals of a preliminary solution cannot improve
+     * best median found so far.
+     */
+    public static final boolean DEFAULT_MEDIAN_EARLY_STOP_ENABLED = true;
+
     /**
      * Chi squared.
      */
     public static final double CHI_SQUARED = 2.706;
 
+    /**
+     * Indicates that by default inliers data found on an estimation is not
+     * reused by later estimations.
+     */
+    public static final boolean DEFAULT_INLIERS_DATA_REUSE_ENABLED = false;
+
     /**
      * Amount of confidence expressed as a value between 0 and 1.0 (which is
      * equivalent to 100%). The amount of confidence indicates the probability
@@ -260,6 +271,13 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
      */
     private double inlierFactor;
 
+    /**
+     * Indicates whether median computation is skipped when residuals of a
+     * preliminary solution prove that its median cannot be smaller than best
+     * median found so far.
+     */
+    private boolean medianEarlyStopEnabled;
+
     /**
      * Flag indicating whether thresholds to determine inliers are used, or if
      * only median of residuals is used. When true, the algorithm will try
@@ -267,6 +285,57 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
      */
     private boolean useInlierThresholds;
 
+    /**
+     * Sampling schedule to be reused among estimations. When not provided, a
+     * new schedule is computed from quality scores on each estimation.
+     */
+    private PROSACSchedule schedule;
+
+    /**
+     * Indicates whether inliers data found on an estimation can be reused by
+     * later estimations.
+     */
+    private boolean inliersDataReuseEnabled;
+
+    /**
+     * Reusable list that will contain preliminary solutions on each iteration.
+     */
+    private ArrayList<T> iterResults;
+
+    /**
+     * Reusable array containing subset indices obtained from a subset selector.
+     */
+    private int[] subsetIndices;
+
+    /**
+     * Reusable array containing subset indices referred to the real samples
+     * positions after taking into account the sorted indices obtained from
+     * quality scores.
+     */
+    private int[] transformedSubsetIndices;
+
+    /**
+     * Reusable array where residuals are copied to compute their median.
+     */
+    private double[] residualsTemp;
+
+    /**
+     * Reusable array containing inliers efficiently.
+     */
+    private BitSet inliers;
+
+    /**
+     * Inliers data that was used as working instance on last estimation and
+     * can be reused on next one.
+     */
+    private PROMedSInliersData spareInliersData;
+
+    /**
+     * Best inliers data of last estimation, which is reused on next one when
+     * inliers data reuse is enabled.
+     */
+    private PROMedSInliersData recycledInliersData;
+
     /**
      * Constructor.
      */
@@ -282,7 +351,9 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
         bestInliersData = null;
         stopThresholdEnabled = DEFAULT_STOP_THRESHOLD_ENABLED;
         inlierFactor = DEFAULT_INLIER_FACTOR;
+        medianEarlyStopEnabled = DEFAULT_MEDIAN_EARLY_STOP_ENABLED;
         useInlierThresholds = DEFAULT_USE_INLIER_THRESHOLD;
+        inliersDataReuseEnabled = DEFAULT_INLIERS_DATA_REUSE_ENABLED;
     }
 
     /**
@@ -304,7 +375,9 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
         bestInliersData = null;
         stopThresholdEnabled = DEFAULT_STOP_THRESHOLD_ENABLED;
         inlierFactor = DEFAULT_INLIER_FACTOR;
+        medianEarlyStopEnabled = DEFAULT_MEDIAN_EARLY_STOP_ENABLED;
         useInlierThresholds = DEFAULT_USE_INLIER_THRESHOLD;
+        inliersDataReuseEnabled = DEFAULT_INLIERS_DATA_REUSE_ENABLED;
     }
 
     /**
@@ -446,6 +519,42 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
         this.inlierFactor = inlierFactor;
     }
 
+    /**
+     * Indicates whether median computation is skipped when residuals of a
+     * preliminary solution prove that its median cannot be smaller than best
+     * median found so far.
+     * Such preliminary solutions can never become the best solution, hence
+     * enabling this option does not change the estimated result, but saves
+     * the cost of computing their median.
+     *
+     * @return true if median computation is skipped when it cannot improve
+     * best median, false otherwise.
+     */
+    public boolean isMedianEarlyStopEnabled() {
+        return medianEarlyStopEnabled;
+    }
+
+    /**
+     * Specifies whether median computation is skipped when residuals of a
+     * preliminary solution prove that its median cannot be smaller than best
+     * median found so far.
+     * Such preliminary solutions can never become the best solution, hence
+     * enabling this option does not change the estimated result, but saves
+     * the cost of computing their median.
+     *
+     * @param medianEarlyStopEnabled true if median computation is skipped when
+     *                               it cannot improve best median, false otherwise.
+     * @throws LockedException if this estimator is locked because an estimation
+     *                         is being computed.
+     */
+    public void setMedianEarlyStopEnabled(final boolean medianEarlyStopEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+
+        this.medianEarlyStopEnabled = medianEarlyStopEnabled;
+    }
+
     /**
      * Returns flag indicating whether thresholds to determine inliers are used,
      * or if only median of residuals is used. When true, the algorithm will try
@@ -617,6 +726,102 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
         return bestInliersData;
     }
 
+    /**
+     * Returns instance in charge of picking random subsets of samples.
+     * If no subset selector has been provided, a uniform random subset selector
+     * is created on first estimation.
+     *
+     * @return instance in charge of picking random subsets of samples.
+     */
+    public SubsetSelector getSubsetSelector() {
+        return subsetSelector;
+    }
+
+    /**
+     * Sets instance in charge of picking random subsets of samples.
+     * Provided subset selector must support picking subsets within a range of
+     * samples. Allocation free subset selectors (i.e.
+     * {@link XoroshiroSubsetSelector}) can be provided to avoid allocating
+     * memory on repeated estimations. Guided subset selectors (i.e.
+     * {@link NAPSACSubsetSelector}) are provided with the order of samples
+     * sorted by their quality during estimation, so that picked subsets
+     * contain neighbouring samples. If null is provided, a uniform random
+     * subset selector is created on next estimation.
+     *
+     * @param subsetSelector instance in charge of picking random subsets of
+     *                       samples.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setSubsetSelector(final SubsetSelector subsetSelector) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.subsetSelector = subsetSelector;
+    }
+
+    /**
+     * Indicates whether inliers data found on an estimation can be reused by
+     * later estimations.
+     * When enabled, repeated estimations on data having the same number of
+     * samples do not allocate memory, however inliers data returned by an
+     * estimation gets overwritten by next estimation.
+     *
+     * @return true if inliers data is reused, false otherwise.
+     */
+    public boolean isInliersDataReuseEnabled() {
+        return inliersDataReuseEnabled;
+    }
+
+    /**
+     * Specifies whether inliers data found on an estimation can be reused by
+     * later estimations.
+     * When enabled, repeated estimations on data having the same number of
+     * samples do not allocate memory, however inliers data returned by an
+     * estimation gets overwritten by next estimation.
+     *
+     * @param inliersDataReuseEnabled true if inliers data is reused, false
+     *                                otherwise.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setInliersDataReuseEnabled(final boolean inliersDataReuseEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.inliersDataReuseEnabled = inliersDataReuseEnabled;
+    }
+
+    /**
+     * Returns sampling schedule to be reused among estimations.
+     * When no schedule is provided, quality scores are sorted and the growth
+     * function is evaluated on each estimation.
+     *
+     * @return sampling schedule to be reused or null if a new schedule is
+     * computed on each estimation.
+     */
+    public PROSACSchedule getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Sets sampling schedule to be reused among estimations.
+     * When a schedule is provided, quality scores of the listener are ignored
+     * and samples are prioritized using the ordering contained in the
+     * schedule, which avoids sorting quality scores on each estimation. This
+     * is useful when estimations are repeated on data having the same number
+     * of samples and a similar quality ordering. The same schedule can be
+     * shared among several estimators.
+     *
+     * @param schedule sampling schedule to be reused or null to compute a new
+     *                 schedule on each estimation.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setSchedule(final PROSACSchedule schedule) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.schedule = schedule;
+    }
+
     /**
      * Indicates if estimator is ready to start the estimation process.
      *
@@ -660,11 +865,7 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
             final var totalSamples = listener.getTotalSamples();
             final var subsetSize = listener.getSubsetSize();
 
-            final var qualityScores = listener.getQualityScores();
-            // check for invalid quality scores length
-            if (qualityScores.length != totalSamples) {
-                throw new RobustEstimatorException();
-            }
+            final var currentSchedule = getOrCreateSchedule(listener, totalSamples, subsetSize);
 
             var inlierThreshold = 0.0;
             if (useInlierThresholds) {
@@ -672,22 +873,16 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
             }
             // obtain indices referring to original samples position after sorting
             // quality scores in descending order
-            final var sortedIndices = computeSortedQualityIndices(listener.getQualityScores());
+            final var sortedIndices = currentSchedule.getSortedIndices();
 
-            // reusable list that will contain preliminary solutions on each
-            // iteration
-            final var iterResults = new ArrayList<T>();
+            // reuse list that will contain preliminary solutions on each
+            // iteration, subset indices obtained from a subset selector and
+            // transformed into the real samples positions, temporal residuals
+            // and array containing inliers efficiently
+            prepareWorkspace(totalSamples, subsetSize);
             bestResult = null;
             var previousProgress = 0.0f;
             float progress;
-            // subset indices obtained from a subset selector
-            final var subsetIndices = new int[subsetSize];
-            final var residualsTemp = new double[totalSamples];
-            // subset indices referred to the real samples positions after taking
-            // into account the sorted indices obtained from quality scores
-            final var transformedSubsetIndices = new int[subsetSize];
-            // array containing inliers efficiently
-            final var inliers = new BitSet(totalSamples);
 
             // T_N
             iters = Math.min(computeIterations(1.0 - maxOutliersProportion, subsetSize, confidence),
@@ -709,20 +904,15 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
             // (n) we draw samples from the set U_n
             // of the top n (sampleSize) data points
             var sampleSize = subsetSize;
-            // average number of samples "{M_i}_{i=1}^{Tn}"
-            // that contains samples from U_n only
-            double tn = iters;
-            // integer version of Tn
-            var tnPrime = 1;
+            // growth function containing integer version of Tn
+            // (average number of samples "{M_i}_{i=1}^{Tn}" that contains
+            // samples from U_n only) for each sampleSize
+            final var growth = currentSchedule.getGrowth(subsetSize, iters);
+            var tnPrime = growth[0];
             // number of samples to draw to reach the
             // maximality constraint
             var kNStar = iters;
 
-            // initialize Tn
-            for (var i = 0; i < subsetSize; i++) {
-                tn *= (double) (sampleSize - i) / (double) (totalSamples - i);
-            }
-
             if (subsetSelector == null) {
                 // create new subset selector
                 subsetSelector = SubsetSelector.create(totalSamples);
@@ -730,11 +920,14 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
                 // set number of samples to current subset selector
                 subsetSelector.setNumSamples(totalSamples);
             }
+            // subsets are picked among positions of sorted samples
+            subsetSelector.setSampleOrder(sortedIndices);
 
             // data related to inliers
-            var inliersData = new PROMedSInliersData(totalSamples);
-            // sorter to compute medians
-            final var sorter = Sorter.<Double>create();
+            var inliersData = obtainInliersData(totalSamples);
+            // best inlier data found within this run, which is recycled once
+            // a better solution is found
+            PROMedSInliersData currentBestInliersData = null;
 
             // indicates if result improved
             boolean improved;
@@ -760,10 +953,8 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
                 // g(t) = min{n : TnPrime > t} where n is sampleSize
                 // Thus sampleSize should be incremented if currentIter > TnPrime
                 if ((currentIter > tnPrime) && (sampleSize < sampleSizeStar)) {
-                    final var TnPlus1 = (tn * (sampleSize + 1)) / (sampleSize + 1 - subsetSize);
                     sampleSize++;
-                    tnPrime += (int) Math.ceil(TnPlus1 - tn);
-                    tn = TnPlus1;
+                    tnPrime = growth[sampleSize - subsetSize];
                 }
 
                 // Draw semi-random sample
@@ -792,12 +983,14 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
                 // given result
                 int inliersCurrent;
 
-                // iterate over all solutions that have been found
+                // iterate over all solutions that have been found, using an
+                // index to avoid creating an iterator on each iteration
                 improved = false;
-                for (final var iterResult : iterResults) {
+                for (var k = 0; k < iterResults.size(); k++) {
+                    final var iterResult = iterResults.get(k);
                     // compute inliers
                     computeInliers(iterResult, subsetSize, inlierFactor, useInlierThresholds, inlierThreshold,
-                            residualsTemp, listener, sorter, inliersData);
+                            residualsTemp, listener, medianEarlyStopEnabled, inliersData);
                     inliersCurrent = inliersData.getNumInliers();
 
                     if (inliersData.isMedianResidualImproved()) {
@@ -817,9 +1010,12 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
                         // keep current solution
                         bestResult = iterResult;
 
-                        keepInliersData(inliersData, totalSamples);
-                        // create new instance after keeping inlier data
-                        inliersData = inliersData.createCopy();
+                        // keep inlier data and recycle the instance of the
+                        // previous best solution of this run as the new
+                        // working instance
+                        final var previousBestInliersData = currentBestInliersData;
+                        currentBestInliersData = inliersData;
+                        inliersData = keepInliersData(inliersData, previousBestInliersData, totalSamples);
 
                         // select new termination length sampleSizeStar if possible
                         // only when a new sample is better than the others found
@@ -922,6 +1118,10 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
                 listener.onEstimateNextIteration(this, currentIter);
             }
 
+            // working inliers data is not referenced by best result, hence it
+            // can be reused on next estimation
+            spareInliersData = inliersData;
+
             // no solution could be found after completing all iterations
             if (bestResult == null) {
                 throw new RobustEstimatorException();
@@ -933,10 +1133,30 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
         } catch (final SubsetSelectorException | SortingException e) {
             throw new RobustEstimatorException(e);
         } finally {
+            if (subsetSelector != null) {
+                subsetSelector.setSampleOrder(null);
+            }
             locked = false;
         }
     }
 
+    /**
+     * Releases working buffers that are kept between estimations.
+     *
+     * @throws LockedException if robust estimator is locked.
+     */
+    @Override
+    public void releaseWorkspace() throws LockedException {
+        super.releaseWorkspace();
+        iterResults = null;
+        subsetIndices = null;
+        transformedSubsetIndices = null;
+        residualsTemp = null;
+        inliers = null;
+        spareInliersData = null;
+        recycledInliersData = null;
+    }
+
     /**
      * Returns data about inliers once estimation has been done.
      *
@@ -981,24 +1201,25 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
     /**
      * Computes inliers data for current iteration.
      *
-     * @param <T>                 type of result to be estimated.
-     * @param iterResult          result to be tested on current iteration.
-     * @param subsetSize          subset sample size to be picked on each iteration.
-     * @param inlierFactor        factor to adjust threshold to determine whether
-     *                            samples are inliers or not.
-     * @param useInlierThresholds true to use thresholds to determine inliers,
-     *                            false otherwise.
-     * @param inlierThreshold     threshold to determine which samples are inliers.
-     * @param residualsTemp       temporal array to store residuals, since median
-     *                            computation requires modifying the original array.
-     * @param listener            listener to obtain residuals for samples.
-     * @param sorter              sorter instance to compute median of residuals.
-     * @param inliersData         inliers data to be reused on each iteration
+     * @param <T>                    type of result to be estimated.
+     * @param iterResult             result to be tested on current iteration.
+     * @param subsetSize             subset sample size to be picked on each iteration.
+     * @param inlierFactor           factor to adjust threshold to determine whether
+     *                               samples are inliers or not.
+     * @param useInlierThresholds    true to use thresholds to determine inliers,
+     *                               false otherwise.
+     * @param inlierThreshold        threshold to determine which samples are inliers.
+     * @param residualsTemp          temporal array to store residuals, since median
+     *                               computation requires modifying the original array.
+     * @param listener               listener to obtain residuals for samples.
+     * @param medianEarlyStopEnabled true to skip median computation when median
+     *                               cannot improve best median found so far.
+     * @param inliersData            inliers data to be reused on each iteration
      */
     private static <T> void computeInliers(
             final T iterResult, final int subsetSize, final double inlierFactor, final boolean useInlierThresholds,
             final double inlierThreshold, final double[] residualsTemp, final LMedSRobustEstimatorListener<T> listener,
-            final Sorter<Double> sorter, final PROMedSInliersData inliersData) {
+            final boolean medianEarlyStopEnabled, final PROMedSInliersData inliersData) {
 
         final var residuals = inliersData.getResiduals();
         final var lmedsInliers = inliersData.getInliersLMedS();
@@ -1008,12 +1229,19 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
 
         final var totalSamples = residuals.length;
 
+        listener.computeResiduals(iterResult, 0, totalSamples, residuals);
         for (var i = 0; i < totalSamples; i++) {
-            residuals[i] = Math.abs(listener.computeResidual(iterResult, i));
+            residuals[i] = Math.abs(residuals[i]);
+        }
+
+        if (medianEarlyStopEnabled && !MedianSelector.canBeBelow(residuals, totalSamples, bestMedianResidual)) {
+            // median cannot improve, hence current solution is discarded
+            inliersData.medianResidualImproved = false;
+            return;
         }
 
-        System.arraycopy(residuals, 0, residualsTemp, 0, residuals.length);
-        final var medianResidual = sorter.median(residualsTemp);
+        System.arraycopy(residuals, 0, residualsTemp, 0, totalSamples);
+        final var medianResidual = MedianSelector.median(residualsTemp, totalSamples);
         if (medianResidual < bestMedianResidual) {
             bestMedianResidual = medianResidual;
             medianResidualImproved = true;
@@ -1070,42 +1298,38 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
     }
 
     /**
-     * Obtains indices of samples corresponding to samples ordered in descending
+     * Returns sampling schedule to be used on current estimation, which is
+     * either the provided schedule to be reused, or a new one computed from
      * quality scores.
      *
-     * @param qualityScores quality scores associated to each sample to be used
-     *                      to obtain indices to sort samples in descending order of quality values.
-     * @return indices to sort samples in descending order of quality values.
-     * @throws SortingException if sorting fails.
-     */
-    private static int[] computeSortedQualityIndices(double[] qualityScores) throws SortingException {
-        final var sorter = Sorter.<Double>create();
-        final var qualityScoresCopy = Arrays.copyOf(qualityScores, qualityScores.length);
-        // this method modifies quality scores copy array because it gets sorted
-        // in ascending order. Indices contains indices of samples corresponding
-        // to quality scores ordered in ascending order
-        final var indices = sorter.sortWithIndices(qualityScoresCopy);
-
-        // reverse indices so we have indices of samples ordered in descending
-        // order of quality
-        reverse(indices);
-
-        return indices;
-    }
+     * @param listener     listener to obtain quality scores.
+     * @param totalSamples total number of samples.
+     * @param subsetSize   size of subsets of samples.
+     * @return sampling schedule.
+     * @throws RobustEstimatorException if schedule or quality scores do not
+     *                                  match the number of samples, or subset size is larger than the number of
+     *                                  samples.
+     * @throws SortingException         if quality scores cannot be sorted.
+     */
+    private PROSACSchedule getOrCreateSchedule(
+            final PROMedSRobustEstimatorListener<T> listener, final int totalSamples, final int subsetSize)
+            throws RobustEstimatorException, SortingException {
+        final PROSACSchedule result;
+        if (schedule != null) {
+            result = schedule;
+        } else {
+            final var qualityScores = listener.getQualityScores();
+            // check for invalid quality scores length
+            if (qualityScores == null || qualityScores.length != totalSamples) {
+                throw new RobustEstimatorException();
+            }
+            result = new PROSACSchedule(qualityScores);
+        }
 
-    /**
-     * Reverses provided array.
-     *
-     * @param array array to be reversed.
-     */
-    private static void reverse(final int[] array) {
-        var length = array.length;
-        for (var i = 0; i < length / 2; i++) {
-            var temp = array[i];
-            var pos = length - 1 - i;
-            array[i] = array[pos];
-            array[pos] = temp;
+        if (result.getTotalSamples() != totalSamples || subsetSize > totalSamples) {
+            throw new RobustEstimatorException();
         }
+        return result;
     }
 
     /**
@@ -1160,27 +1384,81 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
     }
 
     /**
-     * Keeps inliers data stored and initializes a new one with proper
-     * initial values.
+     * Initializes working buffers to be used on an estimation, reusing the ones
+     * of previous estimations when their size matches.
+     *
+     * @param totalSamples total number of samples.
+     * @param subsetSize   subset sample size to be picked on each iteration.
+     */
+    private void prepareWorkspace(final int totalSamples, final int subsetSize) {
+        if (iterResults == null) {
+            iterResults = new ArrayList<>();
+        }
+        if (subsetIndices == null || subsetIndices.length != subsetSize) {
+            subsetIndices = new int[subsetSize];
+            transformedSubsetIndices = new int[subsetSize];
+        }
+        if (residualsTemp == null || residualsTemp.length != totalSamples) {
+            residualsTemp = new double[totalSamples];
+            inliers = new BitSet(totalSamples);
+        }
+        if (inliersDataReuseEnabled && bestInliersData != null) {
+            // inliers data of previous estimation will be overwritten
+            recycledInliersData = bestInliersData;
+            bestInliersData = null;
+        }
+    }
+
+    /**
+     * Obtains an instance of inliers data to be used on current estimation.
+     * The spare instance of previous estimation, or the best inliers data of
+     * previous estimation if reuse is enabled, is reset and returned when its
+     * size matches. Otherwise, a new instance is created.
+     *
+     * @param totalSamples total number of samples.
+     * @return inliers data to be used on current estimation.
+     */
+    private PROMedSInliersData obtainInliersData(final int totalSamples) {
+        PROMedSInliersData result = null;
+        if (spareInliersData != null) {
+            result = spareInliersData;
+            spareInliersData = null;
+        } else if (recycledInliersData != null) {
+            result = recycledInliersData;
+            recycledInliersData = null;
+        }
+
+        if (result == null || result.getResiduals().length != totalSamples) {
+            return new PROMedSInliersData(totalSamples);
+        }
+
+        result.update(Double.MAX_VALUE, Double.MAX_VALUE, true, result.getResiduals(), 0, Double.MAX_VALUE,
+                Double.MAX_VALUE, false);
+        return result;
+    }
+
+    /**
+     * Keeps inliers data stored and initializes a new working instance with
+     * the same values, so that only better solutions found later can update
+     * it.
+     * Provided recycled instance (if any) is reused to avoid allocating new
+     * buffers each time a better solution is found.
      *
      * @param inliersData  inliers data to be stored.
+     * @param recycled     previously kept inliers data of current estimation
+     *                     that can be reused, or null if none is available.
      * @param totalSamples total number of samples.
+     * @return new working inliers data instance.
      */
-    private void keepInliersData(PROMedSInliersData inliersData, final int totalSamples) {
+    private PROMedSInliersData keepInliersData(
+            final PROMedSInliersData inliersData, final PROMedSInliersData recycled, final int totalSamples) {
         // keep the best inliers data corresponding to best solution,
         // in case it can be useful along with the result
         bestInliersData = inliersData;
 
-        // create new inliers data instance until a new best solution
-        // is found
-        final var bestMedianResidual = inliersData.getBestMedianResidual();
-        inliersData = new PROMedSInliersData(totalSamples);
-        // update the best median residual on new instance so that
-        // only better solutions that are found later can update
-        // inliers data
-        inliersData.update(bestMedianResidual, inliersData.getStandardDeviation(),
-                inliersData.isLMedSInlierModelEnabled(), inliersData.getResiduals(), inliersData.getNumInliers(),
-                bestMedianResidual, inliersData.getEstimatedThreshold(), false);
+        final var result = recycled != null ? recycled : obtainInliersData(totalSamples);
+        result.copyFrom(inliersData);
+        return result;
     }
 
     /**
@@ -1259,24 +1537,24 @@ public class PROMedSRobustEstimator<T> extends RobustEstimator<T> {
         }
 
         /**
-         * Creates a copy of inlier data.
+         * Copies data of provided instance into this instance, reusing
+         * already allocated buffers.
          *
-         * @return copy of inlier data.
+         * @param other instance to copy data from.
          */
-        PROMedSInliersData createCopy() {
-            final var result = new PROMedSInliersData(residuals.length);
-            result.bestMedianResidual = bestMedianResidual;
-            result.standardDeviation = standardDeviation;
-            result.medianResidual = medianResidual;
-            result.estimatedThreshold = estimatedThreshold;
-            result.inliersLmeds = (BitSet) inliersLmeds.clone();
-            result.inliersMsac = (BitSet) inliersMsac.clone();
-            result.lmedsInlierModelEnabled = lmedsInlierModelEnabled;
-            result.residuals = Arrays.copyOf(residuals, residuals.length);
-            result.numInliers = numInliers;
-            result.medianResidualImproved = medianResidualImproved;
-
-            return result;
+        void copyFrom(final PROMedSInliersData other) {
+            bestMedianResidual = other.bestMedianResidual;
+            standardDeviation = other.standardDeviation;
+            medianResidual = other.medianResidual;
+            estimatedThreshold = other.estimatedThreshold;
+            inliersLmeds.clear();
+            inliersLmeds.or(other.inliersLmeds);
+            inliersMsac.clear();
+            inliersMsac.or(other.inliersMsac);
+            lmedsInlierModelEnabled = other.lmedsInlierModelEnabled;
+            System.arraycopy(other.residuals, 0, residuals, 0, residuals.length);
+            numInliers = other.numInliers;
+            medianResidualImproved = other.medianResidualImproved;
         }
 
         /**
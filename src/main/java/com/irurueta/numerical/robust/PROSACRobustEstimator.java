@@ -17,7 +17,6 @@ package com.irurueta.numerical.robust;
 
 import com.irurueta.numerical.LockedException;
 import com.irurueta.numerical.NotReadyException;
-import com.irurueta.sorting.Sorter;
 import com.irurueta.sorting.SortingException;
 
 import java.util.ArrayList;
@@ -150,6 +149,23 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
      */
     public static final boolean DEFAULT_COMPUTE_AND_KEEP_RESIDUALS = false;
 
+    /**
+     * Indicates that by default inliers data is computed during estimation
+     * every time a new best solution is found.
+     */
+    public static final boolean DEFAULT_LAZY_INLIERS_DATA_ENABLED = false;
+
+    /**
+     * Indicates that by default residuals are kept with double precision.
+     */
+    public static final boolean DEFAULT_FLOAT_RESIDUALS_ENABLED = false;
+
+    /**
+     * Indicates that by default inliers data found on an estimation is not
+     * reused by later estimations.
+     */
+    public static final boolean DEFAULT_INLIERS_DATA_REUSE_ENABLED = false;
+
     /**
      * Amount of confidence expressed as a value between 0 and 1.0 (which is
      * equivalent to 100%). The amount of confidence indicates the probability
@@ -220,6 +236,58 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
      */
     private boolean computeAndKeepResiduals;
 
+    /**
+     * Indicates whether only the best solution is kept during estimation, and
+     * inliers and residuals are computed for it the first time they are
+     * requested.
+     */
+    private boolean lazyInliersDataEnabled;
+
+    /**
+     * Indicates whether residuals are kept with float precision to halve
+     * memory usage.
+     */
+    private boolean floatResidualsEnabled;
+
+    /**
+     * Indicates whether inliers data found on an estimation can be reused by
+     * later estimations.
+     */
+    private boolean inliersDataReuseEnabled;
+
+    /**
+     * Sampling schedule to be reused among estimations. When not provided, a
+     * new schedule is computed from quality scores on each estimation.
+     */
+    private PROSACSchedule schedule;
+
+    /**
+     * Reusable list that will contain preliminary solutions on each iteration.
+     */
+    private ArrayList<T> iterResults;
+
+    /**
+     * Reusable array containing subset indices obtained from a subset selector.
+     */
+    private int[] subsetIndices;
+
+    /**
+     * Reusable array containing subset indices referred to the real samples
+     * positions after taking into account the sorted indices obtained from
+     * quality scores.
+     */
+    private int[] transformedSubsetIndices;
+
+    /**
+     * Reusable array containing inliers efficiently.
+     */
+    private BitSet inliers;
+
+    /**
+     * Reusable array where residuals of each preliminary solution are
+     * computed.
+     */
+    private double[] residuals;
 
     /**
      * Constructor.
@@ -236,6 +304,9 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
         bestInliersData = null;
         computeAndKeepInliers = DEFAULT_COMPUTE_AND_KEEP_INLIERS;
         computeAndKeepResiduals = DEFAULT_COMPUTE_AND_KEEP_RESIDUALS;
+        lazyInliersDataEnabled = DEFAULT_LAZY_INLIERS_DATA_ENABLED;
+        floatResidualsEnabled = DEFAULT_FLOAT_RESIDUALS_ENABLED;
+        inliersDataReuseEnabled = DEFAULT_INLIERS_DATA_REUSE_ENABLED;
     }
 
     /**
@@ -257,6 +328,9 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
         bestInliersData = null;
         computeAndKeepInliers = DEFAULT_COMPUTE_AND_KEEP_INLIERS;
         computeAndKeepResiduals = DEFAULT_COMPUTE_AND_KEEP_RESIDUALS;
+        lazyInliersDataEnabled = DEFAULT_LAZY_INLIERS_DATA_ENABLED;
+        floatResidualsEnabled = DEFAULT_FLOAT_RESIDUALS_ENABLED;
+        inliersDataReuseEnabled = DEFAULT_INLIERS_DATA_REUSE_ENABLED;
     }
 
     /**
@@ -513,6 +587,167 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
         this.computeAndKeepResiduals = computeAndKeepResiduals;
     }
 
+    /**
+     * Indicates whether only the best solution is kept during estimation, and
+     * inliers and residuals are computed for it the first time they are
+     * requested once estimation finishes.
+     * This avoids keeping and updating inliers and residuals buffers during
+     * estimation, which reduces memory usage on large sets of samples.
+     * Inliers and residuals are only computed if they are requested to be
+     * kept.
+     *
+     * @return true if inliers data is computed lazily, false otherwise.
+     */
+    public boolean isLazyInliersDataEnabled() {
+        return lazyInliersDataEnabled;
+    }
+
+    /**
+     * Specifies whether only the best solution is kept during estimation, and
+     * inliers and residuals are computed for it the first time they are
+     * requested once estimation finishes.
+     * When enabled, residuals are computed by listener on request, hence
+     * listener must remain valid until then.
+     *
+     * @param lazyInliersDataEnabled true to compute inliers data lazily, false
+     *                               otherwise.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setLazyInliersDataEnabled(final boolean lazyInliersDataEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.lazyInliersDataEnabled = lazyInliersDataEnabled;
+    }
+
+    /**
+     * Indicates whether residuals are kept with float precision to halve
+     * memory usage.
+     * When enabled, residuals can be obtained using
+     * {@link InliersData#getFloatResiduals()}.
+     *
+     * @return true if residuals are kept with float precision, false
+     * otherwise.
+     */
+    public boolean isFloatResidualsEnabled() {
+        return floatResidualsEnabled;
+    }
+
+    /**
+     * Specifies whether residuals are kept with float precision to halve
+     * memory usage.
+     * When enabled, residuals can be obtained using
+     * {@link InliersData#getFloatResiduals()}.
+     *
+     * @param floatResidualsEnabled true to keep residuals with float
+     *                              precision, false otherwise.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setFloatResidualsEnabled(final boolean floatResidualsEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.floatResidualsEnabled = floatResidualsEnabled;
+    }
+
+    /**
+     * Indicates whether inliers data found on an estimation can be reused by
+     * later estimations.
+     * When enabled and inliers or residuals are kept, repeated estimations on
+     * data having the same number of samples do not allocate memory, however
+     * inliers data returned by an estimation gets overwritten by next
+     * estimation.
+     *
+     * @return true if inliers data is reused, false otherwise.
+     */
+    public boolean isInliersDataReuseEnabled() {
+        return inliersDataReuseEnabled;
+    }
+
+    /**
+     * Specifies whether inliers data found on an estimation can be reused by
+     * later estimations.
+     * When enabled and inliers or residuals are kept, repeated estimations on
+     * data having the same number of samples do not allocate memory, however
+     * inliers data returned by an estimation gets overwritten by next
+     * estimation.
+     *
+     * @param inliersDataReuseEnabled true if inliers data is reused, false
+     *                                otherwise.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setInliersDataReuseEnabled(final boolean inliersDataReuseEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.inliersDataReuseEnabled = inliersDataReuseEnabled;
+    }
+
+    /**
+     * Returns instance in charge of picking random subsets of samples.
+     * If no subset selector has been provided, a uniform random subset selector
+     * is created on first estimation.
+     *
+     * @return instance in charge of picking random subsets of samples.
+     */
+    public SubsetSelector getSubsetSelector() {
+        return subsetSelector;
+    }
+
+    /**
+     * Sets instance in charge of picking random subsets of samples.
+     * Provided subset selector must support picking subsets within a range of
+     * samples. Allocation free subset selectors (i.e.
+     * {@link XoroshiroSubsetSelector}) can be provided to avoid allocating
+     * memory on repeated estimations. Guided subset selectors (i.e.
+     * {@link NAPSACSubsetSelector}) are provided with the order of samples
+     * sorted by their quality during estimation, so that picked subsets
+     * contain neighbouring samples. If null is provided, a uniform random
+     * subset selector is created on next estimation.
+     *
+     * @param subsetSelector instance in charge of picking random subsets of
+     *                       samples.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setSubsetSelector(final SubsetSelector subsetSelector) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.subsetSelector = subsetSelector;
+    }
+
+    /**
+     * Returns sampling schedule to be reused among estimations.
+     * When no schedule is provided, quality scores are sorted and the growth
+     * function is evaluated on each estimation.
+     *
+     * @return sampling schedule to be reused or null if a new schedule is
+     * computed on each estimation.
+     */
+    public PROSACSchedule getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Sets sampling schedule to be reused among estimations.
+     * When a schedule is provided, quality scores of the listener are ignored
+     * and samples are prioritized using the ordering contained in the
+     * schedule, which avoids sorting quality scores on each estimation. This
+     * is useful when estimations are repeated on data having the same number
+     * of samples and a similar quality ordering. The same schedule can be
+     * shared among several estimators.
+     *
+     * @param schedule sampling schedule to be reused or null to compute a new
+     *                 schedule on each estimation.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setSchedule(final PROSACSchedule schedule) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.schedule = schedule;
+    }
+
     /**
      * Indicates if estimator is ready to start the estimation process.
      *
@@ -561,28 +796,19 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
                 throw new RobustEstimatorException();
             }
 
-            final var qualityScores = listener.getQualityScores();
-            // check for invalid quality scores length
-            if (qualityScores.length != totalSamples) {
-                throw new RobustEstimatorException();
-            }
+            final var currentSchedule = getOrCreateSchedule(listener, totalSamples, subsetSize);
             // obtain indices referring to original samples position after sorting
             // quality scores in descending order
-            final var sortedIndices = computeSortedQualityIndices(listener.getQualityScores());
+            final var sortedIndices = currentSchedule.getSortedIndices();
 
-            // reusable list that will contain preliminary solutions on each
-            // iteration
-            final var iterResults = new ArrayList<T>();
+            // reuse list that will contain preliminary solutions on each
+            // iteration, subset indices obtained from a subset selector and
+            // transformed into the real samples positions, and array
+            // containing inliers efficiently
+            prepareWorkspace(totalSamples, subsetSize);
             bestResult = null;
             var previousProgress = 0.0f;
             float progress;
-            // subset indices obtained from a subset selector
-            final var subsetIndices = new int[subsetSize];
-            // subset indices referred to the real samples positions after taking
-            // into account the sorted indices obtained from quality scores
-            final var transformedSubsetIndices = new int[subsetSize];
-            // array containing inliers efficiently
-            final var inliers = new BitSet(totalSamples);
 
             // T_N
             nIters = Math.min(computeIterations(1.0 - maxOutliersProportion, subsetSize, confidence),
@@ -602,28 +828,25 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
             // (n) we draw samples from the set U_n
             // of the top n (sampleSize) data points
             var sampleSize = subsetSize;
-            // average number of samples "{M_i}_{i=1}^{tn}"
-            // that contains samples from U_n only
-            double tn = nIters;
-            // integer version of tn
-            var tnPrime = 1;
+            // growth function containing integer version of tn
+            // (average number of samples "{M_i}_{i=1}^{tn}" that contains
+            // samples from U_n only) for each sampleSize
+            final var growth = currentSchedule.getGrowth(subsetSize, nIters);
+            var tnPrime = growth[0];
             // number of samples to draw to reach the
             // maximality constraint
             var kNStar = nIters;
 
-            double[] residuals = null;
-            if (computeAndKeepInliers || computeAndKeepResiduals) {
-                bestInliersData = new PROSACInliersData(totalSamples, computeAndKeepInliers, computeAndKeepResiduals);
-
-                if (computeAndKeepResiduals) {
-                    residuals = new double[totalSamples];
-                }
+            final var keepInliersData = computeAndKeepInliers || computeAndKeepResiduals;
+            if (keepInliersData && !lazyInliersDataEnabled) {
+                bestInliersData = obtainInliersData(totalSamples);
             }
 
-            // initialize tn
-            for (var i = 0; i < subsetSize; i++) {
-                tn *= (double) (sampleSize - i) / (double) (totalSamples - i);
-            }
+            // array where residuals of each preliminary solution are computed,
+            // which is taken from workspace during estimation because it might
+            // be swapped with the residuals of best inliers data
+            var currentResiduals = residuals;
+            residuals = null;
 
             if (subsetSelector == null) {
                 // create new subset selector
@@ -632,6 +855,8 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
                 // set number of samples to current subset selector
                 subsetSelector.setNumSamples(totalSamples);
             }
+            // subsets are picked among positions of sorted samples
+            subsetSelector.setSampleOrder(sortedIndices);
 
             while (((inliersBest < inliersMin) || (currentIter < kNStar)) && (nIters > currentIter)
                     && (currentIter < maxIterations)) {
@@ -652,10 +877,8 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
                 // g(t) = min{n : tnPrime > t} where n is sampleSize
                 // Thus sampleSize should be incremented if currentIter > tnPrime
                 if ((currentIter > tnPrime) && (sampleSize < sampleSizeStar)) {
-                    var tnPlus1 = (tn * (sampleSize + 1)) / (sampleSize + 1 - subsetSize);
                     sampleSize++;
-                    tnPrime += (int) Math.ceil(tnPlus1 - tn);
-                    tn = tnPlus1;
+                    tnPrime = growth[sampleSize - subsetSize];
                 }
 
                 // Draw semi-random sample
@@ -683,9 +906,12 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
                 // total number of inliers for a
                 // given result
                 int inliersCurrent;
-                for (final var iterResult : iterResults) {
+                // indexed loop avoids creating an iterator on each iteration
+                for (var k = 0; k < iterResults.size(); k++) {
+                    final var iterResult = iterResults.get(k);
                     // compute inliers
-                    inliersCurrent = computeInliers(iterResult, threshold, inliers, totalSamples, listener, residuals);
+                    inliersCurrent = computeInliers(iterResult, threshold, inliers, totalSamples, listener,
+                            currentResiduals);
 
                     if (inliersCurrent > inliersBest) {
                         // update best number of inliers
@@ -693,9 +919,12 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
                         // keep current result
                         bestResult = iterResult;
 
-                        // update best inlier data
-                        if (bestInliersData != null) {
-                            bestInliersData.update(inliers, residuals, inliersBest);
+                        // update best inlier data, swapping residuals buffers
+                        // instead of copying them
+                        if (bestInliersData != null && computeAndKeepResiduals) {
+                            currentResiduals = bestInliersData.swap(inliers, currentResiduals, inliersBest);
+                        } else if (bestInliersData != null) {
+                            bestInliersData.update(inliers, null, inliersBest);
                         }
 
                         // select new termination length sampleSizeStar if possible
@@ -786,22 +1015,50 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
                 listener.onEstimateNextIteration(this, currentIter);
             }
 
+            // residuals buffer might have been swapped with the one of best
+            // inliers data, hence current one is kept for next estimation
+            residuals = currentResiduals;
+
             // no solution could be found after completing all iterations
             if (bestResult == null) {
                 throw new RobustEstimatorException();
             }
 
+            if (keepInliersData && lazyInliersDataEnabled) {
+                // inliers and residuals are only computed if requested
+                bestInliersData = PROSACInliersData.createLazy(bestResult, listener, threshold, totalSamples,
+                        inliersBest, computeAndKeepInliers, computeAndKeepResiduals, floatResidualsEnabled);
+            }
+
             listener.onEstimateEnd(this);
 
             return bestResult;
         } catch (final SubsetSelectorException | SortingException e) {
             throw new RobustEstimatorException(e);
         } finally {
+            if (subsetSelector != null) {
+                subsetSelector.setSampleOrder(null);
+            }
             locked = false;
         }
 
     }
 
+    /**
+     * Releases working buffers that are kept between estimations.
+     *
+     * @throws LockedException if robust estimator is locked.
+     */
+    @Override
+    public void releaseWorkspace() throws LockedException {
+        super.releaseWorkspace();
+        iterResults = null;
+        subsetIndices = null;
+        transformedSubsetIndices = null;
+        inliers = null;
+        residuals = null;
+    }
+
     /**
      * Returns data about inliers once estimation has been done.
      *
@@ -822,6 +1079,48 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
         return RobustEstimatorMethod.PROSAC;
     }
 
+    /**
+     * Obtains an instance of inliers data to keep inliers and residuals of
+     * best solution found on current estimation.
+     * Best inliers data of previous estimation is reset and returned when
+     * reuse is enabled and it was created for the same number of samples and
+     * kept data. Otherwise, a new instance is created.
+     *
+     * @param totalSamples total number of samples.
+     * @return inliers data to be used on current estimation.
+     */
+    private PROSACInliersData obtainInliersData(final int totalSamples) {
+        if (inliersDataReuseEnabled && bestInliersData != null && bestInliersData.isReusable(totalSamples,
+                computeAndKeepInliers, computeAndKeepResiduals, floatResidualsEnabled)) {
+            bestInliersData.reset();
+            return bestInliersData;
+        }
+
+        return new PROSACInliersData(totalSamples, computeAndKeepInliers, computeAndKeepResiduals,
+                floatResidualsEnabled);
+    }
+
+    /**
+     * Initializes working buffers to be used on an estimation, reusing the ones
+     * of previous estimations when their size matches.
+     *
+     * @param totalSamples total number of samples.
+     * @param subsetSize   subset sample size to be picked on each iteration.
+     */
+    private void prepareWorkspace(final int totalSamples, final int subsetSize) {
+        if (iterResults == null) {
+            iterResults = new ArrayList<>();
+        }
+        if (subsetIndices == null || subsetIndices.length != subsetSize) {
+            subsetIndices = new int[subsetSize];
+            transformedSubsetIndices = new int[subsetSize];
+        }
+        if (residuals == null || residuals.length != totalSamples) {
+            residuals = new double[totalSamples];
+            inliers = new BitSet(totalSamples);
+        }
+    }
+
     /**
      * Transforms indices picked by the subset selector into the indices where
      * samples are actually localed by taking into account their original
@@ -855,26 +1154,26 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
      *                     indicated in their original position before sorting.
      * @param totalSamples total number of samples.
      * @param listener     listener to obtain residuals for samples.
-     * @param residuals    array where residuals must be stored (if provided).
+     * @param residuals    array where residuals are stored.
      * @return inliers data.
      */
     private static <T> int computeInliers(
             final T iterResult, final double threshold, final BitSet inliers, final int totalSamples,
             final PROSACRobustEstimatorListener<T> listener, final double[] residuals) {
 
+        listener.computeResiduals(iterResult, 0, totalSamples, residuals);
+
         var numInliers = 0;
         double residual;
         for (var i = 0; i < totalSamples; i++) {
-            residual = Math.abs(listener.computeResidual(iterResult, i));
+            residual = Math.abs(residuals[i]);
             if (residual < threshold) {
                 numInliers++;
                 inliers.set(i);
             } else {
                 inliers.clear(i);
             }
-            if (residuals != null) {
-                residuals[i] = residual;
-            }
+            residuals[i] = residual;
         }
 
         return numInliers;
@@ -882,41 +1181,38 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
 
 
     /**
-     * Obtains indices of samples corresponding to samples ordered in descending
+     * Returns sampling schedule to be used on current estimation, which is
+     * either the provided schedule to be reused, or a new one computed from
      * quality scores.
      *
-     * @param qualityScores quality scores associated to each sample to be used
-     *                      to obtain indices to sort samples in descending order of quality values.
-     * @return indices to sort samples in descending order of quality values.
-     * @throws SortingException if sorting fails.
-     */
-    private static int[] computeSortedQualityIndices(final double[] qualityScores) throws SortingException {
-        final var sorter = Sorter.<Double>create();
-        final var qualityScoresCopy = Arrays.copyOf(qualityScores, qualityScores.length);
-        // this method modifies quality scores copy array because it gets sorted
-        // in ascending order. Indices contains indices of samples corresponding
-        // to quality scores ordered in ascending order
-        final var indices = sorter.sortWithIndices(qualityScoresCopy);
-
-        // reverse indices so we have indices of samples ordered in descending
-        // order of quality
-        reverse(indices);
-        return indices;
-    }
+     * @param listener     listener to obtain quality scores.
+     * @param totalSamples total number of samples.
+     * @param subsetSize   size of subsets of samples.
+     * @return sampling schedule.
+     * @throws RobustEstimatorException if schedule or quality scores do not
+     *                                  match the number of samples, or subset size is larger than the number of
+     *                                  samples.
+     * @throws SortingException         if quality scores cannot be sorted.
+     */
+    private PROSACSchedule getOrCreateSchedule(
+            final PROSACRobustEstimatorListener<T> listener, final int totalSamples, final int subsetSize)
+            throws RobustEstimatorException, SortingException {
+        final PROSACSchedule result;
+        if (schedule != null) {
+            result = schedule;
+        } else {
+            final var qualityScores = listener.getQualityScores();
+            // check for invalid quality scores length
+            if (qualityScores == null || qualityScores.length != totalSamples) {
+                throw new RobustEstimatorException();
+            }
+            result = new PROSACSchedule(qualityScores);
+        }
 
-    /**
-     * Reverses provided array.
-     *
-     * @param array array to be reversed.
-     */
-    private static void reverse(final int[] array) {
-        final var length = array.length;
-        for (var i = 0; i < length / 2; i++) {
-            var temp = array[i];
-            var pos = length - 1 - i;
-            array[i] = array[pos];
-            array[pos] = temp;
+        if (result.getTotalSamples() != totalSamples || subsetSize > totalSamples) {
+            throw new RobustEstimatorException();
         }
+        return result;
     }
 
     /**
@@ -981,12 +1277,37 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
          */
         private BitSet inliers;
 
+        /**
+         * Constructor.
+         *
+         * @param totalSamples  total number of samples.
+         * @param keepInliers   true to keep inliers, false otherwise.
+         * @param keepResiduals true to keep residuals, false otherwise.
+         */
         public PROSACInliersData(final int totalSamples, final boolean keepInliers, final boolean keepResiduals) {
+            this(totalSamples, keepInliers, keepResiduals, false);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param totalSamples   total number of samples.
+         * @param keepInliers    true to keep inliers, false otherwise.
+         * @param keepResiduals  true to keep residuals, false otherwise.
+         * @param floatResiduals true to keep residuals with float precision,
+         *                       false to keep them with double precision.
+         */
+        public PROSACInliersData(final int totalSamples, final boolean keepInliers, final boolean keepResiduals,
+                                 final boolean floatResiduals) {
             if (keepInliers) {
                 inliers = new BitSet(totalSamples);
             }
             if (keepResiduals) {
-                residuals = new double[totalSamples];
+                if (floatResiduals) {
+                    this.floatResiduals = new float[totalSamples];
+                } else {
+                    residuals = new double[totalSamples];
+                }
             }
             numInliers = 0;
         }
@@ -1000,6 +1321,7 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
          */
         @Override
         public BitSet getInliers() {
+            initializeIfNeeded();
             return inliers;
         }
 
@@ -1012,30 +1334,127 @@ public class PROSACRobustEstimator<T> extends RobustEstimator<T> {
          * @param numInliers number of inliers found on current iteration.
          */
         protected void update(final BitSet inliers, final double[] residuals, final int numInliers) {
-            int totalSamples = 0;
+            if (this.inliers != null && inliers != null) {
+                // copy whole words instead of single bits
+                this.inliers.clear();
+                this.inliers.or(inliers);
+            }
+            if (residuals != null) {
+                if (floatResiduals != null) {
+                    updateFloatResiduals(residuals);
+                } else if (this.residuals != null) {
+                    System.arraycopy(residuals, 0, this.residuals, 0, residuals.length);
+                }
+            }
+            this.numInliers = numInliers;
+        }
+
+        /**
+         * Indicates whether this instance can be reused to keep inliers data
+         * of an estimation having provided configuration.
+         * Lazily computed instances that have not been initialized yet cannot
+         * be reused.
+         *
+         * @param totalSamples   total number of samples.
+         * @param keepInliers    true to keep inliers, false otherwise.
+         * @param keepResiduals  true to keep residuals, false otherwise.
+         * @param floatResiduals true to keep residuals with float precision,
+         *                       false to keep them with double precision.
+         * @return true if this instance can be reused, false otherwise.
+         */
+        boolean isReusable(final int totalSamples, final boolean keepInliers, final boolean keepResiduals,
+                           final boolean floatResiduals) {
+            if (lazyInitializer != null || (inliers != null) != keepInliers) {
+                return false;
+            }
+            final var keepDoubleResiduals = keepResiduals && !floatResiduals;
+            final var keepFloatResiduals = keepResiduals && floatResiduals;
+            return (keepDoubleResiduals ? residuals != null && residuals.length == totalSamples : residuals == null)
+                    && (keepFloatResiduals ? this.floatResiduals != null
+                    && this.floatResiduals.length == totalSamples : this.floatResiduals == null);
+        }
+
+        /**
+         * Resets this instance so that it contains no inliers and zero
+         * residuals, as a newly created instance.
+         */
+        void reset() {
             if (inliers != null) {
-                totalSamples = inliers.length();
+                inliers.clear();
             }
             if (residuals != null) {
-                totalSamples = residuals.length;
+                Arrays.fill(residuals, 0.0);
+            }
+            if (floatResiduals != null) {
+                Arrays.fill(floatResiduals, 0.0f);
             }
+            numInliers = 0;
+        }
 
-            if (this.inliers != null && inliers != null && this.residuals != null && residuals != null) {
-                // update inliers and residuals
-                for (int i = 0; i < totalSamples; i++) {
-                    this.inliers.set(i, inliers.get(i));
-                    this.residuals[i] = residuals[i];
+        /**
+         * Updates data contained in this instance by swapping residuals with
+         * provided ones instead of copying them (double buffering), when
+         * residuals are kept with double precision.
+         *
+         * @param inliers    efficiently stores which samples are considered
+         *                   inliers and which ones aren't.
+         * @param residuals  residuals obtained for each sample of data.
+         * @param numInliers number of inliers found on current iteration.
+         * @return buffer to be reused to compute residuals of next solutions.
+         */
+        double[] swap(final BitSet inliers, final double[] residuals, final int numInliers) {
+            if (this.residuals != null && residuals != null) {
+                final var previous = this.residuals;
+                this.residuals = residuals;
+                update(inliers, null, numInliers);
+                return previous;
+            }
+            update(inliers, residuals, numInliers);
+            return residuals;
+        }
+
+        /**
+         * Creates inliers data whose inliers and residuals are computed the
+         * first time they are requested, so that only the best solution needs
+         * to be kept during estimation.
+         *
+         * @param <T>            type of result.
+         * @param result         best result.
+         * @param listener       listener to compute residuals of best result.
+         * @param threshold      threshold to determine whether samples are
+         *                       inliers or not.
+         * @param totalSamples   total number of samples.
+         * @param numInliers     number of inliers of best result.
+         * @param keepInliers    true to keep inliers, false otherwise.
+         * @param keepResiduals  true to keep residuals, false otherwise.
+         * @param floatResiduals true to keep residuals with float precision,
+         *                       false to keep them with double precision.
+         * @return lazily computed inliers data.
+         */
+        static <T> PROSACInliersData createLazy(
+                final T result, final PROSACRobustEstimatorListener<T> listener, final double threshold,
+                final int totalSamples, final int numInliers, final boolean keepInliers,
+                final boolean keepResiduals, final boolean floatResiduals) {
+            final var data = new PROSACInliersData(0, false, false);
+            data.numInliers = numInliers;
+            data.lazyInitializer = () -> {
+                final var residuals = new double[totalSamples];
+                final var inliers = new BitSet(totalSamples);
+                computeInliers(result, threshold, inliers, totalSamples, listener, residuals);
+
+                if (keepInliers) {
+                    data.inliers = inliers;
                 }
-            } else if (this.inliers != null && inliers != null) {
-                // update inliers but not the residuals
-                for (int i = 0; i < totalSamples; i++) {
-                    this.inliers.set(i, inliers.get(i));
+                if (keepResiduals) {
+                    if (floatResiduals) {
+                        data.floatResiduals = new float[totalSamples];
+                        data.updateFloatResiduals(residuals);
+                    } else {
+                        data.residuals = residuals;
+                    }
                 }
-            } else if (this.residuals != null && residuals != null) {
-                // update residuals but not inliers
-                System.arraycopy(residuals, 0, this.residuals, 0, totalSamples);
-            }
-            this.numInliers = numInliers;
+            };
+            return data;
         }
     }
 }
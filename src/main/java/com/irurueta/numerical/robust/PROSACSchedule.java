@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.sorting.Sorter;
+import com.irurueta.sorting.SortingException;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Contains the sampling schedule used by PROSAC based robust estimators.
+ * The schedule consists of a permutation of sample indices sorted in
+ * descending order of quality, and the growth function indicating at which
+ * iteration the set of top-quality samples where subsets are drawn from must
+ * be enlarged.
+ * Computing a schedule requires sorting quality scores and evaluating the
+ * growth function for every possible number of top-quality samples. When
+ * estimations are repeated on data having the same number of samples and a
+ * similar quality ordering (i.e. consecutive frames of a video sequence), a
+ * single schedule can be provided to {@link PROSACRobustEstimator} or
+ * {@link PROMedSRobustEstimator} to avoid this setup cost on each estimation.
+ * Instances of this class are safe to be shared among estimators, even if
+ * they are used concurrently.
+ */
+public class PROSACSchedule {
+
+    /**
+     * Indices of samples sorted in descending order of quality. Each position
+     * i-th of this array refers to the original position of the i-th best
+     * sample.
+     */
+    private final int[] sortedIndices;
+
+    /**
+     * Growth function computed for the last requested subset size and number
+     * of iterations.
+     */
+    private volatile Growth growth;
+
+    /**
+     * Constructor from quality scores of samples.
+     *
+     * @param qualityScores quality scores of samples. The larger the score, the
+     *                      more likely a sample is to be an inlier.
+     * @throws IllegalArgumentException if provided quality scores are null or
+     *                                  empty.
+     * @throws SortingException         if quality scores cannot be sorted.
+     */
+    public PROSACSchedule(final double[] qualityScores) throws SortingException {
+        if (qualityScores == null || qualityScores.length == 0) {
+            throw new IllegalArgumentException();
+        }
+        sortedIndices = computeSortedQualityIndices(qualityScores);
+    }
+
+    /**
+     * Constructor from indices of samples already sorted in descending order of
+     * quality.
+     * Provided array is not copied and must not be modified afterward.
+     *
+     * @param sortedIndices indices of samples sorted in descending order of
+     *                      quality. Each position i-th of this array refers to the
+     *                      original position of the i-th best sample.
+     * @throws IllegalArgumentException if provided array is null, empty or is
+     *                                  not a permutation of sample indices.
+     */
+    public PROSACSchedule(final int[] sortedIndices) {
+        if (sortedIndices == null || sortedIndices.length == 0) {
+            throw new IllegalArgumentException();
+        }
+
+        // check that each sample appears exactly once
+        final var length = sortedIndices.length;
+        final var visited = new BitSet(length);
+        for (final var index : sortedIndices) {
+            if (index < 0 || index >= length || visited.get(index)) {
+                throw new IllegalArgumentException();
+            }
+            visited.set(index);
+        }
+        this.sortedIndices = sortedIndices;
+    }
+
+    /**
+     * Returns total number of samples this schedule refers to.
+     *
+     * @return total number of samples.
+     */
+    public int getTotalSamples() {
+        return sortedIndices.length;
+    }
+
+    /**
+     * Returns indices of samples sorted in descending order of quality. Each
+     * position i-th of returned array refers to the original position of the
+     * i-th best sample.
+     * Returned array must not be modified.
+     *
+     * @return indices of samples sorted in descending order of quality.
+     */
+    public int[] getSortedIndices() {
+        return sortedIndices;
+    }
+
+    /**
+     * Returns growth function for provided subset size and number of
+     * iterations (T_N).
+     * Position j-th of returned array contains the iteration after which
+     * subsets must start being drawn among the (subsetSize + j + 1) top-quality
+     * samples instead of the (subsetSize + j) top-quality samples.
+     * Growth function is cached, so that it is only evaluated when it is
+     * requested with a different subset size or number of iterations.
+     *
+     * @param subsetSize size of subsets of samples.
+     * @param iters      number of iterations (T_N) required to draw all samples.
+     * @return growth function.
+     * @throws IllegalArgumentException if subset size is less than 1 or greater
+     *                                  than total number of samples.
+     */
+    int[] getGrowth(final int subsetSize, final int iters) {
+        final var totalSamples = sortedIndices.length;
+        if (subsetSize < 1 || subsetSize > totalSamples) {
+            throw new IllegalArgumentException();
+        }
+
+        final var current = growth;
+        if (current != null && current.subsetSize == subsetSize && current.iters == iters) {
+            return current.values;
+        }
+
+        final var values = computeGrowth(totalSamples, subsetSize, iters);
+        growth = new Growth(subsetSize, iters, values);
+        return values;
+    }
+
+    /**
+     * Evaluates growth function for all possible number of top-quality
+     * samples.
+     *
+     * @param totalSamples total number of samples.
+     * @param subsetSize   size of subsets of samples.
+     * @param iters        number of iterations (T_N) required to draw all
+     *                     samples.
+     * @return growth function.
+     */
+    private static int[] computeGrowth(final int totalSamples, final int subsetSize, final int iters) {
+        final var values = new int[totalSamples - subsetSize + 1];
+
+        // average number of samples "{M_i}_{i=1}^{tn}" that contains samples
+        // from U_n only
+        double tn = iters;
+        for (var i = 0; i < subsetSize; i++) {
+            tn *= (double) (subsetSize - i) / (double) (totalSamples - i);
+        }
+
+        // integer version of tn
+        var tnPrime = 1;
+        values[0] = tnPrime;
+        for (var sampleSize = subsetSize; sampleSize < totalSamples; sampleSize++) {
+            final var tnPlus1 = (tn * (sampleSize + 1)) / (sampleSize + 1 - subsetSize);
+            tnPrime += (int) Math.ceil(tnPlus1 - tn);
+            tn = tnPlus1;
+            values[sampleSize + 1 - subsetSize] = tnPrime;
+        }
+        return values;
+    }
+
+    /**
+     * Obtains indices of samples corresponding to samples ordered in descending
+     * quality scores.
+     *
+     * @param qualityScores quality scores associated to each sample to be used
+     *                      to obtain indices to sort samples in descending order of quality values.
+     * @return indices to sort samples in descending order of quality values.
+     * @throws SortingException if sorting fails.
+     */
+    private static int[] computeSortedQualityIndices(final double[] qualityScores) throws SortingException {
+        final var sorter = Sorter.<Double>create();
+        final var qualityScoresCopy = Arrays.copyOf(qualityScores, qualityScores.length);
+        // this method modifies quality scores copy array because it gets sorted
+        // in ascending order. Indices contains indices of samples corresponding
+        // to quality scores ordered in ascending order
+        final var indices = sorter.sortWithIndices(qualityScoresCopy);
+
+        // reverse indices so we have indices of samples ordered in descending
+        // order of quality
+        reverse(indices);
+        return indices;
+    }
+
+    /**
+     * Reverses provided array.
+     *
+     * @param array array to be reversed.
+     */
+    private static void reverse(final int[] array) {
+        final var length = array.length;
+        for (var i = 0; i < length / 2; i++) {
+            final var temp = array[i];
+            final var pos = length - 1 - i;
+            array[i] = array[pos];
+            array[pos] = temp;
+        }
+    }
+
+    /**
+     * Growth function evaluated for a given subset size and number of
+     * iterations.
+     */
+    private static class Growth {
+
+        /**
+         * Size of subsets of samples.
+         */
+        private final int subsetSize;
+
+        /**
+         * Number of iterations (T_N) required to draw all samples.
+         */
+        private final int iters;
+
+        /**
+         * Growth function values.
+         */
+        private final int[] values;
+
+        /**
+         * Constructor.
+         *
+         * @param subsetSize size of subsets of samples.
+         * @param iters      number of iterations (T_N) required to draw all
+         *                   samples.
+         * @param values     growth function values.
+         */
+        private Growth(final int subsetSize, final int iters, final int[] values) {
+            this.subsetSize = subsetSize;
+            this.iters = iters;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,817 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.numerical.LockedException;
+import com.irurueta.numerical.NotReadyException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * This class implements preemptive RANSAC algorithm to robustly estimate a
+ * data model within a bounded amount of time.
+ * Contrary to RANSAC, where the number of iterations depends on required
+ * confidence and on the proportion of inliers found so far, preemptive RANSAC
+ * generates a fixed number of preliminary solutions upfront, and then scores
+ * all of them in a breadth-first manner on consecutive blocks of randomly
+ * ordered samples. After each block, the worst half of the remaining solutions
+ * is discarded, until a single solution remains, all samples have been
+ * evaluated or available budget is exhausted.
+ * A budget can be provided both as a maximum amount of time and as a maximum
+ * number of residual evaluations, so that latency of the estimation is bounded
+ * regardless of the proportion of outliers, which makes this method suitable
+ * for real-time applications.
+ * Samples are considered inliers using the threshold provided by the same
+ * listener used for RANSAC.
+ * <p>
+ * This implementation is based on:
+ * Nistér, D. "Preemptive RANSAC for live structure and motion estimation".
+ * ICCV 2003.
+ *
+ * @param <T> type of object to be estimated.
+ */
+@SuppressWarnings("DuplicatedCode")
+public class PreemptiveRANSACRobustEstimator<T> extends RobustEstimator<T> {
+
+    /**
+     * Default number of preliminary solutions to be generated upfront.
+     */
+    public static final int DEFAULT_NUM_HYPOTHESES = 500;
+
+    /**
+     * Minimum allowed number of preliminary solutions to be generated.
+     */
+    public static final int MIN_NUM_HYPOTHESES = 1;
+
+    /**
+     * Default number of samples to be scored for each remaining preliminary
+     * solution before discarding the worst half of them.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 100;
+
+    /**
+     * Minimum allowed block size.
+     */
+    public static final int MIN_BLOCK_SIZE = 1;
+
+    /**
+     * Value indicating that no budget is used.
+     */
+    public static final long NO_BUDGET = 0;
+
+    /**
+     * Default time budget expressed in nanoseconds. By default, no time budget
+     * is used.
+     */
+    public static final long DEFAULT_TIME_BUDGET_NANOS = NO_BUDGET;
+
+    /**
+     * Default maximum number of residual evaluations. By default, no
+     * evaluation budget is used.
+     */
+    public static final long DEFAULT_EVALUATION_BUDGET = NO_BUDGET;
+
+    /**
+     * Minimum allowed threshold to determine inliers.
+     */
+    public static final double MIN_THRESHOLD = 0.0;
+
+    /**
+     * Indicates that by default inliers will only be computed but not kept.
+     */
+    public static final boolean DEFAULT_COMPUTE_AND_KEEP_INLIERS = false;
+
+    /**
+     * Indicates that by default residuals will only be computed but not kept.
+     */
+    public static final boolean DEFAULT_COMPUTE_AND_KEEP_RESIDUALS = false;
+
+    /**
+     * Number of preliminary solutions to be generated upfront.
+     */
+    private int numHypotheses;
+
+    /**
+     * Number of samples to be scored for each remaining preliminary solution
+     * before discarding the worst half of them.
+     */
+    private int blockSize;
+
+    /**
+     * Maximum amount of time to be spent on estimation, expressed in
+     * nanoseconds. Zero indicates that no time budget is used.
+     */
+    private long timeBudgetNanos;
+
+    /**
+     * Maximum number of residual evaluations to be done while scoring
+     * preliminary solutions. Zero indicates that no evaluation budget is used.
+     */
+    private long evaluationBudget;
+
+    /**
+     * Instance in charge of picking random subsets of samples.
+     */
+    private SubsetSelector subsetSelector;
+
+    /**
+     * Number of residual evaluations done to score preliminary solutions
+     * during last estimation.
+     */
+    private long numEvaluations;
+
+    /**
+     * Best solution that has been found during an estimation.
+     */
+    private T bestResult;
+
+    /**
+     * Data related to inliers found for best result.
+     */
+    private PreemptiveRANSACInliersData bestInliersData;
+
+    /**
+     * Indicates whether inliers must be computed and kept.
+     */
+    private boolean computeAndKeepInliers;
+
+    /**
+     * Indicates whether residuals must be computed and kept.
+     */
+    private boolean computeAndKeepResiduals;
+
+    /**
+     * Random order in which samples are scored. Only the first
+     * {@link #numShuffled} positions are randomly picked, and the buffer is
+     * reused across estimations.
+     */
+    private int[] order;
+
+    /**
+     * Positions that have been swapped with each shuffled position of
+     * {@link #order}, so that the buffer can be restored to its initial
+     * state before a new estimation.
+     */
+    private int[] orderSwaps;
+
+    /**
+     * Number of positions of {@link #order} that have been randomly picked
+     * during last estimation.
+     */
+    private int numShuffled;
+
+    /**
+     * Constructor.
+     */
+    public PreemptiveRANSACRobustEstimator() {
+        super();
+        numHypotheses = DEFAULT_NUM_HYPOTHESES;
+        blockSize = DEFAULT_BLOCK_SIZE;
+        timeBudgetNanos = DEFAULT_TIME_BUDGET_NANOS;
+        evaluationBudget = DEFAULT_EVALUATION_BUDGET;
+        bestResult = null;
+        bestInliersData = null;
+        computeAndKeepInliers = DEFAULT_COMPUTE_AND_KEEP_INLIERS;
+        computeAndKeepResiduals = DEFAULT_COMPUTE_AND_KEEP_RESIDUALS;
+    }
+
+    /**
+     * Constructor with listener.
+     *
+     * @param listener listener to be notified of events such as when estimation
+     *                 starts, ends or its progress significantly changes, as well as in charge
+     *                 of picking samples and doing per-iteration estimations.
+     */
+    public PreemptiveRANSACRobustEstimator(final RANSACRobustEstimatorListener<T> listener) {
+        super(listener);
+        numHypotheses = DEFAULT_NUM_HYPOTHESES;
+        blockSize = DEFAULT_BLOCK_SIZE;
+        timeBudgetNanos = DEFAULT_TIME_BUDGET_NANOS;
+        evaluationBudget = DEFAULT_EVALUATION_BUDGET;
+        bestResult = null;
+        bestInliersData = null;
+        computeAndKeepInliers = DEFAULT_COMPUTE_AND_KEEP_INLIERS;
+        computeAndKeepResiduals = DEFAULT_COMPUTE_AND_KEEP_RESIDUALS;
+    }
+
+    /**
+     * Returns number of subsets of samples to be picked upfront to generate
+     * preliminary solutions.
+     *
+     * @return number of subsets to be picked.
+     */
+    public int getNumHypotheses() {
+        return numHypotheses;
+    }
+
+    /**
+     * Sets number of subsets of samples to be picked upfront to generate
+     * preliminary solutions.
+     *
+     * @param numHypotheses number of subsets to be picked.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if this estimator is locked because an estimation
+     *                                  is being computed.
+     */
+    public void setNumHypotheses(final int numHypotheses) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (numHypotheses < MIN_NUM_HYPOTHESES) {
+            throw new IllegalArgumentException();
+        }
+        this.numHypotheses = numHypotheses;
+    }
+
+    /**
+     * Returns number of samples to be scored for each remaining preliminary
+     * solution before discarding the worst half of them.
+     *
+     * @return block size.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Sets number of samples to be scored for each remaining preliminary
+     * solution before discarding the worst half of them.
+     *
+     * @param blockSize block size.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if this estimator is locked because an estimation
+     *                                  is being computed.
+     */
+    public void setBlockSize(final int blockSize) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (blockSize < MIN_BLOCK_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Returns maximum amount of time to be spent on estimation, expressed in
+     * nanoseconds. Zero indicates that no time budget is used.
+     * Budget is checked after generating each preliminary solution and before
+     * scoring each block of samples, hence actual estimation time might exceed
+     * this value by the time required to score one block.
+     * Samples are only shuffled as they are scored, so the cost of scoring
+     * does not depend on the total number of samples. However, if inliers or
+     * residuals must be kept, they are computed for all samples once the
+     * budget has been exhausted, which takes time proportional to the total
+     * number of samples.
+     *
+     * @return time budget expressed in nanoseconds.
+     */
+    public long getTimeBudgetNanos() {
+        return timeBudgetNanos;
+    }
+
+    /**
+     * Sets maximum amount of time to be spent on estimation, expressed in
+     * nanoseconds. Zero indicates that no time budget is used.
+     * Budget is checked after generating each preliminary solution and before
+     * scoring each block of samples, hence actual estimation time might exceed
+     * this value by the time required to score one block.
+     * Samples are only shuffled as they are scored, so the cost of scoring
+     * does not depend on the total number of samples. However, if inliers or
+     * residuals must be kept, they are computed for all samples once the
+     * budget has been exhausted, which takes time proportional to the total
+     * number of samples.
+     *
+     * @param timeBudgetNanos time budget expressed in nanoseconds.
+     * @throws IllegalArgumentException if provided value is negative.
+     * @throws LockedException          if this estimator is locked because an estimation
+     *                                  is being computed.
+     */
+    public void setTimeBudgetNanos(final long timeBudgetNanos) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (timeBudgetNanos < NO_BUDGET) {
+            throw new IllegalArgumentException();
+        }
+        this.timeBudgetNanos = timeBudgetNanos;
+    }
+
+    /**
+     * Returns maximum number of residual evaluations to be done while scoring
+     * preliminary solutions. Zero indicates that no evaluation budget is used.
+     *
+     * @return evaluation budget.
+     */
+    public long getEvaluationBudget() {
+        return evaluationBudget;
+    }
+
+    /**
+     * Sets maximum number of residual evaluations to be done while scoring
+     * preliminary solutions. Zero indicates that no evaluation budget is used.
+     * Blocks of samples whose evaluation would exceed this budget are not
+     * scored, except for the first one, which is always scored so that a
+     * solution can be chosen.
+     *
+     * @param evaluationBudget evaluation budget.
+     * @throws IllegalArgumentException if provided value is negative.
+     * @throws LockedException          if this estimator is locked because an estimation
+     *                                  is being computed.
+     */
+    public void setEvaluationBudget(final long evaluationBudget) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (evaluationBudget < NO_BUDGET) {
+            throw new IllegalArgumentException();
+        }
+        this.evaluationBudget = evaluationBudget;
+    }
+
+    /**
+     * Returns number of residual evaluations done to score preliminary
+     * solutions during last estimation.
+     *
+     * @return number of residual evaluations.
+     */
+    public long getNumEvaluations() {
+        return numEvaluations;
+    }
+
+    /**
+     * Returns best solution that has been found during an estimation.
+     *
+     * @return best solution that has been found during an estimation.
+     */
+    public T getBestResult() {
+        return bestResult;
+    }
+
+    /**
+     * Gets data related to inliers found for best result.
+     *
+     * @return data related to inliers found for best result.
+     */
+    public PreemptiveRANSACInliersData getBestInliersData() {
+        return bestInliersData;
+    }
+
+    /**
+     * Indicates whether inliers must be computed and kept.
+     *
+     * @return true if inliers must be computed and kept, false if inliers
+     * only need to be computed but not kept.
+     */
+    public boolean isComputeAndKeepInliersEnabled() {
+        return computeAndKeepInliers;
+    }
+
+    /**
+     * Specifies whether inliers must be computed and kept.
+     * When enabled, residuals of best solution are computed for all samples
+     * at the end of the estimation, regardless of any time or evaluation
+     * budget.
+     *
+     * @param computeAndKeepInliers true if inliers must be computed and kept,
+     *                              false if inliers only need to be computed but not kept.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setComputeAndKeepInliersEnabled(final boolean computeAndKeepInliers) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.computeAndKeepInliers = computeAndKeepInliers;
+    }
+
+    /**
+     * Indicates whether residuals must be computed and kept.
+     *
+     * @return true if residuals must be computed and kept, false if residuals
+     * only need to be computed but not kept.
+     */
+    public boolean isComputeAndKeepResidualsEnabled() {
+        return computeAndKeepResiduals;
+    }
+
+    /**
+     * Specifies whether residuals must be computed and kept.
+     * When enabled, residuals of best solution are computed for all samples
+     * at the end of the estimation, regardless of any time or evaluation
+     * budget.
+     *
+     * @param computeAndKeepResiduals true if residuals must be computed and
+     *                                kept, false if residuals only need to be computed but not kept.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setComputeAndKeepResidualsEnabled(final boolean computeAndKeepResiduals) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.computeAndKeepResiduals = computeAndKeepResiduals;
+    }
+
+    /**
+     * Returns instance in charge of picking random subsets of samples.
+     * If no subset selector has been provided, a uniform random subset selector
+     * is created on first estimation.
+     *
+     * @return instance in charge of picking random subsets of samples.
+     */
+    public SubsetSelector getSubsetSelector() {
+        return subsetSelector;
+    }
+
+    /**
+     * Sets instance in charge of picking random subsets of samples.
+     * Guided subset selectors (i.e. {@link NAPSACSubsetSelector}) can be
+     * provided to reduce the number of required iterations when inliers are
+     * spatially close to each other. If null is provided, a uniform random
+     * subset selector is created on next estimation.
+     *
+     * @param subsetSelector instance in charge of picking random subsets of
+     *                       samples.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setSubsetSelector(final SubsetSelector subsetSelector) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.subsetSelector = subsetSelector;
+    }
+
+    /**
+     * Indicates if estimator is ready to start the estimation process.
+     *
+     * @return true if ready, false otherwise.
+     */
+    @Override
+    public boolean isReady() {
+        if (!super.isReady()) {
+            return false;
+        }
+        return (listener instanceof RANSACRobustEstimatorListener);
+    }
+
+    /**
+     * Robustly estimates an instance of T.
+     *
+     * @return estimated object.
+     * @throws LockedException          if robust estimator is locked.
+     * @throws NotReadyException        if provided input data is not enough to start
+     *                                  the estimation.
+     * @throws RobustEstimatorException if estimation fails for any reason
+     *                                  (i.e. numerical instability, no solution available, etc).
+     */
+    @Override
+    public T estimate() throws LockedException, NotReadyException, RobustEstimatorException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+
+        try {
+            final var listener = (RANSACRobustEstimatorListener<T>) this.listener;
+
+            locked = true;
+
+            final var startTime = System.nanoTime();
+
+            listener.onEstimateStart(this);
+
+            final var totalSamples = listener.getTotalSamples();
+            final var subsetSize = listener.getSubsetSize();
+            final var threshold = listener.getThreshold();
+            // only positive thresholds are allowed
+            if (threshold < MIN_THRESHOLD) {
+                throw new RobustEstimatorException();
+            }
+
+            bestResult = null;
+            bestInliersData = null;
+            numEvaluations = 0;
+
+            if (subsetSelector == null) {
+                // create new subset selector
+                subsetSelector = SubsetSelector.create(totalSamples);
+            } else {
+                // set number of samples to current subset selector
+                subsetSelector.setNumSamples(totalSamples);
+            }
+
+            // generate all preliminary solutions upfront
+            final var hypotheses = new ArrayList<T>(numHypotheses);
+            final var iterResults = new ArrayList<T>();
+            final var subsetIndices = new int[subsetSize];
+            for (var i = 0; i < numHypotheses; i++) {
+                if (i > 0 && isTimeBudgetExhausted(startTime)) {
+                    break;
+                }
+
+                // generate a random subset of samples
+                subsetSelector.computeRandomSubsets(subsetSize, subsetIndices);
+
+                // clear list of preliminary solutions before calling listener
+                iterResults.clear();
+                // compute solutions for current subset
+                listener.estimatePreliminarSolutions(subsetIndices, iterResults);
+                hypotheses.addAll(iterResults);
+            }
+
+            final var numGenerated = hypotheses.size();
+            if (numGenerated == 0) {
+                // no solution could be found
+                throw new RobustEstimatorException();
+            }
+
+            // samples are scored in random order so that ordered data does not
+            // bias scoring of first blocks. Only scored positions are shuffled
+            resetOrder(totalSamples);
+
+            // positions of remaining solutions sorted in descending order of
+            // their scores
+            final var remaining = new int[numGenerated];
+            for (var i = 0; i < numGenerated; i++) {
+                remaining[i] = i;
+            }
+            var numRemaining = numGenerated;
+            final var scores = new int[numGenerated];
+            final var sortKeys = new long[numGenerated];
+
+            // number of blocks required to discard all solutions but one
+            final var expectedBlocks = Math.max(1, Math.min(
+                    (totalSamples + blockSize - 1) / blockSize,
+                    Integer.SIZE - 1 - Integer.numberOfLeadingZeros(numGenerated)));
+
+            var previousProgress = 0.0f;
+            float progress;
+            var from = 0;
+            var block = 0;
+            while (numRemaining > 1 && from < totalSamples) {
+                final var to = Math.min(from + blockSize, totalSamples);
+                final var blockEvaluations = (long) (to - from) * numRemaining;
+                if (block > 0 && (isTimeBudgetExhausted(startTime)
+                        || isEvaluationBudgetExhausted(blockEvaluations))) {
+                    break;
+                }
+
+                shuffleOrder(to, totalSamples);
+
+                // score remaining solutions on current block of samples
+                for (var k = 0; k < numRemaining; k++) {
+                    final var pos = remaining[k];
+                    final var hypothesis = hypotheses.get(pos);
+                    var score = scores[pos];
+                    for (var j = from; j < to; j++) {
+                        if (listener.computeResidual(hypothesis, order[j]) <= threshold) {
+                            score++;
+                        }
+                    }
+                    scores[pos] = score;
+                }
+                numEvaluations += blockEvaluations;
+                from = to;
+                block++;
+
+                // keep best half of solutions generated so far
+                numRemaining = keepBest(remaining, numRemaining, Math.max(1, numGenerated >> block), scores,
+                        sortKeys);
+
+                progress = Math.min((float) block / (float) expectedBlocks, 1.0f);
+                if (progress - previousProgress > progressDelta) {
+                    previousProgress = progress;
+                    listener.onEstimateProgressChange(this, progress);
+                }
+
+                listener.onEstimateNextIteration(this, block);
+            }
+
+            // remaining solutions are sorted, hence first one is the best one
+            bestResult = hypotheses.get(remaining[0]);
+
+            if (computeAndKeepInliers || computeAndKeepResiduals) {
+                bestInliersData = computeInliersData(bestResult, threshold, totalSamples, listener);
+            }
+
+            listener.onEstimateEnd(this);
+
+            return bestResult;
+        } catch (final SubsetSelectorException e) {
+            throw new RobustEstimatorException(e);
+        } finally {
+            locked = false;
+        }
+    }
+
+    /**
+     * Returns data about inliers once estimation has been done.
+     *
+     * @return data about inliers or null if estimation has not been done.
+     */
+    @Override
+    public InliersData getInliersData() {
+        return getBestInliersData();
+    }
+
+    /**
+     * Returns method being used for robust estimation.
+     *
+     * @return method being used for robust estimation.
+     */
+    @Override
+    public RobustEstimatorMethod getMethod() {
+        return RobustEstimatorMethod.PREEMPTIVE_RANSAC;
+    }
+
+    /**
+     * Indicates whether time budget has been exhausted.
+     *
+     * @param startTime time when estimation started, expressed in nanoseconds.
+     * @return true if time budget has been exhausted, false otherwise.
+     */
+    private boolean isTimeBudgetExhausted(final long startTime) {
+        return timeBudgetNanos != NO_BUDGET && System.nanoTime() - startTime >= timeBudgetNanos;
+    }
+
+    /**
+     * Indicates whether evaluation budget would be exceeded when doing
+     * provided number of additional residual evaluations.
+     *
+     * @param evaluations number of additional residual evaluations.
+     * @return true if evaluation budget would be exceeded, false otherwise.
+     */
+    private boolean isEvaluationBudgetExhausted(final long evaluations) {
+        return evaluationBudget != NO_BUDGET && numEvaluations + evaluations > evaluationBudget;
+    }
+
+    /**
+     * Resets order in which samples are scored to the identity permutation.
+     * Buffers are only created when the number of samples changes. Otherwise,
+     * swaps done during last estimation are undone, which takes time
+     * proportional to the number of samples that were scored.
+     *
+     * @param totalSamples total number of samples.
+     */
+    private void resetOrder(final int totalSamples) {
+        if (order == null || order.length != totalSamples) {
+            order = new int[totalSamples];
+            orderSwaps = new int[totalSamples];
+            for (var i = 0; i < totalSamples; i++) {
+                order[i] = i;
+            }
+        } else {
+            for (var i = numShuffled - 1; i >= 0; i--) {
+                final var j = orderSwaps[i];
+                final var tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+        }
+        numShuffled = 0;
+    }
+
+    /**
+     * Randomly picks sample positions of scoring order up to provided
+     * position by advancing a partial Fisher-Yates shuffle, so that the first
+     * positions of the order are a uniform random subset of all samples.
+     * Positions are picked by current subset selector, so that the same
+     * order is obtained when a seeded subset selector is used.
+     *
+     * @param to           position (exclusive) up to which positions must be
+     *                     picked.
+     * @param totalSamples total number of samples.
+     * @throws SubsetSelectorException if subset selector fails to pick a
+     *                                 position.
+     */
+    private void shuffleOrder(final int to, final int totalSamples) throws SubsetSelectorException {
+        final var picked = new int[1];
+        for (var i = numShuffled; i < to; i++) {
+            var j = i;
+            if (i < totalSamples - 1) {
+                subsetSelector.computeRandomSubsetsInRange(i, totalSamples, 1, false, picked);
+                j = picked[0];
+            }
+            orderSwaps[i] = j;
+            final var tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+            // keep track of shuffled positions as soon as they are swapped so
+            // that they can be restored even if picking next position fails
+            numShuffled = i + 1;
+        }
+    }
+
+    /**
+     * Sorts remaining solutions in descending order of their scores and keeps
+     * the best ones.
+     * When scores are equal, solutions generated first are preferred.
+     *
+     * @param remaining    positions of remaining solutions. Will be sorted.
+     * @param numRemaining number of remaining solutions.
+     * @param numKept      number of solutions to be kept.
+     * @param scores       scores of all solutions.
+     * @param sortKeys     reusable array to sort solutions.
+     * @return number of remaining solutions after discarding the worst ones.
+     */
+    private static int keepBest(final int[] remaining, final int numRemaining, final int numKept,
+                                final int[] scores, final long[] sortKeys) {
+        // keys sort solutions in ascending order of score and descending
+        // order of position
+        for (var k = 0; k < numRemaining; k++) {
+            final var pos = remaining[k];
+            sortKeys[k] = ((long) scores[pos] << Integer.SIZE) | (Integer.MAX_VALUE - pos);
+        }
+        Arrays.sort(sortKeys, 0, numRemaining);
+
+        final var result = Math.min(numKept, numRemaining);
+        for (var k = 0; k < result; k++) {
+            remaining[k] = Integer.MAX_VALUE - (int) sortKeys[numRemaining - 1 - k];
+        }
+        return result;
+    }
+
+    /**
+     * Computes inliers data for provided solution using all samples.
+     * This requires a full pass over all samples, which is not limited by
+     * time or evaluation budgets.
+     *
+     * @param result       solution to compute inliers data for.
+     * @param threshold    threshold to determine whether samples are inliers or
+     *                     not.
+     * @param totalSamples total number of samples.
+     * @param listener     listener to obtain residuals for samples.
+     * @return inliers data.
+     */
+    private PreemptiveRANSACInliersData computeInliersData(
+            final T result, final double threshold, final int totalSamples,
+            final RANSACRobustEstimatorListener<T> listener) {
+        final var residuals = new double[totalSamples];
+        listener.computeResiduals(result, 0, totalSamples, residuals);
+
+        final var inliers = new BitSet(totalSamples);
+        for (var i = 0; i < totalSamples; i++) {
+            if (residuals[i] <= threshold) {
+                inliers.set(i);
+            }
+        }
+
+        return new PreemptiveRANSACInliersData(computeAndKeepInliers ? inliers : null,
+                computeAndKeepResiduals ? residuals : null, inliers.cardinality());
+    }
+
+    /**
+     * Contains data related to estimated inliers.
+     */
+    public static class PreemptiveRANSACInliersData extends InliersData {
+
+        /**
+         * Efficiently stores which samples are considered inliers and which
+         * ones aren't.
+         */
+        private final BitSet inliers;
+
+        /**
+         * Constructor.
+         *
+         * @param inliers    efficiently stores which samples are considered
+         *                   inliers and which ones aren't.
+         * @param residuals  residuals obtained for each sample of data.
+         * @param numInliers number of inliers.
+         */
+        protected PreemptiveRANSACInliersData(final BitSet inliers, final double[] residuals,
+                                              final int numInliers) {
+            this.inliers = inliers;
+            this.residuals = residuals;
+            this.numInliers = numInliers;
+        }
+
+        /**
+         * Returns efficient array indicating which samples are considered
+         * inliers and which ones aren't.
+         *
+         * @return array indicating which samples are considered inliers and
+         * which ones aren't.
+         */
+        @Override
+        public BitSet getInliers() {
+            return inliers;
+        }
+    }
+}
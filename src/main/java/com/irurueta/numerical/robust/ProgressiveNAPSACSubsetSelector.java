@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+/**
+ * This class computes indices of subsets of samples using progressive NAPSAC
+ * (P-NAPSAC) guided sampling.
+ * Similarly to NAPSAC, a first sample is picked uniformly at random and the
+ * remaining ones are picked among its neighbours. However, neighbourhoods
+ * grow progressively: the first time a sample is picked, remaining samples are
+ * taken from its closest neighbours, and every time the same sample is picked
+ * again its neighbourhood is enlarged, in a similar way to the growth of
+ * samples done by PROSAC, always including the farthest neighbour of the
+ * current neighbourhood.
+ * Once a sample has been picked more times than the number of growth
+ * iterations, its whole neighbourhood has already been explored, and subsets
+ * containing such sample are picked uniformly among all samples, so that
+ * sampling degrades gracefully to uniform sampling when locality does not hold.
+ * This class ensures that samples are not repeated within a single subset.
+ */
+public class ProgressiveNAPSACSubsetSelector extends NAPSACSubsetSelector {
+
+    /**
+     * Default number of times that a sample must be picked before its whole
+     * neighbourhood is used.
+     */
+    public static final int DEFAULT_GROWTH_ITERATIONS = 20;
+
+    /**
+     * Minimum allowed number of growth iterations.
+     */
+    public static final int MIN_GROWTH_ITERATIONS = 1;
+
+    /**
+     * Number of times that a sample must be picked before its whole
+     * neighbourhood is used.
+     */
+    private int growthIterations = DEFAULT_GROWTH_ITERATIONS;
+
+    /**
+     * Number of times that each sample has been picked as the first sample of
+     * a subset.
+     */
+    private int[] hits;
+
+    /**
+     * Constructor.
+     *
+     * @param neighbourhood neighbourhood of samples.
+     * @throws NullPointerException     if provided neighbourhood is null.
+     * @throws IllegalArgumentException if provided neighbourhood has no
+     *                                  samples.
+     */
+    public ProgressiveNAPSACSubsetSelector(final SampleNeighbourhood neighbourhood) {
+        super(neighbourhood);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param neighbourhood          neighbourhood of samples.
+     * @param seedRandomizerWithTime true if randomizer seed must be initialized
+     *                               to system timer to obtain more random results.
+     * @throws NullPointerException     if provided neighbourhood is null.
+     * @throws IllegalArgumentException if provided neighbourhood has no
+     *                                  samples.
+     */
+    public ProgressiveNAPSACSubsetSelector(final SampleNeighbourhood neighbourhood,
+                                           final boolean seedRandomizerWithTime) {
+        super(neighbourhood, seedRandomizerWithTime);
+    }
+
+    /**
+     * Returns number of times that a sample must be picked before its whole
+     * neighbourhood is used.
+     *
+     * @return number of growth iterations.
+     */
+    public int getGrowthIterations() {
+        return growthIterations;
+    }
+
+    /**
+     * Sets number of times that a sample must be picked before its whole
+     * neighbourhood is used.
+     * Larger values make neighbourhoods grow slower.
+     *
+     * @param growthIterations number of growth iterations.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     */
+    public void setGrowthIterations(final int growthIterations) {
+        if (growthIterations < MIN_GROWTH_ITERATIONS) {
+            throw new IllegalArgumentException();
+        }
+        this.growthIterations = growthIterations;
+    }
+
+    /**
+     * Resets the number of times that each sample has been picked, so that
+     * neighbourhoods of all samples start growing again.
+     * This should be called before reusing this instance for a new robust
+     * estimation on the same samples.
+     */
+    public void reset() {
+        hits = null;
+    }
+
+    /**
+     * Returns type of this subset selector.
+     *
+     * @return type of this subset selector.
+     */
+    @Override
+    public SubsetSelectorType getType() {
+        return SubsetSelectorType.PROGRESSIVE_NAPSAC_SUBSET_SELECTOR;
+    }
+
+    /**
+     * Computes a random subset of indices within range of number of samples to
+     * be used on robust estimators, where all samples except the first one
+     * belong to a progressively growing neighbourhood of the first one.
+     *
+     * @param subsetSize subset size to be computed. This value must be smaller
+     *                   than total number of samples.
+     * @param result     array containing indices to be picked. Provided array must
+     *                   be at least of length subsetSize. The former subsetSize entries of the
+     *                   array will be modified by this method.
+     * @throws NotEnoughSamplesException  if subset size is greater than the
+     *                                    total number of samples, or if number of samples does not match the
+     *                                    number of samples of the neighbourhood.
+     * @throws InvalidSubsetSizeException if subset size is zero or if result
+     *                                    array does not have at least a length of subsetSize.
+     */
+    @Override
+    public void computeRandomSubsets(final int subsetSize, final int[] result) throws NotEnoughSamplesException,
+            InvalidSubsetSizeException {
+        checkSubsetSize(subsetSize, result);
+
+        if (hits == null || hits.length != numSamples) {
+            hits = new int[numSamples];
+        }
+
+        final var center = getRandomizer().nextInt(0, numSamples);
+        result[0] = center;
+        final var sample = toSample(center);
+        final var t = ++hits[sample];
+
+        final var neighbours = getNeighbourhood().getNeighbours(sample);
+        final var required = subsetSize - 1;
+        if (t > growthIterations || neighbours.length < required || required == 0) {
+            // whole neighbourhood already explored or not enough neighbours,
+            // hence remaining samples are picked uniformly
+            pickCandidates(0, subsetSize, 1, 0, numSamples, result);
+            return;
+        }
+
+        // size of neighbourhood grows linearly from the required number of
+        // samples up to the whole neighbourhood
+        final var size = required
+                + (int) Math.ceil((double) (neighbours.length - required) * (t - 1) / growthIterations);
+
+        // farthest neighbour of current neighbourhood is always picked, and the
+        // remaining ones are picked at random among closer ones
+        result[1] = toPosition(neighbours[size - 1]);
+        final var count = copyCandidates(neighbours, size - 1, 0, numSamples);
+        pickCandidates(count, subsetSize, 2, 0, numSamples, result);
+    }
+}
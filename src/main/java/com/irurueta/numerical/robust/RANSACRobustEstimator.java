@@ -19,7 +19,14 @@ import com.irurueta.numerical.LockedException;
 import com.irurueta.numerical.NotReadyException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 /**
  * This class implements RANSAC (RANdom SAmple Consensus) algorithm to robustly
@@ -31,6 +38,19 @@ import java.util.BitSet;
  * threshold is used. If a threshold cannot be determined beforehand, then it
  * is better to use LMedS algorithm, at the expense of slightly less accurate
  * results.
+ * Optionally, residuals of each preliminary solution can be evaluated in
+ * parallel by splitting samples into blocks that are scored concurrently.
+ * Because subsets are still generated sequentially and each solution is fully
+ * scored before being compared against the best one, obtained results are
+ * exactly the same as on sequential mode.
+ * Preliminary solutions can also be verified using Wald's Sequential
+ * Probability Ratio Test (SPRT), so that bad solutions are rejected after
+ * evaluating only a few samples, instead of computing residuals for all of
+ * them.
+ * Additionally, every time a new best solution is found, it can be locally
+ * optimized (LO-RANSAC) by refining it on its inliers using listener, which
+ * typically increases the number of inliers and reduces the number of
+ * required iterations.
  *
  * @param <T> type of object to be estimated.
  */
@@ -79,6 +99,101 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
      */
     public static final boolean DEFAULT_COMPUTE_AND_KEEP_RESIDUALS = false;
 
+    /**
+     * Default number of blocks of samples to be scored concurrently.
+     * By default, samples are scored sequentially on calling thread.
+     */
+    public static final int DEFAULT_PARALLELISM = 1;
+
+    /**
+     * Minimum allowed parallelism.
+     */
+    public static final int MIN_PARALLELISM = 1;
+
+    /**
+     * Indicates that by default preliminary solutions are fully evaluated
+     * without using Sequential Probability Ratio Test.
+     */
+    public static final boolean DEFAULT_SPRT_ENABLED = false;
+
+    /**
+     * Default initial probability that a sample is consistent with a good
+     * solution when SPRT is enabled.
+     */
+    public static final double DEFAULT_SPRT_EPSILON = 0.1;
+
+    /**
+     * Default initial probability that a sample is consistent with a bad
+     * solution when SPRT is enabled.
+     */
+    public static final double DEFAULT_SPRT_DELTA = 0.01;
+
+    /**
+     * Default ratio between time to estimate preliminary solutions for one
+     * subset and time to compute residual of one sample.
+     */
+    public static final double DEFAULT_SPRT_TIME_RATIO = 200.0;
+
+    /**
+     * Minimum allowed value for SPRT probabilities (exclusive).
+     */
+    public static final double MIN_SPRT_PROBABILITY = 0.0;
+
+    /**
+     * Maximum allowed value for SPRT probabilities (exclusive).
+     */
+    public static final double MAX_SPRT_PROBABILITY = 1.0;
+
+    /**
+     * Minimum allowed value for SPRT time ratio (exclusive).
+     */
+    public static final double MIN_SPRT_TIME_RATIO = 0.0;
+
+    /**
+     * Indicates that by default local optimization of best solutions is
+     * disabled.
+     */
+    public static final boolean DEFAULT_LOCAL_OPTIMIZATION_ENABLED = false;
+
+    /**
+     * Default number of refinements done during local optimization.
+     */
+    public static final int DEFAULT_LOCAL_OPTIMIZATION_ITERATIONS = 4;
+
+    /**
+     * Minimum allowed number of refinements done during local optimization.
+     */
+    public static final int MIN_LOCAL_OPTIMIZATION_ITERATIONS = 1;
+
+    /**
+     * Default factor to enlarge threshold on first refinement of local
+     * optimization. Threshold is progressively shrunk on each refinement until
+     * it reaches the listener threshold.
+     */
+    public static final double DEFAULT_LOCAL_OPTIMIZATION_THRESHOLD_FACTOR = 3.0;
+
+    /**
+     * Minimum allowed factor to enlarge threshold on local optimization.
+     */
+    public static final double MIN_LOCAL_OPTIMIZATION_THRESHOLD_FACTOR = 1.0;
+
+    /**
+     * Indicates that by default inliers data is computed during estimation
+     * every time a new best solution is found.
+     */
+    public static final boolean DEFAULT_LAZY_INLIERS_DATA_ENABLED = false;
+
+    /**
+     * Indicates that by default residuals are kept with double precision.
+     */
+    public static final boolean DEFAULT_FLOAT_RESIDUALS_ENABLED = false;
+
+    /**
+     * Indicates that by default inliers data found on an estimation is not
+     * reused by later estimations.
+     */
+    public static final boolean DEFAULT_INLIERS_DATA_REUSE_ENABLED = false;
+
     /**
      * Amount of confidence expressed as a value between 0 and 1.0 (which is
      * equivalent to 100%). The amount of confidence indicates the probability
@@ -124,6 +239,120 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
      */
     private boolean computeAndKeepResiduals;
 
+    /**
+     * Number of blocks of samples to be scored concurrently for each
+     * preliminary solution. When 1, samples are scored sequentially on calling
+     * thread.
+     */
+    private int parallelism;
+
+    /**
+     * Executor where blocks of samples are scored when parallelism is greater
+     * than 1. If not provided, common fork join pool is used.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Indicates whether preliminary solutions are verified using Sequential
+     * Probability Ratio Test.
+     */
+    private boolean sprtEnabled;
+
+    /**
+     * Initial probability that a sample is consistent with a good solution
+     * when SPRT is enabled.
+     */
+    private double sprtEpsilon;
+
+    /**
+     * Initial probability that a sample is consistent with a bad solution when
+     * SPRT is enabled.
+     */
+    private double sprtDelta;
+
+    /**
+     * Ratio between time to estimate preliminary solutions for one subset and
+     * time to compute residual of one sample.
+     */
+    private double sprtTimeRatio;
+
+    /**
+     * Indicates whether best solutions are refined using their inliers every
+     * time a new best solution is found.
+     */
+    private boolean localOptimizationEnabled;
+
+    /**
+     * Number of refinements done during local optimization.
+     */
+    private int localOptimizationIterations;
+
+    /**
+     * Factor to enlarge threshold on first refinement of local optimization.
+     */
+    private double localOptimizationThresholdFactor;
+
+    /**
+     * Indicates whether only the best solution is kept during estimation, and
+     * inliers and residuals are computed for it the first time they are
+     * requested.
+     */
+    private boolean lazyInliersDataEnabled;
+
+    /**
+     * Indicates whether residuals are kept with float precision to halve
+     * memory usage.
+     */
+    private boolean floatResidualsEnabled;
+
+    /**
+     * Indicates whether inliers data found on an estimation can be reused by
+     * later estimations.
+     */
+    private boolean inliersDataReuseEnabled;
+
+    /**
+     * Reusable list that will contain preliminary solutions on each iteration.
+     */
+    private ArrayList<T> iterResults;
+
+    /**
+     * Reusable array containing indices of subset picked in one iteration.
+     */
+    private int[] subsetIndices;
+
+    /**
+     * Reusable array containing inliers of solution being evaluated.
+     */
+    private BitSet inliers;
+
+    /**
+     * Reusable array where residuals of solution being evaluated are computed.
+     */
+    private double[] residuals;
+
+    /**
+     * Reusable array where residuals are computed during local optimization.
+     */
+    private double[] loResiduals;
+
+    /**
+     * Reusable array containing residuals of best refined solution found
+     * during local optimization.
+     */
+    private double[] loBestResiduals;
+
+    /**
+     * Reusable array containing inliers during local optimization.
+     */
+    private BitSet loInliers;
+
+    /**
+     * Reusable working buffers containing inliers and residuals of the solution
+     * being evaluated when inliers data is kept.
+     */
+    private Buffers buffers;
+
     /**
      * Constructor.
      */
@@ -136,6 +365,17 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
         bestInliersData = null;
         computeAndKeepInliers = DEFAULT_COMPUTE_AND_KEEP_INLIERS;
         computeAndKeepResiduals = DEFAULT_COMPUTE_AND_KEEP_RESIDUALS;
+        parallelism = DEFAULT_PARALLELISM;
+        sprtEnabled = DEFAULT_SPRT_ENABLED;
+        sprtEpsilon = DEFAULT_SPRT_EPSILON;
+        sprtDelta = DEFAULT_SPRT_DELTA;
+        sprtTimeRatio = DEFAULT_SPRT_TIME_RATIO;
+        localOptimizationEnabled = DEFAULT_LOCAL_OPTIMIZATION_ENABLED;
+        localOptimizationIterations = DEFAULT_LOCAL_OPTIMIZATION_ITERATIONS;
+        localOptimizationThresholdFactor = DEFAULT_LOCAL_OPTIMIZATION_THRESHOLD_FACTOR;
+        lazyInliersDataEnabled = DEFAULT_LAZY_INLIERS_DATA_ENABLED;
+        floatResidualsEnabled = DEFAULT_FLOAT_RESIDUALS_ENABLED;
+        inliersDataReuseEnabled = DEFAULT_INLIERS_DATA_REUSE_ENABLED;
     }
 
     /**
@@ -154,6 +394,17 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
         bestInliersData = null;
         computeAndKeepInliers = DEFAULT_COMPUTE_AND_KEEP_INLIERS;
         computeAndKeepResiduals = DEFAULT_COMPUTE_AND_KEEP_RESIDUALS;
+        parallelism = DEFAULT_PARALLELISM;
+        sprtEnabled = DEFAULT_SPRT_ENABLED;
+        sprtEpsilon = DEFAULT_SPRT_EPSILON;
+        sprtDelta = DEFAULT_SPRT_DELTA;
+        sprtTimeRatio = DEFAULT_SPRT_TIME_RATIO;
+        localOptimizationEnabled = DEFAULT_LOCAL_OPTIMIZATION_ENABLED;
+        localOptimizationIterations = DEFAULT_LOCAL_OPTIMIZATION_ITERATIONS;
+        localOptimizationThresholdFactor = DEFAULT_LOCAL_OPTIMIZATION_THRESHOLD_FACTOR;
+        lazyInliersDataEnabled = DEFAULT_LAZY_INLIERS_DATA_ENABLED;
+        floatResidualsEnabled = DEFAULT_FLOAT_RESIDUALS_ENABLED;
+        inliersDataReuseEnabled = DEFAULT_INLIERS_DATA_REUSE_ENABLED;
     }
 
     /**
@@ -296,6 +547,406 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
         this.computeAndKeepResiduals = computeAndKeepResiduals;
     }
 
+    /**
+     * Returns number of blocks of samples to be scored concurrently for each
+     * preliminary solution. When 1, samples are scored sequentially on calling
+     * thread.
+     *
+     * @return number of blocks of samples to be scored concurrently.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets number of blocks of samples to be scored concurrently for each
+     * preliminary solution. When 1, samples are scored sequentially on calling
+     * thread.
+     * When a value greater than 1 is set, provided listener must be able to
+     * compute residuals from multiple threads at once.
+     *
+     * @param parallelism number of blocks of samples to be scored concurrently.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if estimator is locked.
+     */
+    public void setParallelism(final int parallelism) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (parallelism < MIN_PARALLELISM) {
+            throw new IllegalArgumentException();
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns executor where blocks of samples are scored when parallelism is
+     * greater than 1. If null, common fork join pool is used.
+     *
+     * @return executor where blocks of samples are scored or null.
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets executor where blocks of samples are scored when parallelism is
+     * greater than 1. If null, common fork join pool is used.
+     * Provided executor is never shut down by this estimator.
+     *
+     * @param executor executor where blocks of samples are scored or null.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setExecutor(final ExecutorService executor) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.executor = executor;
+    }
+
+    /**
+     * Indicates whether preliminary solutions are verified using Sequential
+     * Probability Ratio Test, so that bad solutions are rejected without
+     * computing residuals of all samples.
+     *
+     * @return true if SPRT is enabled, false otherwise.
+     */
+    public boolean isSprtEnabled() {
+        return sprtEnabled;
+    }
+
+    /**
+     * Specifies whether preliminary solutions are verified using Sequential
+     * Probability Ratio Test, so that bad solutions are rejected without
+     * computing residuals of all samples.
+     * SPRT is only used when samples are scored sequentially (i.e. parallelism
+     * is 1).
+     *
+     * @param sprtEnabled true to enable SPRT, false otherwise.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setSprtEnabled(final boolean sprtEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.sprtEnabled = sprtEnabled;
+    }
+
+    /**
+     * Returns initial probability that a sample is consistent with a good
+     * solution when SPRT is enabled. This value is updated during estimation
+     * using the best solution found so far.
+     *
+     * @return initial probability that a sample is consistent with a good
+     * solution.
+     */
+    public double getSprtEpsilon() {
+        return sprtEpsilon;
+    }
+
+    /**
+     * Sets initial probability that a sample is consistent with a good
+     * solution when SPRT is enabled. This value is updated during estimation
+     * using the best solution found so far.
+     *
+     * @param sprtEpsilon initial probability that a sample is consistent with
+     *                    a good solution.
+     * @throws IllegalArgumentException if provided value is not between 0.0
+     *                                  and 1.0 (exclusive).
+     * @throws LockedException          if estimator is locked.
+     */
+    public void setSprtEpsilon(final double sprtEpsilon) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (sprtEpsilon <= MIN_SPRT_PROBABILITY || sprtEpsilon >= MAX_SPRT_PROBABILITY) {
+            throw new IllegalArgumentException();
+        }
+        this.sprtEpsilon = sprtEpsilon;
+    }
+
+    /**
+     * Returns initial probability that a sample is consistent with a bad
+     * solution when SPRT is enabled. This value is updated during estimation
+     * using rejected solutions.
+     *
+     * @return initial probability that a sample is consistent with a bad
+     * solution.
+     */
+    public double getSprtDelta() {
+        return sprtDelta;
+    }
+
+    /**
+     * Sets initial probability that a sample is consistent with a bad
+     * solution when SPRT is enabled. This value is updated during estimation
+     * using rejected solutions.
+     *
+     * @param sprtDelta initial probability that a sample is consistent with a
+     *                  bad solution.
+     * @throws IllegalArgumentException if provided value is not between 0.0
+     *                                  and 1.0 (exclusive).
+     * @throws LockedException          if estimator is locked.
+     */
+    public void setSprtDelta(final double sprtDelta) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (sprtDelta <= MIN_SPRT_PROBABILITY || sprtDelta >= MAX_SPRT_PROBABILITY) {
+            throw new IllegalArgumentException();
+        }
+        this.sprtDelta = sprtDelta;
+    }
+
+    /**
+     * Returns ratio between time to estimate preliminary solutions for one
+     * subset and time to compute residual of one sample. This is used by SPRT
+     * to balance the cost of rejecting good solutions against the cost of
+     * evaluating bad ones.
+     *
+     * @return ratio between time to estimate solutions and time to compute
+     * one residual.
+     */
+    public double getSprtTimeRatio() {
+        return sprtTimeRatio;
+    }
+
+    /**
+     * Sets ratio between time to estimate preliminary solutions for one
+     * subset and time to compute residual of one sample. This is used by SPRT
+     * to balance the cost of rejecting good solutions against the cost of
+     * evaluating bad ones.
+     *
+     * @param sprtTimeRatio ratio between time to estimate solutions and time to
+     *                      compute one residual.
+     * @throws IllegalArgumentException if provided value is zero or negative.
+     * @throws LockedException          if estimator is locked.
+     */
+    public void setSprtTimeRatio(final double sprtTimeRatio) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (sprtTimeRatio <= MIN_SPRT_TIME_RATIO) {
+            throw new IllegalArgumentException();
+        }
+        this.sprtTimeRatio = sprtTimeRatio;
+    }
+
+    /**
+     * Indicates whether best solutions are refined using their inliers every
+     * time a new best solution is found (LO-RANSAC).
+     * Refinement is done by listener, and refined solutions are kept only when
+     * they have a larger number of inliers, which in turn reduces the number of
+     * iterations required to achieve requested confidence.
+     *
+     * @return true if local optimization is enabled, false otherwise.
+     */
+    public boolean isLocalOptimizationEnabled() {
+        return localOptimizationEnabled;
+    }
+
+    /**
+     * Specifies whether best solutions are refined using their inliers every
+     * time a new best solution is found (LO-RANSAC).
+     * Refinement is done by listener, and refined solutions are kept only when
+     * they have a larger number of inliers, which in turn reduces the number of
+     * iterations required to achieve requested confidence.
+     *
+     * @param localOptimizationEnabled true to enable local optimization, false
+     *                                 otherwise.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setLocalOptimizationEnabled(final boolean localOptimizationEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.localOptimizationEnabled = localOptimizationEnabled;
+    }
+
+    /**
+     * Returns number of refinements done during local optimization.
+     *
+     * @return number of refinements done during local optimization.
+     */
+    public int getLocalOptimizationIterations() {
+        return localOptimizationIterations;
+    }
+
+    /**
+     * Sets number of refinements done during local optimization.
+     *
+     * @param localOptimizationIterations number of refinements done during local
+     *                                    optimization.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if estimator is locked.
+     */
+    public void setLocalOptimizationIterations(final int localOptimizationIterations) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (localOptimizationIterations < MIN_LOCAL_OPTIMIZATION_ITERATIONS) {
+            throw new IllegalArgumentException();
+        }
+        this.localOptimizationIterations = localOptimizationIterations;
+    }
+
+    /**
+     * Returns factor to enlarge threshold on first refinement of local
+     * optimization. Threshold is linearly shrunk on each refinement until it
+     * reaches the threshold provided by listener.
+     *
+     * @return factor to enlarge threshold on local optimization.
+     */
+    public double getLocalOptimizationThresholdFactor() {
+        return localOptimizationThresholdFactor;
+    }
+
+    /**
+     * Sets factor to enlarge threshold on first refinement of local
+     * optimization. Threshold is linearly shrunk on each refinement until it
+     * reaches the threshold provided by listener.
+     *
+     * @param localOptimizationThresholdFactor factor to enlarge threshold on local
+     *                                         optimization.
+     * @throws IllegalArgumentException if provided value is less than 1.0.
+     * @throws LockedException          if estimator is locked.
+     */
+    public void setLocalOptimizationThresholdFactor(final double localOptimizationThresholdFactor)
+            throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (localOptimizationThresholdFactor < MIN_LOCAL_OPTIMIZATION_THRESHOLD_FACTOR) {
+            throw new IllegalArgumentException();
+        }
+        this.localOptimizationThresholdFactor = localOptimizationThresholdFactor;
+    }
+
+    /**
+     * Indicates whether only the best solution is kept during estimation, and
+     * inliers and residuals are computed for it the first time they are
+     * requested once estimation finishes.
+     * This avoids keeping and updating inliers and residuals buffers during
+     * estimation, which reduces memory usage on large sets of samples.
+     * Inliers and residuals are only computed if they are requested to be
+     * kept.
+     *
+     * @return true if inliers data is computed lazily, false otherwise.
+     */
+    public boolean isLazyInliersDataEnabled() {
+        return lazyInliersDataEnabled;
+    }
+
+    /**
+     * Specifies whether only the best solution is kept during estimation, and
+     * inliers and residuals are computed for it the first time they are
+     * requested once estimation finishes.
+     * When enabled, residuals are computed by listener on request, hence
+     * listener must remain valid until then.
+     *
+     * @param lazyInliersDataEnabled true to compute inliers data lazily, false
+     *                               otherwise.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setLazyInliersDataEnabled(final boolean lazyInliersDataEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.lazyInliersDataEnabled = lazyInliersDataEnabled;
+    }
+
+    /**
+     * Indicates whether residuals are kept with float precision to halve
+     * memory usage.
+     * When enabled, residuals can be obtained using
+     * {@link InliersData#getFloatResiduals()}.
+     *
+     * @return true if residuals are kept with float precision, false
+     * otherwise.
+     */
+    public boolean isFloatResidualsEnabled() {
+        return floatResidualsEnabled;
+    }
+
+    /**
+     * Specifies whether residuals are kept with float precision to halve
+     * memory usage.
+     * When enabled, residuals can be obtained using
+     * {@link InliersData#getFloatResiduals()}.
+     *
+     * @param floatResidualsEnabled true to keep residuals with float
+     *                              precision, false otherwise.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setFloatResidualsEnabled(final boolean floatResidualsEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.floatResidualsEnabled = floatResidualsEnabled;
+    }
+
+    /**
+     * Indicates whether inliers data found on an estimation can be reused by
+     * later estimations.
+     * When enabled and inliers or residuals are kept, repeated estimations on
+     * data having the same number of samples do not allocate memory, however
+     * inliers data returned by an estimation gets overwritten by next
+     * estimation.
+     *
+     * @return true if inliers data is reused, false otherwise.
+     */
+    public boolean isInliersDataReuseEnabled() {
+        return inliersDataReuseEnabled;
+    }
+
+    /**
+     * Specifies whether inliers data found on an estimation can be reused by
+     * later estimations.
+     * When enabled and inliers or residuals are kept, repeated estimations on
+     * data having the same number of samples do not allocate memory, however
+     * inliers data returned by an estimation gets overwritten by next
+     * estimation.
+     *
+     * @param inliersDataReuseEnabled true if inliers data is reused, false
+     *                                otherwise.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setInliersDataReuseEnabled(final boolean inliersDataReuseEnabled) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.inliersDataReuseEnabled = inliersDataReuseEnabled;
+    }
+
+    /**
+     * Returns instance in charge of picking random subsets of samples.
+     * If no subset selector has been provided, a uniform random subset selector
+     * is created on first estimation.
+     *
+     * @return instance in charge of picking random subsets of samples.
+     */
+    public SubsetSelector getSubsetSelector() {
+        return subsetSelector;
+    }
+
+    /**
+     * Sets instance in charge of picking random subsets of samples.
+     * Guided subset selectors (i.e. {@link NAPSACSubsetSelector}) can be
+     * provided to reduce the number of required iterations when inliers are
+     * spatially close to each other. If null is provided, a uniform random
+     * subset selector is created on next estimation.
+     *
+     * @param subsetSelector instance in charge of picking random subsets of
+     *                       samples.
+     * @throws LockedException if estimator is locked.
+     */
+    public void setSubsetSelector(final SubsetSelector subsetSelector) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.subsetSelector = subsetSelector;
+    }
+
     /**
      * Indicates if estimator is ready to start the estimation process.
      *
@@ -347,28 +998,54 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
             nIters = Integer.MAX_VALUE;
             int newNIters;
             var currentIter = 0;
-            // reusable list that will contain preliminary solutions on each
-            // iteration
-            final var iterResults = new ArrayList<T>();
+            // reuse list that will contain preliminary solutions on each
+            // iteration and indices of subset picked in one iteration
+            prepareWorkspace(totalSamples, subsetSize);
             bestResult = null;
             int currentInliers;
             var previousProgress = 0.0f;
             float progress;
-            final var subsetIndices = new int[subsetSize];
 
-            BitSet inliers = null;
-            double[] residuals = null;
-            if (computeAndKeepInliers || computeAndKeepResiduals) {
-                bestInliersData = new RANSACInliersData(totalSamples, computeAndKeepInliers, computeAndKeepResiduals);
+            // working buffers for inliers and residuals, which are swapped with
+            // the ones of the best inliers data when a new best is found
+            buffers.inliers = null;
+            buffers.residuals = null;
+            final var keepInliersData = computeAndKeepInliers || computeAndKeepResiduals;
+            if (keepInliersData && !lazyInliersDataEnabled) {
+                bestInliersData = obtainInliersData(totalSamples);
 
                 if (computeAndKeepInliers) {
-                    inliers = new BitSet(totalSamples);
+                    buffers.inliers = inliers;
                 }
                 if (computeAndKeepResiduals) {
-                    residuals = new double[totalSamples];
+                    buffers.residuals = residuals;
                 }
             }
 
+            // array where residuals of each preliminary solution are computed
+            var currentResiduals = buffers.residuals != null ? buffers.residuals : residuals;
+            // buffers are taken from workspace during estimation because they
+            // might be swapped, and they are returned to it once estimation
+            // finishes
+            if (buffers.inliers != null) {
+                inliers = null;
+            }
+            residuals = null;
+
+            // tasks to score blocks of samples concurrently (if needed)
+            List<BlockScoringTask<T>> tasks = null;
+            if (parallelism > MIN_PARALLELISM) {
+                tasks = createBlockScoringTasks(listener, totalSamples, threshold);
+                for (final var task : tasks) {
+                    task.residuals = currentResiduals;
+                }
+            }
+            final ExecutorService executorService = executor != null ? executor : ForkJoinPool.commonPool();
+
+            // sequential probability ratio test (if needed)
+            final var sprt = sprtEnabled && tasks == null
+                    ? new SPRTVerifier(totalSamples, sprtEpsilon, sprtDelta, sprtTimeRatio) : null;
+
             if (subsetSelector == null) {
                 // create new subset selector
                 subsetSelector = SubsetSelector.create(totalSamples);
@@ -385,28 +1062,34 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
                 iterResults.clear();
                 // compute solution for current iteration
                 listener.estimatePreliminarSolutions(subsetIndices, iterResults);
+                if (sprt != null) {
+                    sprt.onModelsEstimated(iterResults.size());
+                }
 
-                for (final var iterResult : iterResults) {
+                // indexed loop avoids creating an iterator on each iteration
+                for (var k = 0; k < iterResults.size(); k++) {
+                    final var iterResult = iterResults.get(k);
                     // compute number of inliers
-                    currentInliers = 0;
-                    for (var i = 0; i < totalSamples; i++) {
-                        final var error = listener.computeResidual(iterResult, i);
-                        if (error <= threshold) {
-                            currentInliers++;
-                            // keep inlier data if needed
-                            if (inliers != null) {
-                                inliers.set(i);
-                            }
-                        } else {
-                            // outlier
-                            if (inliers != null) {
-                                inliers.clear(i);
+                    if (tasks != null) {
+                        // score blocks of samples concurrently
+                        currentInliers = computeInliersInParallel(iterResult, tasks, executorService);
+                        if (buffers.inliers != null) {
+                            for (var i = 0; i < totalSamples; i++) {
+                                buffers.inliers.set(i, currentResiduals[i] <= threshold);
                             }
                         }
-
-                        if (residuals != null) {
-                            residuals[i] = error;
+                    } else if (sprt != null) {
+                        // residuals are also needed to seed local optimization
+                        currentInliers = computeInliersWithSprt(iterResult, threshold, totalSamples, listener,
+                                buffers.inliers, localOptimizationEnabled ? currentResiduals : buffers.residuals,
+                                sprt);
+                        if (currentInliers < 0) {
+                            // solution has been rejected
+                            continue;
                         }
+                    } else {
+                        currentInliers = computeInliers(iterResult, threshold, totalSamples, listener,
+                                buffers.inliers, currentResiduals);
                     }
 
                     // save result that produces the largest number of inliers
@@ -417,9 +1100,45 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
                         // keep current result
                         bestResult = iterResult;
 
-                        // update best inlier data
+                        if (localOptimizationEnabled) {
+                            // refine solution using its inliers, starting from
+                            // residuals that have just been computed
+                            final var refined = localOptimize(iterResult, currentResiduals, bestNumInliers,
+                                    threshold, totalSamples, listener);
+                            if (refined != null) {
+                                // refined solution has more inliers, and its
+                                // residuals are swapped in instead of being
+                                // computed again
+                                bestResult = refined;
+                                final var tmp = currentResiduals;
+                                currentResiduals = loBestResiduals;
+                                loBestResiduals = tmp;
+                                if (buffers.residuals != null) {
+                                    buffers.residuals = currentResiduals;
+                                }
+                                if (tasks != null) {
+                                    for (final var task : tasks) {
+                                        task.residuals = currentResiduals;
+                                    }
+                                }
+                                bestNumInliers = countInliers(currentResiduals, totalSamples, threshold,
+                                        buffers.inliers);
+                            }
+                        }
+
+                        // update best inlier data by swapping buffers instead of
+                        // copying them
                         if (bestInliersData != null) {
-                            bestInliersData.update(inliers, residuals, bestNumInliers);
+                            bestInliersData.swap(buffers, bestNumInliers);
+                            if (buffers.residuals != null && buffers.residuals != currentResiduals) {
+                                // previous residuals buffer is reused for next solutions
+                                currentResiduals = buffers.residuals;
+                                if (tasks != null) {
+                                    for (final var task : tasks) {
+                                        task.residuals = currentResiduals;
+                                    }
+                                }
+                            }
                         }
 
                         // recompute number of times the algorithm needs to be
@@ -427,17 +1146,28 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
                         // achieve with probability mConfidence that we have
                         // inliers and probability 1 - mConfidence that we have
                         // outliers
-                        final var probSubsetAllInliers = Math.pow((double) bestNumInliers / (double) totalSamples,
-                                subsetSize);
-
-                        if (Math.abs(probSubsetAllInliers) < Double.MIN_VALUE || Double.isNaN(probSubsetAllInliers)) {
-                            newNIters = Integer.MAX_VALUE;
+                        if (sprt != null) {
+                            // update test parameters and take into account
+                            // probability of rejecting good solutions
+                            sprt.onBestModel(bestNumInliers);
+                            newNIters = sprt.computeIterations((double) bestNumInliers / (double) totalSamples,
+                                    subsetSize, confidence);
                         } else {
-                            final var logProbSomeOutliers = Math.log(1.0 - probSubsetAllInliers);
-                            if (Math.abs(logProbSomeOutliers) < Double.MIN_VALUE || Double.isNaN(logProbSomeOutliers)) {
+                            final var probSubsetAllInliers = Math.pow(
+                                    (double) bestNumInliers / (double) totalSamples, subsetSize);
+
+                            if (Math.abs(probSubsetAllInliers) < Double.MIN_VALUE
+                                    || Double.isNaN(probSubsetAllInliers)) {
                                 newNIters = Integer.MAX_VALUE;
                             } else {
-                                newNIters = (int) Math.ceil(Math.abs(Math.log(1.0 - confidence) / logProbSomeOutliers));
+                                final var logProbSomeOutliers = Math.log(1.0 - probSubsetAllInliers);
+                                if (Math.abs(logProbSomeOutliers) < Double.MIN_VALUE
+                                        || Double.isNaN(logProbSomeOutliers)) {
+                                    newNIters = Integer.MAX_VALUE;
+                                } else {
+                                    newNIters = (int) Math.ceil(Math.abs(Math.log(1.0 - confidence)
+                                            / logProbSomeOutliers));
+                                }
                             }
                         }
                         if (newNIters < nIters) {
@@ -460,21 +1190,57 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
                 listener.onEstimateNextIteration(this, currentIter);
             }
 
+            // buffers might have been swapped with the ones of best inliers
+            // data, hence current ones are kept for next estimation
+            if (buffers.inliers != null) {
+                inliers = buffers.inliers;
+            }
+            residuals = currentResiduals;
+
             // no solution could be found after completing all iterations
             if (bestResult == null) {
                 throw new RobustEstimatorException();
             }
 
+            if (keepInliersData && lazyInliersDataEnabled) {
+                // inliers and residuals are only computed if requested
+                bestInliersData = RANSACInliersData.createLazy(bestResult, listener, threshold, totalSamples,
+                        bestNumInliers, computeAndKeepInliers, computeAndKeepResiduals, floatResidualsEnabled);
+            }
+
             listener.onEstimateEnd(this);
 
             return bestResult;
         } catch (final SubsetSelectorException e) {
             throw new RobustEstimatorException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RobustEstimatorException(e);
+        } catch (final ExecutionException e) {
+            throw new RobustEstimatorException(e.getCause());
         } finally {
             locked = false;
         }
     }
 
+    /**
+     * Releases working buffers that are kept between estimations.
+     *
+     * @throws LockedException if robust estimator is locked.
+     */
+    @Override
+    public void releaseWorkspace() throws LockedException {
+        super.releaseWorkspace();
+        iterResults = null;
+        subsetIndices = null;
+        inliers = null;
+        residuals = null;
+        loResiduals = null;
+        loBestResiduals = null;
+        loInliers = null;
+        buffers = null;
+    }
+
     /**
      * Returns data about inliers once estimation has been done.
      *
@@ -496,6 +1262,356 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
         return RobustEstimatorMethod.RANSAC;
     }
 
+    /**
+     * Obtains an instance of inliers data to keep inliers and residuals of
+     * best solution found on current estimation.
+     * Best inliers data of previous estimation is reset and returned when
+     * reuse is enabled and it was created for the same number of samples and
+     * kept data. Otherwise, a new instance is created.
+     *
+     * @param totalSamples total number of samples.
+     * @return inliers data to be used on current estimation.
+     */
+    private RANSACInliersData obtainInliersData(final int totalSamples) {
+        if (inliersDataReuseEnabled && bestInliersData != null && bestInliersData.isReusable(totalSamples,
+                computeAndKeepInliers, computeAndKeepResiduals, floatResidualsEnabled)) {
+            bestInliersData.reset();
+            return bestInliersData;
+        }
+
+        return new RANSACInliersData(totalSamples, computeAndKeepInliers, computeAndKeepResiduals,
+                floatResidualsEnabled);
+    }
+
+    /**
+     * Initializes working buffers to be used on an estimation, reusing the ones
+     * of previous estimations when their size matches.
+     *
+     * @param totalSamples total number of samples.
+     * @param subsetSize   subset sample size to be picked on each iteration.
+     */
+    private void prepareWorkspace(final int totalSamples, final int subsetSize) {
+        if (iterResults == null) {
+            iterResults = new ArrayList<>();
+        }
+        if (subsetIndices == null || subsetIndices.length != subsetSize) {
+            subsetIndices = new int[subsetSize];
+        }
+        if (residuals == null || residuals.length != totalSamples) {
+            residuals = new double[totalSamples];
+            inliers = new BitSet(totalSamples);
+        }
+        if (localOptimizationEnabled && (loResiduals == null || loResiduals.length != totalSamples)) {
+            loResiduals = new double[totalSamples];
+            loBestResiduals = new double[totalSamples];
+            loInliers = new BitSet(totalSamples);
+        }
+        if (buffers == null) {
+            buffers = new Buffers();
+        }
+    }
+
+    /**
+     * Refines provided solution using its inliers with progressively shrunk
+     * thresholds, starting at threshold multiplied by local optimization
+     * threshold factor and ending at threshold.
+     * Residuals of refined solutions are computed into reusable local
+     * optimization buffers, and those of the returned solution are left in
+     * {@link #loBestResiduals}, so that they do not need to be computed again.
+     *
+     * @param result           solution to be refined.
+     * @param resultResiduals  residuals of solution to be refined. Not modified.
+     * @param resultNumInliers number of inliers of solution to be refined.
+     * @param threshold        threshold to determine whether samples are
+     *                         inliers or not.
+     * @param totalSamples     total number of samples.
+     * @param listener         listener to obtain residuals for samples and
+     *                         refine solutions.
+     * @return refined solution having a larger number of inliers than provided
+     * one, or null if no better solution could be found.
+     */
+    private T localOptimize(final T result, final double[] resultResiduals, final int resultNumInliers,
+                            final double threshold, final int totalSamples,
+                            final RANSACRobustEstimatorListener<T> listener) {
+        var bestCount = resultNumInliers;
+        T best = null;
+
+        final var inliers = loInliers;
+        var residuals = resultResiduals;
+        var current = result;
+        for (var i = 0; i < localOptimizationIterations; i++) {
+            // threshold decreases linearly down to provided threshold
+            final var factor = localOptimizationIterations > 1
+                    ? localOptimizationThresholdFactor - (localOptimizationThresholdFactor - 1.0) * i
+                    / (localOptimizationIterations - 1) : 1.0;
+            final var currentThreshold = factor * threshold;
+
+            inliers.clear();
+            for (var j = 0; j < totalSamples; j++) {
+                if (residuals[j] <= currentThreshold) {
+                    inliers.set(j);
+                }
+            }
+
+            final var refined = listener.refine(current, inliers);
+            if (refined == null) {
+                break;
+            }
+
+            // inliers of current solution have already been obtained, hence
+            // its residuals can be overwritten unless they belong to best one
+            listener.computeResiduals(refined, 0, totalSamples, loResiduals);
+            final var count = countInliers(loResiduals, totalSamples, threshold, null);
+            if (count > bestCount) {
+                bestCount = count;
+                best = refined;
+                // keep residuals of best solution
+                final var tmp = loBestResiduals;
+                loBestResiduals = loResiduals;
+                loResiduals = tmp;
+                residuals = loBestResiduals;
+            } else {
+                residuals = loResiduals;
+            }
+            current = refined;
+        }
+
+        return best;
+    }
+
+    /**
+     * Counts number of residuals that are smaller or equal than provided
+     * threshold.
+     *
+     * @param residuals    residuals of samples.
+     * @param totalSamples total number of samples.
+     * @param threshold    threshold to determine whether samples are inliers or
+     *                     not.
+     * @param inliers      bitset where inliers are stored (if provided).
+     * @return number of inliers.
+     */
+    private static int countInliers(final double[] residuals, final int totalSamples, final double threshold,
+                                    final BitSet inliers) {
+        var numInliers = 0;
+        for (var i = 0; i < totalSamples; i++) {
+            final var inlier = residuals[i] <= threshold;
+            if (inlier) {
+                numInliers++;
+            }
+            // keep inlier data if needed
+            if (inliers != null) {
+                inliers.set(i, inlier);
+            }
+        }
+        return numInliers;
+    }
+
+    /**
+     * Computes number of inliers of provided preliminary solution on calling
+     * thread.
+     *
+     * @param <T>          type of result to be estimated.
+     * @param iterResult   result to be tested on current iteration.
+     * @param threshold    threshold to determine whether samples are inliers or
+     *                     not.
+     * @param totalSamples total number of samples.
+     * @param listener     listener to obtain residuals for samples.
+     * @param inliers      bitset where inliers are stored (if provided).
+     * @param residuals    array where residuals are stored.
+     * @return number of inliers.
+     */
+    private static <T> int computeInliers(
+            final T iterResult, final double threshold, final int totalSamples,
+            final RANSACRobustEstimatorListener<T> listener, final BitSet inliers, final double[] residuals) {
+        listener.computeResiduals(iterResult, 0, totalSamples, residuals);
+
+        var numInliers = 0;
+        for (var i = 0; i < totalSamples; i++) {
+            if (residuals[i] <= threshold) {
+                numInliers++;
+                // keep inlier data if needed
+                if (inliers != null) {
+                    inliers.set(i);
+                }
+            } else {
+                // outlier
+                if (inliers != null) {
+                    inliers.clear(i);
+                }
+            }
+        }
+        return numInliers;
+    }
+
+    /**
+     * Computes number of inliers of provided preliminary solution using
+     * Sequential Probability Ratio Test, so that evaluation stops as soon as
+     * the solution is found to be bad.
+     *
+     * @param <T>          type of result to be estimated.
+     * @param iterResult   result to be tested on current iteration.
+     * @param threshold    threshold to determine whether samples are inliers or
+     *                     not.
+     * @param totalSamples total number of samples.
+     * @param listener     listener to obtain residuals for samples.
+     * @param inliers      bitset where inliers are stored (if provided).
+     * @param residuals    array where residuals are stored (if provided).
+     * @param sprt         sequential probability ratio test.
+     * @return number of inliers or -1 if solution has been rejected.
+     */
+    private static <T> int computeInliersWithSprt(
+            final T iterResult, final double threshold, final int totalSamples,
+            final RANSACRobustEstimatorListener<T> listener, final BitSet inliers, final double[] residuals,
+            final SPRTVerifier sprt) {
+        sprt.reset();
+        var numInliers = 0;
+        var i = 0;
+        for (var j = 0; j < totalSamples; j++) {
+            final var error = listener.computeResidual(iterResult, i);
+            final var consistent = error <= threshold;
+            if (consistent) {
+                numInliers++;
+            }
+            if (inliers != null) {
+                inliers.set(i, consistent);
+            }
+            if (residuals != null) {
+                residuals[i] = error;
+            }
+
+            if (sprt.isRejected(consistent)) {
+                sprt.onRejected(j + 1, numInliers);
+                return -1;
+            }
+            i = sprt.nextSample(i);
+        }
+        return numInliers;
+    }
+
+    /**
+     * Creates tasks to score blocks of samples concurrently.
+     * Samples are split into as many contiguous blocks as the current
+     * parallelism (or less if there are fewer samples).
+     *
+     * @param listener     listener to obtain residuals for samples.
+     * @param totalSamples total number of samples.
+     * @param threshold    threshold to determine whether samples are inliers
+     *                     or not.
+     * @return tasks to score each block of samples.
+     */
+    private List<BlockScoringTask<T>> createBlockScoringTasks(
+            final RANSACRobustEstimatorListener<T> listener, final int totalSamples, final double threshold) {
+        final var numBlocks = Math.min(parallelism, totalSamples);
+        final var tasks = new ArrayList<BlockScoringTask<T>>(numBlocks);
+        for (var b = 0; b < numBlocks; b++) {
+            final var from = (int) ((long) totalSamples * b / numBlocks);
+            final var to = (int) ((long) totalSamples * (b + 1) / numBlocks);
+            tasks.add(new BlockScoringTask<>(listener, threshold, from, to));
+        }
+        return tasks;
+    }
+
+    /**
+     * Computes number of inliers of provided preliminary solution by scoring
+     * all blocks of samples concurrently.
+     *
+     * @param <T>        type of result to be estimated.
+     * @param iterResult result to be tested on current iteration.
+     * @param tasks      tasks to score each block of samples.
+     * @param executor   executor where tasks are run.
+     * @return number of inliers.
+     * @throws InterruptedException if calling thread is interrupted while
+     *                              waiting for blocks to be scored.
+     * @throws ExecutionException   if scoring of any block fails.
+     */
+    private static <T> int computeInliersInParallel(
+            final T iterResult, final List<BlockScoringTask<T>> tasks, final ExecutorService executor)
+            throws InterruptedException, ExecutionException {
+        for (final var task : tasks) {
+            task.iterResult = iterResult;
+        }
+
+        var numInliers = 0;
+        for (final Future<Integer> future : executor.invokeAll(tasks)) {
+            numInliers += future.get();
+        }
+        return numInliers;
+    }
+
+    /**
+     * Scores a contiguous block of samples for a given preliminary solution.
+     *
+     * @param <T> type of object to be estimated.
+     */
+    private static class BlockScoringTask<T> implements Callable<Integer> {
+
+        /**
+         * Listener to obtain residuals for samples.
+         */
+        private final RANSACRobustEstimatorListener<T> listener;
+
+        /**
+         * Threshold to determine whether samples are inliers or not.
+         */
+        private final double threshold;
+
+        /**
+         * Position of first sample in block (inclusive).
+         */
+        private final int from;
+
+        /**
+         * Position of last sample in block (exclusive).
+         */
+        private final int to;
+
+        /**
+         * Array where residuals of all samples are stored. Each task only
+         * writes within its own block.
+         */
+        private double[] residuals;
+
+        /**
+         * Preliminary solution being scored.
+         */
+        private T iterResult;
+
+        /**
+         * Constructor.
+         *
+         * @param listener  listener to obtain residuals for samples.
+         * @param threshold threshold to determine whether samples are inliers
+         *                  or not.
+         * @param from      position of first sample in block (inclusive).
+         * @param to        position of last sample in block (exclusive).
+         */
+        BlockScoringTask(final RANSACRobustEstimatorListener<T> listener, final double threshold, final int from,
+                         final int to) {
+            this.listener = listener;
+            this.threshold = threshold;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Computes residuals of samples within block and counts inliers.
+         *
+         * @return number of inliers within block.
+         */
+        @Override
+        public Integer call() {
+            listener.computeResiduals(iterResult, from, to, residuals);
+
+            var numInliers = 0;
+            for (var i = from; i < to; i++) {
+                if (residuals[i] <= threshold) {
+                    numInliers++;
+                }
+            }
+            return numInliers;
+        }
+    }
+
     /**
      * Contains data related to estimated inliers.
      */
@@ -515,11 +1631,29 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
          * @param keepResiduals true to keep residuals, false otherwise.
          */
         protected RANSACInliersData(final int totalSamples, final boolean keepInliers, final boolean keepResiduals) {
+            this(totalSamples, keepInliers, keepResiduals, false);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param totalSamples   total number of samples.
+         * @param keepInliers    true to keep inliers, false otherwise.
+         * @param keepResiduals  true to keep residuals, false otherwise.
+         * @param floatResiduals true to keep residuals with float precision,
+         *                       false to keep them with double precision.
+         */
+        protected RANSACInliersData(final int totalSamples, final boolean keepInliers, final boolean keepResiduals,
+                                    final boolean floatResiduals) {
             if (keepInliers) {
                 inliers = new BitSet(totalSamples);
             }
             if (keepResiduals) {
-                residuals = new double[totalSamples];
+                if (floatResiduals) {
+                    this.floatResiduals = new float[totalSamples];
+                } else {
+                    residuals = new double[totalSamples];
+                }
             }
             numInliers = 0;
         }
@@ -533,6 +1667,7 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
          */
         @Override
         public BitSet getInliers() {
+            initializeIfNeeded();
             return inliers;
         }
 
@@ -545,30 +1680,157 @@ public class RANSACRobustEstimator<T> extends RobustEstimator<T> {
          * @param numInliers number of inliers found on current iteration.
          */
         protected void update(final BitSet inliers, final double[] residuals, final int numInliers) {
-            var totalSamples = 0;
+            if (this.inliers != null && inliers != null) {
+                // copy whole words instead of single bits
+                this.inliers.clear();
+                this.inliers.or(inliers);
+            }
+            if (residuals != null) {
+                if (floatResiduals != null) {
+                    updateFloatResiduals(residuals);
+                } else if (this.residuals != null) {
+                    System.arraycopy(residuals, 0, this.residuals, 0, residuals.length);
+                }
+            }
+            this.numInliers = numInliers;
+        }
+
+        /**
+         * Indicates whether this instance can be reused to keep inliers data
+         * of an estimation having provided configuration.
+         * Lazily computed instances that have not been initialized yet cannot
+         * be reused.
+         *
+         * @param totalSamples   total number of samples.
+         * @param keepInliers    true to keep inliers, false otherwise.
+         * @param keepResiduals  true to keep residuals, false otherwise.
+         * @param floatResiduals true to keep residuals with float precision,
+         *                       false to keep them with double precision.
+         * @return true if this instance can be reused, false otherwise.
+         */
+        boolean isReusable(final int totalSamples, final boolean keepInliers, final boolean keepResiduals,
+                           final boolean floatResiduals) {
+            if (lazyInitializer != null || (inliers != null) != keepInliers) {
+                return false;
+            }
+            final var keepDoubleResiduals = keepResiduals && !floatResiduals;
+            final var keepFloatResiduals = keepResiduals && floatResiduals;
+            return (keepDoubleResiduals ? residuals != null && residuals.length == totalSamples : residuals == null)
+                    && (keepFloatResiduals ? this.floatResiduals != null
+                    && this.floatResiduals.length == totalSamples : this.floatResiduals == null);
+        }
+
+        /**
+         * Resets this instance so that it contains no inliers and zero
+         * residuals, as a newly created instance.
+         */
+        void reset() {
             if (inliers != null) {
-                totalSamples = inliers.length();
+                inliers.clear();
             }
             if (residuals != null) {
-                totalSamples = residuals.length;
+                Arrays.fill(residuals, 0.0);
             }
+            if (floatResiduals != null) {
+                Arrays.fill(floatResiduals, 0.0f);
+            }
+            numInliers = 0;
+        }
 
-            if (this.inliers != null && inliers != null && this.residuals != null && residuals != null) {
-                // update inliers and residuals
-                for (var i = 0; i < totalSamples; i++) {
-                    this.inliers.set(i, inliers.get(i));
-                    this.residuals[i] = residuals[i];
-                }
-            } else if (this.inliers != null && inliers != null) {
-                // update inliers but not the residuals
-                for (var i = 0; i < totalSamples; i++) {
-                    this.inliers.set(i, inliers.get(i));
+        /**
+         * Swaps inliers and residuals contained in this instance with provided
+         * ones, so that the best inliers data can be kept without copying
+         * buffers (double buffering).
+         * Residuals are only swapped when they are kept with double precision,
+         * otherwise they are copied with float precision.
+         *
+         * @param buffers    buffers containing inliers and residuals of new best
+         *                   solution. After execution, they will contain previous
+         *                   buffers of this instance, which can be reused.
+         * @param numInliers number of inliers of new best solution.
+         */
+        void swap(final Buffers buffers, final int numInliers) {
+            if (inliers != null && buffers.inliers != null) {
+                final var tmp = inliers;
+                inliers = buffers.inliers;
+                buffers.inliers = tmp;
+            }
+            if (buffers.residuals != null) {
+                if (floatResiduals != null) {
+                    updateFloatResiduals(buffers.residuals);
+                } else if (residuals != null) {
+                    final var tmp = residuals;
+                    residuals = buffers.residuals;
+                    buffers.residuals = tmp;
                 }
-            } else if (this.residuals != null && residuals != null) {
-                // update residuals but not inliers
-                System.arraycopy(residuals, 0, this.residuals, 0, totalSamples);
             }
             this.numInliers = numInliers;
         }
+
+        /**
+         * Creates inliers data whose inliers and residuals are computed the
+         * first time they are requested, so that only the best solution needs
+         * to be kept during estimation.
+         *
+         * @param <T>            type of result.
+         * @param result         best result.
+         * @param listener       listener to compute residuals of best result.
+         * @param threshold      threshold to determine whether samples are
+         *                       inliers or not.
+         * @param totalSamples   total number of samples.
+         * @param numInliers     number of inliers of best result.
+         * @param keepInliers    true to keep inliers, false otherwise.
+         * @param keepResiduals  true to keep residuals, false otherwise.
+         * @param floatResiduals true to keep residuals with float precision,
+         *                       false to keep them with double precision.
+         * @return lazily computed inliers data.
+         */
+        static <T> RANSACInliersData createLazy(
+                final T result, final RANSACRobustEstimatorListener<T> listener, final double threshold,
+                final int totalSamples, final int numInliers, final boolean keepInliers,
+                final boolean keepResiduals, final boolean floatResiduals) {
+            final var data = new RANSACInliersData(0, false, false);
+            data.numInliers = numInliers;
+            data.lazyInitializer = () -> {
+                final var residuals = new double[totalSamples];
+                listener.computeResiduals(result, 0, totalSamples, residuals);
+
+                if (keepInliers) {
+                    data.inliers = new BitSet(totalSamples);
+                    for (var i = 0; i < totalSamples; i++) {
+                        if (residuals[i] <= threshold) {
+                            data.inliers.set(i);
+                        }
+                    }
+                }
+                if (keepResiduals) {
+                    if (floatResiduals) {
+                        data.floatResiduals = new float[totalSamples];
+                        data.updateFloatResiduals(residuals);
+                    } else {
+                        data.residuals = residuals;
+                    }
+                }
+            };
+            return data;
+        }
+    }
+
+    /**
+     * Working buffers containing inliers and residuals of the solution being
+     * evaluated, which are swapped with the buffers of the best inliers data
+     * when a new best solution is found.
+     */
+    static class Buffers {
+
+        /**
+         * Inliers of solution being evaluated or null if not kept.
+         */
+        BitSet inliers;
+
+        /**
+         * Residuals of solution being evaluated or null if not kept.
+         */
+        double[] residuals;
     }
 }
@@ -15,6 +15,8 @@
  */
 package com.irurueta.numerical.robust;
 
+import java.util.BitSet;
+
 /**
  * Listener to get data samples and residuals for RANSAC method
  *
@@ -29,4 +31,20 @@ public interface RANSACRobustEstimatorListener<T> extends LMedSRobustEstimatorLi
      * @return threshold to determine whether samples are inliers or not.
      */
     double getThreshold();
+
+    /**
+     * Refines provided estimation using all provided inliers (i.e. by means
+     * of a least squares fit).
+     * This method is used during local optimization, when enabled, every time
+     * a new best solution is found.
+     * By default, no refinement is done and null is returned.
+     *
+     * @param currentEstimation estimation to be refined.
+     * @param inliers           indicates which samples must be used to refine
+     *                          provided estimation.
+     * @return refined estimation or null if estimation cannot be refined.
+     */
+    default T refine(final T currentEstimation, final BitSet inliers) {
+        return null;
+    }
 }
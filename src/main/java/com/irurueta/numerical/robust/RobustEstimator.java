@@ -167,6 +167,22 @@ public abstract class RobustEstimator<T> {
      */
     public abstract T estimate() throws LockedException, NotReadyException, RobustEstimatorException;
 
+    /**
+     * Releases working buffers that are kept between estimations.
+     * Estimators reuse their working buffers on each call to
+     * {@link #estimate()} so that repeated estimations on data having the same
+     * number of samples do not allocate memory. This method can be used to free
+     * such buffers once no more estimations are expected. Buffers are allocated
+     * again on next estimation.
+     *
+     * @throws LockedException if robust estimator is locked.
+     */
+    public void releaseWorkspace() throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+    }
+
     /**
      * Returns data about inliers once estimation has been done.
      *
@@ -42,5 +42,16 @@ public enum RobustEstimatorMethod {
     /**
      * Progressive Median of Squares.
      */
-    PROMEDS
+    PROMEDS,
+
+    /**
+     * Preemptive Random Sample Consensus.
+     */
+    PREEMPTIVE_RANSAC,
+
+    /**
+     * Marginalizing Sample Consensus (MAGSAC++), which scores solutions using
+     * σ-consensus instead of a fixed threshold.
+     */
+    MAGSAC
 }
@@ -0,0 +1,335 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+/**
+ * Implements Wald's Sequential Probability Ratio Test (SPRT) to verify
+ * preliminary solutions of robust estimators as done in WaldSAC.
+ * Instead of computing residuals for all samples, samples are evaluated one
+ * by one and the likelihood ratio between the hypothesis of a bad model and
+ * the hypothesis of a good model is updated. As soon as such ratio exceeds a
+ * decision threshold, the model is rejected without evaluating remaining
+ * samples.
+ * Parameters of the test (probability of a sample being consistent with a good
+ * model (epsilon), probability of a sample being consistent with a bad model
+ * (delta) and average number of models per sample) are adapted while
+ * estimation progresses.
+ * Samples are evaluated following a fixed stride permutation of their
+ * positions so that ordered data (i.e. samples sorted by their coordinates)
+ * does not bias the test.
+ * <p>
+ * This implementation is based on:
+ * Matas, J. and Chum, O. "Randomized RANSAC with Sequential Probability Ratio
+ * Test". ICCV 2005.
+ */
+final class SPRTVerifier {
+
+    /**
+     * Golden ratio conjugate used to determine stride to evaluate samples.
+     */
+    private static final double GOLDEN_RATIO_CONJUGATE = 0.6180339887498949;
+
+    /**
+     * Maximum number of iterations to compute decision threshold.
+     */
+    private static final int MAX_DECISION_THRESHOLD_ITERATIONS = 50;
+
+    /**
+     * Tolerance to stop computing decision threshold.
+     */
+    private static final double DECISION_THRESHOLD_TOLERANCE = 1e-6;
+
+    /**
+     * Total number of samples.
+     */
+    private final int totalSamples;
+
+    /**
+     * Stride between consecutive evaluated samples. Stride and total number of
+     * samples are coprime so that all samples are visited exactly once.
+     */
+    private final int stride;
+
+    /**
+     * Ratio between time to estimate preliminary solutions for one subset and
+     * time to compute residual of one sample.
+     */
+    private final double timeRatio;
+
+    /**
+     * Probability that a sample is consistent with a good model.
+     */
+    private double epsilon;
+
+    /**
+     * Probability that a sample is consistent with a bad model.
+     */
+    private double delta;
+
+    /**
+     * Average number of preliminary solutions per subset.
+     */
+    private double modelsPerSample;
+
+    /**
+     * Number of subsets used to compute average number of models per sample.
+     */
+    private int numSubsets;
+
+    /**
+     * Number of rejected models used to estimate delta.
+     */
+    private int numRejected;
+
+    /**
+     * Decision threshold. Models are rejected when likelihood ratio exceeds
+     * this value.
+     */
+    private double decisionThreshold;
+
+    /**
+     * Likelihood ratio of model being currently verified.
+     */
+    private double lambda;
+
+    /**
+     * Multiplicative factor of likelihood ratio for consistent samples.
+     */
+    private double consistentFactor;
+
+    /**
+     * Multiplicative factor of likelihood ratio for inconsistent samples.
+     */
+    private double inconsistentFactor;
+
+    /**
+     * Constructor.
+     *
+     * @param totalSamples total number of samples.
+     * @param epsilon      initial probability that a sample is consistent with a
+     *                     good model.
+     * @param delta        initial probability that a sample is consistent with a
+     *                     bad model.
+     * @param timeRatio    ratio between time to estimate preliminary solutions
+     *                     for one subset and time to compute residual of one sample.
+     */
+    SPRTVerifier(final int totalSamples, final double epsilon, final double delta, final double timeRatio) {
+        this.totalSamples = totalSamples;
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.timeRatio = timeRatio;
+        modelsPerSample = 1.0;
+        numSubsets = 0;
+        numRejected = 0;
+        stride = computeStride(totalSamples);
+        updateDecisionThreshold();
+        reset();
+    }
+
+    /**
+     * Returns current probability that a sample is consistent with a good
+     * model.
+     *
+     * @return probability that a sample is consistent with a good model.
+     */
+    double getEpsilon() {
+        return epsilon;
+    }
+
+    /**
+     * Returns current probability that a sample is consistent with a bad model.
+     *
+     * @return probability that a sample is consistent with a bad model.
+     */
+    double getDelta() {
+        return delta;
+    }
+
+    /**
+     * Returns current decision threshold.
+     *
+     * @return decision threshold.
+     */
+    double getDecisionThreshold() {
+        return decisionThreshold;
+    }
+
+    /**
+     * Returns position of next sample to be evaluated after provided one.
+     * Starting at position 0 and calling this method repeatedly visits all
+     * samples exactly once.
+     *
+     * @param i position of current sample.
+     * @return position of next sample.
+     */
+    int nextSample(final int i) {
+        final var next = i + stride;
+        return next >= totalSamples ? next - totalSamples : next;
+    }
+
+    /**
+     * Resets likelihood ratio to start verification of a new model.
+     */
+    void reset() {
+        lambda = 1.0;
+    }
+
+    /**
+     * Updates likelihood ratio of model being verified with the result of
+     * evaluating one more sample.
+     *
+     * @param consistent true if evaluated sample is consistent with model
+     *                   (i.e. is an inlier), false otherwise.
+     * @return true if model must be rejected, false otherwise.
+     */
+    boolean isRejected(final boolean consistent) {
+        lambda *= consistent ? consistentFactor : inconsistentFactor;
+        return lambda > decisionThreshold;
+    }
+
+    /**
+     * Notifies number of preliminary solutions that have been estimated for a
+     * new subset, so that average number of models per sample is updated.
+     *
+     * @param numModels number of preliminary solutions.
+     */
+    void onModelsEstimated(final int numModels) {
+        numSubsets++;
+        final var previous = modelsPerSample;
+        modelsPerSample += (Math.max(numModels, 1) - modelsPerSample) / numSubsets;
+        if (modelsPerSample != previous) {
+            updateDecisionThreshold();
+        }
+    }
+
+    /**
+     * Notifies that a model has been rejected so that probability of a sample
+     * being consistent with a bad model is updated.
+     *
+     * @param numTested     number of samples tested before rejection.
+     * @param numConsistent number of consistent samples found among tested
+     *                      ones.
+     */
+    void onRejected(final int numTested, final int numConsistent) {
+        numRejected++;
+        // initial delta is kept as first observation
+        delta += ((double) numConsistent / (double) numTested - delta) / (numRejected + 1);
+        updateDecisionThreshold();
+    }
+
+    /**
+     * Notifies that a new best model has been found, so that probability of a
+     * sample being consistent with a good model is updated.
+     *
+     * @param numInliers number of inliers of new best model.
+     */
+    void onBestModel(final int numInliers) {
+        epsilon = (double) numInliers / (double) totalSamples;
+        updateDecisionThreshold();
+    }
+
+    /**
+     * Computes number of iterations required to achieve required confidence
+     * taking into account that good models might be rejected by the test with
+     * probability 1 / decisionThreshold.
+     *
+     * @param probInlier probability of inlier.
+     * @param subsetSize sample subset size.
+     * @param confidence required confidence of result.
+     * @return number of required iterations.
+     */
+    int computeIterations(final double probInlier, final int subsetSize, final double confidence) {
+        final var probAccepted = 1.0 - 1.0 / decisionThreshold;
+        final var probSubsetAllInliers = Math.pow(probInlier, subsetSize) * probAccepted;
+        if (Math.abs(probSubsetAllInliers) < Double.MIN_VALUE || Double.isNaN(probSubsetAllInliers)) {
+            return Integer.MAX_VALUE;
+        } else {
+            final var logProbSomeOutliers = Math.log(1.0 - probSubsetAllInliers);
+            if (Math.abs(logProbSomeOutliers) < Double.MIN_VALUE || Double.isNaN(logProbSomeOutliers)) {
+                return Integer.MAX_VALUE;
+            } else {
+                return (int) Math.ceil(Math.abs(Math.log(1.0 - confidence) / logProbSomeOutliers));
+            }
+        }
+    }
+
+    /**
+     * Recomputes decision threshold and likelihood factors using current
+     * test parameters.
+     * When epsilon is not larger than delta, good and bad models cannot be
+     * distinguished and no model is rejected.
+     */
+    private void updateDecisionThreshold() {
+        if (epsilon <= delta || epsilon >= 1.0 || delta <= 0.0) {
+            decisionThreshold = Double.POSITIVE_INFINITY;
+            consistentFactor = 1.0;
+            inconsistentFactor = 1.0;
+            return;
+        }
+
+        consistentFactor = delta / epsilon;
+        inconsistentFactor = (1.0 - delta) / (1.0 - epsilon);
+
+        // C = (1 - delta) * log((1 - delta) / (1 - epsilon)) + delta * log(delta / epsilon)
+        final var c = (1.0 - delta) * Math.log(inconsistentFactor) + delta * Math.log(consistentFactor);
+        final var k = timeRatio * c / modelsPerSample + 1.0;
+
+        // A is the fixed point of A = k + log(A)
+        var a = k;
+        for (var i = 0; i < MAX_DECISION_THRESHOLD_ITERATIONS; i++) {
+            final var next = k + Math.log(a);
+            if (Math.abs(next - a) < DECISION_THRESHOLD_TOLERANCE) {
+                a = next;
+                break;
+            }
+            a = next;
+        }
+        decisionThreshold = a;
+    }
+
+    /**
+     * Computes stride to evaluate samples so that it is coprime with total
+     * number of samples and close to golden ratio of total number of samples.
+     *
+     * @param totalSamples total number of samples.
+     * @return stride.
+     */
+    private static int computeStride(final int totalSamples) {
+        var result = Math.max(1, (int) Math.round(totalSamples * GOLDEN_RATIO_CONJUGATE));
+        while (gcd(result, totalSamples) != 1) {
+            result++;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the greatest common divisor of provided values.
+     *
+     * @param a first value.
+     * @param b second value.
+     * @return greatest common divisor.
+     */
+    private static int gcd(final int a, final int b) {
+        var x = a;
+        var y = b;
+        while (y != 0) {
+            final var t = x % y;
+            x = y;
+            y = t;
+        }
+        return x;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+/**
+ * Defines neighbourhoods of samples used by subset selectors that draw samples
+ * from local neighbourhoods (i.e. NAPSAC) instead of uniformly among all
+ * samples.
+ * Implementations can be provided by users when the structure of samples is
+ * already known (i.e. adjacent pixels on an image), or
+ * {@link KNearestSampleNeighbourhood} can be used to build neighbourhoods from
+ * sample coordinates.
+ */
+public interface SampleNeighbourhood {
+
+    /**
+     * Returns total number of samples.
+     *
+     * @return total number of samples.
+     */
+    int getNumSamples();
+
+    /**
+     * Returns indices of neighbours of sample at provided index.
+     * Neighbours must be sorted by increasing distance to provided sample, and
+     * provided sample must not be contained among its neighbours.
+     * Returned array must not be modified.
+     *
+     * @param index index of sample to obtain neighbours for.
+     * @return indices of neighbours of provided sample.
+     */
+    int[] getNeighbours(final int index);
+}
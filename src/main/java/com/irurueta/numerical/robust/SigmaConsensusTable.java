@@ -0,0 +1,381 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.statistics.Gamma;
+import com.irurueta.statistics.MaxIterationsExceededException;
+
+/**
+ * Lookup table containing the loss and weight functions of MAGSAC++
+ * (σ-consensus), which are obtained by marginalizing the likelihood of
+ * residuals over a uniform distribution of noise scales between zero and a
+ * maximum noise scale.
+ * Assuming that residuals follow a chi distribution with ν degrees of freedom
+ * and noise scales are uniformly distributed within [0, σmax], the weight of a
+ * residual r is proportional to Γ((ν - 1) / 2, u) - Γ((ν - 1) / 2, k² / 2),
+ * and its loss is proportional to
+ * γ((ν + 1) / 2, u) + u·(Γ((ν - 1) / 2, u) - Γ((ν - 1) / 2, k² / 2)),
+ * where u = r² / (2·σmax²), γ and Γ are the lower and upper incomplete gamma
+ * functions, and k·σmax is the residual above which samples are considered
+ * outliers, being k² the chi-squared quantile of the ν degrees of freedom at a
+ * given probability.
+ * Because incomplete gamma functions are expensive to evaluate, they are only
+ * evaluated once to fill this table, so that losses and weights can be obtained
+ * for each residual without allocations by means of a table lookup.
+ * Losses are normalized so that the loss of outliers is 1.0, and weights are
+ * normalized so that the weight of zero residuals is 1.0.
+ * <p>
+ * This implementation is based on:
+ * Barath, D., Noskova, J., Ivashechkin, M., Matas, J. "MAGSAC++, a fast,
+ * reliable and accurate robust estimator". CVPR 2020.
+ */
+final class SigmaConsensusTable {
+
+    /**
+     * Default number of entries of the table.
+     */
+    static final int DEFAULT_SIZE = 1024;
+
+    /**
+     * Minimum number of entries of the table.
+     */
+    static final int MIN_SIZE = 2;
+
+    /**
+     * Default probability used to obtain the chi-squared quantile determining
+     * the residual above which samples are considered outliers.
+     */
+    static final double DEFAULT_QUANTILE = 0.99;
+
+    /**
+     * Maximum number of iterations used to find the chi-squared quantile by
+     * bisection.
+     */
+    private static final int QUANTILE_ITERATIONS = 200;
+
+    /**
+     * Relative accuracy used to evaluate the exponential integral and the
+     * chi-squared quantile.
+     */
+    private static final double EPS = 1e-15;
+
+    /**
+     * Euler-Mascheroni constant.
+     */
+    private static final double EULER = 0.5772156649015329;
+
+    /**
+     * Degrees of freedom of residuals.
+     */
+    private final int degreesOfFreedom;
+
+    /**
+     * Squared chi-squared quantile of residuals normalized by maximum noise
+     * scale above which samples are considered outliers.
+     */
+    private final double kSquared;
+
+    /**
+     * Normalized losses at each entry of the table.
+     */
+    private final double[] losses;
+
+    /**
+     * Normalized weights of each interval between consecutive entries of the
+     * table.
+     */
+    private final double[] weights;
+
+    /**
+     * Step between values of u = r² / (2·σmax²) of consecutive entries.
+     */
+    private final double step;
+
+    /**
+     * Position of last entry of the table.
+     */
+    private final int last;
+
+    /**
+     * Constructor using default quantile and size.
+     *
+     * @param degreesOfFreedom degrees of freedom of residuals.
+     * @throws IllegalArgumentException       if degrees of freedom is less than
+     *                                        1.
+     * @throws MaxIterationsExceededException if incomplete gamma functions
+     *                                        cannot be evaluated.
+     */
+    SigmaConsensusTable(final int degreesOfFreedom) throws MaxIterationsExceededException {
+        this(degreesOfFreedom, DEFAULT_QUANTILE, DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param degreesOfFreedom degrees of freedom of residuals.
+     * @param quantile         probability used to obtain the chi-squared quantile
+     *                         determining the residual above which samples are
+     *                         considered outliers.
+     * @param size             number of entries of the table.
+     * @throws IllegalArgumentException       if degrees of freedom is less than
+     *                                        1, quantile is not between 0.0 and 1.0 (exclusive)
+     *                                        or size is less than 2.
+     * @throws MaxIterationsExceededException if incomplete gamma functions
+     *                                        cannot be evaluated.
+     */
+    SigmaConsensusTable(final int degreesOfFreedom, final double quantile, final int size)
+            throws MaxIterationsExceededException {
+        if (degreesOfFreedom < 1 || quantile <= 0.0 || quantile >= 1.0 || size < MIN_SIZE) {
+            throw new IllegalArgumentException();
+        }
+
+        this.degreesOfFreedom = degreesOfFreedom;
+
+        final var gamma = new Gamma();
+        kSquared = chiSquaredQuantile(gamma, degreesOfFreedom, quantile);
+
+        final var a = 0.5 * (degreesOfFreedom + 1);
+        final var b = 0.5 * (degreesOfFreedom - 1);
+        final var maxU = 0.5 * kSquared;
+        final var upperAtMax = upperIncompleteGamma(gamma, b, maxU);
+
+        last = size - 1;
+        step = maxU / last;
+        losses = new double[size];
+        // loss at u = 0 is zero
+        for (var j = 1; j < last; j++) {
+            final var u = j * step;
+            losses[j] = lowerIncompleteGamma(gamma, a, u) + u * (upperIncompleteGamma(gamma, b, u) - upperAtMax);
+        }
+        losses[last] = lowerIncompleteGamma(gamma, a, maxU);
+
+        // normalize so that loss of outliers is 1.0
+        final var outlierLoss = losses[last];
+        for (var j = 1; j <= last; j++) {
+            losses[j] /= outlierLoss;
+        }
+
+        // weights are the derivative of losses respect to u, which are averaged
+        // on each interval so that they remain finite when the weight function
+        // diverges at zero (i.e. for 1 degree of freedom)
+        weights = new double[size];
+        final var firstDelta = losses[1] - losses[0];
+        for (var j = 0; j < last; j++) {
+            weights[j] = (losses[j + 1] - losses[j]) / firstDelta;
+        }
+        weights[last] = 0.0;
+    }
+
+    /**
+     * Returns degrees of freedom of residuals.
+     *
+     * @return degrees of freedom of residuals.
+     */
+    int getDegreesOfFreedom() {
+        return degreesOfFreedom;
+    }
+
+    /**
+     * Returns number of maximum noise scales above which residuals are
+     * considered outliers.
+     *
+     * @return number of maximum noise scales above which residuals are
+     * considered outliers.
+     */
+    double getOutlierFactor() {
+        return Math.sqrt(kSquared);
+    }
+
+    /**
+     * Returns factor to convert squared residuals into positions of this table
+     * for provided maximum noise scale.
+     *
+     * @param maxSigma maximum noise scale.
+     * @return factor to convert squared residuals into positions.
+     */
+    double getScale(final double maxSigma) {
+        return 1.0 / (2.0 * maxSigma * maxSigma * step);
+    }
+
+    /**
+     * Indicates whether provided position corresponds to an inlier.
+     *
+     * @param position position within the table, obtained by multiplying a
+     *                 squared residual by the scale of the table.
+     * @return true if position corresponds to an inlier, false otherwise.
+     */
+    boolean isInlier(final double position) {
+        return position < last;
+    }
+
+    /**
+     * Returns normalized loss at provided position using linear interpolation.
+     *
+     * @param position position within the table, obtained by multiplying a
+     *                 squared residual by the scale of the table.
+     * @return normalized loss between 0.0 and 1.0.
+     */
+    double loss(final double position) {
+        if (!(position < last)) {
+            // outliers (or undefined residuals)
+            return 1.0;
+        }
+        final var i = (int) position;
+        final var l = losses[i];
+        return l + (position - i) * (losses[i + 1] - l);
+    }
+
+    /**
+     * Returns normalized weight at provided position.
+     *
+     * @param position position within the table, obtained by multiplying a
+     *                 squared residual by the scale of the table.
+     * @return normalized weight between 0.0 and 1.0.
+     */
+    double weight(final double position) {
+        if (!(position < last)) {
+            // outliers (or undefined residuals)
+            return 0.0;
+        }
+        return weights[(int) position];
+    }
+
+    /**
+     * Computes chi-squared quantile by bisection.
+     *
+     * @param gamma            gamma function.
+     * @param degreesOfFreedom degrees of freedom.
+     * @param probability      probability.
+     * @return chi-squared quantile.
+     * @throws MaxIterationsExceededException if incomplete gamma function
+     *                                        cannot be evaluated.
+     */
+    private static double chiSquaredQuantile(final Gamma gamma, final int degreesOfFreedom,
+                                             final double probability) throws MaxIterationsExceededException {
+        final var a = 0.5 * degreesOfFreedom;
+        final var complementary = 1.0 - probability;
+
+        var lo = 0.0;
+        var hi = 1.0;
+        while (gamma.gammq(a, 0.5 * hi) > complementary) {
+            lo = hi;
+            hi *= 2.0;
+        }
+        for (var i = 0; i < QUANTILE_ITERATIONS && hi - lo > EPS * hi; i++) {
+            final var mid = 0.5 * (lo + hi);
+            if (gamma.gammq(a, 0.5 * mid) > complementary) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        return 0.5 * (lo + hi);
+    }
+
+    /**
+     * Evaluates lower incomplete gamma function γ(s, x) for a positive
+     * half-integer s.
+     *
+     * @param gamma gamma function.
+     * @param s     parameter.
+     * @param x     value.
+     * @return lower incomplete gamma function.
+     * @throws MaxIterationsExceededException if incomplete gamma function
+     *                                        cannot be evaluated.
+     */
+    private static double lowerIncompleteGamma(final Gamma gamma, final double s, final double x)
+            throws MaxIterationsExceededException {
+        return completeGamma(s) * (1.0 - gamma.gammq(s, x));
+    }
+
+    /**
+     * Evaluates upper incomplete gamma function Γ(s, x) for a non-negative
+     * half-integer s and a positive x.
+     *
+     * @param gamma gamma function.
+     * @param s     parameter.
+     * @param x     value.
+     * @return upper incomplete gamma function.
+     * @throws MaxIterationsExceededException if incomplete gamma function
+     *                                        cannot be evaluated.
+     */
+    private static double upperIncompleteGamma(final Gamma gamma, final double s, final double x)
+            throws MaxIterationsExceededException {
+        if (s == 0.0) {
+            // Γ(0, x) is the exponential integral E1(x)
+            return exponentialIntegral(x);
+        }
+        return completeGamma(s) * gamma.gammq(s, x);
+    }
+
+    /**
+     * Evaluates gamma function for a positive half-integer value.
+     *
+     * @param s a positive multiple of 0.5.
+     * @return gamma function.
+     */
+    private static double completeGamma(final double s) {
+        // Γ(1/2) = sqrt(pi), Γ(1) = 1 and Γ(s + 1) = s·Γ(s)
+        final var integer = s == Math.rint(s);
+        var result = integer ? 1.0 : Math.sqrt(Math.PI);
+        for (var v = integer ? 1.0 : 0.5; v < s; v++) {
+            result *= v;
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates exponential integral E1(x) for a positive x, using its power
+     * series for small values and a continued fraction otherwise.
+     *
+     * @param x a positive value.
+     * @return exponential integral.
+     * @throws MaxIterationsExceededException if evaluation does not converge.
+     */
+    private static double exponentialIntegral(final double x) throws MaxIterationsExceededException {
+        final var maxIterations = 10000;
+        if (x > 1.0) {
+            // modified Lentz's method
+            var b = x + 1.0;
+            var c = 1.0 / Double.MIN_NORMAL;
+            var d = 1.0 / b;
+            var h = d;
+            for (var i = 1; i <= maxIterations; i++) {
+                final var an = -(double) i * i;
+                b += 2.0;
+                d = 1.0 / (an * d + b);
+                c = b + an / c;
+                final var del = c * d;
+                h *= del;
+                if (Math.abs(del - 1.0) <= EPS) {
+                    return h * Math.exp(-x);
+                }
+            }
+        } else {
+            var result = -Math.log(x) - EULER;
+            var fact = 1.0;
+            for (var i = 1; i <= maxIterations; i++) {
+                fact *= -x / i;
+                final var del = -fact / i;
+                result += del;
+                if (Math.abs(del) < Math.abs(result) * EPS) {
+                    return result;
+                }
+            }
+        }
+        throw new MaxIterationsExceededException();
+    }
+}
@@ -184,6 +184,26 @@ public abstract class SubsetSelector {
             final boolean pickLast, final int[] result) throws NotEnoughSamplesException, InvalidSubsetSizeException,
             InvalidSubsetRangeException;
 
+    /**
+     * Sets order of samples to be taken into account by subset selectors that
+     * pick subsets depending on the samples being picked (i.e. guided subset
+     * selectors).
+     * Robust estimators that sort samples by their quality (i.e. PROSAC and
+     * PROMedS) pick positions within sorted samples rather than sample
+     * indices, and provide their order by means of this method so that picked
+     * positions can be related to their samples.
+     * This implementation does nothing, since picking positions uniformly
+     * does not depend on the samples located at each position.
+     *
+     * @param sortedIndices indices of samples located at each position, or null
+     *                      if picked positions are sample indices.
+     * @throws IllegalArgumentException if provided array does not have a length
+     *                                  equal to the number of samples.
+     */
+    public void setSampleOrder(final int[] sortedIndices) {
+        // uniform subset selectors do not depend on the order of samples
+    }
+
     /**
      * Creates a new subset selector instance using provided total number of
      * samples and default subset selector type.
@@ -196,4 +216,47 @@ public abstract class SubsetSelector {
     public static SubsetSelector create(final int numSamples) {
         return new FastRandomSubsetSelector(numSamples);
     }
+
+    /**
+     * Creates a new subset selector instance of provided type using provided
+     * total number of samples.
+     * Guided subset selectors (NAPSAC and progressive NAPSAC) cannot be created
+     * with this method because they require a neighbourhood of samples.
+     *
+     * @param numSamples number of samples to select subsets from.
+     * @param type       type of subset selector.
+     * @return a subset selector.
+     * @throws IllegalArgumentException if provided number of samples is zero or
+     *                                  negative, or if provided type requires a neighbourhood of samples.
+     * @see #create(SampleNeighbourhood, SubsetSelectorType)
+     */
+    public static SubsetSelector create(final int numSamples, final SubsetSelectorType type) {
+        return switch (type) {
+            case XOROSHIRO_SUBSET_SELECTOR -> new XoroshiroSubsetSelector(numSamples);
+            case NAPSAC_SUBSET_SELECTOR, PROGRESSIVE_NAPSAC_SUBSET_SELECTOR -> throw new IllegalArgumentException();
+            default -> new FastRandomSubsetSelector(numSamples);
+        };
+    }
+
+    /**
+     * Creates a new subset selector instance of provided type for samples
+     * having provided neighbourhood.
+     * Neighbourhood is only used by guided subset selectors (NAPSAC and
+     * progressive NAPSAC), whereas for other types only its number of samples
+     * is taken into account.
+     *
+     * @param neighbourhood neighbourhood of samples.
+     * @param type          type of subset selector.
+     * @return a subset selector.
+     * @throws NullPointerException     if provided neighbourhood is null.
+     * @throws IllegalArgumentException if provided neighbourhood has no
+     *                                  samples.
+     */
+    public static SubsetSelector create(final SampleNeighbourhood neighbourhood, final SubsetSelectorType type) {
+        return switch (type) {
+            case NAPSAC_SUBSET_SELECTOR -> new NAPSACSubsetSelector(neighbourhood);
+            case PROGRESSIVE_NAPSAC_SUBSET_SELECTOR -> new ProgressiveNAPSACSubsetSelector(neighbourhood);
+            default -> create(neighbourhood.getNumSamples(), type);
+        };
+    }
 }
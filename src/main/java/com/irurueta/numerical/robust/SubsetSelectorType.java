@@ -20,5 +20,8 @@ package com.irurueta.numerical.robust;
  * samples for robust estimators.
  */
 public enum SubsetSelectorType {
-    FAST_RANDOM_SUBSET_SELECTOR
+    FAST_RANDOM_SUBSET_SELECTOR,
+    NAPSAC_SUBSET_SELECTOR,
+    PROGRESSIVE_NAPSAC_SUBSET_SELECTOR,
+    XOROSHIRO_SUBSET_SELECTOR
 }
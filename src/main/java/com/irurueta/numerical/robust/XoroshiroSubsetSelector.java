@@ -0,0 +1,366 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+/**
+ * This class computes indices of subsets of samples using a xoroshiro128++
+ * pseudo-random generator seeded by means of SplitMix64.
+ * Contrary to {@link FastRandomSubsetSelector}, subsets are generated without
+ * allocating memory or boxing indices: bounded indices are obtained with a
+ * single multiplication without rejection, subsets of distinct samples are
+ * drawn using Floyd's algorithm, which requires exactly one random number per
+ * picked sample, and duplicates are detected using a reusable bitset.
+ * Instances are not thread safe. Instead, independent and reproducible
+ * streams for different threads can be obtained by means of {@link #split()},
+ * which jumps ahead 2^64 positions in the sequence of the generator, so that
+ * results are deterministic regardless of thread scheduling.
+ * Multiple subsets can also be generated at once into a single array by
+ * means of {@link #computeRandomSubsets(int, int, int[])}.
+ */
+public class XoroshiroSubsetSelector extends SubsetSelector {
+
+    /**
+     * Default seed. Using a constant seed ensures that the same result is
+     * obtained on each execution.
+     */
+    public static final long DEFAULT_SEED = 0L;
+
+    /**
+     * Golden ratio increment used by SplitMix64.
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Jump polynomial to advance the generator 2^64 positions.
+     */
+    private static final long[] JUMP = {0x2bd7a6a6e99c2ddcL, 0x0992ccaf6a6fca05L};
+
+    /**
+     * First half of the state of the generator.
+     */
+    private long s0;
+
+    /**
+     * Second half of the state of the generator.
+     */
+    private long s1;
+
+    /**
+     * Bitset indicating samples already picked on current subset.
+     * This is kept around between executions to avoid excessive calls to
+     * garbage collector.
+     */
+    private long[] picked = new long[0];
+
+    /**
+     * Constructor using default seed.
+     *
+     * @param numSamples number of samples to select subsets from.
+     * @throws IllegalArgumentException if provided number of samples is zero
+     *                                  or negative.
+     */
+    public XoroshiroSubsetSelector(final int numSamples) {
+        this(numSamples, DEFAULT_SEED);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param numSamples number of samples to select subsets from.
+     * @param seed       seed to initialize the generator.
+     * @throws IllegalArgumentException if provided number of samples is zero
+     *                                  or negative.
+     */
+    public XoroshiroSubsetSelector(final int numSamples, final long seed) {
+        super(numSamples);
+        // expand seed into both halves of the state using SplitMix64, which
+        // ensures that state is never zero
+        var x = seed;
+        x += GOLDEN_GAMMA;
+        s0 = mix(x);
+        x += GOLDEN_GAMMA;
+        s1 = mix(x);
+    }
+
+    /**
+     * Copy constructor used when splitting.
+     *
+     * @param numSamples number of samples to select subsets from.
+     * @param s0         first half of the state of the generator.
+     * @param s1         second half of the state of the generator.
+     */
+    private XoroshiroSubsetSelector(final int numSamples, final long s0, final long s1) {
+        super(numSamples);
+        this.s0 = s0;
+        this.s1 = s1;
+    }
+
+    /**
+     * Returns a new subset selector having an independent stream of random
+     * numbers, which can be used on a different thread.
+     * Returned selector continues the current sequence of this instance, while
+     * this instance jumps 2^64 positions ahead, hence sequences of both
+     * instances never overlap in practice. Splitting is deterministic, so
+     * that splitting an instance having the same seed always produces the same
+     * streams.
+     *
+     * @return a new subset selector.
+     */
+    public XoroshiroSubsetSelector split() {
+        final var result = new XoroshiroSubsetSelector(numSamples, s0, s1);
+        jump();
+        return result;
+    }
+
+    /**
+     * Returns type of this subset selector.
+     *
+     * @return type of this subset selector.
+     */
+    @Override
+    public SubsetSelectorType getType() {
+        return SubsetSelectorType.XOROSHIRO_SUBSET_SELECTOR;
+    }
+
+    /**
+     * Computes a random subset of indices within range of number of samples to
+     * be used on robust estimators.
+     *
+     * @param subsetSize subset size to be computed. This value must be smaller
+     *                   than total number of samples.
+     * @param result     array containing indices to be picked. Provided array must
+     *                   be at least of length subsetSize. The former subsetSize entries of the
+     *                   array will be modified by this method.
+     * @throws NotEnoughSamplesException  if subset size is greater than the
+     *                                    total number of samples.
+     * @throws InvalidSubsetSizeException if subset size is zero or if result
+     *                                    array does not have at least a length of subsetSize.
+     */
+    @Override
+    public void computeRandomSubsets(final int subsetSize, final int[] result) throws NotEnoughSamplesException,
+            InvalidSubsetSizeException {
+        computeRandomSubsets(subsetSize, 1, result);
+    }
+
+    /**
+     * Computes multiple random subsets of indices within range of number of
+     * samples at once.
+     * Subsets are stored consecutively, so that the i-th subset is stored at
+     * positions [i * subsetSize, (i + 1) * subsetSize) of provided array.
+     *
+     * @param subsetSize subset size to be computed. This value must be smaller
+     *                   than total number of samples.
+     * @param numSubsets number of subsets to be computed.
+     * @param result     array containing indices to be picked. Provided array must
+     *                   be at least of length subsetSize * numSubsets.
+     * @throws NotEnoughSamplesException  if subset size is greater than the
+     *                                    total number of samples.
+     * @throws InvalidSubsetSizeException if subset size or number of subsets is
+     *                                    zero or if result array does not have at least a length of
+     *                                    subsetSize * numSubsets.
+     */
+    public void computeRandomSubsets(final int subsetSize, final int numSubsets, final int[] result)
+            throws NotEnoughSamplesException, InvalidSubsetSizeException {
+        if (subsetSize <= 0 || numSubsets <= 0) {
+            throw new InvalidSubsetSizeException();
+        }
+        if ((long) result.length < (long) subsetSize * numSubsets) {
+            throw new InvalidSubsetSizeException();
+        }
+        if (numSamples < subsetSize) {
+            throw new NotEnoughSamplesException();
+        }
+
+        ensureBitset();
+        for (var i = 0; i < numSubsets; i++) {
+            pick(0, numSamples, subsetSize, result, i * subsetSize);
+        }
+    }
+
+    /**
+     * Computes a random subset of indices within provided range of positions to
+     * be used on robust estimators.
+     *
+     * @param minPos     minimum position to be picked. This value must be greater
+     *                   or equal than zero and smaller than the total number of samples and less
+     *                   than maxPos.
+     * @param maxPos     maximum position to be picked. This value must be greater
+     *                   or equal than zero and smaller than the total number of samples and
+     *                   greater than minPos.
+     * @param subsetSize subset size to be computed. This value must be smaller
+     *                   than total number of samples.
+     * @param pickLast   true indicates that last sample in range must always be
+     *                   picked within subset. This is done to obtain faster execution times and
+     *                   greater stability on some algorithms.
+     * @param result     array containing indices to be picked. Provided array must
+     *                   be at least of length subsetSize. The former subsetSize entries of the
+     *                   array will be modified by this method.
+     * @throws NotEnoughSamplesException   if subset size is greater than the
+     *                                     total number of samples or if maxPos is greater than the total number of
+     *                                     samples.
+     * @throws InvalidSubsetSizeException  if subset size is zero or if result
+     *                                     array does not have at least a length of subsetSize, or if subset size
+     *                                     is greater than the allowed range of positions to be picked.
+     * @throws InvalidSubsetRangeException if maximum position is smaller than
+     *                                     minimum position or maximum or minimum position are negative.
+     */
+    @Override
+    public void computeRandomSubsetsInRange(
+            final int minPos, final int maxPos, final int subsetSize, final boolean pickLast, final int[] result)
+            throws NotEnoughSamplesException, InvalidSubsetSizeException, InvalidSubsetRangeException {
+        if (subsetSize == 0 || result.length < subsetSize) {
+            throw new InvalidSubsetSizeException();
+        }
+        if (minPos >= maxPos || maxPos < 0 || minPos < 0) {
+            throw new InvalidSubsetRangeException();
+        }
+        if ((maxPos - minPos) < subsetSize) {
+            throw new InvalidSubsetSizeException();
+        }
+        if (numSamples < subsetSize || maxPos > numSamples) {
+            throw new NotEnoughSamplesException();
+        }
+
+        ensureBitset();
+        if (pickLast) {
+            // last element in range is always picked, and remaining ones are
+            // picked among the rest of the range
+            result[0] = maxPos - 1;
+            pick(minPos, maxPos - 1, subsetSize - 1, result, 1);
+        } else {
+            pick(minPos, maxPos, subsetSize, result, 0);
+        }
+    }
+
+    /**
+     * Returns next pseudo-random 64-bit value and advances the generator.
+     *
+     * @return next pseudo-random value.
+     */
+    long nextLong() {
+        final var a = s0;
+        var b = s1;
+        final var result = Long.rotateLeft(a + b, 17) + a;
+
+        b ^= a;
+        s0 = Long.rotateLeft(a, 49) ^ b ^ (b << 21);
+        s1 = Long.rotateLeft(b, 28);
+        return result;
+    }
+
+    /**
+     * Returns a pseudo-random value within range [0, bound) using the upper 32
+     * bits of next value multiplied by provided bound, which avoids both
+     * divisions and rejections.
+     *
+     * @param bound upper bound (exclusive). Must be positive.
+     * @return pseudo-random value.
+     */
+    int nextInt(final int bound) {
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Picks provided number of distinct samples within provided range using
+     * Floyd's algorithm.
+     *
+     * @param minPos minimum position to be picked (inclusive).
+     * @param maxPos maximum position to be picked (exclusive).
+     * @param count  number of samples to be picked.
+     * @param result array where picked samples are stored.
+     * @param offset position of result where first picked sample is stored.
+     */
+    private void pick(final int minPos, final int maxPos, final int count, final int[] result, final int offset) {
+        final var range = maxPos - minPos;
+        var pos = offset;
+        for (var j = range - count; j < range; j++) {
+            var index = minPos + nextInt(j + 1);
+            if (isPicked(index)) {
+                // value j has not been picked yet because previous values were
+                // always drawn from smaller ranges
+                index = minPos + j;
+            }
+            setPicked(index);
+            result[pos++] = index;
+        }
+
+        // clear bitset for next subset
+        for (var i = offset; i < pos; i++) {
+            final var index = result[i];
+            picked[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Indicates whether provided sample has already been picked.
+     *
+     * @param index index of sample.
+     * @return true if sample has been picked, false otherwise.
+     */
+    private boolean isPicked(final int index) {
+        return (picked[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Marks provided sample as picked.
+     *
+     * @param index index of sample.
+     */
+    private void setPicked(final int index) {
+        picked[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Ensures that bitset is large enough for current number of samples.
+     */
+    private void ensureBitset() {
+        final var words = (numSamples + 63) >>> 6;
+        if (picked.length < words) {
+            picked = new long[words];
+        }
+    }
+
+    /**
+     * Advances the generator 2^64 positions.
+     */
+    private void jump() {
+        var j0 = 0L;
+        var j1 = 0L;
+        for (final var jump : JUMP) {
+            for (var b = 0; b < 64; b++) {
+                if ((jump & (1L << b)) != 0) {
+                    j0 ^= s0;
+                    j1 ^= s1;
+                }
+                nextLong();
+            }
+        }
+        s0 = j0;
+        s1 = j1;
+    }
+
+    /**
+     * Scrambles provided value using SplitMix64 finalizer.
+     *
+     * @param z value to be scrambled.
+     * @return scrambled value.
+     */
+    private static long mix(final long z) {
+        var x = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+}
@@ -0,0 +1,895 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.roots;
+
+import com.irurueta.algebra.Complex;
+import com.irurueta.numerical.LockedException;
+import com.irurueta.numerical.NotAvailableException;
+import com.irurueta.numerical.NotReadyException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * This class estimates all the roots of a polynomial of degree n
+ * simultaneously by means of the Aberth-Ehrlich method.
+ * p(x) = a0 * x^n + a1 * x^(n - 1) + ... a(n-1) * x + an
+ * then the array of parameters is [an, a(n-1), ... a1, a0]
+ * This class supports polynomials having either real or complex parameters.
+ * Unlike {@link LaguerrePolynomialRootsEstimator}, roots are not found one at a
+ * time with deflation. Instead, all approximations are refined at once, each
+ * one being repelled from the remaining ones, which avoids the accumulation of
+ * errors caused by deflation.
+ * Real and imaginary parts of approximations are kept in parallel arrays that
+ * are reused between estimations, so that no objects are created while
+ * iterating. On polynomials having a large degree, approximations can be
+ * refined concurrently by setting a parallelism greater than 1.
+ */
+public class AberthEhrlichPolynomialRootsEstimator extends PolynomialRootsEstimator {
+
+    /**
+     * Constant considered as machine precision.
+     */
+    public static final double EPS = 1e-14;
+
+    /**
+     * Constant indicating whether roots will be refined.
+     */
+    public static final boolean DEFAULT_POLISH_ROOTS = true;
+
+    /**
+     * Minimum allowed length in polynomial parameters.
+     */
+    public static final int MIN_VALID_POLY_PARAMS_LENGTH = 2;
+
+    /**
+     * Default maximum number of iterations.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 1000;
+
+    /**
+     * Minimum allowed number of iterations.
+     */
+    public static final int MIN_ITERATIONS = 1;
+
+    /**
+     * Maximum number of Newton iterations made to refine each root when
+     * polishing is enabled.
+     */
+    public static final int MAX_POLISH_ITERATIONS = 5;
+
+    /**
+     * Default number of blocks of roots to be refined concurrently.
+     * By default, roots are refined sequentially on calling thread.
+     */
+    public static final int DEFAULT_PARALLELISM = 1;
+
+    /**
+     * Minimum allowed parallelism.
+     */
+    public static final int MIN_PARALLELISM = 1;
+
+    /**
+     * Minimum polynomial degree for roots to be refined concurrently when
+     * parallelism is greater than 1. On smaller degrees, the cost of
+     * dispatching tasks at every iteration exceeds the cost of refining all
+     * roots on calling thread.
+     */
+    public static final int MIN_PARALLEL_DEGREE = 128;
+
+    /**
+     * Relative rounding error made on each operation of a polynomial
+     * evaluation. Approximations are considered to have converged once the
+     * polynomial evaluation falls below the accumulated rounding errors.
+     */
+    private static final double ROUNDING_ERROR = Math.ulp(1.0);
+
+    /**
+     * Angle (expressed in radians) added to the initial approximations, so
+     * that they are not placed symmetrically with respect to the real axis.
+     */
+    private static final double INITIAL_ANGLE_OFFSET = 0.4;
+
+    /**
+     * Relative perturbation applied to an approximation when no correction
+     * can be computed for it.
+     */
+    private static final double PERTURBATION = 1e-3;
+
+    /**
+     * Indicates if roots should be refined.
+     */
+    private boolean polishRoots;
+
+    /**
+     * Maximum number of iterations.
+     */
+    private int maxIterations;
+
+    /**
+     * Number of blocks of roots to be refined concurrently. When 1, roots are
+     * refined sequentially on calling thread.
+     */
+    private int parallelism;
+
+    /**
+     * Executor where blocks of roots are refined when parallelism is greater
+     * than 1. If not provided, common fork join pool is used.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Degree of polynomial whose roots are being estimated, once roots at
+     * zero have been removed.
+     */
+    private int degree;
+
+    /**
+     * Real parts of parameters of polynomial being solved, once roots at zero
+     * have been removed.
+     */
+    private double[] coefficientsReal = new double[0];
+
+    /**
+     * Imaginary parts of parameters of polynomial being solved, once roots at
+     * zero have been removed.
+     */
+    private double[] coefficientsImaginary = new double[0];
+
+    /**
+     * Real parts of current approximations of roots.
+     */
+    private double[] approximationsReal = new double[0];
+
+    /**
+     * Imaginary parts of current approximations of roots.
+     */
+    private double[] approximationsImaginary = new double[0];
+
+    /**
+     * Real parts of corrections to be applied to current approximations.
+     */
+    private double[] correctionsReal = new double[0];
+
+    /**
+     * Imaginary parts of corrections to be applied to current approximations.
+     */
+    private double[] correctionsImaginary = new double[0];
+
+    /**
+     * Indicates whether each approximation has already converged.
+     */
+    private boolean[] converged = new boolean[0];
+
+    /**
+     * Real parts of estimated roots.
+     */
+    private double[] rootsReal;
+
+    /**
+     * Imaginary parts of estimated roots.
+     */
+    private double[] rootsImaginary;
+
+    /**
+     * Number of iterations made on last estimation.
+     */
+    private int iterations;
+
+    /**
+     * Constructor.
+     *
+     * @param polishRoots Boolean to determine whether roots should be refined.
+     */
+    public AberthEhrlichPolynomialRootsEstimator(final boolean polishRoots) {
+        super();
+        this.polishRoots = polishRoots;
+        maxIterations = DEFAULT_MAX_ITERATIONS;
+        parallelism = DEFAULT_PARALLELISM;
+    }
+
+    /**
+     * Empty constructor.
+     */
+    public AberthEhrlichPolynomialRootsEstimator() {
+        this(DEFAULT_POLISH_ROOTS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param polyParams  Array containing polynomial parameters.
+     * @param polishRoots Boolean indicating whether roots will be refined.
+     * @throws IllegalArgumentException Raised if length of provided parameters
+     *                                  is not valid. It has to be greater or equal than 2.
+     */
+    public AberthEhrlichPolynomialRootsEstimator(final Complex[] polyParams, final boolean polishRoots) {
+        this(polishRoots);
+        internalSetPolynomialParameters(polyParams);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param polyParams Array containing polynomial parameters.
+     * @throws IllegalArgumentException Raised if length of provided parameters
+     *                                  is not valid. It has to be greater or equal than 2.
+     */
+    public AberthEhrlichPolynomialRootsEstimator(final Complex[] polyParams) {
+        this(polyParams, DEFAULT_POLISH_ROOTS);
+    }
+
+    /**
+     * Estimates the roots of provided polynomial.
+     *
+     * @throws LockedException         Raised if this instance is locked estimating a
+     *                                 root.
+     * @throws NotReadyException       Raised if this instance is not ready because
+     *                                 polynomial parameters have not been provided.
+     * @throws RootEstimationException Raised if roots cannot be estimated for
+     *                                 some reason (null leading parameter, lack of
+     *                                 convergence, etc.).
+     */
+    @Override
+    public void estimate() throws LockedException, NotReadyException, RootEstimationException {
+
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+
+        // polynomial must be at least degree 1
+        if (polyParams.length < MIN_VALID_POLY_PARAMS_LENGTH) {
+            throw new RootEstimationException();
+        }
+
+        locked = true;
+        try {
+            internalEstimate();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RootEstimationException(e);
+        } catch (final ExecutionException e) {
+            throw new RootEstimationException(e.getCause());
+        } finally {
+            locked = false;
+        }
+    }
+
+    /**
+     * Returns boolean indicating whether roots are refined after an initial
+     * estimation.
+     *
+     * @return True if roots are refined, false otherwise.
+     */
+    public boolean areRootsPolished() {
+        return polishRoots;
+    }
+
+    /**
+     * Sets boolean indicating whether roots will be refined after an initial
+     * estimation.
+     *
+     * @param enable True if roots will be refined, false otherwise.
+     * @throws LockedException Raised if this instance is locked.
+     */
+    public void setPolishRootsEnabled(final boolean enable) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        polishRoots = enable;
+    }
+
+    /**
+     * Returns maximum number of iterations to be made before giving up if
+     * roots do not converge.
+     *
+     * @return maximum number of iterations.
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Sets maximum number of iterations to be made before giving up if roots
+     * do not converge.
+     *
+     * @param maxIterations maximum number of iterations.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if this instance is locked.
+     */
+    public void setMaxIterations(final int maxIterations) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (maxIterations < MIN_ITERATIONS) {
+            throw new IllegalArgumentException();
+        }
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Returns number of blocks of roots to be refined concurrently. When 1,
+     * roots are refined sequentially on calling thread.
+     * Roots are only refined concurrently on polynomials having at least
+     * {@link #MIN_PARALLEL_DEGREE} degree.
+     *
+     * @return number of blocks of roots to be refined concurrently.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets number of blocks of roots to be refined concurrently. When 1, roots
+     * are refined sequentially on calling thread.
+     * Roots are only refined concurrently on polynomials having at least
+     * {@link #MIN_PARALLEL_DEGREE} degree.
+     *
+     * @param parallelism number of blocks of roots to be refined concurrently.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     * @throws LockedException          if this instance is locked.
+     */
+    public void setParallelism(final int parallelism) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        if (parallelism < MIN_PARALLELISM) {
+            throw new IllegalArgumentException();
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns executor where blocks of roots are refined when parallelism is
+     * greater than 1. If null, common fork join pool is used.
+     *
+     * @return executor where blocks of roots are refined or null.
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets executor where blocks of roots are refined when parallelism is
+     * greater than 1. If null, common fork join pool is used.
+     * Provided executor is never shut down by this estimator.
+     *
+     * @param executor executor where blocks of roots are refined or null.
+     * @throws LockedException if this instance is locked.
+     */
+    public void setExecutor(final ExecutorService executor) throws LockedException {
+        if (isLocked()) {
+            throw new LockedException();
+        }
+        this.executor = executor;
+    }
+
+    /**
+     * Returns real parts of estimated roots, following the same order as
+     * {@link #getRoots()}.
+     *
+     * @return real parts of estimated roots.
+     * @throws NotAvailableException Raised if roots have not yet been estimated
+     *                               and are not available for retrieval.
+     */
+    public double[] getRootsReal() throws NotAvailableException {
+        if (!areRootsAvailable()) {
+            throw new NotAvailableException();
+        }
+        return rootsReal;
+    }
+
+    /**
+     * Returns imaginary parts of estimated roots, following the same order as
+     * {@link #getRoots()}.
+     *
+     * @return imaginary parts of estimated roots.
+     * @throws NotAvailableException Raised if roots have not yet been estimated
+     *                               and are not available for retrieval.
+     */
+    public double[] getRootsImaginary() throws NotAvailableException {
+        if (!areRootsAvailable()) {
+            throw new NotAvailableException();
+        }
+        return rootsImaginary;
+    }
+
+    /**
+     * Returns number of iterations made on last estimation.
+     *
+     * @return number of iterations made on last estimation.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Internal method to set parameters of a polynomial, taking into account
+     * that a polynomial of degree n is defined as:
+     * p(x) = a0 * x^n + a1 * x^(n - 1) + ... a(n-1) * x + an
+     * then the array of parameters is [an, a(n - 1), ... a1, a0]
+     * Polynomial parameters can be either real or complex values
+     * This method does not check if this class is locked.
+     *
+     * @param polyParams Polynomial parameters.
+     * @throws IllegalArgumentException Raised if the length of the array is not
+     *                                  valid.
+     */
+    @Override
+    protected final void internalSetPolynomialParameters(final Complex[] polyParams) {
+        if (polyParams.length < MIN_VALID_POLY_PARAMS_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+        this.polyParams = polyParams;
+    }
+
+    /**
+     * Internal method to estimate roots once this instance has been locked.
+     *
+     * @throws RootEstimationException Raised if leading parameter is zero or
+     *                                 roots do not converge.
+     * @throws InterruptedException    if calling thread is interrupted while
+     *                                 waiting for blocks of roots to be refined.
+     * @throws ExecutionException      if refinement of any block fails.
+     */
+    private void internalEstimate() throws RootEstimationException, InterruptedException, ExecutionException {
+        final var a = polyParams;
+        final var m = a.length - 1;
+        if (a[m].getModulus() == 0.0) {
+            throw new RootEstimationException();
+        }
+
+        // parameters of lowest order that are zero correspond to roots at zero
+        var zeros = 0;
+        while (a[zeros].getModulus() == 0.0) {
+            zeros++;
+        }
+
+        degree = m - zeros;
+        ensureCapacity(degree);
+        for (var j = 0; j <= degree; j++) {
+            coefficientsReal[j] = a[j + zeros].getReal();
+            coefficientsImaginary[j] = a[j + zeros].getImaginary();
+        }
+
+        iterations = 0;
+        if (degree > 0) {
+            initializeApproximations();
+
+            final var parallel = parallelism > MIN_PARALLELISM && degree >= MIN_PARALLEL_DEGREE;
+            final var tasks = parallel ? createBlockTasks() : null;
+            final var executorService = executor != null ? executor : ForkJoinPool.commonPool();
+            final var scratch = new double[2];
+
+            var pending = degree;
+            while (pending > 0) {
+                if (iterations >= maxIterations) {
+                    throw new RootEstimationException();
+                }
+                iterations++;
+
+                if (parallel) {
+                    pending = refineInParallel(tasks, executorService, false);
+                } else {
+                    pending = computeCorrections(0, degree, scratch);
+                }
+
+                for (var i = 0; i < degree; i++) {
+                    approximationsReal[i] -= correctionsReal[i];
+                    approximationsImaginary[i] -= correctionsImaginary[i];
+                }
+            }
+
+            if (polishRoots) {
+                if (parallel) {
+                    refineInParallel(tasks, executorService, true);
+                } else {
+                    polish(0, degree, scratch);
+                }
+            }
+        }
+
+        final var re = new double[m];
+        final var im = new double[m];
+        System.arraycopy(approximationsReal, 0, re, zeros, degree);
+        System.arraycopy(approximationsImaginary, 0, im, zeros, degree);
+
+        for (var j = zeros; j < m; j++) {
+            if (Math.abs(im[j]) <= 2.0 * EPS * Math.abs(re[j])) {
+                im[j] = 0.0;
+            }
+        }
+
+        // sort roots by their real part
+        for (var j = 1; j < m; j++) {
+            final var xr = re[j];
+            final var xi = im[j];
+            int i;
+            for (i = j - 1; i >= 0; i--) {
+                if (re[i] <= xr) {
+                    break;
+                }
+                re[i + 1] = re[i];
+                im[i + 1] = im[i];
+            }
+            re[i + 1] = xr;
+            im[i + 1] = xi;
+        }
+
+        roots = new Complex[m];
+        for (var j = 0; j < m; j++) {
+            roots[j] = new Complex(re[j], im[j]);
+        }
+        rootsReal = re;
+        rootsImaginary = im;
+    }
+
+    /**
+     * Ensures that working arrays can hold a polynomial of provided degree.
+     *
+     * @param n polynomial degree.
+     */
+    private void ensureCapacity(final int n) {
+        if (coefficientsReal.length < n + 1) {
+            coefficientsReal = new double[n + 1];
+            coefficientsImaginary = new double[n + 1];
+            approximationsReal = new double[n];
+            approximationsImaginary = new double[n];
+            correctionsReal = new double[n];
+            correctionsImaginary = new double[n];
+            converged = new boolean[n];
+        }
+    }
+
+    /**
+     * Places initial approximations evenly on a circle centered at zero whose
+     * radius is the geometric mean of the moduli of all roots.
+     */
+    private void initializeApproximations() {
+        final var n = degree;
+        final var constant = Math.hypot(coefficientsReal[0], coefficientsImaginary[0]);
+        final var leading = Math.hypot(coefficientsReal[n], coefficientsImaginary[n]);
+        final var radius = Math.pow(constant / leading, 1.0 / n);
+
+        for (var i = 0; i < n; i++) {
+            final var angle = 2.0 * Math.PI * i / n + Math.PI / (2.0 * n) + INITIAL_ANGLE_OFFSET;
+            approximationsReal[i] = radius * Math.cos(angle);
+            approximationsImaginary[i] = radius * Math.sin(angle);
+            converged[i] = false;
+        }
+    }
+
+    /**
+     * Computes Aberth-Ehrlich corrections of approximations within provided
+     * range. Corrections are computed from current approximations, which are
+     * not modified, so that disjoint ranges can be processed concurrently.
+     * Approximations that have already converged get a zero correction.
+     *
+     * @param from    position of first approximation (inclusive).
+     * @param to      position of last approximation (exclusive).
+     * @param scratch array of length 2 used to store intermediate results.
+     * @return number of approximations within range that have not converged.
+     */
+    private int computeCorrections(final int from, final int to, final double[] scratch) {
+        var pending = 0;
+        for (var i = from; i < to; i++) {
+            correctionsReal[i] = 0.0;
+            correctionsImaginary[i] = 0.0;
+            if (converged[i]) {
+                continue;
+            }
+
+            final var zr = approximationsReal[i];
+            final var zi = approximationsImaginary[i];
+            if (computeNewtonCorrection(zr, zi, scratch)) {
+                converged[i] = true;
+                continue;
+            }
+
+            // repulsion from remaining approximations s = sum(1 / (z_i - z_j))
+            var sr = 0.0;
+            var si = 0.0;
+            for (var j = 0; j < degree; j++) {
+                final var dr = zr - approximationsReal[j];
+                final var di = zi - approximationsImaginary[j];
+                final var d2 = dr * dr + di * di;
+                if (d2 > 0.0) {
+                    sr += dr / d2;
+                    si -= di / d2;
+                }
+            }
+
+            final var nr = scratch[0];
+            final var ni = scratch[1];
+            double wr;
+            double wi;
+            if (Double.isFinite(nr) && Double.isFinite(ni)) {
+                // w = N / (1 - N * s)
+                final var dr = 1.0 - (nr * sr - ni * si);
+                final var di = -(nr * si + ni * sr);
+                final var d2 = dr * dr + di * di;
+                if (d2 > 0.0) {
+                    wr = (nr * dr + ni * di) / d2;
+                    wi = (ni * dr - nr * di) / d2;
+                } else {
+                    wr = nr;
+                    wi = ni;
+                }
+            } else {
+                // derivative vanishes, hence w = -1 / s
+                final var s2 = sr * sr + si * si;
+                if (s2 > 0.0) {
+                    wr = -sr / s2;
+                    wi = si / s2;
+                } else {
+                    wr = -PERTURBATION * (1.0 + Math.hypot(zr, zi));
+                    wi = 0.0;
+                }
+            }
+
+            correctionsReal[i] = wr;
+            correctionsImaginary[i] = wi;
+            if (Math.hypot(wr, wi) <= EPS * Math.hypot(zr, zi)) {
+                converged[i] = true;
+            } else {
+                pending++;
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Refines approximations within provided range by Newton iterations,
+     * which are stopped as soon as the polynomial evaluation does not
+     * decrease.
+     *
+     * @param from    position of first approximation (inclusive).
+     * @param to      position of last approximation (exclusive).
+     * @param scratch array of length 2 used to store intermediate results.
+     */
+    private void polish(final int from, final int to, final double[] scratch) {
+        for (var i = from; i < to; i++) {
+            var zr = approximationsReal[i];
+            var zi = approximationsImaginary[i];
+            var residual = evaluateModulus(zr, zi);
+            for (var iter = 0; iter < MAX_POLISH_ITERATIONS && residual > 0.0; iter++) {
+                computeNewtonCorrection(zr, zi, scratch);
+                final var nextReal = zr - scratch[0];
+                final var nextImaginary = zi - scratch[1];
+                final var nextResidual = evaluateModulus(nextReal, nextImaginary);
+                if (!(nextResidual < residual)) {
+                    break;
+                }
+                zr = nextReal;
+                zi = nextImaginary;
+                residual = nextResidual;
+            }
+            approximationsReal[i] = zr;
+            approximationsImaginary[i] = zi;
+        }
+    }
+
+    /**
+     * Computes Newton correction p(z) / p'(z) at provided point and
+     * determines whether provided point can already be considered a root
+     * because the polynomial evaluation is below the rounding errors made to
+     * compute it.
+     * When |z| &gt; 1, the reversed polynomial y^n * p(1 / y) is evaluated at
+     * y = 1 / z instead, so that large powers of z do not overflow.
+     *
+     * @param zr      real part of point.
+     * @param zi      imaginary part of point.
+     * @param scratch array where real and imaginary parts of Newton correction
+     *                are stored. Parts are not finite if derivative vanishes.
+     * @return true if provided point can be considered a root, false
+     * otherwise.
+     */
+    private boolean computeNewtonCorrection(final double zr, final double zi, final double[] scratch) {
+        final var n = degree;
+        final var modulus = Math.hypot(zr, zi);
+        final boolean reversed = modulus > 1.0;
+
+        final double xr;
+        final double xi;
+        if (reversed) {
+            final var m2 = zr * zr + zi * zi;
+            xr = zr / m2;
+            xi = -zi / m2;
+        } else {
+            xr = zr;
+            xi = zi;
+        }
+        final var abx = Math.hypot(xr, xi);
+
+        // Horner evaluation of polynomial and its derivative along with a
+        // running bound of rounding errors
+        var k = reversed ? 0 : n;
+        var pr = coefficientsReal[k];
+        var pi = coefficientsImaginary[k];
+        var dr = 0.0;
+        var di = 0.0;
+        var err = Math.hypot(pr, pi);
+        for (var j = n - 1; j >= 0; j--) {
+            k = reversed ? n - j : j;
+
+            final var tr = dr * xr - di * xi + pr;
+            di = dr * xi + di * xr + pi;
+            dr = tr;
+
+            final var ur = pr * xr - pi * xi + coefficientsReal[k];
+            pi = pr * xi + pi * xr + coefficientsImaginary[k];
+            pr = ur;
+
+            err = Math.hypot(pr, pi) + abx * err;
+        }
+
+        if (Math.hypot(pr, pi) <= ROUNDING_ERROR * err) {
+            scratch[0] = 0.0;
+            scratch[1] = 0.0;
+            return true;
+        }
+
+        // denominator is p'(x) or, on reversed polynomial q, n * q(y) - y * q'(y),
+        // since p(z) / p'(z) = z * q(y) / (n * q(y) - y * q'(y))
+        double denr = dr;
+        double deni = di;
+        if (reversed) {
+            denr = n * pr - (xr * dr - xi * di);
+            deni = n * pi - (xr * di + xi * dr);
+        }
+
+        final var den2 = denr * denr + deni * deni;
+        if (den2 == 0.0) {
+            scratch[0] = Double.POSITIVE_INFINITY;
+            scratch[1] = Double.POSITIVE_INFINITY;
+            return false;
+        }
+
+        var nr = (pr * denr + pi * deni) / den2;
+        var ni = (pi * denr - pr * deni) / den2;
+        if (reversed) {
+            final var tr = nr * zr - ni * zi;
+            ni = nr * zi + ni * zr;
+            nr = tr;
+        }
+        scratch[0] = nr;
+        scratch[1] = ni;
+        return false;
+    }
+
+    /**
+     * Evaluates modulus of polynomial at provided point.
+     *
+     * @param zr real part of point.
+     * @param zi imaginary part of point.
+     * @return modulus of polynomial evaluation.
+     */
+    private double evaluateModulus(final double zr, final double zi) {
+        var pr = coefficientsReal[degree];
+        var pi = coefficientsImaginary[degree];
+        for (var j = degree - 1; j >= 0; j--) {
+            final var tr = pr * zr - pi * zi + coefficientsReal[j];
+            pi = pr * zi + pi * zr + coefficientsImaginary[j];
+            pr = tr;
+        }
+        return Math.hypot(pr, pi);
+    }
+
+    /**
+     * Creates tasks to refine blocks of roots concurrently.
+     * Roots are split into as many contiguous blocks as the current
+     * parallelism (or less if there are fewer roots).
+     *
+     * @return tasks to refine each block of roots.
+     */
+    private List<BlockRefinementTask> createBlockTasks() {
+        final var numBlocks = Math.min(parallelism, degree);
+        final var tasks = new ArrayList<BlockRefinementTask>(numBlocks);
+        for (var b = 0; b < numBlocks; b++) {
+            final var from = (int) ((long) degree * b / numBlocks);
+            final var to = (int) ((long) degree * (b + 1) / numBlocks);
+            tasks.add(new BlockRefinementTask(from, to));
+        }
+        return tasks;
+    }
+
+    /**
+     * Refines all blocks of roots concurrently.
+     *
+     * @param tasks    tasks to refine each block of roots.
+     * @param executor executor where tasks are run.
+     * @param polish   true to polish roots, false to compute Aberth-Ehrlich
+     *                 corrections.
+     * @return number of approximations that have not converged.
+     * @throws InterruptedException if calling thread is interrupted while
+     *                              waiting for blocks to be refined.
+     * @throws ExecutionException   if refinement of any block fails.
+     */
+    private static int refineInParallel(
+            final List<BlockRefinementTask> tasks, final ExecutorService executor, final boolean polish)
+            throws InterruptedException, ExecutionException {
+        for (final var task : tasks) {
+            task.polish = polish;
+        }
+
+        var pending = 0;
+        for (final Future<Integer> future : executor.invokeAll(tasks)) {
+            pending += future.get();
+        }
+        return pending;
+    }
+
+    /**
+     * Refines a contiguous block of roots.
+     */
+    private class BlockRefinementTask implements Callable<Integer> {
+
+        /**
+         * Position of first root in block (inclusive).
+         */
+        private final int from;
+
+        /**
+         * Position of last root in block (exclusive).
+         */
+        private final int to;
+
+        /**
+         * Array used to store intermediate results of this task.
+         */
+        private final double[] scratch = new double[2];
+
+        /**
+         * True to polish roots, false to compute Aberth-Ehrlich corrections.
+         */
+        private boolean polish;
+
+        /**
+         * Constructor.
+         *
+         * @param from position of first root in block (inclusive).
+         * @param to   position of last root in block (exclusive).
+         */
+        BlockRefinementTask(final int from, final int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Computes corrections or polishes roots within block.
+         *
+         * @return number of approximations within block that have not
+         * converged.
+         */
+        @Override
+        public Integer call() {
+            if (polish) {
+                AberthEhrlichPolynomialRootsEstimator.this.polish(from, to, scratch);
+                return 0;
+            } else {
+                return computeCorrections(from, to, scratch);
+            }
+        }
+    }
+}
@@ -36,6 +36,26 @@ public class Convolver1D {
      */
     public static final ConvolverEdgeMethod DEFAULT_EDGE_METHOD = ConvolverEdgeMethod.ZERO_EDGE;
 
+    /**
+     * Default algorithm to compute convolutions.
+     */
+    public static final ConvolverAlgorithm DEFAULT_ALGORITHM = ConvolverAlgorithm.AUTOMATIC;
+
+    /**
+     * Minimum kernel length for FFT algorithm to be used when algorithm is
+     * chosen automatically. This value is the approximate kernel length where
+     * FFT convolution becomes faster than direct convolution according to the
+     * JMH benchmark Convolver1DBenchmark in test sources, and might differ on
+     * other platforms.
+     */
+    public static final int FFT_KERNEL_LENGTH_THRESHOLD = 96;
+
+    /**
+     * Number of output samples directly computed between consecutive progress
+     * notifications.
+     */
+    public static final int DIRECT_BLOCK_LENGTH = 4096;
+
     /**
      * Signal to be convolved.
      */
@@ -67,6 +87,11 @@ public class Convolver1D {
      */
     private double constantValue = DEFAULT_CONSTANT_VALUE;
 
+    /**
+     * Algorithm to compute convolutions.
+     */
+    private ConvolverAlgorithm algorithm = DEFAULT_ALGORITHM;
+
     /**
      * Listener in charge of attending events generated by this instance.
      */
@@ -196,6 +221,24 @@ public class Convolver1D {
         this.constantValue = constantValue;
     }
 
+    /**
+     * Gets algorithm to compute convolutions.
+     *
+     * @return algorithm to compute convolutions.
+     */
+    public ConvolverAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Sets algorithm to compute convolutions.
+     *
+     * @param algorithm algorithm to compute convolutions.
+     */
+    public void setAlgorithm(final ConvolverAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
     /**
      * Gets listener in charge of attending events generated by this instance.
      *
@@ -232,7 +275,7 @@ public class Convolver1D {
      * @return a new array containing result of convolution.
      */
     public double[] convolve() {
-        return convolve(signal, kernel, kernelCenter, edgeMethod, constantValue, listener);
+        return convolve(signal, kernel, kernelCenter, edgeMethod, constantValue, algorithm, listener);
     }
 
     /**
@@ -245,7 +288,7 @@ public class Convolver1D {
      *                                  proper length.
      */
     public void convolve(final double[] result) {
-        convolve(signal, kernel, kernelCenter, edgeMethod, constantValue, result, listener);
+        convolve(signal, kernel, kernelCenter, edgeMethod, constantValue, algorithm, result, listener);
     }
 
     /**
@@ -552,6 +595,57 @@ public class Convolver1D {
     public static void convolve(final double[] signal, final double[] kernel, final int kernelCenter,
                                 final ConvolverEdgeMethod edgeMethod, final double constantValue, final double[] result,
                                 final Convolver1DListener listener) {
+        convolve(signal, kernel, kernelCenter, edgeMethod, constantValue, DEFAULT_ALGORITHM, result, listener);
+    }
+
+    /**
+     * Convolves provided signal with provided kernel using provided algorithm.
+     *
+     * @param signal        signal to be convolved.
+     * @param kernel        kernel used for convolution.
+     * @param kernelCenter  position of kernel center. This determines how
+     *                      signal's edge extension is applied. Must be a value within kernel's
+     *                      boundaries.
+     * @param edgeMethod    edge extension method.
+     * @param constantValue constant value to be used for edge extension if
+     *                      constant extension method is used.
+     * @param algorithm     algorithm to compute convolution.
+     * @param listener      listener attending events generated during convolution.
+     * @return a new array containing result of convolution.
+     * @throws IllegalArgumentException if kernel center is not within kernel's
+     *                                  boundaries.
+     */
+    public static double[] convolve(final double[] signal, final double[] kernel, final int kernelCenter,
+                                    final ConvolverEdgeMethod edgeMethod, final double constantValue,
+                                    final ConvolverAlgorithm algorithm, final Convolver1DListener listener) {
+
+        final var result = new double[signal.length + kernel.length - 1];
+        convolve(signal, kernel, kernelCenter, edgeMethod, constantValue, algorithm, result, listener);
+        return result;
+    }
+
+    /**
+     * Convolves provided signal with provided kernel using provided algorithm.
+     *
+     * @param signal        signal to be convolved.
+     * @param kernel        kernel used for convolution.
+     * @param kernelCenter  position of kernel center. This determines how
+     *                      signal's edge extension is applied. Must be a value within kernel's
+     *                      boundaries.
+     * @param edgeMethod    edge extension method.
+     * @param constantValue constant value to be used for edge extension if
+     *                      constant extension method is used.
+     * @param algorithm     algorithm to compute convolution.
+     * @param result        array where result of convolution will be stored. Must
+     *                      have the sum of the lengths of signal and kernel minus one.
+     * @param listener      listener attending events generated during convolution.
+     * @throws IllegalArgumentException if provided result array does not
+     *                                  have proper length or if kernel center is not within kernel's boundaries.
+     */
+    public static void convolve(final double[] signal, final double[] kernel, final int kernelCenter,
+                                final ConvolverEdgeMethod edgeMethod, final double constantValue,
+                                final ConvolverAlgorithm algorithm, final double[] result,
+                                final Convolver1DListener listener) {
         if (kernelCenter < 0 || kernelCenter >= kernel.length) {
             throw new IllegalArgumentException("kernel center must be within kernel boundaries");
         }
@@ -560,126 +654,276 @@ public class Convolver1D {
                     " result array must have a length equal to the sum of signal and kernel lengths minus one");
         }
 
-        switch (edgeMethod) {
-            case MIRROR_EDGE:
-                internalConvolveMirror(signal, kernel, kernelCenter, result, listener);
-                break;
-            case REPEAT_EDGE:
-                internalConvolveRepeat(signal, kernel, kernelCenter, result, listener);
-                break;
-            case CONSTANT_EDGE:
-                internalConvolveConstant(signal, kernel, kernelCenter, constantValue, result, listener);
-                break;
-            case ZERO_EDGE:
-            default:
-                internalConvolveZero(signal, kernel, kernelCenter, result, listener);
-                break;
+        if (algorithm == ConvolverAlgorithm.FFT || (algorithm == ConvolverAlgorithm.AUTOMATIC
+                && kernel.length >= FFT_KERNEL_LENGTH_THRESHOLD)) {
+            internalConvolveFFT(signal, kernel, kernelCenter, edgeMethod, constantValue, result, listener);
+            return;
         }
+
+        internalConvolveDirect(signal, kernel, kernelCenter, edgeMethod, constantValue, result, listener);
     }
 
     /**
-     * Internal method to convolve signal using zero edge extension method.
+     * Internal method to directly convolve signal using any edge extension
+     * method.
+     * Output samples whose kernel lies completely within signal boundaries
+     * (which are the vast majority for signals much longer than kernels) are
+     * computed by blocks directly from the signal without checking boundaries.
+     * Remaining output samples at both ends are computed from small buffers
+     * containing the signal extended beyond its boundaries.
      *
-     * @param signal       signal to be convolved.
-     * @param kernel       kernel to convolve with.
-     * @param kernelCenter kernel center.
-     * @param result       array where result is stored.
-     * @param listener     listener attending events generated during convolution.
+     * @param signal        signal to be convolved.
+     * @param kernel        kernel to convolve with.
+     * @param kernelCenter  kernel center.
+     * @param edgeMethod    edge extension method.
+     * @param constantValue constant value to use for positions outside signal
+     *                      boundaries when constant edge extension is used.
+     * @param result        array where result is stored.
+     * @param listener      listener attending events generated during convolution.
      */
-    private static void internalConvolveZero(
-            final double[] signal, final double[] kernel, final int kernelCenter, final double[] result,
+    private static void internalConvolveDirect(
+            final double[] signal, final double[] kernel, final int kernelCenter,
+            final ConvolverEdgeMethod edgeMethod, final double constantValue, final double[] result,
             final Convolver1DListener listener) {
         final var kernelLength = kernel.length;
         final var resultLength = result.length;
-        double accum;
-        int signalPos;
 
         if (listener != null) {
             listener.onStartConvolution();
         }
 
-        for (var i = 0; i < resultLength; i++) {
+        // result[i] = sum_j(signal[i - kernelCenter - j] * kernel[j]) only
+        // requires samples within signal boundaries for interior positions
+        final var interiorStart = Math.min(kernelCenter + kernelLength - 1, resultLength);
+        final var interiorEnd = Math.max(interiorStart, Math.min(kernelCenter + signal.length, resultLength));
 
-            accum = 0.0;
-            signalPos = i - kernelCenter;
-            for (var j = 0; j < kernelLength; j++) {
-                final var signalValue = getSignalValueZero(signal, signalPos - j);
-                accum += signalValue * kernel[j];
-            }
+        convolveBorder(signal, kernel, kernelCenter, edgeMethod, constantValue, 0, interiorStart, result,
+                listener);
 
-            result[i] = accum;
-
-            if (listener != null) {
-                final var progress = (float) i / (float) resultLength;
-                listener.onConvolveProgressChange(progress);
-            }
+        for (var from = interiorStart; from < interiorEnd; from += DIRECT_BLOCK_LENGTH) {
+            final var length = Math.min(DIRECT_BLOCK_LENGTH, interiorEnd - from);
+            convolveValid(signal, from - kernelCenter - kernelLength + 1, kernel, result, from, length);
+            notifyProgress(listener, from + length, resultLength);
         }
 
+        convolveBorder(signal, kernel, kernelCenter, edgeMethod, constantValue, interiorEnd, resultLength, result,
+                listener);
+
         if (listener != null) {
             listener.onFinishConvolution();
         }
     }
 
     /**
-     * Internal method to determine signal value even when a position outside
-     * its boundaries is requested when zero edge extension is being used.
+     * Directly convolves a range of output samples near signal boundaries.
      *
-     * @param signal signal to request a value for.
-     * @param pos    requested position.
-     * @return signal value when position is within boundaries or zero
-     * otherwise.
+     * @param signal        signal to be convolved.
+     * @param kernel        kernel to convolve with.
+     * @param kernelCenter  kernel center.
+     * @param edgeMethod    edge extension method.
+     * @param constantValue constant value to use for positions outside signal
+     *                      boundaries when constant edge extension is used.
+     * @param from          position of first output sample (inclusive).
+     * @param to            position of last output sample (exclusive).
+     * @param result        array where result is stored.
+     * @param listener      listener attending events generated during convolution.
      */
-    protected static double getSignalValueZero(final double[] signal, final int pos) {
-        if (pos >= 0 && pos < signal.length) {
-            return signal[pos];
-        } else {
-            return 0.0;
+    private static void convolveBorder(
+            final double[] signal, final double[] kernel, final int kernelCenter,
+            final ConvolverEdgeMethod edgeMethod, final double constantValue, final int from, final int to,
+            final double[] result, final Convolver1DListener listener) {
+        if (from >= to) {
+            return;
         }
+
+        final var kernelLength = kernel.length;
+        final var extended = new double[to - from + kernelLength - 1];
+        fillExtendedSignal(signal, from - kernelCenter - kernelLength + 1, edgeMethod, constantValue, extended);
+        convolveValid(extended, 0, kernel, result, from, to - from);
+        notifyProgress(listener, to, result.length);
     }
 
     /**
-     * Internal method to convolve signal using constant value edge extension
-     * method.
+     * Computes valid part of linear convolution of provided input sequence,
+     * this is: output[outputOffset + n] =
+     * sum_j(input[inputOffset + n + kernel.length - 1 - j] * kernel[j]), for
+     * n = 0, ... length - 1.
+     * Input must contain all required samples, hence no boundaries are
+     * checked. Four output samples are accumulated at once, so that each kernel
+     * value is loaded once for all of them and additions do not wait for each
+     * other. Each output sample is still accumulated in the same order as a
+     * plain loop would do, hence results are identical.
+     *
+     * @param input        array containing input sequence.
+     * @param inputOffset  position of first input sample required by first
+     *                     output sample.
+     * @param kernel       kernel to convolve with.
+     * @param output       array where output samples are stored.
+     * @param outputOffset position where output samples are stored.
+     * @param length       number of output samples to compute.
+     */
+    static void convolveValid(final double[] input, final int inputOffset, final double[] kernel,
+                              final double[] output, final int outputOffset, final int length) {
+        final var last = kernel.length - 1;
+        var n = 0;
+        for (; n + 3 < length; n += 4) {
+            final var base = inputOffset + n + last;
+            var accum0 = 0.0;
+            var accum1 = 0.0;
+            var accum2 = 0.0;
+            var accum3 = 0.0;
+            for (var j = 0; j <= last; j++) {
+                final var k = kernel[j];
+                final var pos = base - j;
+                accum0 += input[pos] * k;
+                accum1 += input[pos + 1] * k;
+                accum2 += input[pos + 2] * k;
+                accum3 += input[pos + 3] * k;
+            }
+            final var o = outputOffset + n;
+            output[o] = accum0;
+            output[o + 1] = accum1;
+            output[o + 2] = accum2;
+            output[o + 3] = accum3;
+        }
+        for (; n < length; n++) {
+            final var base = inputOffset + n + last;
+            var accum = 0.0;
+            for (var j = 0; j <= last; j++) {
+                accum += input[base - j] * kernel[j];
+            }
+            output[outputOffset + n] = accum;
+        }
+    }
+
+    /**
+     * Notifies convolution progress to provided listener, if any.
+     *
+     * @param listener listener to be notified or null.
+     * @param done     number of output samples computed so far.
+     * @param total    total number of output samples.
+     */
+    private static void notifyProgress(final Convolver1DListener listener, final int done, final int total) {
+        if (listener != null) {
+            listener.onConvolveProgressChange((float) done / (float) total);
+        }
+    }
+
+    /**
+     * Internal method to convolve signal by means of fast Fourier transforms
+     * using any edge extension method.
+     * Signal is extended on both sides as much as the kernel requires, and the
+     * valid part of the convolution of the extended signal is computed by
+     * blocks, which yields the same result as direct convolution.
      *
      * @param signal        signal to be convolved.
      * @param kernel        kernel to convolve with.
      * @param kernelCenter  kernel center.
+     * @param edgeMethod    edge extension method.
      * @param constantValue constant value to use for positions outside signal
-     *                      boundaries.
+     *                      boundaries when constant edge extension is used.
      * @param result        array where result is stored.
      * @param listener      listener attending events generated during convolution.
      */
-    private static void internalConvolveConstant(
-            final double[] signal, final double[] kernel, final int kernelCenter, final double constantValue,
-            final double[] result, final Convolver1DListener listener) {
+    private static void internalConvolveFFT(
+            final double[] signal, final double[] kernel, final int kernelCenter,
+            final ConvolverEdgeMethod edgeMethod, final double constantValue, final double[] result,
+            final Convolver1DListener listener) {
         final var kernelLength = kernel.length;
         final var resultLength = result.length;
-        double accum;
-        int signalPos;
 
         if (listener != null) {
             listener.onStartConvolution();
         }
 
-        for (var i = 0; i < resultLength; i++) {
+        // result[i] = sum_j(signal[i - kernelCenter - j] * kernel[j]), hence
+        // extended signal starts at position -kernelCenter - kernelLength + 1
+        final var extended = new double[resultLength + kernelLength - 1];
+        fillExtendedSignal(signal, -kernelCenter - kernelLength + 1, edgeMethod, constantValue, extended);
 
-            accum = 0.0;
-            signalPos = i - kernelCenter;
-            for (var j = 0; j < kernelLength; j++) {
-                final var signalValue = getSignalValueConstant(signal, signalPos - j, constantValue);
-                accum += signalValue * kernel[j];
-            }
+        final var convolver = new OverlapSaveConvolver(kernel,
+                OverlapSaveConvolver.getTransformLength(kernelLength, resultLength));
+        convolver.convolve(extended, 0, resultLength, result, 0, listener);
 
-            result[i] = accum;
+        if (listener != null) {
+            listener.onFinishConvolution();
+        }
+    }
 
-            if (listener != null) {
-                final var progress = (float) i / (float) resultLength;
-                listener.onConvolveProgressChange(progress);
-            }
+    /**
+     * Fills provided array with consecutive samples of signal extended
+     * beyond its boundaries using provided edge extension method.
+     * Samples within signal boundaries are copied at once, and only samples
+     * outside boundaries are individually computed.
+     *
+     * @param signal        signal to be extended.
+     * @param start         position of signal (which might be negative) where
+     *                      extended samples start.
+     * @param edgeMethod    edge extension method.
+     * @param constantValue constant value to use for positions outside signal
+     *                      boundaries when constant edge extension is used.
+     * @param extended      array to be filled with extended samples.
+     */
+    static void fillExtendedSignal(
+            final double[] signal, final int start, final ConvolverEdgeMethod edgeMethod,
+            final double constantValue, final double[] extended) {
+        final var length = extended.length;
+        // positions within signal boundaries
+        final var from = Math.max(0, Math.min(-start, length));
+        final var to = Math.max(from, Math.min(signal.length - start, length));
+
+        for (var i = 0; i < from; i++) {
+            extended[i] = getSignalValue(signal, start + i, edgeMethod, constantValue);
         }
+        if (to > from) {
+            System.arraycopy(signal, start + from, extended, from, to - from);
+        }
+        for (var i = to; i < length; i++) {
+            extended[i] = getSignalValue(signal, start + i, edgeMethod, constantValue);
+        }
+    }
 
-        if (listener != null) {
-            listener.onFinishConvolution();
+    /**
+     * Internal method to determine signal value even when a position outside
+     * its boundaries is requested for provided edge extension method.
+     *
+     * @param signal        signal to request a value for.
+     * @param pos           requested position.
+     * @param edgeMethod    edge extension method.
+     * @param constantValue constant value to use when requesting a position
+     *                      outside signal boundaries and constant edge
+     *                      extension is used.
+     * @return signal value.
+     */
+    private static double getSignalValue(final double[] signal, final int pos, final ConvolverEdgeMethod edgeMethod,
+                                         final double constantValue) {
+        switch (edgeMethod) {
+            case MIRROR_EDGE:
+                return getSignalValueMirror(signal, pos);
+            case REPEAT_EDGE:
+                return getSignalValueRepeat(signal, pos);
+            case CONSTANT_EDGE:
+                return getSignalValueConstant(signal, pos, constantValue);
+            case ZERO_EDGE:
+            default:
+                return getSignalValueZero(signal, pos);
+        }
+    }
+
+    /**
+     * Internal method to determine signal value even when a position outside
+     * its boundaries is requested when zero edge extension is being used.
+     *
+     * @param signal signal to request a value for.
+     * @param pos    requested position.
+     * @return signal value when position is within boundaries or zero
+     * otherwise.
+     */
+    protected static double getSignalValueZero(final double[] signal, final int pos) {
+        if (pos >= 0 && pos < signal.length) {
+            return signal[pos];
+        } else {
+            return 0.0;
         }
     }
 
@@ -703,120 +947,56 @@ public class Convolver1D {
     }
 
     /**
-     * Internal method to convolve signal using a repeat extension method.
+     * Internal method to determine signal value even when a position outside
+     * its boundaries is requested for repeat edge extension.
      *
-     * @param signal       signal to be convolved.
-     * @param kernel       kernel to convolve with.
-     * @param kernelCenter kernel center.
-     * @param result       array where result is stored.
-     * @param listener     listener attending events generated during convolution.
+     * @param signal signal to request a value for.
+     * @param pos    requested position.
+     * @return signal value assuming that signal is repeated indefinitely
+     * outside its boundaries.
      */
-    private static void internalConvolveRepeat(
-            final double[] signal, final double[] kernel, final int kernelCenter, final double[] result,
-            final Convolver1DListener listener) {
-        final var kernelLength = kernel.length;
-        final var resultLength = result.length;
-        double accum;
-        int signalPos;
-
-        if (listener != null) {
-            listener.onStartConvolution();
-        }
-
-        for (var i = 0; i < resultLength; i++) {
-
-            accum = 0.0;
-            signalPos = i - kernelCenter;
-            for (var j = 0; j < kernelLength; j++) {
-                final var signalValue = getSignalValueRepeat(signal, signalPos - j);
-                accum += signalValue * kernel[j];
-            }
-
-            result[i] = accum;
-
-            if (listener != null) {
-                final var progress = (float) i / (float) resultLength;
-                listener.onConvolveProgressChange(progress);
-            }
-        }
-
-        if (listener != null) {
-            listener.onFinishConvolution();
-        }
+    protected static double getSignalValueRepeat(final double[] signal, final int pos) {
+        return signal[getRepeatPosition(signal.length, pos)];
     }
 
     /**
      * Internal method to determine signal value even when a position outside
-     * its boundaries is requested for repeat edge extension.
+     * its boundaries is requested for mirror edge extension.
      *
      * @param signal signal to request a value for.
      * @param pos    requested position.
-     * @return signal value assuming that signal is repeated indefinitely
-     * outside its boundaries.
+     * @return signal value when assuming that signal is mirrored outside its
+     * boundaries.
      */
-    protected static double getSignalValueRepeat(final double[] signal, int pos) {
-        final var signalLength = signal.length;
-        pos = pos % signalLength;
-        if (pos < 0) {
-            pos += signalLength;
-        }
-        return signal[pos];
+    protected static double getSignalValueMirror(final double[] signal, final int pos) {
+        return signal[getMirrorPosition(signal.length, pos)];
     }
 
     /**
-     * Internal method to convolve signal using a mirror extension method.
+     * Determines position within signal boundaries whose value is used for
+     * provided position when repeat edge extension is used.
      *
-     * @param signal       signal to be convolved.
-     * @param kernel       kernel to convolve with.
-     * @param kernelCenter kernel center.
-     * @param result       array where result is stored.
-     * @param listener     listener attending events generated during convolution.
+     * @param signalLength length of signal.
+     * @param pos          requested position.
+     * @return position within signal boundaries.
      */
-    private static void internalConvolveMirror(
-            final double[] signal, final double[] kernel, final int kernelCenter, final double[] result,
-            final Convolver1DListener listener) {
-        final var kernelLength = kernel.length;
-        final var resultLength = result.length;
-        double accum;
-        int signalPos;
-
-        if (listener != null) {
-            listener.onStartConvolution();
-        }
-
-        for (var i = 0; i < resultLength; i++) {
-
-            accum = 0.0;
-            signalPos = i - kernelCenter;
-            for (var j = 0; j < kernelLength; j++) {
-                final var signalValue = getSignalValueMirror(signal, signalPos - j);
-                accum += signalValue * kernel[j];
-            }
-
-            result[i] = accum;
-
-            if (listener != null) {
-                final var progress = (float) i / (float) resultLength;
-                listener.onConvolveProgressChange(progress);
-            }
-        }
-
-        if (listener != null) {
-            listener.onFinishConvolution();
+    static int getRepeatPosition(final int signalLength, int pos) {
+        pos = pos % signalLength;
+        if (pos < 0) {
+            pos += signalLength;
         }
+        return pos;
     }
 
     /**
-     * Internal method to determine signal value even when a position outside
-     * its boundaries is requested for mirror edge extension.
+     * Determines position within signal boundaries whose value is used for
+     * provided position when mirror edge extension is used.
      *
-     * @param signal signal to request a value for.
-     * @param pos    requested position.
-     * @return signal value when assuming that signal is mirrored outside its
-     * boundaries.
+     * @param signalLength length of signal.
+     * @param pos          requested position.
+     * @return position within signal boundaries.
      */
-    protected static double getSignalValueMirror(double[] signal, int pos) {
-        final var signalLength = signal.length;
+    static int getMirrorPosition(final int signalLength, int pos) {
         var times = pos / signalLength;
 
         if (pos < 0) {
@@ -840,7 +1020,7 @@ public class Convolver1D {
             }
         }
 
-        return signal[pos];
+        return pos;
     }
 
     /**
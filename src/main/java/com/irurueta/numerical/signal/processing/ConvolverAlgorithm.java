@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+/**
+ * This enumerator indicates which algorithm is used to compute a convolution.
+ * All algorithms produce the same result (up to rounding errors) for any
+ * edge extension method and kernel center.
+ */
+public enum ConvolverAlgorithm {
+    /**
+     * Each output sample is computed as the sum of products of the kernel and
+     * the signal. Cost grows proportionally to the product of signal and kernel
+     * lengths, which makes it the fastest algorithm for short kernels.
+     */
+    DIRECT,
+
+    /**
+     * Signal is convolved by blocks by means of fast Fourier transforms
+     * following the overlap-save method. Cost grows proportionally to signal
+     * length times the logarithm of kernel length, which makes it the fastest
+     * algorithm for long kernels. Results contain rounding errors proportional
+     * to the magnitude of signal and kernel values.
+     */
+    FFT,
+
+    /**
+     * Either direct or FFT algorithm is used depending on kernel length.
+     */
+    AUTOMATIC
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+import java.util.Arrays;
+
+/**
+ * Computes discrete Fourier transforms of complex sequences stored in
+ * separate arrays of real and imaginary parts, and linear convolutions of
+ * real sequences by means of such transforms.
+ * Transforms are computed by an in-place iterative radix-2 algorithm, hence
+ * transform lengths must be powers of 2.
+ * Twiddle factors and working buffers are kept between calls, so that
+ * repeated transforms or convolutions having the same (or smaller) size do not
+ * allocate memory.
+ * Instances of this class are not thread-safe.
+ */
+public class FastFourierTransformer {
+
+    /**
+     * Minimum transform length.
+     */
+    public static final int MIN_TRANSFORM_LENGTH = 1;
+
+    /**
+     * Maximum transform length.
+     */
+    public static final int MAX_TRANSFORM_LENGTH = 1 << 30;
+
+    /**
+     * Cosines of twiddle factors. Position k-th contains cos(2*pi*k/n) where n
+     * is the largest transform length used so far.
+     */
+    private double[] cosines = new double[0];
+
+    /**
+     * Sines of twiddle factors. Position k-th contains sin(2*pi*k/n) where n is
+     * the largest transform length used so far.
+     */
+    private double[] sines = new double[0];
+
+    /**
+     * Real parts of working buffer used for convolution.
+     */
+    private double[] real = new double[0];
+
+    /**
+     * Imaginary parts of working buffer used for convolution.
+     */
+    private double[] imaginary = new double[0];
+
+    /**
+     * Gets smallest valid transform length that is equal or greater than
+     * provided length.
+     *
+     * @param minLength minimum required length.
+     * @return smallest power of 2 equal or greater than provided length.
+     * @throws IllegalArgumentException if provided length is less than 1 or
+     *                                  greater than {@link #MAX_TRANSFORM_LENGTH}.
+     */
+    public static int getTransformLength(final int minLength) {
+        if (minLength < MIN_TRANSFORM_LENGTH || minLength > MAX_TRANSFORM_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+        return minLength == 1 ? 1 : Integer.highestOneBit(minLength - 1) << 1;
+    }
+
+    /**
+     * Computes forward discrete Fourier transform of provided complex sequence
+     * in place.
+     * Forward transform is defined as X[k] = sum_j(x[j] * exp(-2*pi*i*j*k/n)).
+     *
+     * @param re     real parts of sequence to be transformed. Contains real
+     *               parts of transform when this method returns.
+     * @param im     imaginary parts of sequence to be transformed. Contains
+     *               imaginary parts of transform when this method returns.
+     * @param length length of transform. Must be a power of 2 not greater than
+     *               the length of provided arrays.
+     * @throws IllegalArgumentException if length is not a power of 2 or arrays
+     *                                  are null or too short.
+     */
+    public void transform(final double[] re, final double[] im, final int length) {
+        checkTransform(re, im, length);
+        internalTransform(re, im, length, false);
+    }
+
+    /**
+     * Computes inverse discrete Fourier transform of provided complex sequence
+     * in place, including the 1/n scale factor, so that an inverse transform
+     * of a forward transform returns the original sequence.
+     *
+     * @param re     real parts of transform. Contains real parts of inverse
+     *               transform when this method returns.
+     * @param im     imaginary parts of transform. Contains imaginary parts of
+     *               inverse transform when this method returns.
+     * @param length length of transform. Must be a power of 2 not greater than
+     *               the length of provided arrays.
+     * @throws IllegalArgumentException if length is not a power of 2 or arrays
+     *                                  are null or too short.
+     */
+    public void inverseTransform(final double[] re, final double[] im, final int length) {
+        checkTransform(re, im, length);
+        internalTransform(re, im, length, true);
+
+        final var scale = 1.0 / length;
+        for (var i = 0; i < length; i++) {
+            re[i] *= scale;
+            im[i] *= scale;
+        }
+    }
+
+    /**
+     * Computes linear convolution of two real sequences.
+     *
+     * @param a first sequence.
+     * @param b second sequence.
+     * @return a new array of length a.length + b.length - 1 containing the
+     * convolution.
+     * @throws IllegalArgumentException if any sequence is null or empty.
+     */
+    public double[] convolve(final double[] a, final double[] b) {
+        if (a == null || b == null || a.length == 0 || b.length == 0) {
+            throw new IllegalArgumentException();
+        }
+        final var result = new double[a.length + b.length - 1];
+        convolve(a, 0, a.length, b, 0, b.length, result, 0);
+        return result;
+    }
+
+    /**
+     * Computes linear convolution of two real sequences stored within
+     * provided arrays.
+     * Both sequences are packed into a single complex sequence, so that the
+     * convolution only requires one forward and one inverse transform.
+     * Result may contain rounding errors proportional to the magnitude of the
+     * largest values of both sequences.
+     * Result array can be the same instance as any input array, since inputs
+     * are copied into internal buffers before writing any result.
+     *
+     * @param a            array containing first sequence.
+     * @param aOffset      position where first sequence starts.
+     * @param aLength      length of first sequence.
+     * @param b            array containing second sequence.
+     * @param bOffset      position where second sequence starts.
+     * @param bLength      length of second sequence.
+     * @param result       array where convolution will be stored.
+     * @param resultOffset position where convolution will be stored. Result
+     *                     requires aLength + bLength - 1 positions.
+     * @throws IllegalArgumentException if any array is null, any length is
+     *                                  less than 1 or any range lies outside
+     *                                  its array.
+     */
+    public void convolve(final double[] a, final int aOffset, final int aLength,
+                         final double[] b, final int bOffset, final int bLength,
+                         final double[] result, final int resultOffset) {
+        checkRange(a, aOffset, aLength);
+        checkRange(b, bOffset, bLength);
+        final var resultLength = aLength + bLength - 1;
+        checkRange(result, resultOffset, resultLength);
+
+        final var n = getTransformLength(resultLength);
+        ensureBufferCapacity(n);
+        final var re = real;
+        final var im = imaginary;
+
+        // pack both sequences as z = a + i*b
+        System.arraycopy(a, aOffset, re, 0, aLength);
+        Arrays.fill(re, aLength, n, 0.0);
+        System.arraycopy(b, bOffset, im, 0, bLength);
+        Arrays.fill(im, bLength, n, 0.0);
+
+        internalTransform(re, im, n, false);
+
+        // unpack transforms A[k] = (Z[k] + conj(Z[n-k])) / 2 and
+        // B[k] = (Z[k] - conj(Z[n-k])) / 2i, and multiply them. Since both
+        // sequences are real, C[n-k] = conj(C[k])
+        for (var k = 0; k <= n / 2; k++) {
+            final var m = (n - k) & (n - 1);
+            final var xr = re[k];
+            final var xi = im[k];
+            final var yr = re[m];
+            final var yi = im[m];
+
+            final var ar = 0.5 * (xr + yr);
+            final var ai = 0.5 * (xi - yi);
+            final var br = 0.5 * (xi + yi);
+            final var bi = 0.5 * (yr - xr);
+
+            final var cr = ar * br - ai * bi;
+            final var ci = ar * bi + ai * br;
+            re[k] = cr;
+            im[k] = ci;
+            re[m] = cr;
+            im[m] = -ci;
+        }
+
+        internalTransform(re, im, n, true);
+
+        final var scale = 1.0 / n;
+        for (var i = 0; i < resultLength; i++) {
+            result[resultOffset + i] = re[i] * scale;
+        }
+    }
+
+    /**
+     * Releases working buffers and twiddle factors kept between calls.
+     * They are computed again on next call.
+     */
+    public void releaseWorkspace() {
+        cosines = new double[0];
+        sines = new double[0];
+        real = new double[0];
+        imaginary = new double[0];
+    }
+
+    /**
+     * Computes forward or inverse transform in place without scaling.
+     *
+     * @param re      real parts.
+     * @param im      imaginary parts.
+     * @param n       length of transform. Must be a power of 2.
+     * @param inverse true to compute inverse transform, false to compute
+     *                forward transform.
+     */
+    private void internalTransform(final double[] re, final double[] im, final int n, final boolean inverse) {
+        ensureTwiddleCapacity(n);
+
+        // bit reversal permutation
+        for (int i = 1, j = 0; i < n; i++) {
+            var bit = n >> 1;
+            while ((j & bit) != 0) {
+                j ^= bit;
+                bit >>= 1;
+            }
+            j ^= bit;
+            if (i < j) {
+                var tmp = re[i];
+                re[i] = re[j];
+                re[j] = tmp;
+                tmp = im[i];
+                im[i] = im[j];
+                im[j] = tmp;
+            }
+        }
+
+        // butterflies
+        final var tableLength = 2 * cosines.length;
+        final var sign = inverse ? 1.0 : -1.0;
+        for (var len = 2; len <= n; len <<= 1) {
+            final var half = len >> 1;
+            final var step = tableLength / len;
+            for (var start = 0; start < n; start += len) {
+                for (int k = 0, t = 0; k < half; k++, t += step) {
+                    final var wr = cosines[t];
+                    final var wi = sign * sines[t];
+                    final var p = start + k;
+                    final var q = p + half;
+                    final var vr = re[q] * wr - im[q] * wi;
+                    final var vi = re[q] * wi + im[q] * wr;
+                    re[q] = re[p] - vr;
+                    im[q] = im[p] - vi;
+                    re[p] += vr;
+                    im[p] += vi;
+                }
+            }
+        }
+    }
+
+    /**
+     * Ensures that twiddle factors are available for transforms of provided
+     * length.
+     *
+     * @param n length of transform.
+     */
+    private void ensureTwiddleCapacity(final int n) {
+        final var half = n >> 1;
+        if (cosines.length >= half) {
+            return;
+        }
+
+        cosines = new double[half];
+        sines = new double[half];
+        for (var k = 0; k < half; k++) {
+            final var angle = 2.0 * Math.PI * k / n;
+            cosines[k] = Math.cos(angle);
+            sines[k] = Math.sin(angle);
+        }
+    }
+
+    /**
+     * Ensures that working buffers used for convolution have at least
+     * provided length.
+     *
+     * @param n required length.
+     */
+    private void ensureBufferCapacity(final int n) {
+        if (real.length < n) {
+            real = new double[n];
+            imaginary = new double[n];
+        }
+    }
+
+    /**
+     * Checks that provided arrays can hold a transform of provided length.
+     *
+     * @param re     real parts.
+     * @param im     imaginary parts.
+     * @param length length of transform.
+     * @throws IllegalArgumentException if length is not a power of 2 or arrays
+     *                                  are null or too short.
+     */
+    private static void checkTransform(final double[] re, final double[] im, final int length) {
+        if (re == null || im == null || length < MIN_TRANSFORM_LENGTH || Integer.bitCount(length) != 1
+                || re.length < length || im.length < length) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Checks that provided range lies within provided array.
+     *
+     * @param array  array to be checked.
+     * @param offset start position of range.
+     * @param length length of range.
+     * @throws IllegalArgumentException if array is null, length is less than 1
+     *                                  or range lies outside array.
+     */
+    private static void checkRange(final double[] array, final int offset, final int length) {
+        if (array == null || offset < 0 || length < 1 || offset > array.length - length) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
@@ -0,0 +1,885 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+import com.irurueta.algebra.Matrix;
+
+import java.io.Serializable;
+
+/**
+ * Implementation of a Kalman filter having a fixed number of dynamic,
+ * measurement and control parameters, which does not allocate memory while
+ * predicting or correcting its state.
+ * This class follows the same notation and formulae as {@link KalmanFilter},
+ * and both yield the same states and covariances up to rounding errors, but
+ * all matrices are stored as arrays in row-major order, so that matrix
+ * products are computed in place into buffers allocated once on construction.
+ * <p>
+ * Products involving transposed matrices, such as A*P*A<sup>T</sup> or
+ * H*P'*H<sup>T</sup>, are computed as dot products of rows, hence no
+ * transposed matrix is ever built. Since error covariance matrices are
+ * symmetric, only their upper triangle is computed and then mirrored, and the
+ * innovation covariance matrix (H*P'*H<sup>T</sup> + R) is factorized by
+ * Cholesky decomposition to compute the Kalman gain.
+ * <p>
+ * This filter is meant for many small filters updated at high rates. Matrices
+ * cannot be resized, and provided values are copied into internal arrays.
+ * To avoid allocations, getters return those internal arrays without copying
+ * them. Returned arrays are live state of the filter: they are overwritten by
+ * later predictions and corrections, and writing into them changes the filter
+ * without the checks done by setters.
+ */
+public class FastKalmanFilter implements Serializable {
+
+    /**
+     * Maximum allowed difference between symmetric elements of matrices
+     * required to be symmetric, relative to the largest absolute value of the
+     * matrix.
+     */
+    public static final double SYMMETRIC_THRESHOLD = 1e-12;
+
+    /**
+     * Number of measurement vector dimensions (measure parameters).
+     */
+    private final int mp;
+
+    /**
+     * Number of state vector dimensions (dynamic parameters).
+     */
+    private final int dp;
+
+    /**
+     * Number of control vector dimensions (control parameters).
+     */
+    private final int cp;
+
+    /**
+     * Predicted state (x'(k)): x(k)=A*x(k-1)+B*u(k)
+     */
+    private final double[] statePre;
+
+    /**
+     * Corrected state (x(k)): x(k)=x'(k)+K(k)*(z(k)-H*x'(k))
+     */
+    private final double[] statePost;
+
+    /**
+     * State transition matrix (A), stored in row-major order.
+     */
+    private final double[] transitionMatrix;
+
+    /**
+     * Control matrix (B), stored in row-major order (it is null if there is
+     * no control).
+     */
+    private final double[] controlMatrix;
+
+    /**
+     * Measurement matrix (H), stored in row-major order.
+     */
+    private final double[] measurementMatrix;
+
+    /**
+     * Process noise covariance matrix (Q), stored in row-major order.
+     */
+    private final double[] processNoiseCov;
+
+    /**
+     * Measurement noise covariance matrix (R), stored in row-major order.
+     */
+    private final double[] measurementNoiseCov;
+
+    /**
+     * Priori error estimate covariance matrix (P'(k)): P'(k)=A*P(k-1)*At + Q),
+     * stored in row-major order.
+     */
+    private final double[] errorCovPre;
+
+    /**
+     * Kalman gain matrix (K(k)): K(k)=P'(k)*Ht*inv(H*P'(k)*Ht+R), stored in
+     * row-major order.
+     */
+    private final double[] gain;
+
+    /**
+     * Posteriori error estimate covariance matrix (P(k)): P(k)=(I-K(k)*H)*P'(k),
+     * stored in row-major order.
+     */
+    private final double[] errorCovPost;
+
+    // buffers to be reused to avoid allocations
+
+    /**
+     * Contains A*P(k-1) (dp rows and columns).
+     */
+    private final double[] transitionTimesErrorCov;
+
+    /**
+     * Contains H*P'(k) (mp rows and dp columns).
+     */
+    private final double[] measurementTimesErrorCov;
+
+    /**
+     * Contains innovation covariance matrix H*P'(k)*Ht + R (mp rows and
+     * columns), which is replaced by its Cholesky factor.
+     */
+    private final double[] innovationCov;
+
+    /**
+     * Contains the transposed Kalman gain (mp rows and dp columns).
+     */
+    private final double[] gainTransposed;
+
+    /**
+     * Contains the innovation z(k)-H*x'(k).
+     */
+    private final double[] innovation;
+
+    /**
+     * Allocates a Kalman filter and all its matrices and initializes them
+     * with the same default values as {@link KalmanFilter}.
+     *
+     * @param dynamParams   number of dynamic parameters (state vector dimensions).
+     * @param measureParams number of measurement parameters (measurement vector
+     *                      dimensions).
+     * @param controlParams number of control parameters (control vector.
+     *                      dimensions). If zero, no control parameters are used. If less than zero,
+     *                      it is assumed that this is equal to the number of dynamic parameters.
+     * @throws IllegalArgumentException if either the number of dynamic or
+     *                                  measurement parameters is zero or negative.
+     */
+    public FastKalmanFilter(final int dynamParams, final int measureParams, final int controlParams) {
+        if (dynamParams <= 0 || measureParams <= 0) {
+            throw new IllegalArgumentException("Kalman filter: Illegal dimensions");
+        }
+
+        dp = dynamParams;
+        mp = measureParams;
+        cp = controlParams < 0 ? dynamParams : controlParams;
+
+        statePre = new double[dp];
+        statePost = new double[dp];
+        transitionMatrix = identity(dp, dp, 1.0);
+        controlMatrix = cp > 0 ? new double[dp * cp] : null;
+        measurementMatrix = identity(mp, dp, 1.0);
+        processNoiseCov = identity(dp, dp, KalmanFilter.DEFAULT_PROCESS_NOISE_VARIANCE);
+        measurementNoiseCov = identity(mp, mp, KalmanFilter.DEFAULT_MEASUREMENT_NOISE_VARIANCE);
+        errorCovPre = new double[dp * dp];
+        gain = new double[dp * mp];
+        errorCovPost = identity(dp, dp, 1.0);
+
+        transitionTimesErrorCov = new double[dp * dp];
+        measurementTimesErrorCov = new double[mp * dp];
+        innovationCov = new double[mp * mp];
+        gainTransposed = new double[mp * dp];
+        innovation = new double[mp];
+    }
+
+    /**
+     * Constructor in case of no control parameters.
+     *
+     * @param dynamParams   number of dynamic parameters (state vector dimensions).
+     * @param measureParams number of measurement parameters (measurement vector
+     *                      dimensions).
+     * @throws IllegalArgumentException if either the number of dynamic or
+     *                                  measurement parameters is zero or negative.
+     */
+    public FastKalmanFilter(final int dynamParams, final int measureParams) {
+        this(dynamParams, measureParams, 0);
+    }
+
+    /**
+     * Constructor copying dimensions, matrices and current state of provided
+     * Kalman filter.
+     * Error covariance matrices are made exactly symmetric by averaging their
+     * symmetric elements.
+     *
+     * @param filter Kalman filter to copy from.
+     * @throws IllegalArgumentException if provided filter is null.
+     */
+    public FastKalmanFilter(final KalmanFilter filter) {
+        this(getDynamicParameters(filter), filter.getMeasureParameters(), filter.getControlParameters());
+
+        copy(filter.getStatePre(), statePre);
+        copy(filter.getStatePost(), statePost);
+        copy(filter.getTransitionMatrix(), transitionMatrix);
+        if (controlMatrix != null) {
+            copy(filter.getControlMatrix(), controlMatrix);
+        }
+        copy(filter.getMeasurementMatrix(), measurementMatrix);
+        copy(filter.getProcessNoiseCov(), processNoiseCov);
+        copy(filter.getMeasurementNoiseCov(), measurementNoiseCov);
+        copy(filter.getErrorCovPre(), errorCovPre);
+        copy(filter.getGain(), gain);
+        copy(filter.getErrorCovPost(), errorCovPost);
+        symmetrize(errorCovPre, dp);
+        symmetrize(errorCovPost, dp);
+    }
+
+    /**
+     * Estimates subsequent model state without control parameters.
+     *
+     * @return estimated state.
+     * @see #predict(double[])
+     */
+    public double[] predict() {
+        return predict(null);
+    }
+
+    /**
+     * Estimates subsequent model state.
+     * The function estimates the subsequent stochastic model state by its
+     * current state and stores it at <code>statePre</code>:
+     * <pre>
+     * {@code
+     * x'<sub>k</sub>=A*x<sub>k</sub>+B*u<sub>k</sub>
+     * P'<sub>k</sub>=A*P<sub>k-1</sub>*A<sup>T</sup> + Q,
+     * }
+     * </pre>
+     *
+     * @param control control vector (u<sub>k</sub>), should be null if there is
+     *                no external control (<code>controlParams</code>=0). If provided and
+     *                filter uses control parameters, it must have cp elements (where cp
+     *                = number of control parameters).
+     * @return estimated state having dp elements (where dp = number of dynamic
+     * parameters). Returned array is the internal predicted state.
+     * @throws IllegalArgumentException if provided control vector does not
+     *                                  have cp elements.
+     */
+    public double[] predict(final double[] control) {
+        final var useControl = control != null && cp > 0;
+        if (useControl && control.length != cp) {
+            throw new IllegalArgumentException();
+        }
+
+        // x'(k) = A*x(k) + B*u(k)
+        for (var i = 0; i < dp; i++) {
+            var value = dot(transitionMatrix, i * dp, statePost, 0, dp);
+            if (useControl) {
+                value += dot(controlMatrix, i * cp, control, 0, cp);
+            }
+            statePre[i] = value;
+        }
+
+        // A*P(k), where P(k) is symmetric, hence each element is the dot
+        // product of a row of A and a row of P(k)
+        for (var i = 0; i < dp; i++) {
+            for (var j = 0; j < dp; j++) {
+                transitionTimesErrorCov[i * dp + j] = dot(transitionMatrix, i * dp, errorCovPost, j * dp, dp);
+            }
+        }
+
+        // P'(k) = A*P(k)*At + Q is symmetric
+        for (var i = 0; i < dp; i++) {
+            for (var j = i; j < dp; j++) {
+                errorCovPre[i * dp + j] = dot(transitionTimesErrorCov, i * dp, transitionMatrix, j * dp, dp)
+                        + processNoiseCov[i * dp + j];
+            }
+        }
+        mirrorUpperTriangle(errorCovPre, dp);
+
+        return statePre;
+    }
+
+    /**
+     * Adjusts model state.
+     * This method adjusts stochastic model state on the basis of the given
+     * measurement of the model state:
+     * <pre>
+     * {@code
+     * K<sub>k</sub>=P'<sub>k</sub>*H<sup>T</sup>*(H*P'<sub>k</sub>*H<sup>T</sup>+R)<sup>-1</sup>
+     * x<sub>k</sub>=x'<sub>k</sub>+K<sub>k</sub>*(z<sub>k</sub>-H*x'<sub>k</sub>)
+     * P<sub>k</sub>=(I-K<sub>k</sub>*H)*P'<sub>k</sub>
+     * }
+     * </pre>
+     * <p>
+     * The function stores adjusted state at <code>statePost</code> and returns
+     * it on output.
+     *
+     * @param measurement measurement vector having mp elements (mp =
+     *                    measurement parameters).
+     * @return adjusted model state. Returned array is the internal corrected
+     * state.
+     * @throws IllegalArgumentException  if provided measurement is null or
+     *                                   does not have mp elements.
+     * @throws SignalProcessingException if innovation covariance matrix is not
+     *                                   positive definite.
+     */
+    public double[] correct(final double[] measurement) throws SignalProcessingException {
+        if (measurement == null || measurement.length != mp) {
+            throw new IllegalArgumentException();
+        }
+
+        // H*P'(k), where P'(k) is symmetric
+        for (var i = 0; i < mp; i++) {
+            for (var j = 0; j < dp; j++) {
+                measurementTimesErrorCov[i * dp + j] = dot(measurementMatrix, i * dp, errorCovPre, j * dp, dp);
+            }
+        }
+
+        // S = H*P'(k)*Ht + R is symmetric, hence only its lower triangle is
+        // computed and factorized as S = L*Lt
+        for (var i = 0; i < mp; i++) {
+            for (var j = 0; j <= i; j++) {
+                innovationCov[i * mp + j] = dot(measurementTimesErrorCov, i * dp, measurementMatrix, j * dp, dp)
+                        + measurementNoiseCov[i * mp + j];
+            }
+        }
+        choleskyDecompose(innovationCov, mp);
+
+        // Kt(k) = inv(S)*H*P'(k)
+        System.arraycopy(measurementTimesErrorCov, 0, gainTransposed, 0, mp * dp);
+        choleskySolve(innovationCov, mp, gainTransposed, dp);
+
+        // x(k) = x'(k) + K(k)*(z(k) - H*x'(k))
+        for (var i = 0; i < mp; i++) {
+            innovation[i] = measurement[i] - dot(measurementMatrix, i * dp, statePre, 0, dp);
+        }
+        System.arraycopy(statePre, 0, statePost, 0, dp);
+        for (var k = 0; k < mp; k++) {
+            final var value = innovation[k];
+            final var offset = k * dp;
+            for (var i = 0; i < dp; i++) {
+                statePost[i] += gainTransposed[offset + i] * value;
+            }
+        }
+
+        // P(k) = P'(k) - K(k)*H*P'(k) is symmetric
+        System.arraycopy(errorCovPre, 0, errorCovPost, 0, dp * dp);
+        for (var k = 0; k < mp; k++) {
+            final var offset = k * dp;
+            for (var i = 0; i < dp; i++) {
+                final var value = gainTransposed[offset + i];
+                final var row = i * dp;
+                for (var j = i; j < dp; j++) {
+                    errorCovPost[row + j] -= value * measurementTimesErrorCov[offset + j];
+                }
+            }
+        }
+        mirrorUpperTriangle(errorCovPost, dp);
+
+        for (var i = 0; i < dp; i++) {
+            for (var k = 0; k < mp; k++) {
+                gain[i * mp + k] = gainTransposed[k * dp + i];
+            }
+        }
+
+        return statePost;
+    }
+
+    /**
+     * Obtains the number of measurement vector dimensions (measure parameters).
+     *
+     * @return number of measurement vector dimensions (measure parameters)
+     */
+    public int getMeasureParameters() {
+        return mp;
+    }
+
+    /**
+     * Obtains the number of state vector dimensions (dynamic parameters).
+     *
+     * @return number of state vector dimensions (dynamic parameters)
+     */
+    public int getDynamicParameters() {
+        return dp;
+    }
+
+    /**
+     * Obtains the number of control vector dimensions (control parameters).
+     *
+     * @return number of control vector dimensions (control parameters)
+     */
+    public int getControlParameters() {
+        return cp;
+    }
+
+    /**
+     * Obtains predicted state (x'(k)): x(k)=A*x(k-1)+B*u(k).
+     * It has dp elements, where dp is the number of dynamic parameters.
+     * The returned array is internal state of this filter and is not copied.
+     *
+     * @return predicted state
+     */
+    public double[] getStatePre() {
+        return statePre;
+    }
+
+    /**
+     * Sets predicted state (x'(k)): x(k)=A*x(k-1)+B*u(k).
+     * Provided array must have dp elements, where dp is the number of dynamic
+     * parameters set for this Kalman filter instance.
+     * This setter method can be used for initial setup purposes.
+     *
+     * @param statePre new predicted state.
+     * @throws IllegalArgumentException if provided array does not have dp
+     *                                  elements.
+     */
+    public void setStatePre(final double[] statePre) {
+        copy(statePre, this.statePre);
+    }
+
+    /**
+     * Obtains corrected state (x(k)): x(k)=x'(k)+K(k)*(z(k)-H*x'(k)).
+     * It has dp elements, where dp is the number of dynamic parameters.
+     * The returned array is internal state of this filter and is not copied.
+     *
+     * @return corrected state
+     */
+    public double[] getStatePost() {
+        return statePost;
+    }
+
+    /**
+     * Sets corrected state (x(k)): x(k)=x'(k)+K(k)*(z(k)-H*x'(k)).
+     * Provided array must have dp elements, where dp is the number of dynamic
+     * parameters set for this Kalman filter instance.
+     * This setter method can be used for initial setup purposes.
+     *
+     * @param statePost new corrected state
+     * @throws IllegalArgumentException if provided array does not have dp
+     *                                  elements.
+     */
+    public void setStatePost(final double[] statePost) {
+        copy(statePost, this.statePost);
+    }
+
+    /**
+     * Obtains the state transition matrix (A) in row-major order.
+     * It is a square matrix having dp rows and columns, where dp is equal to
+     * the number of dynamic parameters.
+     * The returned array is internal state of this filter and is not copied.
+     *
+     * @return state transition matrix
+     */
+    public double[] getTransitionMatrix() {
+        return transitionMatrix;
+    }
+
+    /**
+     * Sets the state transition matrix (A) in row-major order.
+     * It must be a square matrix having dp rows and columns, where dp is equal
+     * to the number of dynamic parameters set for this instance.
+     *
+     * @param transitionMatrix new state transition matrix
+     * @throws IllegalArgumentException if provided array does not have dp*dp
+     *                                  elements.
+     */
+    public void setTransitionMatrix(final double[] transitionMatrix) {
+        copy(transitionMatrix, this.transitionMatrix);
+    }
+
+    /**
+     * Obtains the control matrix (B) in row-major order (it is null if there
+     * is no control).
+     * It's a matrix having dp rows and cp columns, where dp is the number of
+     * dynamic parameters and cp is the number of control parameters.
+     * The returned array is internal state of this filter and is not copied.
+     *
+     * @return control matrix
+     */
+    public double[] getControlMatrix() {
+        return controlMatrix;
+    }
+
+    /**
+     * Sets the control matrix (B) in row-major order.
+     * Provided matrix must have dp rows and cp columns, where dp is the number
+     * of dynamic parameters and cp is the number of control parameters set for
+     * this Kalman filter instance.
+     *
+     * @param controlMatrix new control matrix to be set.
+     * @throws IllegalArgumentException if there are no control parameters or
+     *                                  provided array does not have dp*cp
+     *                                  elements.
+     */
+    public void setControlMatrix(final double[] controlMatrix) {
+        if (this.controlMatrix == null) {
+            // control matrix cannot be set
+            throw new IllegalArgumentException();
+        }
+        copy(controlMatrix, this.controlMatrix);
+    }
+
+    /**
+     * Obtains measurement matrix (H) in row-major order.
+     * It's a matrix having mp rows and dp columns, where mp is the number
+     * of measurement parameters and dp is the number of dynamic parameters of
+     * the system state.
+     * The returned array is internal state of this filter and is not copied.
+     *
+     * @return measurement matrix
+     */
+    public double[] getMeasurementMatrix() {
+        return measurementMatrix;
+    }
+
+    /**
+     * Sets measurement matrix (H) in row-major order.
+     * Provided matrix must have mp rows and dp columns, where mp is the number
+     * of measurement parameters and dp is the number of dynamic parameters of
+     * the system state.
+     *
+     * @param measurementMatrix measurement matrix
+     * @throws IllegalArgumentException if provided array does not have mp*dp
+     *                                  elements.
+     */
+    public void setMeasurementMatrix(final double[] measurementMatrix) {
+        copy(measurementMatrix, this.measurementMatrix);
+    }
+
+    /**
+     * Obtains the process noise covariance matrix (Q) in row-major order.
+     * It is a square symmetric matrix having dp rows and columns, where dp is
+     * the number of dynamic parameters containing the system state.
+     * The returned array is internal state of this filter and is not copied.
+     * Values written into it must keep the matrix symmetric, since they
+     * bypass the check done by {@link #setProcessNoiseCov(double[])}.
+     *
+     * @return the process noise covariance matrix
+     */
+    public double[] getProcessNoiseCov() {
+        return processNoiseCov;
+    }
+
+    /**
+     * Sets the process noise covariance matrix (Q) in row-major order.
+     * It must be a square symmetric matrix having dp rows and columns, where
+     * dp is the number of dynamic parameters containing the system state.
+     *
+     * @param processNoiseCov process noise covariance matrix
+     * @throws IllegalArgumentException if provided array does not have dp*dp
+     *                                  elements, or it is not symmetric.
+     */
+    public void setProcessNoiseCov(final double[] processNoiseCov) {
+        copySymmetric(processNoiseCov, this.processNoiseCov, dp);
+    }
+
+    /**
+     * Obtains the measurement noise covariance matrix (R) in row-major order.
+     * It is a square symmetric matrix having mp rows and columns, where mp is
+     * the number of measurement parameters.
+     * The returned array is internal state of this filter and is not copied.
+     * Values written into it must keep the matrix symmetric, since they
+     * bypass the check done by {@link #setMeasurementNoiseCov(double[])}.
+     *
+     * @return the measurement noise covariance matrix
+     */
+    public double[] getMeasurementNoiseCov() {
+        return measurementNoiseCov;
+    }
+
+    /**
+     * Sets the measurement noise covariance matrix (R) in row-major order.
+     * It must be a square symmetric matrix having mp rows and columns, where
+     * mp is the number of measurement parameters.
+     *
+     * @param measurementNoiseCov new measurement noise covariance matrix
+     * @throws IllegalArgumentException if provided array does not have mp*mp
+     *                                  elements, or it is not symmetric.
+     */
+    public void setMeasurementNoiseCov(final double[] measurementNoiseCov) {
+        copySymmetric(measurementNoiseCov, this.measurementNoiseCov, mp);
+    }
+
+    /**
+     * Obtains the priori error estimate covariance matrix
+     * (P'(k)): P'(k)=A*P(k-1)*At + Q) in row-major order.
+     * It is a square symmetric matrix having dp rows and columns, where dp
+     * is the number of dynamic parameters of the system state.
+     * The returned array is internal state of this filter and is not copied.
+     * Values written into it must keep the matrix symmetric, since they
+     * bypass the check done by {@link #setErrorCovPre(double[])}.
+     *
+     * @return the priori error estimate covariance matrix
+     */
+    public double[] getErrorCovPre() {
+        return errorCovPre;
+    }
+
+    /**
+     * Sets the priori error estimate covariance matrix
+     * (P'(k)): P'(k)=A*P(k-1)*At + Q) in row-major order.
+     * It must be a square symmetric matrix having dp rows and columns, where
+     * dp is the number of dynamic parameters of the system state.
+     *
+     * @param errorCovPre new priori error estimate covariance matrix
+     * @throws IllegalArgumentException if provided array does not have dp*dp
+     *                                  elements, or it is not symmetric.
+     */
+    public void setErrorCovPre(final double[] errorCovPre) {
+        copySymmetric(errorCovPre, this.errorCovPre, dp);
+    }
+
+    /**
+     * Obtains the Kalman gain matrix (K(k)): K(k)=P'(k)*Ht*inv(H*P'(k)*Ht+R)
+     * in row-major order.
+     * The gain matrix has dp rows and mp columns, where dp is the number of
+     * dynamic parameters and mp is the number of measure parameters.
+     * The returned array is internal state of this filter and is not copied.
+     *
+     * @return the Kalman gain matrix
+     */
+    public double[] getGain() {
+        return gain;
+    }
+
+    /**
+     * Obtains the posteriori error estimate covariance matrix
+     * (P(k)): P(k)=(I-K(k)*H)*P'(k) in row-major order.
+     * It is a square symmetric matrix having dp rows and columns, where dp
+     * is the number of dynamic parameters of the system state.
+     * The returned array is internal state of this filter and is not copied.
+     * Values written into it must keep the matrix symmetric, since they
+     * bypass the check done by {@link #setErrorCovPost(double[])}.
+     *
+     * @return the posteriori error estimate covariance matrix
+     */
+    public double[] getErrorCovPost() {
+        return errorCovPost;
+    }
+
+    /**
+     * Sets the posteriori error estimate covariance matrix
+     * (P(k)): P(k)=(I-K(k)*H)*P'(k) in row-major order.
+     * It must be a square symmetric matrix having dp rows and columns, where
+     * dp is the number of dynamic parameters of the system state.
+     *
+     * @param errorCovPost new posteriori error estimate covariance matrix
+     * @throws IllegalArgumentException if provided array does not have dp*dp
+     *                                  elements, or it is not symmetric.
+     */
+    public void setErrorCovPost(final double[] errorCovPost) {
+        copySymmetric(errorCovPost, this.errorCovPost, dp);
+    }
+
+    /**
+     * Gets number of dynamic parameters of provided filter.
+     *
+     * @param filter a Kalman filter.
+     * @return number of dynamic parameters.
+     * @throws IllegalArgumentException if provided filter is null.
+     */
+    private static int getDynamicParameters(final KalmanFilter filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException();
+        }
+        return filter.getDynamicParameters();
+    }
+
+    /**
+     * Creates a matrix in row-major order having provided value on its
+     * diagonal and zeros elsewhere.
+     *
+     * @param rows    number of rows.
+     * @param columns number of columns.
+     * @param value   value of diagonal elements.
+     * @return a new array containing the matrix.
+     */
+    private static double[] identity(final int rows, final int columns, final double value) {
+        final var result = new double[rows * columns];
+        final var n = Math.min(rows, columns);
+        for (var i = 0; i < n; i++) {
+            result[i * columns + i] = value;
+        }
+        return result;
+    }
+
+    /**
+     * Computes dot product of provided ranges of two arrays.
+     *
+     * @param a       first array.
+     * @param aOffset position where range of first array starts.
+     * @param b       second array.
+     * @param bOffset position where range of second array starts.
+     * @param length  length of both ranges.
+     * @return dot product.
+     */
+    private static double dot(final double[] a, final int aOffset, final double[] b, final int bOffset,
+                              final int length) {
+        var result = 0.0;
+        for (var k = 0; k < length; k++) {
+            result += a[aOffset + k] * b[bOffset + k];
+        }
+        return result;
+    }
+
+    /**
+     * Copies upper triangle of a square matrix into its lower triangle.
+     *
+     * @param m matrix in row-major order.
+     * @param n number of rows and columns.
+     */
+    private static void mirrorUpperTriangle(final double[] m, final int n) {
+        for (var i = 1; i < n; i++) {
+            for (var j = 0; j < i; j++) {
+                m[i * n + j] = m[j * n + i];
+            }
+        }
+    }
+
+    /**
+     * Makes a square matrix exactly symmetric by averaging its symmetric
+     * elements.
+     *
+     * @param m matrix in row-major order.
+     * @param n number of rows and columns.
+     */
+    private static void symmetrize(final double[] m, final int n) {
+        for (var i = 0; i < n; i++) {
+            for (var j = i + 1; j < n; j++) {
+                final var value = 0.5 * (m[i * n + j] + m[j * n + i]);
+                m[i * n + j] = value;
+                m[j * n + i] = value;
+            }
+        }
+    }
+
+    /**
+     * Factorizes a symmetric positive definite matrix as L*Lt in place, where
+     * L is lower triangular. Only the lower triangle of provided matrix is
+     * read, and it is replaced by L.
+     *
+     * @param m matrix in row-major order.
+     * @param n number of rows and columns.
+     * @throws SignalProcessingException if matrix is not positive definite.
+     */
+    private static void choleskyDecompose(final double[] m, final int n) throws SignalProcessingException {
+        for (var i = 0; i < n; i++) {
+            final var rowI = i * n;
+            for (var j = 0; j <= i; j++) {
+                final var rowJ = j * n;
+                final var sum = m[rowI + j] - dot(m, rowI, m, rowJ, j);
+                if (i == j) {
+                    if (sum <= 0.0) {
+                        throw new SignalProcessingException();
+                    }
+                    m[rowI + i] = Math.sqrt(sum);
+                } else {
+                    m[rowI + j] = sum / m[rowJ + j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Solves L*Lt*X = B in place, where L is the Cholesky factor of a matrix.
+     * Substitutions are done on whole rows of B, so that memory is traversed
+     * contiguously.
+     *
+     * @param l       Cholesky factor in row-major order.
+     * @param n       number of rows and columns of L.
+     * @param b       matrix having n rows in row-major order. Contains X when
+     *                this method returns.
+     * @param columns number of columns of B.
+     */
+    private static void choleskySolve(final double[] l, final int n, final double[] b, final int columns) {
+        // forward substitution L*Y = B
+        for (var i = 0; i < n; i++) {
+            final var rowI = i * columns;
+            for (var k = 0; k < i; k++) {
+                final var factor = l[i * n + k];
+                final var rowK = k * columns;
+                for (var j = 0; j < columns; j++) {
+                    b[rowI + j] -= factor * b[rowK + j];
+                }
+            }
+            final var diagonal = l[i * n + i];
+            for (var j = 0; j < columns; j++) {
+                b[rowI + j] /= diagonal;
+            }
+        }
+
+        // backward substitution Lt*X = Y
+        for (var i = n - 1; i >= 0; i--) {
+            final var rowI = i * columns;
+            for (var k = i + 1; k < n; k++) {
+                final var factor = l[k * n + i];
+                final var rowK = k * columns;
+                for (var j = 0; j < columns; j++) {
+                    b[rowI + j] -= factor * b[rowK + j];
+                }
+            }
+            final var diagonal = l[i * n + i];
+            for (var j = 0; j < columns; j++) {
+                b[rowI + j] /= diagonal;
+            }
+        }
+    }
+
+    /**
+     * Copies provided values into provided internal array.
+     *
+     * @param source      values to be copied.
+     * @param destination internal array.
+     * @throws IllegalArgumentException if source is null or does not have the
+     *                                  same length as destination.
+     */
+    private static void copy(final double[] source, final double[] destination) {
+        if (source == null || source.length != destination.length) {
+            throw new IllegalArgumentException();
+        }
+        System.arraycopy(source, 0, destination, 0, destination.length);
+    }
+
+    /**
+     * Copies provided symmetric matrix into provided internal array, making
+     * it exactly symmetric.
+     * Symmetric elements can differ up to {@link #SYMMETRIC_THRESHOLD} times
+     * the largest absolute value of the matrix.
+     *
+     * @param source      matrix in row-major order.
+     * @param destination internal array.
+     * @param n           number of rows and columns.
+     * @throws IllegalArgumentException if source is null, does not have n*n
+     *                                  elements or is not symmetric.
+     */
+    private static void copySymmetric(final double[] source, final double[] destination, final int n) {
+        if (source == null || source.length != n * n) {
+            throw new IllegalArgumentException();
+        }
+        var maxAbs = 0.0;
+        for (final var value : source) {
+            maxAbs = Math.max(maxAbs, Math.abs(value));
+        }
+        final var threshold = SYMMETRIC_THRESHOLD * maxAbs;
+        for (var i = 0; i < n; i++) {
+            for (var j = i + 1; j < n; j++) {
+                if (Math.abs(source[i * n + j] - source[j * n + i]) > threshold) {
+                    throw new IllegalArgumentException();
+                }
+            }
+        }
+        System.arraycopy(source, 0, destination, 0, destination.length);
+        symmetrize(destination, n);
+    }
+
+    /**
+     * Copies provided matrix into provided internal array in row-major order.
+     *
+     * @param source      matrix to be copied.
+     * @param destination internal array.
+     */
+    private static void copy(final Matrix source, final double[] destination) {
+        final var rows = source.getRows();
+        final var columns = source.getColumns();
+        for (var i = 0; i < rows; i++) {
+            for (var j = 0; j < columns; j++) {
+                destination[i * columns + j] = source.getElementAt(i, j);
+            }
+        }
+    }
+}
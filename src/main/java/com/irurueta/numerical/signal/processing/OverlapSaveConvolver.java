@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+/**
+ * Convolves long sequences with a fixed kernel by blocks by means of fast
+ * Fourier transforms following the overlap-save method.
+ * The transform of the kernel is computed once on construction. Each block of
+ * the input sequence is then transformed, multiplied by the transform of the
+ * kernel and inversely transformed, keeping only those output samples that are
+ * not affected by circular wrap-around.
+ * Since both the kernel and the input sequence are real, two consecutive blocks
+ * are packed as the real and imaginary parts of a single complex sequence, so
+ * that each pair of blocks only requires one forward and one inverse
+ * transform.
+ * Working buffers are kept between calls, so that no memory is allocated while
+ * convolving. Instances of this class are not thread-safe.
+ */
+class OverlapSaveConvolver {
+
+    /**
+     * Factor relating transform length and kernel length. Larger transforms
+     * amortize the samples that are discarded on each block at the expense of a
+     * larger cost per sample.
+     */
+    private static final int TRANSFORM_LENGTH_FACTOR = 4;
+
+    /**
+     * Minimum transform length.
+     */
+    private static final int MIN_TRANSFORM_LENGTH = 64;
+
+    /**
+     * Length of kernel.
+     */
+    private final int kernelLength;
+
+    /**
+     * Length of transforms.
+     */
+    private final int transformLength;
+
+    /**
+     * Number of valid output samples obtained on each block.
+     */
+    private final int blockLength;
+
+    /**
+     * Real parts of transform of kernel.
+     */
+    private final double[] kernelReal;
+
+    /**
+     * Imaginary parts of transform of kernel.
+     */
+    private final double[] kernelImaginary;
+
+    /**
+     * Real parts of working buffer.
+     */
+    private final double[] real;
+
+    /**
+     * Imaginary parts of working buffer.
+     */
+    private final double[] imaginary;
+
+    /**
+     * Computes fast Fourier transforms.
+     */
+    private final FastFourierTransformer transformer = new FastFourierTransformer();
+
+    /**
+     * Constructor.
+     *
+     * @param kernel          kernel to convolve with.
+     * @param transformLength length of transforms. Must be a power of 2 not
+     *                        less than kernel length.
+     */
+    OverlapSaveConvolver(final double[] kernel, final int transformLength) {
+        kernelLength = kernel.length;
+        this.transformLength = transformLength;
+        blockLength = transformLength - kernelLength + 1;
+
+        kernelReal = new double[transformLength];
+        kernelImaginary = new double[transformLength];
+        real = new double[transformLength];
+        imaginary = new double[transformLength];
+
+        System.arraycopy(kernel, 0, kernelReal, 0, kernelLength);
+        transformer.transform(kernelReal, kernelImaginary, transformLength);
+    }
+
+    /**
+     * Gets number of valid output samples obtained on each block.
+     *
+     * @return number of output samples per block.
+     */
+    int getBlockLength() {
+        return blockLength;
+    }
+
+    /**
+     * Computes valid part of linear convolution of provided input sequence,
+     * this is: output[n] = sum_j(input[n + kernelLength - 1 - j] * kernel[j]),
+     * for n = 0, ... outputLength - 1.
+     *
+     * @param input        array containing input sequence. It must contain
+     *                     outputLength + kernelLength - 1 samples starting at
+     *                     provided offset.
+     * @param inputOffset  position where input sequence starts.
+     * @param outputLength number of output samples to compute.
+     * @param output       array where output samples are stored.
+     * @param outputOffset position where output samples are stored.
+     * @param listener     listener to be notified of progress after each pair of
+     *                     blocks, or null.
+     */
+    void convolve(final double[] input, final int inputOffset, final int outputLength,
+                  final double[] output, final int outputOffset, final Convolver1D.Convolver1DListener listener) {
+        final var n = transformLength;
+        final var re = real;
+        final var im = imaginary;
+        final var hr = kernelReal;
+        final var hi = kernelImaginary;
+        final var discarded = kernelLength - 1;
+
+        for (var done = 0; done < outputLength; done += 2 * blockLength) {
+            // first block of pair is stored in real parts and second block in
+            // imaginary parts
+            final var first = Math.min(blockLength, outputLength - done);
+            final var second = Math.min(blockLength, outputLength - done - first);
+            copyBlock(input, inputOffset + done, first + discarded, re);
+            if (second > 0) {
+                copyBlock(input, inputOffset + done + first, second + discarded, im);
+            } else {
+                copyBlock(input, 0, 0, im);
+            }
+
+            transformer.transform(re, im, n);
+            for (var k = 0; k < n; k++) {
+                final var xr = re[k];
+                final var xi = im[k];
+                re[k] = xr * hr[k] - xi * hi[k];
+                im[k] = xr * hi[k] + xi * hr[k];
+            }
+            transformer.inverseTransform(re, im, n);
+
+            System.arraycopy(re, discarded, output, outputOffset + done, first);
+            if (second > 0) {
+                System.arraycopy(im, discarded, output, outputOffset + done + first, second);
+            }
+
+            if (listener != null) {
+                listener.onConvolveProgressChange((float) Math.min(done + 2 * blockLength, outputLength)
+                        / (float) outputLength);
+            }
+        }
+    }
+
+    /**
+     * Copies a block of input samples into a working buffer, padding it with
+     * zeros up to transform length.
+     *
+     * @param input  input sequence.
+     * @param offset position of first sample to copy.
+     * @param length number of samples to copy.
+     * @param buffer working buffer.
+     */
+    private void copyBlock(final double[] input, final int offset, final int length, final double[] buffer) {
+        System.arraycopy(input, offset, buffer, 0, length);
+        for (var i = length; i < transformLength; i++) {
+            buffer[i] = 0.0;
+        }
+    }
+
+    /**
+     * Gets preferred transform length to convolve sequences of any length with
+     * a kernel of provided length.
+     *
+     * @param kernelLength kernel length.
+     * @return transform length.
+     */
+    static int getTransformLength(final int kernelLength) {
+        return FastFourierTransformer.getTransformLength(
+                Math.max(TRANSFORM_LENGTH_FACTOR * kernelLength, MIN_TRANSFORM_LENGTH));
+    }
+
+    /**
+     * Gets transform length to convolve with a kernel of provided length,
+     * avoiding transforms longer than needed for short sequences.
+     *
+     * @param kernelLength kernel length.
+     * @param outputLength expected number of output samples to be computed on
+     *                     each call.
+     * @return transform length.
+     */
+    static int getTransformLength(final int kernelLength, final int outputLength) {
+        final var needed = FastFourierTransformer.getTransformLength(
+                Math.max(outputLength, 1) + kernelLength - 1);
+        return Math.min(getTransformLength(kernelLength), needed);
+    }
+}
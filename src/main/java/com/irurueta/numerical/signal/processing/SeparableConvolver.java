@@ -0,0 +1,880 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Convolves N-dimensional signals with separable kernels, this is, kernels
+ * that can be expressed as the outer product of one 1D kernel per dimension
+ * (such as Gaussian or box kernels).
+ * Signals are stored in row-major order within a single array, hence the last
+ * dimension is contiguous in memory. 2D signals can also be provided as
+ * matrices.
+ * Convolution is computed by convolving the signal along one dimension at a
+ * time, starting at the last one, following the same conventions as
+ * {@link Convolver1D}: along each dimension, the result contains the sum of
+ * the lengths of signal and kernel minus one samples, and the kernel center
+ * determines how edge extension is applied.
+ * The result is the same as convolving the signal extended beyond its
+ * boundaries in all dimensions with the N-dimensional kernel, where edge
+ * extension along each dimension uses the provided edge method (when
+ * constant edge extension is used, the signal is assumed to be equal to the
+ * constant value at any position outside its boundaries).
+ * Along contiguous dimensions each line is directly convolved. Along any other
+ * dimension, adjacent lines are convolved together in tiles, so that memory is
+ * always traversed along contiguous rows of the tile.
+ * Lines and tiles can be convolved concurrently by setting a parallelism
+ * greater than 1.
+ * Instances of this class are not thread-safe.
+ */
+public class SeparableConvolver {
+
+    /**
+     * Default number of adjacent lines convolved together along dimensions
+     * that are not contiguous in memory. This value has been obtained by
+     * running the JMH benchmark SeparableConvolverBenchmark in test sources for
+     * several tile widths and usual kernel lengths.
+     */
+    public static final int DEFAULT_TILE_WIDTH = 64;
+
+    /**
+     * Minimum allowed tile width.
+     */
+    public static final int MIN_TILE_WIDTH = 1;
+
+    /**
+     * Default number of tasks convolving lines and tiles concurrently.
+     * By default, convolution is computed sequentially on calling thread.
+     */
+    public static final int DEFAULT_PARALLELISM = 1;
+
+    /**
+     * Minimum allowed parallelism.
+     */
+    public static final int MIN_PARALLELISM = 1;
+
+    /**
+     * Minimum number of signal samples for convolution to be computed
+     * concurrently when parallelism is greater than 1. On smaller signals, the
+     * cost of dispatching tasks exceeds the cost of convolving the whole
+     * signal on calling thread.
+     */
+    public static final int MIN_PARALLEL_LENGTH = 1 << 14;
+
+    /**
+     * Edge extension method to use during convolution when parts of the kernel
+     * are required to lie outside the signal's boundaries.
+     */
+    private ConvolverEdgeMethod edgeMethod = Convolver1D.DEFAULT_EDGE_METHOD;
+
+    /**
+     * Constant value to use during edge extension when CONSTANT_EDGE method is
+     * being used.
+     */
+    private double constantValue = Convolver1D.DEFAULT_CONSTANT_VALUE;
+
+    /**
+     * Algorithm to compute convolutions along each dimension.
+     */
+    private ConvolverAlgorithm algorithm = Convolver1D.DEFAULT_ALGORITHM;
+
+    /**
+     * Number of adjacent lines convolved together along dimensions that are
+     * not contiguous in memory.
+     */
+    private int tileWidth = DEFAULT_TILE_WIDTH;
+
+    /**
+     * Number of tasks convolving lines and tiles concurrently. When 1,
+     * convolution is computed sequentially on calling thread.
+     */
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    /**
+     * Executor where lines and tiles are convolved when parallelism is greater
+     * than 1. If not provided, common fork join pool is used.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Gets edge extension method to use during convolution when parts of the
+     * kernel are required to lie outside the signal's boundaries.
+     *
+     * @return edge extension method.
+     */
+    public ConvolverEdgeMethod getEdgeMethod() {
+        return edgeMethod;
+    }
+
+    /**
+     * Sets edge extension method to use during convolution when parts of the
+     * kernel are required to lie outside the signal's boundaries.
+     *
+     * @param edgeMethod edge extension method.
+     * @throws IllegalArgumentException if provided edge method is null.
+     */
+    public void setEdgeMethod(final ConvolverEdgeMethod edgeMethod) {
+        if (edgeMethod == null) {
+            throw new IllegalArgumentException();
+        }
+        this.edgeMethod = edgeMethod;
+    }
+
+    /**
+     * Gets constant value to use during edge extension when CONSTANT_EDGE
+     * method is being used.
+     *
+     * @return constant value to use during edge extension.
+     */
+    public double getConstantValue() {
+        return constantValue;
+    }
+
+    /**
+     * Sets constant value to use during edge extension when CONSTANT_EDGE
+     * method is being used.
+     *
+     * @param constantValue constant value to use during edge extension.
+     */
+    public void setConstantValue(final double constantValue) {
+        this.constantValue = constantValue;
+    }
+
+    /**
+     * Gets algorithm to compute convolutions along each dimension.
+     *
+     * @return algorithm to compute convolutions.
+     */
+    public ConvolverAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Sets algorithm to compute convolutions along each dimension.
+     * When algorithm is chosen automatically, it is chosen independently for
+     * each dimension depending on the length of its kernel.
+     *
+     * @param algorithm algorithm to compute convolutions.
+     * @throws IllegalArgumentException if provided algorithm is null.
+     */
+    public void setAlgorithm(final ConvolverAlgorithm algorithm) {
+        if (algorithm == null) {
+            throw new IllegalArgumentException();
+        }
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Gets number of adjacent lines convolved together along dimensions that
+     * are not contiguous in memory.
+     *
+     * @return number of adjacent lines convolved together.
+     */
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    /**
+     * Sets number of adjacent lines convolved together along dimensions that
+     * are not contiguous in memory.
+     *
+     * @param tileWidth number of adjacent lines convolved together.
+     * @throws IllegalArgumentException if provided value is less than
+     *                                  {@link #MIN_TILE_WIDTH}.
+     */
+    public void setTileWidth(final int tileWidth) {
+        if (tileWidth < MIN_TILE_WIDTH) {
+            throw new IllegalArgumentException();
+        }
+        this.tileWidth = tileWidth;
+    }
+
+    /**
+     * Gets number of tasks convolving lines and tiles concurrently.
+     * When 1, convolution is computed sequentially on calling thread.
+     *
+     * @return number of tasks convolving lines and tiles concurrently.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets number of tasks convolving lines and tiles concurrently.
+     * When 1, convolution is computed sequentially on calling thread.
+     * Signals having less than {@link #MIN_PARALLEL_LENGTH} samples are
+     * always convolved on calling thread.
+     *
+     * @param parallelism number of tasks convolving lines and tiles
+     *                    concurrently.
+     * @throws IllegalArgumentException if provided value is less than
+     *                                  {@link #MIN_PARALLELISM}.
+     */
+    public void setParallelism(final int parallelism) {
+        if (parallelism < MIN_PARALLELISM) {
+            throw new IllegalArgumentException();
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns executor where lines and tiles are convolved when parallelism
+     * is greater than 1. If not provided, common fork join pool is used.
+     *
+     * @return executor where lines and tiles are convolved or null.
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets executor where lines and tiles are convolved when parallelism is
+     * greater than 1. If not provided, common fork join pool is used.
+     * Provided executor is never shut down by this convolver.
+     *
+     * @param executor executor where lines and tiles are convolved or null.
+     */
+    public void setExecutor(final ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Gets dimensions of the result of convolving a signal having provided
+     * dimensions with provided kernels.
+     *
+     * @param dimensions dimensions of signal.
+     * @param kernels    kernels to convolve each dimension with.
+     * @return dimensions of result.
+     * @throws IllegalArgumentException if dimensions or kernels are null,
+     *                                  empty or have different lengths.
+     */
+    public static int[] getResultDimensions(final int[] dimensions, final double[][] kernels) {
+        if (dimensions == null || kernels == null || dimensions.length == 0
+                || dimensions.length != kernels.length) {
+            throw new IllegalArgumentException();
+        }
+
+        final var result = new int[dimensions.length];
+        for (var d = 0; d < dimensions.length; d++) {
+            if (kernels[d] == null) {
+                throw new IllegalArgumentException();
+            }
+            result[d] = dimensions[d] + kernels[d].length - 1;
+        }
+        return result;
+    }
+
+    /**
+     * Convolves provided N-dimensional signal with provided separable kernel.
+     *
+     * @param signal        signal to be convolved, stored in row-major order.
+     * @param dimensions    dimensions of signal.
+     * @param kernels       kernels to convolve each dimension with.
+     * @param kernelCenters positions of kernel centers for each dimension.
+     * @return a new array containing result of convolution, stored in
+     * row-major order, having the dimensions returned by
+     * {@link #getResultDimensions(int[], double[][])}.
+     * @throws IllegalArgumentException  if any argument is null, dimensions do
+     *                                   not match signal length, any kernel is
+     *                                   empty or any kernel center is not
+     *                                   within its kernel's boundaries.
+     * @throws SignalProcessingException if concurrent convolution fails or is
+     *                                   interrupted.
+     */
+    public double[] convolve(final double[] signal, final int[] dimensions, final double[][] kernels,
+                             final int[] kernelCenters) throws SignalProcessingException {
+        final var result = new double[(int) getLength(getResultDimensions(dimensions, kernels))];
+        convolve(signal, dimensions, kernels, kernelCenters, result);
+        return result;
+    }
+
+    /**
+     * Convolves provided N-dimensional signal with provided separable kernel.
+     *
+     * @param signal        signal to be convolved, stored in row-major order.
+     * @param dimensions    dimensions of signal.
+     * @param kernels       kernels to convolve each dimension with.
+     * @param kernelCenters positions of kernel centers for each dimension.
+     * @param result        array where result of convolution will be stored in
+     *                      row-major order. Must have the length of the
+     *                      dimensions returned by
+     *                      {@link #getResultDimensions(int[], double[][])}.
+     * @throws IllegalArgumentException  if any argument is null, dimensions do
+     *                                   not match signal or result lengths,
+     *                                   any kernel is empty or any kernel
+     *                                   center is not within its kernel's
+     *                                   boundaries.
+     * @throws SignalProcessingException if concurrent convolution fails or is
+     *                                   interrupted.
+     */
+    public void convolve(final double[] signal, final int[] dimensions, final double[][] kernels,
+                         final int[] kernelCenters, final double[] result) throws SignalProcessingException {
+        final var resultDimensions = getResultDimensions(dimensions, kernels);
+        if (signal == null || result == null || kernelCenters == null
+                || kernelCenters.length != dimensions.length || getLength(dimensions) != signal.length
+                || getLength(resultDimensions) != result.length) {
+            throw new IllegalArgumentException();
+        }
+        for (var d = 0; d < dimensions.length; d++) {
+            if (kernelCenters[d] < 0 || kernelCenters[d] >= kernels[d].length) {
+                throw new IllegalArgumentException("kernel center must be within kernel boundaries");
+            }
+        }
+
+        try {
+            internalConvolve(signal, dimensions, kernels, kernelCenters, result);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SignalProcessingException(e);
+        } catch (final ExecutionException e) {
+            throw new SignalProcessingException(e.getCause());
+        }
+    }
+
+    /**
+     * Convolves provided 2D signal with provided separable kernel.
+     *
+     * @param signal                 signal to be convolved, stored in
+     *                               row-major order.
+     * @param rows                   number of rows of signal.
+     * @param columns                number of columns of signal.
+     * @param horizontalKernel       kernel to convolve each row with.
+     * @param horizontalKernelCenter position of horizontal kernel center.
+     * @param verticalKernel         kernel to convolve each column with.
+     * @param verticalKernelCenter   position of vertical kernel center.
+     * @return a new array containing result of convolution, stored in
+     * row-major order, having the number of rows of signal plus the length of
+     * vertical kernel minus one, and the number of columns of signal plus the
+     * length of horizontal kernel minus one.
+     * @throws IllegalArgumentException  if any argument is null, dimensions do
+     *                                   not match signal length, any kernel is
+     *                                   empty or any kernel center is not
+     *                                   within its kernel's boundaries.
+     * @throws SignalProcessingException if concurrent convolution fails or is
+     *                                   interrupted.
+     */
+    public double[] convolve(final double[] signal, final int rows, final int columns,
+                             final double[] horizontalKernel, final int horizontalKernelCenter,
+                             final double[] verticalKernel, final int verticalKernelCenter)
+            throws SignalProcessingException {
+        return convolve(signal, new int[]{rows, columns}, new double[][]{verticalKernel, horizontalKernel},
+                new int[]{verticalKernelCenter, horizontalKernelCenter});
+    }
+
+    /**
+     * Convolves provided matrix with provided separable kernel.
+     *
+     * @param signal                 matrix to be convolved.
+     * @param horizontalKernel       kernel to convolve each row with.
+     * @param horizontalKernelCenter position of horizontal kernel center.
+     * @param verticalKernel         kernel to convolve each column with.
+     * @param verticalKernelCenter   position of vertical kernel center.
+     * @return a new matrix containing result of convolution, having the number
+     * of rows of signal plus the length of vertical kernel minus one, and the
+     * number of columns of signal plus the length of horizontal kernel minus
+     * one.
+     * @throws IllegalArgumentException  if any argument is null, any kernel is
+     *                                   empty or any kernel center is not
+     *                                   within its kernel's boundaries.
+     * @throws SignalProcessingException if concurrent convolution fails or is
+     *                                   interrupted.
+     */
+    public Matrix convolve(final Matrix signal, final double[] horizontalKernel, final int horizontalKernelCenter,
+                           final double[] verticalKernel, final int verticalKernelCenter)
+            throws SignalProcessingException {
+        if (signal == null || horizontalKernel == null || verticalKernel == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final Matrix result;
+        try {
+            result = new Matrix(signal.getRows() + verticalKernel.length - 1,
+                    signal.getColumns() + horizontalKernel.length - 1);
+        } catch (final WrongSizeException e) {
+            throw new IllegalArgumentException(e);
+        }
+        convolve(signal, horizontalKernel, horizontalKernelCenter, verticalKernel, verticalKernelCenter, result);
+        return result;
+    }
+
+    /**
+     * Convolves provided matrix with provided separable kernel.
+     * Matrices are stored in column-major order, hence each column is
+     * contiguous in memory and convolved directly, whereas rows are convolved
+     * in tiles.
+     *
+     * @param signal                 matrix to be convolved.
+     * @param horizontalKernel       kernel to convolve each row with.
+     * @param horizontalKernelCenter position of horizontal kernel center.
+     * @param verticalKernel         kernel to convolve each column with.
+     * @param verticalKernelCenter   position of vertical kernel center.
+     * @param result                 matrix where result of convolution will
+     *                               be stored. It is resized if needed to have
+     *                               the number of rows of signal plus the
+     *                               length of vertical kernel minus one, and
+     *                               the number of columns of signal plus the
+     *                               length of horizontal kernel minus one.
+     * @throws IllegalArgumentException  if any argument is null, any kernel is
+     *                                   empty, any kernel center is not within
+     *                                   its kernel's boundaries or result is
+     *                                   the same instance as signal.
+     * @throws SignalProcessingException if concurrent convolution fails or is
+     *                                   interrupted.
+     */
+    public void convolve(final Matrix signal, final double[] horizontalKernel, final int horizontalKernelCenter,
+                         final double[] verticalKernel, final int verticalKernelCenter, final Matrix result)
+            throws SignalProcessingException {
+        if (signal == null || horizontalKernel == null || verticalKernel == null || result == null
+                || signal == result) {
+            throw new IllegalArgumentException();
+        }
+
+        final var rows = signal.getRows();
+        final var columns = signal.getColumns();
+        final var resultRows = rows + verticalKernel.length - 1;
+        final var resultColumns = columns + horizontalKernel.length - 1;
+        if (result.getRows() != resultRows || result.getColumns() != resultColumns) {
+            try {
+                result.resize(resultRows, resultColumns);
+            } catch (final WrongSizeException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        // column-major buffers are row-major buffers of transposed matrices
+        convolve(signal.getBuffer(), new int[]{columns, rows}, new double[][]{horizontalKernel, verticalKernel},
+                new int[]{horizontalKernelCenter, verticalKernelCenter}, result.getBuffer());
+    }
+
+    /**
+     * Internal method to convolve provided signal along each dimension,
+     * starting at the last one.
+     *
+     * @param signal        signal to be convolved.
+     * @param dimensions    dimensions of signal.
+     * @param kernels       kernels to convolve each dimension with.
+     * @param kernelCenters positions of kernel centers for each dimension.
+     * @param result        array where result is stored.
+     * @throws InterruptedException if calling thread is interrupted while
+     *                              waiting for lines and tiles to be
+     *                              convolved.
+     * @throws ExecutionException   if convolution of any line or tile fails.
+     */
+    private void internalConvolve(final double[] signal, final int[] dimensions, final double[][] kernels,
+                                  final int[] kernelCenters, final double[] result)
+            throws InterruptedException, ExecutionException {
+        final var currentDimensions = dimensions.clone();
+        var input = signal;
+        // samples outside boundaries of partially convolved signals are equal
+        // to the constant value convolved with the kernels applied so far
+        var currentConstant = constantValue;
+
+        for (var d = dimensions.length - 1; d >= 0; d--) {
+            final var kernel = kernels[d];
+            currentDimensions[d] += kernel.length - 1;
+            final var output = d == 0 ? result : new double[(int) getLength(currentDimensions)];
+
+            final var pass = new Pass(input, currentDimensions, d, kernel, kernelCenters[d], currentConstant,
+                    output);
+            runPass(pass);
+
+            if (edgeMethod == ConvolverEdgeMethod.CONSTANT_EDGE) {
+                var sum = 0.0;
+                for (final var value : kernel) {
+                    sum += value;
+                }
+                currentConstant *= sum;
+            }
+            input = output;
+        }
+    }
+
+    /**
+     * Convolves all lines of a pass either sequentially or concurrently.
+     *
+     * @param pass pass to be computed.
+     * @throws InterruptedException if calling thread is interrupted while
+     *                              waiting for lines and tiles to be
+     *                              convolved.
+     * @throws ExecutionException   if convolution of any line or tile fails.
+     */
+    private void runPass(final Pass pass) throws InterruptedException, ExecutionException {
+        final var units = pass.getUnits();
+        final var numTasks = pass.input.length >= MIN_PARALLEL_LENGTH
+                ? (int) Math.min(parallelism, units) : MIN_PARALLELISM;
+        if (numTasks <= MIN_PARALLELISM) {
+            pass.convolve(0, units);
+            return;
+        }
+
+        final var tasks = new ArrayList<PassTask>(numTasks);
+        for (var t = 0; t < numTasks; t++) {
+            final var from = units * t / numTasks;
+            final var to = units * (t + 1) / numTasks;
+            tasks.add(new PassTask(pass, from, to));
+        }
+
+        final var executorService = executor != null ? executor : ForkJoinPool.commonPool();
+        for (final var future : executorService.invokeAll(tasks)) {
+            future.get();
+        }
+    }
+
+    /**
+     * Computes number of samples of a signal having provided dimensions.
+     *
+     * @param dimensions dimensions of signal.
+     * @return number of samples.
+     * @throws IllegalArgumentException if any dimension is less than 1 or the
+     *                                  number of samples cannot be indexed.
+     */
+    private static long getLength(final int[] dimensions) {
+        var length = 1L;
+        for (final var dimension : dimensions) {
+            if (dimension < 1) {
+                throw new IllegalArgumentException();
+            }
+            length *= dimension;
+            if (length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException();
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Convolution of all lines of a signal along one dimension.
+     * Signal is seen as a sequence of outer blocks, each containing as many
+     * rows as samples along convolved dimension, and each row containing
+     * as many samples as the inner stride. Each line lies on the same position
+     * of consecutive rows within an outer block.
+     * Units of work are either single lines (when dimension is contiguous) or
+     * tiles of adjacent lines within an outer block.
+     */
+    private class Pass {
+
+        /**
+         * Signal to be convolved.
+         */
+        private final double[] input;
+
+        /**
+         * Array where result is stored.
+         */
+        private final double[] output;
+
+        /**
+         * Kernel to convolve with.
+         */
+        private final double[] kernel;
+
+        /**
+         * Position where extended lines start, relative to the start of
+         * input lines.
+         */
+        private final int start;
+
+        /**
+         * Constant value to use for positions outside signal boundaries when
+         * constant edge extension is used.
+         */
+        private final double constant;
+
+        /**
+         * Number of samples of input lines.
+         */
+        private final int inputLength;
+
+        /**
+         * Number of samples of output lines.
+         */
+        private final int outputLength;
+
+        /**
+         * Distance between consecutive samples of a line.
+         */
+        private final int stride;
+
+        /**
+         * Number of lines convolved together within each unit of work.
+         */
+        private final int width;
+
+        /**
+         * Number of units of work within each outer block.
+         */
+        private final int unitsPerBlock;
+
+        /**
+         * Number of outer blocks.
+         */
+        private final int blocks;
+
+        /**
+         * True if convolution is computed by means of fast Fourier transforms.
+         */
+        private final boolean fft;
+
+        /**
+         * Constructor.
+         *
+         * @param input            signal to be convolved.
+         * @param outputDimensions dimensions of result.
+         * @param dimension        dimension to convolve along.
+         * @param kernel           kernel to convolve with.
+         * @param kernelCenter     position of kernel center.
+         * @param constant         constant value to use for positions
+         *                         outside signal boundaries when constant edge
+         *                         extension is used.
+         * @param output           array where result is stored.
+         */
+        Pass(final double[] input, final int[] outputDimensions, final int dimension, final double[] kernel,
+             final int kernelCenter, final double constant, final double[] output) {
+            this.input = input;
+            this.output = output;
+            this.kernel = kernel;
+            this.constant = constant;
+            start = -kernelCenter - kernel.length + 1;
+            outputLength = outputDimensions[dimension];
+            inputLength = outputLength - kernel.length + 1;
+
+            var s = 1;
+            for (var d = dimension + 1; d < outputDimensions.length; d++) {
+                s *= outputDimensions[d];
+            }
+            stride = s;
+            var b = 1;
+            for (var d = 0; d < dimension; d++) {
+                b *= outputDimensions[d];
+            }
+            blocks = b;
+
+            width = Math.min(tileWidth, stride);
+            unitsPerBlock = (stride + width - 1) / width;
+            fft = algorithm == ConvolverAlgorithm.FFT || (algorithm == ConvolverAlgorithm.AUTOMATIC
+                    && kernel.length >= Convolver1D.FFT_KERNEL_LENGTH_THRESHOLD);
+        }
+
+        /**
+         * Gets number of units of work.
+         *
+         * @return number of units of work.
+         */
+        long getUnits() {
+            return (long) blocks * unitsPerBlock;
+        }
+
+        /**
+         * Convolves provided range of units of work.
+         *
+         * @param from first unit of work (inclusive).
+         * @param to   last unit of work (exclusive).
+         */
+        void convolve(final long from, final long to) {
+            final var kernelLength = kernel.length;
+            final var extendedLength = outputLength + kernelLength - 1;
+            final var fftConvolver = fft ? new OverlapSaveConvolver(kernel,
+                    OverlapSaveConvolver.getTransformLength(kernelLength, outputLength)) : null;
+
+            if (stride == 1) {
+                final var line = new double[inputLength];
+                final var extended = new double[extendedLength];
+                for (var unit = from; unit < to; unit++) {
+                    final var block = (int) unit;
+                    System.arraycopy(input, block * inputLength, line, 0, inputLength);
+                    Convolver1D.fillExtendedSignal(line, start, edgeMethod, constant, extended);
+                    if (fftConvolver != null) {
+                        fftConvolver.convolve(extended, 0, outputLength, output, block * outputLength, null);
+                    } else {
+                        Convolver1D.convolveValid(extended, 0, kernel, output, block * outputLength,
+                                outputLength);
+                    }
+                }
+                return;
+            }
+
+            final var tile = new double[extendedLength * width];
+            final var convolvedTile = fftConvolver != null ? new double[outputLength * width] : null;
+            final var line = fftConvolver != null ? new double[extendedLength] : null;
+            final var convolvedLine = fftConvolver != null ? new double[outputLength] : null;
+
+            for (var unit = from; unit < to; unit++) {
+                final var block = (int) (unit / unitsPerBlock);
+                final var column = (int) (unit % unitsPerBlock) * width;
+                final var w = Math.min(width, stride - column);
+                final var inputOffset = block * inputLength * stride + column;
+                final var outputOffset = block * outputLength * stride + column;
+
+                fillExtendedTile(inputOffset, w, tile);
+
+                if (fftConvolver != null) {
+                    // convolve each column of the tile as a contiguous line
+                    for (var c = 0; c < w; c++) {
+                        for (int r = 0, pos = c; r < extendedLength; r++, pos += w) {
+                            line[r] = tile[pos];
+                        }
+                        fftConvolver.convolve(line, 0, outputLength, convolvedLine, 0, null);
+                        for (int r = 0, pos = c; r < outputLength; r++, pos += w) {
+                            convolvedTile[pos] = convolvedLine[r];
+                        }
+                    }
+                    for (var r = 0; r < outputLength; r++) {
+                        System.arraycopy(convolvedTile, r * w, output, outputOffset + r * stride, w);
+                    }
+                } else {
+                    convolveTile(tile, w, outputOffset);
+                }
+            }
+        }
+
+        /**
+         * Fills a tile with adjacent lines extended beyond signal boundaries.
+         * Each row of the tile contains consecutive samples of an input row,
+         * or of the input row given by the edge extension method for rows
+         * outside signal boundaries.
+         *
+         * @param inputOffset position of first sample of first input row.
+         * @param w           number of lines within tile.
+         * @param tile        tile to be filled, containing w samples per row.
+         */
+        private void fillExtendedTile(final int inputOffset, final int w, final double[] tile) {
+            final var rows = outputLength + kernel.length - 1;
+            for (var r = 0; r < rows; r++) {
+                var pos = start + r;
+                if (pos < 0 || pos >= inputLength) {
+                    switch (edgeMethod) {
+                        case MIRROR_EDGE -> pos = Convolver1D.getMirrorPosition(inputLength, pos);
+                        case REPEAT_EDGE -> pos = Convolver1D.getRepeatPosition(inputLength, pos);
+                        case CONSTANT_EDGE -> {
+                            Arrays.fill(tile, r * w, (r + 1) * w, constant);
+                            continue;
+                        }
+                        default -> {
+                            Arrays.fill(tile, r * w, (r + 1) * w, 0.0);
+                            continue;
+                        }
+                    }
+                }
+                System.arraycopy(input, inputOffset + pos * stride, tile, r * w, w);
+            }
+        }
+
+        /**
+         * Directly convolves all lines within a tile at once.
+         * Four output rows are accumulated at once for each line, so that each
+         * kernel value is loaded once for all of them and additions do not
+         * wait for each other, while all rows of the tile required by them
+         * remain in cache for all lines. Each output sample is accumulated in
+         * the same order as {@link Convolver1D} does, hence results are
+         * identical to convolving each line separately.
+         *
+         * @param tile         tile containing extended lines.
+         * @param w            number of lines within tile.
+         * @param outputOffset position of first sample of first output row.
+         */
+        private void convolveTile(final double[] tile, final int w, final int outputOffset) {
+            final var last = kernel.length - 1;
+            var r = 0;
+            for (; r + 3 < outputLength; r += 4) {
+                final var o = outputOffset + r * stride;
+                for (var c = 0; c < w; c++) {
+                    final var base = (r + last) * w + c;
+                    var accum0 = 0.0;
+                    var accum1 = 0.0;
+                    var accum2 = 0.0;
+                    var accum3 = 0.0;
+                    for (var j = 0; j <= last; j++) {
+                        final var k = kernel[j];
+                        final var pos = base - j * w;
+                        accum0 += tile[pos] * k;
+                        accum1 += tile[pos + w] * k;
+                        accum2 += tile[pos + 2 * w] * k;
+                        accum3 += tile[pos + 3 * w] * k;
+                    }
+                    output[o + c] = accum0;
+                    output[o + stride + c] = accum1;
+                    output[o + 2 * stride + c] = accum2;
+                    output[o + 3 * stride + c] = accum3;
+                }
+            }
+            for (; r < outputLength; r++) {
+                final var o = outputOffset + r * stride;
+                for (var c = 0; c < w; c++) {
+                    final var base = (r + last) * w + c;
+                    var accum = 0.0;
+                    for (var j = 0; j <= last; j++) {
+                        accum += tile[base - j * w] * kernel[j];
+                    }
+                    output[o + c] = accum;
+                }
+            }
+        }
+    }
+
+    /**
+     * Convolves a contiguous range of units of work of a pass.
+     */
+    private static class PassTask implements Callable<Void> {
+
+        /**
+         * Pass to be computed.
+         */
+        private final Pass pass;
+
+        /**
+         * First unit of work (inclusive).
+         */
+        private final long from;
+
+        /**
+         * Last unit of work (exclusive).
+         */
+        private final long to;
+
+        /**
+         * Constructor.
+         *
+         * @param pass pass to be computed.
+         * @param from first unit of work (inclusive).
+         * @param to   last unit of work (exclusive).
+         */
+        PassTask(final Pass pass, final long from, final long to) {
+            this.pass = pass;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Convolves range of units of work.
+         *
+         * @return nothing.
+         */
+        @Override
+        public Void call() {
+            pass.convolve(from, to);
+            return null;
+        }
+    }
+}
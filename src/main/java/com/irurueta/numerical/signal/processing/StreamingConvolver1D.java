@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+import java.util.Arrays;
+
+/**
+ * Convolves an unbounded 1D signal that arrives in chunks with a fixed 1D
+ * kernel, acting as a Finite Impulse Response (FIR) filter.
+ * The last samples of the signal (as many as the kernel length minus one) are
+ * kept between calls, so that each call produces as many output samples as
+ * input samples are provided, and the concatenation of all outputs equals the
+ * convolution of the concatenation of all chunks, assuming that the signal is
+ * zero before its first sample (i.e. zero edge extension and kernel center
+ * located at the kernel origin).
+ * Once the signal ends, the remaining kernel length minus one output samples
+ * can be obtained by flushing this instance.
+ * When signal is directly convolved, results are identical to those obtained
+ * by {@link Convolver1D} using {@link ConvolverAlgorithm#DIRECT} algorithm on
+ * the whole signal, regardless of how it is split into chunks. When signal is
+ * convolved by means of FFT, results are equal up to rounding errors.
+ * Working buffers are allocated on construction, so that no memory is
+ * allocated while processing chunks. Instances of this class are not
+ * thread-safe.
+ */
+public class StreamingConvolver1D {
+
+    /**
+     * Default algorithm to convolve chunks.
+     */
+    public static final ConvolverAlgorithm DEFAULT_ALGORITHM = ConvolverAlgorithm.AUTOMATIC;
+
+    /**
+     * Kernel to convolve the signal with.
+     */
+    private final double[] kernel;
+
+    /**
+     * Indicates whether chunks are convolved by means of FFT.
+     */
+    private final boolean fftUsed;
+
+    /**
+     * Convolves blocks by means of FFT or null if chunks are directly
+     * convolved.
+     */
+    private final OverlapSaveConvolver fftConvolver;
+
+    /**
+     * Maximum number of new samples that are convolved at once.
+     */
+    private final int blockLength;
+
+    /**
+     * Contains the last kernel length minus one samples of the signal
+     * followed by up to block length new samples.
+     */
+    private final double[] window;
+
+    /**
+     * Number of samples processed since construction or last reset.
+     */
+    private long processedSamples;
+
+    /**
+     * Constructor using default algorithm.
+     *
+     * @param kernel kernel to convolve the signal with. Provided array is not
+     *               copied, hence it must not be modified.
+     * @throws IllegalArgumentException if kernel is null or empty.
+     */
+    public StreamingConvolver1D(final double[] kernel) {
+        this(kernel, DEFAULT_ALGORITHM);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param kernel    kernel to convolve the signal with. Provided array is not
+     *                  copied, hence it must not be modified.
+     * @param algorithm algorithm to convolve chunks. When
+     *                  {@link ConvolverAlgorithm#AUTOMATIC} is used, FFT is only
+     *                  used for kernels having at least
+     *                  {@link Convolver1D#FFT_KERNEL_LENGTH_THRESHOLD} length.
+     * @throws IllegalArgumentException if kernel is null or empty, or if
+     *                                  algorithm is null.
+     */
+    public StreamingConvolver1D(final double[] kernel, final ConvolverAlgorithm algorithm) {
+        if (kernel == null || kernel.length == 0 || algorithm == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.kernel = kernel;
+        fftUsed = algorithm == ConvolverAlgorithm.FFT || (algorithm == ConvolverAlgorithm.AUTOMATIC
+                && kernel.length >= Convolver1D.FFT_KERNEL_LENGTH_THRESHOLD);
+        if (fftUsed) {
+            fftConvolver = new OverlapSaveConvolver(kernel, OverlapSaveConvolver.getTransformLength(kernel.length));
+            // each transform convolves two blocks at once
+            blockLength = 2 * fftConvolver.getBlockLength();
+        } else {
+            fftConvolver = null;
+            blockLength = Convolver1D.DIRECT_BLOCK_LENGTH;
+        }
+        window = new double[kernel.length - 1 + blockLength];
+    }
+
+    /**
+     * Gets kernel to convolve the signal with.
+     *
+     * @return kernel to convolve the signal with.
+     */
+    public double[] getKernel() {
+        return kernel;
+    }
+
+    /**
+     * Indicates whether chunks are convolved by means of FFT.
+     *
+     * @return true if chunks are convolved by means of FFT, false if they are
+     * directly convolved.
+     */
+    public boolean isFFTUsed() {
+        return fftUsed;
+    }
+
+    /**
+     * Gets maximum number of new samples that are convolved at once. Longer
+     * chunks are split into blocks of this length. When FFT is used, chunks
+     * shorter than this length are convolved at the same cost as a whole block.
+     *
+     * @return maximum number of samples convolved at once.
+     */
+    public int getBlockLength() {
+        return blockLength;
+    }
+
+    /**
+     * Gets number of output samples obtained when flushing this instance,
+     * which equals kernel length minus one.
+     *
+     * @return number of output samples obtained when flushing.
+     */
+    public int getTailLength() {
+        return kernel.length - 1;
+    }
+
+    /**
+     * Gets number of signal samples processed since construction or last
+     * reset.
+     *
+     * @return number of processed samples.
+     */
+    public long getProcessedSamples() {
+        return processedSamples;
+    }
+
+    /**
+     * Convolves next chunk of signal.
+     *
+     * @param chunk next chunk of signal.
+     * @param out   array where as many output samples as chunk length will be
+     *              stored. It can be the same instance as chunk.
+     * @throws IllegalArgumentException if any array is null or output array is
+     *                                  shorter than chunk.
+     */
+    public void process(final double[] chunk, final double[] out) {
+        if (chunk == null) {
+            throw new IllegalArgumentException();
+        }
+        process(chunk, 0, chunk.length, out, 0);
+    }
+
+    /**
+     * Convolves next chunk of signal, which is contained within provided
+     * array.
+     *
+     * @param chunk     array containing next chunk of signal.
+     * @param offset    position where chunk starts.
+     * @param length    chunk length.
+     * @param out       array where as many output samples as chunk length will
+     *                  be stored. It can be the same instance as chunk.
+     * @param outOffset position where output samples will be stored.
+     * @throws IllegalArgumentException if any array is null, length is
+     *                                  negative or any range lies outside its
+     *                                  array.
+     */
+    public void process(final double[] chunk, final int offset, final int length, final double[] out,
+                        final int outOffset) {
+        if (chunk == null || out == null || length < 0 || offset < 0 || offset > chunk.length - length
+                || outOffset < 0 || outOffset > out.length - length) {
+            throw new IllegalArgumentException();
+        }
+        internalProcess(chunk, offset, length, out, outOffset);
+    }
+
+    /**
+     * Ends the signal, obtaining the last output samples, which correspond to
+     * the signal being extended with zeros, and resets this instance so that a
+     * new signal can be processed.
+     *
+     * @param out array where {@link #getTailLength()} output samples will be
+     *            stored.
+     * @throws IllegalArgumentException if output array is null or shorter than
+     *                                  tail length.
+     */
+    public void flush(final double[] out) {
+        if (out == null || out.length < getTailLength()) {
+            throw new IllegalArgumentException();
+        }
+        internalProcess(null, 0, getTailLength(), out, 0);
+        reset();
+    }
+
+    /**
+     * Resets this instance, discarding previously processed samples, so that
+     * a new signal can be processed.
+     */
+    public void reset() {
+        Arrays.fill(window, 0.0);
+        processedSamples = 0;
+    }
+
+    /**
+     * Convolves next chunk of signal by blocks.
+     *
+     * @param chunk     array containing next chunk of signal, or null to
+     *                  convolve zeros.
+     * @param offset    position where chunk starts.
+     * @param length    chunk length.
+     * @param out       array where output samples will be stored.
+     * @param outOffset position where output samples will be stored.
+     */
+    private void internalProcess(final double[] chunk, final int offset, final int length, final double[] out,
+                                 final int outOffset) {
+        final var history = kernel.length - 1;
+        for (var done = 0; done < length; ) {
+            final var n = Math.min(blockLength, length - done);
+            if (chunk != null) {
+                System.arraycopy(chunk, offset + done, window, history, n);
+            } else {
+                Arrays.fill(window, history, history + n, 0.0);
+            }
+
+            if (fftUsed) {
+                fftConvolver.convolve(window, 0, n, out, outOffset + done, null);
+            } else {
+                Convolver1D.convolveValid(window, 0, kernel, out, outOffset + done, n);
+            }
+
+            // keep last samples for next block
+            System.arraycopy(window, n, window, 0, history);
+            done += n;
+        }
+        if (chunk != null) {
+            processedSamples += length;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.polynomials;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultipointPolynomialEvaluatorTest {
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double MIN_POINT_VALUE = -0.5;
+    private static final double MAX_POINT_VALUE = 0.5;
+
+    private static final double SMALL_POINT_VALUE = 0.1;
+
+    private static final int MIN_POINTS = 2;
+    private static final int MAX_POINTS = 64;
+
+    private static final int MAX_INTERPOLATION_POINTS = 10;
+
+    private static final int MIN_LARGE_INTERPOLATION_POINTS = 40;
+    private static final int MAX_LARGE_INTERPOLATION_POINTS = 64;
+
+    private static final int SMALL_CROSSOVER_SIZE = 4;
+
+    private static final double ABSOLUTE_ERROR = 1e-9;
+    private static final double LARGE_ABSOLUTE_ERROR = 1e-6;
+
+    private static final int TIMES = 20;
+
+    @Test
+    void testGetSetCrossoverSize() {
+        final var evaluator = new MultipointPolynomialEvaluator();
+
+        // check default value
+        assertEquals(MultipointPolynomialEvaluator.DEFAULT_CROSSOVER_SIZE, evaluator.getCrossoverSize());
+
+        // set new value
+        evaluator.setCrossoverSize(SMALL_CROSSOVER_SIZE);
+
+        // check
+        assertEquals(SMALL_CROSSOVER_SIZE, evaluator.getCrossoverSize());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> evaluator.setCrossoverSize(0));
+    }
+
+    @Test
+    void testEvaluate() {
+        final var randomizer = new UniformRandomizer();
+        final var evaluator = new MultipointPolynomialEvaluator();
+        evaluator.setCrossoverSize(SMALL_CROSSOVER_SIZE);
+        for (var t = 0; t < TIMES; t++) {
+            final var numPoints = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+            final var polynomial = new Polynomial(randomizer.nextInt(1, 2 * MAX_POINTS));
+            randomizer.fill(polynomial.getPolyParams(), MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var xs = new double[numPoints];
+            randomizer.fill(xs, MIN_POINT_VALUE, MAX_POINT_VALUE);
+
+            final var result = evaluator.evaluate(polynomial, xs);
+            final var result2 = new double[numPoints];
+            evaluator.evaluate(polynomial, xs, result2);
+
+            // check
+            for (var i = 0; i < numPoints; i++) {
+                assertEquals(polynomial.evaluate(xs[i]), result[i], ABSOLUTE_ERROR);
+            }
+            assertArrayEquals(result, result2, 0.0);
+        }
+
+        // Force IllegalArgumentException
+        final var polynomial = new Polynomial(1.0, 2.0);
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(polynomial, null));
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(null, new double[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluator.evaluate(polynomial, new double[1], new double[2]));
+    }
+
+    @Test
+    void testEvaluateBelowCrossoverSize() {
+        final var randomizer = new UniformRandomizer();
+        final var evaluator = new MultipointPolynomialEvaluator();
+        final var polynomial = new Polynomial(MAX_POINTS);
+        randomizer.fill(polynomial.getPolyParams(), MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var xs = new double[MAX_POINTS];
+        randomizer.fill(xs, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        // polynomial is directly evaluated
+        final var expected = new double[MAX_POINTS];
+        polynomial.evaluateBatch(xs, expected);
+        assertArrayEquals(expected, evaluator.evaluate(polynomial, xs), 0.0);
+    }
+
+    @Test
+    void testEvaluateAboveDefaultCrossoverSize() {
+        final var randomizer = new UniformRandomizer();
+        final var evaluator = new MultipointPolynomialEvaluator();
+        final var minPoints = MultipointPolynomialEvaluator.DEFAULT_CROSSOVER_SIZE + 1;
+        final var maxPoints = 8 * MultipointPolynomialEvaluator.DEFAULT_CROSSOVER_SIZE;
+        for (final var pointRange : new double[]{SMALL_POINT_VALUE, MAX_RANDOM_VALUE}) {
+            for (var t = 0; t < TIMES; t++) {
+                final var numPoints = randomizer.nextInt(minPoints, maxPoints);
+                final var polynomial = new Polynomial(numPoints);
+                randomizer.fill(polynomial.getPolyParams(), MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                final var xs = new double[numPoints];
+                randomizer.fill(xs, -pointRange, pointRange);
+
+                final var expected = new double[numPoints];
+                polynomial.evaluateBatch(xs, expected);
+
+                // subproduct tree is only used while it is accurate, otherwise
+                // polynomial is directly evaluated
+                final var result = evaluator.evaluate(polynomial, xs);
+                for (var i = 0; i < numPoints; i++) {
+                    assertTrue(Double.isFinite(result[i]));
+                    assertEquals(expected[i], result[i], LARGE_ABSOLUTE_ERROR);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testInterpolate() {
+        final var randomizer = new UniformRandomizer();
+        final var evaluator = new MultipointPolynomialEvaluator();
+        evaluator.setCrossoverSize(SMALL_CROSSOVER_SIZE);
+        for (var t = 0; t < TIMES; t++) {
+            final var numPoints = randomizer.nextInt(1, MAX_INTERPOLATION_POINTS);
+            final var polynomial = new Polynomial(numPoints);
+            randomizer.fill(polynomial.getPolyParams(), MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            // Chebyshev nodes
+            final var xs = new double[numPoints];
+            final var ys = new double[numPoints];
+            for (var i = 0; i < numPoints; i++) {
+                xs[i] = Math.cos(Math.PI * (i + 0.5) / numPoints);
+                ys[i] = polynomial.evaluate(xs[i]);
+            }
+
+            final var result = evaluator.interpolate(xs, ys);
+
+            // check
+            assertEquals(numPoints, result.getPolyParams().length);
+            assertArrayEquals(polynomial.getPolyParams(), result.getPolyParams(), LARGE_ABSOLUTE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> evaluator.interpolate(null, new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> evaluator.interpolate(new double[1], null));
+        assertThrows(IllegalArgumentException.class, () -> evaluator.interpolate(new double[0], new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> evaluator.interpolate(new double[1], new double[2]));
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluator.interpolate(new double[]{1.0, 2.0, 1.0}, new double[3]));
+    }
+
+    @Test
+    void testInterpolateManyPoints() {
+        final var randomizer = new UniformRandomizer();
+        final var evaluator = new MultipointPolynomialEvaluator();
+        // directly interpolated and interpolated through subproduct tree
+        for (final var crossoverSize : new int[]{MultipointPolynomialEvaluator.DEFAULT_CROSSOVER_SIZE,
+                SMALL_CROSSOVER_SIZE}) {
+            evaluator.setCrossoverSize(crossoverSize);
+            for (var t = 0; t < TIMES; t++) {
+                final var numPoints = randomizer.nextInt(MIN_LARGE_INTERPOLATION_POINTS,
+                        MAX_LARGE_INTERPOLATION_POINTS + 1);
+                final var polynomial = new Polynomial(numPoints);
+                randomizer.fill(polynomial.getPolyParams(), MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+                // equispaced and Chebyshev nodes
+                final var equispaced = new double[numPoints];
+                final var chebyshev = new double[numPoints];
+                for (var i = 0; i < numPoints; i++) {
+                    equispaced[i] = MIN_RANDOM_VALUE + (MAX_RANDOM_VALUE - MIN_RANDOM_VALUE) * i / (numPoints - 1);
+                    chebyshev[i] = Math.cos(Math.PI * (i + 0.5) / numPoints);
+                }
+
+                for (final var xs : new double[][]{equispaced, chebyshev}) {
+                    final var ys = new double[numPoints];
+                    var maxY = 0.0;
+                    for (var i = 0; i < numPoints; i++) {
+                        ys[i] = polynomial.evaluate(xs[i]);
+                        maxY = Math.max(maxY, Math.abs(ys[i]));
+                    }
+
+                    final var result = evaluator.interpolate(xs, ys);
+
+                    // check that interpolated polynomial passes through all
+                    // points
+                    assertEquals(numPoints, result.getPolyParams().length);
+                    for (var i = 0; i < numPoints; i++) {
+                        assertEquals(ys[i], result.evaluate(xs[i]), LARGE_ABSOLUTE_ERROR * maxY);
+                    }
+                }
+            }
+        }
+    }
+}
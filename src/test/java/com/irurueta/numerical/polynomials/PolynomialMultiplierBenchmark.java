@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.polynomials;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark used to obtain crossover sizes of {@link PolynomialMultiplier}.
+ * For each size, it measures direct (schoolbook) multiplication, a single
+ * level of Karatsuba's algorithm, full Karatsuba's algorithm and FFT
+ * multiplication of two polynomials having that number of parameters.
+ * The smallest sizes where a single level of Karatsuba's algorithm beats
+ * direct multiplication, and where FFT beats the other algorithms are used to
+ * set {@link PolynomialMultiplier#DEFAULT_KARATSUBA_THRESHOLD} and
+ * {@link PolynomialMultiplier#DEFAULT_FFT_THRESHOLD}.
+ * This is not a unit test. Once test sources are compiled, it can be run with:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/classes:target/test-classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main PolynomialMultiplierBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PolynomialMultiplierBenchmark {
+
+    @Param({"16", "32", "48", "64", "96", "128", "192", "256", "384", "512", "1024", "4096"})
+    public int size;
+
+    private double[] a;
+
+    private double[] b;
+
+    private double[] result;
+
+    private PolynomialMultiplier singleLevelMultiplier;
+
+    private PolynomialMultiplier multiplier;
+
+    @Setup
+    public void setUp() {
+        final var random = new Random(0);
+        a = new double[size];
+        b = new double[size];
+        for (var i = 0; i < size; i++) {
+            a[i] = random.nextDouble();
+            b[i] = random.nextDouble();
+        }
+        result = new double[2 * size - 1];
+
+        // halves are multiplied directly
+        singleLevelMultiplier = new PolynomialMultiplier();
+        singleLevelMultiplier.setKaratsubaThreshold(size);
+
+        multiplier = new PolynomialMultiplier();
+    }
+
+    @Benchmark
+    public double[] schoolbook() {
+        PolynomialMultiplier.multiplySchoolbook(a, 0, size, b, 0, size, result, 0);
+        return result;
+    }
+
+    @Benchmark
+    public double[] karatsubaSingleLevel() {
+        singleLevelMultiplier.multiplyKaratsuba(a, 0, size, b, 0, size, result, 0);
+        return result;
+    }
+
+    @Benchmark
+    public double[] karatsuba() {
+        multiplier.multiplyKaratsuba(a, 0, size, b, 0, size, result, 0);
+        return result;
+    }
+
+    @Benchmark
+    public double[] fft() {
+        multiplier.multiplyFFT(a, 0, size, b, 0, size, result, 0);
+        return result;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.polynomials;
+
+import com.irurueta.numerical.signal.processing.Convolver1D;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialMultiplierTest {
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final int MAX_LENGTH = 2000;
+
+    private static final double ABSOLUTE_ERROR = 1e-9;
+
+    private static final int TIMES = 20;
+
+    @Test
+    void testConstructor() {
+        final var multiplier = new PolynomialMultiplier();
+
+        // check default values
+        assertEquals(PolynomialMultiplier.DEFAULT_KARATSUBA_THRESHOLD, multiplier.getKaratsubaThreshold());
+        assertEquals(PolynomialMultiplier.DEFAULT_FFT_THRESHOLD, multiplier.getFFTThreshold());
+    }
+
+    @Test
+    void testGetSetThresholds() {
+        final var multiplier = new PolynomialMultiplier();
+
+        // set new values
+        multiplier.setKaratsubaThreshold(8);
+        multiplier.setFFTThreshold(100);
+
+        // check
+        assertEquals(8, multiplier.getKaratsubaThreshold());
+        assertEquals(100, multiplier.getFFTThreshold());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> multiplier.setKaratsubaThreshold(1));
+        assertThrows(IllegalArgumentException.class, () -> multiplier.setFFTThreshold(0));
+    }
+
+    @Test
+    void testMultiplyAlgorithms() {
+        final var randomizer = new UniformRandomizer();
+        final var multiplier = new PolynomialMultiplier();
+        multiplier.setKaratsubaThreshold(PolynomialMultiplier.MIN_KARATSUBA_THRESHOLD);
+        for (var t = 0; t < TIMES; t++) {
+            final var a = new double[randomizer.nextInt(1, MAX_LENGTH)];
+            final var b = new double[randomizer.nextInt(1, MAX_LENGTH)];
+            randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var resultLength = a.length + b.length - 1;
+
+            final var expected = new double[resultLength];
+            PolynomialMultiplier.multiplySchoolbook(a, 0, a.length, b, 0, b.length, expected, 0);
+
+            final var karatsuba = new double[resultLength];
+            multiplier.multiplyKaratsuba(a, 0, a.length, b, 0, b.length, karatsuba, 0);
+            final var fft = new double[resultLength];
+            multiplier.multiplyFFT(a, 0, a.length, b, 0, b.length, fft, 0);
+
+            // check
+            assertArrayEquals(expected, karatsuba, ABSOLUTE_ERROR);
+            assertArrayEquals(expected, fft, ABSOLUTE_ERROR);
+            assertArrayEquals(expected, Convolver1D.convolve(a, b), ABSOLUTE_ERROR);
+        }
+    }
+
+    @Test
+    void testMultiply() {
+        final var randomizer = new UniformRandomizer();
+        final var multiplier = new PolynomialMultiplier();
+        for (var t = 0; t < TIMES; t++) {
+            final var p1 = new Polynomial(randomizer.nextInt(1, MAX_LENGTH));
+            final var p2 = new Polynomial(randomizer.nextInt(1, MAX_LENGTH));
+            randomizer.fill(p1.getPolyParams(), MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            randomizer.fill(p2.getPolyParams(), MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var expected = Convolver1D.convolve(p1.getPolyParams(), p2.getPolyParams());
+
+            // check
+            assertArrayEquals(expected, multiplier.multiply(p1, p2).getPolyParams(), ABSOLUTE_ERROR);
+            assertArrayEquals(expected, p1.multiplyAndReturnNew(p2).getPolyParams(), ABSOLUTE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        final var a = new double[2];
+        assertThrows(IllegalArgumentException.class,
+                () -> multiplier.multiply(null, 0, 2, a, 0, 2, new double[3], 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> multiplier.multiply(a, 0, 0, a, 0, 2, new double[3], 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> multiplier.multiply(a, 1, 2, a, 0, 2, new double[3], 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> multiplier.multiply(a, 0, 2, a, 0, 2, new double[2], 0));
+    }
+
+    @Test
+    void testMultiplyProductTree() {
+        final var randomizer = new UniformRandomizer();
+        final var multiplier = new PolynomialMultiplier();
+        for (var t = 0; t < TIMES; t++) {
+            // product of first degree polynomials (x - r_i)
+            final var count = randomizer.nextInt(1, 200);
+            final var polynomials = new ArrayList<Polynomial>();
+            var expected = new Polynomial(1.0);
+            for (var i = 0; i < count; i++) {
+                final var polynomial = new Polynomial(randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE),
+                        1.0);
+                polynomials.add(polynomial);
+                expected = expected.multiplyAndReturnNew(polynomial);
+            }
+
+            final var result = multiplier.multiply(polynomials);
+            final var result2 = multiplier.multiply(polynomials.toArray(new Polynomial[0]));
+
+            // check
+            assertEquals(count, result.getDegree());
+            var maxParam = 0.0;
+            for (final var param : expected.getPolyParams()) {
+                maxParam = Math.max(maxParam, Math.abs(param));
+            }
+            assertArrayEquals(expected.getPolyParams(), result.getPolyParams(), ABSOLUTE_ERROR * maxParam);
+            assertArrayEquals(result.getPolyParams(), result2.getPolyParams(), 0.0);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> multiplier.multiply(new ArrayList<>()));
+        assertThrows(IllegalArgumentException.class, () -> multiplier.multiply((Polynomial[]) null));
+    }
+}
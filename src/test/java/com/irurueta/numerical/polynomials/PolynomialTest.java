@@ -19,9 +19,11 @@ import com.irurueta.algebra.ArrayUtils;
 import com.irurueta.numerical.NumericalException;
 import com.irurueta.numerical.SerializationHelper;
 import com.irurueta.statistics.UniformRandomizer;
+import com.sun.management.ThreadMXBean;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -39,6 +41,17 @@ class PolynomialTest {
 
     private static final int TIMES = 50;
 
+    private static final int WARM_UP_TIMES = 2000;
+
+    private static final int EVALUATION_TIMES = 1000;
+
+    /**
+     * Small amount of memory allowed to be allocated on each batch evaluation
+     * once buffers have been allocated, to account for the accuracy of
+     * allocation counters.
+     */
+    private static final long MAX_ALLOCATED_BYTES_PER_EVALUATION = 16L;
+
     @Test
     void testConstructor() throws NumericalException {
         // test empty constructor
@@ -806,6 +819,125 @@ class PolynomialTest {
                 + 2 * x * x + 4 * x + 4, p.evaluate(x), ABSOLUTE_ERROR);
     }
 
+    @Test
+    void testBatchEvaluate() {
+        final var randomizer = new UniformRandomizer();
+        for (var t = 0; t < TIMES; t++) {
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var params = new double[length];
+            randomizer.fill(params, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var p = new Polynomial(params);
+
+            final var numValues = randomizer.nextInt(MIN_LENGTH, 4 * MAX_LENGTH);
+            final var xs = new double[numValues];
+            randomizer.fill(xs, -1.0, 1.0);
+
+            final var out = new double[numValues];
+            p.evaluateBatch(xs, out);
+            final var out2 = p.evaluateBatchAndReturnNew(xs);
+
+            // check correctness
+            for (var i = 0; i < numValues; i++) {
+                assertEquals(p.evaluate(xs[i]), out[i], ABSOLUTE_ERROR);
+            }
+            assertArrayEquals(out, out2, 0.0);
+
+            // evaluate in place
+            final var xs2 = xs.clone();
+            p.evaluateBatch(xs2, xs2);
+            assertArrayEquals(out, xs2, 0.0);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> p.evaluateBatch(null, out));
+            assertThrows(IllegalArgumentException.class, () -> p.evaluateBatch(xs, null));
+            assertThrows(IllegalArgumentException.class, () -> p.evaluateBatch(xs, new double[numValues + 1]));
+            assertThrows(IllegalArgumentException.class, () -> p.evaluateBatchAndReturnNew(null));
+        }
+    }
+
+    @Test
+    void testBatchEvaluateDerivatives() {
+        final var randomizer = new UniformRandomizer();
+        for (var t = 0; t < TIMES; t++) {
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var params = new double[length];
+            randomizer.fill(params, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var p = new Polynomial(params);
+
+            final var numValues = randomizer.nextInt(MIN_LENGTH, 4 * MAX_LENGTH);
+            final var xs = new double[numValues];
+            randomizer.fill(xs, -1.0, 1.0);
+
+            final var order = randomizer.nextInt(1, MAX_LENGTH + 1);
+            final var derivative = new double[numValues];
+            final var nthDerivative = new double[numValues];
+            final var all = new double[order + 1][numValues];
+            p.evaluateDerivativeBatch(xs, derivative);
+            p.evaluateNthDerivativeBatch(xs, order, nthDerivative);
+            p.evaluateWithDerivatives(xs, order, all);
+
+            // check correctness
+            for (var i = 0; i < numValues; i++) {
+                assertEquals(p.evaluateDerivative(xs[i]), derivative[i], ABSOLUTE_ERROR);
+                assertEquals(p.evaluateNthDerivative(xs[i], order), nthDerivative[i], LARGE_ABSOLUTE_ERROR);
+                assertEquals(p.evaluate(xs[i]), all[0][i], ABSOLUTE_ERROR);
+                for (var d = 1; d <= order; d++) {
+                    assertEquals(p.evaluateNthDerivative(xs[i], d), all[d][i], LARGE_ABSOLUTE_ERROR);
+                }
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> p.evaluateDerivativeBatch(xs, new double[numValues + 1]));
+            assertThrows(IllegalArgumentException.class, () -> p.evaluateNthDerivativeBatch(xs, 0, nthDerivative));
+            assertThrows(IllegalArgumentException.class,
+                    () -> p.evaluateNthDerivativeBatch(xs, order, new double[numValues + 1]));
+            assertThrows(IllegalArgumentException.class, () -> p.evaluateWithDerivatives(xs, 0, all));
+            assertThrows(IllegalArgumentException.class, () -> p.evaluateWithDerivatives(xs, order, null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> p.evaluateWithDerivatives(xs, order + 1, all));
+            assertThrows(IllegalArgumentException.class,
+                    () -> p.evaluateWithDerivatives(xs, order, new double[order + 1][numValues + 1]));
+        }
+    }
+
+    @Test
+    void testBatchEvaluateDerivativesDoesNotAllocate() {
+        final var randomizer = new UniformRandomizer();
+        final var params = new double[2 * MAX_LENGTH];
+        randomizer.fill(params, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var p = new Polynomial(params);
+
+        final var xs = new double[4 * MAX_LENGTH];
+        randomizer.fill(xs, -1.0, 1.0);
+        final var out = new double[xs.length];
+
+        final var threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        // warm up so that buffers are allocated and code is compiled
+        for (var i = 0; i < WARM_UP_TIMES; i++) {
+            p.evaluateDerivativeBatch(xs, out);
+            p.evaluateNthDerivativeBatch(xs, 2, out);
+        }
+
+        final var before = threadBean.getCurrentThreadAllocatedBytes();
+        for (var i = 0; i < EVALUATION_TIMES; i++) {
+            p.evaluateDerivativeBatch(xs, out);
+            p.evaluateNthDerivativeBatch(xs, 2, out);
+        }
+        final var after = threadBean.getCurrentThreadAllocatedBytes();
+
+        // check that buffers are not allocated on steady state
+        assertTrue((after - before) / EVALUATION_TIMES <= MAX_ALLOCATED_BYTES_PER_EVALUATION);
+
+        // check correctness of last evaluation
+        for (var i = 0; i < xs.length; i++) {
+            assertEquals(p.evaluateNthDerivative(xs[i], 2), out[i], LARGE_ABSOLUTE_ERROR);
+        }
+    }
+
     @Test
     void testDerivativeWithResult() {
         // 5 --> 0
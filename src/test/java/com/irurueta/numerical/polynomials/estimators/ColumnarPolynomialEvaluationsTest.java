@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.polynomials.estimators;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarPolynomialEvaluationsTest {
+
+    @Test
+    void testConstructor() {
+        final var x = new double[]{1.0, 2.0, 3.0};
+        final var values = new double[]{4.0, 5.0, 6.0};
+
+        // test constructor with direct evaluations
+        var evaluations = new ColumnarPolynomialEvaluations(x, values);
+
+        // check
+        assertEquals(3, evaluations.size());
+        assertSame(x, evaluations.getX());
+        assertSame(values, evaluations.getEvaluations());
+        assertNull(evaluations.getDerivativeOrders());
+        assertEquals(ColumnarPolynomialEvaluations.DIRECT_EVALUATION_ORDER, evaluations.getDerivativeOrder(1));
+        assertEquals(3, evaluations.getNumberOfDirectEvaluations());
+
+        // test constructor with derivative orders
+        final var orders = new int[]{0, 1, 2};
+        evaluations = new ColumnarPolynomialEvaluations(x, values, orders);
+
+        // check
+        assertEquals(3, evaluations.size());
+        assertSame(x, evaluations.getX());
+        assertSame(values, evaluations.getEvaluations());
+        assertSame(orders, evaluations.getDerivativeOrders());
+        assertEquals(0, evaluations.getDerivativeOrder(0));
+        assertEquals(1, evaluations.getDerivativeOrder(1));
+        assertEquals(2, evaluations.getDerivativeOrder(2));
+        assertEquals(1, evaluations.getNumberOfDirectEvaluations());
+
+        // Force IllegalArgumentException
+        final var wrongValues = new double[2];
+        final var wrongOrders = new int[]{0, -1, 1};
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarPolynomialEvaluations(null, values));
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarPolynomialEvaluations(x, null));
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarPolynomialEvaluations(x, wrongValues));
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarPolynomialEvaluations(x, values,
+                new int[2]));
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarPolynomialEvaluations(x, values,
+                wrongOrders));
+    }
+
+    @Test
+    void testGetEvaluation() {
+        final var x = new double[]{1.0, 2.0};
+        final var values = new double[]{4.0, 5.0};
+        final var orders = new int[]{0, 2};
+        final var evaluations = new ColumnarPolynomialEvaluations(x, values, orders);
+
+        // check direct evaluation
+        final var direct = assertInstanceOf(DirectPolynomialEvaluation.class, evaluations.getEvaluation(0));
+        assertEquals(1.0, direct.getX(), 0.0);
+        assertEquals(4.0, direct.getEvaluation(), 0.0);
+
+        // check derivative evaluation
+        final var derivative = assertInstanceOf(DerivativePolynomialEvaluation.class,
+                evaluations.getEvaluation(1));
+        assertEquals(2.0, derivative.getX(), 0.0);
+        assertEquals(5.0, derivative.getEvaluation(), 0.0);
+        assertEquals(2, derivative.getDerivativeOrder());
+    }
+}
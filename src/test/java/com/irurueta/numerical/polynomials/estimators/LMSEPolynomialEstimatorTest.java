@@ -1192,6 +1192,149 @@ class LMSEPolynomialEstimatorTest implements PolynomialEstimatorListener {
         estimateStart = estimateEnd = 0;
     }
 
+    @Test
+    void testGetSetColumnarEvaluations() throws LockedException {
+        final var estimator = new LMSEPolynomialEstimator();
+
+        // check default value
+        assertNull(estimator.getColumnarEvaluations());
+
+        // set new value
+        final var columnarEvaluations = new ColumnarPolynomialEvaluations(new double[2], new double[2]);
+        estimator.setColumnarEvaluations(columnarEvaluations);
+
+        // check correctness
+        assertSame(columnarEvaluations, estimator.getColumnarEvaluations());
+        assertNull(estimator.getEvaluations());
+
+        // setting a list of evaluations discards columnar evaluations
+        final var evaluations = new ArrayList<PolynomialEvaluation>();
+        estimator.setEvaluations(evaluations);
+
+        // check correctness
+        assertSame(evaluations, estimator.getEvaluations());
+        assertNull(estimator.getColumnarEvaluations());
+
+        // test constructors
+        var estimator2 = new LMSEPolynomialEstimator(columnarEvaluations);
+        assertSame(columnarEvaluations, estimator2.getColumnarEvaluations());
+        assertEquals(1, estimator2.getDegree());
+        assertTrue(estimator2.isReady());
+
+        estimator2 = new LMSEPolynomialEstimator(2, columnarEvaluations);
+        assertSame(columnarEvaluations, estimator2.getColumnarEvaluations());
+        assertEquals(2, estimator2.getDegree());
+        assertFalse(estimator2.isReady());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new LMSEPolynomialEstimator(0, columnarEvaluations));
+    }
+
+    @Test
+    void testIsReadyWithColumnarEvaluations() throws LockedException {
+        final var estimator = new LMSEPolynomialEstimator(2);
+
+        // not enough evaluations
+        estimator.setColumnarEvaluations(new ColumnarPolynomialEvaluations(new double[2], new double[2]));
+        assertFalse(estimator.isReady());
+
+        // no direct evaluation
+        estimator.setColumnarEvaluations(new ColumnarPolynomialEvaluations(new double[3], new double[3],
+                new int[]{1, 1, 2}));
+        assertFalse(estimator.isReady());
+
+        // enough evaluations and at least one direct evaluation
+        estimator.setColumnarEvaluations(new ColumnarPolynomialEvaluations(new double[3], new double[3],
+                new int[]{1, 0, 2}));
+        assertTrue(estimator.isReady());
+    }
+
+    @Test
+    void testEstimateWithColumnarEvaluationsNoLMSEAllowed() throws LockedException, NotReadyException,
+            PolynomialEstimationException {
+        final var estimator = new LMSEPolynomialEstimator(2);
+
+        // check default values
+        assertFalse(estimator.isReady());
+        assertFalse(estimator.isLMSESolutionAllowed());
+
+        // create random 2nd degree polynomial
+        final var randomizer = new UniformRandomizer();
+        final var polyParams = new double[3];
+        randomizer.fill(polyParams, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var polynomial = new Polynomial(polyParams);
+
+        // one direct, one first and one second order derivative evaluations,
+        // followed by an inconsistent evaluation that must be ignored
+        final var x = new double[4];
+        randomizer.fill(x, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var orders = new int[]{0, 1, 2, 0};
+        final var values = new double[]{
+                polynomial.evaluate(x[0]),
+                polynomial.evaluateDerivative(x[1]),
+                polynomial.evaluateSecondDerivative(x[2]),
+                polynomial.evaluate(x[3]) + 1.0};
+
+        estimator.setColumnarEvaluations(new ColumnarPolynomialEvaluations(x, values, orders));
+
+        assertTrue(estimator.isReady());
+
+        estimator.setListener(this);
+        reset();
+
+        // estimate
+        final var polynomial2 = estimator.estimate();
+
+        // check correctness
+        assertArrayEquals(polyParams, polynomial2.getPolyParams(), ABSOLUTE_ERROR);
+        assertEquals(1, estimateStart);
+        assertEquals(1, estimateEnd);
+    }
+
+    @Test
+    void testEstimateWithColumnarEvaluationsLMSEAllowed() throws LockedException, NotReadyException,
+            PolynomialEstimationException {
+        final var estimator = new LMSEPolynomialEstimator(2);
+        estimator.setLMSESolutionAllowed(true);
+
+        // create random 2nd degree polynomial
+        final var randomizer = new UniformRandomizer();
+        final var polyParams = new double[3];
+        randomizer.fill(polyParams, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var polynomial = new Polynomial(polyParams);
+
+        final var n = 3 * estimator.getMinNumberOfEvaluations();
+        final var x = new double[n];
+        final var values = new double[n];
+        final var orders = new int[n];
+        final var evaluations = new ArrayList<PolynomialEvaluation>();
+        randomizer.fill(x, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        for (var i = 0; i < n; i++) {
+            orders[i] = i % 3;
+            if (orders[i] == 0) {
+                values[i] = polynomial.evaluate(x[i]);
+                evaluations.add(new DirectPolynomialEvaluation(x[i], values[i]));
+            } else {
+                values[i] = polynomial.evaluateNthDerivative(x[i], orders[i]);
+                evaluations.add(new DerivativePolynomialEvaluation(x[i], values[i], orders[i]));
+            }
+        }
+
+        // estimate with columnar evaluations
+        estimator.setColumnarEvaluations(new ColumnarPolynomialEvaluations(x, values, orders));
+        final var polynomial2 = estimator.estimate();
+
+        // estimate with list of evaluations
+        estimator.setEvaluations(evaluations);
+        final var polynomial3 = estimator.estimate();
+
+        // check correctness
+        assertArrayEquals(polyParams, polynomial2.getPolyParams(), ABSOLUTE_ERROR);
+        assertArrayEquals(polynomial3.getPolyParams(), polynomial2.getPolyParams(), ABSOLUTE_ERROR);
+    }
+
     @Override
     public void onEstimateStart(final PolynomialEstimator estimator) {
         estimateStart++;
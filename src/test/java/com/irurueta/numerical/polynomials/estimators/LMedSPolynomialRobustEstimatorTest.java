@@ -42,6 +42,10 @@ class LMedSPolynomialRobustEstimatorTest implements PolynomialRobustEstimatorLis
 
     private static final double STD_ERROR = 100.0;
 
+    private static final double INLIER_STD_ERROR = 0.1;
+
+    private static final double IRLS_ABSOLUTE_ERROR = 0.1;
+
     private static final int TIMES = 10;
 
     private int estimateStart;
@@ -854,6 +858,102 @@ class LMedSPolynomialRobustEstimatorTest implements PolynomialRobustEstimatorLis
         assertTrue(numValid > 0);
     }
 
+    @Test
+    void testEstimateWithIRLSRefinement() throws LockedException, NotReadyException, RobustEstimatorException {
+        final var randomizer = new UniformRandomizer();
+
+        for (final var weightFunction : IRLSWeightFunction.values()) {
+            var unrefinedError = 0.0;
+            var refinedError = 0.0;
+            for (var t = 0; t < TIMES; t++) {
+                // create random 2nd degree polynomial
+                final var polyParams = new double[3];
+                randomizer.fill(polyParams, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                final var evaluations = createNoisyEvaluations(new Polynomial(polyParams));
+
+                final var estimator = new LMedSPolynomialRobustEstimator(2, evaluations);
+                assertFalse(estimator.isIRLSRefinementEnabled());
+
+                // estimate without refinement
+                final var unrefined = estimator.estimate();
+
+                // estimate with refinement
+                estimator.setIRLSRefinementEnabled(true);
+                estimator.setIRLSWeightFunction(weightFunction);
+                final var refined = estimator.estimate();
+
+                // check correctness
+                assertArrayEquals(polyParams, refined.getPolyParams(), IRLS_ABSOLUTE_ERROR);
+
+                unrefinedError += paramsError(polyParams, unrefined.getPolyParams());
+                refinedError += paramsError(polyParams, refined.getPolyParams());
+            }
+
+            assertTrue(refinedError < unrefinedError);
+        }
+    }
+
+    @Test
+    void testRefineIRLSWithoutInliersData() throws LockedException, NotReadyException, RobustEstimatorException {
+        final var randomizer = new UniformRandomizer();
+
+        for (final var weightFunction : IRLSWeightFunction.values()) {
+            var unrefinedError = 0.0;
+            var refinedError = 0.0;
+            for (var t = 0; t < TIMES; t++) {
+                // create random 2nd degree polynomial
+                final var polyParams = new double[3];
+                randomizer.fill(polyParams, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                final var evaluations = createNoisyEvaluations(new Polynomial(polyParams));
+
+                final var estimator = new LMedSPolynomialRobustEstimator(2, evaluations);
+                final var unrefined = estimator.estimate();
+                final var unrefinedParams = unrefined.getPolyParams().clone();
+
+                // refine using all evaluations, including outliers
+                estimator.setIRLSRefinementEnabled(true);
+                estimator.setIRLSWeightFunction(weightFunction);
+                final var refined = estimator.refineIRLS(unrefined, null);
+
+                // check that polynomial has been refined in place
+                assertSame(unrefined, refined);
+                assertArrayEquals(polyParams, refined.getPolyParams(), IRLS_ABSOLUTE_ERROR);
+
+                unrefinedError += paramsError(polyParams, unrefinedParams);
+                refinedError += paramsError(polyParams, refined.getPolyParams());
+            }
+
+            assertTrue(refinedError < unrefinedError);
+        }
+    }
+
+    private static ArrayList<PolynomialEvaluation> createNoisyEvaluations(final Polynomial polynomial) {
+        final var randomizer = new UniformRandomizer();
+        final var inlierErrorRandomizer = new GaussianRandomizer(0.0, INLIER_STD_ERROR);
+        final var errorRandomizer = new GaussianRandomizer(0.0, STD_ERROR);
+
+        final var numEvaluations = randomizer.nextInt(MIN_EVALUATIONS, MAX_EVALUATIONS);
+        final var evaluations = new ArrayList<PolynomialEvaluation>();
+        for (var i = 0; i < numEvaluations; i++) {
+            final var x = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            var value = polynomial.evaluate(x) + inlierErrorRandomizer.nextDouble();
+            if (randomizer.nextInt(0, 100) < PERCENTAGE_OUTLIER) {
+                // evaluation is outlier
+                value += errorRandomizer.nextDouble();
+            }
+            evaluations.add(new DirectPolynomialEvaluation(x, value));
+        }
+        return evaluations;
+    }
+
+    private static double paramsError(final double[] expected, final double[] actual) {
+        var sqrNorm = 0.0;
+        for (var i = 0; i < expected.length; i++) {
+            final var diff = actual[i] - expected[i];
+            sqrNorm += diff * diff;
+        }
+        return Math.sqrt(sqrNorm);
+    }
 
     private void reset() {
         estimateStart = estimateEnd = estimateNextIteration = estimateProgressChange = 0;
@@ -890,6 +890,154 @@ class PROSACPolynomialRobustEstimatorTest implements PolynomialRobustEstimatorLi
         estimateStart = estimateEnd = estimateNextIteration = estimateProgressChange = 0;
     }
 
+    @Test
+    void testGetSetColumnarEvaluations() throws LockedException {
+        final var estimator = new PROSACPolynomialRobustEstimator();
+
+        // check default value
+        assertNull(estimator.getColumnarEvaluations());
+
+        // set new value
+        final var columnarEvaluations = new ColumnarPolynomialEvaluations(new double[2], new double[2]);
+        estimator.setColumnarEvaluations(columnarEvaluations);
+
+        // check correctness
+        assertSame(columnarEvaluations, estimator.getColumnarEvaluations());
+        assertNull(estimator.getEvaluations());
+
+        // setting a list of evaluations discards columnar evaluations
+        final var evaluations = new ArrayList<PolynomialEvaluation>();
+        evaluations.add(new DirectPolynomialEvaluation());
+        evaluations.add(new DirectPolynomialEvaluation());
+        estimator.setEvaluations(evaluations);
+
+        // check correctness
+        assertSame(evaluations, estimator.getEvaluations());
+        assertNull(estimator.getColumnarEvaluations());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setColumnarEvaluations(null));
+        final var wrong = new ColumnarPolynomialEvaluations(new double[1], new double[1]);
+        assertThrows(IllegalArgumentException.class, () -> estimator.setColumnarEvaluations(wrong));
+    }
+
+    @Test
+    void testEstimateColumnarEvaluationsAlgebraicDistance() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+
+        for (var t = 0; t < TIMES; t++) {
+            final var estimator = new PROSACPolynomialRobustEstimator();
+
+            // create random 1st degree polynomial
+            final var randomizer = new UniformRandomizer();
+            final var polyParams = new double[2];
+            randomizer.fill(polyParams, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var polynomial = new Polynomial(polyParams);
+
+            // half of evaluations are direct and the other half are first
+            // order derivatives
+            final var numEvaluations = randomizer.nextInt(MIN_EVALUATIONS, MAX_EVALUATIONS);
+            final var errorRandomizer = new GaussianRandomizer(0.0, STD_ERROR);
+            final var x = new double[numEvaluations];
+            final var values = new double[numEvaluations];
+            final var orders = new int[numEvaluations];
+            final var qualityScores = new double[numEvaluations];
+            for (var i = 0; i < numEvaluations; i++) {
+                x[i] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                orders[i] = i % 2;
+                final var value = orders[i] == 0 ? polynomial.evaluate(x[i]) : polynomial.evaluateDerivative(x[i]);
+                final var scoreError = randomizer.nextDouble(MIN_SCORE_ERROR, MAX_SCORE_ERROR);
+                qualityScores[i] = 1.0 + scoreError;
+
+                if (randomizer.nextInt(0, 100) < PERCENTAGE_OUTLIER) {
+                    // evaluation is outlier
+                    final var error = errorRandomizer.nextDouble();
+                    values[i] = value + error;
+                    qualityScores[i] = 1.0 / (1.0 + Math.abs(error)) + scoreError;
+                } else {
+                    values[i] = value;
+                }
+            }
+
+            estimator.setColumnarEvaluations(new ColumnarPolynomialEvaluations(x, values, orders));
+            estimator.setQualityScores(qualityScores);
+
+            estimator.setListener(this);
+            reset();
+
+            assertTrue(estimator.isReady());
+            assertFalse(estimator.isLocked());
+
+            // estimate
+            final var polynomial2 = estimator.estimate();
+
+            // check correctness
+            assertArrayEquals(polynomial2.getPolyParams(), polyParams, ABSOLUTE_ERROR);
+            assertEquals(1, estimateStart);
+            assertEquals(1, estimateEnd);
+        }
+    }
+
+    @Test
+    void testEstimateColumnarEvaluationsGeometricDistance() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+
+        for (var t = 0; t < TIMES; t++) {
+            final var estimator = new PROSACPolynomialRobustEstimator();
+            estimator.setGeometricDistanceUsed(true);
+
+            // create random 1st degree polynomial
+            final var randomizer = new UniformRandomizer();
+            final var polyParams = new double[2];
+            randomizer.fill(polyParams, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var polynomial = new Polynomial(polyParams);
+
+            // half of evaluations are direct and the other half are first
+            // order derivatives
+            final var numEvaluations = randomizer.nextInt(MIN_EVALUATIONS, MAX_EVALUATIONS);
+            final var errorRandomizer = new GaussianRandomizer(0.0, STD_ERROR);
+            final var x = new double[numEvaluations];
+            final var values = new double[numEvaluations];
+            final var orders = new int[numEvaluations];
+            final var qualityScores = new double[numEvaluations];
+            for (var i = 0; i < numEvaluations; i++) {
+                x[i] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                orders[i] = i % 2;
+                final var value = orders[i] == 0 ? polynomial.evaluate(x[i]) : polynomial.evaluateDerivative(x[i]);
+                final var scoreError = randomizer.nextDouble(MIN_SCORE_ERROR, MAX_SCORE_ERROR);
+                qualityScores[i] = 1.0 + scoreError;
+
+                if (randomizer.nextInt(0, 100) < PERCENTAGE_OUTLIER) {
+                    // evaluation is outlier
+                    final var error = errorRandomizer.nextDouble();
+                    values[i] = value + error;
+                    qualityScores[i] = 1.0 / (1.0 + Math.abs(error)) + scoreError;
+                } else {
+                    values[i] = value;
+                }
+            }
+
+            estimator.setColumnarEvaluations(new ColumnarPolynomialEvaluations(x, values, orders));
+            estimator.setQualityScores(qualityScores);
+
+            estimator.setListener(this);
+            reset();
+
+            assertTrue(estimator.isReady());
+            assertFalse(estimator.isLocked());
+
+            // estimate
+            final var polynomial2 = estimator.estimate();
+
+            // check correctness
+            assertArrayEquals(polynomial2.getPolyParams(), polyParams, ABSOLUTE_ERROR);
+            assertEquals(1, estimateStart);
+            assertEquals(1, estimateEnd);
+        }
+    }
+
     @Override
     public void onEstimateStart(final PolynomialRobustEstimator estimator) {
         estimateStart++;
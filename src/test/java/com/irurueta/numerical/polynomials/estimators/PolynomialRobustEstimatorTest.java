@@ -15,7 +15,9 @@
  */
 package com.irurueta.numerical.polynomials.estimators;
 
+import com.irurueta.numerical.polynomials.Polynomial;
 import com.irurueta.numerical.robust.RobustEstimatorMethod;
+import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -201,6 +203,72 @@ class PolynomialRobustEstimatorTest implements PolynomialRobustEstimatorListener
                 this));
     }
 
+    @Test
+    void testCreateWithColumnarEvaluations() {
+        final var columnarEvaluations = new ColumnarPolynomialEvaluations(new double[3], new double[3]);
+
+        // test creator with degree and columnar evaluations
+        var estimator = PolynomialRobustEstimator.create(2, columnarEvaluations);
+
+        // check
+        assertInstanceOf(PROSACPolynomialRobustEstimator.class, estimator);
+        assertSame(columnarEvaluations, estimator.getColumnarEvaluations());
+        assertNull(estimator.getEvaluations());
+        assertEquals(2, estimator.getDegree());
+
+        // test creator with degree, columnar evaluations and method
+        for (final var method : RobustEstimatorMethod.values()) {
+            estimator = PolynomialRobustEstimator.create(1, columnarEvaluations, method);
+
+            // check
+            assertSame(columnarEvaluations, estimator.getColumnarEvaluations());
+            assertNull(estimator.getEvaluations());
+            assertEquals(1, estimator.getDegree());
+        }
+        estimator = PolynomialRobustEstimator.create(1, columnarEvaluations, RobustEstimatorMethod.RANSAC);
+        assertInstanceOf(RANSACPolynomialRobustEstimator.class, estimator);
+        assertTrue(estimator.isReady());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(0,
+                columnarEvaluations));
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(3,
+                columnarEvaluations));
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(1,
+                (ColumnarPolynomialEvaluations) null));
+    }
+
+    @Test
+    void testComputeDistances() {
+        final var randomizer = new UniformRandomizer();
+        final var numEvaluations = 50;
+        final var x = new double[numEvaluations];
+        final var y = new double[numEvaluations];
+        final var orders = new int[numEvaluations];
+        randomizer.fill(x, -1.0, 1.0);
+        randomizer.fill(y, -1.0, 1.0);
+        for (var i = 0; i < numEvaluations; i++) {
+            orders[i] = randomizer.nextInt(0, 3);
+        }
+        final var polynomial = new Polynomial(3);
+        randomizer.fill(polynomial.getPolyParams(), -1.0, 1.0);
+
+        // direct evaluations only and mixed with derivative evaluations
+        for (final var columnarEvaluations : new ColumnarPolynomialEvaluations[]{
+                new ColumnarPolynomialEvaluations(x, y), new ColumnarPolynomialEvaluations(x, y, orders)}) {
+            final var estimator = PolynomialRobustEstimator.create(2, columnarEvaluations,
+                    RobustEstimatorMethod.RANSAC);
+
+            final var distances = new double[numEvaluations];
+            estimator.computeDistances(polynomial, 0, numEvaluations, distances);
+
+            // check that distances match the ones obtained for each position
+            for (var i = 0; i < numEvaluations; i++) {
+                assertEquals(estimator.getDistance(i, polynomial), distances[i], 0.0);
+            }
+        }
+    }
+
     @Test
     void testCreteRANSAC() {
         // test creator with method
@@ -381,6 +449,366 @@ class PolynomialRobustEstimatorTest implements PolynomialRobustEstimatorListener
                 this, RobustEstimatorMethod.RANSAC));
     }
 
+    @Test
+    void testCreatePreemptiveRANSAC() {
+        // test creator with method
+        var estimator = PolynomialRobustEstimator.create(RobustEstimatorMethod.PREEMPTIVE_RANSAC);
+
+        // check
+        assertInstanceOf(PreemptiveRANSACPolynomialRobustEstimator.class, estimator);
+        assertNull(estimator.getEvaluations());
+        assertEquals(2, estimator.getMinNumberOfEvaluations());
+        assertNull(estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(PolynomialEstimator.MIN_DEGREE, estimator.getDegree());
+        assertFalse(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.PREEMPTIVE_RANSAC, estimator.getMethod());
+
+        // test creator with degree and method
+        estimator = PolynomialRobustEstimator.create(2, RobustEstimatorMethod.PREEMPTIVE_RANSAC);
+
+        // check
+        assertInstanceOf(PreemptiveRANSACPolynomialRobustEstimator.class, estimator);
+        assertNull(estimator.getEvaluations());
+        assertEquals(3, estimator.getMinNumberOfEvaluations());
+        assertNull(estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(2, estimator.getDegree());
+        assertFalse(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.PREEMPTIVE_RANSAC, estimator.getMethod());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(0,
+                RobustEstimatorMethod.PREEMPTIVE_RANSAC));
+
+        // test creator with evaluations and method
+        final var evaluations = new ArrayList<PolynomialEvaluation>();
+        evaluations.add(new DirectPolynomialEvaluation());
+        evaluations.add(new DirectPolynomialEvaluation());
+        estimator = PolynomialRobustEstimator.create(evaluations, RobustEstimatorMethod.PREEMPTIVE_RANSAC);
+
+        // check
+        assertInstanceOf(PreemptiveRANSACPolynomialRobustEstimator.class, estimator);
+        assertSame(estimator.getEvaluations(), evaluations);
+        assertEquals(2, estimator.getMinNumberOfEvaluations());
+        assertNull(estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(PolynomialEstimator.MIN_DEGREE, estimator.getDegree());
+        assertTrue(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.PREEMPTIVE_RANSAC, estimator.getMethod());
+
+        // Force IllegalArgumentException
+        final var wrongEvals = new ArrayList<PolynomialEvaluation>();
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(wrongEvals,
+                RobustEstimatorMethod.PREEMPTIVE_RANSAC));
+
+        // test creator with listener and method
+        estimator = PolynomialRobustEstimator.create(this, RobustEstimatorMethod.PREEMPTIVE_RANSAC);
+
+        // check
+        assertInstanceOf(PreemptiveRANSACPolynomialRobustEstimator.class, estimator);
+        assertNull(estimator.getEvaluations());
+        assertEquals(2, estimator.getMinNumberOfEvaluations());
+        assertSame(this, estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(PolynomialEstimator.MIN_DEGREE, estimator.getDegree());
+        assertFalse(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.PREEMPTIVE_RANSAC, estimator.getMethod());
+
+        // test creator with degree, evaluations and method
+        evaluations.add(new DirectPolynomialEvaluation());
+        estimator = PolynomialRobustEstimator.create(2, evaluations, RobustEstimatorMethod.PREEMPTIVE_RANSAC);
+
+        // check
+        assertInstanceOf(PreemptiveRANSACPolynomialRobustEstimator.class, estimator);
+        assertSame(evaluations, estimator.getEvaluations());
+        assertEquals(3, estimator.getMinNumberOfEvaluations());
+        assertNull(estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(2, estimator.getDegree());
+        assertTrue(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.PREEMPTIVE_RANSAC, estimator.getMethod());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(0, evaluations,
+                RobustEstimatorMethod.PREEMPTIVE_RANSAC));
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(2, wrongEvals,
+                RobustEstimatorMethod.PREEMPTIVE_RANSAC));
+
+        // test creator with degree, listener and method
+        estimator = PolynomialRobustEstimator.create(2, this, RobustEstimatorMethod.PREEMPTIVE_RANSAC);
+
+        // check
+        assertInstanceOf(PreemptiveRANSACPolynomialRobustEstimator.class, estimator);
+        assertNull(estimator.getEvaluations());
+        assertEquals(3, estimator.getMinNumberOfEvaluations());
+        assertSame(this, estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(2, estimator.getDegree());
+        assertFalse(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.PREEMPTIVE_RANSAC, estimator.getMethod());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(0, this,
+                RobustEstimatorMethod.PREEMPTIVE_RANSAC));
+
+        // test creator with evaluations and listener
+        estimator = PolynomialRobustEstimator.create(evaluations, this, RobustEstimatorMethod.PREEMPTIVE_RANSAC);
+
+        // check
+        assertInstanceOf(PreemptiveRANSACPolynomialRobustEstimator.class, estimator);
+        assertSame(evaluations, estimator.getEvaluations());
+        assertEquals(2, estimator.getMinNumberOfEvaluations());
+        assertSame(this, estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(1, estimator.getDegree());
+        assertTrue(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.PREEMPTIVE_RANSAC, estimator.getMethod());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(wrongEvals, this,
+                RobustEstimatorMethod.PREEMPTIVE_RANSAC));
+
+        // test creator with degree, evaluations, listener and method
+        estimator = PolynomialRobustEstimator.create(2, evaluations, this, RobustEstimatorMethod.PREEMPTIVE_RANSAC);
+
+        // check
+        assertInstanceOf(PreemptiveRANSACPolynomialRobustEstimator.class, estimator);
+        assertSame(evaluations, estimator.getEvaluations());
+        assertEquals(3, estimator.getMinNumberOfEvaluations());
+        assertSame(this, estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(2, estimator.getDegree());
+        assertTrue(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.PREEMPTIVE_RANSAC, estimator.getMethod());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(0, evaluations,
+                this, RobustEstimatorMethod.PREEMPTIVE_RANSAC));
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(2, wrongEvals,
+                this, RobustEstimatorMethod.PREEMPTIVE_RANSAC));
+    }
+
+    @Test
+    void testCreateMAGSAC() {
+        // test creator with method
+        var estimator = PolynomialRobustEstimator.create(RobustEstimatorMethod.MAGSAC);
+
+        // check
+        assertInstanceOf(MAGSACPolynomialRobustEstimator.class, estimator);
+        assertNull(estimator.getEvaluations());
+        assertEquals(2, estimator.getMinNumberOfEvaluations());
+        assertNull(estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(PolynomialEstimator.MIN_DEGREE, estimator.getDegree());
+        assertFalse(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.MAGSAC, estimator.getMethod());
+
+        // test creator with degree and method
+        estimator = PolynomialRobustEstimator.create(2, RobustEstimatorMethod.MAGSAC);
+
+        // check
+        assertInstanceOf(MAGSACPolynomialRobustEstimator.class, estimator);
+        assertNull(estimator.getEvaluations());
+        assertEquals(3, estimator.getMinNumberOfEvaluations());
+        assertNull(estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(2, estimator.getDegree());
+        assertFalse(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.MAGSAC, estimator.getMethod());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(0,
+                RobustEstimatorMethod.MAGSAC));
+
+        // test creator with evaluations and method
+        final var evaluations = new ArrayList<PolynomialEvaluation>();
+        evaluations.add(new DirectPolynomialEvaluation());
+        evaluations.add(new DirectPolynomialEvaluation());
+        estimator = PolynomialRobustEstimator.create(evaluations, RobustEstimatorMethod.MAGSAC);
+
+        // check
+        assertInstanceOf(MAGSACPolynomialRobustEstimator.class, estimator);
+        assertSame(estimator.getEvaluations(), evaluations);
+        assertEquals(2, estimator.getMinNumberOfEvaluations());
+        assertNull(estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(PolynomialEstimator.MIN_DEGREE, estimator.getDegree());
+        assertTrue(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.MAGSAC, estimator.getMethod());
+
+        // Force IllegalArgumentException
+        final var wrongEvals = new ArrayList<PolynomialEvaluation>();
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(wrongEvals,
+                RobustEstimatorMethod.MAGSAC));
+
+        // test creator with listener and method
+        estimator = PolynomialRobustEstimator.create(this, RobustEstimatorMethod.MAGSAC);
+
+        // check
+        assertInstanceOf(MAGSACPolynomialRobustEstimator.class, estimator);
+        assertNull(estimator.getEvaluations());
+        assertEquals(2, estimator.getMinNumberOfEvaluations());
+        assertSame(this, estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(PolynomialEstimator.MIN_DEGREE, estimator.getDegree());
+        assertFalse(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.MAGSAC, estimator.getMethod());
+
+        // test creator with degree, evaluations and method
+        evaluations.add(new DirectPolynomialEvaluation());
+        estimator = PolynomialRobustEstimator.create(2, evaluations, RobustEstimatorMethod.MAGSAC);
+
+        // check
+        assertInstanceOf(MAGSACPolynomialRobustEstimator.class, estimator);
+        assertSame(evaluations, estimator.getEvaluations());
+        assertEquals(3, estimator.getMinNumberOfEvaluations());
+        assertNull(estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(2, estimator.getDegree());
+        assertTrue(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.MAGSAC, estimator.getMethod());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(0, evaluations,
+                RobustEstimatorMethod.MAGSAC));
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(2, wrongEvals,
+                RobustEstimatorMethod.MAGSAC));
+
+        // test creator with degree, listener and method
+        estimator = PolynomialRobustEstimator.create(2, this, RobustEstimatorMethod.MAGSAC);
+
+        // check
+        assertInstanceOf(MAGSACPolynomialRobustEstimator.class, estimator);
+        assertNull(estimator.getEvaluations());
+        assertEquals(3, estimator.getMinNumberOfEvaluations());
+        assertSame(this, estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(2, estimator.getDegree());
+        assertFalse(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.MAGSAC, estimator.getMethod());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(0, this,
+                RobustEstimatorMethod.MAGSAC));
+
+        // test creator with evaluations and listener
+        estimator = PolynomialRobustEstimator.create(evaluations, this, RobustEstimatorMethod.MAGSAC);
+
+        // check
+        assertInstanceOf(MAGSACPolynomialRobustEstimator.class, estimator);
+        assertSame(evaluations, estimator.getEvaluations());
+        assertEquals(2, estimator.getMinNumberOfEvaluations());
+        assertSame(this, estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(1, estimator.getDegree());
+        assertTrue(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.MAGSAC, estimator.getMethod());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(wrongEvals, this,
+                RobustEstimatorMethod.MAGSAC));
+
+        // test creator with degree, evaluations, listener and method
+        estimator = PolynomialRobustEstimator.create(2, evaluations, this, RobustEstimatorMethod.MAGSAC);
+
+        // check
+        assertInstanceOf(MAGSACPolynomialRobustEstimator.class, estimator);
+        assertSame(evaluations, estimator.getEvaluations());
+        assertEquals(3, estimator.getMinNumberOfEvaluations());
+        assertSame(this, estimator.getListener());
+        assertFalse(estimator.isLocked());
+        assertEquals(DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(PolynomialRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_USE_GEOMETRIC_DISTANCE, estimator.isGeometricDistanceUsed());
+        assertEquals(2, estimator.getDegree());
+        assertTrue(estimator.isReady());
+        assertNull(estimator.getQualityScores());
+        assertEquals(RobustEstimatorMethod.MAGSAC, estimator.getMethod());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(0, evaluations,
+                this, RobustEstimatorMethod.MAGSAC));
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRobustEstimator.create(2, wrongEvals,
+                this, RobustEstimatorMethod.MAGSAC));
+    }
+
     @Test
     void testCreateLMedS() {
         // test creator with method
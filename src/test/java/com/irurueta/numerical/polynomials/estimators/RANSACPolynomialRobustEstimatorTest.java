@@ -42,6 +42,10 @@ class RANSACPolynomialRobustEstimatorTest implements PolynomialRobustEstimatorLi
 
     private static final double STD_ERROR = 100.0;
 
+    private static final double INLIER_STD_ERROR = 0.1;
+
+    private static final double IRLS_ABSOLUTE_ERROR = 0.1;
+
     private static final int TIMES = 10;
 
     private int estimateStart;
@@ -246,6 +250,22 @@ class RANSACPolynomialRobustEstimatorTest implements PolynomialRobustEstimatorLi
         assertThrows(IllegalArgumentException.class, () -> estimator.setThreshold(0.0));
     }
 
+    @Test
+    void testIsSetLocalOptimizationEnabled() throws LockedException {
+        final var estimator = new RANSACPolynomialRobustEstimator();
+
+        // check default value
+        assertEquals(RANSACPolynomialRobustEstimator.DEFAULT_LOCAL_OPTIMIZATION_ENABLED,
+                estimator.isLocalOptimizationEnabled());
+
+        // set new value
+        estimator.setLocalOptimizationEnabled(!RANSACPolynomialRobustEstimator.DEFAULT_LOCAL_OPTIMIZATION_ENABLED);
+
+        // check correctness
+        assertEquals(!RANSACPolynomialRobustEstimator.DEFAULT_LOCAL_OPTIMIZATION_ENABLED,
+                estimator.isLocalOptimizationEnabled());
+    }
+
     @Test
     void testGetSetEvaluations() throws LockedException {
         final var estimator = new RANSACPolynomialRobustEstimator();
@@ -366,6 +386,76 @@ class RANSACPolynomialRobustEstimatorTest implements PolynomialRobustEstimatorLi
         assertThrows(IllegalArgumentException.class, () -> estimator.setDegree(0));
     }
 
+    @Test
+    void testGetSetIRLSRefinement() throws LockedException {
+        final var estimator = new RANSACPolynomialRobustEstimator();
+
+        // check default values
+        assertEquals(PolynomialRobustEstimator.DEFAULT_IRLS_REFINEMENT_ENABLED,
+                estimator.isIRLSRefinementEnabled());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_IRLS_WEIGHT_FUNCTION, estimator.getIRLSWeightFunction());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_IRLS_MAX_ITERATIONS, estimator.getIRLSMaxIterations());
+        assertEquals(PolynomialRobustEstimator.DEFAULT_IRLS_CONVERGENCE_THRESHOLD,
+                estimator.getIRLSConvergenceThreshold(), 0.0);
+
+        // set new values
+        estimator.setIRLSRefinementEnabled(!PolynomialRobustEstimator.DEFAULT_IRLS_REFINEMENT_ENABLED);
+        estimator.setIRLSWeightFunction(IRLSWeightFunction.TUKEY);
+        estimator.setIRLSMaxIterations(5);
+        estimator.setIRLSConvergenceThreshold(1e-3);
+
+        // check correctness
+        assertEquals(!PolynomialRobustEstimator.DEFAULT_IRLS_REFINEMENT_ENABLED,
+                estimator.isIRLSRefinementEnabled());
+        assertEquals(IRLSWeightFunction.TUKEY, estimator.getIRLSWeightFunction());
+        assertEquals(5, estimator.getIRLSMaxIterations());
+        assertEquals(1e-3, estimator.getIRLSConvergenceThreshold(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setIRLSWeightFunction(null));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setIRLSMaxIterations(0));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setIRLSConvergenceThreshold(-1.0));
+    }
+
+    @Test
+    void testEstimateWithIRLSRefinement() throws LockedException, NotReadyException, RobustEstimatorException {
+        final var randomizer = new UniformRandomizer();
+        final var inlierErrorRandomizer = new GaussianRandomizer(0.0, INLIER_STD_ERROR);
+        final var errorRandomizer = new GaussianRandomizer(0.0, STD_ERROR);
+
+        for (final var weightFunction : IRLSWeightFunction.values()) {
+            for (var t = 0; t < TIMES; t++) {
+                // create random 2nd degree polynomial
+                final var polyParams = new double[3];
+                randomizer.fill(polyParams, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                final var polynomial = new Polynomial(polyParams);
+
+                final var numEvaluations = randomizer.nextInt(MIN_EVALUATIONS, MAX_EVALUATIONS);
+                final var evaluations = new ArrayList<PolynomialEvaluation>();
+                for (var i = 0; i < numEvaluations; i++) {
+                    final var x = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                    var value = polynomial.evaluate(x) + inlierErrorRandomizer.nextDouble();
+                    if (randomizer.nextInt(0, 100) < PERCENTAGE_OUTLIER) {
+                        // evaluation is outlier
+                        value += errorRandomizer.nextDouble();
+                    }
+                    evaluations.add(new DirectPolynomialEvaluation(x, value));
+                }
+
+                final var estimator = new RANSACPolynomialRobustEstimator(2, evaluations);
+                estimator.setThreshold(3.0 * INLIER_STD_ERROR);
+                estimator.setIRLSRefinementEnabled(true);
+                estimator.setIRLSWeightFunction(weightFunction);
+
+                // estimate
+                final var polynomial2 = estimator.estimate();
+
+                // check correctness
+                assertArrayEquals(polyParams, polynomial2.getPolyParams(), IRLS_ABSOLUTE_ERROR);
+            }
+        }
+    }
+
     @Test
     void testGetSetQualityScores() throws LockedException {
         final var estimator = new RANSACPolynomialRobustEstimator();
@@ -447,6 +537,74 @@ class RANSACPolynomialRobustEstimatorTest implements PolynomialRobustEstimatorLi
         }
     }
 
+    @Test
+    void testEstimateDirectEvaluationsWithLocalOptimization() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+
+        for (var t = 0; t < TIMES; t++) {
+            final var estimator = new RANSACPolynomialRobustEstimator();
+            estimator.setListener(this);
+            estimator.setLocalOptimizationEnabled(true);
+
+            // check default values
+            assertEquals(1, estimator.getDegree());
+            assertFalse(estimator.isReady());
+            assertFalse(estimator.isGeometricDistanceUsed());
+
+            // Force NotReadyException
+            assertThrows(NotReadyException.class, estimator::estimate);
+
+            // create random 1st degree polynomial
+            final var randomizer = new UniformRandomizer();
+            final var polyParams = new double[2];
+            randomizer.fill(polyParams, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var polynomial = new Polynomial(polyParams);
+
+            final var numEvaluations = randomizer.nextInt(MIN_EVALUATIONS, MAX_EVALUATIONS);
+            final var errorRandomizer = new GaussianRandomizer(0.0, STD_ERROR);
+            final var evaluations = new ArrayList<PolynomialEvaluation>();
+            for (var i = 0; i < numEvaluations; i++) {
+                final var x = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                final var value = polynomial.evaluate(x);
+
+                final double valueWithError;
+                if (randomizer.nextInt(0, 100) < PERCENTAGE_OUTLIER) {
+                    // evaluation is outlier
+                    final var error = errorRandomizer.nextDouble();
+                    valueWithError = value + error;
+                } else {
+                    valueWithError = value;
+                }
+
+                final var eval = new DirectPolynomialEvaluation(x, valueWithError);
+                evaluations.add(eval);
+            }
+
+            estimator.setEvaluations(evaluations);
+
+            estimator.setListener(this);
+            reset();
+
+            assertEquals(0, estimateStart);
+            assertEquals(0, estimateEnd);
+            assertEquals(0, estimateNextIteration);
+            assertEquals(0, estimateProgressChange);
+            assertTrue(estimator.isReady());
+            assertFalse(estimator.isLocked());
+
+            // estimate
+            final var polynomial2 = estimator.estimate();
+
+            // check correctness
+            assertArrayEquals(polynomial2.getPolyParams(), polyParams, ABSOLUTE_ERROR);
+            assertEquals(1, estimateStart);
+            assertEquals(1, estimateEnd);
+            assertTrue(estimateNextIteration > 0);
+            assertTrue(estimateProgressChange >= 0);
+        }
+    }
+
     @Test
     void testEstimateDirectAndDerivativeEvaluationsAlgebraicDistance() throws LockedException, NotReadyException,
             RobustEstimatorException {
@@ -820,6 +978,144 @@ class RANSACPolynomialRobustEstimatorTest implements PolynomialRobustEstimatorLi
         }
     }
 
+    @Test
+    void testGetSetColumnarEvaluations() throws LockedException {
+        final var estimator = new RANSACPolynomialRobustEstimator();
+
+        // check default value
+        assertNull(estimator.getColumnarEvaluations());
+
+        // set new value
+        final var columnarEvaluations = new ColumnarPolynomialEvaluations(new double[2], new double[2]);
+        estimator.setColumnarEvaluations(columnarEvaluations);
+
+        // check correctness
+        assertSame(columnarEvaluations, estimator.getColumnarEvaluations());
+        assertNull(estimator.getEvaluations());
+
+        // setting a list of evaluations discards columnar evaluations
+        final var evaluations = new ArrayList<PolynomialEvaluation>();
+        evaluations.add(new DirectPolynomialEvaluation());
+        evaluations.add(new DirectPolynomialEvaluation());
+        estimator.setEvaluations(evaluations);
+
+        // check correctness
+        assertSame(evaluations, estimator.getEvaluations());
+        assertNull(estimator.getColumnarEvaluations());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setColumnarEvaluations(null));
+        final var wrong = new ColumnarPolynomialEvaluations(new double[1], new double[1]);
+        assertThrows(IllegalArgumentException.class, () -> estimator.setColumnarEvaluations(wrong));
+    }
+
+    @Test
+    void testEstimateColumnarEvaluationsAlgebraicDistance() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+
+        for (var t = 0; t < TIMES; t++) {
+            final var estimator = new RANSACPolynomialRobustEstimator();
+
+            // create random 1st degree polynomial
+            final var randomizer = new UniformRandomizer();
+            final var polyParams = new double[2];
+            randomizer.fill(polyParams, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var polynomial = new Polynomial(polyParams);
+
+            // half of evaluations are direct and the other half are first
+            // order derivatives
+            final var numEvaluations = randomizer.nextInt(MIN_EVALUATIONS, MAX_EVALUATIONS);
+            final var errorRandomizer = new GaussianRandomizer(0.0, STD_ERROR);
+            final var x = new double[numEvaluations];
+            final var values = new double[numEvaluations];
+            final var orders = new int[numEvaluations];
+            for (var i = 0; i < numEvaluations; i++) {
+                x[i] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                orders[i] = i % 2;
+                final var value = orders[i] == 0 ? polynomial.evaluate(x[i]) : polynomial.evaluateDerivative(x[i]);
+
+                if (randomizer.nextInt(0, 100) < PERCENTAGE_OUTLIER) {
+                    // evaluation is outlier
+                    final var error = errorRandomizer.nextDouble();
+                    values[i] = value + error;
+                } else {
+                    values[i] = value;
+                }
+            }
+
+            estimator.setColumnarEvaluations(new ColumnarPolynomialEvaluations(x, values, orders));
+
+            estimator.setListener(this);
+            reset();
+
+            assertTrue(estimator.isReady());
+            assertFalse(estimator.isLocked());
+
+            // estimate
+            final var polynomial2 = estimator.estimate();
+
+            // check correctness
+            assertArrayEquals(polynomial2.getPolyParams(), polyParams, ABSOLUTE_ERROR);
+            assertEquals(1, estimateStart);
+            assertEquals(1, estimateEnd);
+        }
+    }
+
+    @Test
+    void testEstimateColumnarEvaluationsGeometricDistance() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+
+        for (var t = 0; t < TIMES; t++) {
+            final var estimator = new RANSACPolynomialRobustEstimator();
+            estimator.setGeometricDistanceUsed(true);
+
+            // create random 1st degree polynomial
+            final var randomizer = new UniformRandomizer();
+            final var polyParams = new double[2];
+            randomizer.fill(polyParams, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var polynomial = new Polynomial(polyParams);
+
+            // half of evaluations are direct and the other half are first
+            // order derivatives
+            final var numEvaluations = randomizer.nextInt(MIN_EVALUATIONS, MAX_EVALUATIONS);
+            final var errorRandomizer = new GaussianRandomizer(0.0, STD_ERROR);
+            final var x = new double[numEvaluations];
+            final var values = new double[numEvaluations];
+            final var orders = new int[numEvaluations];
+            for (var i = 0; i < numEvaluations; i++) {
+                x[i] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                orders[i] = i % 2;
+                final var value = orders[i] == 0 ? polynomial.evaluate(x[i]) : polynomial.evaluateDerivative(x[i]);
+
+                if (randomizer.nextInt(0, 100) < PERCENTAGE_OUTLIER) {
+                    // evaluation is outlier
+                    final var error = errorRandomizer.nextDouble();
+                    values[i] = value + error;
+                } else {
+                    values[i] = value;
+                }
+            }
+
+            estimator.setColumnarEvaluations(new ColumnarPolynomialEvaluations(x, values, orders));
+
+            estimator.setListener(this);
+            reset();
+
+            assertTrue(estimator.isReady());
+            assertFalse(estimator.isLocked());
+
+            // estimate
+            final var polynomial2 = estimator.estimate();
+
+            // check correctness
+            assertArrayEquals(polynomial2.getPolyParams(), polyParams, ABSOLUTE_ERROR);
+            assertEquals(1, estimateStart);
+            assertEquals(1, estimateEnd);
+        }
+    }
+
     @Override
     public void onEstimateStart(final PolynomialRobustEstimator estimator) {
         estimateStart++;
@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.polynomials.estimators;
+
+import com.irurueta.numerical.LockedException;
+import com.irurueta.numerical.NotReadyException;
+import com.irurueta.numerical.polynomials.Polynomial;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingPolynomialEstimatorTest {
+
+    private static final double MIN_RANDOM_VALUE = -10.0;
+    private static final double MAX_RANDOM_VALUE = 10.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-6;
+
+    private static final int MIN_DEGREE = 1;
+    private static final int MAX_DEGREE = 4;
+
+    private static final int WINDOW_SIZE = 50;
+
+    private static final int TIMES = 10;
+
+    @Test
+    void testConstructor() {
+        var estimator = new StreamingPolynomialEstimator();
+
+        // check default values
+        assertEquals(PolynomialEstimator.MIN_DEGREE, estimator.getDegree());
+        assertEquals(2, estimator.getMinNumberOfEvaluations());
+        assertEquals(0, estimator.getNumberOfEvaluations());
+        assertFalse(estimator.isReady());
+
+        estimator = new StreamingPolynomialEstimator(3);
+
+        // check
+        assertEquals(3, estimator.getDegree());
+        assertEquals(4, estimator.getMinNumberOfEvaluations());
+        assertEquals(0, estimator.getNumberOfEvaluations());
+        assertFalse(estimator.isReady());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new StreamingPolynomialEstimator(0));
+    }
+
+    @Test
+    void testIsReady() {
+        final var estimator = new StreamingPolynomialEstimator();
+
+        // derivative evaluations alone are not enough
+        estimator.addDerivativeEvaluation(1.0, 2.0, 1);
+        estimator.addDerivativeEvaluation(2.0, 2.0, 1);
+        assertEquals(2, estimator.getNumberOfEvaluations());
+        assertFalse(estimator.isReady());
+        assertThrows(NotReadyException.class, estimator::estimate);
+
+        estimator.addDirectEvaluation(1.0, 3.0);
+        assertEquals(3, estimator.getNumberOfEvaluations());
+        assertTrue(estimator.isReady());
+
+        estimator.removeDirectEvaluation(1.0, 3.0);
+        assertFalse(estimator.isReady());
+
+        // Force IllegalStateException
+        assertThrows(IllegalStateException.class, () -> estimator.removeDirectEvaluation(1.0, 3.0));
+
+        estimator.reset();
+        assertEquals(0, estimator.getNumberOfEvaluations());
+        assertFalse(estimator.isReady());
+        assertThrows(IllegalStateException.class, () -> estimator.removeDerivativeEvaluation(1.0, 2.0, 1));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.addDerivativeEvaluation(1.0, 2.0, 0));
+    }
+
+    @Test
+    void testEstimateDirectEvaluations() throws NotReadyException, PolynomialEstimationException {
+        final var randomizer = new UniformRandomizer();
+        for (var t = 0; t < TIMES; t++) {
+            final var degree = randomizer.nextInt(MIN_DEGREE, MAX_DEGREE);
+            final var polyParams = new double[degree + 1];
+            randomizer.fill(polyParams, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var polynomial = new Polynomial(polyParams);
+
+            final var estimator = new StreamingPolynomialEstimator(degree);
+            for (var i = 0; i < 2 * estimator.getMinNumberOfEvaluations(); i++) {
+                final var x = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                estimator.addDirectEvaluation(x, polynomial.evaluate(x));
+            }
+
+            // estimate
+            final var polynomial2 = estimator.estimate();
+            final var params = new double[degree + 1];
+            estimator.estimate(params);
+
+            // check correctness
+            assertArrayEquals(polyParams, polynomial2.getPolyParams(), ABSOLUTE_ERROR);
+            assertArrayEquals(polynomial2.getPolyParams(), params, 0.0);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> estimator.estimate(new double[degree]));
+        }
+    }
+
+    @Test
+    void testEstimateMatchesLMSEEstimator() throws LockedException, NotReadyException,
+            PolynomialEstimationException {
+        final var randomizer = new UniformRandomizer();
+        final var polyParams = new double[3];
+        randomizer.fill(polyParams, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var polynomial = new Polynomial(polyParams);
+
+        final var evaluations = new ArrayList<PolynomialEvaluation>();
+        for (var i = 0; i < 5; i++) {
+            final var x = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            evaluations.add(new DirectPolynomialEvaluation(x, polynomial.evaluate(x) + randomizer.nextDouble()));
+
+            final var x2 = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            evaluations.add(new DerivativePolynomialEvaluation(x2, polynomial.evaluateDerivative(x2), 1));
+
+            final var x3 = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var constant = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var integral = polynomial.integrationAndReturnNew(constant);
+            evaluations.add(new IntegralPolynomialEvaluation(x3, integral.evaluate(x3), new double[]{constant}));
+
+            final var startX = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var endX = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            evaluations.add(new IntegralIntervalPolynomialEvaluation(startX, endX,
+                    polynomial.integrateInterval(startX, endX)));
+        }
+
+        final var streamingEstimator = new StreamingPolynomialEstimator(2);
+        for (final var evaluation : evaluations) {
+            streamingEstimator.addEvaluation(evaluation);
+        }
+
+        final var lmseEstimator = new LMSEPolynomialEstimator(2, evaluations);
+        lmseEstimator.setLMSESolutionAllowed(true);
+
+        // check that both estimators provide the same solution
+        assertArrayEquals(lmseEstimator.estimate().getPolyParams(), streamingEstimator.estimate().getPolyParams(),
+                ABSOLUTE_ERROR);
+
+        // remove first evaluations and check again
+        final var remaining = new ArrayList<PolynomialEvaluation>();
+        for (var i = 0; i < evaluations.size(); i++) {
+            if (i < 4) {
+                streamingEstimator.removeEvaluation(evaluations.get(i));
+            } else {
+                remaining.add(evaluations.get(i));
+            }
+        }
+        assertEquals(remaining.size(), streamingEstimator.getNumberOfEvaluations());
+
+        lmseEstimator.setEvaluations(remaining);
+        assertArrayEquals(lmseEstimator.estimate().getPolyParams(), streamingEstimator.estimate().getPolyParams(),
+                ABSOLUTE_ERROR);
+
+        // Force PolynomialEstimationException
+        final var wrong = new IntegralPolynomialEvaluation(0.0, 0.0, new double[2]);
+        assertThrows(PolynomialEstimationException.class, () -> streamingEstimator.addEvaluation(wrong));
+    }
+
+    @Test
+    void testSlidingWindow() throws NotReadyException, PolynomialEstimationException {
+        final var randomizer = new UniformRandomizer();
+        final var estimator = new StreamingPolynomialEstimator(2);
+        final var window = new ArrayDeque<double[]>();
+
+        for (var t = 0; t < 10 * WINDOW_SIZE; t++) {
+            // trend changes every window
+            final var segment = t / WINDOW_SIZE;
+            final var polynomial = new Polynomial(segment, 1.0 - segment, 0.5);
+
+            final var x = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var value = polynomial.evaluate(x);
+            estimator.addDirectEvaluation(x, value);
+            window.addLast(new double[]{x, value});
+            if (window.size() > WINDOW_SIZE) {
+                final var oldest = window.removeFirst();
+                estimator.removeDirectEvaluation(oldest[0], oldest[1]);
+            }
+            assertEquals(window.size(), estimator.getNumberOfEvaluations());
+
+            // at the end of each window, only evaluations of current trend
+            // remain
+            if (t % WINDOW_SIZE == WINDOW_SIZE - 1) {
+                assertArrayEquals(polynomial.getPolyParams(), estimator.estimate().getPolyParams(),
+                        ABSOLUTE_ERROR);
+            }
+        }
+    }
+
+    @Test
+    void testWeightedEvaluations() throws NotReadyException, PolynomialEstimationException {
+        final var randomizer = new UniformRandomizer();
+        final var weighted = new StreamingPolynomialEstimator(2);
+        final var repeated = new StreamingPolynomialEstimator(2);
+        for (var i = 0; i < WINDOW_SIZE; i++) {
+            final var x = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var value = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            // an evaluation with weight 2 is equivalent to adding it twice
+            weighted.addDirectEvaluation(x, value, 2.0);
+            repeated.addDirectEvaluation(x, value);
+            repeated.addDirectEvaluation(x, value);
+        }
+        weighted.addEvaluation(new DerivativePolynomialEvaluation(1.0, 3.0, 1), 3.0);
+        for (var i = 0; i < 3; i++) {
+            repeated.addDerivativeEvaluation(1.0, 3.0, 1);
+        }
+
+        // check
+        assertEquals(WINDOW_SIZE + 1, weighted.getNumberOfEvaluations());
+        assertArrayEquals(repeated.estimate().getPolyParams(), weighted.estimate().getPolyParams(),
+                ABSOLUTE_ERROR);
+
+        // removing a weighted evaluation reverts its contribution
+        final var params = weighted.estimate().getPolyParams();
+        weighted.addDirectEvaluation(0.0, 1000.0, 0.5);
+        weighted.removeDirectEvaluation(0.0, 1000.0, 0.5);
+        weighted.addDerivativeEvaluation(0.0, 1000.0, 2, 0.5);
+        weighted.removeEvaluation(new DerivativePolynomialEvaluation(0.0, 1000.0, 2), 0.5);
+        assertEquals(WINDOW_SIZE + 1, weighted.getNumberOfEvaluations());
+        assertArrayEquals(params, weighted.estimate().getPolyParams(), ABSOLUTE_ERROR);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> weighted.addDirectEvaluation(0.0, 1.0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> weighted.addDirectEvaluation(0.0, 1.0, -1.0));
+        assertThrows(IllegalArgumentException.class, () -> weighted.addDirectEvaluation(0.0, 1.0, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> weighted.removeDerivativeEvaluation(0.0, 1.0, 1, 0.0));
+    }
+
+    @Test
+    void testEstimateRepeatedEvaluations() {
+        final var estimator = new StreamingPolynomialEstimator(2);
+        estimator.addDirectEvaluation(1.0, 1.0);
+        estimator.addDirectEvaluation(1.0, 1.0);
+        estimator.addDirectEvaluation(1.0, 1.0);
+
+        // Force PolynomialEstimationException
+        assertTrue(estimator.isReady());
+        assertThrows(PolynomialEstimationException.class, estimator::estimate);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KNearestSampleNeighbourhoodTest {
+
+    private static final int MIN_SAMPLES = 100;
+    private static final int MAX_SAMPLES = 500;
+
+    private static final double MIN_RANDOM_VALUE = -10.0;
+    private static final double MAX_RANDOM_VALUE = 10.0;
+
+    private static final int NUM_NEIGHBOURS = 8;
+
+    private static final int DIMS = 3;
+
+    @Test
+    void testConstructor() {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var points = createPoints(randomizer, numSamples);
+
+        var neighbourhood = new KNearestSampleNeighbourhood(points);
+        assertEquals(numSamples, neighbourhood.getNumSamples());
+        assertEquals(KNearestSampleNeighbourhood.DEFAULT_NUM_NEIGHBOURS, neighbourhood.getNumNeighbours());
+
+        neighbourhood = new KNearestSampleNeighbourhood(points, NUM_NEIGHBOURS);
+        assertEquals(numSamples, neighbourhood.getNumSamples());
+        assertEquals(NUM_NEIGHBOURS, neighbourhood.getNumNeighbours());
+
+        // number of neighbours is limited by number of samples
+        neighbourhood = new KNearestSampleNeighbourhood(new double[][]{{0.0}, {1.0}, {3.0}}, NUM_NEIGHBOURS);
+        assertEquals(2, neighbourhood.getNumNeighbours());
+        assertArrayEquals(new int[]{1, 2}, neighbourhood.getNeighbours(0));
+        assertArrayEquals(new int[]{0, 2}, neighbourhood.getNeighbours(1));
+        assertArrayEquals(new int[]{1, 0}, neighbourhood.getNeighbours(2));
+
+        // a single sample has no neighbours
+        neighbourhood = new KNearestSampleNeighbourhood(new double[][]{{0.0}});
+        assertEquals(0, neighbourhood.getNeighbours(0).length);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new KNearestSampleNeighbourhood(new double[0][]));
+        assertThrows(IllegalArgumentException.class, () -> new KNearestSampleNeighbourhood(points, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new KNearestSampleNeighbourhood(new double[][]{{0.0}, {1.0, 2.0}}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new KNearestSampleNeighbourhood(new double[][]{{}, {}}));
+    }
+
+    @Test
+    void testGetNeighbours() {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var points = createPoints(randomizer, numSamples);
+
+        final var neighbourhood = new KNearestSampleNeighbourhood(points, NUM_NEIGHBOURS);
+
+        // compare against exhaustive search
+        final var distances = new double[numSamples];
+        for (var i = 0; i < numSamples; i++) {
+            final var neighbours = neighbourhood.getNeighbours(i);
+            assertEquals(NUM_NEIGHBOURS, neighbours.length);
+
+            for (var j = 0; j < numSamples; j++) {
+                distances[j] = j == i ? Double.MAX_VALUE : squaredDistance(points[i], points[j]);
+            }
+            final var sorted = Arrays.copyOf(distances, numSamples);
+            Arrays.sort(sorted);
+
+            for (var n = 0; n < NUM_NEIGHBOURS; n++) {
+                assertNotEquals(i, neighbours[n]);
+                assertEquals(sorted[n], distances[neighbours[n]], 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testGetNeighboursWithDuplicates() {
+        final var points = new double[][]{{1.0, 1.0}, {1.0, 1.0}, {1.0, 1.0}, {5.0, 5.0}, {1.0, 1.0}};
+        final var neighbourhood = new KNearestSampleNeighbourhood(points, 3);
+
+        for (var i = 0; i < points.length; i++) {
+            if (i == 3) {
+                continue;
+            }
+            final var neighbours = neighbourhood.getNeighbours(i);
+            assertEquals(3, neighbours.length);
+            for (final var neighbour : neighbours) {
+                assertNotEquals(i, neighbour);
+                assertNotEquals(3, neighbour);
+            }
+        }
+    }
+
+    private static double[][] createPoints(final UniformRandomizer randomizer, final int numSamples) {
+        final var points = new double[numSamples][DIMS];
+        for (final var point : points) {
+            randomizer.fill(point, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        }
+        return points;
+    }
+
+    private static double squaredDistance(final double[] a, final double[] b) {
+        var result = 0.0;
+        for (var i = 0; i < a.length; i++) {
+            result += (a[i] - b[i]) * (a[i] - b[i]);
+        }
+        return result;
+    }
+}
@@ -65,6 +65,7 @@ class LMedSRobustEstimatorTest {
         assertNull(estimator.getBestInliersData());
         assertEquals(LMedSRobustEstimator.DEFAULT_STOP_THRESHOLD, estimator.getStopThreshold(), 0.0);
         assertEquals(LMedSRobustEstimator.DEFAULT_INLIER_FACTOR, estimator.getInlierFactor(), 0.0);
+        assertEquals(LMedSRobustEstimator.DEFAULT_MEDIAN_EARLY_STOP_ENABLED, estimator.isMedianEarlyStopEnabled());
 
         // test constructor with listener
         final var randomizer = new UniformRandomizer();
@@ -86,6 +87,7 @@ class LMedSRobustEstimatorTest {
         assertNull(estimator.getBestInliersData());
         assertEquals(LMedSRobustEstimator.DEFAULT_STOP_THRESHOLD, estimator.getStopThreshold(), 0.0);
         assertEquals(LMedSRobustEstimator.DEFAULT_INLIER_FACTOR, estimator.getInlierFactor(), 0.0);
+        assertEquals(LMedSRobustEstimator.DEFAULT_MEDIAN_EARLY_STOP_ENABLED, estimator.isMedianEarlyStopEnabled());
     }
 
     @Test
@@ -144,6 +146,21 @@ class LMedSRobustEstimatorTest {
         assertThrows(IllegalArgumentException.class, () -> estimator.setConfidence(2.0));
     }
 
+    @Test
+    void testGetSetSubsetSelector() throws LockedException {
+        final var estimator = new LMedSRobustEstimator<double[]>();
+
+        // check default value
+        assertNull(estimator.getSubsetSelector());
+
+        // set new value
+        final var selector = new FastRandomSubsetSelector(MIN_POINTS);
+        estimator.setSubsetSelector(selector);
+
+        // check correctness
+        assertSame(selector, estimator.getSubsetSelector());
+    }
+
     @Test
     void testGetSetMaxIterations() throws IllegalArgumentException, LockedException {
         final var estimator = new LMedSRobustEstimator<double[]>();
@@ -191,6 +208,30 @@ class LMedSRobustEstimatorTest {
         assertThrows(IllegalArgumentException.class, () -> estimator.setInlierFactor(0.0));
     }
 
+    @Test
+    void testIsSetMedianEarlyStopEnabled() throws LockedException {
+        final var estimator = new LMedSRobustEstimator<double[]>();
+        assertEquals(LMedSRobustEstimator.DEFAULT_MEDIAN_EARLY_STOP_ENABLED, estimator.isMedianEarlyStopEnabled());
+
+        // set new value
+        estimator.setMedianEarlyStopEnabled(!LMedSRobustEstimator.DEFAULT_MEDIAN_EARLY_STOP_ENABLED);
+
+        // check correctness
+        assertEquals(!LMedSRobustEstimator.DEFAULT_MEDIAN_EARLY_STOP_ENABLED, estimator.isMedianEarlyStopEnabled());
+    }
+
+    @Test
+    void testIsSetInliersDataReuseEnabled() throws LockedException {
+        final var estimator = new LMedSRobustEstimator<double[]>();
+        assertEquals(LMedSRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED, estimator.isInliersDataReuseEnabled());
+
+        // set new value
+        estimator.setInliersDataReuseEnabled(!LMedSRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED);
+
+        // check correctness
+        assertEquals(!LMedSRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED, estimator.isInliersDataReuseEnabled());
+    }
+
     @Test
     void testEstimate() throws LockedException, NotReadyException, RobustEstimatorException {
         for (var i = 0; i < TIMES; i++) {
@@ -235,6 +276,51 @@ class LMedSRobustEstimatorTest {
         }
     }
 
+    @Test
+    void testEstimateWithoutMedianEarlyStop() throws LockedException, NotReadyException, RobustEstimatorException {
+        for (var i = 0; i < TIMES; i++) {
+            final var randomizer = new UniformRandomizer();
+            final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+            final var listener = new TestLMedSRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER);
+            final var estimator = new LMedSRobustEstimator<double[]>();
+            estimator.setMedianEarlyStopEnabled(false);
+
+            // Force NotReadyException
+            assertThrows(NotReadyException.class, estimator::estimate);
+
+            // set listener
+            estimator.setListener(listener);
+            listener.reset();
+            assertEquals(0, listener.getStartCounter());
+            assertEquals(0, listener.getEndCounter());
+            assertFalse(estimator.isLocked());
+
+            // estimate
+            final var params = estimator.estimate();
+
+            assertNotNull(estimator.getBestResult());
+            assertNotNull(estimator.getBestInliersData());
+
+            // check status after estimation
+            assertFalse(estimator.isLocked());
+            assertEquals(1, listener.getStartCounter());
+            assertEquals(1, listener.getEndCounter());
+
+            // check correctness of estimation
+            assertEquals(params.length, listener.getParams().length);
+            assertEquals(NUM_PARAMS, params.length);
+
+            assertArrayEquals(params, listener.getParams(), ABSOLUTE_ERROR);
+
+            final var inliersData = estimator.getBestInliersData();
+            assertNotNull(inliersData);
+            assertSame(inliersData, estimator.getInliersData());
+            assertTrue(inliersData.getNumInliers() > 0);
+            assertNotNull(inliersData.getInliers());
+            assertNotNull(inliersData.getResiduals());
+        }
+    }
+
     private static double[] computeParams() {
         // we will estimate parameters a and b for equation y = a*x + b
         final var randomizer = new UniformRandomizer();
@@ -392,8 +478,12 @@ class LMedSRobustEstimatorTest {
             assertThrows(LockedException.class, () -> estimator.setListener(this));
             assertThrows(LockedException.class, () -> estimator.setMaxIterations(1));
             assertThrows(LockedException.class, () -> estimator.setProgressDelta(0.5f));
+            assertThrows(LockedException.class, () -> estimator.setMedianEarlyStopEnabled(false));
             assertThrows(LockedException.class, () -> estimator.setStopThreshold(1.0));
             assertThrows(LockedException.class, () -> estimator.setInlierFactor(1.0));
+            assertThrows(LockedException.class, () -> estimator.setSubsetSelector(null));
+            assertThrows(LockedException.class, () -> estimator.setInliersDataReuseEnabled(true));
+            assertThrows(LockedException.class, estimator::releaseWorkspace);
         }
 
         public final void reset() {
@@ -0,0 +1,570 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.numerical.LockedException;
+import com.irurueta.numerical.NotReadyException;
+import com.irurueta.statistics.GaussianRandomizer;
+import com.irurueta.statistics.MaxIterationsExceededException;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MAGSACRobustEstimatorTest {
+
+    private static final int MIN_POINTS = 500;
+    private static final int MAX_POINTS = 1000;
+
+    private static final double MAX_SIGMA = 1e-3;
+
+    private static final double STD_NOISE = 1e-4;
+
+    private static final double MIN_ERROR = 1e-1;
+    private static final double MAX_ERROR = 1.0;
+
+    private static final double MIN_RANDOM_VALUE = -10.0;
+    private static final double MAX_RANDOM_VALUE = 10.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-3;
+
+    private static final int PERCENTAGE_OUTLIER = 20;
+
+    private static final int NUM_PARAMS = 2;
+
+    private static final int TIMES = 10;
+
+    @Test
+    void testConstructor() {
+        // test empty constructor
+        var estimator = new MAGSACRobustEstimator<double[]>();
+        assertNull(estimator.getListener());
+        assertFalse(estimator.isListenerAvailable());
+        assertFalse(estimator.isLocked());
+        assertEquals(RobustEstimator.DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(RobustEstimatorMethod.MAGSAC, estimator.getMethod());
+        assertFalse(estimator.isReady());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(MAGSACRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_DEGREES_OF_FREEDOM, estimator.getDegreesOfFreedom());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED, estimator.isRefinementEnabled());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_REFINEMENT_ITERATIONS, estimator.getRefinementIterations());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getNIters());
+        assertNull(estimator.getBestResult());
+        assertEquals(Double.MAX_VALUE, estimator.getBestScore(), 0.0);
+        assertNull(estimator.getInliersData());
+        assertNull(estimator.getBestInliersData());
+        assertNull(estimator.getSubsetSelector());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_INLIERS,
+                estimator.isComputeAndKeepInliersEnabled());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_RESIDUALS,
+                estimator.isComputeAndKeepResidualsEnabled());
+
+        // test constructor with listener
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new TestMAGSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, MAX_SIGMA,
+                true);
+        estimator = new MAGSACRobustEstimator<>(listener);
+        assertSame(listener, estimator.getListener());
+        assertTrue(estimator.isListenerAvailable());
+        assertFalse(estimator.isLocked());
+        assertEquals(RobustEstimator.DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(RobustEstimatorMethod.MAGSAC, estimator.getMethod());
+        assertTrue(estimator.isReady());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+        assertEquals(MAGSACRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_DEGREES_OF_FREEDOM, estimator.getDegreesOfFreedom());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED, estimator.isRefinementEnabled());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_REFINEMENT_ITERATIONS, estimator.getRefinementIterations());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getNIters());
+        assertNull(estimator.getBestResult());
+        assertEquals(Double.MAX_VALUE, estimator.getBestScore(), 0.0);
+        assertNull(estimator.getInliersData());
+        assertNull(estimator.getBestInliersData());
+        assertNull(estimator.getSubsetSelector());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_INLIERS,
+                estimator.isComputeAndKeepInliersEnabled());
+        assertEquals(MAGSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_RESIDUALS,
+                estimator.isComputeAndKeepResidualsEnabled());
+    }
+
+    @Test
+    void testGetSetListenerAvailabilityAndIsReady() throws LockedException {
+        final var estimator = new MAGSACRobustEstimator<double[]>();
+        assertNull(estimator.getListener());
+        assertFalse(estimator.isListenerAvailable());
+        assertFalse(estimator.isReady());
+
+        // set listener
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new TestMAGSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, MAX_SIGMA,
+                true);
+
+        estimator.setListener(listener);
+
+        // check correctness
+        assertSame(listener, estimator.getListener());
+        assertTrue(estimator.isListenerAvailable());
+        assertTrue(estimator.isReady());
+    }
+
+    @Test
+    void testGetSetConfidence() throws LockedException {
+        final var estimator = new MAGSACRobustEstimator<double[]>();
+        assertEquals(MAGSACRobustEstimator.DEFAULT_CONFIDENCE, estimator.getConfidence(), 0.0);
+
+        // set new value
+        estimator.setConfidence(0.5);
+
+        // check correctness
+        assertEquals(0.5, estimator.getConfidence(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setConfidence(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setConfidence(2.0));
+    }
+
+    @Test
+    void testGetSetMaxIterations() throws LockedException {
+        final var estimator = new MAGSACRobustEstimator<double[]>();
+        assertEquals(MAGSACRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
+
+        // set new value
+        estimator.setMaxIterations(10);
+
+        // check correctness
+        assertEquals(10, estimator.getMaxIterations());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setMaxIterations(0));
+    }
+
+    @Test
+    void testGetSetDegreesOfFreedom() throws LockedException {
+        final var estimator = new MAGSACRobustEstimator<double[]>();
+        assertEquals(MAGSACRobustEstimator.DEFAULT_DEGREES_OF_FREEDOM, estimator.getDegreesOfFreedom());
+
+        // set new value
+        estimator.setDegreesOfFreedom(2);
+
+        // check correctness
+        assertEquals(2, estimator.getDegreesOfFreedom());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setDegreesOfFreedom(0));
+    }
+
+    @Test
+    void testIsSetRefinementEnabled() throws LockedException {
+        final var estimator = new MAGSACRobustEstimator<double[]>();
+        assertEquals(MAGSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED, estimator.isRefinementEnabled());
+
+        // set new value
+        estimator.setRefinementEnabled(!MAGSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED);
+
+        // check correctness
+        assertEquals(!MAGSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED, estimator.isRefinementEnabled());
+    }
+
+    @Test
+    void testGetSetRefinementIterations() throws LockedException {
+        final var estimator = new MAGSACRobustEstimator<double[]>();
+        assertEquals(MAGSACRobustEstimator.DEFAULT_REFINEMENT_ITERATIONS, estimator.getRefinementIterations());
+
+        // set new value
+        estimator.setRefinementIterations(10);
+
+        // check correctness
+        assertEquals(10, estimator.getRefinementIterations());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setRefinementIterations(0));
+    }
+
+    @Test
+    void testGetSetSubsetSelector() throws LockedException {
+        final var estimator = new MAGSACRobustEstimator<double[]>();
+
+        // check default value
+        assertNull(estimator.getSubsetSelector());
+
+        // set new value
+        final var selector = new FastRandomSubsetSelector(MIN_POINTS);
+        estimator.setSubsetSelector(selector);
+
+        // check correctness
+        assertSame(selector, estimator.getSubsetSelector());
+    }
+
+    @Test
+    void testIsSetComputeAndKeepInliersEnabled() throws LockedException {
+        final var estimator = new MAGSACRobustEstimator<double[]>();
+        assertEquals(MAGSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_INLIERS,
+                estimator.isComputeAndKeepInliersEnabled());
+
+        // set new value
+        estimator.setComputeAndKeepInliersEnabled(!MAGSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_INLIERS);
+
+        // check correctness
+        assertEquals(!MAGSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_INLIERS,
+                estimator.isComputeAndKeepInliersEnabled());
+    }
+
+    @Test
+    void testIsSetComputeAndKeepResidualsEnabled() throws LockedException {
+        final var estimator = new MAGSACRobustEstimator<double[]>();
+        assertEquals(MAGSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_RESIDUALS,
+                estimator.isComputeAndKeepResidualsEnabled());
+
+        // set new value
+        estimator.setComputeAndKeepResidualsEnabled(!MAGSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_RESIDUALS);
+
+        // check correctness
+        assertEquals(!MAGSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_RESIDUALS,
+                estimator.isComputeAndKeepResidualsEnabled());
+    }
+
+    @Test
+    void testEstimate() throws LockedException, NotReadyException, RobustEstimatorException {
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+            final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+            final var listener = new TestMAGSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, MAX_SIGMA,
+                    false);
+            final var estimator = new MAGSACRobustEstimator<double[]>();
+
+            // Force NotReadyException
+            assertThrows(NotReadyException.class, estimator::estimate);
+
+            // set listener
+            estimator.setListener(listener);
+            listener.reset();
+            assertEquals(0, listener.getStartCounter());
+            assertEquals(0, listener.getEndCounter());
+            assertFalse(estimator.isLocked());
+
+            // estimate
+            final var params = estimator.estimate();
+
+            // check status after estimation
+            assertFalse(estimator.isLocked());
+            assertEquals(1, listener.getStartCounter());
+            assertEquals(1, listener.getEndCounter());
+            assertSame(params, estimator.getBestResult());
+            assertTrue(estimator.getBestScore() < numSamples);
+            assertTrue(estimator.getNIters() < MAGSACRobustEstimator.DEFAULT_MAX_ITERATIONS);
+            assertNull(estimator.getBestInliersData());
+            assertNull(estimator.getInliersData());
+            assertEquals(0, listener.getNumRefinements());
+
+            // check correctness of estimation
+            assertEquals(NUM_PARAMS, params.length);
+            assertArrayEquals(listener.getParams(), params, ABSOLUTE_ERROR);
+        }
+    }
+
+    @Test
+    void testEstimateWithRefinement() throws LockedException, NotReadyException, RobustEstimatorException {
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+            final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+            final var listener = new TestMAGSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, MAX_SIGMA,
+                    true);
+            final var estimator = new MAGSACRobustEstimator<>(listener);
+            estimator.setRefinementEnabled(false);
+
+            // estimate without refinement
+            final var params1 = estimator.estimate();
+            final var score1 = estimator.getBestScore();
+            assertEquals(0, listener.getNumRefinements());
+
+            // estimate with refinement
+            estimator.setRefinementEnabled(true);
+            listener.reset();
+            final var params2 = estimator.estimate();
+
+            // check correctness
+            assertTrue(listener.getNumRefinements() > 0);
+            assertArrayEquals(listener.getParams(), params1, ABSOLUTE_ERROR);
+            assertArrayEquals(listener.getParams(), params2, ABSOLUTE_ERROR);
+
+            // refined solution has a score that is at least as good as the
+            // score of the best minimal solution
+            assertTrue(estimator.getBestScore() <= score1 + numSamples * ABSOLUTE_ERROR);
+        }
+    }
+
+    @Test
+    void testEstimateWithInliersData() throws LockedException, NotReadyException, RobustEstimatorException,
+            MaxIterationsExceededException {
+        final var table = new SigmaConsensusTable(MAGSACRobustEstimator.DEFAULT_DEGREES_OF_FREEDOM);
+        final var maxResidual = table.getOutlierFactor() * MAX_SIGMA;
+
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new TestMAGSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, MAX_SIGMA,
+                true);
+        final var estimator = new MAGSACRobustEstimator<>(listener);
+
+        estimator.setComputeAndKeepInliersEnabled(true);
+        estimator.setComputeAndKeepResidualsEnabled(true);
+
+        // estimate
+        final var params = estimator.estimate();
+
+        // check that inliers data matches best result
+        final var inliersData = estimator.getBestInliersData();
+        assertNotNull(inliersData);
+        assertSame(inliersData, estimator.getInliersData());
+        final var inliers = inliersData.getInliers();
+        final var residuals = inliersData.getResiduals();
+        var numInliers = 0;
+        for (var i = 0; i < numSamples; i++) {
+            final var residual = listener.computeResidual(params, i);
+            assertEquals(residual, residuals[i], 0.0);
+            // samples close to the boundary might be classified either way
+            // because of the resolution of the lookup table
+            if (Math.abs(residual - maxResidual) > ABSOLUTE_ERROR * maxResidual) {
+                assertEquals(residual < maxResidual, inliers.get(i));
+            }
+            if (inliers.get(i)) {
+                numInliers++;
+            }
+        }
+        assertEquals(numInliers, inliersData.getNumInliers());
+        assertTrue(numInliers > 0);
+        assertArrayEquals(listener.getParams(), params, ABSOLUTE_ERROR);
+    }
+
+    @Test
+    void testEstimateWithInvalidMaxSigma() {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new TestMAGSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, 0.0,
+                true);
+        final var estimator = new MAGSACRobustEstimator<>(listener);
+
+        // Force RobustEstimatorException
+        assertThrows(RobustEstimatorException.class, estimator::estimate);
+        assertFalse(estimator.isLocked());
+    }
+
+    private static double[] computeParams() {
+        // we will estimate parameters a and b for equation y = a*x + b
+        final var randomizer = new UniformRandomizer();
+        final var params = new double[NUM_PARAMS];
+        // a parameter
+        params[0] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        // b parameter
+        params[1] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        return params;
+    }
+
+    private static void computeSamples(final double[] params, final int numSamples, final int percentageOutliers,
+                                       final double[] ys, final double[] xs) {
+
+        final var randomizer = new UniformRandomizer();
+        final var noiseRandomizer = new GaussianRandomizer(0.0, STD_NOISE);
+        for (var i = 0; i < numSamples; i++) {
+            // compute x values
+            xs[i] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            // compute y values with a small amount of noise
+            ys[i] = params[0] * xs[i] + params[1] + noiseRandomizer.nextDouble();
+            if (randomizer.nextInt(0, 100) < percentageOutliers) {
+                // is outlier, so we add a certain amount of error
+                final var error = randomizer.nextDouble(MIN_ERROR, MAX_ERROR);
+                ys[i] += error;
+            }
+        }
+    }
+
+    private static class TestMAGSACRobustEstimatorListener implements MAGSACRobustEstimatorListener<double[]> {
+
+        private final double[] params;
+        private final double[] xs;
+        private final double[] ys;
+        private final int numSamples;
+        private final double maxSigma;
+        private final boolean refinementAvailable;
+
+        private int startCounter;
+        private int endCounter;
+        private int numRefinements;
+        private float previousProgress;
+
+        TestMAGSACRobustEstimatorListener(final int numSamples, final int percentageOutliers, final double maxSigma,
+                                          final boolean refinementAvailable) {
+            this.numSamples = numSamples;
+            params = computeParams();
+            xs = new double[numSamples];
+            ys = new double[numSamples];
+            computeSamples(params, numSamples, percentageOutliers, ys, xs);
+            this.maxSigma = maxSigma;
+            this.refinementAvailable = refinementAvailable;
+            reset();
+        }
+
+        public double[] getParams() {
+            return params;
+        }
+
+        @Override
+        public int getTotalSamples() {
+            return numSamples;
+        }
+
+        @Override
+        public int getSubsetSize() {
+            return NUM_PARAMS;
+        }
+
+        @Override
+        public double getMaxSigma() {
+            return maxSigma;
+        }
+
+        @Override
+        public void estimatePreliminarSolutions(final int[] samplesIndices, final List<double[]> solutions) {
+            final var index1 = samplesIndices[0];
+            final var index2 = samplesIndices[1];
+
+            final var y1 = ys[index1];
+            final var y2 = ys[index2];
+            final var x1 = xs[index1];
+            final var x2 = xs[index2];
+
+            final var a = (y2 - y1) / (x2 - x1);
+            final var b = y1 - a * x1;
+
+            final var solution = new double[NUM_PARAMS];
+            solution[0] = a;
+            solution[1] = b;
+
+            solutions.add(solution);
+        }
+
+        @Override
+        public double computeResidual(final double[] currentEstimation, final int i) {
+            final var a = currentEstimation[0];
+            final var b = currentEstimation[1];
+
+            final var estimatedY = a * xs[i] + b;
+            final var y = ys[i];
+
+            return Math.abs(estimatedY - y);
+        }
+
+        @Override
+        public double[] refine(final double[] currentEstimation, final double[] weights) {
+            if (!refinementAvailable) {
+                return null;
+            }
+            numRefinements++;
+
+            // weighted least squares fit of a line
+            var sw = 0.0;
+            var swx = 0.0;
+            var swy = 0.0;
+            var swxx = 0.0;
+            var swxy = 0.0;
+            for (var i = 0; i < numSamples; i++) {
+                final var w = weights[i];
+                assertTrue(w >= 0.0 && w <= 1.0);
+                sw += w;
+                swx += w * xs[i];
+                swy += w * ys[i];
+                swxx += w * xs[i] * xs[i];
+                swxy += w * xs[i] * ys[i];
+            }
+            final var det = sw * swxx - swx * swx;
+            if (det == 0.0) {
+                return null;
+            }
+
+            final var a = (sw * swxy - swx * swy) / det;
+            final var b = (swy - a * swx) / sw;
+            return new double[]{a, b};
+        }
+
+        @Override
+        public boolean isReady() {
+            return params != null && xs != null && ys != null;
+        }
+
+        @Override
+        public void onEstimateStart(final RobustEstimator<double[]> estimator) {
+            testIsLocked((MAGSACRobustEstimator<double[]>) estimator);
+            startCounter++;
+        }
+
+        @Override
+        public void onEstimateEnd(final RobustEstimator<double[]> estimator) {
+            testIsLocked((MAGSACRobustEstimator<double[]>) estimator);
+            endCounter++;
+        }
+
+        @Override
+        public void onEstimateNextIteration(final RobustEstimator<double[]> estimator, final int iteration) {
+            testIsLocked((MAGSACRobustEstimator<double[]>) estimator);
+            assertTrue(iteration > 0);
+        }
+
+        @Override
+        public void onEstimateProgressChange(final RobustEstimator<double[]> estimator, final float progress) {
+            testIsLocked((MAGSACRobustEstimator<double[]>) estimator);
+            assertTrue(progress >= 0.0f);
+            assertTrue(progress <= 1.0f);
+            assertTrue(progress >= previousProgress);
+            previousProgress = progress;
+        }
+
+        int getStartCounter() {
+            return startCounter;
+        }
+
+        int getEndCounter() {
+            return endCounter;
+        }
+
+        int getNumRefinements() {
+            return numRefinements;
+        }
+
+        private void testIsLocked(final MAGSACRobustEstimator<double[]> estimator) {
+            assertTrue(estimator.isLocked());
+            // test that estimator cannot be modified while locked
+            assertThrows(LockedException.class, () -> estimator.setListener(this));
+            assertThrows(LockedException.class, () -> estimator.setProgressDelta(0.5f));
+            assertThrows(LockedException.class, () -> estimator.setConfidence(0.5));
+            assertThrows(LockedException.class, () -> estimator.setMaxIterations(10));
+            assertThrows(LockedException.class, () -> estimator.setDegreesOfFreedom(2));
+            assertThrows(LockedException.class, () -> estimator.setRefinementEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setRefinementIterations(1));
+            assertThrows(LockedException.class, () -> estimator.setComputeAndKeepInliersEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setComputeAndKeepResidualsEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setSubsetSelector(null));
+        }
+
+        private void reset() {
+            startCounter = endCounter = numRefinements = 0;
+            previousProgress = 0.0f;
+        }
+    }
+}
@@ -146,6 +146,21 @@ class MSACRobustEstimatorTest {
         assertThrows(IllegalArgumentException.class, () -> estimator.setConfidence(2.0));
     }
 
+    @Test
+    void testGetSetSubsetSelector() throws LockedException {
+        final var estimator = new MSACRobustEstimator<double[]>();
+
+        // check default value
+        assertNull(estimator.getSubsetSelector());
+
+        // set new value
+        final var selector = new FastRandomSubsetSelector(MIN_POINTS);
+        estimator.setSubsetSelector(selector);
+
+        // check correctness
+        assertSame(selector, estimator.getSubsetSelector());
+    }
+
     @Test
     void testGetSetMaxIterations() throws IllegalArgumentException, LockedException {
         final var estimator = new MSACRobustEstimator<double[]>();
@@ -163,6 +178,85 @@ class MSACRobustEstimatorTest {
         assertThrows(IllegalArgumentException.class, () -> estimator.setMaxIterations(0));
     }
 
+    @Test
+    void testIsSetSprtEnabled() throws LockedException {
+        final var estimator = new MSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(MSACRobustEstimator.DEFAULT_SPRT_ENABLED, estimator.isSprtEnabled());
+
+        // set new value
+        estimator.setSprtEnabled(true);
+
+        // check correctness
+        assertTrue(estimator.isSprtEnabled());
+    }
+
+    @Test
+    void testGetSetSprtEpsilon() throws LockedException {
+        final var estimator = new MSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(MSACRobustEstimator.DEFAULT_SPRT_EPSILON, estimator.getSprtEpsilon(), 0.0);
+
+        // set new value
+        estimator.setSprtEpsilon(0.5);
+
+        // check correctness
+        assertEquals(0.5, estimator.getSprtEpsilon(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSprtEpsilon(0.0));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSprtEpsilon(1.0));
+    }
+
+    @Test
+    void testGetSetSprtDelta() throws LockedException {
+        final var estimator = new MSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(MSACRobustEstimator.DEFAULT_SPRT_DELTA, estimator.getSprtDelta(), 0.0);
+
+        // set new value
+        estimator.setSprtDelta(0.05);
+
+        // check correctness
+        assertEquals(0.05, estimator.getSprtDelta(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSprtDelta(0.0));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSprtDelta(1.0));
+    }
+
+    @Test
+    void testGetSetSprtTimeRatio() throws LockedException {
+        final var estimator = new MSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(MSACRobustEstimator.DEFAULT_SPRT_TIME_RATIO, estimator.getSprtTimeRatio(), 0.0);
+
+        // set new value
+        estimator.setSprtTimeRatio(50.0);
+
+        // check correctness
+        assertEquals(50.0, estimator.getSprtTimeRatio(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSprtTimeRatio(0.0));
+    }
+
+    @Test
+    void testIsSetInliersDataReuseEnabled() throws LockedException {
+        final var estimator = new MSACRobustEstimator<double[]>();
+        assertEquals(MSACRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED, estimator.isInliersDataReuseEnabled());
+
+        // set new value
+        estimator.setInliersDataReuseEnabled(!MSACRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED);
+
+        // check correctness
+        assertEquals(!MSACRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED, estimator.isInliersDataReuseEnabled());
+    }
+
     @Test
     void testEstimate() throws LockedException, NotReadyException, RobustEstimatorException {
         for (var i = 0; i < TIMES; i++) {
@@ -210,6 +304,54 @@ class MSACRobustEstimatorTest {
         }
     }
 
+    @Test
+    void testEstimateWithSprt() throws LockedException, NotReadyException, RobustEstimatorException {
+        for (var i = 0; i < TIMES; i++) {
+            final var randomizer = new UniformRandomizer();
+            final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+            final var listener = new TestMSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+            final var estimator = new MSACRobustEstimator<double[]>();
+            estimator.setSprtEnabled(true);
+
+            // Force NotReadyException
+            assertThrows(NotReadyException.class, estimator::estimate);
+
+            // set listener
+            estimator.setListener(listener);
+            listener.reset();
+            assertEquals(0, listener.getStartCounter());
+            assertEquals(0, listener.getEndCounter());
+            assertFalse(estimator.isLocked());
+
+            // estimate
+            final var params = estimator.estimate();
+
+            assertNotNull(estimator.getBestResult());
+            assertNotNull(estimator.getBestResultInliersData());
+            assertNotNull(estimator.getBestNumberInliersData());
+
+            // check status after estimation
+            assertFalse(estimator.isLocked());
+            assertEquals(1, listener.getStartCounter());
+            assertEquals(1, listener.getEndCounter());
+
+            // check correctness of estimation
+            assertEquals(params.length, listener.getParams().length);
+            assertEquals(NUM_PARAMS, params.length);
+
+            assertArrayEquals(params, listener.getParams(), ABSOLUTE_ERROR);
+
+            assertNotNull(estimator.getBestResultInliersData());
+
+            final var inliersData = estimator.getBestNumberInliersData();
+            assertNotNull(inliersData);
+            assertSame(inliersData, estimator.getInliersData());
+            assertTrue(inliersData.getNumInliers() > 0);
+            assertNotNull(inliersData.getInliers());
+            assertNotNull(inliersData.getResiduals());
+        }
+    }
+
     private static double[] computeParams() {
         // we will estimate parameters a and b for equation y = a*x + b
         final var randomizer = new UniformRandomizer();
@@ -346,7 +488,10 @@ class MSACRobustEstimatorTest {
             testIsLocked(ransacEstimator);
             assertTrue(iteration > 0);
             assertTrue(ransacEstimator.getNIters() >= 0);
-            assertNotNull(ransacEstimator.getBestResult());
+            if (!ransacEstimator.isSprtEnabled()) {
+                // when SPRT is enabled, first solutions might be rejected
+                assertNotNull(ransacEstimator.getBestResult());
+            }
         }
 
         @Override
@@ -373,6 +518,13 @@ class MSACRobustEstimatorTest {
             assertThrows(LockedException.class, () -> estimator.setListener(this));
             assertThrows(LockedException.class, () -> estimator.setMaxIterations(1));
             assertThrows(LockedException.class, () -> estimator.setProgressDelta(0.5f));
+            assertThrows(LockedException.class, () -> estimator.setSprtEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setSprtEpsilon(0.5));
+            assertThrows(LockedException.class, () -> estimator.setSprtDelta(0.05));
+            assertThrows(LockedException.class, () -> estimator.setSprtTimeRatio(50.0));
+            assertThrows(LockedException.class, () -> estimator.setSubsetSelector(null));
+            assertThrows(LockedException.class, () -> estimator.setInliersDataReuseEnabled(true));
+            assertThrows(LockedException.class, estimator::releaseWorkspace);
         }
 
         public final void reset() {
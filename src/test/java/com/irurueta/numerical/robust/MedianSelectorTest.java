@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MedianSelectorTest {
+
+    private static final int MIN_LENGTH = 1;
+
+    private static final int MAX_LENGTH = 1000;
+
+    private static final double MIN_RANDOM_VALUE = 0.0;
+
+    private static final double MAX_RANDOM_VALUE = 100.0;
+
+    private static final int TIMES = 100;
+
+    @Test
+    void testMedian() {
+        final var randomizer = new UniformRandomizer();
+        for (var t = 0; t < TIMES; t++) {
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var values = new double[length];
+            for (var i = 0; i < length; i++) {
+                values[i] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            }
+
+            final var sorted = Arrays.copyOf(values, length);
+            Arrays.sort(sorted);
+            final var expected = length % 2 == 1 ? sorted[length / 2]
+                    : 0.5 * (sorted[length / 2 - 1] + sorted[length / 2]);
+
+            assertEquals(expected, MedianSelector.median(values, length), 0.0);
+        }
+    }
+
+    @Test
+    void testMedianWithRepeatedValues() {
+        final var randomizer = new UniformRandomizer();
+        for (var t = 0; t < TIMES; t++) {
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var values = new double[length];
+            for (var i = 0; i < length; i++) {
+                values[i] = randomizer.nextInt(0, 5);
+            }
+
+            final var sorted = Arrays.copyOf(values, length);
+            Arrays.sort(sorted);
+            final var expected = length % 2 == 1 ? sorted[length / 2]
+                    : 0.5 * (sorted[length / 2 - 1] + sorted[length / 2]);
+
+            assertEquals(expected, MedianSelector.median(values, length), 0.0);
+        }
+    }
+
+    @Test
+    void testMedianOfSortedValues() {
+        // sorted and reversed inputs must not degrade selection
+        final var length = 100001;
+        final var ascending = new double[length];
+        final var descending = new double[length];
+        for (var i = 0; i < length; i++) {
+            ascending[i] = i;
+            descending[i] = length - 1 - i;
+        }
+
+        assertEquals(50000.0, MedianSelector.median(ascending, length), 0.0);
+        assertEquals(50000.0, MedianSelector.median(descending, length), 0.0);
+    }
+
+    @Test
+    void testMedianUsesOnlyProvidedLength() {
+        final var values = new double[]{3.0, 1.0, 2.0, -10.0, -20.0};
+
+        assertEquals(2.0, MedianSelector.median(values, 3), 0.0);
+        assertEquals(-10.0, values[3], 0.0);
+        assertEquals(-20.0, values[4], 0.0);
+    }
+
+    @Test
+    void testSelect() {
+        final var randomizer = new UniformRandomizer();
+        for (var t = 0; t < TIMES; t++) {
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var values = new double[length];
+            for (var i = 0; i < length; i++) {
+                values[i] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            }
+
+            final var sorted = Arrays.copyOf(values, length);
+            Arrays.sort(sorted);
+
+            final var k = randomizer.nextInt(0, length);
+            final var selected = MedianSelector.select(values, length, k);
+            assertEquals(sorted[k], selected, 0.0);
+
+            // check partition
+            for (var i = 0; i < k; i++) {
+                assertTrue(values[i] <= selected);
+            }
+            for (var i = k + 1; i < length; i++) {
+                assertTrue(values[i] >= selected);
+            }
+        }
+    }
+
+    @Test
+    void testCanBeBelow() {
+        final var randomizer = new UniformRandomizer();
+        for (var t = 0; t < TIMES; t++) {
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var values = new double[length];
+            for (var i = 0; i < length; i++) {
+                values[i] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            }
+            final var bound = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var copy = Arrays.copyOf(values, length);
+            final var canBeBelow = MedianSelector.canBeBelow(values, length, bound);
+
+            // values are not modified
+            assertArrayEquals(copy, values, 0.0);
+
+            // whenever median is below bound, it must be reported as such
+            final var median = MedianSelector.median(copy, length);
+            if (median < bound) {
+                assertTrue(canBeBelow);
+            }
+            if (!canBeBelow) {
+                assertTrue(median >= bound);
+            }
+        }
+
+        assertTrue(MedianSelector.canBeBelow(new double[]{1.0, 2.0, 3.0}, 3, 2.5));
+        assertFalse(MedianSelector.canBeBelow(new double[]{1.0, 2.0, 3.0}, 3, 2.0));
+        assertTrue(MedianSelector.canBeBelow(new double[]{1.0, 2.0, 3.0, 4.0}, 4, 2.5));
+        assertFalse(MedianSelector.canBeBelow(new double[]{1.0, 2.0, 3.0, 4.0}, 4, 1.0));
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.numerical.LockedException;
+import com.irurueta.numerical.NotReadyException;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiModelRANSACRobustEstimatorTest {
+
+    private static final int NUM_MODELS = 3;
+
+    private static final int MIN_POINTS_PER_MODEL = 200;
+    private static final int MAX_POINTS_PER_MODEL = 300;
+
+    private static final double THRESHOLD = 1e-3;
+
+    private static final double MIN_ERROR = 1e-2;
+    private static final double MAX_ERROR = 1.0;
+
+    private static final double MIN_RANDOM_VALUE = -10.0;
+    private static final double MAX_RANDOM_VALUE = 10.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-6;
+
+    private static final int PERCENTAGE_OUTLIER = 10;
+
+    private static final int NUM_PARAMS = 2;
+
+    private static final int MIN_INLIERS = 50;
+
+    private static final int TIMES = 10;
+
+    @Test
+    void testConstants() {
+        assertEquals(500, MultiModelRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES);
+        assertEquals(1, MultiModelRANSACRobustEstimator.MIN_NUM_HYPOTHESES);
+        assertEquals(10, MultiModelRANSACRobustEstimator.DEFAULT_MAX_MODELS);
+        assertEquals(1, MultiModelRANSACRobustEstimator.MIN_MAX_MODELS);
+        assertEquals(10, MultiModelRANSACRobustEstimator.DEFAULT_MIN_INLIERS);
+        assertEquals(1, MultiModelRANSACRobustEstimator.MIN_MIN_INLIERS);
+        assertTrue(MultiModelRANSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED);
+        assertEquals(0.0, MultiModelRANSACRobustEstimator.MIN_THRESHOLD, 0.0);
+    }
+
+    @Test
+    void testConstructor() {
+        // test constructor without arguments
+        var estimator = new MultiModelRANSACRobustEstimator<double[]>();
+
+        // check default values
+        assertEquals(MultiModelRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES, estimator.getNumHypotheses());
+        assertEquals(MultiModelRANSACRobustEstimator.DEFAULT_MAX_MODELS, estimator.getMaxModels());
+        assertEquals(MultiModelRANSACRobustEstimator.DEFAULT_MIN_INLIERS, estimator.getMinInliers());
+        assertEquals(MultiModelRANSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED, estimator.isRefinementEnabled());
+        assertNull(estimator.getSubsetSelector());
+        assertNull(estimator.getListener());
+        assertFalse(estimator.isListenerAvailable());
+        assertFalse(estimator.isLocked());
+        assertEquals(RobustEstimator.DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(RobustEstimatorMethod.RANSAC, estimator.getMethod());
+        assertFalse(estimator.isReady());
+        assertNull(estimator.getModels());
+        assertNull(estimator.getModelsInliersData());
+        assertNull(estimator.getInliersData());
+
+        // test constructor with listener
+        final var listener = new TestMultiModelListener(THRESHOLD);
+        estimator = new MultiModelRANSACRobustEstimator<>(listener);
+
+        // check default values
+        assertEquals(MultiModelRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES, estimator.getNumHypotheses());
+        assertEquals(MultiModelRANSACRobustEstimator.DEFAULT_MAX_MODELS, estimator.getMaxModels());
+        assertEquals(MultiModelRANSACRobustEstimator.DEFAULT_MIN_INLIERS, estimator.getMinInliers());
+        assertEquals(MultiModelRANSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED, estimator.isRefinementEnabled());
+        assertNull(estimator.getSubsetSelector());
+        assertSame(listener, estimator.getListener());
+        assertTrue(estimator.isListenerAvailable());
+        assertFalse(estimator.isLocked());
+        assertEquals(RobustEstimatorMethod.RANSAC, estimator.getMethod());
+        assertTrue(estimator.isReady());
+        assertNull(estimator.getModels());
+        assertNull(estimator.getModelsInliersData());
+        assertNull(estimator.getInliersData());
+    }
+
+    @Test
+    void testGetSetNumHypotheses() throws LockedException {
+        final var estimator = new MultiModelRANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(MultiModelRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES, estimator.getNumHypotheses());
+
+        // set new value
+        estimator.setNumHypotheses(100);
+
+        // check correctness
+        assertEquals(100, estimator.getNumHypotheses());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setNumHypotheses(0));
+    }
+
+    @Test
+    void testGetSetMaxModels() throws LockedException {
+        final var estimator = new MultiModelRANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(MultiModelRANSACRobustEstimator.DEFAULT_MAX_MODELS, estimator.getMaxModels());
+
+        // set new value
+        estimator.setMaxModels(2);
+
+        // check correctness
+        assertEquals(2, estimator.getMaxModels());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setMaxModels(0));
+    }
+
+    @Test
+    void testGetSetMinInliers() throws LockedException {
+        final var estimator = new MultiModelRANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(MultiModelRANSACRobustEstimator.DEFAULT_MIN_INLIERS, estimator.getMinInliers());
+
+        // set new value
+        estimator.setMinInliers(MIN_INLIERS);
+
+        // check correctness
+        assertEquals(MIN_INLIERS, estimator.getMinInliers());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setMinInliers(0));
+    }
+
+    @Test
+    void testIsSetRefinementEnabled() throws LockedException {
+        final var estimator = new MultiModelRANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(MultiModelRANSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED, estimator.isRefinementEnabled());
+
+        // set new value
+        estimator.setRefinementEnabled(!MultiModelRANSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED);
+
+        // check correctness
+        assertEquals(!MultiModelRANSACRobustEstimator.DEFAULT_REFINEMENT_ENABLED, estimator.isRefinementEnabled());
+    }
+
+    @Test
+    void testGetSetSubsetSelector() throws LockedException {
+        final var estimator = new MultiModelRANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertNull(estimator.getSubsetSelector());
+
+        // set new value
+        final var subsetSelector = new FastRandomSubsetSelector(10);
+        estimator.setSubsetSelector(subsetSelector);
+
+        // check correctness
+        assertSame(subsetSelector, estimator.getSubsetSelector());
+    }
+
+    @Test
+    void testEstimateModels() throws LockedException, NotReadyException, RobustEstimatorException {
+        final var estimator = new MultiModelRANSACRobustEstimator<double[]>();
+
+        // Force NotReadyException
+        assertThrows(NotReadyException.class, estimator::estimateModels);
+        assertThrows(NotReadyException.class, estimator::estimate);
+
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var listener = new TestMultiModelListener(THRESHOLD);
+            estimator.setListener(listener);
+            estimator.setMinInliers(MIN_INLIERS);
+            estimator.setRefinementEnabled(false);
+
+            assertEquals(0, listener.getStartCounter());
+            assertEquals(0, listener.getEndCounter());
+
+            final var models = estimator.estimateModels();
+
+            // check status after estimation
+            assertFalse(estimator.isLocked());
+            assertEquals(1, listener.getStartCounter());
+            assertEquals(1, listener.getEndCounter());
+            assertSame(models, estimator.getModels());
+            assertEquals(0, listener.getRefineCounter());
+
+            checkModels(estimator, listener);
+            if (!matchModels(models, listener.getParams())) {
+                continue;
+            }
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testEstimateModelsWithRefinement() throws LockedException, NotReadyException, RobustEstimatorException {
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var listener = new TestMultiModelListener(THRESHOLD);
+            final var estimator = new MultiModelRANSACRobustEstimator<>(listener);
+            estimator.setMinInliers(MIN_INLIERS);
+
+            final var models = estimator.estimateModels();
+
+            // check that found models have been refined
+            assertTrue(listener.getRefineCounter() >= models.size());
+
+            checkModels(estimator, listener);
+            if (!matchModels(models, listener.getParams())) {
+                continue;
+            }
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testEstimateWithMaxModels() throws LockedException, NotReadyException, RobustEstimatorException {
+        final var listener = new TestMultiModelListener(THRESHOLD);
+        final var estimator = new MultiModelRANSACRobustEstimator<>(listener);
+        estimator.setMinInliers(MIN_INLIERS);
+        estimator.setMaxModels(1);
+
+        final var result = estimator.estimate();
+
+        // check that only one model is found
+        final var models = estimator.getModels();
+        assertEquals(1, models.size());
+        assertSame(result, models.get(0));
+        assertSame(estimator.getModelsInliersData().get(0), estimator.getInliersData());
+        assertTrue(estimator.getInliersData().getNumInliers() >= MIN_INLIERS);
+    }
+
+    @Test
+    void testEstimateWithoutEnoughInliers() throws LockedException {
+        final var listener = new TestMultiModelListener(THRESHOLD);
+        final var estimator = new MultiModelRANSACRobustEstimator<>(listener);
+        estimator.setMinInliers(listener.getTotalSamples() + 1);
+
+        // Force RobustEstimatorException
+        assertThrows(RobustEstimatorException.class, estimator::estimateModels);
+        assertFalse(estimator.isLocked());
+        assertNull(estimator.getModels());
+    }
+
+    @Test
+    void testEstimateWithNegativeThreshold() throws LockedException {
+        final var listener = new TestMultiModelListener(-1.0);
+        final var estimator = new MultiModelRANSACRobustEstimator<>(listener);
+
+        // Force RobustEstimatorException
+        assertThrows(RobustEstimatorException.class, estimator::estimateModels);
+        assertFalse(estimator.isLocked());
+    }
+
+    private static void checkModels(final MultiModelRANSACRobustEstimator<double[]> estimator,
+                                    final TestMultiModelListener listener) {
+        final var models = estimator.getModels();
+        final var inliersData = estimator.getModelsInliersData();
+        assertFalse(models.isEmpty());
+        assertTrue(models.size() <= estimator.getMaxModels());
+        assertEquals(models.size(), inliersData.size());
+        assertSame(inliersData.get(0), estimator.getInliersData());
+
+        // check that inliers of each model are disjoint, have small residuals
+        // and are above minimum number of inliers
+        final var assigned = new BitSet(listener.getTotalSamples());
+        for (var k = 0; k < models.size(); k++) {
+            final var model = models.get(k);
+            final var inliers = inliersData.get(k).getInliers();
+            assertEquals(inliers.cardinality(), inliersData.get(k).getNumInliers());
+            assertTrue(inliersData.get(k).getNumInliers() >= estimator.getMinInliers());
+            assertFalse(assigned.intersects(inliers));
+            for (var i = inliers.nextSetBit(0); i >= 0; i = inliers.nextSetBit(i + 1)) {
+                assertTrue(listener.computeResidual(model, i) <= THRESHOLD);
+            }
+            assigned.or(inliers);
+        }
+    }
+
+    private static boolean matchModels(final List<double[]> models, final double[][] params) {
+        if (models.size() != params.length) {
+            return false;
+        }
+        for (final var p : params) {
+            var found = false;
+            for (final var model : models) {
+                if (Math.abs(model[0] - p[0]) <= ABSOLUTE_ERROR && Math.abs(model[1] - p[1]) <= ABSOLUTE_ERROR) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class TestMultiModelListener implements RANSACRobustEstimatorListener<double[]> {
+
+        private final double[][] params;
+        private final double[] xs;
+        private final double[] ys;
+        private final int numSamples;
+        private final double threshold;
+
+        private int startCounter;
+        private int endCounter;
+        private int refineCounter;
+        private float previousProgress;
+
+        TestMultiModelListener(final double threshold) {
+            final var randomizer = new UniformRandomizer();
+            final var pointsPerModel = new int[NUM_MODELS];
+            var total = 0;
+            for (var k = 0; k < NUM_MODELS; k++) {
+                pointsPerModel[k] = randomizer.nextInt(MIN_POINTS_PER_MODEL, MAX_POINTS_PER_MODEL);
+                total += pointsPerModel[k];
+            }
+            numSamples = total;
+
+            // each model is a line y = a * x + b, and samples of different
+            // lines are interleaved
+            params = new double[NUM_MODELS][NUM_PARAMS];
+            xs = new double[numSamples];
+            ys = new double[numSamples];
+            for (var k = 0; k < NUM_MODELS; k++) {
+                params[k][0] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                params[k][1] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            }
+            var k = 0;
+            final var remaining = pointsPerModel.clone();
+            for (var i = 0; i < numSamples; i++) {
+                while (remaining[k] == 0) {
+                    k = (k + 1) % NUM_MODELS;
+                }
+                remaining[k]--;
+
+                xs[i] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                ys[i] = params[k][0] * xs[i] + params[k][1];
+                if (randomizer.nextInt(0, 100) < PERCENTAGE_OUTLIER) {
+                    // is outlier, so we add a certain amount of error
+                    ys[i] += randomizer.nextDouble(MIN_ERROR, MAX_ERROR);
+                }
+                k = (k + 1) % NUM_MODELS;
+            }
+
+            this.threshold = threshold;
+        }
+
+        double[][] getParams() {
+            return params;
+        }
+
+        int getStartCounter() {
+            return startCounter;
+        }
+
+        int getEndCounter() {
+            return endCounter;
+        }
+
+        int getRefineCounter() {
+            return refineCounter;
+        }
+
+        @Override
+        public int getTotalSamples() {
+            return numSamples;
+        }
+
+        @Override
+        public int getSubsetSize() {
+            return NUM_PARAMS;
+        }
+
+        @Override
+        public double getThreshold() {
+            return threshold;
+        }
+
+        @Override
+        public void estimatePreliminarSolutions(final int[] samplesIndices, final List<double[]> solutions) {
+            final var index1 = samplesIndices[0];
+            final var index2 = samplesIndices[1];
+
+            final var a = (ys[index2] - ys[index1]) / (xs[index2] - xs[index1]);
+            final var b = ys[index1] - a * xs[index1];
+
+            solutions.add(new double[]{a, b});
+        }
+
+        @Override
+        public double computeResidual(final double[] currentEstimation, final int i) {
+            return Math.abs(currentEstimation[0] * xs[i] + currentEstimation[1] - ys[i]);
+        }
+
+        @Override
+        public double[] refine(final double[] currentEstimation, final BitSet inliers) {
+            refineCounter++;
+
+            // least squares fit of line on inliers
+            var n = 0;
+            var sx = 0.0;
+            var sy = 0.0;
+            var sxx = 0.0;
+            var sxy = 0.0;
+            for (var i = inliers.nextSetBit(0); i >= 0; i = inliers.nextSetBit(i + 1)) {
+                n++;
+                sx += xs[i];
+                sy += ys[i];
+                sxx += xs[i] * xs[i];
+                sxy += xs[i] * ys[i];
+            }
+            final var den = n * sxx - sx * sx;
+            if (n < NUM_PARAMS || Math.abs(den) < Double.MIN_VALUE) {
+                return null;
+            }
+            final var a = (n * sxy - sx * sy) / den;
+            final var b = (sy - a * sx) / n;
+            return new double[]{a, b};
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void onEstimateStart(final RobustEstimator<double[]> estimator) {
+            testIsLocked((MultiModelRANSACRobustEstimator<double[]>) estimator);
+            startCounter++;
+        }
+
+        @Override
+        public void onEstimateEnd(final RobustEstimator<double[]> estimator) {
+            testIsLocked((MultiModelRANSACRobustEstimator<double[]>) estimator);
+            endCounter++;
+        }
+
+        @Override
+        public void onEstimateNextIteration(final RobustEstimator<double[]> estimator, final int iteration) {
+            testIsLocked((MultiModelRANSACRobustEstimator<double[]>) estimator);
+            assertTrue(iteration > 0);
+        }
+
+        @Override
+        public void onEstimateProgressChange(final RobustEstimator<double[]> estimator, final float progress) {
+            testIsLocked((MultiModelRANSACRobustEstimator<double[]>) estimator);
+            assertTrue(progress >= 0.0f);
+            assertTrue(progress <= 1.0f);
+            assertTrue(progress >= previousProgress);
+            previousProgress = progress;
+        }
+
+        private void testIsLocked(final MultiModelRANSACRobustEstimator<double[]> estimator) {
+            assertTrue(estimator.isLocked());
+            // test that estimator cannot be modified while locked
+            assertThrows(LockedException.class, () -> estimator.setListener(this));
+            assertThrows(LockedException.class, () -> estimator.setProgressDelta(0.5f));
+            assertThrows(LockedException.class, () -> estimator.setNumHypotheses(1));
+            assertThrows(LockedException.class, () -> estimator.setMaxModels(1));
+            assertThrows(LockedException.class, () -> estimator.setMinInliers(1));
+            assertThrows(LockedException.class, () -> estimator.setRefinementEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setSubsetSelector(null));
+            assertThrows(LockedException.class, estimator::estimate);
+            assertThrows(LockedException.class, estimator::estimateModels);
+        }
+    }
+}
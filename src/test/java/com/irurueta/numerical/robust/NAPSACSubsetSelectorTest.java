@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NAPSACSubsetSelectorTest {
+
+    private static final int MIN_SAMPLES = 100;
+    private static final int MAX_SAMPLES = 500;
+
+    private static final int MIN_SUBSET_SIZE = 5;
+    private static final int MAX_SUBSET_SIZE = 10;
+
+    private static final int NUM_NEIGHBOURS = 15;
+
+    private static final double MIN_RANDOM_VALUE = -10.0;
+    private static final double MAX_RANDOM_VALUE = 10.0;
+
+    private static final int TIMES = 50;
+
+    @Test
+    void testConstructor() {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var neighbourhood = createNeighbourhood(randomizer, numSamples);
+
+        var selector = new NAPSACSubsetSelector(neighbourhood);
+        assertNotNull(selector.getRandomizer());
+        assertSame(neighbourhood, selector.getNeighbourhood());
+        assertEquals(SubsetSelectorType.NAPSAC_SUBSET_SELECTOR, selector.getType());
+        assertEquals(numSamples, selector.getNumSamples());
+
+        selector = new NAPSACSubsetSelector(neighbourhood, true);
+        assertNotNull(selector.getRandomizer());
+        assertSame(neighbourhood, selector.getNeighbourhood());
+        assertEquals(SubsetSelectorType.NAPSAC_SUBSET_SELECTOR, selector.getType());
+        assertEquals(numSamples, selector.getNumSamples());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new NAPSACSubsetSelector(null));
+    }
+
+    @Test
+    void testComputeRandomSubsets() throws NotEnoughSamplesException, InvalidSubsetSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var subsetSize = randomizer.nextInt(MIN_SUBSET_SIZE, MAX_SUBSET_SIZE);
+        final var neighbourhood = createNeighbourhood(randomizer, numSamples);
+
+        final var selector = new NAPSACSubsetSelector(neighbourhood);
+        for (var t = 0; t < TIMES; t++) {
+            final var result = selector.computeRandomSubsets(subsetSize);
+            assertEquals(subsetSize, result.length);
+
+            // all samples are distinct and belong to neighbourhood of first one
+            final var neighbours = toSet(neighbourhood.getNeighbours(result[0]));
+            final var picked = new HashSet<Integer>();
+            for (final var index : result) {
+                assertTrue(index >= 0 && index < numSamples);
+                assertTrue(picked.add(index));
+            }
+            for (var i = 1; i < subsetSize; i++) {
+                assertTrue(neighbours.contains(result[i]));
+            }
+        }
+
+        // Force InvalidSubsetSizeException
+        assertThrows(InvalidSubsetSizeException.class, () -> selector.computeRandomSubsets(0));
+        assertThrows(InvalidSubsetSizeException.class,
+                () -> selector.computeRandomSubsets(subsetSize + 1, new int[subsetSize]));
+
+        // Force NotEnoughSamplesException
+        assertThrows(NotEnoughSamplesException.class, () -> selector.computeRandomSubsets(numSamples + 1));
+        selector.setNumSamples(numSamples + 1);
+        assertThrows(NotEnoughSamplesException.class, () -> selector.computeRandomSubsets(subsetSize));
+    }
+
+    @Test
+    void testComputeRandomSubsetsWithoutEnoughNeighbours() throws NotEnoughSamplesException,
+            InvalidSubsetSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var points = new double[numSamples][1];
+        for (final var point : points) {
+            point[0] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        }
+        final var neighbourhood = new KNearestSampleNeighbourhood(points, 2);
+
+        // remaining samples are picked uniformly
+        final var selector = new NAPSACSubsetSelector(neighbourhood);
+        final var subsetSize = randomizer.nextInt(MIN_SUBSET_SIZE, MAX_SUBSET_SIZE);
+        for (var t = 0; t < TIMES; t++) {
+            final var result = selector.computeRandomSubsets(subsetSize);
+            final var picked = new HashSet<Integer>();
+            for (final var index : result) {
+                assertTrue(index >= 0 && index < numSamples);
+                assertTrue(picked.add(index));
+            }
+        }
+    }
+
+    @Test
+    void testComputeRandomSubsetsInRange() throws NotEnoughSamplesException, InvalidSubsetSizeException,
+            InvalidSubsetRangeException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var subsetSize = randomizer.nextInt(MIN_SUBSET_SIZE, MAX_SUBSET_SIZE);
+        final var minPos = randomizer.nextInt(0, MIN_SAMPLES - subsetSize - 1);
+        final var maxPos = randomizer.nextInt(MIN_SAMPLES - 1, numSamples);
+        final var neighbourhood = createNeighbourhood(randomizer, numSamples);
+
+        final var selector = new NAPSACSubsetSelector(neighbourhood);
+        for (var t = 0; t < TIMES; t++) {
+            final var result = selector.computeRandomSubsetsInRange(minPos, maxPos, subsetSize, t % 2 == 0);
+            assertEquals(subsetSize, result.length);
+            if (t % 2 == 0) {
+                assertEquals(maxPos - 1, result[0]);
+            }
+
+            final var picked = new HashSet<Integer>();
+            for (final var index : result) {
+                assertTrue(index >= minPos && index < maxPos);
+                assertTrue(picked.add(index));
+            }
+        }
+
+        // Force InvalidSubsetSizeException
+        assertThrows(InvalidSubsetSizeException.class,
+                () -> selector.computeRandomSubsetsInRange(minPos, maxPos, 0, false));
+        assertThrows(InvalidSubsetSizeException.class, () -> selector.computeRandomSubsetsInRange(minPos,
+                minPos + subsetSize - 1, subsetSize, false));
+
+        // Force NotEnoughSamplesException
+        assertThrows(NotEnoughSamplesException.class, () -> selector.computeRandomSubsetsInRange(minPos,
+                numSamples + 1, subsetSize, false));
+
+        // Force InvalidSubsetRangeException
+        assertThrows(InvalidSubsetRangeException.class, () -> selector.computeRandomSubsetsInRange(maxPos, minPos,
+                subsetSize, false));
+    }
+
+    @Test
+    void testComputeRandomSubsetsWithSampleOrder() throws NotEnoughSamplesException, InvalidSubsetSizeException,
+            InvalidSubsetRangeException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var subsetSize = randomizer.nextInt(MIN_SUBSET_SIZE, MAX_SUBSET_SIZE);
+        final var neighbourhood = createNeighbourhood(randomizer, numSamples);
+
+        // random order of samples
+        final var sortedIndices = new int[numSamples];
+        for (var i = 0; i < numSamples; i++) {
+            sortedIndices[i] = i;
+        }
+        for (var i = numSamples - 1; i > 0; i--) {
+            final var j = randomizer.nextInt(0, i + 1);
+            final var tmp = sortedIndices[i];
+            sortedIndices[i] = sortedIndices[j];
+            sortedIndices[j] = tmp;
+        }
+
+        final var selector = new NAPSACSubsetSelector(neighbourhood);
+        selector.setSampleOrder(sortedIndices);
+        for (var t = 0; t < TIMES; t++) {
+            // picked positions refer to samples belonging to neighbourhood of
+            // sample at first position
+            final var result = t % 2 == 0 ? selector.computeRandomSubsets(subsetSize)
+                    : selector.computeRandomSubsetsInRange(0, numSamples, subsetSize, true);
+            assertEquals(subsetSize, result.length);
+            if (t % 2 != 0) {
+                assertEquals(numSamples - 1, result[0]);
+            }
+
+            final var neighbours = toSet(neighbourhood.getNeighbours(sortedIndices[result[0]]));
+            final var picked = new HashSet<Integer>();
+            for (final var index : result) {
+                assertTrue(index >= 0 && index < numSamples);
+                assertTrue(picked.add(index));
+            }
+            for (var i = 1; i < subsetSize; i++) {
+                assertTrue(neighbours.contains(sortedIndices[result[i]]));
+            }
+        }
+
+        // once order is removed, picked indices are samples again
+        selector.setSampleOrder(null);
+        final var result = selector.computeRandomSubsets(subsetSize);
+        final var neighbours = toSet(neighbourhood.getNeighbours(result[0]));
+        for (var i = 1; i < subsetSize; i++) {
+            assertTrue(neighbours.contains(result[i]));
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> selector.setSampleOrder(new int[numSamples + 1]));
+    }
+
+    private static SampleNeighbourhood createNeighbourhood(final UniformRandomizer randomizer,
+                                                          final int numSamples) {
+        final var points = new double[numSamples][2];
+        for (final var point : points) {
+            randomizer.fill(point, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        }
+        return new KNearestSampleNeighbourhood(points, NUM_NEIGHBOURS);
+    }
+
+    private static HashSet<Integer> toSet(final int[] values) {
+        final var result = new HashSet<Integer>();
+        for (final var value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+}
@@ -17,9 +17,12 @@ package com.irurueta.numerical.robust;
 
 import com.irurueta.numerical.LockedException;
 import com.irurueta.numerical.NotReadyException;
+import com.irurueta.sorting.SortingException;
 import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -68,6 +71,7 @@ class PROMedSRobustEstimatorTest {
         assertEquals(PROMedSRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
         assertEquals(PROMedSRobustEstimator.DEFAULT_STOP_THRESHOLD_ENABLED, estimator.isStopThresholdEnabled());
         assertEquals(PROMedSRobustEstimator.DEFAULT_INLIER_FACTOR, estimator.getInlierFactor(), 0.0);
+        assertEquals(PROMedSRobustEstimator.DEFAULT_MEDIAN_EARLY_STOP_ENABLED, estimator.isMedianEarlyStopEnabled());
         assertEquals(PROMedSRobustEstimator.DEFAULT_USE_INLIER_THRESHOLD, estimator.isUseInlierThresholds());
         assertEquals(PROMedSRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getNIters());
         assertNull(estimator.getBestResult());
@@ -92,6 +96,7 @@ class PROMedSRobustEstimatorTest {
         assertEquals(PROSACRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getMaxIterations());
         assertEquals(PROMedSRobustEstimator.DEFAULT_STOP_THRESHOLD_ENABLED, estimator.isStopThresholdEnabled());
         assertEquals(PROMedSRobustEstimator.DEFAULT_INLIER_FACTOR, estimator.getInlierFactor(), 0.0);
+        assertEquals(PROMedSRobustEstimator.DEFAULT_MEDIAN_EARLY_STOP_ENABLED, estimator.isMedianEarlyStopEnabled());
         assertEquals(PROMedSRobustEstimator.DEFAULT_USE_INLIER_THRESHOLD, estimator.isUseInlierThresholds());
         assertEquals(PROSACRobustEstimator.DEFAULT_MAX_ITERATIONS, estimator.getNIters());
         assertNull(estimator.getBestResult());
@@ -203,6 +208,18 @@ class PROMedSRobustEstimatorTest {
         assertThrows(IllegalArgumentException.class, () -> estimator.setInlierFactor(0.0));
     }
 
+    @Test
+    void testIsSetMedianEarlyStopEnabled() throws LockedException {
+        final var estimator = new PROMedSRobustEstimator<double[]>();
+        assertEquals(PROMedSRobustEstimator.DEFAULT_MEDIAN_EARLY_STOP_ENABLED, estimator.isMedianEarlyStopEnabled());
+
+        // set new value
+        estimator.setMedianEarlyStopEnabled(!PROMedSRobustEstimator.DEFAULT_MEDIAN_EARLY_STOP_ENABLED);
+
+        // check correctness
+        assertEquals(!PROMedSRobustEstimator.DEFAULT_MEDIAN_EARLY_STOP_ENABLED, estimator.isMedianEarlyStopEnabled());
+    }
+
     @Test
     void testIsSetUseInlierThresholds() throws LockedException {
         final var estimator = new PROMedSRobustEstimator<double[]>();
@@ -265,6 +282,48 @@ class PROMedSRobustEstimatorTest {
         assertThrows(IllegalArgumentException.class, () -> estimator.setBeta(2.0));
     }
 
+    @Test
+    void testGetSetSubsetSelector() throws LockedException {
+        final var estimator = new PROMedSRobustEstimator<double[]>();
+
+        // check default value
+        assertNull(estimator.getSubsetSelector());
+
+        // set new value
+        final var selector = new XoroshiroSubsetSelector(MIN_POINTS);
+        estimator.setSubsetSelector(selector);
+
+        // check correctness
+        assertSame(selector, estimator.getSubsetSelector());
+    }
+
+    @Test
+    void testIsSetInliersDataReuseEnabled() throws LockedException {
+        final var estimator = new PROMedSRobustEstimator<double[]>();
+        assertEquals(PROMedSRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED, estimator.isInliersDataReuseEnabled());
+
+        // set new value
+        estimator.setInliersDataReuseEnabled(!PROMedSRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED);
+
+        // check correctness
+        assertEquals(!PROMedSRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED, estimator.isInliersDataReuseEnabled());
+    }
+
+    @Test
+    void testGetSetSchedule() throws LockedException, SortingException {
+        final var estimator = new PROMedSRobustEstimator<double[]>();
+
+        // check default value
+        assertNull(estimator.getSchedule());
+
+        // set new value
+        final var schedule = new PROSACSchedule(new double[]{1.0, 3.0, 2.0});
+        estimator.setSchedule(schedule);
+
+        // check correctness
+        assertSame(schedule, estimator.getSchedule());
+    }
+
     @Test
     void testEstimate() throws LockedException, NotReadyException, RobustEstimatorException {
         for (var i = 0; i < TIMES; i++) {
@@ -306,6 +365,104 @@ class PROMedSRobustEstimatorTest {
         }
     }
 
+    @Test
+    void testEstimateWithSchedule() throws LockedException, NotReadyException, RobustEstimatorException,
+            SortingException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener1 = new TestPROMedSCRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+        final var listener2 = new TestPROMedSCRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+
+        // schedule is shared among estimators
+        final var schedule = new PROSACSchedule(listener1.getQualityScores());
+        final var estimator1 = new PROMedSRobustEstimator<>(listener1);
+        final var estimator2 = new PROMedSRobustEstimator<>(listener1);
+        estimator1.setSchedule(schedule);
+        estimator2.setSchedule(schedule);
+
+        // estimate
+        final var params1 = estimator1.estimate();
+        final var params2 = estimator2.estimate();
+
+        // check correctness
+        assertArrayEquals(listener1.getParams(), params1, ABSOLUTE_ERROR);
+        assertArrayEquals(listener1.getParams(), params2, ABSOLUTE_ERROR);
+
+        // schedule is reused for a different set of samples having the same
+        // size
+        estimator1.setListener(listener2);
+        final var params3 = estimator1.estimate();
+
+        // check correctness
+        assertArrayEquals(listener2.getParams(), params3, ABSOLUTE_ERROR);
+
+        // Force RobustEstimatorException when number of samples does not match
+        estimator1.setSchedule(new PROSACSchedule(new double[numSamples + 1]));
+        assertThrows(RobustEstimatorException.class, estimator1::estimate);
+        assertFalse(estimator1.isLocked());
+    }
+
+    @Test
+    void testEstimateWithNAPSACSubsetSelector() throws LockedException, SortingException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var subsets = new ArrayList<int[]>();
+        final var listener = new TestPROMedSCRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD) {
+            @Override
+            public void estimatePreliminarSolutions(final int[] samplesIndices, final List<double[]> solutions) {
+                // keep drawn subsets without providing any solution
+                subsets.add(samplesIndices.clone());
+            }
+
+            @Override
+            public void onEstimateNextIteration(final RobustEstimator<double[]> estimator, final int iteration) {
+                // no best result is available
+            }
+        };
+
+        // neighbourhood of samples along x axis
+        final var xs = listener.getXs();
+        final var points = new double[numSamples][1];
+        for (var i = 0; i < numSamples; i++) {
+            points[i][0] = xs[i];
+        }
+        final var neighbourhood = new KNearestSampleNeighbourhood(points);
+        final var selector = new NAPSACSubsetSelector(neighbourhood);
+
+        final var schedule = new PROSACSchedule(listener.getQualityScores());
+        final var estimator = new PROMedSRobustEstimator<>(listener);
+        estimator.setSchedule(schedule);
+        estimator.setSubsetSelector(selector);
+
+        // since no solution is ever found, subsets are drawn from a growing
+        // range of samples until required number of iterations is reached
+        assertThrows(RobustEstimatorException.class, estimator::estimate);
+        assertFalse(estimator.isLocked());
+        assertSame(selector, estimator.getSubsetSelector());
+        assertTrue(subsets.size() > 1);
+
+        // check that drawn subsets contain neighbouring samples
+        final var sortedIndices = schedule.getSortedIndices();
+        final var positions = new int[numSamples];
+        for (var i = 0; i < numSamples; i++) {
+            positions[sortedIndices[i]] = i;
+        }
+        var numNeighbours = 0;
+        for (final var subset : subsets) {
+            final var neighbours = neighbourhood.getNeighbours(subset[0]);
+            if (Arrays.stream(neighbours).anyMatch(neighbour -> neighbour == subset[1])) {
+                numNeighbours++;
+            } else {
+                // samples are only picked uniformly when all neighbours of first
+                // sample have a lower quality than it, and hence are out of range
+                for (final var neighbour : neighbours) {
+                    assertTrue(positions[neighbour] >= positions[subset[0]]);
+                }
+            }
+        }
+        assertTrue(numNeighbours > 0);
+    }
+
     private static double[] computeParams() {
         // we will estimate parameters a and b for equation y = a*x + b
         final var randomizer = new UniformRandomizer();
@@ -370,6 +527,10 @@ class PROMedSRobustEstimatorTest {
             return params;
         }
 
+        double[] getXs() {
+            return xs;
+        }
+
         @Override
         public double[] getQualityScores() {
             return qualityScores;
@@ -484,10 +645,15 @@ class PROMedSRobustEstimatorTest {
             assertThrows(LockedException.class, () -> estimator.setListener(this));
             assertThrows(LockedException.class, () -> estimator.setMaxIterations(1));
             assertThrows(LockedException.class, () -> estimator.setProgressDelta(0.5f));
+            assertThrows(LockedException.class, () -> estimator.setMedianEarlyStopEnabled(false));
             assertThrows(LockedException.class, () -> estimator.setMaxOutliersProportion(0.5));
             assertThrows(LockedException.class, () -> estimator.setEta0(0.5));
             assertThrows(LockedException.class, () -> estimator.setBeta(0.5));
             assertThrows(LockedException.class, () -> estimator.setStopThresholdEnabled(false));
+            assertThrows(LockedException.class, () -> estimator.setSchedule(null));
+            assertThrows(LockedException.class, () -> estimator.setSubsetSelector(null));
+            assertThrows(LockedException.class, () -> estimator.setInliersDataReuseEnabled(true));
+            assertThrows(LockedException.class, estimator::releaseWorkspace);
         }
 
         public final void reset() {
@@ -17,9 +17,12 @@ package com.irurueta.numerical.robust;
 
 import com.irurueta.numerical.LockedException;
 import com.irurueta.numerical.NotReadyException;
+import com.irurueta.sorting.SortingException;
 import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -257,6 +260,78 @@ class PROSACRobustEstimatorTest {
         assertTrue(estimator.isComputeAndKeepResidualsEnabled());
     }
 
+    @Test
+    void testIsSetLazyInliersDataEnabled() throws LockedException {
+        final var estimator = new PROSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(PROSACRobustEstimator.DEFAULT_LAZY_INLIERS_DATA_ENABLED, estimator.isLazyInliersDataEnabled());
+
+        // set new value
+        estimator.setLazyInliersDataEnabled(!PROSACRobustEstimator.DEFAULT_LAZY_INLIERS_DATA_ENABLED);
+
+        // check correctness
+        assertEquals(!PROSACRobustEstimator.DEFAULT_LAZY_INLIERS_DATA_ENABLED, estimator.isLazyInliersDataEnabled());
+    }
+
+    @Test
+    void testIsSetFloatResidualsEnabled() throws LockedException {
+        final var estimator = new PROSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(PROSACRobustEstimator.DEFAULT_FLOAT_RESIDUALS_ENABLED, estimator.isFloatResidualsEnabled());
+
+        // set new value
+        estimator.setFloatResidualsEnabled(!PROSACRobustEstimator.DEFAULT_FLOAT_RESIDUALS_ENABLED);
+
+        // check correctness
+        assertEquals(!PROSACRobustEstimator.DEFAULT_FLOAT_RESIDUALS_ENABLED, estimator.isFloatResidualsEnabled());
+    }
+
+    @Test
+    void testIsSetInliersDataReuseEnabled() throws LockedException {
+        final var estimator = new PROSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(PROSACRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED, estimator.isInliersDataReuseEnabled());
+
+        // set new value
+        estimator.setInliersDataReuseEnabled(!PROSACRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED);
+
+        // check correctness
+        assertEquals(!PROSACRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED, estimator.isInliersDataReuseEnabled());
+    }
+
+    @Test
+    void testGetSetSubsetSelector() throws LockedException {
+        final var estimator = new PROSACRobustEstimator<double[]>();
+
+        // check default value
+        assertNull(estimator.getSubsetSelector());
+
+        // set new value
+        final var selector = new XoroshiroSubsetSelector(MIN_POINTS);
+        estimator.setSubsetSelector(selector);
+
+        // check correctness
+        assertSame(selector, estimator.getSubsetSelector());
+    }
+
+    @Test
+    void testGetSetSchedule() throws LockedException, SortingException {
+        final var estimator = new PROSACRobustEstimator<double[]>();
+
+        // check default value
+        assertNull(estimator.getSchedule());
+
+        // set new value
+        final var schedule = new PROSACSchedule(new double[]{1.0, 3.0, 2.0});
+        estimator.setSchedule(schedule);
+
+        // check correctness
+        assertSame(schedule, estimator.getSchedule());
+    }
+
     @Test
     void testEstimate() throws LockedException, NotReadyException, RobustEstimatorException {
         for (var i = 0; i < TIMES; i++) {
@@ -341,6 +416,194 @@ class PROSACRobustEstimatorTest {
         }
     }
 
+    @Test
+    void testEstimateWithLazyInliersData() throws LockedException, NotReadyException, RobustEstimatorException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new TestPROSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+        final var estimator = new PROSACRobustEstimator<>(listener);
+
+        estimator.setComputeAndKeepInliersEnabled(true);
+        estimator.setComputeAndKeepResidualsEnabled(true);
+        estimator.setLazyInliersDataEnabled(true);
+
+        // estimate
+        final var params = estimator.estimate();
+
+        // check that inliers data is lazily computed for best result
+        final var inliersData = estimator.getBestInliersData();
+        assertNotNull(inliersData);
+        final var numInliers = inliersData.getNumInliers();
+        assertTrue(numInliers > 0);
+
+        final var inliers = inliersData.getInliers();
+        final var residuals = inliersData.getResiduals();
+        assertNotNull(inliers);
+        assertNotNull(residuals);
+        assertNull(inliersData.getFloatResiduals());
+        assertEquals(numInliers, inliers.cardinality());
+        for (var i = 0; i < numSamples; i++) {
+            final var residual = listener.computeResidual(params, i);
+            assertEquals(residual, residuals[i], 0.0);
+            assertEquals(residual <= THRESHOLD, inliers.get(i));
+        }
+
+        // check that data is computed only once
+        assertSame(inliers, inliersData.getInliers());
+        assertSame(residuals, inliersData.getResiduals());
+    }
+
+    @Test
+    void testEstimateWithFloatResiduals() throws LockedException, NotReadyException, RobustEstimatorException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new TestPROSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+        final var estimator = new PROSACRobustEstimator<>(listener);
+
+        estimator.setComputeAndKeepInliersEnabled(true);
+        estimator.setComputeAndKeepResidualsEnabled(true);
+        estimator.setFloatResidualsEnabled(true);
+
+        // estimate
+        final var params = estimator.estimate();
+
+        // check that residuals are kept with float precision
+        final var inliersData = estimator.getBestInliersData();
+        assertNotNull(inliersData);
+        final var floatResiduals = inliersData.getFloatResiduals();
+        assertNotNull(floatResiduals);
+        assertEquals(numSamples, floatResiduals.length);
+
+        final var inliers = inliersData.getInliers();
+        var numInliers = 0;
+        for (var i = 0; i < numSamples; i++) {
+            final var residual = listener.computeResidual(params, i);
+            assertEquals((float) residual, floatResiduals[i], 0.0f);
+            assertEquals(residual <= THRESHOLD, inliers.get(i));
+            if (residual <= THRESHOLD) {
+                numInliers++;
+            }
+        }
+        assertEquals(numInliers, inliersData.getNumInliers());
+
+        // double precision residuals are expanded from float ones
+        final var residuals = inliersData.getResiduals();
+        assertNotNull(residuals);
+        for (var i = 0; i < numSamples; i++) {
+            assertEquals(floatResiduals[i], residuals[i], 0.0);
+        }
+
+        // lazy and float modes can be combined
+        estimator.setLazyInliersDataEnabled(true);
+        listener.reset();
+        final var params2 = estimator.estimate();
+        final var inliersData2 = estimator.getBestInliersData();
+        assertNotSame(inliersData, inliersData2);
+        final var floatResiduals2 = inliersData2.getFloatResiduals();
+        assertNotNull(floatResiduals2);
+        for (var i = 0; i < numSamples; i++) {
+            assertEquals((float) listener.computeResidual(params2, i), floatResiduals2[i], 0.0f);
+        }
+    }
+
+    @Test
+    void testEstimateWithSchedule() throws LockedException, NotReadyException, RobustEstimatorException,
+            SortingException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener1 = new TestPROSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+        final var listener2 = new TestPROSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+
+        // schedule is shared among estimators
+        final var schedule = new PROSACSchedule(listener1.getQualityScores());
+        final var estimator1 = new PROSACRobustEstimator<>(listener1);
+        final var estimator2 = new PROSACRobustEstimator<>(listener1);
+        estimator1.setSchedule(schedule);
+        estimator2.setSchedule(schedule);
+
+        // estimate
+        final var params1 = estimator1.estimate();
+        final var params2 = estimator2.estimate();
+
+        // check correctness
+        assertArrayEquals(listener1.getParams(), params1, ABSOLUTE_ERROR);
+        assertArrayEquals(listener1.getParams(), params2, ABSOLUTE_ERROR);
+
+        // schedule is reused for a different set of samples having the same
+        // size
+        estimator1.setListener(listener2);
+        final var params3 = estimator1.estimate();
+
+        // check correctness
+        assertArrayEquals(listener2.getParams(), params3, ABSOLUTE_ERROR);
+
+        // Force RobustEstimatorException when number of samples does not match
+        estimator1.setSchedule(new PROSACSchedule(new double[numSamples + 1]));
+        assertThrows(RobustEstimatorException.class, estimator1::estimate);
+        assertFalse(estimator1.isLocked());
+    }
+
+    @Test
+    void testEstimateWithNAPSACSubsetSelector() throws LockedException, SortingException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var subsets = new ArrayList<int[]>();
+        final var listener = new TestPROSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD) {
+            @Override
+            public void estimatePreliminarSolutions(final int[] samplesIndices, final List<double[]> solutions) {
+                // keep drawn subsets without providing any solution
+                subsets.add(samplesIndices.clone());
+            }
+
+            @Override
+            public void onEstimateNextIteration(final RobustEstimator<double[]> estimator, final int iteration) {
+                // no best result is available
+            }
+        };
+
+        // neighbourhood of samples along x axis
+        final var xs = listener.getXs();
+        final var points = new double[numSamples][1];
+        for (var i = 0; i < numSamples; i++) {
+            points[i][0] = xs[i];
+        }
+        final var neighbourhood = new KNearestSampleNeighbourhood(points);
+        final var selector = new NAPSACSubsetSelector(neighbourhood);
+
+        final var schedule = new PROSACSchedule(listener.getQualityScores());
+        final var estimator = new PROSACRobustEstimator<>(listener);
+        estimator.setSchedule(schedule);
+        estimator.setSubsetSelector(selector);
+
+        // since no solution is ever found, subsets are drawn from a growing
+        // range of samples until required number of iterations is reached
+        assertThrows(RobustEstimatorException.class, estimator::estimate);
+        assertFalse(estimator.isLocked());
+        assertSame(selector, estimator.getSubsetSelector());
+        assertTrue(subsets.size() > 1);
+
+        // check that drawn subsets contain neighbouring samples
+        final var sortedIndices = schedule.getSortedIndices();
+        final var positions = new int[numSamples];
+        for (var i = 0; i < numSamples; i++) {
+            positions[sortedIndices[i]] = i;
+        }
+        var numNeighbours = 0;
+        for (final var subset : subsets) {
+            final var neighbours = neighbourhood.getNeighbours(subset[0]);
+            if (Arrays.stream(neighbours).anyMatch(neighbour -> neighbour == subset[1])) {
+                numNeighbours++;
+            } else {
+                // samples are only picked uniformly when all neighbours of first
+                // sample have a lower quality than it, and hence are out of range
+                for (final var neighbour : neighbours) {
+                    assertTrue(positions[neighbour] >= positions[subset[0]]);
+                }
+            }
+        }
+        assertTrue(numNeighbours > 0);
+    }
+
     private static double[] computeParams() {
         // we will estimate parameters a and b for equation y = a*x + b
         final var randomizer = new UniformRandomizer();
@@ -405,6 +668,10 @@ class PROSACRobustEstimatorTest {
             return params;
         }
 
+        double[] getXs() {
+            return xs;
+        }
+
         @Override
         public double[] getQualityScores() {
             return qualityScores;
@@ -522,6 +789,12 @@ class PROSACRobustEstimatorTest {
             assertThrows(LockedException.class, () -> estimator.setMaxOutliersProportion(0.5));
             assertThrows(LockedException.class, () -> estimator.setEta0(0.5));
             assertThrows(LockedException.class, () -> estimator.setBeta(0.5));
+            assertThrows(LockedException.class, () -> estimator.setLazyInliersDataEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setFloatResidualsEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setInliersDataReuseEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setSchedule(null));
+            assertThrows(LockedException.class, () -> estimator.setSubsetSelector(null));
+            assertThrows(LockedException.class, estimator::releaseWorkspace);
         }
 
         public final void reset() {
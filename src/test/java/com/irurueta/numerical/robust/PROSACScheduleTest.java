@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.sorting.SortingException;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PROSACScheduleTest {
+
+    private static final int MIN_SAMPLES = 100;
+    private static final int MAX_SAMPLES = 500;
+
+    private static final int SUBSET_SIZE = 4;
+
+    private static final int ITERS = 5000;
+
+    @Test
+    void testConstructorWithQualityScores() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var qualityScores = new double[numSamples];
+        randomizer.fill(qualityScores, 0.0, 1.0);
+
+        final var schedule = new PROSACSchedule(qualityScores);
+
+        // check that indices are sorted in descending order of quality
+        assertEquals(numSamples, schedule.getTotalSamples());
+        final var sortedIndices = schedule.getSortedIndices();
+        assertEquals(numSamples, sortedIndices.length);
+        for (var i = 1; i < numSamples; i++) {
+            assertTrue(qualityScores[sortedIndices[i - 1]] >= qualityScores[sortedIndices[i]]);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new PROSACSchedule((double[]) null));
+        assertThrows(IllegalArgumentException.class, () -> new PROSACSchedule(new double[0]));
+    }
+
+    @Test
+    void testConstructorWithSortedIndices() {
+        final var sortedIndices = new int[]{2, 0, 3, 1};
+
+        final var schedule = new PROSACSchedule(sortedIndices);
+
+        // check
+        assertEquals(4, schedule.getTotalSamples());
+        assertSame(sortedIndices, schedule.getSortedIndices());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new PROSACSchedule((int[]) null));
+        assertThrows(IllegalArgumentException.class, () -> new PROSACSchedule(new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> new PROSACSchedule(new int[]{0, 1, 1}));
+        assertThrows(IllegalArgumentException.class, () -> new PROSACSchedule(new int[]{0, 3, 1}));
+        assertThrows(IllegalArgumentException.class, () -> new PROSACSchedule(new int[]{0, -1, 1}));
+    }
+
+    @Test
+    void testGetGrowth() {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var sortedIndices = new int[numSamples];
+        for (var i = 0; i < numSamples; i++) {
+            sortedIndices[i] = i;
+        }
+        final var schedule = new PROSACSchedule(sortedIndices);
+
+        final var growth = schedule.getGrowth(SUBSET_SIZE, ITERS);
+
+        // check that growth function matches its incremental evaluation
+        assertEquals(numSamples - SUBSET_SIZE + 1, growth.length);
+        double tn = ITERS;
+        for (var i = 0; i < SUBSET_SIZE; i++) {
+            tn *= (double) (SUBSET_SIZE - i) / (double) (numSamples - i);
+        }
+        var tnPrime = 1;
+        assertEquals(tnPrime, growth[0]);
+        for (var sampleSize = SUBSET_SIZE; sampleSize < numSamples; sampleSize++) {
+            final var tnPlus1 = (tn * (sampleSize + 1)) / (sampleSize + 1 - SUBSET_SIZE);
+            tnPrime += (int) Math.ceil(tnPlus1 - tn);
+            tn = tnPlus1;
+            assertEquals(tnPrime, growth[sampleSize + 1 - SUBSET_SIZE]);
+            assertTrue(growth[sampleSize + 1 - SUBSET_SIZE] >= growth[sampleSize - SUBSET_SIZE]);
+        }
+
+        // growth function is cached for the same parameters
+        assertSame(growth, schedule.getGrowth(SUBSET_SIZE, ITERS));
+        assertNotSame(growth, schedule.getGrowth(SUBSET_SIZE, ITERS / 2));
+        assertNotSame(growth, schedule.getGrowth(SUBSET_SIZE + 1, ITERS));
+
+        // subset size can be equal to the number of samples
+        assertEquals(1, schedule.getGrowth(numSamples, ITERS).length);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> schedule.getGrowth(0, ITERS));
+        assertThrows(IllegalArgumentException.class, () -> schedule.getGrowth(numSamples + 1, ITERS));
+    }
+}
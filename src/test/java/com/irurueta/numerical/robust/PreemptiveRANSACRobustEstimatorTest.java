@@ -0,0 +1,605 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.numerical.LockedException;
+import com.irurueta.numerical.NotReadyException;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreemptiveRANSACRobustEstimatorTest {
+
+    private static final int MIN_POINTS = 500;
+    private static final int MAX_POINTS = 1000;
+
+    private static final double THRESHOLD = 1e-3;
+
+    private static final double MIN_ERROR = 1e-5;
+    private static final double MAX_ERROR = 1.0;
+
+    private static final double MIN_RANDOM_VALUE = -10.0;
+    private static final double MAX_RANDOM_VALUE = 10.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-6;
+
+    private static final int PERCENTAGE_OUTLIER = 15;
+
+    private static final int NUM_PARAMS = 2;
+
+    private static final int TIMES = 100;
+
+    @Test
+    void testConstructor() {
+        // test empty constructor
+        var estimator = new PreemptiveRANSACRobustEstimator<double[]>();
+        assertNull(estimator.getListener());
+        assertFalse(estimator.isListenerAvailable());
+        assertFalse(estimator.isLocked());
+        assertEquals(RobustEstimator.DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(RobustEstimatorMethod.PREEMPTIVE_RANSAC, estimator.getMethod());
+        assertFalse(estimator.isReady());
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES, estimator.getNumHypotheses());
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE, estimator.getBlockSize());
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_TIME_BUDGET_NANOS, estimator.getTimeBudgetNanos());
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_EVALUATION_BUDGET, estimator.getEvaluationBudget());
+        assertEquals(0, estimator.getNumEvaluations());
+        assertNull(estimator.getBestResult());
+        assertNull(estimator.getInliersData());
+        assertNull(estimator.getBestInliersData());
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_INLIERS,
+                estimator.isComputeAndKeepInliersEnabled());
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_RESIDUALS,
+                estimator.isComputeAndKeepResidualsEnabled());
+
+        // test constructor with listener
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new TestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+        estimator = new PreemptiveRANSACRobustEstimator<>(listener);
+        assertEquals(estimator.getListener(), listener);
+        assertTrue(estimator.isListenerAvailable());
+        assertFalse(estimator.isLocked());
+        assertEquals(RobustEstimator.DEFAULT_PROGRESS_DELTA, estimator.getProgressDelta(), 0.0);
+        assertEquals(RobustEstimatorMethod.PREEMPTIVE_RANSAC, estimator.getMethod());
+        assertEquals(estimator.isReady(), listener.isReady());
+        assertTrue(estimator.isReady());
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES, estimator.getNumHypotheses());
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE, estimator.getBlockSize());
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_TIME_BUDGET_NANOS, estimator.getTimeBudgetNanos());
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_EVALUATION_BUDGET, estimator.getEvaluationBudget());
+        assertEquals(0, estimator.getNumEvaluations());
+        assertNull(estimator.getBestResult());
+        assertNull(estimator.getInliersData());
+        assertNull(estimator.getBestInliersData());
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_INLIERS,
+                estimator.isComputeAndKeepInliersEnabled());
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_RESIDUALS,
+                estimator.isComputeAndKeepResidualsEnabled());
+    }
+
+    @Test
+    void testGetSetListenerAvailabilityAndIsReady() throws LockedException {
+        final var estimator = new PreemptiveRANSACRobustEstimator<double[]>();
+        assertNull(estimator.getListener());
+        assertFalse(estimator.isListenerAvailable());
+        assertFalse(estimator.isReady());
+
+        // set listener
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new TestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+
+        estimator.setListener(listener);
+
+        // check correctness
+        assertEquals(listener, estimator.getListener());
+        assertTrue(estimator.isListenerAvailable());
+        assertTrue(estimator.isReady());
+    }
+
+    @Test
+    void testGetSetNumHypotheses() throws LockedException {
+        final var estimator = new PreemptiveRANSACRobustEstimator<double[]>();
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES, estimator.getNumHypotheses());
+
+        // set new value
+        estimator.setNumHypotheses(100);
+
+        // check correctness
+        assertEquals(100, estimator.getNumHypotheses());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setNumHypotheses(0));
+    }
+
+    @Test
+    void testGetSetBlockSize() throws LockedException {
+        final var estimator = new PreemptiveRANSACRobustEstimator<double[]>();
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE, estimator.getBlockSize());
+
+        // set new value
+        estimator.setBlockSize(50);
+
+        // check correctness
+        assertEquals(50, estimator.getBlockSize());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setBlockSize(0));
+    }
+
+    @Test
+    void testGetSetTimeBudgetNanos() throws LockedException {
+        final var estimator = new PreemptiveRANSACRobustEstimator<double[]>();
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_TIME_BUDGET_NANOS, estimator.getTimeBudgetNanos());
+
+        // set new value
+        estimator.setTimeBudgetNanos(1000000L);
+
+        // check correctness
+        assertEquals(1000000L, estimator.getTimeBudgetNanos());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setTimeBudgetNanos(-1L));
+    }
+
+    @Test
+    void testGetSetEvaluationBudget() throws LockedException {
+        final var estimator = new PreemptiveRANSACRobustEstimator<double[]>();
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_EVALUATION_BUDGET, estimator.getEvaluationBudget());
+
+        // set new value
+        estimator.setEvaluationBudget(10000L);
+
+        // check correctness
+        assertEquals(10000L, estimator.getEvaluationBudget());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setEvaluationBudget(-1L));
+    }
+
+    @Test
+    void testGetSetSubsetSelector() throws LockedException {
+        final var estimator = new PreemptiveRANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertNull(estimator.getSubsetSelector());
+
+        // set new value
+        final var selector = new FastRandomSubsetSelector(MIN_POINTS);
+        estimator.setSubsetSelector(selector);
+
+        // check correctness
+        assertSame(selector, estimator.getSubsetSelector());
+    }
+
+    @Test
+    void testIsSetComputeAndKeepInliersEnabled() throws LockedException {
+        final var estimator = new PreemptiveRANSACRobustEstimator<double[]>();
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_INLIERS,
+                estimator.isComputeAndKeepInliersEnabled());
+
+        // set new value
+        estimator.setComputeAndKeepInliersEnabled(!PreemptiveRANSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_INLIERS);
+
+        // check correctness
+        assertEquals(!PreemptiveRANSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_INLIERS,
+                estimator.isComputeAndKeepInliersEnabled());
+    }
+
+    @Test
+    void testIsSetComputeAndKeepResidualsEnabled() throws LockedException {
+        final var estimator = new PreemptiveRANSACRobustEstimator<double[]>();
+        assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_RESIDUALS,
+                estimator.isComputeAndKeepResidualsEnabled());
+
+        // set new value
+        estimator.setComputeAndKeepResidualsEnabled(
+                !PreemptiveRANSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_RESIDUALS);
+
+        // check correctness
+        assertEquals(!PreemptiveRANSACRobustEstimator.DEFAULT_COMPUTE_AND_KEEP_RESIDUALS,
+                estimator.isComputeAndKeepResidualsEnabled());
+    }
+
+    @Test
+    void testEstimate() throws LockedException, NotReadyException, RobustEstimatorException {
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+            final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+            final var listener = new TestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+            final var estimator = new PreemptiveRANSACRobustEstimator<double[]>();
+
+            // Force NotReadyException
+            assertThrows(NotReadyException.class, estimator::estimate);
+
+            // set listener
+            estimator.setListener(listener);
+            listener.reset();
+            assertEquals(0, listener.getStartCounter());
+            assertEquals(0, listener.getEndCounter());
+            assertFalse(estimator.isLocked());
+
+            // estimate
+            final var params = estimator.estimate();
+
+            // check status after estimation
+            assertFalse(estimator.isLocked());
+            assertEquals(1, listener.getStartCounter());
+            assertEquals(1, listener.getEndCounter());
+            assertSame(params, estimator.getBestResult());
+            assertNull(estimator.getBestInliersData());
+            assertNull(estimator.getInliersData());
+
+            // with 500 hypotheses and blocks of 100 samples, at most
+            // 500 * 100 + 250 * 100 + ... residuals are evaluated
+            assertTrue(estimator.getNumEvaluations() > 0);
+            assertTrue(estimator.getNumEvaluations() < 2L * PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES
+                    * PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE);
+
+            // check correctness of estimation
+            assertEquals(NUM_PARAMS, params.length);
+
+            var failed = false;
+            for (var i = 0; i < params.length; i++) {
+                if (Math.abs(params[i] - listener.getParams()[i]) > ABSOLUTE_ERROR) {
+                    failed = true;
+                    break;
+                }
+            }
+            if (failed) {
+                continue;
+            }
+            assertArrayEquals(params, listener.getParams(), ABSOLUTE_ERROR);
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testEstimateWithInliersData() throws LockedException, NotReadyException, RobustEstimatorException {
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+            final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+            final var listener = new TestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+            final var estimator = new PreemptiveRANSACRobustEstimator<>(listener);
+
+            estimator.setComputeAndKeepInliersEnabled(true);
+            estimator.setComputeAndKeepResidualsEnabled(true);
+
+            // estimate
+            final var params = estimator.estimate();
+
+            // check that inliers data matches best result
+            final var inliersData = estimator.getBestInliersData();
+            assertNotNull(inliersData);
+            assertSame(inliersData, estimator.getInliersData());
+            final var inliers = inliersData.getInliers();
+            final var residuals = inliersData.getResiduals();
+            var numInliers = 0;
+            for (var i = 0; i < numSamples; i++) {
+                final var residual = listener.computeResidual(params, i);
+                assertEquals(residual, residuals[i], 0.0);
+                assertEquals(residual <= THRESHOLD, inliers.get(i));
+                if (residual <= THRESHOLD) {
+                    numInliers++;
+                }
+            }
+            assertEquals(numInliers, inliersData.getNumInliers());
+
+            var failed = false;
+            for (var i = 0; i < params.length; i++) {
+                if (Math.abs(params[i] - listener.getParams()[i]) > ABSOLUTE_ERROR) {
+                    failed = true;
+                    break;
+                }
+            }
+            if (failed) {
+                continue;
+            }
+            assertArrayEquals(params, listener.getParams(), ABSOLUTE_ERROR);
+            assertTrue(inliersData.getNumInliers() > 0);
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testEstimateWithEvaluationBudget() throws LockedException, NotReadyException, RobustEstimatorException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new TestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+        final var estimator = new PreemptiveRANSACRobustEstimator<>(listener);
+
+        // only first block of samples can be scored for all hypotheses
+        final var budget = (long) PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES
+                * PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE;
+        estimator.setEvaluationBudget(budget);
+
+        final var params = estimator.estimate();
+
+        assertNotNull(params);
+        assertEquals(budget, estimator.getNumEvaluations());
+    }
+
+    @Test
+    void testEstimateOnlyShufflesScoredSamples() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new TestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+        final var estimator = new PreemptiveRANSACRobustEstimator<>(listener);
+
+        final var numPicked = new int[1];
+        final var selector = new FastRandomSubsetSelector(numSamples) {
+            @Override
+            public void computeRandomSubsetsInRange(
+                    final int minPos, final int maxPos, final int subsetSize, final boolean pickLast,
+                    final int[] result) throws NotEnoughSamplesException, InvalidSubsetSizeException,
+                    InvalidSubsetRangeException {
+                numPicked[0]++;
+                super.computeRandomSubsetsInRange(minPos, maxPos, subsetSize, pickLast, result);
+            }
+        };
+        estimator.setSubsetSelector(selector);
+
+        // only first block of samples can be scored for all hypotheses
+        estimator.setEvaluationBudget((long) PreemptiveRANSACRobustEstimator.DEFAULT_NUM_HYPOTHESES
+                * PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE);
+
+        // positions are only picked for samples that are scored, on each
+        // estimation
+        for (var t = 0; t < 2; t++) {
+            numPicked[0] = 0;
+
+            assertNotNull(estimator.estimate());
+            assertEquals(PreemptiveRANSACRobustEstimator.DEFAULT_BLOCK_SIZE, numPicked[0]);
+        }
+    }
+
+    @Test
+    void testEstimateWithTimeBudget()throws LockedException, NotReadyException, RobustEstimatorException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new TestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+        final var estimator = new PreemptiveRANSACRobustEstimator<>(listener);
+
+        // smallest possible budget still provides a result after drawing one
+        // subset, which is returned without scoring any sample
+        estimator.setTimeBudgetNanos(1L);
+
+        final var params = estimator.estimate();
+
+        assertNotNull(params);
+        assertEquals(1, listener.getNumSubsets());
+        assertEquals(0, estimator.getNumEvaluations());
+    }
+
+    @Test
+    void testEstimateIsReproducibleWithSeededSubsetSelector() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var seed = randomizer.nextLong();
+        final var scoredSamples = new ArrayList<Integer>();
+        final TestRANSACRobustEstimatorListener listener = new TestRANSACRobustEstimatorListener(numSamples,
+                PERCENTAGE_OUTLIER, THRESHOLD) {
+            @Override
+            public double computeResidual(final double[] currentEstimation, final int i) {
+                scoredSamples.add(i);
+                return super.computeResidual(currentEstimation, i);
+            }
+        };
+        final var estimator = new PreemptiveRANSACRobustEstimator<>(listener);
+
+        final var selector1 = new FastRandomSubsetSelector(numSamples);
+        selector1.getRandomizer().setSeed(seed);
+        estimator.setSubsetSelector(selector1);
+        final var params1 = estimator.estimate();
+        final var scoredSamples1 = new ArrayList<>(scoredSamples);
+
+        // the same seed draws the same subsets and scores samples in the same
+        // order
+        scoredSamples.clear();
+        listener.reset();
+        final var selector2 = new FastRandomSubsetSelector(numSamples);
+        selector2.getRandomizer().setSeed(seed);
+        estimator.setSubsetSelector(selector2);
+        final var params2 = estimator.estimate();
+
+        assertArrayEquals(params1, params2, 0.0);
+        assertEquals(scoredSamples1, scoredSamples);
+    }
+
+    private static double[] computeParams() {
+        // we will estimate parameters a and b for equation y = a*x + b
+        final var randomizer = new UniformRandomizer();
+        final var params = new double[NUM_PARAMS];
+        // a parameter
+        params[0] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        // b parameter
+        params[1] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        return params;
+    }
+
+    private static void computeSamples(final double[] params, final int numSamples, final int percentageOutliers,
+                                       final double[] ys, final double[] xs) {
+
+        final var randomizer = new UniformRandomizer();
+        for (var i = 0; i < numSamples; i++) {
+            // compute x values
+            xs[i] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            // compute exact y values
+            ys[i] = params[0] * xs[i] + params[1];
+            if (randomizer.nextInt(0, 100) < percentageOutliers) {
+                // is outlier, so we add a certain amount of error
+                final var error = randomizer.nextDouble(MIN_ERROR, MAX_ERROR);
+                ys[i] += error;
+            }
+        }
+    }
+
+    private static class TestRANSACRobustEstimatorListener implements RANSACRobustEstimatorListener<double[]> {
+
+        private final double[] params;
+        private final double[] xs;
+        private final double[] ys;
+        private final int numSamples;
+        private final double threshold;
+
+        private int startCounter;
+        private int endCounter;
+        private int numSubsets;
+        private float previousProgress;
+
+        TestRANSACRobustEstimatorListener(final int numSamples, final int percentageOutliers, final double threshold) {
+            this.numSamples = numSamples;
+            params = computeParams();
+            xs = new double[numSamples];
+            ys = new double[numSamples];
+            computeSamples(params, numSamples, percentageOutliers, ys, xs);
+            this.threshold = threshold;
+            reset();
+        }
+
+        public double[] getParams() {
+            return params;
+        }
+
+        @Override
+        public int getTotalSamples() {
+            return numSamples;
+        }
+
+        @Override
+        public int getSubsetSize() {
+            return NUM_PARAMS;
+        }
+
+        @Override
+        public double getThreshold() {
+            return threshold;
+        }
+
+        @Override
+        public void estimatePreliminarSolutions(final int[] samplesIndices, final List<double[]> solutions) {
+            numSubsets++;
+
+            final var index1 = samplesIndices[0];
+            final var index2 = samplesIndices[1];
+
+            final var y1 = ys[index1];
+            final var y2 = ys[index2];
+            final var x1 = xs[index1];
+            final var x2 = xs[index2];
+
+            final var a = (y2 - y1) / (x2 - x1);
+            final var b = y1 - a * x1;
+
+            final var solution = new double[NUM_PARAMS];
+            solution[0] = a;
+            solution[1] = b;
+
+            solutions.add(solution);
+        }
+
+        @Override
+        public double computeResidual(final double[] currentEstimation, final int i) {
+            final var a = currentEstimation[0];
+            final var b = currentEstimation[1];
+
+            final var estimatedY = a * xs[i] + b;
+            final var y = ys[i];
+
+            return Math.abs(estimatedY - y);
+        }
+
+        @Override
+        public boolean isReady() {
+            return params != null && xs != null && ys != null;
+        }
+
+        @Override
+        public void onEstimateStart(final RobustEstimator<double[]> estimator) {
+            testIsLocked((PreemptiveRANSACRobustEstimator<double[]>) estimator);
+            startCounter++;
+        }
+
+        @Override
+        public void onEstimateEnd(final RobustEstimator<double[]> estimator) {
+            testIsLocked((PreemptiveRANSACRobustEstimator<double[]>) estimator);
+            endCounter++;
+        }
+
+        @Override
+        public void onEstimateNextIteration(final RobustEstimator<double[]> estimator, final int iteration) {
+            testIsLocked((PreemptiveRANSACRobustEstimator<double[]>) estimator);
+            assertTrue(iteration > 0);
+        }
+
+        @Override
+        public void onEstimateProgressChange(final RobustEstimator<double[]> estimator, final float progress) {
+            testIsLocked((PreemptiveRANSACRobustEstimator<double[]>) estimator);
+            assertTrue(progress >= 0.0f);
+            assertTrue(progress <= 1.0f);
+            assertTrue(progress >= previousProgress);
+            previousProgress = progress;
+        }
+
+        int getStartCounter() {
+            return startCounter;
+        }
+
+        int getEndCounter() {
+            return endCounter;
+        }
+
+        int getNumSubsets() {
+            return numSubsets;
+        }
+
+        private void testIsLocked(final PreemptiveRANSACRobustEstimator<double[]> estimator) {
+            assertTrue(estimator.isLocked());
+            // test that estimator cannot be modified while locked
+            assertThrows(LockedException.class, () -> estimator.setListener(this));
+            assertThrows(LockedException.class, () -> estimator.setProgressDelta(0.5f));
+            assertThrows(LockedException.class, () -> estimator.setNumHypotheses(1));
+            assertThrows(LockedException.class, () -> estimator.setBlockSize(1));
+            assertThrows(LockedException.class, () -> estimator.setTimeBudgetNanos(1L));
+            assertThrows(LockedException.class, () -> estimator.setEvaluationBudget(1L));
+            assertThrows(LockedException.class, () -> estimator.setComputeAndKeepInliersEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setComputeAndKeepResidualsEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setSubsetSelector(null));
+        }
+
+        private void reset() {
+            startCounter = endCounter = numSubsets = 0;
+            previousProgress = 0.0f;
+        }
+    }
+}
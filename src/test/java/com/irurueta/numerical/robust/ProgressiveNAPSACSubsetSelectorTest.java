@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProgressiveNAPSACSubsetSelectorTest {
+
+    private static final int MIN_SAMPLES = 100;
+    private static final int MAX_SAMPLES = 500;
+
+    private static final int MIN_SUBSET_SIZE = 5;
+    private static final int MAX_SUBSET_SIZE = 10;
+
+    private static final int NUM_NEIGHBOURS = 15;
+
+    private static final double MIN_RANDOM_VALUE = -10.0;
+    private static final double MAX_RANDOM_VALUE = 10.0;
+
+    private static final int TIMES = 100;
+
+    @Test
+    void testConstructor() {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var neighbourhood = createNeighbourhood(randomizer, numSamples);
+
+        var selector = new ProgressiveNAPSACSubsetSelector(neighbourhood);
+        assertNotNull(selector.getRandomizer());
+        assertSame(neighbourhood, selector.getNeighbourhood());
+        assertEquals(SubsetSelectorType.PROGRESSIVE_NAPSAC_SUBSET_SELECTOR, selector.getType());
+        assertEquals(numSamples, selector.getNumSamples());
+        assertEquals(ProgressiveNAPSACSubsetSelector.DEFAULT_GROWTH_ITERATIONS, selector.getGrowthIterations());
+
+        selector = new ProgressiveNAPSACSubsetSelector(neighbourhood, true);
+        assertNotNull(selector.getRandomizer());
+        assertSame(neighbourhood, selector.getNeighbourhood());
+        assertEquals(SubsetSelectorType.PROGRESSIVE_NAPSAC_SUBSET_SELECTOR, selector.getType());
+        assertEquals(numSamples, selector.getNumSamples());
+        assertEquals(ProgressiveNAPSACSubsetSelector.DEFAULT_GROWTH_ITERATIONS, selector.getGrowthIterations());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new ProgressiveNAPSACSubsetSelector(null));
+    }
+
+    @Test
+    void testGetSetGrowthIterations() {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var selector = new ProgressiveNAPSACSubsetSelector(createNeighbourhood(randomizer, numSamples));
+
+        // check default value
+        assertEquals(ProgressiveNAPSACSubsetSelector.DEFAULT_GROWTH_ITERATIONS, selector.getGrowthIterations());
+
+        // set new value
+        selector.setGrowthIterations(5);
+
+        // check correctness
+        assertEquals(5, selector.getGrowthIterations());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> selector.setGrowthIterations(0));
+    }
+
+    @Test
+    void testComputeRandomSubsets() throws NotEnoughSamplesException, InvalidSubsetSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var subsetSize = randomizer.nextInt(MIN_SUBSET_SIZE, MAX_SUBSET_SIZE);
+        final var neighbourhood = createNeighbourhood(randomizer, numSamples);
+
+        final var selector = new ProgressiveNAPSACSubsetSelector(neighbourhood);
+        final var hits = new int[numSamples];
+        for (var t = 0; t < TIMES * numSamples / 10; t++) {
+            final var result = selector.computeRandomSubsets(subsetSize);
+            assertEquals(subsetSize, result.length);
+
+            final var picked = new HashSet<Integer>();
+            for (final var index : result) {
+                assertTrue(index >= 0 && index < numSamples);
+                assertTrue(picked.add(index));
+            }
+
+            final var center = result[0];
+            final var neighbours = neighbourhood.getNeighbours(center);
+            hits[center]++;
+            if (hits[center] == 1) {
+                // first time a sample is picked, its closest neighbours are used
+                for (var i = 1; i < subsetSize; i++) {
+                    assertTrue(indexOf(neighbours, result[i]) < subsetSize - 1);
+                }
+            } else if (hits[center] <= selector.getGrowthIterations()) {
+                // neighbourhood grows but all samples remain neighbours
+                for (var i = 1; i < subsetSize; i++) {
+                    assertTrue(indexOf(neighbours, result[i]) >= 0);
+                }
+            }
+        }
+
+        // reset counters
+        selector.reset();
+        final var result = selector.computeRandomSubsets(subsetSize);
+        final var neighbours = neighbourhood.getNeighbours(result[0]);
+        for (var i = 1; i < subsetSize; i++) {
+            assertTrue(indexOf(neighbours, result[i]) < subsetSize - 1);
+        }
+
+        // Force InvalidSubsetSizeException
+        assertThrows(InvalidSubsetSizeException.class, () -> selector.computeRandomSubsets(0));
+
+        // Force NotEnoughSamplesException
+        assertThrows(NotEnoughSamplesException.class, () -> selector.computeRandomSubsets(numSamples + 1));
+    }
+
+    @Test
+    void testComputeRandomSubsetsOfOneSample() throws NotEnoughSamplesException, InvalidSubsetSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var selector = new ProgressiveNAPSACSubsetSelector(createNeighbourhood(randomizer, numSamples));
+
+        final var result = selector.computeRandomSubsets(1);
+        assertEquals(1, result.length);
+        assertTrue(result[0] >= 0 && result[0] < numSamples);
+    }
+
+    private static SampleNeighbourhood createNeighbourhood(final UniformRandomizer randomizer,
+                                                          final int numSamples) {
+        final var points = new double[numSamples][2];
+        for (final var point : points) {
+            randomizer.fill(point, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        }
+        return new KNearestSampleNeighbourhood(points, NUM_NEIGHBOURS);
+    }
+
+    private static int indexOf(final int[] values, final int value) {
+        for (var i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
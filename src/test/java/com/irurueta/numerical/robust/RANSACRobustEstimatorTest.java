@@ -20,7 +20,9 @@ import com.irurueta.numerical.NotReadyException;
 import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -149,6 +151,21 @@ class RANSACRobustEstimatorTest {
         assertThrows(IllegalArgumentException.class, () -> estimator.setConfidence(2.0));
     }
 
+    @Test
+    void testGetSetSubsetSelector() throws LockedException {
+        final var estimator = new RANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertNull(estimator.getSubsetSelector());
+
+        // set new value
+        final var selector = new FastRandomSubsetSelector(MIN_POINTS);
+        estimator.setSubsetSelector(selector);
+
+        // check correctness
+        assertSame(selector, estimator.getSubsetSelector());
+    }
+
     @Test
     void testGetSetMaxIterations() throws IllegalArgumentException, LockedException {
         final var estimator = new RANSACRobustEstimator<double[]>();
@@ -194,6 +211,203 @@ class RANSACRobustEstimatorTest {
         assertTrue(estimator.isComputeAndKeepResidualsEnabled());
     }
 
+    @Test
+    void testGetSetParallelism() throws LockedException {
+        final var estimator = new RANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(RANSACRobustEstimator.DEFAULT_PARALLELISM, estimator.getParallelism());
+
+        // set new value
+        estimator.setParallelism(4);
+
+        // check correctness
+        assertEquals(4, estimator.getParallelism());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setParallelism(0));
+    }
+
+    @Test
+    void testGetSetExecutor() throws LockedException {
+        final var estimator = new RANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertNull(estimator.getExecutor());
+
+        // set new value
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            estimator.setExecutor(executor);
+
+            // check correctness
+            assertSame(executor, estimator.getExecutor());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testIsSetSprtEnabled() throws LockedException {
+        final var estimator = new RANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(RANSACRobustEstimator.DEFAULT_SPRT_ENABLED, estimator.isSprtEnabled());
+
+        // set new value
+        estimator.setSprtEnabled(true);
+
+        // check correctness
+        assertTrue(estimator.isSprtEnabled());
+    }
+
+    @Test
+    void testGetSetSprtEpsilon() throws LockedException {
+        final var estimator = new RANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(RANSACRobustEstimator.DEFAULT_SPRT_EPSILON, estimator.getSprtEpsilon(), 0.0);
+
+        // set new value
+        estimator.setSprtEpsilon(0.5);
+
+        // check correctness
+        assertEquals(0.5, estimator.getSprtEpsilon(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSprtEpsilon(0.0));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSprtEpsilon(1.0));
+    }
+
+    @Test
+    void testGetSetSprtDelta() throws LockedException {
+        final var estimator = new RANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(RANSACRobustEstimator.DEFAULT_SPRT_DELTA, estimator.getSprtDelta(), 0.0);
+
+        // set new value
+        estimator.setSprtDelta(0.05);
+
+        // check correctness
+        assertEquals(0.05, estimator.getSprtDelta(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSprtDelta(0.0));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSprtDelta(1.0));
+    }
+
+    @Test
+    void testGetSetSprtTimeRatio() throws LockedException {
+        final var estimator = new RANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(RANSACRobustEstimator.DEFAULT_SPRT_TIME_RATIO, estimator.getSprtTimeRatio(), 0.0);
+
+        // set new value
+        estimator.setSprtTimeRatio(50.0);
+
+        // check correctness
+        assertEquals(50.0, estimator.getSprtTimeRatio(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSprtTimeRatio(0.0));
+    }
+
+    @Test
+    void testIsSetLocalOptimizationEnabled() throws LockedException {
+        final var estimator = new RANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(RANSACRobustEstimator.DEFAULT_LOCAL_OPTIMIZATION_ENABLED,
+                estimator.isLocalOptimizationEnabled());
+
+        // set new value
+        estimator.setLocalOptimizationEnabled(!RANSACRobustEstimator.DEFAULT_LOCAL_OPTIMIZATION_ENABLED);
+
+        // check correctness
+        assertEquals(!RANSACRobustEstimator.DEFAULT_LOCAL_OPTIMIZATION_ENABLED,
+                estimator.isLocalOptimizationEnabled());
+    }
+
+    @Test
+    void testGetSetLocalOptimizationIterations() throws LockedException {
+        final var estimator = new RANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(RANSACRobustEstimator.DEFAULT_LOCAL_OPTIMIZATION_ITERATIONS,
+                estimator.getLocalOptimizationIterations());
+
+        // set new value
+        estimator.setLocalOptimizationIterations(10);
+
+        // check correctness
+        assertEquals(10, estimator.getLocalOptimizationIterations());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setLocalOptimizationIterations(0));
+    }
+
+    @Test
+    void testGetSetLocalOptimizationThresholdFactor() throws LockedException {
+        final var estimator = new RANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(RANSACRobustEstimator.DEFAULT_LOCAL_OPTIMIZATION_THRESHOLD_FACTOR,
+                estimator.getLocalOptimizationThresholdFactor(), 0.0);
+
+        // set new value
+        estimator.setLocalOptimizationThresholdFactor(2.0);
+
+        // check correctness
+        assertEquals(2.0, estimator.getLocalOptimizationThresholdFactor(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setLocalOptimizationThresholdFactor(0.5));
+    }
+
+    @Test
+    void testIsSetLazyInliersDataEnabled() throws LockedException {
+        final var estimator = new RANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(RANSACRobustEstimator.DEFAULT_LAZY_INLIERS_DATA_ENABLED, estimator.isLazyInliersDataEnabled());
+
+        // set new value
+        estimator.setLazyInliersDataEnabled(!RANSACRobustEstimator.DEFAULT_LAZY_INLIERS_DATA_ENABLED);
+
+        // check correctness
+        assertEquals(!RANSACRobustEstimator.DEFAULT_LAZY_INLIERS_DATA_ENABLED, estimator.isLazyInliersDataEnabled());
+    }
+
+    @Test
+    void testIsSetFloatResidualsEnabled() throws LockedException {
+        final var estimator = new RANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(RANSACRobustEstimator.DEFAULT_FLOAT_RESIDUALS_ENABLED, estimator.isFloatResidualsEnabled());
+
+        // set new value
+        estimator.setFloatResidualsEnabled(!RANSACRobustEstimator.DEFAULT_FLOAT_RESIDUALS_ENABLED);
+
+        // check correctness
+        assertEquals(!RANSACRobustEstimator.DEFAULT_FLOAT_RESIDUALS_ENABLED, estimator.isFloatResidualsEnabled());
+    }
+
+    @Test
+    void testIsSetInliersDataReuseEnabled() throws LockedException {
+        final var estimator = new RANSACRobustEstimator<double[]>();
+
+        // check default value
+        assertEquals(RANSACRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED, estimator.isInliersDataReuseEnabled());
+
+        // set new value
+        estimator.setInliersDataReuseEnabled(!RANSACRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED);
+
+        // check correctness
+        assertEquals(!RANSACRobustEstimator.DEFAULT_INLIERS_DATA_REUSE_ENABLED, estimator.isInliersDataReuseEnabled());
+    }
+
     @Test
     void testEstimate() throws LockedException, NotReadyException, RobustEstimatorException {
         var numValid = 0;
@@ -311,6 +525,459 @@ class RANSACRobustEstimatorTest {
         assertTrue(numValid > 0);
     }
 
+    @Test
+    void testComputeResidualsDefault() {
+        final var listener = new TestRANSACRobustEstimatorListener(MIN_POINTS, PERCENTAGE_OUTLIER, THRESHOLD);
+        final var params = listener.getParams();
+
+        final var residuals = new double[MIN_POINTS];
+        listener.computeResiduals(params, 1, MIN_POINTS, residuals);
+
+        assertEquals(0.0, residuals[0], 0.0);
+        for (var i = 1; i < MIN_POINTS; i++) {
+            assertEquals(listener.computeResidual(params, i), residuals[i], 0.0);
+        }
+    }
+
+    @Test
+    void testEstimateWithBatchResiduals() throws LockedException, NotReadyException, RobustEstimatorException {
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+            final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+            final var listener = new BatchTestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER,
+                    THRESHOLD);
+            final var estimator = new RANSACRobustEstimator<>(listener);
+
+            estimator.setComputeAndKeepInliersEnabled(true);
+            estimator.setComputeAndKeepResidualsEnabled(true);
+
+            // estimate
+            final var params = estimator.estimate();
+
+            // check that residuals have been computed in batches
+            assertTrue(listener.getBatchCounter() > 0);
+            assertEquals(0, listener.getSingleCounter());
+
+            // check that inliers data matches best result
+            final var inliersData = estimator.getBestInliersData();
+            final var inliers = inliersData.getInliers();
+            final var residuals = inliersData.getResiduals();
+            var numInliers = 0;
+            for (var i = 0; i < numSamples; i++) {
+                final var residual = listener.computeResidual(params, i);
+                assertEquals(residual, residuals[i], 0.0);
+                assertEquals(residual <= THRESHOLD, inliers.get(i));
+                if (residual <= THRESHOLD) {
+                    numInliers++;
+                }
+            }
+            assertEquals(numInliers, inliersData.getNumInliers());
+
+            var failed = false;
+            for (var i = 0; i < params.length; i++) {
+                if (Math.abs(params[i] - listener.getParams()[i]) > ABSOLUTE_ERROR) {
+                    failed = true;
+                    break;
+                }
+            }
+            if (failed) {
+                continue;
+            }
+            assertArrayEquals(params, listener.getParams(), ABSOLUTE_ERROR);
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testEstimateWithLazyInliersData() throws LockedException, NotReadyException, RobustEstimatorException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new TestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+        final var estimator = new RANSACRobustEstimator<>(listener);
+
+        estimator.setComputeAndKeepInliersEnabled(true);
+        estimator.setComputeAndKeepResidualsEnabled(true);
+        estimator.setLazyInliersDataEnabled(true);
+
+        // estimate
+        final var params = estimator.estimate();
+
+        // check that inliers data is lazily computed for best result
+        final var inliersData = estimator.getBestInliersData();
+        assertNotNull(inliersData);
+        final var numInliers = inliersData.getNumInliers();
+        assertTrue(numInliers > 0);
+
+        final var inliers = inliersData.getInliers();
+        final var residuals = inliersData.getResiduals();
+        assertNotNull(inliers);
+        assertNotNull(residuals);
+        assertNull(inliersData.getFloatResiduals());
+        assertEquals(numInliers, inliers.cardinality());
+        for (var i = 0; i < numSamples; i++) {
+            final var residual = listener.computeResidual(params, i);
+            assertEquals(residual, residuals[i], 0.0);
+            assertEquals(residual <= THRESHOLD, inliers.get(i));
+        }
+
+        // check that data is computed only once
+        assertSame(inliers, inliersData.getInliers());
+        assertSame(residuals, inliersData.getResiduals());
+    }
+
+    @Test
+    void testEstimateWithFloatResiduals() throws LockedException, NotReadyException, RobustEstimatorException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new TestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+        final var estimator = new RANSACRobustEstimator<>(listener);
+
+        estimator.setComputeAndKeepInliersEnabled(true);
+        estimator.setComputeAndKeepResidualsEnabled(true);
+        estimator.setFloatResidualsEnabled(true);
+
+        // estimate
+        final var params = estimator.estimate();
+
+        // check that residuals are kept with float precision
+        final var inliersData = estimator.getBestInliersData();
+        assertNotNull(inliersData);
+        final var floatResiduals = inliersData.getFloatResiduals();
+        assertNotNull(floatResiduals);
+        assertEquals(numSamples, floatResiduals.length);
+
+        final var inliers = inliersData.getInliers();
+        var numInliers = 0;
+        for (var i = 0; i < numSamples; i++) {
+            final var residual = listener.computeResidual(params, i);
+            assertEquals((float) residual, floatResiduals[i], 0.0f);
+            assertEquals(residual <= THRESHOLD, inliers.get(i));
+            if (residual <= THRESHOLD) {
+                numInliers++;
+            }
+        }
+        assertEquals(numInliers, inliersData.getNumInliers());
+
+        // double precision residuals are expanded from float ones
+        final var residuals = inliersData.getResiduals();
+        assertNotNull(residuals);
+        for (var i = 0; i < numSamples; i++) {
+            assertEquals(floatResiduals[i], residuals[i], 0.0);
+        }
+
+        // lazy and float modes can be combined
+        estimator.setLazyInliersDataEnabled(true);
+        listener.reset();
+        final var params2 = estimator.estimate();
+        final var inliersData2 = estimator.getBestInliersData();
+        assertNotSame(inliersData, inliersData2);
+        final var floatResiduals2 = inliersData2.getFloatResiduals();
+        assertNotNull(floatResiduals2);
+        for (var i = 0; i < numSamples; i++) {
+            assertEquals((float) listener.computeResidual(params2, i), floatResiduals2[i], 0.0f);
+        }
+    }
+
+    @Test
+    void testRefineDefault() {
+        final var listener = new TestRANSACRobustEstimatorListener(MIN_POINTS, PERCENTAGE_OUTLIER, THRESHOLD);
+        assertNull(listener.refine(listener.getParams(), new BitSet()));
+    }
+
+    @Test
+    void testEstimateWithLocalOptimization() throws LockedException, NotReadyException, RobustEstimatorException {
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+            final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+            final var listener = new RefineTestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER,
+                    THRESHOLD);
+            final var estimator = new RANSACRobustEstimator<>(listener);
+
+            estimator.setLocalOptimizationEnabled(true);
+            estimator.setComputeAndKeepInliersEnabled(true);
+            estimator.setComputeAndKeepResidualsEnabled(true);
+
+            // estimate
+            final var params = estimator.estimate();
+
+            // check that best solutions have been refined
+            assertTrue(listener.getRefineCounter() > 0);
+            assertTrue(listener.getRefineCounter()
+                    <= estimator.getNIters() * estimator.getLocalOptimizationIterations());
+
+            // check that inliers data matches best result
+            final var inliersData = estimator.getBestInliersData();
+            final var inliers = inliersData.getInliers();
+            final var residuals = inliersData.getResiduals();
+            var numInliers = 0;
+            for (var i = 0; i < numSamples; i++) {
+                final var residual = listener.computeResidual(params, i);
+                assertEquals(residual, residuals[i], 0.0);
+                assertEquals(residual <= THRESHOLD, inliers.get(i));
+                if (residual <= THRESHOLD) {
+                    numInliers++;
+                }
+            }
+            assertEquals(numInliers, inliersData.getNumInliers());
+
+            var failed = false;
+            for (var i = 0; i < params.length; i++) {
+                if (Math.abs(params[i] - listener.getParams()[i]) > ABSOLUTE_ERROR) {
+                    failed = true;
+                    break;
+                }
+            }
+            if (failed) {
+                continue;
+            }
+            assertArrayEquals(params, listener.getParams(), ABSOLUTE_ERROR);
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testEstimateWithLocalOptimizationReusesResiduals() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new RefineTestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER,
+                THRESHOLD);
+        final var estimator = new RANSACRobustEstimator<>(listener);
+
+        estimator.setLocalOptimizationEnabled(true);
+        estimator.setComputeAndKeepInliersEnabled(true);
+        estimator.setComputeAndKeepResidualsEnabled(true);
+
+        estimator.estimate();
+
+        // residuals are computed once for each preliminary solution and once
+        // for each refined solution
+        assertTrue(listener.getRefineCounter() > 0);
+        assertEquals(listener.getSolutionsCounter() + listener.getRefineCounter(),
+                listener.getResidualsCounter());
+    }
+
+    @Test
+    void testEstimateWithLocalOptimizationAndSprt() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+        final var listener = new RefineTestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER,
+                THRESHOLD);
+        final var estimator = new RANSACRobustEstimator<>(listener);
+
+        estimator.setLocalOptimizationEnabled(true);
+        estimator.setSprtEnabled(true);
+        estimator.setComputeAndKeepInliersEnabled(true);
+        estimator.setComputeAndKeepResidualsEnabled(true);
+
+        final var params = estimator.estimate();
+
+        // local optimization is seeded with residuals computed by SPRT, hence
+        // residuals are only computed in batches for refined solutions
+        assertTrue(listener.getRefineCounter() > 0);
+        assertEquals(listener.getRefineCounter(), listener.getResidualsCounter());
+
+        // check that inliers data matches best result
+        final var inliersData = estimator.getBestInliersData();
+        final var inliers = inliersData.getInliers();
+        final var residuals = inliersData.getResiduals();
+        var numInliers = 0;
+        for (var i = 0; i < numSamples; i++) {
+            final var residual = listener.computeResidual(params, i);
+            assertEquals(residual, residuals[i], 0.0);
+            assertEquals(residual <= THRESHOLD, inliers.get(i));
+            if (residual <= THRESHOLD) {
+                numInliers++;
+            }
+        }
+        assertEquals(numInliers, inliersData.getNumInliers());
+    }
+
+    @Test
+    void testEstimateWithNAPSACSubsetSelector() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+            final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+            final var listener = new TestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+
+            // neighbourhood of samples along x axis
+            final var xs = listener.getXs();
+            final var points = new double[numSamples][1];
+            for (var i = 0; i < numSamples; i++) {
+                points[i][0] = xs[i];
+            }
+            final var selector = SubsetSelector.create(new KNearestSampleNeighbourhood(points),
+                    SubsetSelectorType.PROGRESSIVE_NAPSAC_SUBSET_SELECTOR);
+
+            final var estimator = new RANSACRobustEstimator<>(listener);
+            estimator.setSubsetSelector(selector);
+
+            // estimate
+            final var params = estimator.estimate();
+            assertSame(selector, estimator.getSubsetSelector());
+
+            var failed = false;
+            for (var i = 0; i < params.length; i++) {
+                if (Math.abs(params[i] - listener.getParams()[i]) > ABSOLUTE_ERROR) {
+                    failed = true;
+                    break;
+                }
+            }
+            if (failed) {
+                continue;
+            }
+            assertArrayEquals(params, listener.getParams(), ABSOLUTE_ERROR);
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testEstimateWithSubsetSelectorOfDifferentSize() throws LockedException {
+        final var listener = new TestRANSACRobustEstimatorListener(MIN_POINTS, PERCENTAGE_OUTLIER, THRESHOLD);
+        final var estimator = new RANSACRobustEstimator<>(listener);
+        estimator.setSubsetSelector(new NAPSACSubsetSelector(
+                new KNearestSampleNeighbourhood(new double[MIN_POINTS + 1][1])));
+
+        // Force RobustEstimatorException
+        assertThrows(RobustEstimatorException.class, estimator::estimate);
+    }
+
+    @Test
+    void testEstimateParallel() throws LockedException, NotReadyException, RobustEstimatorException {
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            var numValid = 0;
+            for (var t = 0; t < TIMES; t++) {
+                final var randomizer = new UniformRandomizer();
+                final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+                final var listener = new TestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER,
+                        THRESHOLD);
+                final var estimator = new RANSACRobustEstimator<>(listener);
+
+                estimator.setComputeAndKeepInliersEnabled(true);
+                estimator.setComputeAndKeepResidualsEnabled(true);
+                estimator.setParallelism(4);
+                estimator.setExecutor(executor);
+
+                listener.reset();
+
+                // estimate
+                final var params = estimator.estimate();
+
+                // check status after estimation
+                assertFalse(estimator.isLocked());
+                assertEquals(1, listener.getStartCounter());
+                assertEquals(1, listener.getEndCounter());
+
+                // check that inliers data matches best result
+                final var inliersData = estimator.getBestInliersData();
+                final var inliers = inliersData.getInliers();
+                final var residuals = inliersData.getResiduals();
+                var numInliers = 0;
+                for (var i = 0; i < numSamples; i++) {
+                    final var residual = listener.computeResidual(params, i);
+                    assertEquals(residual, residuals[i], 0.0);
+                    assertEquals(residual <= THRESHOLD, inliers.get(i));
+                    if (residual <= THRESHOLD) {
+                        numInliers++;
+                    }
+                }
+                assertEquals(numInliers, inliersData.getNumInliers());
+
+                var failed = false;
+                for (var i = 0; i < params.length; i++) {
+                    if (Math.abs(params[i] - listener.getParams()[i]) > ABSOLUTE_ERROR) {
+                        failed = true;
+                        break;
+                    }
+                }
+                if (failed) {
+                    continue;
+                }
+                assertArrayEquals(params, listener.getParams(), ABSOLUTE_ERROR);
+
+                numValid++;
+                break;
+            }
+
+            assertTrue(numValid > 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testEstimateWithSprt() throws LockedException, NotReadyException, RobustEstimatorException {
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+            final var numSamples = randomizer.nextInt(MIN_POINTS, MAX_POINTS);
+            final var listener = new TestRANSACRobustEstimatorListener(numSamples, PERCENTAGE_OUTLIER, THRESHOLD);
+            final var estimator = new RANSACRobustEstimator<>(listener);
+
+            estimator.setComputeAndKeepInliersEnabled(true);
+            estimator.setComputeAndKeepResidualsEnabled(true);
+            estimator.setSprtEnabled(true);
+
+            listener.reset();
+
+            // estimate
+            final var params = estimator.estimate();
+
+            // check status after estimation
+            assertFalse(estimator.isLocked());
+            assertEquals(1, listener.getStartCounter());
+            assertEquals(1, listener.getEndCounter());
+
+            var failed = false;
+            for (var i = 0; i < params.length; i++) {
+                if (Math.abs(params[i] - listener.getParams()[i]) > ABSOLUTE_ERROR) {
+                    failed = true;
+                    break;
+                }
+            }
+            if (failed) {
+                continue;
+            }
+            assertArrayEquals(params, listener.getParams(), ABSOLUTE_ERROR);
+
+            // best result is always fully evaluated
+            final var inliersData = estimator.getBestInliersData();
+            var numInliers = 0;
+            for (var i = 0; i < numSamples; i++) {
+                final var residual = listener.computeResidual(params, i);
+                assertEquals(residual, inliersData.getResiduals()[i], 0.0);
+                assertEquals(residual <= THRESHOLD, inliersData.getInliers().get(i));
+                if (residual <= THRESHOLD) {
+                    numInliers++;
+                }
+            }
+            assertEquals(numInliers, inliersData.getNumInliers());
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
     private static double[] computeParams() {
         // we will estimate parameters a and b for equation y = a*x + b
         final var randomizer = new UniformRandomizer();
@@ -339,6 +1006,111 @@ class RANSACRobustEstimatorTest {
         }
     }
 
+    private static class BatchTestRANSACRobustEstimatorListener extends TestRANSACRobustEstimatorListener {
+
+        private int batchCounter;
+        private int singleCounter;
+
+        BatchTestRANSACRobustEstimatorListener(final int numSamples, final int percentageOutliers,
+                                               final double threshold) {
+            super(numSamples, percentageOutliers, threshold);
+        }
+
+        @Override
+        public double computeResidual(final double[] currentEstimation, final int i) {
+            singleCounter++;
+            return super.computeResidual(currentEstimation, i);
+        }
+
+        @Override
+        public void computeResiduals(final double[] currentEstimation, final int from, final int to,
+                                     final double[] residuals) {
+            batchCounter++;
+            final var a = currentEstimation[0];
+            final var b = currentEstimation[1];
+            final var xs = getXs();
+            final var ys = getYs();
+            for (var i = from; i < to; i++) {
+                residuals[i] = Math.abs(a * xs[i] + b - ys[i]);
+            }
+        }
+
+        int getBatchCounter() {
+            return batchCounter;
+        }
+
+        int getSingleCounter() {
+            return singleCounter;
+        }
+    }
+
+    private static class RefineTestRANSACRobustEstimatorListener extends TestRANSACRobustEstimatorListener {
+
+        private int refineCounter;
+        private int solutionsCounter;
+        private int residualsCounter;
+
+        RefineTestRANSACRobustEstimatorListener(final int numSamples, final int percentageOutliers,
+                                                final double threshold) {
+            super(numSamples, percentageOutliers, threshold);
+        }
+
+        @Override
+        public double[] refine(final double[] currentEstimation, final BitSet inliers) {
+            refineCounter++;
+
+            // least squares fit of line on inliers
+            final var xs = getXs();
+            final var ys = getYs();
+            var n = 0;
+            var sx = 0.0;
+            var sy = 0.0;
+            var sxx = 0.0;
+            var sxy = 0.0;
+            for (var i = inliers.nextSetBit(0); i >= 0; i = inliers.nextSetBit(i + 1)) {
+                n++;
+                sx += xs[i];
+                sy += ys[i];
+                sxx += xs[i] * xs[i];
+                sxy += xs[i] * ys[i];
+            }
+
+            final var det = n * sxx - sx * sx;
+            if (n < NUM_PARAMS || Math.abs(det) < Double.MIN_VALUE) {
+                return null;
+            }
+
+            final var a = (n * sxy - sx * sy) / det;
+            final var b = (sy - a * sx) / n;
+            return new double[]{a, b};
+        }
+
+        @Override
+        public void estimatePreliminarSolutions(final int[] samplesIndices, final List<double[]> solutions) {
+            super.estimatePreliminarSolutions(samplesIndices, solutions);
+            solutionsCounter++;
+        }
+
+        @Override
+        public void computeResiduals(final double[] currentEstimation, final int from, final int to,
+                                     final double[] residuals) {
+            residualsCounter++;
+            super.computeResiduals(currentEstimation, from, to, residuals);
+        }
+
+        int getRefineCounter() {
+            return refineCounter;
+        }
+
+        int getSolutionsCounter() {
+            return solutionsCounter;
+        }
+
+        int getResidualsCounter() {
+            return residualsCounter;
+        }
+    }
+
     private static class TestRANSACRobustEstimatorListener implements RANSACRobustEstimatorListener<double[]> {
 
         private final double[] params;
@@ -365,6 +1137,14 @@ class RANSACRobustEstimatorTest {
             return params;
         }
 
+        double[] getXs() {
+            return xs;
+        }
+
+        double[] getYs() {
+            return ys;
+        }
+
         @Override
         public int getTotalSamples() {
             return numSamples;
@@ -447,7 +1227,10 @@ class RANSACRobustEstimatorTest {
             testIsLocked(ransacEstimator);
             assertTrue(iteration > 0);
             assertTrue(ransacEstimator.getNIters() >= 0);
-            assertNotNull(ransacEstimator.getBestResult());
+            if (!ransacEstimator.isSprtEnabled()) {
+                // when SPRT is enabled, first solutions might be rejected
+                assertNotNull(ransacEstimator.getBestResult());
+            }
         }
 
         @Override
@@ -474,6 +1257,20 @@ class RANSACRobustEstimatorTest {
             assertThrows(LockedException.class, () -> estimator.setListener(this));
             assertThrows(LockedException.class, () -> estimator.setMaxIterations(1));
             assertThrows(LockedException.class, () -> estimator.setProgressDelta(0.5f));
+            assertThrows(LockedException.class, () -> estimator.setParallelism(2));
+            assertThrows(LockedException.class, () -> estimator.setExecutor(null));
+            assertThrows(LockedException.class, () -> estimator.setSprtEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setSprtEpsilon(0.5));
+            assertThrows(LockedException.class, () -> estimator.setSprtDelta(0.05));
+            assertThrows(LockedException.class, () -> estimator.setSprtTimeRatio(50.0));
+            assertThrows(LockedException.class, () -> estimator.setSubsetSelector(null));
+            assertThrows(LockedException.class, estimator::releaseWorkspace);
+            assertThrows(LockedException.class, () -> estimator.setLocalOptimizationEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setLocalOptimizationIterations(1));
+            assertThrows(LockedException.class, () -> estimator.setLocalOptimizationThresholdFactor(2.0));
+            assertThrows(LockedException.class, () -> estimator.setLazyInliersDataEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setFloatResidualsEnabled(true));
+            assertThrows(LockedException.class, () -> estimator.setInliersDataReuseEnabled(true));
         }
 
         private void reset() {
@@ -0,0 +1,431 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.numerical.LockedException;
+import com.irurueta.numerical.NotReadyException;
+import com.irurueta.statistics.UniformRandomizer;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RobustEstimatorWorkspaceTest {
+
+    private static final int NUM_SAMPLES = 200;
+
+    private static final int PERCENTAGE_OUTLIER = 20;
+
+    private static final double MIN_ERROR = 1.0;
+    private static final double MAX_ERROR = 10.0;
+
+    private static final double MIN_RANDOM_VALUE = -10.0;
+    private static final double MAX_RANDOM_VALUE = 10.0;
+
+    private static final double THRESHOLD = 1e-6;
+
+    private static final double ABSOLUTE_ERROR = 1e-6;
+
+    private static final int NUM_PARAMS = 2;
+
+    private static final int MAX_ITERATIONS = 1000;
+
+    private static final long SEED = 12345L;
+
+    private static final int WARM_UP_TIMES = 2000;
+
+    private static final int TIMES = 100;
+
+    /**
+     * Maximum average number of bytes allowed to be allocated per estimation
+     * on steady state. Allocated bytes are not deterministic, since they
+     * depend on JIT compilation and TLAB refills, but this bound is far below
+     * the memory required by any buffer sized with the number of samples.
+     */
+    private static final long MAX_ALLOCATED_BYTES_PER_ESTIMATION = 256L;
+
+    @Test
+    void testRANSACEstimateDoesNotAllocate() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var listener = new AllocationFreeListener();
+        final var estimator = new RANSACRobustEstimator<>(listener);
+        estimator.setMaxIterations(MAX_ITERATIONS);
+        estimator.setSubsetSelector(new XoroshiroSubsetSelector(NUM_SAMPLES, SEED));
+
+        assertNoAllocation(estimator, listener);
+    }
+
+    @Test
+    void testRANSACEstimateWithInliersDataDoesNotAllocate() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var listener = new AllocationFreeListener();
+        final var estimator = new RANSACRobustEstimator<>(listener);
+        estimator.setMaxIterations(MAX_ITERATIONS);
+        estimator.setSubsetSelector(new XoroshiroSubsetSelector(NUM_SAMPLES, SEED));
+        estimator.setComputeAndKeepInliersEnabled(true);
+        estimator.setComputeAndKeepResidualsEnabled(true);
+        estimator.setInliersDataReuseEnabled(true);
+
+        assertNoAllocation(estimator, listener);
+        assertInliersDataReused(estimator);
+    }
+
+    @Test
+    void testMSACEstimateDoesNotAllocate() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var listener = new AllocationFreeListener();
+        final var estimator = new MSACRobustEstimator<>(listener);
+        estimator.setMaxIterations(MAX_ITERATIONS);
+        estimator.setSubsetSelector(new XoroshiroSubsetSelector(NUM_SAMPLES, SEED));
+        estimator.setInliersDataReuseEnabled(true);
+
+        assertNoAllocation(estimator, listener);
+    }
+
+    @Test
+    void testLMedSEstimateDoesNotAllocate() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var listener = new AllocationFreeListener();
+        final var estimator = new LMedSRobustEstimator<>(listener);
+        estimator.setMaxIterations(MAX_ITERATIONS);
+        estimator.setSubsetSelector(new XoroshiroSubsetSelector(NUM_SAMPLES, SEED));
+        estimator.setInliersDataReuseEnabled(true);
+
+        assertNoAllocation(estimator, listener);
+    }
+
+    @Test
+    void testPROSACEstimateDoesNotAllocate() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var listener = new AllocationFreeListener();
+        final var estimator = new PROSACRobustEstimator<>(listener);
+        estimator.setMaxIterations(MAX_ITERATIONS);
+        estimator.setSubsetSelector(new XoroshiroSubsetSelector(NUM_SAMPLES, SEED));
+        estimator.setSchedule(listener.getSchedule());
+
+        assertNoAllocation(estimator, listener);
+    }
+
+    @Test
+    void testPROSACEstimateWithInliersDataDoesNotAllocate() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var listener = new AllocationFreeListener();
+        final var estimator = new PROSACRobustEstimator<>(listener);
+        estimator.setMaxIterations(MAX_ITERATIONS);
+        estimator.setSubsetSelector(new XoroshiroSubsetSelector(NUM_SAMPLES, SEED));
+        estimator.setSchedule(listener.getSchedule());
+        estimator.setComputeAndKeepInliersEnabled(true);
+        estimator.setComputeAndKeepResidualsEnabled(true);
+        estimator.setInliersDataReuseEnabled(true);
+
+        assertNoAllocation(estimator, listener);
+        assertInliersDataReused(estimator);
+    }
+
+    @Test
+    void testPROMedSEstimateDoesNotAllocate() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var listener = new AllocationFreeListener();
+        final var estimator = new PROMedSRobustEstimator<>(listener);
+        estimator.setMaxIterations(MAX_ITERATIONS);
+        estimator.setSubsetSelector(new XoroshiroSubsetSelector(NUM_SAMPLES, SEED));
+        estimator.setSchedule(listener.getSchedule());
+        estimator.setInliersDataReuseEnabled(true);
+
+        assertNoAllocation(estimator, listener);
+    }
+
+    @Test
+    void testEstimateAfterReleaseWorkspace() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var listener = new AllocationFreeListener();
+        final var estimators = List.<RobustEstimator<double[]>>of(
+                new RANSACRobustEstimator<>(listener), new MSACRobustEstimator<>(listener),
+                new LMedSRobustEstimator<>(listener), new PROSACRobustEstimator<>(listener),
+                new PROMedSRobustEstimator<>(listener));
+
+        for (final var estimator : estimators) {
+            final var result1 = estimator.estimate();
+            assertArrayEquals(listener.getParams(), result1, ABSOLUTE_ERROR);
+
+            estimator.releaseWorkspace();
+
+            final var result2 = estimator.estimate();
+            assertArrayEquals(listener.getParams(), result2, ABSOLUTE_ERROR);
+        }
+    }
+
+    @Test
+    void testEstimateWithDifferentNumberOfSamples() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var listener1 = new AllocationFreeListener(NUM_SAMPLES);
+        final var listener2 = new AllocationFreeListener(NUM_SAMPLES / 2);
+        final var estimators = List.<RobustEstimator<double[]>>of(
+                new RANSACRobustEstimator<>(listener1), new MSACRobustEstimator<>(listener1),
+                new LMedSRobustEstimator<>(listener1), new PROSACRobustEstimator<>(listener1),
+                new PROMedSRobustEstimator<>(listener1));
+
+        for (final var estimator : estimators) {
+            // buffers are resized when number of samples changes
+            estimator.setListener(listener1);
+            final var result1 = estimator.estimate();
+            assertArrayEquals(listener1.getParams(), result1, ABSOLUTE_ERROR);
+
+            estimator.setListener(listener2);
+            final var result2 = estimator.estimate();
+            assertArrayEquals(listener2.getParams(), result2, ABSOLUTE_ERROR);
+            final var inliersData = estimator.getInliersData();
+            if (inliersData != null) {
+                assertEquals(NUM_SAMPLES / 2, inliersData.getResiduals().length);
+            }
+        }
+    }
+
+    @Test
+    void testPreviousInliersDataIsKeptWhenReuseIsDisabled() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var listener = new AllocationFreeListener();
+        final var estimator = new LMedSRobustEstimator<>(listener);
+        assertFalse(estimator.isInliersDataReuseEnabled());
+
+        estimator.estimate();
+        final var inliersData1 = estimator.getBestInliersData();
+        final var residuals1 = inliersData1.getResiduals().clone();
+        final var inliers1 = (BitSet) inliersData1.getInliers().clone();
+
+        estimator.estimate();
+        final var inliersData2 = estimator.getBestInliersData();
+
+        // inliers data of previous estimation is not modified
+        assertNotSame(inliersData1, inliersData2);
+        assertArrayEquals(residuals1, inliersData1.getResiduals(), 0.0);
+        assertEquals(inliers1, inliersData1.getInliers());
+    }
+
+    @Test
+    void testPreviousRANSACInliersDataIsKeptWhenReuseIsDisabled() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var listener = new AllocationFreeListener();
+        final var estimator = new RANSACRobustEstimator<>(listener);
+        estimator.setComputeAndKeepInliersEnabled(true);
+        estimator.setComputeAndKeepResidualsEnabled(true);
+        assertFalse(estimator.isInliersDataReuseEnabled());
+
+        estimator.estimate();
+        final var inliersData1 = estimator.getBestInliersData();
+        final var residuals1 = inliersData1.getResiduals().clone();
+        final var inliers1 = (BitSet) inliersData1.getInliers().clone();
+
+        estimator.estimate();
+        final var inliersData2 = estimator.getBestInliersData();
+
+        // inliers data of previous estimation is not modified
+        assertNotSame(inliersData1, inliersData2);
+        assertArrayEquals(residuals1, inliersData1.getResiduals(), 0.0);
+        assertEquals(inliers1, inliersData1.getInliers());
+    }
+
+    @Test
+    void testReleaseWorkspaceWhenLocked() throws LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var listener = new AllocationFreeListener() {
+            @Override
+            public void onEstimateStart(final RobustEstimator<double[]> estimator) {
+                super.onEstimateStart(estimator);
+                assertThrows(LockedException.class, estimator::releaseWorkspace);
+            }
+        };
+        final var estimator = new RANSACRobustEstimator<>(listener);
+
+        estimator.estimate();
+
+        assertEquals(1, listener.getStartCounter());
+    }
+
+    private static void assertNoAllocation(final RobustEstimator<double[]> estimator,
+                                           final AllocationFreeListener listener)
+            throws LockedException, NotReadyException, RobustEstimatorException {
+        final var threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        // warm up so that buffers are allocated and code is compiled
+        for (var i = 0; i < WARM_UP_TIMES; i++) {
+            estimator.estimate();
+        }
+
+        final var before = threadBean.getCurrentThreadAllocatedBytes();
+        for (var i = 0; i < TIMES; i++) {
+            estimator.estimate();
+        }
+        final var after = threadBean.getCurrentThreadAllocatedBytes();
+
+        // check that buffers are not allocated on steady state
+        assertTrue((after - before) / TIMES <= MAX_ALLOCATED_BYTES_PER_ESTIMATION);
+
+        // check correctness of last estimation
+        assertArrayEquals(listener.getParams(), estimator.estimate(), ABSOLUTE_ERROR);
+    }
+
+    private static void assertInliersDataReused(final RobustEstimator<double[]> estimator)
+            throws LockedException, NotReadyException, RobustEstimatorException {
+        final var inliersData1 = estimator.getInliersData();
+        assertNotNull(inliersData1);
+
+        estimator.estimate();
+        final var inliersData2 = estimator.getInliersData();
+
+        // same instance is reused and contains data of last estimation
+        assertSame(inliersData1, inliersData2);
+        assertTrue(inliersData2.getNumInliers() > 0);
+        assertEquals(inliersData2.getNumInliers(), inliersData2.getInliers().cardinality());
+        final var residuals = inliersData2.getResiduals();
+        for (var i = 0; i < NUM_SAMPLES; i++) {
+            assertEquals(inliersData2.getInliers().get(i), residuals[i] <= THRESHOLD);
+        }
+    }
+
+    private static class AllocationFreeListener implements MSACRobustEstimatorListener<double[]>,
+            PROMedSRobustEstimatorListener<double[]> {
+
+        private final double[] params;
+        private final double[] xs;
+        private final double[] ys;
+        private final int numSamples;
+        private final double[] qualityScores;
+        private final PROSACSchedule schedule;
+
+        // preallocated solutions so that no memory is allocated during estimation
+        private final double[][] solutions;
+        private int numSolutions;
+
+        private int startCounter;
+
+        AllocationFreeListener() {
+            this(NUM_SAMPLES);
+        }
+
+        AllocationFreeListener(final int numSamples) {
+            this.numSamples = numSamples;
+
+            final var randomizer = new UniformRandomizer();
+            params = new double[NUM_PARAMS];
+            params[0] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            params[1] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            xs = new double[numSamples];
+            ys = new double[numSamples];
+            qualityScores = new double[numSamples];
+            final var sortedIndices = new int[numSamples];
+            for (var i = 0; i < numSamples; i++) {
+                xs[i] = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                ys[i] = params[0] * xs[i] + params[1];
+                qualityScores[i] = 1.0;
+                if (randomizer.nextInt(0, 100) < PERCENTAGE_OUTLIER) {
+                    // is outlier
+                    ys[i] += randomizer.nextDouble(MIN_ERROR, MAX_ERROR);
+                    qualityScores[i] = 0.5;
+                }
+                sortedIndices[i] = i;
+            }
+            schedule = new PROSACSchedule(sortedIndices);
+
+            solutions = new double[MAX_ITERATIONS + 1][NUM_PARAMS];
+        }
+
+        double[] getParams() {
+            return params;
+        }
+
+        PROSACSchedule getSchedule() {
+            return schedule;
+        }
+
+        int getStartCounter() {
+            return startCounter;
+        }
+
+        @Override
+        public double[] getQualityScores() {
+            return qualityScores;
+        }
+
+        @Override
+        public double getThreshold() {
+            return THRESHOLD;
+        }
+
+        @Override
+        public int getTotalSamples() {
+            return numSamples;
+        }
+
+        @Override
+        public int getSubsetSize() {
+            return NUM_PARAMS;
+        }
+
+        @Override
+        public void estimatePreliminarSolutions(final int[] samplesIndices, final List<double[]> solutions) {
+            final var index1 = samplesIndices[0];
+            final var index2 = samplesIndices[1];
+
+            final var a = (ys[index2] - ys[index1]) / (xs[index2] - xs[index1]);
+            final var b = ys[index1] - a * xs[index1];
+
+            final var solution = this.solutions[numSolutions++ % this.solutions.length];
+            solution[0] = a;
+            solution[1] = b;
+
+            solutions.add(solution);
+        }
+
+        @Override
+        public double computeResidual(final double[] currentEstimation, final int i) {
+            return Math.abs(currentEstimation[0] * xs[i] + currentEstimation[1] - ys[i]);
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void onEstimateStart(final RobustEstimator<double[]> estimator) {
+            numSolutions = 0;
+            startCounter++;
+        }
+
+        @Override
+        public void onEstimateEnd(final RobustEstimator<double[]> estimator) {
+            // no action needed
+        }
+
+        @Override
+        public void onEstimateNextIteration(final RobustEstimator<double[]> estimator, final int iteration) {
+            // no action needed
+        }
+
+        @Override
+        public void onEstimateProgressChange(final RobustEstimator<double[]> estimator, final float progress) {
+            // no action needed
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SPRTVerifierTest {
+
+    private static final int TOTAL_SAMPLES = 1000;
+
+    private static final double EPSILON = 0.8;
+
+    private static final double DELTA = 0.05;
+
+    private static final double TIME_RATIO = 200.0;
+
+    @Test
+    void testConstructor() {
+        final var sprt = new SPRTVerifier(TOTAL_SAMPLES, EPSILON, DELTA, TIME_RATIO);
+
+        assertEquals(EPSILON, sprt.getEpsilon(), 0.0);
+        assertEquals(DELTA, sprt.getDelta(), 0.0);
+        assertTrue(sprt.getDecisionThreshold() > 1.0);
+        assertTrue(Double.isFinite(sprt.getDecisionThreshold()));
+    }
+
+    @Test
+    void testNextSampleVisitsAllSamples() {
+        for (var n = 1; n < 300; n++) {
+            final var sprt = new SPRTVerifier(n, EPSILON, DELTA, TIME_RATIO);
+            final var visited = new BitSet(n);
+            var i = 0;
+            for (var j = 0; j < n; j++) {
+                assertFalse(visited.get(i));
+                visited.set(i);
+                i = sprt.nextSample(i);
+            }
+            assertEquals(n, visited.cardinality());
+            assertEquals(0, i);
+        }
+    }
+
+    @Test
+    void testBadModelIsRejectedEarly() {
+        final var sprt = new SPRTVerifier(TOTAL_SAMPLES, EPSILON, DELTA, TIME_RATIO);
+        sprt.reset();
+
+        // a model without consistent samples is rejected after a few samples
+        var tested = 0;
+        while (!sprt.isRejected(false)) {
+            tested++;
+        }
+        assertTrue(tested < 10);
+    }
+
+    @Test
+    void testGoodModelIsAccepted() {
+        final var sprt = new SPRTVerifier(TOTAL_SAMPLES, EPSILON, DELTA, TIME_RATIO);
+        sprt.reset();
+
+        // a model with 90% of consistent samples is never rejected
+        for (var i = 0; i < TOTAL_SAMPLES; i++) {
+            assertFalse(sprt.isRejected(i % 10 != 0));
+        }
+    }
+
+    @Test
+    void testNoRejectionWhenEpsilonIsNotLargerThanDelta() {
+        final var sprt = new SPRTVerifier(TOTAL_SAMPLES, DELTA, DELTA, TIME_RATIO);
+        sprt.reset();
+
+        assertEquals(Double.POSITIVE_INFINITY, sprt.getDecisionThreshold(), 0.0);
+        for (var i = 0; i < TOTAL_SAMPLES; i++) {
+            assertFalse(sprt.isRejected(false));
+        }
+    }
+
+    @Test
+    void testOnRejectedUpdatesDelta() {
+        final var sprt = new SPRTVerifier(TOTAL_SAMPLES, EPSILON, DELTA, TIME_RATIO);
+        final var threshold = sprt.getDecisionThreshold();
+
+        sprt.onRejected(10, 2);
+
+        assertEquals(0.5 * (DELTA + 0.2), sprt.getDelta(), 1e-12);
+        assertNotEquals(threshold, sprt.getDecisionThreshold(), 0.0);
+    }
+
+    @Test
+    void testOnBestModelUpdatesEpsilon() {
+        final var sprt = new SPRTVerifier(TOTAL_SAMPLES, 0.1, 0.01, TIME_RATIO);
+
+        sprt.onBestModel(900);
+
+        assertEquals(0.9, sprt.getEpsilon(), 0.0);
+    }
+
+    @Test
+    void testComputeIterations() {
+        final var sprt = new SPRTVerifier(TOTAL_SAMPLES, EPSILON, DELTA, TIME_RATIO);
+
+        // taking into account rejection of good models requires slightly more
+        // iterations than standard RANSAC
+        final var probSubsetAllInliers = Math.pow(EPSILON, 2);
+        final var ransacIters = (int) Math.ceil(Math.abs(Math.log(1.0 - 0.99)
+                / Math.log(1.0 - probSubsetAllInliers)));
+        final var sprtIters = sprt.computeIterations(EPSILON, 2, 0.99);
+
+        assertTrue(sprtIters >= ransacIters);
+        assertEquals(Integer.MAX_VALUE, sprt.computeIterations(0.0, 2, 0.99));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.statistics.MaxIterationsExceededException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SigmaConsensusTableTest {
+
+    private static final double MAX_SIGMA = 1e-3;
+
+    private static final double ABSOLUTE_ERROR = 1e-4;
+
+    // chi-squared quantiles at 0.99 for 1, 2 and 3 degrees of freedom
+    private static final double CHI2_QUANTILE_1 = 6.634897;
+    private static final double CHI2_QUANTILE_2 = 9.210340;
+    private static final double CHI2_QUANTILE_3 = 11.344867;
+
+    @Test
+    void testConstructor() throws MaxIterationsExceededException {
+        var table = new SigmaConsensusTable(1);
+
+        // check
+        assertEquals(1, table.getDegreesOfFreedom());
+        assertEquals(Math.sqrt(CHI2_QUANTILE_1), table.getOutlierFactor(), ABSOLUTE_ERROR);
+
+        table = new SigmaConsensusTable(2);
+
+        // check
+        assertEquals(2, table.getDegreesOfFreedom());
+        assertEquals(Math.sqrt(CHI2_QUANTILE_2), table.getOutlierFactor(), ABSOLUTE_ERROR);
+
+        table = new SigmaConsensusTable(3, SigmaConsensusTable.DEFAULT_QUANTILE, SigmaConsensusTable.MIN_SIZE);
+
+        // check
+        assertEquals(3, table.getDegreesOfFreedom());
+        assertEquals(Math.sqrt(CHI2_QUANTILE_3), table.getOutlierFactor(), ABSOLUTE_ERROR);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new SigmaConsensusTable(0));
+        assertThrows(IllegalArgumentException.class, () -> new SigmaConsensusTable(1, 0.0,
+                SigmaConsensusTable.DEFAULT_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> new SigmaConsensusTable(1, 1.0,
+                SigmaConsensusTable.DEFAULT_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> new SigmaConsensusTable(1,
+                SigmaConsensusTable.DEFAULT_QUANTILE, 1));
+    }
+
+    @Test
+    void testIsInlier() throws MaxIterationsExceededException {
+        for (var dof = 1; dof <= 4; dof++) {
+            final var table = new SigmaConsensusTable(dof);
+            final var scale = table.getScale(MAX_SIGMA);
+            final var maxResidual = table.getOutlierFactor() * MAX_SIGMA;
+
+            // check
+            assertTrue(table.isInlier(0.0));
+            assertTrue(table.isInlier(Math.pow(0.99 * maxResidual, 2.0) * scale));
+            assertFalse(table.isInlier(Math.pow(1.01 * maxResidual, 2.0) * scale));
+            assertFalse(table.isInlier(Double.NaN));
+            assertFalse(table.isInlier(Double.POSITIVE_INFINITY));
+        }
+    }
+
+    @Test
+    void testLoss() throws MaxIterationsExceededException {
+        for (var dof = 1; dof <= 4; dof++) {
+            final var table = new SigmaConsensusTable(dof);
+            final var scale = table.getScale(MAX_SIGMA);
+            final var maxResidual = table.getOutlierFactor() * MAX_SIGMA;
+
+            // loss is zero for exact samples and 1.0 for outliers
+            assertEquals(0.0, table.loss(0.0), 0.0);
+            assertEquals(1.0, table.loss(Math.pow(1.01 * maxResidual, 2.0) * scale), 0.0);
+            assertEquals(1.0, table.loss(Double.NaN), 0.0);
+            assertEquals(1.0, table.loss(Double.POSITIVE_INFINITY), 0.0);
+
+            // loss increases with residual and is continuous at the boundary
+            var previous = 0.0;
+            for (var i = 1; i <= 100; i++) {
+                final var residual = 0.99 * maxResidual * i / 100.0;
+                final var loss = table.loss(residual * residual * scale);
+                assertTrue(loss >= previous);
+                assertTrue(loss <= 1.0);
+                previous = loss;
+            }
+            assertEquals(1.0, previous, 0.05);
+        }
+    }
+
+    @Test
+    void testWeight() throws MaxIterationsExceededException {
+        for (var dof = 1; dof <= 4; dof++) {
+            final var table = new SigmaConsensusTable(dof);
+            final var scale = table.getScale(MAX_SIGMA);
+            final var maxResidual = table.getOutlierFactor() * MAX_SIGMA;
+
+            // weight is 1.0 for exact samples and zero for outliers
+            assertEquals(1.0, table.weight(0.0), 0.0);
+            assertEquals(0.0, table.weight(Math.pow(1.01 * maxResidual, 2.0) * scale), 0.0);
+            assertEquals(0.0, table.weight(Double.NaN), 0.0);
+
+            // weight decreases with residual
+            var previous = 1.0;
+            for (var i = 1; i <= 100; i++) {
+                final var residual = 0.99 * maxResidual * i / 100.0;
+                final var weight = table.weight(residual * residual * scale);
+                assertTrue(weight <= previous);
+                assertTrue(weight >= 0.0);
+                previous = weight;
+            }
+        }
+    }
+}
@@ -42,6 +42,58 @@ class SubsetSelectorTest {
         assertThrows(IllegalArgumentException.class, () -> SubsetSelector.create(0));
     }
 
+    @Test
+    void testCreateWithType() {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+
+        var selector = SubsetSelector.create(numSamples, SubsetSelectorType.FAST_RANDOM_SUBSET_SELECTOR);
+        assertInstanceOf(FastRandomSubsetSelector.class, selector);
+        assertEquals(numSamples, selector.getNumSamples());
+
+        selector = SubsetSelector.create(numSamples, SubsetSelectorType.XOROSHIRO_SUBSET_SELECTOR);
+        assertInstanceOf(XoroshiroSubsetSelector.class, selector);
+        assertEquals(SubsetSelectorType.XOROSHIRO_SUBSET_SELECTOR, selector.getType());
+        assertEquals(numSamples, selector.getNumSamples());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> SubsetSelector.create(0, SubsetSelectorType.XOROSHIRO_SUBSET_SELECTOR));
+        assertThrows(IllegalArgumentException.class,
+                () -> SubsetSelector.create(numSamples, SubsetSelectorType.NAPSAC_SUBSET_SELECTOR));
+        assertThrows(IllegalArgumentException.class,
+                () -> SubsetSelector.create(numSamples, SubsetSelectorType.PROGRESSIVE_NAPSAC_SUBSET_SELECTOR));
+    }
+
+    @Test
+    void testCreateWithNeighbourhood() {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var points = new double[numSamples][2];
+        for (final var point : points) {
+            randomizer.fill(point, -1.0, 1.0);
+        }
+        final var neighbourhood = new KNearestSampleNeighbourhood(points);
+
+        var selector = SubsetSelector.create(neighbourhood, SubsetSelectorType.FAST_RANDOM_SUBSET_SELECTOR);
+        assertInstanceOf(FastRandomSubsetSelector.class, selector);
+        assertEquals(numSamples, selector.getNumSamples());
+
+        selector = SubsetSelector.create(neighbourhood, SubsetSelectorType.NAPSAC_SUBSET_SELECTOR);
+        assertInstanceOf(NAPSACSubsetSelector.class, selector);
+        assertEquals(SubsetSelectorType.NAPSAC_SUBSET_SELECTOR, selector.getType());
+        assertEquals(numSamples, selector.getNumSamples());
+
+        selector = SubsetSelector.create(neighbourhood, SubsetSelectorType.PROGRESSIVE_NAPSAC_SUBSET_SELECTOR);
+        assertInstanceOf(ProgressiveNAPSACSubsetSelector.class, selector);
+        assertEquals(SubsetSelectorType.PROGRESSIVE_NAPSAC_SUBSET_SELECTOR, selector.getType());
+        assertEquals(numSamples, selector.getNumSamples());
+
+        selector = SubsetSelector.create(neighbourhood, SubsetSelectorType.XOROSHIRO_SUBSET_SELECTOR);
+        assertInstanceOf(XoroshiroSubsetSelector.class, selector);
+        assertEquals(numSamples, selector.getNumSamples());
+    }
+
     @Test
     void testGetType() {
         final var randomizer = new UniformRandomizer();
@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.robust;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XoroshiroSubsetSelectorTest {
+
+    private static final int MIN_SAMPLES = 100;
+    private static final int MAX_SAMPLES = 500;
+
+    private static final int MIN_SUBSET_SIZE = 5;
+    private static final int MAX_SUBSET_SIZE = 10;
+
+    private static final int NUM_SUBSETS = 50;
+
+    private static final int TIMES = 1000;
+
+    @Test
+    void testConstructor() {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+
+        var selector = new XoroshiroSubsetSelector(numSamples);
+        assertEquals(SubsetSelectorType.XOROSHIRO_SUBSET_SELECTOR, selector.getType());
+        assertEquals(numSamples, selector.getNumSamples());
+
+        selector = new XoroshiroSubsetSelector(numSamples, 1234L);
+        assertEquals(SubsetSelectorType.XOROSHIRO_SUBSET_SELECTOR, selector.getType());
+        assertEquals(numSamples, selector.getNumSamples());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new XoroshiroSubsetSelector(0));
+        assertThrows(IllegalArgumentException.class, () -> new XoroshiroSubsetSelector(0, 1234L));
+    }
+
+    @Test
+    void testNextInt() {
+        final var selector = new XoroshiroSubsetSelector(MIN_SAMPLES);
+
+        // values are within bounds and roughly uniform
+        final var bound = 10;
+        final var counts = new int[bound];
+        for (var i = 0; i < TIMES * bound; i++) {
+            final var value = selector.nextInt(bound);
+            assertTrue(value >= 0 && value < bound);
+            counts[value]++;
+        }
+        for (final var count : counts) {
+            assertTrue(count > TIMES / 2);
+            assertTrue(count < 2 * TIMES);
+        }
+    }
+
+    @Test
+    void testReproducibility() throws NotEnoughSamplesException, InvalidSubsetSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var subsetSize = randomizer.nextInt(MIN_SUBSET_SIZE, MAX_SUBSET_SIZE);
+
+        final var selector1 = new XoroshiroSubsetSelector(numSamples, 1234L);
+        final var selector2 = new XoroshiroSubsetSelector(numSamples, 1234L);
+        final var selector3 = new XoroshiroSubsetSelector(numSamples, 4321L);
+
+        for (var i = 0; i < NUM_SUBSETS; i++) {
+            assertEquals(selector1.nextLong(), selector2.nextLong());
+        }
+        assertArrayEquals(selector1.computeRandomSubsets(subsetSize), selector2.computeRandomSubsets(subsetSize));
+        assertNotEquals(selector1.nextLong(), selector3.nextLong());
+    }
+
+    @Test
+    void testSplit() {
+        final var selector1 = new XoroshiroSubsetSelector(MIN_SAMPLES, 1234L);
+        final var selector2 = new XoroshiroSubsetSelector(MIN_SAMPLES, 1234L);
+
+        final var split1 = selector1.split();
+        final var split2 = selector2.split();
+        assertEquals(MIN_SAMPLES, split1.getNumSamples());
+
+        // split streams are reproducible
+        for (var i = 0; i < NUM_SUBSETS; i++) {
+            assertEquals(split1.nextLong(), split2.nextLong());
+            assertEquals(selector1.nextLong(), selector2.nextLong());
+        }
+
+        // split stream continues the original sequence, while original one
+        // jumps ahead
+        final var original = new XoroshiroSubsetSelector(MIN_SAMPLES, 1234L);
+        final var split = original.split();
+        final var reference = new XoroshiroSubsetSelector(MIN_SAMPLES, 1234L);
+        final var values = new HashSet<Long>();
+        for (var i = 0; i < TIMES; i++) {
+            final var value = split.nextLong();
+            assertEquals(reference.nextLong(), value);
+            values.add(value);
+        }
+        for (var i = 0; i < TIMES; i++) {
+            assertFalse(values.contains(original.nextLong()));
+        }
+    }
+
+    @Test
+    void testComputeRandomSubsets() throws NotEnoughSamplesException, InvalidSubsetSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var subsetSize = randomizer.nextInt(MIN_SUBSET_SIZE, MAX_SUBSET_SIZE);
+
+        final var selector = new XoroshiroSubsetSelector(numSamples);
+        final var result1 = new int[subsetSize];
+        for (var t = 0; t < TIMES; t++) {
+            selector.computeRandomSubsets(subsetSize, result1);
+            checkSubset(result1, 0, subsetSize, 0, numSamples);
+        }
+        final var result2 = selector.computeRandomSubsets(subsetSize);
+        assertEquals(subsetSize, result2.length);
+        checkSubset(result2, 0, subsetSize, 0, numSamples);
+
+        // all samples can be picked at once
+        final var all = selector.computeRandomSubsets(numSamples);
+        checkSubset(all, 0, numSamples, 0, numSamples);
+
+        // Force InvalidSubsetSizeException
+        assertThrows(InvalidSubsetSizeException.class, () -> selector.computeRandomSubsets(0));
+        assertThrows(InvalidSubsetSizeException.class,
+                () -> selector.computeRandomSubsets(subsetSize + 1, result1));
+
+        // Force NotEnoughSamplesException
+        assertThrows(NotEnoughSamplesException.class, () -> selector.computeRandomSubsets(numSamples + 1));
+    }
+
+    @Test
+    void testComputeMultipleRandomSubsets() throws NotEnoughSamplesException, InvalidSubsetSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var subsetSize = randomizer.nextInt(MIN_SUBSET_SIZE, MAX_SUBSET_SIZE);
+
+        final var selector1 = new XoroshiroSubsetSelector(numSamples);
+        final var selector2 = new XoroshiroSubsetSelector(numSamples);
+
+        final var result = new int[subsetSize * NUM_SUBSETS];
+        selector1.computeRandomSubsets(subsetSize, NUM_SUBSETS, result);
+
+        // bulk generation is equivalent to generating subsets one by one
+        final var subset = new int[subsetSize];
+        for (var i = 0; i < NUM_SUBSETS; i++) {
+            checkSubset(result, i * subsetSize, subsetSize, 0, numSamples);
+
+            selector2.computeRandomSubsets(subsetSize, subset);
+            for (var j = 0; j < subsetSize; j++) {
+                assertEquals(subset[j], result[i * subsetSize + j]);
+            }
+        }
+
+        // Force InvalidSubsetSizeException
+        assertThrows(InvalidSubsetSizeException.class,
+                () -> selector1.computeRandomSubsets(subsetSize, 0, result));
+        assertThrows(InvalidSubsetSizeException.class,
+                () -> selector1.computeRandomSubsets(subsetSize, NUM_SUBSETS + 1, result));
+
+        // Force NotEnoughSamplesException
+        assertThrows(NotEnoughSamplesException.class,
+                () -> selector1.computeRandomSubsets(numSamples + 1, 1, new int[numSamples + 1]));
+    }
+
+    @Test
+    void testComputeRandomSubsetsInRange() throws NotEnoughSamplesException, InvalidSubsetSizeException,
+            InvalidSubsetRangeException {
+        final var randomizer = new UniformRandomizer();
+        final var numSamples = randomizer.nextInt(MIN_SAMPLES, MAX_SAMPLES);
+        final var subsetSize = randomizer.nextInt(MIN_SUBSET_SIZE, MAX_SUBSET_SIZE);
+        final var minPos = randomizer.nextInt(0, MIN_SAMPLES - subsetSize - 1);
+        final var maxPos = randomizer.nextInt(MIN_SAMPLES - 1, numSamples);
+
+        final var selector = new XoroshiroSubsetSelector(numSamples);
+        for (var t = 0; t < TIMES; t++) {
+            final var pickLast = t % 2 == 0;
+            final var result = selector.computeRandomSubsetsInRange(minPos, maxPos, subsetSize, pickLast);
+            checkSubset(result, 0, subsetSize, minPos, maxPos);
+            if (pickLast) {
+                assertEquals(maxPos - 1, result[0]);
+            }
+        }
+
+        // whole range can be picked
+        final var all = selector.computeRandomSubsetsInRange(minPos, maxPos, maxPos - minPos, true);
+        checkSubset(all, 0, maxPos - minPos, minPos, maxPos);
+
+        // Force InvalidSubsetSizeException
+        assertThrows(InvalidSubsetSizeException.class,
+                () -> selector.computeRandomSubsetsInRange(minPos, maxPos, 0, false));
+        assertThrows(InvalidSubsetSizeException.class, () -> selector.computeRandomSubsetsInRange(minPos,
+                minPos + subsetSize - 1, subsetSize, false));
+
+        // Force NotEnoughSamplesException
+        assertThrows(NotEnoughSamplesException.class, () -> selector.computeRandomSubsetsInRange(minPos,
+                numSamples + 1, subsetSize, false));
+
+        // Force InvalidSubsetRangeException
+        assertThrows(InvalidSubsetRangeException.class, () -> selector.computeRandomSubsetsInRange(maxPos, minPos,
+                subsetSize, false));
+    }
+
+    @Test
+    void testGetSetNumSamples() throws NotEnoughSamplesException, InvalidSubsetSizeException {
+        final var selector = new XoroshiroSubsetSelector(MIN_SAMPLES);
+        selector.computeRandomSubsets(MIN_SUBSET_SIZE);
+
+        // bitset grows when number of samples increases
+        selector.setNumSamples(MAX_SAMPLES);
+        assertEquals(MAX_SAMPLES, selector.getNumSamples());
+        for (var t = 0; t < TIMES; t++) {
+            checkSubset(selector.computeRandomSubsets(MAX_SUBSET_SIZE), 0, MAX_SUBSET_SIZE, 0, MAX_SAMPLES);
+        }
+    }
+
+    private static void checkSubset(final int[] result, final int offset, final int subsetSize, final int minPos,
+                                    final int maxPos) {
+        final var picked = new HashSet<Integer>();
+        for (var i = offset; i < offset + subsetSize; i++) {
+            assertTrue(result[i] >= minPos && result[i] < maxPos);
+            assertTrue(picked.add(result[i]));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing algorithms of {@link Convolver1D} for each edge
+ * extension method and several kernel lengths.
+ * It measures a reference direct convolution that obtains every signal value
+ * through the boundary checking methods of {@link Convolver1D} (as
+ * convolutions were computed before interior and border samples were split),
+ * the current direct algorithm and the FFT algorithm. The smallest kernel
+ * length where FFT beats direct convolution is used to set
+ * {@link Convolver1D#FFT_KERNEL_LENGTH_THRESHOLD}.
+ * This is not a unit test. Once test sources are compiled, it can be run with:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/classes:target/test-classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main Convolver1DBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Convolver1DBenchmark {
+
+    private static final int SIGNAL_LENGTH = 1 << 20;
+
+    private static final double CONSTANT_VALUE = 1.0;
+
+    @Param({"3", "8", "16", "24", "32", "48", "64", "96", "128"})
+    public int kernelLength;
+
+    @Param({"ZERO_EDGE", "CONSTANT_EDGE", "MIRROR_EDGE", "REPEAT_EDGE"})
+    public ConvolverEdgeMethod edgeMethod;
+
+    private double[] signal;
+
+    private double[] kernel;
+
+    private int kernelCenter;
+
+    private double[] result;
+
+    @Setup
+    public void setUp() {
+        final var random = new Random(0);
+        signal = new double[SIGNAL_LENGTH];
+        for (var i = 0; i < SIGNAL_LENGTH; i++) {
+            signal[i] = random.nextDouble();
+        }
+        kernel = new double[kernelLength];
+        for (var i = 0; i < kernelLength; i++) {
+            kernel[i] = random.nextDouble();
+        }
+        kernelCenter = kernelLength / 2;
+        result = new double[SIGNAL_LENGTH + kernelLength - 1];
+    }
+
+    @Benchmark
+    public double[] reference() {
+        for (var i = 0; i < result.length; i++) {
+            var accum = 0.0;
+            final var signalPos = i - kernelCenter;
+            for (var j = 0; j < kernel.length; j++) {
+                final var pos = signalPos - j;
+                final double signalValue = switch (edgeMethod) {
+                    case MIRROR_EDGE -> Convolver1D.getSignalValueMirror(signal, pos);
+                    case REPEAT_EDGE -> Convolver1D.getSignalValueRepeat(signal, pos);
+                    case CONSTANT_EDGE -> Convolver1D.getSignalValueConstant(signal, pos, CONSTANT_VALUE);
+                    default -> Convolver1D.getSignalValueZero(signal, pos);
+                };
+                accum += signalValue * kernel[j];
+            }
+            result[i] = accum;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double[] direct() {
+        Convolver1D.convolve(signal, kernel, kernelCenter, edgeMethod, CONSTANT_VALUE, ConvolverAlgorithm.DIRECT,
+                result, null);
+        return result;
+    }
+
+    @Benchmark
+    public double[] fft() {
+        Convolver1D.convolve(signal, kernel, kernelCenter, edgeMethod, CONSTANT_VALUE, ConvolverAlgorithm.FFT,
+                result, null);
+        return result;
+    }
+}
@@ -25,6 +25,10 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
     public static final double MIN_RANDOM_VALUE = -10.0;
     public static final double MAX_RANDOM_VALUE = 10.0;
 
+    private static final double FFT_RELATIVE_ERROR = 1e-12;
+
+    private static final int TIMES = 20;
+
     private int startConvolution;
     private int finishConvolution;
     private int convolveProgressChange;
@@ -40,6 +44,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
         assertEquals(0, convolver.getKernelCenter());
         assertEquals(ConvolverEdgeMethod.ZERO_EDGE, convolver.getEdgeMethod());
         assertEquals(0.0, convolver.getConstantValue(), 0.0);
+        assertEquals(ConvolverAlgorithm.AUTOMATIC, convolver.getAlgorithm());
         assertNull(convolver.getListener());
         assertFalse(convolver.isReady());
 
@@ -137,6 +142,20 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
         assertEquals(constantValue, convolver.getConstantValue(), 0.0);
     }
 
+    @Test
+    void testGetSetAlgorithm() {
+        final var convolver = new Convolver1D();
+
+        // check default value
+        assertEquals(Convolver1D.DEFAULT_ALGORITHM, convolver.getAlgorithm());
+
+        // set new value
+        convolver.setAlgorithm(ConvolverAlgorithm.FFT);
+
+        // check correctness
+        assertEquals(ConvolverAlgorithm.FFT, convolver.getAlgorithm());
+    }
+
     @Test
     void testGetSetListener() {
         final var convolver = new Convolver1D();
@@ -200,7 +219,9 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        // progress is notified once for each border and once for each block of
+        // interior samples
+        assertEquals(3, convolveProgressChange);
 
         // check correctness
         assertArrayEquals(new double[]{1.0, 4.0, 8.0, 12.0, 16.0, 14.0, 5.0}, result, 0.0);
@@ -218,7 +239,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -230,7 +251,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         result2 = Convolver1D.convolve(signal, kernel, 0, ConvolverEdgeMethod.ZERO_EDGE, 0.0);
 
@@ -250,7 +271,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -266,7 +287,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -282,7 +303,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -298,7 +319,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -314,7 +335,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -330,7 +351,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -348,7 +369,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -359,7 +380,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -373,7 +394,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -392,7 +413,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -408,7 +429,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -424,7 +445,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -440,7 +461,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -456,7 +477,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -486,7 +507,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -512,7 +533,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         result2 = Convolver1D.convolve(signal, kernel, 0, ConvolverEdgeMethod.CONSTANT_EDGE, constantValue);
 
@@ -535,7 +556,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -553,7 +574,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -581,7 +602,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -607,7 +628,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         result2 = Convolver1D.convolve(signal, kernel, 0, ConvolverEdgeMethod.REPEAT_EDGE,
                 0.0);
@@ -630,7 +651,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -647,7 +668,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -676,7 +697,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -702,7 +723,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         result2 = Convolver1D.convolve(signal, kernel, 0, ConvolverEdgeMethod.MIRROR_EDGE, 0.0);
 
@@ -725,7 +746,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -742,7 +763,7 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
 
         assertEquals(1, startConvolution);
         assertEquals(1, finishConvolution);
-        assertEquals(7, convolveProgressChange);
+        assertEquals(3, convolveProgressChange);
 
         reset();
 
@@ -842,6 +863,114 @@ class Convolver1DTest implements Convolver1D.Convolver1DListener {
         assertEquals(2.0, Convolver1D.getSignalValueMirror(signal, 11), 0.0);
     }
 
+    @Test
+    void testConvolveDirect() {
+        final var randomizer = new UniformRandomizer();
+
+        for (var t = 0; t < TIMES; t++) {
+            final var signalLength = randomizer.nextInt(1, 3 * Convolver1D.DIRECT_BLOCK_LENGTH);
+            final var kernelLength = randomizer.nextInt(1, 50);
+            final var signal = new double[signalLength];
+            final var kernel = new double[kernelLength];
+            randomizer.fill(signal, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            randomizer.fill(kernel, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var kernelCenter = randomizer.nextInt(0, kernelLength);
+            final var constantValue = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            for (final var edgeMethod : ConvolverEdgeMethod.values()) {
+                reset();
+                final var result = Convolver1D.convolve(signal, kernel, kernelCenter, edgeMethod, constantValue,
+                        ConvolverAlgorithm.DIRECT, this);
+
+                assertEquals(1, startConvolution);
+                assertEquals(1, finishConvolution);
+                assertTrue(convolveProgressChange > 0);
+                assertTrue(convolveProgressChange <= 2 + (result.length - 1) / Convolver1D.DIRECT_BLOCK_LENGTH + 1);
+
+                // result is identical to convolving each sample independently
+                for (var i = 0; i < result.length; i++) {
+                    var expected = 0.0;
+                    for (var j = 0; j < kernelLength; j++) {
+                        final var pos = i - kernelCenter - j;
+                        final double value = switch (edgeMethod) {
+                            case MIRROR_EDGE -> Convolver1D.getSignalValueMirror(signal, pos);
+                            case REPEAT_EDGE -> Convolver1D.getSignalValueRepeat(signal, pos);
+                            case CONSTANT_EDGE -> Convolver1D.getSignalValueConstant(signal, pos, constantValue);
+                            default -> Convolver1D.getSignalValueZero(signal, pos);
+                        };
+                        expected += value * kernel[j];
+                    }
+                    assertEquals(expected, result[i], 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testConvolveFFT() {
+        final var randomizer = new UniformRandomizer();
+
+        for (var t = 0; t < TIMES; t++) {
+            final var signalLength = randomizer.nextInt(1, 3000);
+            final var kernelLength = randomizer.nextInt(1, 300);
+            final var signal = new double[signalLength];
+            final var kernel = new double[kernelLength];
+            randomizer.fill(signal, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            randomizer.fill(kernel, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var kernelCenter = randomizer.nextInt(0, kernelLength);
+            final var constantValue = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            for (final var edgeMethod : ConvolverEdgeMethod.values()) {
+                final var expected = Convolver1D.convolve(signal, kernel, kernelCenter, edgeMethod, constantValue,
+                        ConvolverAlgorithm.DIRECT, null);
+
+                reset();
+                final var result = Convolver1D.convolve(signal, kernel, kernelCenter, edgeMethod, constantValue,
+                        ConvolverAlgorithm.FFT, this);
+
+                assertEquals(1, startConvolution);
+                assertEquals(1, finishConvolution);
+                assertTrue(convolveProgressChange > 0);
+                assertEquals(expected.length, result.length);
+
+                var scale = 1.0;
+                for (final var value : expected) {
+                    scale = Math.max(scale, Math.abs(value));
+                }
+                assertArrayEquals(expected, result, FFT_RELATIVE_ERROR * scale);
+            }
+        }
+    }
+
+    @Test
+    void testConvolveAutomatic() {
+        final var randomizer = new UniformRandomizer();
+
+        final var signal = new double[1000];
+        randomizer.fill(signal, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var shortKernel = new double[Convolver1D.FFT_KERNEL_LENGTH_THRESHOLD - 1];
+        randomizer.fill(shortKernel, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var longKernel = new double[Convolver1D.FFT_KERNEL_LENGTH_THRESHOLD];
+        randomizer.fill(longKernel, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var convolver = new Convolver1D(signal, shortKernel);
+        convolver.setKernelCenter(shortKernel.length / 2);
+        convolver.setEdgeMethod(ConvolverEdgeMethod.MIRROR_EDGE);
+
+        // short kernels are directly convolved
+        assertArrayEquals(Convolver1D.convolve(signal, shortKernel, shortKernel.length / 2,
+                ConvolverEdgeMethod.MIRROR_EDGE, 0.0, ConvolverAlgorithm.DIRECT, null), convolver.convolve(),
+                0.0);
+
+        // long kernels are convolved by means of FFT
+        convolver.setKernel(longKernel);
+        convolver.setKernelCenter(longKernel.length / 2);
+        final var result = new double[signal.length + longKernel.length - 1];
+        convolver.convolve(result);
+        assertArrayEquals(Convolver1D.convolve(signal, longKernel, longKernel.length / 2,
+                ConvolverEdgeMethod.MIRROR_EDGE, 0.0, ConvolverAlgorithm.FFT, null), result, 0.0);
+    }
+
     private void reset() {
         startConvolution = finishConvolution = convolveProgressChange = 0;
     }
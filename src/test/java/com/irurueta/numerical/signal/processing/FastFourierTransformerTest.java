@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastFourierTransformerTest {
+
+    private static final double MIN_RANDOM_VALUE = -10.0;
+    private static final double MAX_RANDOM_VALUE = 10.0;
+
+    private static final int MIN_LENGTH = 1;
+    private static final int MAX_LENGTH = 300;
+
+    private static final double ABSOLUTE_ERROR = 1e-9;
+
+    private static final int TIMES = 20;
+
+    @Test
+    void testGetTransformLength() {
+        assertEquals(1, FastFourierTransformer.getTransformLength(1));
+        assertEquals(2, FastFourierTransformer.getTransformLength(2));
+        assertEquals(4, FastFourierTransformer.getTransformLength(3));
+        assertEquals(4, FastFourierTransformer.getTransformLength(4));
+        assertEquals(8, FastFourierTransformer.getTransformLength(5));
+        assertEquals(1024, FastFourierTransformer.getTransformLength(1000));
+        assertEquals(FastFourierTransformer.MAX_TRANSFORM_LENGTH,
+                FastFourierTransformer.getTransformLength(FastFourierTransformer.MAX_TRANSFORM_LENGTH));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> FastFourierTransformer.getTransformLength(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> FastFourierTransformer.getTransformLength(FastFourierTransformer.MAX_TRANSFORM_LENGTH + 1));
+    }
+
+    @Test
+    void testTransform() {
+        final var randomizer = new UniformRandomizer();
+        final var transformer = new FastFourierTransformer();
+        for (var t = 0; t < TIMES; t++) {
+            final var n = 1 << randomizer.nextInt(0, 8);
+            final var re = new double[n];
+            final var im = new double[n];
+            randomizer.fill(re, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            randomizer.fill(im, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var re2 = re.clone();
+            final var im2 = im.clone();
+
+            transformer.transform(re2, im2, n);
+
+            // compare with direct evaluation of discrete Fourier transform
+            for (var k = 0; k < n; k++) {
+                var sumRe = 0.0;
+                var sumIm = 0.0;
+                for (var j = 0; j < n; j++) {
+                    final var angle = -2.0 * Math.PI * j * k / n;
+                    sumRe += re[j] * Math.cos(angle) - im[j] * Math.sin(angle);
+                    sumIm += re[j] * Math.sin(angle) + im[j] * Math.cos(angle);
+                }
+                assertEquals(sumRe, re2[k], ABSOLUTE_ERROR);
+                assertEquals(sumIm, im2[k], ABSOLUTE_ERROR);
+            }
+
+            // inverse transform restores original sequence
+            transformer.inverseTransform(re2, im2, n);
+            assertArrayEquals(re, re2, ABSOLUTE_ERROR);
+            assertArrayEquals(im, im2, ABSOLUTE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> transformer.transform(new double[3], new double[3], 3));
+        assertThrows(IllegalArgumentException.class, () -> transformer.transform(new double[2], new double[4], 4));
+        assertThrows(IllegalArgumentException.class, () -> transformer.transform(null, new double[4], 4));
+        assertThrows(IllegalArgumentException.class,
+                () -> transformer.inverseTransform(new double[4], new double[4], 0));
+    }
+
+    @Test
+    void testConvolve() {
+        final var randomizer = new UniformRandomizer();
+        final var transformer = new FastFourierTransformer();
+        for (var t = 0; t < TIMES; t++) {
+            final var a = new double[randomizer.nextInt(MIN_LENGTH, MAX_LENGTH)];
+            final var b = new double[randomizer.nextInt(MIN_LENGTH, MAX_LENGTH)];
+            randomizer.fill(a, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            randomizer.fill(b, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var expected = new double[a.length + b.length - 1];
+            for (var i = 0; i < a.length; i++) {
+                for (var j = 0; j < b.length; j++) {
+                    expected[i + j] += a[i] * b[j];
+                }
+            }
+
+            final var result = transformer.convolve(a, b);
+            assertArrayEquals(expected, result, ABSOLUTE_ERROR);
+
+            // convolve ranges within larger arrays
+            final var offset = randomizer.nextInt(0, 10);
+            final var a2 = new double[a.length + offset];
+            final var b2 = new double[b.length + offset];
+            System.arraycopy(a, 0, a2, offset, a.length);
+            System.arraycopy(b, 0, b2, offset, b.length);
+            final var result2 = new double[expected.length + offset];
+            transformer.convolve(a2, offset, a.length, b2, offset, b.length, result2, offset);
+            for (var i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], result2[offset + i], ABSOLUTE_ERROR);
+            }
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> transformer.convolve(null, new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> transformer.convolve(new double[0], new double[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> transformer.convolve(new double[2], 1, 2, new double[2], 0, 2, new double[3], 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> transformer.convolve(new double[2], 0, 2, new double[2], 0, 2, new double[3], 1));
+
+        // buffers can be released
+        transformer.releaseWorkspace();
+        assertArrayEquals(new double[]{3.0, 10.0, 8.0}, transformer.convolve(new double[]{1.0, 2.0},
+                new double[]{3.0, 4.0}), ABSOLUTE_ERROR);
+    }
+}
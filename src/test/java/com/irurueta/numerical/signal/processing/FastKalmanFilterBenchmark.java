@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing {@link FastKalmanFilter} with {@link KalmanFilter}.
+ * For several numbers of dynamic and measurement parameters, it measures one
+ * predict and correct step of both filters, configured with the same
+ * matrices. Memory allocated by each step can be obtained by running it with
+ * the GC profiler (-prof gc), which reports it as gc.alloc.rate.norm.
+ * This is not a unit test. Once test sources are compiled, it can be run with:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/classes:target/test-classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main FastKalmanFilterBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FastKalmanFilterBenchmark {
+
+    private static final int MEASUREMENTS = 1 << 10;
+
+    /**
+     * Diagonal and coupling of transition matrix, which is stable so that
+     * covariance of unobserved states remains bounded across many steps.
+     */
+    private static final double TRANSITION_DIAGONAL = 0.99;
+
+    private static final double TRANSITION_COUPLING = 0.01;
+
+    /**
+     * Number of dynamic and measurement parameters separated by "x".
+     */
+    @Param({"1x1", "2x1", "3x1", "4x2", "6x3", "9x3", "12x6"})
+    public String size;
+
+    private KalmanFilter kalman;
+
+    private FastKalmanFilter fast;
+
+    private Matrix[] measurements;
+
+    private double[][] measurementArrays;
+
+    private int position;
+
+    @Setup
+    public void setUp() throws AlgebraException, SignalProcessingException {
+        final var separator = size.indexOf('x');
+        final var dp = Integer.parseInt(size.substring(0, separator));
+        final var mp = Integer.parseInt(size.substring(separator + 1));
+
+        kalman = new KalmanFilter(dp, mp);
+        final var transitionMatrix = Matrix.identity(dp, dp);
+        transitionMatrix.multiplyByScalar(TRANSITION_DIAGONAL);
+        for (var i = 0; i + 1 < dp; i++) {
+            transitionMatrix.setElementAt(i, i + 1, TRANSITION_COUPLING);
+        }
+        kalman.setTransitionMatrix(transitionMatrix);
+        fast = new FastKalmanFilter(kalman);
+
+        final var random = new Random(0);
+        measurements = new Matrix[MEASUREMENTS];
+        measurementArrays = new double[MEASUREMENTS][];
+        for (var s = 0; s < MEASUREMENTS; s++) {
+            measurements[s] = new Matrix(mp, 1);
+            for (var i = 0; i < mp; i++) {
+                measurements[s].setElementAtIndex(i, random.nextGaussian());
+            }
+            measurementArrays[s] = measurements[s].getBuffer();
+        }
+    }
+
+    @Benchmark
+    public Matrix kalmanFilter() throws SignalProcessingException {
+        kalman.predict();
+        return kalman.correct(measurements[nextPosition()]);
+    }
+
+    @Benchmark
+    public double[] fastKalmanFilter() throws SignalProcessingException {
+        fast.predict();
+        return fast.correct(measurementArrays[nextPosition()]);
+    }
+
+    private int nextPosition() {
+        position = (position + 1) & (MEASUREMENTS - 1);
+        return position;
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastKalmanFilterTest {
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double RELATIVE_ERROR = 1e-9;
+
+    private static final int MAX_PARAMS = 10;
+
+    private static final int STEPS = 50;
+
+    private static final int TIMES = 20;
+
+    @Test
+    void testConstructor() {
+        var filter = new FastKalmanFilter(6, 9, -1);
+
+        // check correctness
+        assertEquals(6, filter.getDynamicParameters());
+        assertEquals(9, filter.getMeasureParameters());
+        // and because control parameters were set to negative value...
+        assertEquals(6, filter.getControlParameters());
+
+        assertEquals(6, filter.getStatePre().length);
+        assertEquals(6, filter.getStatePost().length);
+        assertEquals(36, filter.getTransitionMatrix().length);
+        assertEquals(36, filter.getProcessNoiseCov().length);
+        assertEquals(54, filter.getMeasurementMatrix().length);
+        assertEquals(81, filter.getMeasurementNoiseCov().length);
+        assertEquals(36, filter.getErrorCovPre().length);
+        assertEquals(36, filter.getErrorCovPost().length);
+        assertEquals(54, filter.getGain().length);
+        assertEquals(36, filter.getControlMatrix().length);
+
+        // check default values are equal to KalmanFilter ones
+        for (var i = 0; i < 6; i++) {
+            for (var j = 0; j < 6; j++) {
+                final var delta = i == j ? 1.0 : 0.0;
+                assertEquals(delta, filter.getTransitionMatrix()[i * 6 + j], 0.0);
+                assertEquals(delta * KalmanFilter.DEFAULT_PROCESS_NOISE_VARIANCE,
+                        filter.getProcessNoiseCov()[i * 6 + j], 0.0);
+                assertEquals(delta, filter.getErrorCovPost()[i * 6 + j], 0.0);
+                assertEquals(0.0, filter.getErrorCovPre()[i * 6 + j], 0.0);
+            }
+        }
+        for (var i = 0; i < 9; i++) {
+            for (var j = 0; j < 6; j++) {
+                assertEquals(i == j ? 1.0 : 0.0, filter.getMeasurementMatrix()[i * 6 + j], 0.0);
+            }
+            for (var j = 0; j < 9; j++) {
+                assertEquals(i == j ? KalmanFilter.DEFAULT_MEASUREMENT_NOISE_VARIANCE : 0.0,
+                        filter.getMeasurementNoiseCov()[i * 9 + j], 0.0);
+            }
+        }
+
+        // test with control parameters
+        filter = new FastKalmanFilter(6, 9, 1);
+
+        // check correctness
+        assertEquals(6, filter.getDynamicParameters());
+        assertEquals(9, filter.getMeasureParameters());
+        assertEquals(1, filter.getControlParameters());
+        assertEquals(6, filter.getControlMatrix().length);
+
+        // test without control parameters
+        filter = new FastKalmanFilter(6, 9);
+
+        // check correctness
+        assertEquals(6, filter.getDynamicParameters());
+        assertEquals(9, filter.getMeasureParameters());
+        assertEquals(0, filter.getControlParameters());
+        assertNull(filter.getControlMatrix());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new FastKalmanFilter(0, 9, 1));
+        assertThrows(IllegalArgumentException.class, () -> new FastKalmanFilter(6, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new FastKalmanFilter(null));
+    }
+
+    @Test
+    void testConstructorFromKalmanFilter() throws SignalProcessingException, WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var kalman = new KalmanFilter(4, 2, 1);
+        configure(kalman, randomizer);
+        kalman.predict(randomMatrix(1, 1, randomizer));
+        kalman.correct(randomMatrix(2, 1, randomizer));
+
+        final var filter = new FastKalmanFilter(kalman);
+
+        assertEquals(4, filter.getDynamicParameters());
+        assertEquals(2, filter.getMeasureParameters());
+        assertEquals(1, filter.getControlParameters());
+        assertMatrixEquals(kalman.getStatePre(), filter.getStatePre(), 0.0);
+        assertMatrixEquals(kalman.getStatePost(), filter.getStatePost(), 0.0);
+        assertMatrixEquals(kalman.getTransitionMatrix(), filter.getTransitionMatrix(), 0.0);
+        assertMatrixEquals(kalman.getControlMatrix(), filter.getControlMatrix(), 0.0);
+        assertMatrixEquals(kalman.getMeasurementMatrix(), filter.getMeasurementMatrix(), 0.0);
+        assertMatrixEquals(kalman.getProcessNoiseCov(), filter.getProcessNoiseCov(), 0.0);
+        assertMatrixEquals(kalman.getMeasurementNoiseCov(), filter.getMeasurementNoiseCov(), 0.0);
+        assertMatrixEquals(kalman.getErrorCovPre(), filter.getErrorCovPre(), RELATIVE_ERROR);
+        assertMatrixEquals(kalman.getGain(), filter.getGain(), 0.0);
+        assertMatrixEquals(kalman.getErrorCovPost(), filter.getErrorCovPost(), RELATIVE_ERROR);
+    }
+
+    @Test
+    void testGetSetStates() {
+        final var filter = new FastKalmanFilter(3, 2);
+
+        // set new values
+        final var statePre = new double[]{1.0, 2.0, 3.0};
+        filter.setStatePre(statePre);
+        final var statePost = new double[]{4.0, 5.0, 6.0};
+        filter.setStatePost(statePost);
+
+        // check correctness. Values are copied
+        assertArrayEquals(statePre, filter.getStatePre(), 0.0);
+        assertNotSame(statePre, filter.getStatePre());
+        assertArrayEquals(statePost, filter.getStatePost(), 0.0);
+        assertNotSame(statePost, filter.getStatePost());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> filter.setStatePre(null));
+        assertThrows(IllegalArgumentException.class, () -> filter.setStatePre(new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> filter.setStatePost(null));
+        assertThrows(IllegalArgumentException.class, () -> filter.setStatePost(new double[4]));
+    }
+
+    @Test
+    void testGetSetMatrices() {
+        final var filter = new FastKalmanFilter(2, 1, 1);
+
+        // set new values
+        final var transitionMatrix = new double[]{1.0, 2.0, 3.0, 4.0};
+        filter.setTransitionMatrix(transitionMatrix);
+        final var controlMatrix = new double[]{5.0, 6.0};
+        filter.setControlMatrix(controlMatrix);
+        final var measurementMatrix = new double[]{7.0, 8.0};
+        filter.setMeasurementMatrix(measurementMatrix);
+
+        // check correctness
+        assertArrayEquals(transitionMatrix, filter.getTransitionMatrix(), 0.0);
+        assertArrayEquals(controlMatrix, filter.getControlMatrix(), 0.0);
+        assertArrayEquals(measurementMatrix, filter.getMeasurementMatrix(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> filter.setTransitionMatrix(new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> filter.setControlMatrix(new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> filter.setMeasurementMatrix(new double[4]));
+
+        final var filter2 = new FastKalmanFilter(2, 1);
+        assertThrows(IllegalArgumentException.class, () -> filter2.setControlMatrix(controlMatrix));
+    }
+
+    @Test
+    void testGetSetCovariances() {
+        final var filter = new FastKalmanFilter(2, 2);
+
+        // set new values
+        final var processNoiseCov = new double[]{1.0, 0.5, 0.5, 2.0};
+        filter.setProcessNoiseCov(processNoiseCov);
+        final var measurementNoiseCov = new double[]{3.0, 0.1, 0.1, 4.0};
+        filter.setMeasurementNoiseCov(measurementNoiseCov);
+        final var errorCovPre = new double[]{5.0, -1.0, -1.0, 6.0};
+        filter.setErrorCovPre(errorCovPre);
+        final var errorCovPost = new double[]{7.0, 2.0, 2.0 + 1e-13, 8.0};
+        filter.setErrorCovPost(errorCovPost);
+
+        // check correctness
+        assertArrayEquals(processNoiseCov, filter.getProcessNoiseCov(), 0.0);
+        assertArrayEquals(measurementNoiseCov, filter.getMeasurementNoiseCov(), 0.0);
+        assertArrayEquals(errorCovPre, filter.getErrorCovPre(), 0.0);
+        // nearly symmetric matrices are made exactly symmetric
+        assertArrayEquals(errorCovPost, filter.getErrorCovPost(), 1e-13);
+        assertEquals(filter.getErrorCovPost()[1], filter.getErrorCovPost()[2], 0.0);
+
+        // symmetry tolerance is relative to magnitude of matrix
+        final var largeCov = new double[]{1e8, 5e7, 5e7 + 1e-5, 2e8};
+        filter.setProcessNoiseCov(largeCov);
+        assertEquals(filter.getProcessNoiseCov()[1], filter.getProcessNoiseCov()[2], 0.0);
+        assertEquals(5e7, filter.getProcessNoiseCov()[1], 1e-5);
+        final var smallAsymmetric = new double[]{1e-6, 0.0, 1e-12, 1e-6};
+        assertThrows(IllegalArgumentException.class, () -> filter.setMeasurementNoiseCov(smallAsymmetric));
+
+        // Force IllegalArgumentException
+        final var asymmetric = new double[]{1.0, 0.0, 1.0, 1.0};
+        assertThrows(IllegalArgumentException.class, () -> filter.setProcessNoiseCov(asymmetric));
+        assertThrows(IllegalArgumentException.class, () -> filter.setMeasurementNoiseCov(asymmetric));
+        assertThrows(IllegalArgumentException.class, () -> filter.setErrorCovPre(asymmetric));
+        assertThrows(IllegalArgumentException.class, () -> filter.setErrorCovPost(asymmetric));
+        assertThrows(IllegalArgumentException.class, () -> filter.setProcessNoiseCov(null));
+        assertThrows(IllegalArgumentException.class, () -> filter.setMeasurementNoiseCov(new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> filter.setErrorCovPre(new double[9]));
+        assertThrows(IllegalArgumentException.class, () -> filter.setErrorCovPost(new double[1]));
+    }
+
+    @Test
+    void testPredictAndCorrectMatchesKalmanFilter() throws SignalProcessingException, WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+
+        for (var t = 0; t < TIMES; t++) {
+            final var dp = randomizer.nextInt(1, MAX_PARAMS);
+            final var mp = randomizer.nextInt(1, MAX_PARAMS);
+            final var cp = randomizer.nextInt(0, 3);
+
+            final var kalman = new KalmanFilter(dp, mp, cp);
+            configure(kalman, randomizer);
+            final var filter = new FastKalmanFilter(kalman);
+
+            for (var step = 0; step < STEPS; step++) {
+                final var control = cp > 0 ? randomMatrix(cp, 1, randomizer) : null;
+                final var expectedStatePre = kalman.predict(control);
+                final var statePre = filter.predict(control != null ? control.getBuffer() : null);
+
+                assertSame(filter.getStatePre(), statePre);
+                assertMatrixEquals(expectedStatePre, statePre, RELATIVE_ERROR);
+                assertMatrixEquals(kalman.getErrorCovPre(), filter.getErrorCovPre(), RELATIVE_ERROR);
+
+                final var measurement = randomMatrix(mp, 1, randomizer);
+                final var expectedStatePost = kalman.correct(measurement);
+                final var statePost = filter.correct(measurement.getBuffer());
+
+                assertSame(filter.getStatePost(), statePost);
+                assertMatrixEquals(expectedStatePost, statePost, RELATIVE_ERROR);
+                assertMatrixEquals(kalman.getGain(), filter.getGain(), RELATIVE_ERROR);
+                assertMatrixEquals(kalman.getErrorCovPost(), filter.getErrorCovPost(), RELATIVE_ERROR);
+            }
+        }
+    }
+
+    @Test
+    void testPredictAndCorrectPositionSpeedAndAcceleration() throws SignalProcessingException {
+        // noisy measures of constant acceleration are used to estimate
+        // position, speed and acceleration
+        final var filter = new FastKalmanFilter(3, 1);
+        filter.setTransitionMatrix(new double[]{
+                1.0, 1.0, 0.5,
+                0.0, 1.0, 1.0,
+                0.0, 0.0, 1.0});
+        filter.setMeasurementMatrix(new double[]{0.0, 0.0, 1.0});
+
+        final var randomizer = new UniformRandomizer();
+        final var acceleration = randomizer.nextDouble();
+        final var measurement = new double[1];
+        for (var step = 0; step < 500; step++) {
+            filter.predict();
+            measurement[0] = acceleration + randomizer.nextDouble(-0.1, 0.1);
+            filter.correct(measurement);
+        }
+
+        assertEquals(acceleration, filter.getStatePost()[2], 0.05);
+    }
+
+    @Test
+    void testPredictAndCorrectInvalidArguments() {
+        final var filter = new FastKalmanFilter(2, 1, 1);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> filter.predict(new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> filter.correct(null));
+        assertThrows(IllegalArgumentException.class, () -> filter.correct(new double[2]));
+
+        // Force SignalProcessingException
+        filter.setMeasurementNoiseCov(new double[]{0.0});
+        filter.setMeasurementMatrix(new double[]{0.0, 0.0});
+        filter.predict();
+        assertThrows(SignalProcessingException.class, () -> filter.correct(new double[1]));
+    }
+
+    private static void configure(final KalmanFilter kalman, final UniformRandomizer randomizer)
+            throws WrongSizeException {
+        final var dp = kalman.getDynamicParameters();
+        final var mp = kalman.getMeasureParameters();
+        final var cp = kalman.getControlParameters();
+
+        // scaled so that the filter is stable and rounding errors are not
+        // amplified on each step
+        final var transitionMatrix = randomMatrix(dp, dp, randomizer);
+        transitionMatrix.multiplyByScalar(1.0 / dp);
+        kalman.setTransitionMatrix(transitionMatrix);
+        if (cp > 0) {
+            kalman.setControlMatrix(randomMatrix(dp, cp, randomizer));
+        }
+        kalman.setMeasurementMatrix(randomMatrix(mp, dp, randomizer));
+        kalman.setProcessNoiseCov(randomCovariance(dp, randomizer));
+        kalman.setMeasurementNoiseCov(randomCovariance(mp, randomizer));
+        kalman.setErrorCovPost(randomCovariance(dp, randomizer));
+        kalman.setStatePost(randomMatrix(dp, 1, randomizer));
+    }
+
+    private static Matrix randomMatrix(final int rows, final int columns, final UniformRandomizer randomizer)
+            throws WrongSizeException {
+        final var result = new Matrix(rows, columns);
+        randomizer.fill(result.getBuffer(), MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        return result;
+    }
+
+    private static Matrix randomCovariance(final int n, final UniformRandomizer randomizer)
+            throws WrongSizeException {
+        // M*Mt + I is symmetric positive definite
+        final var m = randomMatrix(n, n, randomizer);
+        final var result = new Matrix(n, n);
+        for (var i = 0; i < n; i++) {
+            for (var j = 0; j <= i; j++) {
+                var value = i == j ? 1.0 : 0.0;
+                for (var k = 0; k < n; k++) {
+                    value += m.getElementAt(i, k) * m.getElementAt(j, k);
+                }
+                result.setElementAt(i, j, value);
+                result.setElementAt(j, i, value);
+            }
+        }
+        return result;
+    }
+
+    private static void assertMatrixEquals(final Matrix expected, final double[] actual,
+                                           final double relativeError) {
+        final var rows = expected.getRows();
+        final var columns = expected.getColumns();
+        assertEquals(rows * columns, actual.length);
+
+        var scale = 1.0;
+        for (var i = 0; i < rows * columns; i++) {
+            scale = Math.max(scale, Math.abs(expected.getElementAtIndex(i)));
+        }
+        for (var i = 0; i < rows; i++) {
+            for (var j = 0; j < columns; j++) {
+                assertEquals(expected.getElementAt(i, j), actual[i * columns + j],
+                        relativeError * scale);
+            }
+        }
+    }
+}
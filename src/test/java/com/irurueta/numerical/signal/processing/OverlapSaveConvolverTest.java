@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OverlapSaveConvolverTest {
+
+    private static final double MIN_RANDOM_VALUE = -1.0;
+    private static final double MAX_RANDOM_VALUE = 1.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-11;
+
+    private static final int TIMES = 20;
+
+    @Test
+    void testGetTransformLength() {
+        // transform length is a power of 2 able to hold the kernel
+        assertEquals(64, OverlapSaveConvolver.getTransformLength(1, 1000));
+        assertEquals(512, OverlapSaveConvolver.getTransformLength(100, 1000));
+
+        // transform is not longer than needed for short outputs
+        assertEquals(16, OverlapSaveConvolver.getTransformLength(10, 7));
+        assertEquals(1, OverlapSaveConvolver.getTransformLength(1, 1));
+
+        // preferred length for sequences of any length
+        assertEquals(64, OverlapSaveConvolver.getTransformLength(1));
+        assertEquals(512, OverlapSaveConvolver.getTransformLength(100));
+    }
+
+    @Test
+    void testConvolve() {
+        final var randomizer = new UniformRandomizer();
+
+        for (var t = 0; t < TIMES; t++) {
+            final var kernelLength = randomizer.nextInt(1, 100);
+            final var outputLength = randomizer.nextInt(1, 5000);
+            final var inputOffset = randomizer.nextInt(0, 10);
+            final var outputOffset = randomizer.nextInt(0, 10);
+
+            final var kernel = new double[kernelLength];
+            final var input = new double[inputOffset + outputLength + kernelLength - 1];
+            randomizer.fill(kernel, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            randomizer.fill(input, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var convolver = new OverlapSaveConvolver(kernel,
+                    OverlapSaveConvolver.getTransformLength(kernelLength, outputLength));
+            assertTrue(convolver.getBlockLength() >= 1);
+
+            final var output = new double[outputOffset + outputLength];
+            convolver.convolve(input, inputOffset, outputLength, output, outputOffset, null);
+
+            for (var n = 0; n < outputLength; n++) {
+                var expected = 0.0;
+                for (var j = 0; j < kernelLength; j++) {
+                    expected += input[inputOffset + n + kernelLength - 1 - j] * kernel[j];
+                }
+                assertEquals(expected, output[outputOffset + n], ABSOLUTE_ERROR);
+            }
+
+            // convolving again reuses buffers and yields the same result
+            final var output2 = new double[outputOffset + outputLength];
+            convolver.convolve(input, inputOffset, outputLength, output2, outputOffset, null);
+            assertArrayEquals(output, output2, 0.0);
+        }
+    }
+}
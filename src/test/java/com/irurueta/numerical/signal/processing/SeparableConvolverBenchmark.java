@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing {@link SeparableConvolver} with a reference 2D
+ * convolution that loops {@link Convolver1D} over rows and columns, copying
+ * each column into a temporary array.
+ * For several kernel lengths, it measures the reference convolution and the
+ * separable convolver for several tile widths on a single thread. The tile
+ * width that is fastest for usual kernel lengths is used to set
+ * {@link SeparableConvolver#DEFAULT_TILE_WIDTH}.
+ * This is not a unit test. Once test sources are compiled, it can be run with:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/classes:target/test-classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main SeparableConvolverBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeparableConvolverBenchmark {
+
+    private static final int ROWS = 1024;
+
+    private static final int COLUMNS = 1024;
+
+    private static final ConvolverEdgeMethod EDGE_METHOD = ConvolverEdgeMethod.MIRROR_EDGE;
+
+    @State(Scope.Thread)
+    public static class Data {
+
+        @Param({"3", "7", "15", "31"})
+        public int kernelLength;
+
+        double[] signal;
+
+        double[] kernel;
+
+        int kernelCenter;
+
+        double[] result;
+
+        @Setup
+        public void setUp() {
+            final var random = new Random(0);
+            signal = new double[ROWS * COLUMNS];
+            for (var i = 0; i < signal.length; i++) {
+                signal[i] = random.nextDouble();
+            }
+            kernel = new double[kernelLength];
+            for (var i = 0; i < kernelLength; i++) {
+                kernel[i] = random.nextDouble();
+            }
+            kernelCenter = kernelLength / 2;
+            result = new double[(ROWS + kernelLength - 1) * (COLUMNS + kernelLength - 1)];
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Tiling {
+
+        @Param({"1", "8", "16", "32", "64", "128", "256"})
+        public int tileWidth;
+
+        SeparableConvolver convolver;
+
+        @Setup
+        public void setUp() {
+            convolver = new SeparableConvolver();
+            convolver.setEdgeMethod(EDGE_METHOD);
+            convolver.setAlgorithm(ConvolverAlgorithm.DIRECT);
+            convolver.setTileWidth(tileWidth);
+        }
+    }
+
+    @Benchmark
+    public double[] reference(final Data data) {
+        final var kernel = data.kernel;
+        final var kernelCenter = data.kernelCenter;
+        final var result = data.result;
+        final var resultRows = ROWS + kernel.length - 1;
+        final var resultColumns = COLUMNS + kernel.length - 1;
+        final var row = new double[COLUMNS];
+        final var convolvedRows = new double[ROWS * resultColumns];
+        for (var i = 0; i < ROWS; i++) {
+            System.arraycopy(data.signal, i * COLUMNS, row, 0, COLUMNS);
+            final var convolvedRow = Convolver1D.convolve(row, kernel, kernelCenter, EDGE_METHOD, 0.0,
+                    ConvolverAlgorithm.DIRECT, null);
+            System.arraycopy(convolvedRow, 0, convolvedRows, i * resultColumns, resultColumns);
+        }
+
+        final var column = new double[ROWS];
+        for (var j = 0; j < resultColumns; j++) {
+            for (var i = 0; i < ROWS; i++) {
+                column[i] = convolvedRows[i * resultColumns + j];
+            }
+            final var convolvedColumn = Convolver1D.convolve(column, kernel, kernelCenter, EDGE_METHOD, 0.0,
+                    ConvolverAlgorithm.DIRECT, null);
+            for (var i = 0; i < resultRows; i++) {
+                result[i * resultColumns + j] = convolvedColumn[i];
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double[] separable(final Data data, final Tiling tiling) throws SignalProcessingException {
+        tiling.convolver.convolve(data.signal, new int[]{ROWS, COLUMNS}, new double[][]{data.kernel, data.kernel},
+                new int[]{data.kernelCenter, data.kernelCenter}, data.result);
+        return data.result;
+    }
+}
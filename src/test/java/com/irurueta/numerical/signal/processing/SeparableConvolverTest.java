@@ -0,0 +1,457 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeparableConvolverTest {
+
+    private static final double MIN_RANDOM_VALUE = -10.0;
+    private static final double MAX_RANDOM_VALUE = 10.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-9;
+
+    private static final double FFT_RELATIVE_ERROR = 1e-12;
+
+    private static final int MAX_LENGTH = 100;
+
+    private static final int MAX_KERNEL_LENGTH = 9;
+
+    private static final int TIMES = 10;
+
+    @Test
+    void testConstructor() {
+        final var convolver = new SeparableConvolver();
+
+        // check default values
+        assertEquals(ConvolverEdgeMethod.ZERO_EDGE, convolver.getEdgeMethod());
+        assertEquals(0.0, convolver.getConstantValue(), 0.0);
+        assertEquals(ConvolverAlgorithm.AUTOMATIC, convolver.getAlgorithm());
+        assertEquals(SeparableConvolver.DEFAULT_TILE_WIDTH, convolver.getTileWidth());
+        assertEquals(SeparableConvolver.DEFAULT_PARALLELISM, convolver.getParallelism());
+        assertNull(convolver.getExecutor());
+    }
+
+    @Test
+    void testGetSetEdgeMethod() {
+        final var convolver = new SeparableConvolver();
+
+        // set new value
+        convolver.setEdgeMethod(ConvolverEdgeMethod.MIRROR_EDGE);
+
+        // check
+        assertEquals(ConvolverEdgeMethod.MIRROR_EDGE, convolver.getEdgeMethod());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> convolver.setEdgeMethod(null));
+    }
+
+    @Test
+    void testGetSetConstantValue() {
+        final var convolver = new SeparableConvolver();
+
+        // set new value
+        convolver.setConstantValue(5.0);
+
+        // check
+        assertEquals(5.0, convolver.getConstantValue(), 0.0);
+    }
+
+    @Test
+    void testGetSetAlgorithm() {
+        final var convolver = new SeparableConvolver();
+
+        // set new value
+        convolver.setAlgorithm(ConvolverAlgorithm.FFT);
+
+        // check
+        assertEquals(ConvolverAlgorithm.FFT, convolver.getAlgorithm());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> convolver.setAlgorithm(null));
+    }
+
+    @Test
+    void testGetSetTileWidth() {
+        final var convolver = new SeparableConvolver();
+
+        // set new value
+        convolver.setTileWidth(8);
+
+        // check
+        assertEquals(8, convolver.getTileWidth());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> convolver.setTileWidth(0));
+    }
+
+    @Test
+    void testGetSetParallelism() {
+        final var convolver = new SeparableConvolver();
+
+        // set new value
+        convolver.setParallelism(4);
+
+        // check
+        assertEquals(4, convolver.getParallelism());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> convolver.setParallelism(0));
+    }
+
+    @Test
+    void testGetSetExecutor() {
+        final var convolver = new SeparableConvolver();
+
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            // set new value
+            convolver.setExecutor(executor);
+
+            // check
+            assertSame(executor, convolver.getExecutor());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testGetResultDimensions() {
+        assertArrayEquals(new int[]{12, 7, 1}, SeparableConvolver.getResultDimensions(new int[]{10, 5, 1},
+                new double[][]{new double[3], new double[3], new double[1]}));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> SeparableConvolver.getResultDimensions(null,
+                new double[1][1]));
+        assertThrows(IllegalArgumentException.class, () -> SeparableConvolver.getResultDimensions(new int[1],
+                null));
+        assertThrows(IllegalArgumentException.class, () -> SeparableConvolver.getResultDimensions(new int[0],
+                new double[0][]));
+        assertThrows(IllegalArgumentException.class, () -> SeparableConvolver.getResultDimensions(new int[2],
+                new double[1][1]));
+        assertThrows(IllegalArgumentException.class, () -> SeparableConvolver.getResultDimensions(new int[1],
+                new double[1][]));
+    }
+
+    @Test
+    void testConvolve2DMatchesConvolver1D() throws SignalProcessingException {
+        final var randomizer = new UniformRandomizer();
+
+        for (final var edgeMethod : ConvolverEdgeMethod.values()) {
+            for (var t = 0; t < TIMES; t++) {
+                final var rows = randomizer.nextInt(1, MAX_LENGTH);
+                final var columns = randomizer.nextInt(1, MAX_LENGTH);
+                final var signal = new double[rows * columns];
+                randomizer.fill(signal, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                final var horizontalKernel = new double[randomizer.nextInt(1, MAX_KERNEL_LENGTH)];
+                randomizer.fill(horizontalKernel, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                final var verticalKernel = new double[randomizer.nextInt(1, MAX_KERNEL_LENGTH)];
+                randomizer.fill(verticalKernel, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                final var horizontalCenter = randomizer.nextInt(0, horizontalKernel.length);
+                final var verticalCenter = randomizer.nextInt(0, verticalKernel.length);
+                final var constantValue = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+                final var convolver = new SeparableConvolver();
+                convolver.setEdgeMethod(edgeMethod);
+                convolver.setConstantValue(constantValue);
+                convolver.setAlgorithm(ConvolverAlgorithm.DIRECT);
+                convolver.setTileWidth(randomizer.nextInt(1, 2 * MAX_LENGTH));
+
+                final var result = convolver.convolve(signal, rows, columns, horizontalKernel, horizontalCenter,
+                        verticalKernel, verticalCenter);
+
+                // rows are convolved first, and then columns of the result.
+                // Outside signal boundaries, rows convolved with constant edge
+                // extension are equal to the convolved constant value
+                final var resultRows = rows + verticalKernel.length - 1;
+                final var resultColumns = columns + horizontalKernel.length - 1;
+                final var expected = new double[resultRows * resultColumns];
+                for (var i = 0; i < rows; i++) {
+                    final var row = new double[columns];
+                    System.arraycopy(signal, i * columns, row, 0, columns);
+                    final var convolvedRow = Convolver1D.convolve(row, horizontalKernel, horizontalCenter,
+                            edgeMethod, constantValue, ConvolverAlgorithm.DIRECT, null);
+                    System.arraycopy(convolvedRow, 0, expected, i * resultColumns, resultColumns);
+                }
+
+                var sum = 0.0;
+                for (final var value : horizontalKernel) {
+                    sum += value;
+                }
+                for (var j = 0; j < resultColumns; j++) {
+                    final var column = new double[rows];
+                    for (var i = 0; i < rows; i++) {
+                        column[i] = expected[i * resultColumns + j];
+                    }
+                    final var convolvedColumn = Convolver1D.convolve(column, verticalKernel, verticalCenter,
+                            edgeMethod, constantValue * sum, ConvolverAlgorithm.DIRECT, null);
+                    for (var i = 0; i < resultRows; i++) {
+                        expected[i * resultColumns + j] = convolvedColumn[i];
+                    }
+                }
+
+                assertArrayEquals(expected, result, 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testConvolve3DMatchesExtendedConvolution() throws SignalProcessingException {
+        final var randomizer = new UniformRandomizer();
+
+        for (final var edgeMethod : ConvolverEdgeMethod.values()) {
+            for (var t = 0; t < TIMES; t++) {
+                final var dimensions = new int[3];
+                final var kernels = new double[3][];
+                final var kernelCenters = new int[3];
+                for (var d = 0; d < 3; d++) {
+                    dimensions[d] = randomizer.nextInt(1, 10);
+                    kernels[d] = new double[randomizer.nextInt(1, 5)];
+                    randomizer.fill(kernels[d], MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                    kernelCenters[d] = randomizer.nextInt(0, kernels[d].length);
+                }
+                final var signal = new double[dimensions[0] * dimensions[1] * dimensions[2]];
+                randomizer.fill(signal, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                final var constantValue = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+                final var convolver = new SeparableConvolver();
+                convolver.setEdgeMethod(edgeMethod);
+                convolver.setConstantValue(constantValue);
+                convolver.setTileWidth(randomizer.nextInt(1, 10));
+
+                final var result = convolver.convolve(signal, dimensions, kernels, kernelCenters);
+
+                // compare with 3D convolution of signal extended in all
+                // dimensions
+                final var resultDimensions = SeparableConvolver.getResultDimensions(dimensions, kernels);
+                assertEquals(resultDimensions[0] * resultDimensions[1] * resultDimensions[2], result.length);
+
+                var pos = 0;
+                for (var i0 = 0; i0 < resultDimensions[0]; i0++) {
+                    for (var i1 = 0; i1 < resultDimensions[1]; i1++) {
+                        for (var i2 = 0; i2 < resultDimensions[2]; i2++) {
+                            var expected = 0.0;
+                            for (var j0 = 0; j0 < kernels[0].length; j0++) {
+                                for (var j1 = 0; j1 < kernels[1].length; j1++) {
+                                    for (var j2 = 0; j2 < kernels[2].length; j2++) {
+                                        final var value = getExtendedValue(signal, dimensions, edgeMethod,
+                                                constantValue, new int[]{
+                                                        i0 - kernelCenters[0] - j0,
+                                                        i1 - kernelCenters[1] - j1,
+                                                        i2 - kernelCenters[2] - j2});
+                                        expected += value * kernels[0][j0] * kernels[1][j1] * kernels[2][j2];
+                                    }
+                                }
+                            }
+                            assertEquals(expected, result[pos++], ABSOLUTE_ERROR);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testConvolveFFT() throws SignalProcessingException {
+        final var randomizer = new UniformRandomizer();
+
+        for (final var edgeMethod : ConvolverEdgeMethod.values()) {
+            final var rows = randomizer.nextInt(1, MAX_LENGTH);
+            final var columns = randomizer.nextInt(1, MAX_LENGTH);
+            final var signal = new double[rows * columns];
+            randomizer.fill(signal, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var horizontalKernel = new double[randomizer.nextInt(1, 2 * MAX_KERNEL_LENGTH)];
+            randomizer.fill(horizontalKernel, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var verticalKernel = new double[randomizer.nextInt(1, 2 * MAX_KERNEL_LENGTH)];
+            randomizer.fill(verticalKernel, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var convolver = new SeparableConvolver();
+            convolver.setEdgeMethod(edgeMethod);
+            convolver.setConstantValue(1.0);
+            convolver.setAlgorithm(ConvolverAlgorithm.DIRECT);
+            final var expected = convolver.convolve(signal, rows, columns, horizontalKernel,
+                    horizontalKernel.length / 2, verticalKernel, verticalKernel.length / 2);
+
+            convolver.setAlgorithm(ConvolverAlgorithm.FFT);
+            final var result = convolver.convolve(signal, rows, columns, horizontalKernel,
+                    horizontalKernel.length / 2, verticalKernel, verticalKernel.length / 2);
+
+            var scale = 1.0;
+            for (final var value : expected) {
+                scale = Math.max(scale, Math.abs(value));
+            }
+            assertArrayEquals(expected, result, FFT_RELATIVE_ERROR * scale);
+        }
+    }
+
+    @Test
+    void testConvolveInParallel() throws SignalProcessingException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = 200;
+        final var columns = 300;
+        final var signal = new double[rows * columns];
+        randomizer.fill(signal, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var horizontalKernel = new double[]{1.0, 4.0, 6.0, 4.0, 1.0};
+        final var verticalKernel = new double[]{-1.0, 0.0, 1.0};
+
+        final var convolver = new SeparableConvolver();
+        convolver.setEdgeMethod(ConvolverEdgeMethod.MIRROR_EDGE);
+        final var expected = convolver.convolve(signal, rows, columns, horizontalKernel, 2, verticalKernel, 1);
+
+        final var executor = Executors.newFixedThreadPool(3);
+        try {
+            convolver.setParallelism(7);
+            convolver.setTileWidth(16);
+            convolver.setExecutor(executor);
+            final var result = convolver.convolve(signal, rows, columns, horizontalKernel, 2, verticalKernel, 1);
+
+            // results do not depend on the way lines are split among tasks
+            assertArrayEquals(expected, result, 0.0);
+        } finally {
+            executor.shutdown();
+        }
+
+        // common pool is used if no executor is provided
+        convolver.setExecutor(null);
+        final var result = convolver.convolve(signal, rows, columns, horizontalKernel, 2, verticalKernel, 1);
+        assertArrayEquals(expected, result, 0.0);
+    }
+
+    @Test
+    void testConvolveMatrix() throws SignalProcessingException, WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var rows = randomizer.nextInt(1, MAX_LENGTH);
+        final var columns = randomizer.nextInt(1, MAX_LENGTH);
+        final var signal = new Matrix(rows, columns);
+        final var array = new double[rows * columns];
+        for (var i = 0; i < rows; i++) {
+            for (var j = 0; j < columns; j++) {
+                final var value = randomizer.nextDouble(MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+                signal.setElementAt(i, j, value);
+                array[i * columns + j] = value;
+            }
+        }
+        final var horizontalKernel = new double[]{1.0, 2.0, 1.0};
+        final var verticalKernel = new double[]{0.5, 0.0, -0.5, 1.0};
+
+        final var convolver = new SeparableConvolver();
+        convolver.setEdgeMethod(ConvolverEdgeMethod.REPEAT_EDGE);
+        final var expected = convolver.convolve(array, rows, columns, horizontalKernel, 1, verticalKernel, 2);
+
+        final var result1 = convolver.convolve(signal, horizontalKernel, 1, verticalKernel, 2);
+        final var result2 = new Matrix(1, 1);
+        convolver.convolve(signal, horizontalKernel, 1, verticalKernel, 2, result2);
+
+        final var resultColumns = columns + horizontalKernel.length - 1;
+        assertEquals(rows + verticalKernel.length - 1, result1.getRows());
+        assertEquals(resultColumns, result1.getColumns());
+        assertEquals(result1.getRows(), result2.getRows());
+        assertEquals(result1.getColumns(), result2.getColumns());
+        for (var i = 0; i < result1.getRows(); i++) {
+            for (var j = 0; j < resultColumns; j++) {
+                // dimensions are convolved in different order
+                assertEquals(expected[i * resultColumns + j], result1.getElementAt(i, j), ABSOLUTE_ERROR);
+                assertEquals(result1.getElementAt(i, j), result2.getElementAt(i, j), 0.0);
+            }
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(null, horizontalKernel, 1,
+                verticalKernel, 2));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, null, 1,
+                verticalKernel, 2));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, horizontalKernel, 1,
+                null, 2));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, horizontalKernel, 1,
+                verticalKernel, 2, null));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, horizontalKernel, 1,
+                verticalKernel, 2, signal));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, horizontalKernel, 3,
+                verticalKernel, 2));
+    }
+
+    @Test
+    void testConvolveInvalidArguments() {
+        final var convolver = new SeparableConvolver();
+        final var signal = new double[6];
+        final var dimensions = new int[]{2, 3};
+        final var kernels = new double[][]{new double[]{1.0, 1.0}, new double[]{1.0}};
+        final var kernelCenters = new int[]{0, 0};
+        final var result = new double[9];
+
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(null, dimensions, kernels,
+                kernelCenters, result));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, null, kernels,
+                kernelCenters, result));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, dimensions, null,
+                kernelCenters, result));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, dimensions, kernels,
+                null, result));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, dimensions, kernels,
+                kernelCenters, null));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(new double[5], dimensions, kernels,
+                kernelCenters, result));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, dimensions, kernels,
+                kernelCenters, new double[6]));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, new int[]{2, 3, 1},
+                kernels, kernelCenters, result));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, new int[]{-2, -3},
+                kernels, kernelCenters, result));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, dimensions, kernels,
+                new int[]{0}, result));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, dimensions, kernels,
+                new int[]{2, 0}, result));
+        assertThrows(IllegalArgumentException.class, () -> convolver.convolve(signal, dimensions,
+                new double[][]{new double[]{1.0, 1.0}, new double[0]}, kernelCenters));
+    }
+
+    private static double getExtendedValue(final double[] signal, final int[] dimensions,
+                                           final ConvolverEdgeMethod edgeMethod, final double constantValue,
+                                           final int[] position) {
+        var index = 0;
+        for (var d = 0; d < dimensions.length; d++) {
+            var pos = position[d];
+            final var length = dimensions[d];
+            if (pos < 0 || pos >= length) {
+                switch (edgeMethod) {
+                    case ZERO_EDGE -> {
+                        return 0.0;
+                    }
+                    case CONSTANT_EDGE -> {
+                        return constantValue;
+                    }
+                    case REPEAT_EDGE -> pos = Math.floorMod(pos, length);
+                    default -> {
+                        // mirror with period 2 * length
+                        pos = Math.floorMod(pos, 2 * length);
+                        if (pos >= length) {
+                            pos = 2 * length - 1 - pos;
+                        }
+                    }
+                }
+            }
+            index = index * length + pos;
+        }
+        return signal[index];
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.numerical.signal.processing;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingConvolver1DTest {
+
+    private static final double MIN_RANDOM_VALUE = -10.0;
+    private static final double MAX_RANDOM_VALUE = 10.0;
+
+    private static final double FFT_RELATIVE_ERROR = 1e-12;
+
+    private static final int MAX_SIGNAL_LENGTH = 20000;
+
+    private static final int MAX_CHUNK_LENGTH = 5000;
+
+    private static final int TIMES = 10;
+
+    @Test
+    void testConstructor() {
+        final var shortKernel = new double[Convolver1D.FFT_KERNEL_LENGTH_THRESHOLD - 1];
+        final var longKernel = new double[Convolver1D.FFT_KERNEL_LENGTH_THRESHOLD];
+
+        // constructor with kernel
+        var convolver = new StreamingConvolver1D(shortKernel);
+
+        // check default values
+        assertSame(shortKernel, convolver.getKernel());
+        assertFalse(convolver.isFFTUsed());
+        assertEquals(Convolver1D.DIRECT_BLOCK_LENGTH, convolver.getBlockLength());
+        assertEquals(shortKernel.length - 1, convolver.getTailLength());
+        assertEquals(0, convolver.getProcessedSamples());
+
+        convolver = new StreamingConvolver1D(longKernel);
+        assertSame(longKernel, convolver.getKernel());
+        assertTrue(convolver.isFFTUsed());
+        assertTrue(convolver.getBlockLength() > 0);
+        assertEquals(longKernel.length - 1, convolver.getTailLength());
+
+        // constructor with kernel and algorithm
+        convolver = new StreamingConvolver1D(shortKernel, ConvolverAlgorithm.FFT);
+        assertTrue(convolver.isFFTUsed());
+
+        convolver = new StreamingConvolver1D(longKernel, ConvolverAlgorithm.DIRECT);
+        assertFalse(convolver.isFFTUsed());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new StreamingConvolver1D(null));
+        assertThrows(IllegalArgumentException.class, () -> new StreamingConvolver1D(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new StreamingConvolver1D(shortKernel, null));
+    }
+
+    @Test
+    void testProcessDirect() {
+        final var randomizer = new UniformRandomizer();
+
+        for (var t = 0; t < TIMES; t++) {
+            final var kernel = new double[randomizer.nextInt(1, 200)];
+            randomizer.fill(kernel, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var signal = new double[randomizer.nextInt(1, MAX_SIGNAL_LENGTH)];
+            randomizer.fill(signal, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var expected = Convolver1D.convolve(signal, kernel, 0, ConvolverEdgeMethod.ZERO_EDGE, 0.0,
+                    ConvolverAlgorithm.DIRECT, null);
+
+            final var convolver = new StreamingConvolver1D(kernel, ConvolverAlgorithm.DIRECT);
+            final var result = processInChunks(convolver, signal, randomizer);
+
+            // results are identical regardless of chunk lengths
+            assertArrayEquals(expected, result, 0.0);
+        }
+    }
+
+    @Test
+    void testProcessFFT() {
+        final var randomizer = new UniformRandomizer();
+
+        for (var t = 0; t < TIMES; t++) {
+            final var kernel = new double[randomizer.nextInt(1, 1000)];
+            randomizer.fill(kernel, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+            final var signal = new double[randomizer.nextInt(1, MAX_SIGNAL_LENGTH)];
+            randomizer.fill(signal, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+            final var expected = Convolver1D.convolve(signal, kernel, 0, ConvolverEdgeMethod.ZERO_EDGE, 0.0,
+                    ConvolverAlgorithm.DIRECT, null);
+
+            final var convolver = new StreamingConvolver1D(kernel, ConvolverAlgorithm.FFT);
+            final var result = processInChunks(convolver, signal, randomizer);
+
+            var scale = 1.0;
+            for (final var value : expected) {
+                scale = Math.max(scale, Math.abs(value));
+            }
+            assertArrayEquals(expected, result, FFT_RELATIVE_ERROR * scale);
+        }
+    }
+
+    @Test
+    void testProcessInPlaceAndReset() {
+        final var randomizer = new UniformRandomizer();
+        final var kernel = new double[randomizer.nextInt(1, 50)];
+        randomizer.fill(kernel, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+        final var signal = new double[randomizer.nextInt(1, MAX_CHUNK_LENGTH)];
+        randomizer.fill(signal, MIN_RANDOM_VALUE, MAX_RANDOM_VALUE);
+
+        final var convolver = new StreamingConvolver1D(kernel);
+        final var expected = new double[signal.length];
+        convolver.process(signal, expected);
+        assertEquals(signal.length, convolver.getProcessedSamples());
+
+        // reset discards history, hence processing same signal in place
+        // yields same result
+        convolver.reset();
+        assertEquals(0, convolver.getProcessedSamples());
+        final var chunk = signal.clone();
+        convolver.process(chunk, chunk);
+        assertArrayEquals(expected, chunk, 0.0);
+
+        // flush also resets
+        convolver.flush(new double[convolver.getTailLength()]);
+        assertEquals(0, convolver.getProcessedSamples());
+        final var result = new double[signal.length];
+        convolver.process(signal, result);
+        assertArrayEquals(expected, result, 0.0);
+    }
+
+    @Test
+    void testProcessWithOffsets() {
+        final var kernel = new double[]{1.0, 2.0, 1.0};
+        final var convolver = new StreamingConvolver1D(kernel);
+
+        final var chunk = new double[]{0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 0.0};
+        final var out = new double[9];
+        convolver.process(chunk, 1, 3, out, 2);
+        convolver.process(chunk, 4, 2, out, 5);
+        final var tail = new double[2];
+        convolver.flush(tail);
+
+        assertArrayEquals(new double[]{0.0, 0.0, 1.0, 4.0, 8.0, 12.0, 16.0, 0.0, 0.0}, out, 0.0);
+        assertArrayEquals(new double[]{14.0, 5.0}, tail, 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> convolver.process(null, out));
+        assertThrows(IllegalArgumentException.class, () -> convolver.process(chunk, null));
+        assertThrows(IllegalArgumentException.class, () -> convolver.process(chunk, new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> convolver.process(chunk, -1, 1, out, 0));
+        assertThrows(IllegalArgumentException.class, () -> convolver.process(chunk, 0, -1, out, 0));
+        assertThrows(IllegalArgumentException.class, () -> convolver.process(chunk, 5, 3, out, 0));
+        assertThrows(IllegalArgumentException.class, () -> convolver.process(chunk, 0, 3, out, 7));
+        assertThrows(IllegalArgumentException.class, () -> convolver.flush(null));
+        assertThrows(IllegalArgumentException.class, () -> convolver.flush(new double[1]));
+    }
+
+    private static double[] processInChunks(final StreamingConvolver1D convolver, final double[] signal,
+                                            final UniformRandomizer randomizer) {
+        final var result = new double[signal.length + convolver.getTailLength()];
+        var pos = 0;
+        while (pos < signal.length) {
+            final var length = Math.min(randomizer.nextInt(0, MAX_CHUNK_LENGTH), signal.length - pos);
+            final var chunk = new double[length];
+            System.arraycopy(signal, pos, chunk, 0, length);
+            final var out = new double[length];
+            convolver.process(chunk, out);
+            System.arraycopy(out, 0, result, pos, length);
+            pos += length;
+        }
+        assertEquals(signal.length, convolver.getProcessedSamples());
+
+        final var tail = new double[convolver.getTailLength()];
+        convolver.flush(tail);
+        System.arraycopy(tail, 0, result, signal.length, tail.length);
+        return result;
+    }
+}